@@ -87,6 +87,11 @@ public interface DiagnosticContext extends DataFixerContext {
     /**
      * Creates a new diagnostic context with the specified options.
      *
+     * <p>If {@link DiagnosticOptions#isSampling()} is {@code true}, the returned context
+     * aggregates sampled per-fix statistics instead of building a {@link MigrationReport};
+     * it reports {@link #isDiagnosticEnabled()} as {@code false} and does not support
+     * {@link #reportBuilder()} or {@link #getReport()}.</p>
+     *
      * @param options the diagnostic options
      * @return a new diagnostic context
      * @throws NullPointerException if options is {@code null}
@@ -98,8 +103,9 @@ public interface DiagnosticContext extends DataFixerContext {
         // For now, we'll use direct instantiation via the core module
         // This will be resolved at runtime by the core implementation
         try {
-            final Class<?> implClass = Class.forName(
-                    "de.splatgames.aether.datafixers.core.diagnostic.DiagnosticContextImpl"
+            final Class<?> implClass = Class.forName(options.isSampling()
+                    ? "de.splatgames.aether.datafixers.core.diagnostic.SamplingDiagnosticContext"
+                    : "de.splatgames.aether.datafixers.core.diagnostic.DiagnosticContextImpl"
             );
             return (DiagnosticContext) implClass
                     .getConstructor(DiagnosticOptions.class)
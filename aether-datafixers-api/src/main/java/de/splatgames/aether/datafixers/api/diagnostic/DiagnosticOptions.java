@@ -22,7 +22,9 @@
 
 package de.splatgames.aether.datafixers.api.diagnostic;
 
+import com.google.common.base.Preconditions;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Configuration options for migration diagnostics.
@@ -47,12 +49,23 @@ import org.jetbrains.annotations.NotNull;
  * <ul>
  *   <li>{@link #defaults()} - Full diagnostics with snapshots and rule details</li>
  *   <li>{@link #minimal()} - Only timing information, no snapshots or rule details</li>
+ *   <li>{@link #sampled(Sampling)} - Aggregated per-fix statistics for a sample of migrations</li>
  * </ul>
  *
+ * <h2>Sampling Mode</h2>
+ * <p>When {@link #sampling()} is set, {@link DiagnosticContext#create(DiagnosticOptions)}
+ * returns a lightweight context intended to stay enabled in production. Instead of building
+ * a {@link MigrationReport} per migration, it times a sample of migrations with
+ * {@link System#nanoTime()} and aggregates per-fix statistics into fixed-size buffers.
+ * Snapshot and rule detail settings are ignored in this mode.</p>
+ *
  * @param captureSnapshots     whether to capture before/after data snapshots
  * @param captureRuleDetails   whether to capture individual rule application details
  * @param maxSnapshotLength    maximum length for snapshot strings (0 for unlimited)
  * @param prettyPrintSnapshots whether to format snapshots for readability
+ * @param diffSnapshots        whether per-fix snapshots record a structural diff instead of two full snapshots
+ * @param maxLogEntries        maximum number of log entries a context retains (0 for unlimited)
+ * @param sampling             the sampling configuration, or {@code null} for full per-migration reports
  * @author Erik Pförtner
  * @see DiagnosticContext
  * @see MigrationReport
@@ -62,7 +75,10 @@ public record DiagnosticOptions(
         boolean captureSnapshots,
         boolean captureRuleDetails,
         int maxSnapshotLength,
-        boolean prettyPrintSnapshots
+        boolean prettyPrintSnapshots,
+        boolean diffSnapshots,
+        int maxLogEntries,
+        @Nullable Sampling sampling
 ) {
 
     /**
@@ -70,6 +86,29 @@ public record DiagnosticOptions(
      */
     public static final int DEFAULT_MAX_SNAPSHOT_LENGTH = 10000;
 
+    /**
+     * Default maximum number of retained log entries.
+     *
+     * @since 0.6.0
+     */
+    public static final int DEFAULT_MAX_LOG_ENTRIES = 1000;
+
+    /**
+     * Creates diagnostic options without sampling.
+     *
+     * @param captureSnapshots     whether to capture before/after data snapshots
+     * @param captureRuleDetails   whether to capture individual rule application details
+     * @param maxSnapshotLength    maximum length for snapshot strings (0 for unlimited)
+     * @param prettyPrintSnapshots whether to format snapshots for readability
+     */
+    public DiagnosticOptions(final boolean captureSnapshots,
+                             final boolean captureRuleDetails,
+                             final int maxSnapshotLength,
+                             final boolean prettyPrintSnapshots) {
+        this(captureSnapshots, captureRuleDetails, maxSnapshotLength, prettyPrintSnapshots, false,
+                DEFAULT_MAX_LOG_ENTRIES, null);
+    }
+
     /**
      * Creates default diagnostic options with full diagnostics enabled.
      *
@@ -106,6 +145,33 @@ public record DiagnosticOptions(
         return new DiagnosticOptions(false, false, 0, false);
     }
 
+    /**
+     * Creates sampling diagnostic options.
+     *
+     * <p>Snapshots and rule details are disabled; only per-fix timing statistics of
+     * sampled migrations are aggregated.</p>
+     *
+     * @param sampling the sampling configuration, must not be {@code null}
+     * @return sampling diagnostic options
+     * @throws NullPointerException if sampling is {@code null}
+     * @since 0.6.0
+     */
+    @NotNull
+    public static DiagnosticOptions sampled(@NotNull final Sampling sampling) {
+        Preconditions.checkNotNull(sampling, "sampling must not be null");
+        return new DiagnosticOptions(false, false, 0, false, false, DEFAULT_MAX_LOG_ENTRIES, sampling);
+    }
+
+    /**
+     * Returns whether these options select the sampling mode.
+     *
+     * @return {@code true} if {@link #sampling()} is set
+     * @since 0.6.0
+     */
+    public boolean isSampling() {
+        return this.sampling != null;
+    }
+
     /**
      * Creates a new builder for constructing diagnostic options.
      *
@@ -127,6 +193,9 @@ public record DiagnosticOptions(
         private boolean captureRuleDetails = true;
         private int maxSnapshotLength = DEFAULT_MAX_SNAPSHOT_LENGTH;
         private boolean prettyPrintSnapshots = true;
+        private boolean diffSnapshots;
+        private int maxLogEntries = DEFAULT_MAX_LOG_ENTRIES;
+        private Sampling sampling;
 
         private Builder() {
         }
@@ -167,7 +236,9 @@ public record DiagnosticOptions(
          * Sets the maximum length for snapshot strings.
          *
          * <p>Snapshots exceeding this length will be truncated with a
-         * {@code "... (truncated)"} suffix. Set to 0 for unlimited length.</p>
+         * {@code "... (truncated)"} suffix. Serialisation stops once the limit is
+         * reached, so large documents are not rendered in full. Set to 0 for unlimited
+         * length.</p>
          *
          * @param maxSnapshotLength maximum length in characters (0 for unlimited)
          * @return this builder
@@ -197,6 +268,62 @@ public record DiagnosticOptions(
             return this;
         }
 
+        /**
+         * Sets whether per-fix snapshots record a structural diff.
+         *
+         * <p>When enabled together with {@link #captureSnapshots(boolean)}, each
+         * {@link FixExecution} has no before snapshot and its after snapshot holds the
+         * changes made by the fix, one per line ({@code + path: value}, {@code - path},
+         * {@code ~ path: old -> new}). The migration's input and output snapshots are
+         * still captured in full, subject to {@link #maxSnapshotLength(int)}.</p>
+         *
+         * @param diffSnapshots {@code true} to record diffs
+         * @return this builder
+         * @since 0.6.0
+         */
+        @NotNull
+        public Builder diffSnapshots(final boolean diffSnapshots) {
+            this.diffSnapshots = diffSnapshots;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of log entries a diagnostic context retains.
+         *
+         * <p>Log entries are kept in a ring buffer: once it is full, each new entry
+         * evicts the oldest one and the context counts the dropped entry. The report keeps
+         * at most this many warnings as well. Set to 0 to retain every entry.</p>
+         *
+         * @param maxLogEntries maximum number of entries (0 for unlimited)
+         * @return this builder
+         * @throws IllegalArgumentException if maxLogEntries is negative
+         * @since 0.6.0
+         */
+        @NotNull
+        public Builder maxLogEntries(final int maxLogEntries) {
+            if (maxLogEntries < 0) {
+                throw new IllegalArgumentException("maxLogEntries must be non-negative");
+            }
+            this.maxLogEntries = maxLogEntries;
+            return this;
+        }
+
+        /**
+         * Sets the sampling configuration.
+         *
+         * <p>A non-null value switches the context to sampling mode, see
+         * {@link DiagnosticOptions#sampled(Sampling)}.</p>
+         *
+         * @param sampling the sampling configuration, or {@code null} for full reports
+         * @return this builder
+         * @since 0.6.0
+         */
+        @NotNull
+        public Builder sampling(@Nullable final Sampling sampling) {
+            this.sampling = sampling;
+            return this;
+        }
+
         /**
          * Builds the diagnostic options.
          *
@@ -208,8 +335,67 @@ public record DiagnosticOptions(
                     this.captureSnapshots,
                     this.captureRuleDetails,
                     this.maxSnapshotLength,
-                    this.prettyPrintSnapshots
+                    this.prettyPrintSnapshots,
+                    this.diffSnapshots,
+                    this.maxLogEntries,
+                    this.sampling
             );
         }
     }
+
+    /**
+     * Sampling configuration for production diagnostics.
+     *
+     * <p>A migration is sampled if it passes both limits: it is the {@code everyNth}
+     * migration seen by the context, and fewer than {@code maxPerSecond} migrations have
+     * been sampled in the current second. Durations of sampled fixes are kept in a ring
+     * buffer of {@code ringBufferSize} entries per fix for percentile estimates.</p>
+     *
+     * @param everyNth       sample one in this many migrations, {@code 1} samples all
+     * @param maxPerSecond   maximum sampled migrations per second, {@code 0} for no limit
+     * @param ringBufferSize number of recent durations kept per fix
+     * @author Erik Pförtner
+     * @since 0.6.0
+     */
+    public record Sampling(int everyNth, int maxPerSecond, int ringBufferSize) {
+
+        /**
+         * Default number of recent durations kept per fix.
+         */
+        public static final int DEFAULT_RING_BUFFER_SIZE = 1024;
+
+        /**
+         * Validates the configuration.
+         *
+         * @throws IllegalArgumentException if a value is out of range
+         */
+        public Sampling {
+            Preconditions.checkArgument(everyNth >= 1, "everyNth must be at least 1");
+            Preconditions.checkArgument(maxPerSecond >= 0, "maxPerSecond must be non-negative");
+            Preconditions.checkArgument(ringBufferSize >= 1, "ringBufferSize must be at least 1");
+        }
+
+        /**
+         * Samples one in {@code n} migrations.
+         *
+         * @param n the sampling interval, at least {@code 1}
+         * @return the sampling configuration
+         */
+        @NotNull
+        public static Sampling everyNth(final int n) {
+            return new Sampling(n, 0, DEFAULT_RING_BUFFER_SIZE);
+        }
+
+        /**
+         * Samples at most {@code perSecond} migrations per second.
+         *
+         * @param perSecond the rate limit, at least {@code 1}
+         * @return the sampling configuration
+         */
+        @NotNull
+        public static Sampling rateLimited(final int perSecond) {
+            Preconditions.checkArgument(perSecond >= 1, "perSecond must be at least 1");
+            return new Sampling(1, perSecond, DEFAULT_RING_BUFFER_SIZE);
+        }
+    }
 }
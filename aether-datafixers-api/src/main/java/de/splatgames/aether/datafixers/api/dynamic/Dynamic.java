@@ -729,6 +729,40 @@ public record Dynamic<T>(@NotNull DynamicOps<T> ops, @NotNull T value) {
         return new Dynamic<>(this.ops, updated);
     }
 
+    /**
+     * Renames a key in this map, returning a new Dynamic with the entry stored under the new key.
+     *
+     * <p>If {@code oldKey} does not exist, this Dynamic is returned unchanged. The rename is
+     * delegated to {@link DynamicOps#rename(Object, String, String)}, so ops implementations
+     * with a native rename avoid the separate remove and set steps.</p>
+     *
+     * <h4>Example</h4>
+     * <pre>{@code
+     * Dynamic<JsonElement> dynamic = ...;  // {"playerName": "Steve"}
+     *
+     * Dynamic<JsonElement> renamed = dynamic.rename("playerName", "name");  // {"name": "Steve"}
+     * }</pre>
+     *
+     * @param oldKey the field name to rename; must not be {@code null}
+     * @param newKey the new field name; must not be {@code null}
+     * @return a new Dynamic with the renamed field, or this Dynamic if the key does not exist
+     * @throws NullPointerException if {@code oldKey} or {@code newKey} is {@code null}
+     * @see #remove(String)
+     * @see #set(String, Dynamic)
+     * @since 0.6.0
+     */
+    @NotNull
+    public Dynamic<T> rename(@NotNull final String oldKey,
+                             @NotNull final String newKey) {
+        Preconditions.checkNotNull(oldKey, "oldKey must not be null");
+        Preconditions.checkNotNull(newKey, "newKey must not be null");
+        final T updated = this.ops.rename(this.value, oldKey, newKey);
+        if (updated == this.value) {
+            return this;
+        }
+        return new Dynamic<>(this.ops, updated);
+    }
+
     /**
      * Updates a field in this map using the provided transformation function.
      *
@@ -326,6 +326,34 @@ public interface DynamicOps<T> {
     @NotNull T remove(@NotNull final T value,
                       @NotNull final String key);
 
+    /**
+     * Returns a new value where the entry at {@code oldKey} is stored under {@code newKey}.
+     *
+     * <p>If {@code oldKey} is missing, {@code value} is returned unchanged. An existing
+     * entry at {@code newKey} is replaced. The default implementation removes the old key
+     * and sets the new one, which moves the entry to the end of ordered maps;
+     * implementations with a cheaper native rename may keep the entry's position.</p>
+     *
+     * @param value  a map/object node
+     * @param oldKey the key to rename
+     * @param newKey the new key
+     * @return the updated value
+     * @since 0.6.0
+     */
+    @NotNull
+    default T rename(@NotNull final T value,
+                     @NotNull final String oldKey,
+                     @NotNull final String newKey) {
+        Preconditions.checkNotNull(value, "value must not be null");
+        Preconditions.checkNotNull(oldKey, "oldKey must not be null");
+        Preconditions.checkNotNull(newKey, "newKey must not be null");
+        final T child = get(value, oldKey);
+        if (child == null) {
+            return value;
+        }
+        return set(remove(value, oldKey), newKey, child);
+    }
+
     /**
      * Checks if the given key exists in the map/object node.
      *
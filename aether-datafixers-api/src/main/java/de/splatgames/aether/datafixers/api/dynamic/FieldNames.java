@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.api.dynamic;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.schema.Schema;
+import de.splatgames.aether.datafixers.api.type.Type;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A shared, bounded symbol table for field names.
+ *
+ * <p>Every migrated document carries the same small vocabulary of field names
+ * ({@code "id"}, {@code "pos"}, {@code "inventory"}, ...). Without canonicalisation,
+ * each parsed or rewritten document holds its own copies of these strings. This
+ * registry maps every known name to a single canonical {@link String} instance so
+ * that large in-memory batches share one copy per name, and equality checks between
+ * canonical keys short-circuit on reference identity inside {@link String#equals}.</p>
+ *
+ * <h2>Trusted and Untrusted Names</h2>
+ * <p>Names come from two sources with different trust levels:</p>
+ * <ul>
+ *   <li><strong>Pinned names</strong> - names declared by code: schema field
+ *       definitions ({@link #registerSchema(Schema)}) and rule arguments
+ *       ({@link #pin(String)}). These are always admitted, never evicted and never
+ *       count against the bound.</li>
+ *   <li><strong>Dynamic names</strong> - keys observed in input data
+ *       ({@link #intern(String)}). These live in a separate tier that holds at most
+ *       {@code maxDynamicNames} names of at most {@code maxNameLength} characters and
+ *       evicts the least recently used name when full, so untrusted input can neither
+ *       grow the table without limit nor permanently occupy it.</li>
+ * </ul>
+ *
+ * <p>Only keys of maps being built should be interned. Keys read from existing maps
+ * and string values are left as they are; {@link #canonical(String)} looks up pinned
+ * names without touching the dynamic tier.</p>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * FieldNames names = FieldNames.shared();
+ * names.registerSchema(schemaV2);
+ *
+ * String key = names.intern(parsedKey);   // canonical instance if known or admissible
+ * String same = names.canonical("name");  // pinned lookup only
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is thread-safe. Pinned names are read without locking; the dynamic
+ * tier is guarded by its own lock.</p>
+ *
+ * @author Erik Pförtner
+ * @see DynamicOps
+ * @see Schema
+ * @since 0.6.0
+ */
+public final class FieldNames {
+
+    /**
+     * The default maximum number of dynamic (untrusted) names admitted by a table.
+     */
+    public static final int DEFAULT_MAX_DYNAMIC_NAMES = 4096;
+
+    /**
+     * The default maximum length of a dynamic (untrusted) name admitted by a table.
+     */
+    public static final int DEFAULT_MAX_NAME_LENGTH = 64;
+
+    /**
+     * The process-wide table used by the built-in {@link DynamicOps} implementations.
+     */
+    private static final FieldNames SHARED = new FieldNames(DEFAULT_MAX_DYNAMIC_NAMES, DEFAULT_MAX_NAME_LENGTH);
+
+    /**
+     * Canonical instances of pinned names, keyed by their own value.
+     */
+    private final ConcurrentHashMap<String, String> pinned = new ConcurrentHashMap<>();
+
+    /**
+     * Canonical instances of dynamic names in access order; guarded by itself.
+     */
+    private final Map<String, String> dynamic;
+
+    /**
+     * Maximum number of dynamic names.
+     */
+    private final int maxDynamicNames;
+
+    /**
+     * Maximum length of a dynamic name.
+     */
+    private final int maxNameLength;
+
+    /**
+     * Creates a new, empty symbol table.
+     *
+     * @param maxDynamicNames the maximum number of names admitted from input data, must not be negative
+     * @param maxNameLength   the maximum length of a name admitted from input data, must not be negative
+     * @throws IllegalArgumentException if either bound is negative
+     */
+    public FieldNames(final int maxDynamicNames, final int maxNameLength) {
+        Preconditions.checkArgument(maxDynamicNames >= 0, "maxDynamicNames must be non-negative");
+        Preconditions.checkArgument(maxNameLength >= 0, "maxNameLength must be non-negative");
+        this.maxDynamicNames = maxDynamicNames;
+        this.maxNameLength = maxNameLength;
+        this.dynamic = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<String, String> eldest) {
+                return this.size() > maxDynamicNames;
+            }
+        };
+    }
+
+    /**
+     * Returns the process-wide symbol table.
+     *
+     * <p>Schemas register their field names here when their types are built, and the
+     * built-in JSON ops canonicalise keys through it.</p>
+     *
+     * @return the shared symbol table, never {@code null}
+     */
+    @NotNull
+    public static FieldNames shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the canonical instance for a key observed in input data.
+     *
+     * <p>Pinned names return their canonical instance. Any other name of at most
+     * {@code maxNameLength} characters is looked up in, or admitted to, the dynamic tier,
+     * evicting the least recently used dynamic name if the tier is full. Longer names
+     * are returned unchanged.</p>
+     *
+     * @param name the name to canonicalise, must not be {@code null}
+     * @return the canonical instance, or {@code name} if it could not be admitted
+     * @throws NullPointerException if {@code name} is {@code null}
+     */
+    @NotNull
+    public String intern(@NotNull final String name) {
+        Preconditions.checkNotNull(name, "name must not be null");
+        final String existing = this.pinned.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        if (name.length() > this.maxNameLength || this.maxDynamicNames == 0) {
+            return name;
+        }
+        synchronized (this.dynamic) {
+            final String known = this.dynamic.putIfAbsent(name, name);
+            return known != null ? known : name;
+        }
+    }
+
+    /**
+     * Returns the canonical instance of a pinned name, without admitting anything.
+     *
+     * <p>Dynamic names are not consulted, so this never takes a lock.</p>
+     *
+     * @param value the value to look up, must not be {@code null}
+     * @return the canonical instance, or {@code value} if the name is not pinned
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    @NotNull
+    public String canonical(@NotNull final String value) {
+        Preconditions.checkNotNull(value, "value must not be null");
+        final String existing = this.pinned.get(value);
+        return existing != null ? existing : value;
+    }
+
+    /**
+     * Admits a trusted name and returns its canonical instance.
+     *
+     * <p>Pinned names bypass the bounds applied to dynamic names and are never evicted.
+     * A name already present in the dynamic tier moves to the pinned tier and keeps its
+     * instance. Only pass names that originate from code or schema definitions, never
+     * from input data.</p>
+     *
+     * @param name the trusted name, must not be {@code null}
+     * @return the canonical instance, never {@code null}
+     * @throws NullPointerException if {@code name} is {@code null}
+     */
+    @NotNull
+    public String pin(@NotNull final String name) {
+        Preconditions.checkNotNull(name, "name must not be null");
+        final String existing = this.pinned.get(name);
+        if (existing != null) {
+            return existing;
+        }
+        final String candidate;
+        synchronized (this.dynamic) {
+            final String promoted = this.dynamic.remove(name);
+            candidate = promoted != null ? promoted : name;
+        }
+        final String raced = this.pinned.putIfAbsent(name, candidate);
+        return raced != null ? raced : candidate;
+    }
+
+    /**
+     * Pins every field name declared by the types of a schema.
+     *
+     * <p>Walks the {@linkplain Schema#structure(TypeReference) structural type} of every
+     * registered reference, pinning the names of {@link Type.FieldType fields} and the tag
+     * fields of {@link Type.TaggedChoiceType tagged choices} at any depth.</p>
+     *
+     * @param schema the schema whose field names to register, must not be {@code null}
+     * @throws NullPointerException if {@code schema} is {@code null}
+     */
+    public void registerSchema(@NotNull final Schema schema) {
+        Preconditions.checkNotNull(schema, "schema must not be null");
+        final Set<Type<?>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final TypeReference reference : schema.types().references()) {
+            this.registerType(schema.structure(reference), visited);
+        }
+    }
+
+    /**
+     * Returns whether a name is present in this table.
+     *
+     * @param name the name to check, must not be {@code null}
+     * @return {@code true} if the name has a canonical instance
+     * @throws NullPointerException if {@code name} is {@code null}
+     */
+    public boolean contains(@NotNull final String name) {
+        Preconditions.checkNotNull(name, "name must not be null");
+        if (this.pinned.containsKey(name)) {
+            return true;
+        }
+        synchronized (this.dynamic) {
+            return this.dynamic.containsKey(name);
+        }
+    }
+
+    /**
+     * Returns the total number of names in this table.
+     *
+     * @return the number of pinned and dynamic names
+     */
+    public int size() {
+        return this.pinned.size() + this.dynamicSize();
+    }
+
+    /**
+     * Returns the number of names admitted from input data.
+     *
+     * @return the number of dynamic names, never greater than {@code maxDynamicNames}
+     */
+    public int dynamicSize() {
+        synchronized (this.dynamic) {
+            return this.dynamic.size();
+        }
+    }
+
+    /**
+     * Recursively pins the field names declared by a type.
+     *
+     * @param type    the type to walk, may be {@code null}
+     * @param visited the types already walked
+     */
+    private void registerType(@Nullable final Type<?> type, @NotNull final Set<Type<?>> visited) {
+        if (type == null || !visited.add(type)) {
+            return;
+        }
+        if (type instanceof Type.FieldType<?> field) {
+            this.pin(field.name());
+        } else if (type instanceof Type.TaggedChoiceType choice) {
+            this.pin(choice.tagField());
+        }
+        for (final Type<?> child : type.children()) {
+            this.registerType(child, visited);
+        }
+    }
+}
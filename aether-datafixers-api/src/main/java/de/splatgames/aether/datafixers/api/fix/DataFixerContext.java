@@ -22,6 +22,7 @@
 
 package de.splatgames.aether.datafixers.api.fix;
 
+import com.google.common.base.Preconditions;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -48,6 +49,18 @@ import org.jetbrains.annotations.Nullable;
  * }
  * }</pre>
  *
+ * <h2>Logging Cost</h2>
+ * <p>Calls with up to two arguments resolve to fixed-arity overloads, so no varargs array is
+ * allocated at the call site. Their default implementations check {@link #isInfoEnabled()} or
+ * {@link #isWarnEnabled()} before delegating to the varargs method; implementations that
+ * can drop messages should override the level checks, and may override the overloads to
+ * avoid allocation entirely. Fixes that build expensive arguments should guard the call:</p>
+ * <pre>{@code
+ * if (context.isInfoEnabled()) {
+ *     context.info("Converted inventory {}", describe(inventory));
+ * }
+ * }</pre>
+ *
  * <h2>Implementations</h2>
  * <p>Common implementations include:</p>
  * <ul>
@@ -86,4 +99,126 @@ public interface DataFixerContext {
      */
     void warn(@NotNull final String message,
               @Nullable final Object... args);
+
+    /**
+     * Returns whether informational messages are recorded or emitted.
+     *
+     * <p>When {@code false}, {@code info} calls are discarded. The default returns {@code true}.</p>
+     *
+     * @return {@code true} if info messages are enabled
+     * @since 0.6.0
+     */
+    default boolean isInfoEnabled() {
+        return true;
+    }
+
+    /**
+     * Returns whether warning messages are recorded or emitted.
+     *
+     * <p>When {@code false}, {@code warn} calls are discarded. The default returns {@code true}.</p>
+     *
+     * @return {@code true} if warnings are enabled
+     * @since 0.6.0
+     */
+    default boolean isWarnEnabled() {
+        return true;
+    }
+
+    /**
+     * Logs an informational message without arguments.
+     *
+     * @param message the message, must not be {@code null}
+     * @throws NullPointerException if message is {@code null}
+     * @since 0.6.0
+     */
+    default void info(@NotNull final String message) {
+        Preconditions.checkNotNull(message, "message must not be null");
+        if (this.isInfoEnabled()) {
+            this.info(message, LogArgs.NONE);
+        }
+    }
+
+    /**
+     * Logs an informational message with one argument.
+     *
+     * <p>The argument array is only allocated if {@link #isInfoEnabled()} is {@code true}.</p>
+     *
+     * @param message the message format string, must not be {@code null}
+     * @param arg     the argument for the first placeholder, may be {@code null}
+     * @throws NullPointerException if message is {@code null}
+     * @since 0.6.0
+     */
+    default void info(@NotNull final String message, @Nullable final Object arg) {
+        Preconditions.checkNotNull(message, "message must not be null");
+        if (this.isInfoEnabled()) {
+            this.info(message, new Object[]{arg});
+        }
+    }
+
+    /**
+     * Logs an informational message with two arguments.
+     *
+     * <p>The argument array is only allocated if {@link #isInfoEnabled()} is {@code true}.</p>
+     *
+     * @param message the message format string, must not be {@code null}
+     * @param arg1    the argument for the first placeholder, may be {@code null}
+     * @param arg2    the argument for the second placeholder, may be {@code null}
+     * @throws NullPointerException if message is {@code null}
+     * @since 0.6.0
+     */
+    default void info(@NotNull final String message, @Nullable final Object arg1, @Nullable final Object arg2) {
+        Preconditions.checkNotNull(message, "message must not be null");
+        if (this.isInfoEnabled()) {
+            this.info(message, new Object[]{arg1, arg2});
+        }
+    }
+
+    /**
+     * Logs a warning message without arguments.
+     *
+     * @param message the message, must not be {@code null}
+     * @throws NullPointerException if message is {@code null}
+     * @since 0.6.0
+     */
+    default void warn(@NotNull final String message) {
+        Preconditions.checkNotNull(message, "message must not be null");
+        if (this.isWarnEnabled()) {
+            this.warn(message, LogArgs.NONE);
+        }
+    }
+
+    /**
+     * Logs a warning message with one argument.
+     *
+     * <p>The argument array is only allocated if {@link #isWarnEnabled()} is {@code true}.</p>
+     *
+     * @param message the message format string, must not be {@code null}
+     * @param arg     the argument for the first placeholder, may be {@code null}
+     * @throws NullPointerException if message is {@code null}
+     * @since 0.6.0
+     */
+    default void warn(@NotNull final String message, @Nullable final Object arg) {
+        Preconditions.checkNotNull(message, "message must not be null");
+        if (this.isWarnEnabled()) {
+            this.warn(message, new Object[]{arg});
+        }
+    }
+
+    /**
+     * Logs a warning message with two arguments.
+     *
+     * <p>The argument array is only allocated if {@link #isWarnEnabled()} is {@code true}.</p>
+     *
+     * @param message the message format string, must not be {@code null}
+     * @param arg1    the argument for the first placeholder, may be {@code null}
+     * @param arg2    the argument for the second placeholder, may be {@code null}
+     * @throws NullPointerException if message is {@code null}
+     * @since 0.6.0
+     */
+    default void warn(@NotNull final String message, @Nullable final Object arg1, @Nullable final Object arg2) {
+        Preconditions.checkNotNull(message, "message must not be null");
+        if (this.isWarnEnabled()) {
+            this.warn(message, new Object[]{arg1, arg2});
+        }
+    }
 }
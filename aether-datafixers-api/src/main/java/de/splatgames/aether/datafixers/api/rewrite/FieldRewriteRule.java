@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.api.rewrite;
+
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Function;
+
+/**
+ * A {@link TypeRewriteRule} that operates on a single top-level field and describes what it does.
+ *
+ * <p>The single-field rules created by {@link Rules} ({@link Rules#renameField renameField},
+ * {@link Rules#removeField removeField}, {@link Rules#addField addField},
+ * {@link Rules#setField setField} and {@link Rules#transformField transformField}) implement this
+ * interface. Besides applying the rule to one value through {@link #rewrite}, executors can read
+ * the description and apply the same operation to many records at once, for example as a
+ * column operation on a columnar batch.</p>
+ *
+ * <p>Which accessors are populated depends on the {@link #kind() kind}:</p>
+ * <table class="striped">
+ *   <caption>Populated accessors by kind</caption>
+ *   <tr><th>Kind</th><th>{@link #newField()}</th><th>{@link #value()}</th><th>{@link #transform()}</th></tr>
+ *   <tr><td>{@link Kind#RENAME}</td><td>target name</td><td>-</td><td>-</td></tr>
+ *   <tr><td>{@link Kind#REMOVE}</td><td>-</td><td>-</td><td>-</td></tr>
+ *   <tr><td>{@link Kind#ADD}</td><td>-</td><td>default value</td><td>-</td></tr>
+ *   <tr><td>{@link Kind#SET}</td><td>-</td><td>new value</td><td>-</td></tr>
+ *   <tr><td>{@link Kind#TRANSFORM}</td><td>-</td><td>-</td><td>value function</td></tr>
+ * </table>
+ *
+ * @author Erik Pförtner
+ * @see Rules
+ * @see TypeRewriteRule
+ * @since 0.6.0
+ */
+public interface FieldRewriteRule extends TypeRewriteRule {
+
+    /**
+     * Returns the kind of field operation this rule performs.
+     *
+     * @return the kind, never {@code null}
+     */
+    @NotNull
+    Kind kind();
+
+    /**
+     * Returns the name of the field this rule operates on.
+     *
+     * @return the field name, never {@code null}
+     */
+    @NotNull
+    String field();
+
+    /**
+     * Returns the target field name of a {@link Kind#RENAME} rule.
+     *
+     * @return the new field name, or {@code null} for other kinds
+     */
+    @Nullable
+    default String newField() {
+        return null;
+    }
+
+    /**
+     * Returns the value written by an {@link Kind#ADD} or {@link Kind#SET} rule.
+     *
+     * @return the value, or {@code null} for other kinds
+     */
+    @Nullable
+    default Dynamic<?> value() {
+        return null;
+    }
+
+    /**
+     * Returns the function applied to the field value by a {@link Kind#TRANSFORM} rule.
+     *
+     * <p>The function is only applied to records that contain the field.</p>
+     *
+     * @return the transform, or {@code null} for other kinds
+     */
+    @Nullable
+    default Function<Dynamic<?>, Dynamic<?>> transform() {
+        return null;
+    }
+
+    /**
+     * The field operations described by {@link FieldRewriteRule}.
+     *
+     * @author Erik Pförtner
+     * @since 0.6.0
+     */
+    enum Kind {
+        /**
+         * Moves the value of {@link #field()} to {@link #newField()} if present.
+         */
+        RENAME,
+
+        /**
+         * Removes {@link #field()} if present.
+         */
+        REMOVE,
+
+        /**
+         * Writes {@link #value()} to {@link #field()} only if the field is missing.
+         */
+        ADD,
+
+        /**
+         * Writes {@link #value()} to {@link #field()}, replacing any existing value.
+         */
+        SET,
+
+        /**
+         * Replaces the value of {@link #field()} with {@link #transform()} applied to it, if present.
+         */
+        TRANSFORM
+    }
+}
@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.api.rewrite;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.type.Type;
+import de.splatgames.aether.datafixers.api.type.Typed;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * A bounded memo table that deduplicates the migration of structurally identical values.
+ *
+ * <p>Documents often repeat identical sub-structures many times, such as default item
+ * stacks or empty inventories. A {@code RewriteMemo} remembers the result of applying
+ * a rule (or fix) to a value, keyed by the rule's identity, the value's
+ * {@link TypeReference} and the value itself under {@link Object#equals(Object)} and
+ * {@link Object#hashCode()}. Equal inputs are migrated once.</p>
+ *
+ * <h2>Mutable Formats</h2>
+ * <p>Formats such as Gson and Jackson trees are mutable, so a memo must not share them with
+ * callers. Values wrapped in a {@link Dynamic} (directly, in a {@link Typed} or in an
+ * {@link Optional}) are deep-copied through their ops' {@code convertTo} when they are
+ * stored, and a cached result is copied again on every hit. Callers may therefore mutate
+ * both the input they passed and the result they got back. Values of any other kind are
+ * stored and returned as they are and must be immutable.</p>
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * RewriteMemo memo = new RewriteMemo(50_000);
+ *
+ * // Subtree level: each distinct item stack is migrated once
+ * TypeRewriteRule items = Rules.everywhere(GsonOps.INSTANCE, itemRule.memoized(memo));
+ *
+ * // Fix level: identical top-level inputs are migrated once per fix
+ * DataFixer fixer = new DataFixerBuilder(CURRENT)
+ *     .withRewriteMemo(memo)
+ *     .addFixes(...)
+ *     .build();
+ *
+ * RewriteMemo.Stats stats = memo.stats();
+ * log.info("memo hit rate: {}", stats.hitRate());
+ * }</pre>
+ *
+ * <h2>Requirements</h2>
+ * <ul>
+ *   <li>Memoized rules must be deterministic: their result may only depend on the type and
+ *       value they are applied to.</li>
+ *   <li>Values must have structural {@code equals}/{@code hashCode}. Values that are not
+ *       wrapped in a {@link Dynamic} must be immutable.</li>
+ *   <li>Structural hashing and copying are proportional to the size of the value.
+ *       Memoization pays off for small, frequently repeated subtrees rather than for large
+ *       unique documents.</li>
+ * </ul>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is thread-safe. Concurrent misses for the same key may compute the result
+ * more than once; the last result wins.</p>
+ *
+ * @author Erik Pförtner
+ * @see TypeRewriteRule#memoized(RewriteMemo)
+ * @since 0.6.0
+ */
+public final class RewriteMemo {
+
+    /**
+     * The default maximum number of memoized results.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000L;
+
+    private final Cache<Key, Object> cache;
+
+    /**
+     * Creates a memo holding at most {@link #DEFAULT_MAXIMUM_SIZE} results.
+     */
+    public RewriteMemo() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a memo holding at most the given number of results.
+     *
+     * <p>When the memo is full, the least recently used results are evicted.</p>
+     *
+     * @param maximumSize the maximum number of results, must be positive
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive
+     */
+    public RewriteMemo(final long maximumSize) {
+        Preconditions.checkArgument(maximumSize > 0, "maximumSize must be positive");
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Applies a rule through this memo.
+     *
+     * @param rule  the rule to apply, must not be {@code null}
+     * @param type  the type passed to the rule, must not be {@code null}
+     * @param input the input passed to the rule, must not be {@code null}
+     * @return the (possibly cached) result of {@code rule.rewrite(type, input)}, never {@code null}
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    @NotNull
+    public Optional<Typed<?>> rewrite(@NotNull final TypeRewriteRule rule,
+                                      @NotNull final Type<?> type,
+                                      @NotNull final Typed<?> input) {
+        Preconditions.checkNotNull(rule, "rule must not be null");
+        Preconditions.checkNotNull(type, "type must not be null");
+        Preconditions.checkNotNull(input, "input must not be null");
+        return this.memoize(rule, type.reference(), input.value(), () -> rule.rewrite(type, input));
+    }
+
+    /**
+     * Returns the memoized result for an owner, type and value, computing it on a miss.
+     *
+     * <p>The {@code owner} is compared by identity and identifies the computation, typically
+     * a rule or a fix. Exceptions thrown by {@code compute} propagate unchanged and nothing is
+     * cached. {@link Dynamic}-backed values and results are copied as described in the class
+     * documentation.</p>
+     *
+     * @param owner   the computation owner, compared by identity, must not be {@code null}
+     * @param type    the type reference of the value, must not be {@code null}
+     * @param value   the input value, must not be {@code null}
+     * @param compute computes the result on a miss, must not return {@code null}
+     * @param <R>     the result type
+     * @return the cached or freshly computed result, never {@code null}
+     * @throws NullPointerException if any argument or the computed result is {@code null}
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    public <R> R memoize(@NotNull final Object owner,
+                         @NotNull final TypeReference type,
+                         @NotNull final Object value,
+                         @NotNull final Supplier<R> compute) {
+        Preconditions.checkNotNull(owner, "owner must not be null");
+        Preconditions.checkNotNull(type, "type must not be null");
+        Preconditions.checkNotNull(value, "value must not be null");
+        Preconditions.checkNotNull(compute, "compute must not be null");
+
+        final Object cached = this.cache.getIfPresent(new Key(owner, type, value));
+        if (cached != null) {
+            return (R) detach(cached);
+        }
+        final R result = compute.get();
+        Preconditions.checkNotNull(result, "compute must not return null");
+        this.cache.put(new Key(owner, type, detach(value)), detach(result));
+        return result;
+    }
+
+    /**
+     * Returns a snapshot of the hit, miss and eviction counters.
+     *
+     * @return the statistics, never {@code null}
+     */
+    @NotNull
+    public Stats stats() {
+        final CacheStats stats = this.cache.stats();
+        return new Stats(stats.hitCount(), stats.missCount(), stats.evictionCount(), this.cache.size());
+    }
+
+    /**
+     * Removes all memoized results. Counters are not reset.
+     */
+    public void clear() {
+        this.cache.invalidateAll();
+    }
+
+    @Override
+    public String toString() {
+        return "RewriteMemo" + this.stats();
+    }
+
+    /**
+     * Memo statistics.
+     *
+     * @param hits      the number of lookups that found a result
+     * @param misses    the number of lookups that computed a result
+     * @param evictions the number of results evicted because the memo was full
+     * @param size      the approximate number of results currently held
+     * @author Erik Pförtner
+     * @since 0.6.0
+     */
+    public record Stats(long hits, long misses, long evictions, long size) {
+
+        /**
+         * Returns the fraction of lookups that were hits.
+         *
+         * @return the hit rate in {@code [0, 1]}, or {@code 0} if there were no lookups
+         */
+        public double hitRate() {
+            final long total = this.hits + this.misses;
+            return total == 0 ? 0.0 : (double) this.hits / total;
+        }
+    }
+
+    /**
+     * Returns a copy of a value that shares no mutable {@link Dynamic} tree with it.
+     */
+    @NotNull
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object detach(@NotNull final Object value) {
+        if (value instanceof Dynamic<?> dynamic) {
+            return copy(dynamic);
+        }
+        if (value instanceof Typed<?> typed && typed.value() instanceof Dynamic<?> dynamic) {
+            return ((Typed) typed).withValue(copy(dynamic));
+        }
+        if (value instanceof Optional<?> optional && optional.isPresent()) {
+            final Object present = optional.get();
+            final Object detached = detach(present);
+            return detached == present ? value : Optional.of(detached);
+        }
+        return value;
+    }
+
+    @NotNull
+    private static <T> Dynamic<T> copy(@NotNull final Dynamic<T> dynamic) {
+        return new Dynamic<>(dynamic.ops(), dynamic.ops().convertTo(dynamic.ops(), dynamic.value()));
+    }
+
+    /**
+     * Cache key: owner by identity, type and value by equality.
+     */
+    private record Key(Object owner, TypeReference type, Object value) {
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key other)) {
+                return false;
+            }
+            return this.owner == other.owner
+                    && this.type.equals(other.type)
+                    && this.value.equals(other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(this.owner);
+            result = 31 * result + this.type.hashCode();
+            result = 31 * result + this.value.hashCode();
+            return result;
+        }
+    }
+}
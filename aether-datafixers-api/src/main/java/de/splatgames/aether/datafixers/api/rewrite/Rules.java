@@ -25,6 +25,7 @@ package de.splatgames.aether.datafixers.api.rewrite;
 import com.google.common.base.Preconditions;
 import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
 import de.splatgames.aether.datafixers.api.dynamic.DynamicOps;
+import de.splatgames.aether.datafixers.api.dynamic.FieldNames;
 import de.splatgames.aether.datafixers.api.optic.Finder;
 import de.splatgames.aether.datafixers.api.result.DataResult;
 import de.splatgames.aether.datafixers.api.type.Type;
@@ -32,6 +33,7 @@ import de.splatgames.aether.datafixers.api.type.Typed;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -960,7 +962,8 @@ public final class Rules {
         Preconditions.checkNotNull(ops, "ops must not be null");
         Preconditions.checkNotNull(oldName, "oldName must not be null");
         Preconditions.checkNotNull(newName, "newName must not be null");
-        return new TypeRewriteRule() {
+        final String canonicalName = FieldNames.shared().pin(newName);
+        return new FieldRewriteRule() {
             @Override
             @SuppressWarnings({"unchecked", "rawtypes"})
             public @NotNull Optional<Typed<?>> rewrite(@NotNull final Type<?> type,
@@ -969,18 +972,27 @@ public final class Rules {
                 Preconditions.checkNotNull(input, "input must not be null");
                 final DataResult<Dynamic<T>> encodeResult = input.encode(ops);
                 return encodeResult.flatMap(dynamic -> {
-                    final Dynamic<T> value = dynamic.get(oldName);
-                    final Dynamic<T> updated;
-                    if (value == null) {
-                        updated = dynamic;
-                    } else {
-                        updated = dynamic.remove(oldName).set(newName, value);
-                    }
+                    final Dynamic<T> updated = dynamic.rename(oldName, canonicalName);
                     final Type rawType = input.type();
                     return rawType.read(updated);
                 }).map(newValue -> new Typed<>((Type) input.type(), newValue)).result();
             }
 
+            @Override
+            public @NotNull Kind kind() {
+                return Kind.RENAME;
+            }
+
+            @Override
+            public @NotNull String field() {
+                return oldName;
+            }
+
+            @Override
+            public String newField() {
+                return canonicalName;
+            }
+
             @Override
             public String toString() {
                 return "renameField(" + oldName + " -> " + newName + ")";
@@ -1017,7 +1029,7 @@ public final class Rules {
                                                   @NotNull final String fieldName) {
         Preconditions.checkNotNull(ops, "ops must not be null");
         Preconditions.checkNotNull(fieldName, "fieldName must not be null");
-        return new TypeRewriteRule() {
+        return new FieldRewriteRule() {
             @Override
             @SuppressWarnings({"unchecked", "rawtypes"})
             public @NotNull Optional<Typed<?>> rewrite(@NotNull final Type<?> type,
@@ -1032,6 +1044,16 @@ public final class Rules {
                 }).map(newValue -> new Typed<>((Type) input.type(), newValue)).result();
             }
 
+            @Override
+            public @NotNull Kind kind() {
+                return Kind.REMOVE;
+            }
+
+            @Override
+            public @NotNull String field() {
+                return fieldName;
+            }
+
             @Override
             public String toString() {
                 return "removeField(" + fieldName + ")";
@@ -1077,7 +1099,8 @@ public final class Rules {
         Preconditions.checkNotNull(ops, "ops must not be null");
         Preconditions.checkNotNull(fieldName, "fieldName must not be null");
         Preconditions.checkNotNull(defaultValue, "defaultValue must not be null");
-        return new TypeRewriteRule() {
+        final String canonicalName = FieldNames.shared().pin(fieldName);
+        return new FieldRewriteRule() {
             @Override
             @SuppressWarnings({"unchecked", "rawtypes"})
             public @NotNull Optional<Typed<?>> rewrite(@NotNull final Type<?> type,
@@ -1091,13 +1114,28 @@ public final class Rules {
                     if (dynamic.get(fieldName) != null) {
                         updated = dynamic;
                     } else {
-                        updated = dynamic.set(fieldName, defaultValue);
+                        updated = dynamic.set(canonicalName, defaultValue);
                     }
                     final Type rawType = input.type();
                     return rawType.read(updated);
                 }).map(newValue -> new Typed<>((Type) input.type(), newValue)).result();
             }
 
+            @Override
+            public @NotNull Kind kind() {
+                return Kind.ADD;
+            }
+
+            @Override
+            public @NotNull String field() {
+                return canonicalName;
+            }
+
+            @Override
+            public Dynamic<?> value() {
+                return defaultValue;
+            }
+
             @Override
             public String toString() {
                 return "addField(" + fieldName + ")";
@@ -1145,12 +1183,39 @@ public final class Rules {
         Preconditions.checkNotNull(ops, "ops must not be null");
         Preconditions.checkNotNull(fieldName, "fieldName must not be null");
         Preconditions.checkNotNull(transform, "transform must not be null");
-        return updateAt(
+        final TypeRewriteRule update = updateAt(
                 "transformField(" + fieldName + ")",
                 ops,
                 Finder.field(fieldName),
                 transform
         );
+        return new FieldRewriteRule() {
+            @Override
+            public @NotNull Optional<Typed<?>> rewrite(@NotNull final Type<?> type,
+                                                       @NotNull final Typed<?> input) {
+                return update.rewrite(type, input);
+            }
+
+            @Override
+            public @NotNull Kind kind() {
+                return Kind.TRANSFORM;
+            }
+
+            @Override
+            public @NotNull String field() {
+                return fieldName;
+            }
+
+            @Override
+            public Function<Dynamic<?>, Dynamic<?>> transform() {
+                return transform;
+            }
+
+            @Override
+            public String toString() {
+                return update.toString();
+            }
+        };
     }
 
     // ==================== Batch Operations ====================
@@ -1303,8 +1368,9 @@ public final class Rules {
         Preconditions.checkNotNull(ops, "ops must not be null");
         Preconditions.checkNotNull(fieldName, "fieldName must not be null");
         Preconditions.checkNotNull(value, "value must not be null");
+        final String canonicalName = FieldNames.shared().pin(fieldName);
 
-        return new TypeRewriteRule() {
+        return new FieldRewriteRule() {
             @Override
             @SuppressWarnings({"unchecked", "rawtypes"})
             public @NotNull Optional<Typed<?>> rewrite(@NotNull final Type<?> type,
@@ -1313,12 +1379,27 @@ public final class Rules {
                 Preconditions.checkNotNull(input, "input must not be null");
                 final DataResult<Dynamic<T>> encodeResult = input.encode(ops);
                 return encodeResult.flatMap(dynamic -> {
-                    final Dynamic<T> updated = dynamic.set(fieldName, value);
+                    final Dynamic<T> updated = dynamic.set(canonicalName, value);
                     final Type rawType = input.type();
                     return rawType.read(updated);
                 }).map(newValue -> new Typed<>((Type) input.type(), newValue)).result();
             }
 
+            @Override
+            public @NotNull Kind kind() {
+                return Kind.SET;
+            }
+
+            @Override
+            public @NotNull String field() {
+                return canonicalName;
+            }
+
+            @Override
+            public Dynamic<?> value() {
+                return value;
+            }
+
             @Override
             public String toString() {
                 return "setField(" + fieldName + ")";
@@ -1364,6 +1445,8 @@ public final class Rules {
         if (renames.isEmpty()) {
             return TypeRewriteRule.identity();
         }
+        final Map<String, String> canonicalRenames = new LinkedHashMap<>(renames.size());
+        renames.forEach((oldName, newName) -> canonicalRenames.put(oldName, FieldNames.shared().pin(newName)));
 
         return new TypeRewriteRule() {
             @Override
@@ -1375,13 +1458,8 @@ public final class Rules {
                 final DataResult<Dynamic<T>> encodeResult = input.encode(ops);
                 return encodeResult.flatMap(dynamic -> {
                     Dynamic<T> current = dynamic;
-                    for (final var entry : renames.entrySet()) {
-                        final String oldName = entry.getKey();
-                        final String newName = entry.getValue();
-                        final Dynamic<T> value = current.get(oldName);
-                        if (value != null) {
-                            current = current.remove(oldName).set(newName, value);
-                        }
+                    for (final var entry : canonicalRenames.entrySet()) {
+                        current = current.rename(entry.getKey(), entry.getValue());
                     }
                     final Type rawType = input.type();
                     return rawType.read(current);
@@ -52,6 +52,7 @@ import java.util.function.Function;
  *   <li>{@link #orElse(TypeRewriteRule)} - Fallback: try first, use second if first fails</li>
  *   <li>{@link #orKeep()} - Make optional rule always succeed (keep original on failure)</li>
  *   <li>{@link #ifType(Type)} - Filter to only apply to a specific type</li>
+ *   <li>{@link #memoized(RewriteMemo)} - Reuse results for values seen before</li>
  * </ul>
  *
  * <h2>Usage Example</h2>
@@ -496,6 +497,46 @@ public interface TypeRewriteRule {
         };
     }
 
+    /**
+     * Returns a rule that caches the results of this rule in the given memo.
+     *
+     * <p>Applying the returned rule to a value that is equal to a previously seen value of
+     * the same type reference returns the cached result instead of running this rule again.
+     * This is most effective inside traversals such as
+     * {@link Rules#everywhere(de.splatgames.aether.datafixers.api.dynamic.DynamicOps, TypeRewriteRule)},
+     * where identical subtrees are then migrated once. This rule must be deterministic.</p>
+     *
+     * <h4>Example</h4>
+     * <pre>{@code
+     * RewriteMemo memo = new RewriteMemo();
+     * TypeRewriteRule items = Rules.everywhere(GsonOps.INSTANCE, itemFix.memoized(memo));
+     * }</pre>
+     *
+     * @param memo the memo to cache results in, must not be {@code null}
+     * @return a memoizing rule, never {@code null}
+     * @throws NullPointerException if {@code memo} is {@code null}
+     * @see RewriteMemo
+     * @since 0.6.0
+     */
+    @NotNull
+    default TypeRewriteRule memoized(@NotNull final RewriteMemo memo) {
+        Preconditions.checkNotNull(memo, "memo must not be null");
+        final TypeRewriteRule self = this;
+        return new TypeRewriteRule() {
+            @NotNull
+            @Override
+            public Optional<Typed<?>> rewrite(@NotNull final Type<?> type,
+                                              @NotNull final Typed<?> input) {
+                return memo.rewrite(self, type, input);
+            }
+
+            @Override
+            public String toString() {
+                return "memoized(" + self + ")";
+            }
+        };
+    }
+
     /**
      * Creates a named wrapper around this rule for debugging and logging purposes.
      *
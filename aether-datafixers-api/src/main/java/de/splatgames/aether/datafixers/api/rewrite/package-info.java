@@ -32,6 +32,9 @@
  *   <li>{@link de.splatgames.aether.datafixers.api.rewrite.TypeRewriteRule} -
  *       Represents a transformation that can be applied to typed data. Rules
  *       are composable and can be combined to create complex migrations.</li>
+ *   <li>{@link de.splatgames.aether.datafixers.api.rewrite.FieldRewriteRule} -
+ *       A rule operating on a single top-level field that also describes its
+ *       operation, so batch executors can apply it without running it per record.</li>
  *   <li>{@link de.splatgames.aether.datafixers.api.rewrite.Rules} - Factory class
  *       providing common rewrite rule combinators for typical data transformations.</li>
  * </ul>
@@ -26,6 +26,7 @@ import com.google.common.base.Preconditions;
 import de.splatgames.aether.datafixers.api.DataVersion;
 import de.splatgames.aether.datafixers.api.TypeReference;
 import de.splatgames.aether.datafixers.api.codec.Codec;
+import de.splatgames.aether.datafixers.api.dynamic.FieldNames;
 import de.splatgames.aether.datafixers.api.type.Type;
 import de.splatgames.aether.datafixers.api.type.TypeRegistry;
 import de.splatgames.aether.datafixers.api.type.template.TypeFamily;
@@ -83,7 +84,11 @@ import org.jetbrains.annotations.Nullable;
  *
  * <h2>Thread Safety</h2>
  * <p>This class is immutable and thread-safe if the underlying {@link TypeRegistry}
- * is thread-safe.</p>
+ * is thread-safe. A lazily built type registry is built by exactly one thread and only
+ * published once {@link #registerTypes()} has returned, so concurrent callers of
+ * {@link #types()} never observe a partially registered schema. Building a schema does
+ * not build its parent, so schemas of one parent chain can be built concurrently and
+ * independently.</p>
  *
  * @author Erik Pförtner
  * @see DataVersion
@@ -94,7 +99,10 @@ import org.jetbrains.annotations.Nullable;
 public class Schema {
     private final DataVersion version;
     private final Schema parent;
-    private TypeRegistry types;
+    private final Object typesLock = new Object();
+    private volatile TypeRegistry types;
+    // Registry being filled by registerTypes(); only touched while holding typesLock
+    private TypeRegistry building;
 
     /**
      * Creates a new schema for the specified version with the given types.
@@ -155,41 +163,57 @@ public class Schema {
      * Returns the type registry containing all type definitions for this schema.
      *
      * <p>If this schema was created using the protected constructor, the type registry
-     * is built lazily by calling {@link #registerTypes()} on first access.</p>
+     * is built lazily by calling {@link #registerTypes()} on first access. The build runs
+     * once, under a lock; other threads calling this method meanwhile wait for it.</p>
      *
      * @return the type registry, never {@code null}
      */
     @NotNull
     public TypeRegistry types() {
-        if (this.types == null) {
-            this.types = this.buildTypes();
+        TypeRegistry types = this.types;
+        if (types == null) {
+            synchronized (this.typesLock) {
+                types = this.types;
+                if (types == null) {
+                    if (this.building != null) {
+                        // Re-entrant call from registerTypes() on the building thread
+                        return this.building;
+                    }
+                    types = this.buildTypes();
+                    this.types = types;
+                }
+            }
         }
-        return this.types;
+        return types;
     }
 
     /**
      * Builds the type registry for this schema.
      *
-     * <p>First inherits types from the parent schema, then calls {@link #registerTypes()}
-     * to allow subclasses to add or override types.</p>
+     * <p>Calls {@link #registerTypes()} to let subclasses register their types. The parent
+     * schema is not built; its registry is not copied into this one. Finally, the declared field names are
+     * pinned in the {@linkplain FieldNames#shared() shared symbol table}. Called with
+     * {@code typesLock} held; the registry is visible as {@code building} until it returns.</p>
      *
      * @return the built type registry
      */
     @NotNull
     private TypeRegistry buildTypes() {
         final TypeRegistry registry = this.createTypeRegistry();
-        this.types = registry;
+        this.building = registry;
+        try {
+            // Parent types are not copied - a subclass re-registers all types it needs -
+            // so the parent is not built here. Only schemas that are actually used pay
+            // for building their types.
 
-        // Inherit types from parent if present
-        if (this.parent != null) {
-            // Copy types from parent
-            this.parent.types();
-            // Parent types are already registered in parent's registry
-            // For now, we don't copy - subclass must re-register all types it needs
-        }
+            // Let subclass register types
+            this.registerTypes();
 
-        // Let subclass register types
-        this.registerTypes();
+            // Share the declared field names with the ops implementations
+            FieldNames.shared().registerSchema(this);
+        } finally {
+            this.building = null;
+        }
 
         return registry;
     }
@@ -232,8 +256,7 @@ public class Schema {
      */
     protected final void registerType(@NotNull final Type<?> type) {
         Preconditions.checkNotNull(type, "type must not be null");
-        Preconditions.checkState(this.types != null, "Cannot register types before types() is called");
-        this.types.register(type);
+        this.registrationTarget().register(type);
     }
 
     /**
@@ -267,13 +290,25 @@ public class Schema {
                                       @NotNull final TypeTemplate template) {
         Preconditions.checkNotNull(reference, "reference must not be null");
         Preconditions.checkNotNull(template, "template must not be null");
-        Preconditions.checkState(this.types != null, "Cannot register types before types() is called");
+        final TypeRegistry target = this.registrationTarget();
 
         // Apply the template with an empty family to get the concrete type
         final Type<?> templateType = template.apply(TypeFamily.empty());
 
         // Wrap the template type with the reference
-        this.types.register(new TemplateBasedType<>(reference, templateType));
+        target.register(new TemplateBasedType<>(reference, templateType));
+    }
+
+    /**
+     * Returns the registry that {@code registerType} adds to: the one being built, or the
+     * one passed to the public constructor.
+     */
+    @NotNull
+    private TypeRegistry registrationTarget() {
+        final TypeRegistry building = this.building;
+        final TypeRegistry target = building != null ? building : this.types;
+        Preconditions.checkState(target != null, "Cannot register types before types() is called");
+        return target;
     }
 
     /**
@@ -293,6 +328,35 @@ public class Schema {
         return this.types().require(ref);
     }
 
+    /**
+     * Retrieves the structural type registered for a reference, throwing if not found.
+     *
+     * <p>Types registered through {@link #registerType(TypeReference, TypeTemplate)} are
+     * wrapped so that they carry their {@link TypeReference}. The wrapper only exposes the
+     * reference and codec, which keeps rewrite traversal unchanged but hides the field
+     * layout of the template. This method returns the underlying template type instead,
+     * so introspection code (symbol tables, shape layouts, tooling) can walk its
+     * {@link Type#children() children} and {@link Type.FieldType field types}.</p>
+     *
+     * <p>Types registered directly via {@link #registerType(Type)} are returned as-is.</p>
+     *
+     * @param ref the type reference to look up, must not be {@code null}
+     * @return the structural type for the given reference, never {@code null}
+     * @throws IllegalStateException if the type is not registered
+     * @throws NullPointerException  if ref is {@code null}
+     * @since 0.6.0
+     */
+    @NotNull
+    public Type<?> structure(@NotNull final TypeReference ref) {
+        Preconditions.checkNotNull(ref, "ref must not be null");
+
+        final Type<?> type = this.types().require(ref);
+        if (type instanceof TemplateBasedType<?> templateBased) {
+            return templateBased.delegate;
+        }
+        return type;
+    }
+
     /**
      * Internal type implementation that wraps a DSL-generated type with a TypeReference.
      *
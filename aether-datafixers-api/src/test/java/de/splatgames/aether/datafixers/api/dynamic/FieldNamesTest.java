@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.api.dynamic;
+
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.dsl.DSL;
+import de.splatgames.aether.datafixers.api.schema.Schema;
+import de.splatgames.aether.datafixers.api.type.Type;
+import de.splatgames.aether.datafixers.api.type.TypeRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link FieldNames}.
+ */
+@DisplayName("FieldNames")
+class FieldNamesTest {
+
+    private static final TypeReference PLAYER = new TypeReference("player");
+
+    private static final class MapTypeRegistry implements TypeRegistry {
+        private final Map<TypeReference, Type<?>> types = new HashMap<>();
+
+        @Override
+        public void register(@NotNull final Type<?> type) {
+            this.types.put(type.reference(), type);
+        }
+
+        @Nullable
+        @Override
+        public Type<?> get(@NotNull final TypeReference ref) {
+            return this.types.get(ref);
+        }
+
+        @Override
+        public boolean has(@NotNull final TypeReference ref) {
+            return this.types.containsKey(ref);
+        }
+
+        @NotNull
+        @Override
+        public Set<TypeReference> references() {
+            return Set.copyOf(this.types.keySet());
+        }
+    }
+
+    private static final class PlayerSchema extends Schema {
+        PlayerSchema() {
+            super(100, null);
+        }
+
+        @NotNull
+        @Override
+        protected TypeRegistry createTypeRegistry() {
+            return new MapTypeRegistry();
+        }
+
+        @Override
+        protected void registerTypes() {
+            registerType(PLAYER, DSL.and(
+                    DSL.field("playerName", DSL.string()),
+                    DSL.field("position", DSL.and(
+                            DSL.field("posX", DSL.doubleType()),
+                            DSL.field("posY", DSL.doubleType())
+                    )),
+                    DSL.remainder()
+            ));
+        }
+    }
+
+    @Nested
+    @DisplayName("intern()")
+    class Intern {
+
+        @Test
+        @DisplayName("returns the same instance for equal names")
+        void returnsSameInstanceForEqualNames() {
+            final FieldNames names = new FieldNames(16, 16);
+
+            final String first = names.intern(new String("inventory"));
+            final String second = names.intern(new String("inventory"));
+
+            assertThat(second).isSameAs(first);
+            assertThat(names.dynamicSize()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("evicts the least recently used name once the bound is reached")
+        void evictsLeastRecentlyUsedAtBound() {
+            final FieldNames names = new FieldNames(2, 16);
+            names.intern("a");
+            names.intern("b");
+            names.intern("a");
+
+            final String admitted = new String("c");
+
+            assertThat(names.intern(admitted)).isSameAs(admitted);
+            assertThat(names.contains("a")).isTrue();
+            assertThat(names.contains("b")).isFalse();
+            assertThat(names.contains("c")).isTrue();
+            assertThat(names.dynamicSize()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("never evicts pinned names")
+        void neverEvictsPinnedNames() {
+            final FieldNames names = new FieldNames(1, 16);
+            final String pinned = names.pin(new String("id"));
+
+            names.intern("a");
+            names.intern("b");
+
+            assertThat(names.intern(new String("id"))).isSameAs(pinned);
+            assertThat(names.dynamicSize()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("does not admit names longer than the limit")
+        void doesNotAdmitLongNames() {
+            final FieldNames names = new FieldNames(16, 4);
+
+            names.intern("tooLong");
+
+            assertThat(names.contains("tooLong")).isFalse();
+        }
+
+        @Test
+        @DisplayName("returns pinned instances even when the bound is reached")
+        void returnsPinnedInstancesAtBound() {
+            final FieldNames names = new FieldNames(0, 0);
+            final String pinned = names.pin(new String("identifier"));
+
+            assertThat(names.intern(new String("identifier"))).isSameAs(pinned);
+        }
+
+        @Test
+        @DisplayName("throws on null name")
+        void throwsOnNull() {
+            assertThatThrownBy(() -> new FieldNames(1, 1).intern(null))
+                    .isInstanceOf(NullPointerException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("canonical()")
+    class Canonical {
+
+        @Test
+        @DisplayName("never admits new names")
+        void neverAdmits() {
+            final FieldNames names = new FieldNames(16, 16);
+
+            names.canonical("value");
+
+            assertThat(names.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("ignores dynamic names")
+        void ignoresDynamicNames() {
+            final FieldNames names = new FieldNames(16, 16);
+            final String dynamic = names.intern(new String("value"));
+
+            assertThat(names.canonical(new String("value"))).isNotSameAs(dynamic);
+        }
+
+        @Test
+        @DisplayName("returns known instance")
+        void returnsKnownInstance() {
+            final FieldNames names = new FieldNames(16, 16);
+            final String pinned = names.pin(new String("name"));
+
+            assertThat(names.canonical(new String("name"))).isSameAs(pinned);
+        }
+    }
+
+    @Nested
+    @DisplayName("pin()")
+    class Pin {
+
+        @Test
+        @DisplayName("does not count against the dynamic bound")
+        void doesNotCountAgainstBound() {
+            final FieldNames names = new FieldNames(0, 0);
+
+            names.pin("a");
+            names.pin("b");
+
+            assertThat(names.size()).isEqualTo(2);
+            assertThat(names.dynamicSize()).isZero();
+        }
+
+        @Test
+        @DisplayName("promotes a dynamic name and keeps its instance")
+        void promotesDynamicName() {
+            final FieldNames names = new FieldNames(16, 16);
+            final String dynamic = names.intern(new String("level"));
+
+            assertThat(names.pin(new String("level"))).isSameAs(dynamic);
+            assertThat(names.dynamicSize()).isZero();
+            assertThat(names.canonical(new String("level"))).isSameAs(dynamic);
+        }
+    }
+
+    @Nested
+    @DisplayName("registerSchema()")
+    class RegisterSchema {
+
+        @Test
+        @DisplayName("pins field names at any depth")
+        void pinsNestedFieldNames() {
+            final FieldNames names = new FieldNames(0, 0);
+
+            names.registerSchema(new PlayerSchema());
+
+            assertThat(names.contains("playerName")).isTrue();
+            assertThat(names.contains("position")).isTrue();
+            assertThat(names.contains("posX")).isTrue();
+            assertThat(names.contains("posY")).isTrue();
+        }
+
+        @Test
+        @DisplayName("shared table is populated when schema types are built")
+        void sharedTablePopulatedOnBuild() {
+            new PlayerSchema().types();
+
+            assertThat(FieldNames.shared().contains("playerName")).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Constructor")
+    class Constructor {
+
+        @Test
+        @DisplayName("rejects negative bounds")
+        void rejectsNegativeBounds() {
+            assertThatThrownBy(() -> new FieldNames(-1, 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new FieldNames(1, -1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
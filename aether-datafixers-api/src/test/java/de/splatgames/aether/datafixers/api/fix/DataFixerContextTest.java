@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.api.fix;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the default methods of {@link DataFixerContext}.
+ */
+@DisplayName("DataFixerContext")
+class DataFixerContextTest {
+
+    @Nested
+    @DisplayName("Level checks")
+    class LevelChecks {
+
+        @Test
+        @DisplayName("levels are enabled by default")
+        void enabledByDefault() {
+            final DataFixerContext plain = new DataFixerContext() {
+                @Override
+                public void info(@NotNull final String message, @Nullable final Object... args) {
+                }
+
+                @Override
+                public void warn(@NotNull final String message, @Nullable final Object... args) {
+                }
+            };
+
+            assertThat(plain.isInfoEnabled()).isTrue();
+            assertThat(plain.isWarnEnabled()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Fixed-arity overloads")
+    class FixedArity {
+
+        @Test
+        @DisplayName("delegate to the varargs methods with the given arguments")
+        void delegateWhenEnabled() {
+            final RecordingContext context = new RecordingContext(true, true);
+
+            context.info("plain");
+            context.info("one {}", 1);
+            context.info("two {} {}", 1, "b");
+            context.warn("plain");
+            context.warn("one {}", (Object) null);
+            context.warn("two {} {}", "a", 2);
+
+            assertThat(context.calls).containsExactly(
+                    "INFO plain []",
+                    "INFO one {} [1]",
+                    "INFO two {} {} [1, b]",
+                    "WARN plain []",
+                    "WARN one {} [null]",
+                    "WARN two {} {} [a, 2]"
+            );
+        }
+
+        @Test
+        @DisplayName("skip disabled levels")
+        void skipWhenDisabled() {
+            final RecordingContext context = new RecordingContext(false, false);
+
+            context.info("plain");
+            context.info("one {}", 1);
+            context.info("two {} {}", 1, 2);
+            context.warn("plain");
+            context.warn("one {}", 1);
+            context.warn("two {} {}", 1, 2);
+
+            assertThat(context.calls).isEmpty();
+        }
+
+        @Test
+        @DisplayName("arrays still bind to the varargs method")
+        void arraysBindToVarargs() {
+            final RecordingContext context = new RecordingContext(false, false);
+
+            context.info("three {} {} {}", new Object[]{1, 2, 3});
+
+            assertThat(context.calls).containsExactly("INFO three {} {} {} [1, 2, 3]");
+        }
+    }
+
+    /**
+     * Context that records varargs calls, ignoring its own level flags there.
+     */
+    private static final class RecordingContext implements DataFixerContext {
+
+        private final boolean infoEnabled;
+        private final boolean warnEnabled;
+        private final List<String> calls = new ArrayList<>();
+
+        private RecordingContext(final boolean infoEnabled, final boolean warnEnabled) {
+            this.infoEnabled = infoEnabled;
+            this.warnEnabled = warnEnabled;
+        }
+
+        @Override
+        public void info(@NotNull final String message, @Nullable final Object... args) {
+            this.calls.add("INFO " + message + " " + Arrays.toString(args));
+        }
+
+        @Override
+        public void warn(@NotNull final String message, @Nullable final Object... args) {
+            this.calls.add("WARN " + message + " " + Arrays.toString(args));
+        }
+
+        @Override
+        public boolean isInfoEnabled() {
+            return this.infoEnabled;
+        }
+
+        @Override
+        public boolean isWarnEnabled() {
+            return this.warnEnabled;
+        }
+    }
+}
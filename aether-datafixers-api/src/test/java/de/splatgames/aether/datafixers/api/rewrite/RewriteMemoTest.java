@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.api.rewrite;
+
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.type.Type;
+import de.splatgames.aether.datafixers.api.type.Typed;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link RewriteMemo} and {@link TypeRewriteRule#memoized(RewriteMemo)}.
+ */
+@DisplayName("RewriteMemo")
+class RewriteMemoTest {
+
+    private static TypeRewriteRule counting(final AtomicInteger calls) {
+        return TypeRewriteRule.forType("upper", Type.STRING, value -> {
+            calls.incrementAndGet();
+            return value.toUpperCase();
+        });
+    }
+
+    @Nested
+    @DisplayName("memoized()")
+    class Memoized {
+
+        @Test
+        @DisplayName("applies the rule once per distinct value")
+        void appliesOncePerDistinctValue() {
+            final AtomicInteger calls = new AtomicInteger();
+            final RewriteMemo memo = new RewriteMemo();
+            final TypeRewriteRule rule = counting(calls).memoized(memo);
+
+            final Typed<?> first = rule.apply(new Typed<>(Type.STRING, "stone"));
+            final Typed<?> second = rule.apply(new Typed<>(Type.STRING, new String("stone")));
+            rule.apply(new Typed<>(Type.STRING, "dirt"));
+
+            assertThat(first.value()).isEqualTo("STONE");
+            assertThat(second).isSameAs(first);
+            assertThat(calls).hasValue(2);
+            assertThat(memo.stats().hits()).isEqualTo(1);
+            assertThat(memo.stats().misses()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("keeps results of different rules apart")
+        void keepsRulesApart() {
+            final RewriteMemo memo = new RewriteMemo();
+            final TypeRewriteRule upper = counting(new AtomicInteger()).memoized(memo);
+            final TypeRewriteRule lower = TypeRewriteRule.forType("lower", Type.STRING, String::toLowerCase)
+                    .memoized(memo);
+
+            assertThat(upper.apply(new Typed<>(Type.STRING, "Ab")).value()).isEqualTo("AB");
+            assertThat(lower.apply(new Typed<>(Type.STRING, "Ab")).value()).isEqualTo("ab");
+        }
+
+        @Test
+        @DisplayName("caches non-matching results")
+        void cachesNonMatchingResults() {
+            final RewriteMemo memo = new RewriteMemo();
+            final TypeRewriteRule rule = TypeRewriteRule.fail().memoized(memo);
+
+            assertThat(rule.rewrite(Type.STRING, new Typed<>(Type.STRING, "x"))).isEqualTo(Optional.empty());
+            assertThat(rule.rewrite(Type.STRING, new Typed<>(Type.STRING, "x"))).isEqualTo(Optional.empty());
+            assertThat(memo.stats().hits()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("rejects null memo")
+        void rejectsNullMemo() {
+            assertThatThrownBy(() -> TypeRewriteRule.identity().memoized(null))
+                    .isInstanceOf(NullPointerException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Bounds and statistics")
+    class BoundsAndStatistics {
+
+        @Test
+        @DisplayName("evicts when full")
+        void evictsWhenFull() {
+            final RewriteMemo memo = new RewriteMemo(2);
+            final TypeReference type = new TypeReference("item");
+
+            for (int i = 0; i < 5; i++) {
+                memo.memoize(memo, type, i, () -> "v");
+            }
+
+            assertThat(memo.stats().size()).isLessThanOrEqualTo(2);
+            assertThat(memo.stats().evictions()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("reports hit rate")
+        void reportsHitRate() {
+            final RewriteMemo memo = new RewriteMemo();
+            final TypeReference type = new TypeReference("item");
+
+            assertThat(memo.stats().hitRate()).isZero();
+            memo.memoize(memo, type, "a", () -> "A");
+            memo.memoize(memo, type, "a", () -> "A");
+            memo.memoize(memo, type, "a", () -> "A");
+            memo.memoize(memo, type, "b", () -> "B");
+
+            assertThat(memo.stats().hitRate()).isEqualTo(0.5);
+        }
+
+        @Test
+        @DisplayName("does not cache failures")
+        void doesNotCacheFailures() {
+            final RewriteMemo memo = new RewriteMemo();
+            final TypeReference type = new TypeReference("item");
+
+            assertThatThrownBy(() -> memo.memoize(memo, type, "a", () -> {
+                throw new IllegalStateException("boom");
+            })).isInstanceOf(IllegalStateException.class);
+            assertThat(memo.memoize(memo, type, "a", () -> "A")).isEqualTo("A");
+        }
+
+        @Test
+        @DisplayName("rejects non-positive size")
+        void rejectsNonPositiveSize() {
+            assertThatThrownBy(() -> new RewriteMemo(0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
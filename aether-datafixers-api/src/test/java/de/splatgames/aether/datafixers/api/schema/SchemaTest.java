@@ -34,8 +34,16 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -309,6 +317,168 @@ class SchemaTest {
             final TypeRegistry types2 = schema.types();
             assertThat(types2).isSameAs(types1);
         }
+
+        @Test
+        @DisplayName("does not build the parent schema")
+        void doesNotBuildParent() {
+            final AtomicInteger builds = new AtomicInteger();
+            final SlowSchema parent = new SlowSchema(100, null, builds);
+            final SlowSchema child = new SlowSchema(110, parent, builds);
+
+            child.types();
+
+            assertThat(builds).hasValue(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrent initialization")
+    class ConcurrentInitialization {
+
+        @Test
+        @DisplayName("builds types exactly once and publishes them complete")
+        void buildsTypesOnceAndPublishesComplete() throws Exception {
+            final AtomicInteger builds = new AtomicInteger();
+            final Schema schema = new SlowSchema(100, null, builds);
+            final int threads = 16;
+            final CountDownLatch start = new CountDownLatch(1);
+            final ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                final List<Future<TypeRegistry>> results = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        return schema.types();
+                    }));
+                }
+                start.countDown();
+
+                final TypeRegistry first = results.get(0).get(10, TimeUnit.SECONDS);
+                for (final Future<TypeRegistry> result : results) {
+                    final TypeRegistry types = result.get(10, TimeUnit.SECONDS);
+                    assertThat(types).isSameAs(first);
+                    assertThat(types.references()).containsExactlyInAnyOrder(PLAYER, ENTITY, WORLD);
+                }
+                assertThat(builds).hasValue(1);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("builds a parent chain concurrently without deadlock")
+        void buildsParentChainConcurrently() throws Exception {
+            final AtomicInteger builds = new AtomicInteger();
+            final List<Schema> chain = new ArrayList<>();
+            Schema parent = null;
+            for (int version = 1; version <= 20; version++) {
+                parent = new SlowSchema(version, parent, builds);
+                chain.add(parent);
+            }
+            final ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                final List<Future<TypeRegistry>> results = new ArrayList<>();
+                // Newest first, so children regularly wait on parents being built elsewhere
+                for (int i = chain.size() - 1; i >= 0; i--) {
+                    results.add(executor.submit(chain.get(i)::types));
+                }
+                for (final Future<TypeRegistry> result : results) {
+                    assertThat(result.get(10, TimeUnit.SECONDS).has(WORLD)).isTrue();
+                }
+                assertThat(builds).hasValue(chain.size());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("returns the registry being built to re-entrant calls")
+        void returnsBuildingRegistryToReentrantCalls() {
+            final ReentrantSchema schema = new ReentrantSchema(100);
+
+            final TypeRegistry types = schema.types();
+
+            assertThat(schema.seenDuringBuild).isSameAs(types);
+            assertThat(types.has(PLAYER)).isTrue();
+        }
+
+        @Test
+        @DisplayName("retries building after registerTypes() failed")
+        void retriesAfterFailedBuild() {
+            final FailingOnceSchema schema = new FailingOnceSchema(100);
+
+            assertThatThrownBy(schema::types).isInstanceOf(IllegalStateException.class);
+
+            assertThat(schema.types().has(PLAYER)).isTrue();
+        }
+    }
+
+    private static final class SlowSchema extends Schema {
+        private final AtomicInteger builds;
+
+        SlowSchema(int versionId, @Nullable Schema parent, AtomicInteger builds) {
+            super(versionId, parent);
+            this.builds = builds;
+        }
+
+        @NotNull
+        @Override
+        protected TypeRegistry createTypeRegistry() {
+            return new SimpleTypeRegistry();
+        }
+
+        @Override
+        protected void registerTypes() {
+            builds.incrementAndGet();
+            registerType(createType(PLAYER, Type.STRING.codec()));
+            Thread.yield();
+            registerType(createType(ENTITY, Type.INT.codec()));
+            Thread.yield();
+            registerType(createType(WORLD, Type.BOOL.codec()));
+        }
+    }
+
+    private static final class ReentrantSchema extends Schema {
+        private TypeRegistry seenDuringBuild;
+
+        ReentrantSchema(int versionId) {
+            super(versionId, null);
+        }
+
+        @NotNull
+        @Override
+        protected TypeRegistry createTypeRegistry() {
+            return new SimpleTypeRegistry();
+        }
+
+        @Override
+        protected void registerTypes() {
+            registerType(createType(PLAYER, Type.STRING.codec()));
+            seenDuringBuild = types();
+        }
+    }
+
+    private static final class FailingOnceSchema extends Schema {
+        private boolean failed;
+
+        FailingOnceSchema(int versionId) {
+            super(versionId, null);
+        }
+
+        @NotNull
+        @Override
+        protected TypeRegistry createTypeRegistry() {
+            return new SimpleTypeRegistry();
+        }
+
+        @Override
+        protected void registerTypes() {
+            if (!failed) {
+                failed = true;
+                throw new IllegalStateException("boom");
+            }
+            registerType(createType(PLAYER, Type.STRING.codec()));
+        }
     }
 
     @Nested
@@ -346,6 +516,43 @@ class SchemaTest {
         }
     }
 
+    @Nested
+    @DisplayName("structure()")
+    class StructureMethod {
+
+        @Test
+        @DisplayName("unwraps template-based type")
+        void unwrapsTemplateBasedType() {
+            final TemplateRegisteringSchema schema = new TemplateRegisteringSchema(100);
+
+            final Type<?> structure = schema.structure(ENTITY);
+
+            assertThat(structure).isNotSameAs(schema.require(ENTITY));
+            assertThat(structure.children()).isNotEmpty();
+        }
+
+        @Test
+        @DisplayName("returns directly registered type as-is")
+        void returnsDirectlyRegisteredType() {
+            final TypeRegistry registry = new SimpleTypeRegistry();
+            final Type<String> stringType = createType(PLAYER, Type.STRING.codec());
+            registry.register(stringType);
+
+            final Schema schema = new Schema(new DataVersion(100), registry);
+
+            assertThat(schema.structure(PLAYER)).isSameAs(stringType);
+        }
+
+        @Test
+        @DisplayName("throws for unregistered type")
+        void throwsForUnregisteredType() {
+            final Schema schema = new Schema(new DataVersion(100), new SimpleTypeRegistry());
+
+            assertThatThrownBy(() -> schema.structure(PLAYER))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
     @Nested
     @DisplayName("registerType() with Type")
     class RegisterTypeMethod {
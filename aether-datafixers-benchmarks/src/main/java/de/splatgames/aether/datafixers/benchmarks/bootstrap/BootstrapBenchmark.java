@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.benchmarks.bootstrap;
+
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.core.AetherDataFixer;
+import de.splatgames.aether.datafixers.core.bootstrap.DataFixerRuntimeFactory;
+import de.splatgames.aether.datafixers.core.bootstrap.SchemaInitialization;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how long {@link DataFixerRuntimeFactory} takes to bootstrap large schema sets.
+ *
+ * <p>Every invocation creates a fresh bootstrap with {@code schemas} versions, each
+ * registering {@value GeneratedBootstrap#TYPES_PER_SCHEMA} DSL template types, and compares the
+ * {@link SchemaInitialization} modes:</p>
+ * <ul>
+ *   <li>{@link #create} - time until the fixer is returned; {@code LAZY} defers all type
+ *       building, {@code EAGER} and {@code PARALLEL} include it</li>
+ *   <li>{@link #createAndResolveWindow} - as {@link #create}, plus resolving the types of
+ *       the newest {@value #WINDOW} schemas, the work a typical CLI run on recent data
+ *       actually needs</li>
+ * </ul>
+ *
+ * <p>{@code LAZY} should win {@code createAndResolveWindow} by roughly the ratio of
+ * schemas to window size; {@code PARALLEL} should beat {@code EAGER} on multi-core
+ * machines.</p>
+ *
+ * @author Erik Pförtner
+ * @since 0.6.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BootstrapBenchmark {
+
+    private static final int WINDOW = 5;
+
+    @Param({"50", "300"})
+    public int schemas;
+
+    @Param({"LAZY", "EAGER", "PARALLEL"})
+    public SchemaInitialization initialization;
+
+    private DataFixerRuntimeFactory factory;
+    private DataVersion currentVersion;
+
+    @Setup
+    public void setUp() {
+        this.factory = new DataFixerRuntimeFactory(this.initialization);
+        this.currentVersion = new DataVersion(this.schemas);
+    }
+
+    @Benchmark
+    public AetherDataFixer create() {
+        return this.factory.create(this.currentVersion, new GeneratedBootstrap(this.schemas));
+    }
+
+    @Benchmark
+    public void createAndResolveWindow(final Blackhole blackhole) {
+        final GeneratedBootstrap bootstrap = new GeneratedBootstrap(this.schemas);
+        blackhole.consume(this.factory.create(this.currentVersion, bootstrap));
+        for (int version = this.schemas - WINDOW + 1; version <= this.schemas; version++) {
+            blackhole.consume(bootstrap.schemas().require(new DataVersion(version)).types());
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.benchmarks.bootstrap;
+
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.bootstrap.DataFixerBootstrap;
+import de.splatgames.aether.datafixers.api.dsl.DSL;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.fix.DataFix;
+import de.splatgames.aether.datafixers.api.fix.DataFixerContext;
+import de.splatgames.aether.datafixers.api.fix.FixRegistrar;
+import de.splatgames.aether.datafixers.api.schema.Schema;
+import de.splatgames.aether.datafixers.api.schema.SchemaRegistry;
+import de.splatgames.aether.datafixers.api.type.TypeRegistry;
+import de.splatgames.aether.datafixers.core.type.SimpleTypeRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Bootstrap with a linear chain of generated schemas and one fix per version step.
+ *
+ * <p>Every schema registers {@value #TYPES_PER_SCHEMA} DSL template types named
+ * {@code type_0} to {@code type_19}; the fixes all target {@link #FIXED_TYPE}.</p>
+ *
+ * @author Erik Pförtner
+ * @since 0.6.0
+ */
+final class GeneratedBootstrap implements DataFixerBootstrap {
+
+    /**
+     * Number of types each schema registers.
+     */
+    static final int TYPES_PER_SCHEMA = 20;
+
+    /**
+     * The type every generated fix is registered for.
+     */
+    static final TypeReference FIXED_TYPE = new TypeReference("type_0");
+
+    private final int count;
+    private SchemaRegistry schemas;
+
+    GeneratedBootstrap(final int count) {
+        this.count = count;
+    }
+
+    /**
+     * Returns the registry passed to {@link #registerSchemas}.
+     *
+     * @return the schema registry, {@code null} before registration
+     */
+    SchemaRegistry schemas() {
+        return this.schemas;
+    }
+
+    @Override
+    public void registerSchemas(@NotNull final SchemaRegistry schemas) {
+        this.schemas = schemas;
+        Schema parent = null;
+        for (int version = 1; version <= this.count; version++) {
+            parent = new GeneratedSchema(version, parent);
+            schemas.register(parent);
+        }
+    }
+
+    @Override
+    public void registerFixes(@NotNull final FixRegistrar fixes) {
+        for (int version = 1; version < this.count; version++) {
+            fixes.register(FIXED_TYPE, new StepFix(version));
+        }
+    }
+
+    /**
+     * Schema whose types are built lazily from DSL templates, like hand-written schemas.
+     */
+    private static final class GeneratedSchema extends Schema {
+
+        GeneratedSchema(final int versionId, @Nullable final Schema parent) {
+            super(versionId, parent);
+        }
+
+        @NotNull
+        @Override
+        protected TypeRegistry createTypeRegistry() {
+            return new SimpleTypeRegistry();
+        }
+
+        @Override
+        protected void registerTypes() {
+            for (int i = 0; i < TYPES_PER_SCHEMA; i++) {
+                registerType(new TypeReference("type_" + i), DSL.and(
+                        DSL.field("id", DSL.intType()),
+                        DSL.field("name", DSL.string()),
+                        DSL.field("tags", DSL.list(DSL.string())),
+                        DSL.optionalField("version_" + version().getVersion(), DSL.intType()),
+                        DSL.remainder()
+                ));
+            }
+        }
+    }
+
+    /**
+     * Fix from one version to the next that sets a version marker field.
+     */
+    private static final class StepFix implements DataFix<Object> {
+        private final DataVersion from;
+        private final DataVersion to;
+        private final String field;
+
+        StepFix(final int from) {
+            this.from = new DataVersion(from);
+            this.to = new DataVersion(from + 1);
+            this.field = "version_" + (from + 1);
+        }
+
+        @NotNull
+        @Override
+        public String name() {
+            return "step_" + this.from.getVersion();
+        }
+
+        @NotNull
+        @Override
+        public DataVersion fromVersion() {
+            return this.from;
+        }
+
+        @NotNull
+        @Override
+        public DataVersion toVersion() {
+            return this.to;
+        }
+
+        @NotNull
+        @Override
+        public Dynamic<Object> apply(
+                @NotNull final TypeReference type,
+                @NotNull final Dynamic<Object> input,
+                @NotNull final DataFixerContext context
+        ) {
+            return input.set(this.field, input.createInt(this.to.getVersion()));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.benchmarks.bootstrap;
+
+import com.google.gson.JsonObject;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.dynamic.TaggedDynamic;
+import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
+import de.splatgames.aether.datafixers.core.bootstrap.BootstrapSnapshot;
+import de.splatgames.aether.datafixers.core.bootstrap.DataFixerRuntimeFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the startup of a one-document migration with and without a {@link BootstrapSnapshot}.
+ *
+ * <p>Each invocation migrates one document from the second-newest to the newest of
+ * {@code schemas} versions, starting from nothing, the way a short-lived CLI run does:</p>
+ * <ul>
+ *   <li>{@link #withoutSnapshot} - registers the bootstrap, creates the fixer and migrates</li>
+ *   <li>{@link #withSnapshot} - reads the memory-mapped snapshot and only registers the
+ *       bootstrap and migrates if the snapshot says a fix applies</li>
+ * </ul>
+ *
+ * <p>{@code type} selects whether fixes apply: {@code type_0} has one fix per version step,
+ * {@code type_5} has none. For {@code type_5} the snapshot path skips the bootstrap
+ * entirely; for {@code type_0} it shows the overhead of reading the snapshot first.
+ * Class loading only happens in the first invocation of a fork, so the saving from not
+ * loading fix classes in a fresh JVM is not part of these numbers.</p>
+ *
+ * @author Erik Pförtner
+ * @since 0.6.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SnapshotStartupBenchmark {
+
+    @Param({"50", "300"})
+    public int schemas;
+
+    @Param({"type_0", "type_5"})
+    public String type;
+
+    private DataVersion fromVersion;
+    private DataVersion toVersion;
+    private TypeReference typeReference;
+    private TaggedDynamic input;
+    private Path snapshotFile;
+
+    @Setup
+    public void setUp() throws IOException {
+        this.fromVersion = new DataVersion(this.schemas - 1);
+        this.toVersion = new DataVersion(this.schemas);
+        this.typeReference = new TypeReference(this.type);
+
+        this.snapshotFile = Files.createTempFile("bootstrap", ".snapshot");
+        BootstrapSnapshot.capture(GeneratedBootstrap.class.getName(), this.toVersion,
+                new GeneratedBootstrap(this.schemas)).write(this.snapshotFile);
+
+        final JsonObject document = new JsonObject();
+        document.addProperty("id", 7);
+        document.addProperty("name", "Steve");
+        this.input = new TaggedDynamic(this.typeReference, new Dynamic<>(GsonOps.INSTANCE, document));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(this.snapshotFile);
+    }
+
+    @Benchmark
+    public TaggedDynamic withoutSnapshot() {
+        return this.migrate();
+    }
+
+    @Benchmark
+    public TaggedDynamic withSnapshot() throws IOException {
+        final BootstrapSnapshot snapshot = BootstrapSnapshot.read(this.snapshotFile);
+        if (!snapshot.requiresFixes(this.typeReference, this.fromVersion, this.toVersion)) {
+            return this.input;
+        }
+        return this.migrate();
+    }
+
+    private TaggedDynamic migrate() {
+        return new DataFixerRuntimeFactory()
+                .create(this.toVersion, new GeneratedBootstrap(this.schemas))
+                .update(this.input, this.fromVersion, this.toVersion);
+    }
+}
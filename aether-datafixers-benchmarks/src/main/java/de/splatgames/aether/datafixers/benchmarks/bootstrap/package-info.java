@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+/**
+ * Benchmarks for bootstrapping data fixers from large schema sets.
+ *
+ * <p>{@link de.splatgames.aether.datafixers.benchmarks.bootstrap.BootstrapBenchmark}
+ * compares lazy, eager and parallel schema initialization of
+ * {@link de.splatgames.aether.datafixers.core.bootstrap.DataFixerRuntimeFactory}, both
+ * for creating the fixer alone and for creating it and resolving a recent version
+ * window. {@link de.splatgames.aether.datafixers.benchmarks.bootstrap.SnapshotStartupBenchmark}
+ * compares a cold one-document migration with and without a
+ * {@link de.splatgames.aether.datafixers.core.bootstrap.BootstrapSnapshot}.</p>
+ *
+ * @since 0.6.0
+ */
+package de.splatgames.aether.datafixers.benchmarks.bootstrap;
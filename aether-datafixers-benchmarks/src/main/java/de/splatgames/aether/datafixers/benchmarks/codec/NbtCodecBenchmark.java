@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.benchmarks.codec;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.dynamic.DynamicOps;
+import de.splatgames.aether.datafixers.api.fix.DataFix;
+import de.splatgames.aether.datafixers.api.fix.DataFixer;
+import de.splatgames.aether.datafixers.api.fix.DataFixerContext;
+import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
+import de.splatgames.aether.datafixers.codec.nbt.NbtCompression;
+import de.splatgames.aether.datafixers.codec.nbt.NbtOps;
+import de.splatgames.aether.datafixers.codec.nbt.NbtReader;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtWriter;
+import de.splatgames.aether.datafixers.core.fix.DataFixerBuilder;
+import de.splatgames.aether.datafixers.core.fix.SimpleSystemDataFixerContext;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Compares the binary NBT codec against the Gson JSON text path.
+ *
+ * <p>Every format handles the same chunk-like document: {@value #SECTIONS} sections
+ * of {@value #PALETTE_LONGS} packed longs and {@value #LIGHT_INTS} light values,
+ * plus {@value #ENTITIES} small entity compounds. JSON stores the packed data as
+ * number arrays; NBT stores it as long and int array tags.</p>
+ * <ul>
+ *   <li>{@code json} - UTF-8 JSON parsed with {@link JsonParser} and written with
+ *       {@link Gson}, as the CLI does</li>
+ *   <li>{@code nbt-none} - uncompressed NBT via {@link NbtReader} and {@link NbtWriter}</li>
+ *   <li>{@code nbt-gzip} - GZIP-compressed NBT, the common on-disk form</li>
+ * </ul>
+ *
+ * <p>{@link #decode()} and {@link #encode()} isolate the codec;
+ * {@link #roundTrip()} reads, migrates through {@value #FIX_COUNT} fixes and writes
+ * the document again, which is what a bulk file migration pays per file.</p>
+ *
+ * @author Erik Pförtner
+ * @since 0.6.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NbtCodecBenchmark {
+
+    private static final int SECTIONS = 16;
+    private static final int PALETTE_LONGS = 256;
+    private static final int LIGHT_INTS = 64;
+    private static final int ENTITIES = 32;
+    private static final int FIX_COUNT = 3;
+    private static final TypeReference CHUNK = new TypeReference("chunk");
+    private static final DataVersion FROM = new DataVersion(0);
+    private static final DataVersion TO = new DataVersion(FIX_COUNT);
+
+    @Param({"json", "nbt-none", "nbt-gzip"})
+    public String format;
+
+    private Codec<?> codec;
+
+    @Setup
+    public void setUp() throws IOException {
+        switch (this.format) {
+            case "json" -> this.codec = new JsonCodec();
+            case "nbt-none" -> this.codec = new NbtCodec(NbtCompression.NONE);
+            case "nbt-gzip" -> this.codec = new NbtCodec(NbtCompression.GZIP);
+            default -> throw new IllegalArgumentException("Unknown format: " + this.format);
+        }
+        this.codec.prepare();
+    }
+
+    @Benchmark
+    public Object decode() throws IOException {
+        return this.codec.decodeInput();
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return this.codec.encodeDecoded();
+    }
+
+    @Benchmark
+    public byte[] roundTrip() throws IOException {
+        return this.codec.roundTrip();
+    }
+
+    /**
+     * Builds the benchmark document with the given ops, so every format starts from
+     * structurally identical data.
+     */
+    private static <T> T document(@NotNull final DynamicOps<T> ops) {
+        final Map<T, T> chunk = new LinkedHashMap<>();
+        chunk.put(ops.createString("xPos"), ops.createInt(12));
+        chunk.put(ops.createString("zPos"), ops.createInt(-7));
+        chunk.put(ops.createString("status"), ops.createString("full"));
+        chunk.put(ops.createString("sections"), ops.createList(IntStream.range(0, SECTIONS).mapToObj(y -> {
+            final Map<T, T> section = new LinkedHashMap<>();
+            section.put(ops.createString("y"), ops.createByte((byte) y));
+            section.put(ops.createString("states"), ops.createList(LongStream.range(0, PALETTE_LONGS)
+                    .mapToObj(i -> ops.createLong(i * 0x9E3779B97F4A7C15L + y))));
+            section.put(ops.createString("light"), ops.createList(IntStream.range(0, LIGHT_INTS)
+                    .mapToObj(i -> ops.createInt(i * 31 + y))));
+            return ops.createMap(section);
+        })));
+        chunk.put(ops.createString("entities"), ops.createList(IntStream.range(0, ENTITIES).mapToObj(i -> {
+            final Map<T, T> entity = new LinkedHashMap<>();
+            entity.put(ops.createString("id"), ops.createString("minecraft:zombie"));
+            entity.put(ops.createString("health"), ops.createFloat(20.0f - i % 5));
+            entity.put(ops.createString("pos"), ops.createList(Stream.of(
+                    ops.createDouble(i * 1.5), ops.createDouble(64.0), ops.createDouble(-i * 0.25))));
+            return ops.createMap(entity);
+        })));
+        return ops.createMap(chunk);
+    }
+
+    /**
+     * One format's read and write path together with a fixer for its value type.
+     *
+     * @param <T> the value type of the format's ops
+     */
+    private abstract static class Codec<T> {
+
+        private final DynamicOps<T> ops;
+        private DataFixer fixer;
+        private byte[] input;
+        private T decoded;
+
+        Codec(@NotNull final DynamicOps<T> ops) {
+            this.ops = ops;
+        }
+
+        abstract T read(byte[] bytes) throws IOException;
+
+        abstract byte[] write(T value) throws IOException;
+
+        final void prepare() throws IOException {
+            final DataFixerBuilder builder = new DataFixerBuilder(TO)
+                    .withDefaultContext(SimpleSystemDataFixerContext.INSTANCE);
+            for (int i = 0; i < FIX_COUNT; i++) {
+                builder.addFix(CHUNK, new FlagFix<T>("fix" + i, i));
+            }
+            this.fixer = builder.build();
+            this.input = write(document(this.ops));
+            this.decoded = read(this.input);
+        }
+
+        final T decodeInput() throws IOException {
+            return read(this.input);
+        }
+
+        final byte[] encodeDecoded() throws IOException {
+            return write(this.decoded);
+        }
+
+        final byte[] roundTrip() throws IOException {
+            final Dynamic<T> migrated = this.fixer.update(CHUNK,
+                    new Dynamic<>(this.ops, read(this.input)), FROM, TO);
+            return write(migrated.value());
+        }
+    }
+
+    /**
+     * Gson text path, matching the CLI's {@code json-gson} handler.
+     */
+    private static final class JsonCodec extends Codec<JsonElement> {
+
+        private static final Gson GSON = new Gson();
+
+        JsonCodec() {
+            super(GsonOps.INSTANCE);
+        }
+
+        @Override
+        JsonElement read(final byte[] bytes) {
+            return JsonParser.parseString(new String(bytes, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        byte[] write(final JsonElement value) {
+            return GSON.toJson(value).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Streaming NBT path with a fixed compression.
+     */
+    private static final class NbtCodec extends Codec<NbtTag> {
+
+        private final NbtCompression compression;
+
+        NbtCodec(@NotNull final NbtCompression compression) {
+            super(NbtOps.INSTANCE);
+            this.compression = compression;
+        }
+
+        @Override
+        NbtTag read(final byte[] bytes) throws IOException {
+            try (NbtReader reader = NbtReader.open(new ByteArrayInputStream(bytes), this.compression)) {
+                return reader.read();
+            }
+        }
+
+        @Override
+        byte[] write(final NbtTag value) throws IOException {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (NbtWriter writer = NbtWriter.open(out, this.compression)) {
+                writer.write(value);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * Fix that renames {@code status} and sets a boolean flag named after the fix.
+     *
+     * @param <T> the value type the fix is applied to
+     */
+    private static final class FlagFix<T> implements DataFix<T> {
+
+        private final String name;
+        private final int from;
+
+        private FlagFix(@NotNull final String name, final int from) {
+            this.name = name;
+            this.from = from;
+        }
+
+        @Override
+        public @NotNull String name() {
+            return this.name;
+        }
+
+        @Override
+        public @NotNull DataVersion fromVersion() {
+            return new DataVersion(this.from);
+        }
+
+        @Override
+        public @NotNull DataVersion toVersion() {
+            return new DataVersion(this.from + 1);
+        }
+
+        @Override
+        public @NotNull Dynamic<T> apply(
+                @NotNull final TypeReference type,
+                @NotNull final Dynamic<T> input,
+                @NotNull final DataFixerContext context
+        ) {
+            final String status = this.from == 0 ? "status" : "status" + this.from;
+            return input.rename(status, "status" + (this.from + 1))
+                    .set(this.name, input.createBoolean(true));
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.benchmarks.observation;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.fix.DataFix;
+import de.splatgames.aether.datafixers.api.fix.DataFixer;
+import de.splatgames.aether.datafixers.api.fix.DataFixerContext;
+import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
+import de.splatgames.aether.datafixers.core.fix.DataFixerBuilder;
+import de.splatgames.aether.datafixers.core.fix.SimpleSystemDataFixerContext;
+import de.splatgames.aether.datafixers.spring.observation.MigrationObservations;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of observing migrations with Micrometer.
+ *
+ * <p>Every mode migrates the same small document through {@value #FIX_COUNT} fixes:</p>
+ * <ul>
+ *   <li>{@code none} - plain {@link DataFixer#update}, the baseline</li>
+ *   <li>{@code noop} - wrapped in {@link MigrationObservations} over
+ *       {@link ObservationRegistry#NOOP}, the cost when observability is disabled</li>
+ *   <li>{@code handler} - a registry with a single no-op handler, the cost of
+ *       creating and stopping the migration observation</li>
+ *   <li>{@code handler-fixes} - as {@code handler}, plus one child observation per fix</li>
+ * </ul>
+ *
+ * <p>{@code noop} is expected to stay within noise of {@code none}.</p>
+ *
+ * @author Erik Pförtner
+ * @since 0.6.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MigrationObservationBenchmark {
+
+    private static final int FIX_COUNT = 5;
+    private static final String DOMAIN = "benchmark";
+    private static final TypeReference PLAYER = new TypeReference("player");
+    private static final DataVersion FROM = new DataVersion(0);
+    private static final DataVersion TO = new DataVersion(FIX_COUNT);
+
+    @Param({"none", "noop", "handler", "handler-fixes"})
+    public String mode;
+
+    private DataFixer fixer;
+    private MigrationObservations observations;
+    private Dynamic<JsonElement> input;
+
+    @Setup
+    public void setUp() {
+        final ObservationRegistry registry;
+        switch (this.mode) {
+            case "none", "noop" -> registry = ObservationRegistry.NOOP;
+            case "handler", "handler-fixes" -> {
+                registry = ObservationRegistry.create();
+                registry.observationConfig().observationHandler(new NoopHandler());
+            }
+            default -> throw new IllegalArgumentException("Unknown mode: " + this.mode);
+        }
+        this.observations = "none".equals(this.mode) ? null : new MigrationObservations(registry);
+
+        final DataFixerBuilder builder = new DataFixerBuilder(TO)
+                .withDefaultContext(SimpleSystemDataFixerContext.INSTANCE);
+        if ("handler-fixes".equals(this.mode)) {
+            builder.withMigrationListener(this.observations.fixListener(DOMAIN));
+        }
+        for (int i = 0; i < FIX_COUNT; i++) {
+            builder.addFix(PLAYER, new FlagFix("fix" + i, i));
+        }
+        this.fixer = builder.build();
+
+        final JsonObject player = new JsonObject();
+        player.addProperty("name", "Steve");
+        player.addProperty("level", 42);
+        this.input = new Dynamic<>(GsonOps.INSTANCE, player);
+    }
+
+    @Benchmark
+    public Dynamic<JsonElement> migrate() {
+        if (this.observations == null) {
+            return this.fixer.update(PLAYER, this.input, FROM, TO);
+        }
+        return this.observations.observe(DOMAIN, PLAYER, FROM, TO,
+                () -> this.fixer.update(PLAYER, this.input, FROM, TO));
+    }
+
+    /**
+     * Handler that accepts every context without doing any work, so the measured
+     * cost is the observation lifecycle itself.
+     */
+    private static final class NoopHandler implements ObservationHandler<Observation.Context> {
+
+        @Override
+        public boolean supportsContext(@NotNull final Observation.Context context) {
+            return true;
+        }
+    }
+
+    /**
+     * Fix that sets a boolean flag named after the fix.
+     */
+    private static final class FlagFix implements DataFix<JsonElement> {
+
+        private final String name;
+        private final int from;
+
+        private FlagFix(@NotNull final String name, final int from) {
+            this.name = name;
+            this.from = from;
+        }
+
+        @Override
+        public @NotNull String name() {
+            return this.name;
+        }
+
+        @Override
+        public @NotNull DataVersion fromVersion() {
+            return new DataVersion(this.from);
+        }
+
+        @Override
+        public @NotNull DataVersion toVersion() {
+            return new DataVersion(this.from + 1);
+        }
+
+        @Override
+        public @NotNull Dynamic<JsonElement> apply(
+                @NotNull final TypeReference type,
+                @NotNull final Dynamic<JsonElement> input,
+                @NotNull final DataFixerContext context
+        ) {
+            return input.set(this.name, input.createBoolean(true));
+        }
+    }
+}
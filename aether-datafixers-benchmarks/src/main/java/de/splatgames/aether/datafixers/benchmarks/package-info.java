@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+/**
+ * JMH micro-benchmarks for the Aether Datafixers library.
+ *
+ * <p>Benchmarks are grouped by the feature they measure; each sub-package is
+ * self-contained and builds its own fixers so results do not depend on example
+ * bootstraps. Run all benchmarks with the shaded jar produced by
+ * {@code mvn -pl aether-datafixers-benchmarks -am package}:</p>
+ * <pre>{@code
+ * java -jar aether-datafixers-benchmarks/target/benchmarks.jar
+ * }</pre>
+ *
+ * <h2>Sub-packages</h2>
+ * <ul>
+ *   <li>{@link de.splatgames.aether.datafixers.benchmarks.bootstrap} -
+ *       Startup time of schema initialization modes and bootstrap snapshots</li>
+ *   <li>{@link de.splatgames.aether.datafixers.benchmarks.codec} -
+ *       Binary NBT encoding compared with the JSON text path</li>
+ *   <li>{@link de.splatgames.aether.datafixers.benchmarks.observation} -
+ *       Overhead of Micrometer observations around migrations</li>
+ * </ul>
+ *
+ * @since 0.6.0
+ */
+package de.splatgames.aether.datafixers.benchmarks;
@@ -22,8 +22,12 @@
 
 package de.splatgames.aether.datafixers.cli;
 
+import de.splatgames.aether.datafixers.cli.command.BenchCommand;
 import de.splatgames.aether.datafixers.cli.command.InfoCommand;
 import de.splatgames.aether.datafixers.cli.command.MigrateCommand;
+import de.splatgames.aether.datafixers.cli.command.ProfileCommand;
+import de.splatgames.aether.datafixers.cli.command.ServeCommand;
+import de.splatgames.aether.datafixers.cli.command.SnapshotCommand;
 import de.splatgames.aether.datafixers.cli.command.ValidateCommand;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
@@ -65,6 +69,10 @@ import java.util.concurrent.Callable;
                 MigrateCommand.class,
                 ValidateCommand.class,
                 InfoCommand.class,
+                ProfileCommand.class,
+                BenchCommand.class,
+                SnapshotCommand.class,
+                ServeCommand.class,
                 HelpCommand.class
         },
         synopsisHeading = "%nUsage:%n%n",
@@ -86,7 +94,8 @@ public class AetherCli implements Callable<Integer> {
      * <ul>
      *   <li>{@code 0} - Success (or help displayed)</li>
      *   <li>{@code 1} - Error occurred during command execution</li>
-     *   <li>{@code 2} - Validation found files needing migration (validate command only)</li>
+     *   <li>{@code 2} - Validation found files needing migration (validate command), or a
+     *       benchmark regressed against its baseline (bench command)</li>
      * </ul>
      *
      * <h4>Configuration</h4>
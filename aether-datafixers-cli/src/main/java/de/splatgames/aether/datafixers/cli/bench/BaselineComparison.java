@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.cli.bench;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Outcome of comparing a benchmark run against a {@link BenchmarkBaseline}.
+ *
+ * <p>A run regresses if its throughput dropped, or its p99 latency rose, by more than
+ * {@code thresholdPercent}. Improvements never count as regressions.</p>
+ *
+ * @param baseline                the baseline compared against
+ * @param throughputChangePercent the throughput change in percent; negative is slower
+ * @param p99ChangePercent        the p99 latency change in percent; positive is slower
+ * @param thresholdPercent        the tolerated degradation in percent
+ * @author Erik Pförtner
+ * @since 0.6.0
+ */
+public record BaselineComparison(
+        @NotNull BenchmarkBaseline baseline,
+        double throughputChangePercent,
+        double p99ChangePercent,
+        double thresholdPercent
+) {
+
+    /**
+     * Compact constructor that validates the components.
+     */
+    public BaselineComparison {
+        Preconditions.checkNotNull(baseline, "baseline must not be null");
+    }
+
+    /**
+     * Returns whether throughput or p99 latency degraded beyond the threshold.
+     *
+     * @return {@code true} if the run regressed
+     */
+    public boolean regressed() {
+        return -this.throughputChangePercent > this.thresholdPercent
+                || this.p99ChangePercent > this.thresholdPercent;
+    }
+}
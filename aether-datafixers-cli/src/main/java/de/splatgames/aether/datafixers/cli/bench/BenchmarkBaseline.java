@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.cli.bench;
+
+import com.google.common.base.Preconditions;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Reference figures a benchmark run is compared against.
+ *
+ * <p>A baseline is read from the JSON report of an earlier run, typically the last
+ * release, so that saving a baseline is just
+ * {@code aether-cli bench ... --report-format json --report-file baseline.json}.
+ * Only {@code throughput} and {@code latency.p99Ms} are read.</p>
+ *
+ * @param throughput the baseline migrations per second
+ * @param p99Latency the baseline 99th percentile latency
+ * @author Erik Pförtner
+ * @see BaselineComparison
+ * @since 0.6.0
+ */
+public record BenchmarkBaseline(double throughput, @NotNull Duration p99Latency) {
+
+    /**
+     * Compact constructor that validates the components.
+     */
+    public BenchmarkBaseline {
+        Preconditions.checkNotNull(p99Latency, "p99Latency must not be null");
+    }
+
+    /**
+     * Reads a baseline from the JSON report of an earlier benchmark run.
+     *
+     * @param json the JSON report, must not be {@code null}
+     * @return the baseline, never {@code null}
+     * @throws NullPointerException     if {@code json} is {@code null}
+     * @throws IllegalArgumentException if the JSON is not a benchmark report
+     */
+    @NotNull
+    public static BenchmarkBaseline parse(@NotNull final String json) {
+        Preconditions.checkNotNull(json, "json must not be null");
+        try {
+            final JsonElement root = JsonParser.parseString(json);
+            Preconditions.checkArgument(root.isJsonObject(), "Baseline must be a JSON object");
+            final JsonObject report = root.getAsJsonObject();
+            Preconditions.checkArgument(report.has("throughput") && report.has("latency"),
+                    "Baseline is not a benchmark report: missing throughput or latency");
+            final double p99Millis = report.getAsJsonObject("latency").get("p99Ms").getAsDouble();
+            return new BenchmarkBaseline(
+                    report.get("throughput").getAsDouble(),
+                    Duration.ofNanos(Math.round(p99Millis * 1_000_000.0)));
+        } catch (final JsonParseException | IllegalStateException | NullPointerException e) {
+            throw new IllegalArgumentException("Invalid baseline: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Compares a benchmark run against this baseline.
+     *
+     * @param report           the current run, must not be {@code null}
+     * @param thresholdPercent the tolerated degradation in percent, must not be negative
+     * @return the comparison, never {@code null}
+     * @throws NullPointerException     if {@code report} is {@code null}
+     * @throws IllegalArgumentException if {@code thresholdPercent} is negative
+     */
+    @NotNull
+    public BaselineComparison compare(@NotNull final BenchmarkReport report, final double thresholdPercent) {
+        Preconditions.checkNotNull(report, "report must not be null");
+        Preconditions.checkArgument(thresholdPercent >= 0, "thresholdPercent must not be negative");
+        return new BaselineComparison(
+                this,
+                change(this.throughput, report.throughput()),
+                change(this.p99Latency.toNanos(), report.p99Latency().toNanos()),
+                thresholdPercent);
+    }
+
+    /**
+     * Computes the relative change from a baseline value.
+     *
+     * @param baseline the baseline value
+     * @param current  the current value
+     * @return the change in percent, {@code 0} if the baseline is zero
+     */
+    private static double change(final double baseline, final double current) {
+        return baseline == 0 ? 0.0 : (current - baseline) * 100.0 / baseline;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.cli.bench;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Result of a throughput benchmark run by the {@code bench} command.
+ *
+ * <p>Rendered by
+ * {@link de.splatgames.aether.datafixers.cli.report.ReportFormatter#formatBenchmark(BenchmarkReport)}.
+ * The JSON rendering of a report doubles as the baseline for later runs, see
+ * {@link BenchmarkBaseline#parse(String)}.</p>
+ *
+ * @param type             the type reference ID
+ * @param fromVersion      the lowest source version among the documents
+ * @param toVersion        the target version
+ * @param source           where the documents came from: {@code "synthetic"} or {@code "files"}
+ * @param documents        the number of documents migrated per iteration
+ * @param threads          the number of migrating threads
+ * @param warmupIterations the number of discarded warmup iterations
+ * @param iterations       the number of measured iterations
+ * @param measurement      wall time and latency distribution of the measured iterations
+ * @param comparison       the comparison against a baseline, or {@code null} if none was given
+ * @author Erik Pförtner
+ * @see BenchmarkRunner
+ * @since 0.6.0
+ */
+public record BenchmarkReport(
+        @NotNull String type,
+        int fromVersion,
+        int toVersion,
+        @NotNull String source,
+        int documents,
+        int threads,
+        int warmupIterations,
+        int iterations,
+        @NotNull BenchmarkRunner.Measurement measurement,
+        @Nullable BaselineComparison comparison
+) {
+
+    /**
+     * Compact constructor that validates the components.
+     */
+    public BenchmarkReport {
+        Preconditions.checkNotNull(type, "type must not be null");
+        Preconditions.checkNotNull(source, "source must not be null");
+        Preconditions.checkNotNull(measurement, "measurement must not be null");
+    }
+
+    /**
+     * Returns the measured throughput.
+     *
+     * @return migrations per second across all threads, or {@code 0} if nothing was measured
+     */
+    public double throughput() {
+        final long nanos = this.measurement.wallTime().toNanos();
+        return nanos == 0 ? 0.0 : this.measurement.migrations() * 1_000_000_000.0 / nanos;
+    }
+
+    /**
+     * Returns whether the comparison against the baseline detected a regression.
+     *
+     * @return {@code true} if a baseline was given and this run regressed against it
+     */
+    public boolean regressed() {
+        return this.comparison != null && this.comparison.regressed();
+    }
+
+    /**
+     * Returns a copy of this report with the given baseline comparison.
+     *
+     * @param comparison the comparison, must not be {@code null}
+     * @return a new report, never {@code null}
+     */
+    @NotNull
+    public BenchmarkReport withComparison(@NotNull final BaselineComparison comparison) {
+        Preconditions.checkNotNull(comparison, "comparison must not be null");
+        return new BenchmarkReport(this.type, this.fromVersion, this.toVersion, this.source, this.documents,
+                this.threads, this.warmupIterations, this.iterations, this.measurement, comparison);
+    }
+
+    /**
+     * Returns the 99th percentile latency of a single migration.
+     *
+     * @return the p99 latency, never {@code null}
+     */
+    @NotNull
+    public Duration p99Latency() {
+        return this.measurement.p99();
+    }
+}
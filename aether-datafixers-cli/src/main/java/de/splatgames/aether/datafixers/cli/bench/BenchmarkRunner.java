@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.cli.bench;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.dynamic.TaggedDynamic;
+import de.splatgames.aether.datafixers.core.AetherDataFixer;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs warmup and measured migration passes over a fixed document set on several threads.
+ *
+ * <p>The documents are split round-robin into one slice per thread. Every iteration,
+ * each thread migrates its whole slice and records the latency of each migration.
+ * Wall time spans all measured iterations of all threads, so throughput reflects
+ * contention between threads.</p>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * BenchmarkRunner runner = new BenchmarkRunner(fixer, new DataVersion(200), 4);
+ * BenchmarkRunner.Measurement measurement = runner.run(samples, 3, 10);
+ * System.out.println(measurement.p99());
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>A runner may be reused, but not for concurrent runs. The fixer must be thread-safe,
+ * which {@link AetherDataFixer} is.</p>
+ *
+ * @author Erik Pförtner
+ * @see BenchmarkReport
+ * @since 0.6.0
+ */
+public final class BenchmarkRunner {
+
+    private final AetherDataFixer fixer;
+    private final DataVersion targetVersion;
+    private final int threads;
+
+    /**
+     * Creates a new runner.
+     *
+     * @param fixer         the fixer to benchmark, must not be {@code null}
+     * @param targetVersion the version to migrate to, must not be {@code null}
+     * @param threads       the number of migrating threads, must be positive
+     * @throws NullPointerException     if {@code fixer} or {@code targetVersion} is {@code null}
+     * @throws IllegalArgumentException if {@code threads} is not positive
+     */
+    public BenchmarkRunner(
+            @NotNull final AetherDataFixer fixer,
+            @NotNull final DataVersion targetVersion,
+            final int threads
+    ) {
+        Preconditions.checkNotNull(fixer, "fixer must not be null");
+        Preconditions.checkNotNull(targetVersion, "targetVersion must not be null");
+        Preconditions.checkArgument(threads > 0, "threads must be positive");
+        this.fixer = fixer;
+        this.targetVersion = targetVersion;
+        this.threads = threads;
+    }
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param samples          the documents to migrate, must not be {@code null} or empty
+     * @param warmupIterations the number of discarded passes, must not be negative
+     * @param iterations       the number of measured passes, must be positive
+     * @return the measurement, never {@code null}
+     * @throws NullPointerException     if {@code samples} is {@code null}
+     * @throws IllegalArgumentException if an argument is out of range
+     * @throws IllegalStateException    if a migration fails
+     * @throws InterruptedException     if interrupted while waiting for the threads
+     */
+    @NotNull
+    public Measurement run(
+            @NotNull final List<Sample> samples,
+            final int warmupIterations,
+            final int iterations
+    ) throws InterruptedException {
+        Preconditions.checkNotNull(samples, "samples must not be null");
+        Preconditions.checkArgument(!samples.isEmpty(), "samples must not be empty");
+        Preconditions.checkArgument(warmupIterations >= 0, "warmupIterations must not be negative");
+        Preconditions.checkArgument(iterations > 0, "iterations must be positive");
+
+        final int workers = Math.min(this.threads, samples.size());
+        final List<List<Sample>> slices = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            slices.add(new ArrayList<>());
+        }
+        for (int i = 0; i < samples.size(); i++) {
+            slices.get(i % workers).add(samples.get(i));
+        }
+
+        final AtomicInteger threadIds = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(workers, runnable -> {
+            final Thread thread = new Thread(runnable, "aether-bench-" + threadIds.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            if (warmupIterations > 0) {
+                this.runSlices(executor, slices, warmupIterations);
+            }
+            final long start = System.nanoTime();
+            final List<long[]> latencies = this.runSlices(executor, slices, iterations);
+            final long wallNanos = System.nanoTime() - start;
+            return Measurement.of(Duration.ofNanos(wallNanos), latencies);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Migrates every slice on its own thread and waits for all of them.
+     *
+     * @param executor   the executor with one thread per slice
+     * @param slices     the document slices
+     * @param iterations the number of passes per slice
+     * @return the per-migration latencies in nanoseconds, one array per slice
+     * @throws InterruptedException if interrupted while waiting
+     */
+    @NotNull
+    private List<long[]> runSlices(
+            @NotNull final ExecutorService executor,
+            @NotNull final List<List<Sample>> slices,
+            final int iterations
+    ) throws InterruptedException {
+        final List<Future<long[]>> futures = new ArrayList<>(slices.size());
+        for (final List<Sample> slice : slices) {
+            futures.add(executor.submit(this.migrateTask(slice, iterations)));
+        }
+        final List<long[]> results = new ArrayList<>(futures.size());
+        try {
+            for (final Future<long[]> future : futures) {
+                results.add(future.get());
+            }
+        } catch (final ExecutionException e) {
+            futures.forEach(future -> future.cancel(true));
+            final Throwable cause = e.getCause();
+            throw new IllegalStateException("Migration failed: " + cause.getMessage(), cause);
+        }
+        return results;
+    }
+
+    /**
+     * Creates the task that migrates one slice.
+     *
+     * @param slice      the documents of the slice
+     * @param iterations the number of passes
+     * @return the task returning the latencies in nanoseconds
+     */
+    @NotNull
+    private Callable<long[]> migrateTask(@NotNull final List<Sample> slice, final int iterations) {
+        return () -> {
+            final long[] latencies = new long[slice.size() * iterations];
+            int index = 0;
+            for (int i = 0; i < iterations; i++) {
+                for (final Sample sample : slice) {
+                    final long start = System.nanoTime();
+                    this.fixer.update(sample.input(), sample.version(), this.targetVersion);
+                    latencies[index++] = System.nanoTime() - start;
+                }
+            }
+            return latencies;
+        };
+    }
+
+    /**
+     * A document to migrate.
+     *
+     * @param input   the tagged input data
+     * @param version the source version of the data
+     * @author Erik Pförtner
+     * @since 0.6.0
+     */
+    public record Sample(@NotNull TaggedDynamic input, @NotNull DataVersion version) {
+
+        /**
+         * Compact constructor that validates the components.
+         */
+        public Sample {
+            Preconditions.checkNotNull(input, "input must not be null");
+            Preconditions.checkNotNull(version, "version must not be null");
+        }
+    }
+
+    /**
+     * Wall time and latency distribution of the measured iterations.
+     *
+     * <p>Percentiles use the nearest-rank method over every recorded migration.</p>
+     *
+     * @param migrations the number of measured migrations
+     * @param wallTime   the wall time of all measured iterations
+     * @param mean       the mean latency
+     * @param p50        the median latency
+     * @param p90        the 90th percentile latency
+     * @param p99        the 99th percentile latency
+     * @param max        the maximum latency
+     * @author Erik Pförtner
+     * @since 0.6.0
+     */
+    public record Measurement(
+            long migrations,
+            @NotNull Duration wallTime,
+            @NotNull Duration mean,
+            @NotNull Duration p50,
+            @NotNull Duration p90,
+            @NotNull Duration p99,
+            @NotNull Duration max
+    ) {
+
+        /**
+         * Compact constructor that validates the components.
+         */
+        public Measurement {
+            Preconditions.checkNotNull(wallTime, "wallTime must not be null");
+            Preconditions.checkNotNull(mean, "mean must not be null");
+            Preconditions.checkNotNull(p50, "p50 must not be null");
+            Preconditions.checkNotNull(p90, "p90 must not be null");
+            Preconditions.checkNotNull(p99, "p99 must not be null");
+            Preconditions.checkNotNull(max, "max must not be null");
+        }
+
+        /**
+         * Builds a measurement from recorded latencies.
+         *
+         * @param wallTime  the wall time, must not be {@code null}
+         * @param latencies the latencies in nanoseconds, one array per thread, must not be {@code null}
+         * @return the measurement, never {@code null}
+         */
+        @NotNull
+        static Measurement of(@NotNull final Duration wallTime, @NotNull final List<long[]> latencies) {
+            final long[] all = latencies.stream().flatMapToLong(Arrays::stream).sorted().toArray();
+            if (all.length == 0) {
+                return new Measurement(0, wallTime, Duration.ZERO, Duration.ZERO, Duration.ZERO,
+                        Duration.ZERO, Duration.ZERO);
+            }
+            final long sum = Arrays.stream(all).sum();
+            return new Measurement(
+                    all.length,
+                    wallTime,
+                    Duration.ofNanos(sum / all.length),
+                    Duration.ofNanos(percentile(all, 50)),
+                    Duration.ofNanos(percentile(all, 90)),
+                    Duration.ofNanos(percentile(all, 99)),
+                    Duration.ofNanos(all[all.length - 1]));
+        }
+
+        /**
+         * Returns the nearest-rank percentile of sorted values.
+         *
+         * @param sorted     the sorted values, not empty
+         * @param percentile the percentile between 0 and 100
+         * @return the value at the percentile
+         */
+        private static long percentile(final long[] sorted, final int percentile) {
+            final int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(0, rank - 1)];
+        }
+    }
+}
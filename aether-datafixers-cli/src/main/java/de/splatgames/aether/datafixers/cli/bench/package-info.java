@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+/**
+ * Throughput benchmarking for the {@code bench} command.
+ *
+ * <p>This package measures how many migrations per second a bootstrap sustains on
+ * real sample files or on synthetic documents, and compares the result against a
+ * baseline from an earlier run.</p>
+ *
+ * <h2>Key Classes</h2>
+ * <ul>
+ *   <li>{@link de.splatgames.aether.datafixers.cli.bench.BenchmarkRunner}
+ *       - Multi-threaded warmup and measurement loop</li>
+ *   <li>{@link de.splatgames.aether.datafixers.cli.bench.BenchmarkReport}
+ *       - Throughput and latency percentiles of a run</li>
+ *   <li>{@link de.splatgames.aether.datafixers.cli.bench.BenchmarkBaseline}
+ *       - Reference figures read from an earlier JSON report</li>
+ *   <li>{@link de.splatgames.aether.datafixers.cli.bench.BaselineComparison}
+ *       - Regression check against a baseline</li>
+ * </ul>
+ *
+ * @see de.splatgames.aether.datafixers.cli.command.BenchCommand
+ * @since 0.6.0
+ */
+package de.splatgames.aether.datafixers.cli.bench;
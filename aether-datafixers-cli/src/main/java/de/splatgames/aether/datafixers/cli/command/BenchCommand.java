@@ -0,0 +1,488 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.cli.command;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.bootstrap.DataFixerBootstrap;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.dynamic.TaggedDynamic;
+import de.splatgames.aether.datafixers.api.schema.Schema;
+import de.splatgames.aether.datafixers.cli.bench.BenchmarkBaseline;
+import de.splatgames.aether.datafixers.cli.bench.BenchmarkReport;
+import de.splatgames.aether.datafixers.cli.bench.BenchmarkRunner;
+import de.splatgames.aether.datafixers.cli.bootstrap.BootstrapLoader;
+import de.splatgames.aether.datafixers.cli.format.FormatHandler;
+import de.splatgames.aether.datafixers.cli.format.FormatRegistry;
+import de.splatgames.aether.datafixers.cli.report.ReportFormatter;
+import de.splatgames.aether.datafixers.cli.util.VersionExtractor;
+import de.splatgames.aether.datafixers.core.AetherDataFixer;
+import de.splatgames.aether.datafixers.core.bootstrap.DataFixerRuntimeFactory;
+import de.splatgames.aether.datafixers.core.schema.SimpleSchemaRegistry;
+import de.splatgames.aether.datafixers.core.generation.SampleDataGenerator;
+import org.jetbrains.annotations.NotNull;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.Parameters;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * CLI command that measures migration throughput on synthetic or real data.
+ *
+ * <p>The bench command migrates a document set repeatedly on one or more threads and
+ * reports throughput and latency percentiles. Documents are either read from sample
+ * files or generated from the schema type with {@link SampleDataGenerator}. Output is
+ * never written.</p>
+ *
+ * <h2>Usage Examples</h2>
+ * <pre>{@code
+ * # Benchmark on real sample files with 4 threads
+ * aether-cli bench --to 200 --type player --threads 4 \
+ *     --bootstrap com.example.MyBootstrap samples/*.json
+ *
+ * # Benchmark on 5000 synthetic documents generated from the v100 schema
+ * aether-cli bench --from 100 --to 200 --type player --synthetic 5000 \
+ *     --bootstrap com.example.MyBootstrap
+ *
+ * # Save a baseline, then fail if a later run is more than 10% slower
+ * aether-cli bench ... --report-format json --report-file baseline.json
+ * aether-cli bench ... --baseline baseline.json --threshold 10
+ * }</pre>
+ *
+ * <h2>Exit Codes</h2>
+ * <ul>
+ *   <li>{@code 0} - The benchmark completed and did not regress</li>
+ *   <li>{@code 1} - An error occurred</li>
+ *   <li>{@code 2} - Throughput or p99 latency regressed beyond {@link #thresholdPercent}</li>
+ * </ul>
+ *
+ * @author Erik Pförtner
+ * @see de.splatgames.aether.datafixers.cli.AetherCli
+ * @see BenchmarkRunner
+ * @see BenchmarkBaseline
+ * @since 0.6.0
+ */
+@Command(
+        name = "bench",
+        description = "Measure migration throughput on synthetic or real data.",
+        mixinStandardHelpOptions = true
+)
+public class BenchCommand implements Callable<Integer> {
+
+    /**
+     * Source description used in the report for generated documents.
+     */
+    private static final String SOURCE_SYNTHETIC = "synthetic";
+
+    /**
+     * Source description used in the report for sample files.
+     */
+    private static final String SOURCE_FILES = "files";
+
+    /**
+     * List of sample files to benchmark on.
+     *
+     * <p>Mutually exclusive with {@link #syntheticDocuments}. Files are only read.</p>
+     *
+     * <p>CLI usage: positional arguments after all options</p>
+     */
+    @Parameters(
+            index = "0..*",
+            description = "Sample file(s) to migrate.",
+            arity = "0..*"
+    )
+    private List<File> inputFiles;
+
+    /**
+     * Type reference identifier for the data being benchmarked.
+     *
+     * <p>This is a required option.</p>
+     *
+     * <p>CLI usage: {@code -t <type>} or {@code --type <type>}</p>
+     *
+     * @see TypeReference
+     */
+    @Option(
+            names = {"-t", "--type"},
+            description = "Type reference ID (e.g., 'player', 'world').",
+            required = true
+    )
+    private String typeId;
+
+    /**
+     * Source data version.
+     *
+     * <p>Required for synthetic documents, which are generated from the schema of this
+     * version. For sample files it overrides the version stored in the files.</p>
+     *
+     * <p>CLI usage: {@code --from <version>}</p>
+     */
+    @Option(
+            names = {"--from"},
+            description = "Source version (required with --synthetic, auto-detected for files)."
+    )
+    private Integer fromVersion;
+
+    /**
+     * Target data version to migrate to.
+     *
+     * <p>This is a required option.</p>
+     *
+     * <p>CLI usage: {@code --to <version>}</p>
+     */
+    @Option(
+            names = {"--to"},
+            description = "Target version.",
+            required = true
+    )
+    private int toVersion;
+
+    /**
+     * Field path for extracting the data version from sample files.
+     *
+     * <p>Default value: "dataVersion"</p>
+     *
+     * <p>CLI usage: {@code --version-field <path>}</p>
+     */
+    @Option(
+            names = {"--version-field"},
+            description = "JSON field containing data version.",
+            defaultValue = "dataVersion"
+    )
+    private String versionField;
+
+    /**
+     * Serialization format used to parse files and to build synthetic documents.
+     *
+     * <p>CLI usage: {@code --format <format-id>}</p>
+     *
+     * @see FormatRegistry
+     */
+    @Option(
+            names = {"--format"},
+            description = "Data format (default: json-gson).",
+            defaultValue = "json-gson"
+    )
+    private String format;
+
+    /**
+     * Fully qualified class name of the {@link DataFixerBootstrap} implementation.
+     *
+     * <p>This is a required option.</p>
+     *
+     * <p>CLI usage: {@code --bootstrap <fully.qualified.ClassName>}</p>
+     */
+    @Option(
+            names = {"--bootstrap"},
+            description = "Fully qualified class name of DataFixerBootstrap implementation.",
+            required = true
+    )
+    private String bootstrapClass;
+
+    /**
+     * Number of synthetic documents to generate instead of reading files.
+     *
+     * <p>CLI usage: {@code --synthetic <count>}</p>
+     *
+     * @see SampleDataGenerator
+     */
+    @Option(
+            names = {"--synthetic"},
+            description = "Generate this many synthetic documents from the schema instead of reading files."
+    )
+    private Integer syntheticDocuments;
+
+    /**
+     * Seed for synthetic document generation.
+     *
+     * <p>Default value: {@code 42}</p>
+     *
+     * <p>CLI usage: {@code --seed <seed>}</p>
+     */
+    @Option(
+            names = {"--seed"},
+            description = "Seed for synthetic documents (default: 42).",
+            defaultValue = "42"
+    )
+    private long seed;
+
+    /**
+     * Number of discarded passes over all documents before measuring.
+     *
+     * <p>Default value: {@code 3}</p>
+     *
+     * <p>CLI usage: {@code --warmup <n>}</p>
+     */
+    @Option(
+            names = {"--warmup"},
+            description = "Warmup passes over all documents (default: 3).",
+            defaultValue = "3"
+    )
+    private int warmupIterations;
+
+    /**
+     * Number of measured passes over all documents.
+     *
+     * <p>Default value: {@code 10}</p>
+     *
+     * <p>CLI usage: {@code --iterations <n>}</p>
+     */
+    @Option(
+            names = {"--iterations"},
+            description = "Measured passes over all documents (default: 10).",
+            defaultValue = "10"
+    )
+    private int iterations;
+
+    /**
+     * Number of threads migrating concurrently.
+     *
+     * <p>Default value: {@code 1}</p>
+     *
+     * <p>CLI usage: {@code --threads <n>}</p>
+     */
+    @Option(
+            names = {"--threads"},
+            description = "Migrating threads (default: 1).",
+            defaultValue = "1"
+    )
+    private int threads;
+
+    /**
+     * JSON report of an earlier run to compare against.
+     *
+     * <p>CLI usage: {@code --baseline <path>}</p>
+     *
+     * @see BenchmarkBaseline#parse(String)
+     */
+    @Option(
+            names = {"--baseline"},
+            description = "JSON report of an earlier run to compare against."
+    )
+    private File baselineFile;
+
+    /**
+     * Tolerated degradation against the baseline, in percent.
+     *
+     * <p>Default value: {@code 10}</p>
+     *
+     * <p>CLI usage: {@code --threshold <percent>}</p>
+     */
+    @Option(
+            names = {"--threshold"},
+            description = "Tolerated throughput/p99 degradation in percent (default: 10).",
+            defaultValue = "10"
+    )
+    private double thresholdPercent;
+
+    /**
+     * Output format of the report.
+     *
+     * <p>Supported values: {@code text} (default) and {@code json}. A JSON report can be
+     * used as {@link #baselineFile} of a later run.</p>
+     *
+     * <p>CLI usage: {@code --report-format <format>}</p>
+     */
+    @Option(
+            names = {"--report-format"},
+            description = "Report format: text, json (default: text).",
+            defaultValue = "text"
+    )
+    private String reportFormat;
+
+    /**
+     * Output file for the report.
+     *
+     * <p>If {@code null}, the report is printed to stdout.</p>
+     *
+     * <p>CLI usage: {@code --report-file <path>}</p>
+     */
+    @Option(
+            names = {"--report-file"},
+            description = "Write report to file instead of stdout."
+    )
+    private File reportFile;
+
+    /**
+     * Whether to print full stack traces for errors.
+     *
+     * <p>CLI usage: {@code -v} or {@code --verbose}</p>
+     */
+    @Option(
+            names = {"-v", "--verbose"},
+            description = "Enable verbose output."
+    )
+    private boolean verbose;
+
+    /**
+     * Executes the bench command.
+     *
+     * @return {@code 0} on success, {@code 1} on error, {@code 2} on a regression
+     */
+    @Override
+    public Integer call() {
+        try {
+            final boolean hasFiles = this.inputFiles != null && !this.inputFiles.isEmpty();
+            if (hasFiles == (this.syntheticDocuments != null)) {
+                System.err.println("Specify either sample files or --synthetic <count>");
+                return 1;
+            }
+            if (this.syntheticDocuments != null && (this.syntheticDocuments < 1 || this.fromVersion == null)) {
+                System.err.println("--synthetic requires a positive count and --from <version>");
+                return 1;
+            }
+            if (this.warmupIterations < 0 || this.iterations < 1 || this.threads < 1) {
+                System.err.println("--warmup must be >= 0, --iterations and --threads must be >= 1");
+                return 1;
+            }
+
+            final FormatHandler<?> handler = FormatRegistry.get(this.format);
+            if (handler == null) {
+                System.err.println("Unknown format: " + this.format);
+                System.err.println("Available formats: " + FormatRegistry.availableFormats());
+                return 1;
+            }
+
+            final DataFixerBootstrap bootstrap = BootstrapLoader.load(this.bootstrapClass);
+            final DataVersion targetVersion = new DataVersion(this.toVersion);
+            final List<BenchmarkRunner.Sample> samples = this.syntheticDocuments != null
+                    ? this.generateSamples(handler, bootstrap)
+                    : this.readSamples(handler, targetVersion);
+            if (samples.isEmpty()) {
+                System.err.println("Nothing to benchmark: all files are at or above v" + this.toVersion);
+                return 1;
+            }
+
+            final AetherDataFixer fixer = new DataFixerRuntimeFactory().create(targetVersion, bootstrap);
+            final BenchmarkRunner.Measurement measurement = new BenchmarkRunner(fixer, targetVersion, this.threads)
+                    .run(samples, this.warmupIterations, this.iterations);
+
+            BenchmarkReport report = new BenchmarkReport(
+                    this.typeId,
+                    samples.stream().mapToInt(sample -> sample.version().getVersion()).min().orElse(0),
+                    this.toVersion,
+                    this.syntheticDocuments != null ? SOURCE_SYNTHETIC : SOURCE_FILES,
+                    samples.size(),
+                    Math.min(this.threads, samples.size()),
+                    this.warmupIterations,
+                    this.iterations,
+                    measurement,
+                    null
+            );
+            if (this.baselineFile != null) {
+                final BenchmarkBaseline baseline = BenchmarkBaseline.parse(Files.readString(this.baselineFile.toPath()));
+                report = report.withComparison(baseline.compare(report, this.thresholdPercent));
+            }
+
+            final String output = ReportFormatter.forFormat(this.reportFormat).formatBenchmark(report);
+            if (this.reportFile != null) {
+                Files.writeString(this.reportFile.toPath(), output + System.lineSeparator());
+            } else {
+                System.out.println(output);
+            }
+            return report.regressed() ? 2 : 0;
+
+        } catch (final Exception e) {
+            System.err.println("Error: " + e.getMessage());
+            if (this.verbose) {
+                e.printStackTrace(System.err);
+            }
+            return 1;
+        }
+    }
+
+    /**
+     * Generates synthetic documents from the schema type at the source version.
+     *
+     * @param <T>       the underlying data representation type
+     * @param handler   the format whose ops build the documents, must not be {@code null}
+     * @param bootstrap the bootstrap providing the schemas, must not be {@code null}
+     * @return the generated samples, never {@code null}
+     * @throws IllegalStateException    if no schema or type exists at the source version
+     * @throws IllegalArgumentException if the type exposes no structure to generate from
+     */
+    @NotNull
+    private <T> List<BenchmarkRunner.Sample> generateSamples(
+            @NotNull final FormatHandler<T> handler,
+            @NotNull final DataFixerBootstrap bootstrap
+    ) {
+        Preconditions.checkNotNull(handler, "handler must not be null");
+        Preconditions.checkNotNull(bootstrap, "bootstrap must not be null");
+
+        final SimpleSchemaRegistry schemas = new SimpleSchemaRegistry();
+        bootstrap.registerSchemas(schemas);
+        final DataVersion source = new DataVersion(this.fromVersion);
+        final TypeReference typeRef = new TypeReference(this.typeId);
+        final Schema schema = schemas.require(source);
+
+        final List<T> documents = SampleDataGenerator.forType(schema.structure(typeRef))
+                .seed(this.seed)
+                .generate(handler.ops(), this.syntheticDocuments);
+        final List<BenchmarkRunner.Sample> samples = new ArrayList<>(documents.size());
+        for (final T document : documents) {
+            samples.add(new BenchmarkRunner.Sample(
+                    new TaggedDynamic(typeRef, new Dynamic<>(handler.ops(), document)), source));
+        }
+        return samples;
+    }
+
+    /**
+     * Reads the sample files that are below the target version.
+     *
+     * @param <T>           the underlying data representation type
+     * @param handler       the format handler for parsing, must not be {@code null}
+     * @param targetVersion the target version, must not be {@code null}
+     * @return the samples that need migration, never {@code null}
+     * @throws IOException if reading a file fails
+     */
+    @NotNull
+    private <T> List<BenchmarkRunner.Sample> readSamples(
+            @NotNull final FormatHandler<T> handler,
+            @NotNull final DataVersion targetVersion
+    ) throws IOException {
+        Preconditions.checkNotNull(handler, "handler must not be null");
+        Preconditions.checkNotNull(targetVersion, "targetVersion must not be null");
+
+        final TypeReference typeRef = new TypeReference(this.typeId);
+        final List<BenchmarkRunner.Sample> samples = new ArrayList<>(this.inputFiles.size());
+        for (final File file : this.inputFiles) {
+            final T data = handler.read(Files.readAllBytes(file.toPath()));
+            final DataVersion source = this.fromVersion != null
+                    ? new DataVersion(this.fromVersion)
+                    : VersionExtractor.extract(data, handler.ops(), this.versionField);
+            if (source.getVersion() < targetVersion.getVersion()) {
+                samples.add(new BenchmarkRunner.Sample(
+                        new TaggedDynamic(typeRef, new Dynamic<>(handler.ops(), data)), source));
+            }
+        }
+        return samples;
+    }
+}
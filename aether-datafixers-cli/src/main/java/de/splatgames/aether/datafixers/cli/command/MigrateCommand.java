@@ -23,32 +23,46 @@
 package de.splatgames.aether.datafixers.cli.command;
 
 import com.google.common.base.Preconditions;
+import com.google.common.base.Suppliers;
 import de.splatgames.aether.datafixers.api.DataVersion;
 import de.splatgames.aether.datafixers.api.TypeReference;
 import de.splatgames.aether.datafixers.api.bootstrap.DataFixerBootstrap;
+import de.splatgames.aether.datafixers.api.diagnostic.DiagnosticContext;
+import de.splatgames.aether.datafixers.api.diagnostic.DiagnosticOptions;
 import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
 import de.splatgames.aether.datafixers.api.dynamic.TaggedDynamic;
+import de.splatgames.aether.datafixers.cli.bootstrap.BootstrapLoadException;
 import de.splatgames.aether.datafixers.cli.bootstrap.BootstrapLoader;
+import de.splatgames.aether.datafixers.cli.daemon.DaemonClient;
 import de.splatgames.aether.datafixers.cli.format.FormatHandler;
 import de.splatgames.aether.datafixers.cli.format.FormatRegistry;
 import de.splatgames.aether.datafixers.cli.report.ReportFormatter;
 import de.splatgames.aether.datafixers.cli.util.VersionExtractor;
 import de.splatgames.aether.datafixers.core.AetherDataFixer;
+import de.splatgames.aether.datafixers.core.bootstrap.BootstrapSnapshot;
 import de.splatgames.aether.datafixers.core.bootstrap.DataFixerRuntimeFactory;
+import de.splatgames.aether.datafixers.core.diagnostic.MigrationReportAggregator;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import picocli.CommandLine.Command;
 import picocli.CommandLine.Option;
 import picocli.CommandLine.Parameters;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.StandardCopyOption;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.List;
 import java.util.concurrent.Callable;
+import java.util.function.Supplier;
 
 /**
  * CLI command for migrating data files from one schema version to another.
@@ -73,6 +87,15 @@ import java.util.concurrent.Callable;
  *
  * # Generate migration report
  * aether-cli migrate --to 200 --type player --report --report-format json --bootstrap com.example.MyBootstrap input.json
+ *
+ * # Summarize thousands of migrations in a single aggregated report
+ * aether-cli migrate --to 200 --type player --report --report-aggregate --bootstrap com.example.MyBootstrap data/*.json
+ *
+ * # Only load the bootstrap if a file actually needs a fix
+ * aether-cli migrate --to 200 --type player --snapshot bootstrap.snapshot --bootstrap com.example.MyBootstrap data/*.json
+ *
+ * # Forward the files to a running "aether-cli serve" daemon
+ * aether-cli migrate --to 200 --type player --daemon /tmp/aether.sock --bootstrap com.example.MyBootstrap data/*.json
  * }</pre>
  *
  * <h2>Exit Codes</h2>
@@ -100,6 +123,14 @@ import java.util.concurrent.Callable;
 )
 public class MigrateCommand implements Callable<Integer> {
 
+    /**
+     * Diagnostic options used for aggregated reports: rule counts, but no snapshots.
+     */
+    private static final DiagnosticOptions AGGREGATE_DIAGNOSTICS = DiagnosticOptions.builder()
+            .captureSnapshots(false)
+            .captureRuleDetails(true)
+            .build();
+
     /**
      * List of input files or directories to migrate.
      *
@@ -132,7 +163,7 @@ public class MigrateCommand implements Callable<Integer> {
      * <p>CLI usage: {@code -o <path>} or {@code --output <path>}</p>
      *
      * @see #backup
-     * @see #writeOutput(File, String)
+     * @see #writeOutput(File, byte[], boolean)
      */
     @Option(
             names = {"-o", "--output"},
@@ -253,7 +284,7 @@ public class MigrateCommand implements Callable<Integer> {
      *
      * <p>CLI usage: {@code --backup} or {@code --backup=false}</p>
      *
-     * @see #writeOutput(File, String)
+     * @see #writeOutput(File, byte[], boolean)
      */
     @Option(
             names = {"--backup"},
@@ -349,6 +380,73 @@ public class MigrateCommand implements Callable<Integer> {
     )
     private File reportFile;
 
+    /**
+     * Whether to replace the per-file report with a single aggregated report.
+     *
+     * <p>When {@code true}, each migration is run with a lightweight
+     * {@link DiagnosticContext} and its report is merged into a
+     * {@link MigrationReportAggregator}. Only the aggregate (per-fix timings and
+     * percentiles, touched types and warnings) is written at the end, so memory
+     * stays constant regardless of the number of input files.</p>
+     *
+     * <p>Only used when {@link #generateReport} is {@code true}.</p>
+     *
+     * <p>Default value: {@code false}</p>
+     *
+     * <p>CLI usage: {@code --report-aggregate}</p>
+     *
+     * @see ReportFormatter#formatAggregate(de.splatgames.aether.datafixers.core.diagnostic.AggregatedMigrationReport)
+     * @since 0.6.0
+     */
+    @Option(
+            names = {"--report-aggregate"},
+            description = "Write one aggregated report instead of one entry per file."
+    )
+    private boolean aggregateReport;
+
+    /**
+     * Precompiled bootstrap snapshot written by {@code aether-cli snapshot}.
+     *
+     * <p>When specified, the bootstrap is loaded lazily: a file whose migration would
+     * apply no fix according to the snapshot is written unchanged without loading the
+     * bootstrap, so a run over current data never pays for bootstrap startup. The
+     * snapshot must have been captured from {@link #bootstrapClass} for a version of at
+     * least {@link #toVersion}, and its fingerprint must match the bootstrap class on the
+     * classpath.</p>
+     *
+     * <p>CLI usage: {@code --snapshot <path>}</p>
+     *
+     * @see SnapshotCommand
+     * @see BootstrapSnapshot
+     * @since 0.6.0
+     */
+    @Option(
+            names = {"--snapshot"},
+            description = "Bootstrap snapshot; the bootstrap is only loaded for files that need fixes."
+    )
+    private File snapshotFile;
+
+    /**
+     * Socket of a running {@code aether-cli serve} daemon.
+     *
+     * <p>When specified, the bootstrap is not loaded locally. Each file is sent to the
+     * daemon, which migrates it with its already warmed fixer, and the result is written
+     * here as usual. The daemon must serve {@link #bootstrapClass} for a version of at
+     * least {@link #toVersion}. Cannot be combined with {@link #snapshotFile} or
+     * {@link #aggregateReport}.</p>
+     *
+     * <p>CLI usage: {@code --daemon <socket>}</p>
+     *
+     * @see ServeCommand
+     * @see DaemonClient
+     * @since 0.6.0
+     */
+    @Option(
+            names = {"--daemon"},
+            description = "Unix-domain socket of a running 'serve' daemon to migrate with."
+    )
+    private File daemonSocket;
+
     /**
      * Whether to stop processing on the first error.
      *
@@ -413,11 +511,15 @@ public class MigrateCommand implements Callable<Integer> {
      *
      * <p>This method performs the following steps:</p>
      * <ol>
-     *   <li>Loads the {@link DataFixerBootstrap} from {@link #bootstrapClass}</li>
-     *   <li>Creates an {@link AetherDataFixer} instance for the target version</li>
+     *   <li>Reads the {@link BootstrapSnapshot} if {@link #snapshotFile} is set</li>
+     *   <li>Prepares to load the {@link DataFixerBootstrap} from {@link #bootstrapClass} and
+     *       create an {@link AetherDataFixer} for the target version; without a snapshot this
+     *       happens immediately, with one on the first file that needs a fix, and with a
+     *       {@link #daemonSocket} never</li>
      *   <li>Resolves the {@link FormatHandler} for the specified {@link #format}</li>
      *   <li>Iterates through all {@link #inputFiles} and migrates each one</li>
-     *   <li>Collects and outputs the migration report if {@link #generateReport} is enabled</li>
+     *   <li>Streams the per-file report entries, or the aggregated report, if
+     *       {@link #generateReport} is enabled</li>
      *   <li>Prints a summary of successful and failed migrations</li>
      * </ol>
      *
@@ -429,18 +531,30 @@ public class MigrateCommand implements Callable<Integer> {
      *
      * @return {@code 0} if all files were migrated successfully,
      *         {@code 1} if any errors occurred
-     * @see #processFile(File, AetherDataFixer, FormatHandler, TypeReference, DataVersion)
+     * @see #processFile(File, Supplier, BootstrapSnapshot, FormatHandler, TypeReference,
+     *      DataVersion, ReportFormatter, MigrationReportAggregator)
      */
     @Override
     public Integer call() {
+        if (this.daemonSocket != null && (this.snapshotFile != null || this.aggregateReport)) {
+            System.err.println("--daemon cannot be combined with --snapshot or --report-aggregate");
+            return 1;
+        }
         try {
-            // 1. Load bootstrap
-            final DataFixerBootstrap bootstrap = BootstrapLoader.load(this.bootstrapClass);
-
-            // 2. Create fixer
+            // 1. Read snapshot
             final DataVersion targetVersion = new DataVersion(this.toVersion);
-            final AetherDataFixer fixer = new DataFixerRuntimeFactory()
-                    .create(targetVersion, bootstrap);
+            final BootstrapSnapshot snapshot = this.snapshotFile != null
+                    ? this.readSnapshot(targetVersion)
+                    : null;
+
+            // 2. Load bootstrap and create fixer, deferred until needed with a snapshot
+            final Supplier<AetherDataFixer> fixer = Suppliers.memoize(() -> {
+                final DataFixerBootstrap bootstrap = BootstrapLoader.load(this.bootstrapClass);
+                return new DataFixerRuntimeFactory().create(targetVersion, bootstrap);
+            });
+            if (snapshot == null && this.daemonSocket == null) {
+                fixer.get();
+            }
 
             // 3. Get format handler
             final FormatHandler<?> handler = FormatRegistry.get(this.format);
@@ -454,36 +568,44 @@ public class MigrateCommand implements Callable<Integer> {
             final TypeReference typeRef = new TypeReference(this.typeId);
             int successCount = 0;
             int errorCount = 0;
-            final StringBuilder reportBuilder = new StringBuilder();
+            final ReportFormatter formatter = ReportFormatter.forFormat(this.reportFormat);
+            final MigrationReportAggregator aggregator = this.generateReport && this.aggregateReport
+                    ? new MigrationReportAggregator()
+                    : null;
 
-            for (final File inputFile : this.inputFiles) {
-                try {
-                    final MigrationResult result = processFile(
-                            inputFile, fixer, handler, typeRef, targetVersion);
-                    successCount++;
+            final DaemonClient daemon = this.daemonSocket != null
+                    ? this.connectDaemon(targetVersion)
+                    : null;
+            try (daemon; PrintWriter reportWriter = this.openReportWriter()) {
+                for (final File inputFile : this.inputFiles) {
+                    try {
+                        final MigrationResult result = daemon != null
+                                ? processRemote(inputFile, daemon, handler, typeRef, targetVersion, formatter)
+                                : processFile(inputFile, fixer, snapshot, handler, typeRef, targetVersion,
+                                        formatter, aggregator);
+                        successCount++;
 
-                    if (this.generateReport) {
-                        reportBuilder.append(result.report).append("\n");
-                    }
-                } catch (final Exception e) {
-                    errorCount++;
-                    System.err.println("Error processing " + inputFile + ": " + e.getMessage());
-                    if (this.verbose) {
-                        e.printStackTrace(System.err);
-                    }
-                    if (this.failFast) {
-                        return 1;
+                        if (reportWriter != null && aggregator == null && !result.report.isEmpty()) {
+                            reportWriter.println(result.report);
+                            reportWriter.flush();
+                        }
+                    } catch (final Exception e) {
+                        errorCount++;
+                        System.err.println("Error processing " + inputFile + ": " + e.getMessage());
+                        if (this.verbose) {
+                            e.printStackTrace(System.err);
+                        }
+                        if (this.failFast) {
+                            return 1;
+                        }
                     }
                 }
-            }
 
-            // Write report
-            if (this.generateReport && !reportBuilder.isEmpty()) {
-                final String reportContent = reportBuilder.toString();
-                if (this.reportFile != null) {
-                    Files.writeString(this.reportFile.toPath(), reportContent);
-                } else {
-                    System.err.println(reportContent);
+                if (reportWriter != null && aggregator != null && successCount > 0) {
+                    reportWriter.println(formatter.formatAggregate(aggregator.snapshot()));
+                }
+                if (reportWriter != null && this.reportFile != null && reportWriter.checkError()) {
+                    throw new IOException("Failed to write report to " + this.reportFile);
                 }
             }
 
@@ -503,51 +625,178 @@ public class MigrateCommand implements Callable<Integer> {
         }
     }
 
+    /**
+     * Reads {@link #snapshotFile} and checks that it matches this invocation.
+     *
+     * <p>The bootstrap class is loaded, without being initialized, to compare its
+     * {@linkplain BootstrapSnapshot#fingerprintOf(Class) fingerprint} with the one recorded
+     * in the snapshot.</p>
+     *
+     * @param targetVersion the target version of the migration
+     * @return the snapshot, never {@code null}
+     * @throws IOException              if the snapshot or the bootstrap class cannot be read
+     * @throws IllegalArgumentException if the snapshot belongs to another bootstrap,
+     *                                  predates the target version or was captured from a
+     *                                  different build of the bootstrap
+     * @throws BootstrapLoadException   if the bootstrap class cannot be found
+     */
+    @NotNull
+    private BootstrapSnapshot readSnapshot(@NotNull final DataVersion targetVersion) throws IOException {
+        final BootstrapSnapshot snapshot = BootstrapSnapshot.read(this.snapshotFile.toPath());
+        if (!snapshot.bootstrapId().equals(this.bootstrapClass)) {
+            throw new IllegalArgumentException("Snapshot " + this.snapshotFile + " was captured from "
+                    + snapshot.bootstrapId() + ", not " + this.bootstrapClass);
+        }
+        if (snapshot.currentVersion().compareTo(targetVersion) < 0) {
+            throw new IllegalArgumentException("Snapshot " + this.snapshotFile + " only covers versions up to "
+                    + snapshot.currentVersion().getVersion());
+        }
+        final Class<?> bootstrap;
+        try {
+            bootstrap = Class.forName(this.bootstrapClass, false, MigrateCommand.class.getClassLoader());
+        } catch (final ClassNotFoundException e) {
+            throw new BootstrapLoadException("Bootstrap class not found: " + this.bootstrapClass
+                    + ". Ensure the class is on the classpath.", e);
+        }
+        if (snapshot.fingerprint() != BootstrapSnapshot.fingerprintOf(bootstrap)) {
+            throw new IllegalArgumentException("Snapshot " + this.snapshotFile + " does not match the "
+                    + this.bootstrapClass + " on the classpath; regenerate it with 'aether-cli snapshot'");
+        }
+        return snapshot;
+    }
+
+    /**
+     * Connects to the daemon at {@link #daemonSocket} and checks that it matches this
+     * invocation.
+     *
+     * @param targetVersion the target version of the migration
+     * @return the connected client, never {@code null}
+     * @throws IOException              if closing a mismatched connection fails
+     * @throws IllegalArgumentException if the daemon serves another bootstrap or an older
+     *                                  version than the target
+     */
+    @NotNull
+    private DaemonClient connectDaemon(@NotNull final DataVersion targetVersion) throws IOException {
+        final DaemonClient client = DaemonClient.connect(this.daemonSocket.toPath());
+        final DaemonClient.DaemonInfo info = client.hello();
+        if (!info.bootstrap().equals(this.bootstrapClass)) {
+            client.close();
+            throw new IllegalArgumentException("Daemon at " + this.daemonSocket + " serves "
+                    + info.bootstrap() + ", not " + this.bootstrapClass);
+        }
+        if (info.currentVersion() < targetVersion.getVersion()) {
+            client.close();
+            throw new IllegalArgumentException("Daemon at " + this.daemonSocket + " only migrates up to version "
+                    + info.currentVersion());
+        }
+        return client;
+    }
+
+    /**
+     * Opens the destination for report output.
+     *
+     * <p>Report entries are written as soon as each file completes instead of being
+     * buffered until the end. The returned writer targets {@link #reportFile} if set,
+     * otherwise stderr; closing it leaves stderr open. The report file is only created
+     * once there is something to report, so a run without report entries leaves no file
+     * behind.</p>
+     *
+     * @return the report writer, or {@code null} if reporting is disabled
+     */
+    @Nullable
+    private PrintWriter openReportWriter() {
+        if (!this.generateReport) {
+            return null;
+        }
+        if (this.reportFile != null) {
+            final Path target = this.reportFile.toPath();
+            return new PrintWriter(new Writer() {
+                private Writer out;
+
+                @Override
+                public void write(final char[] chars, final int offset, final int length) throws IOException {
+                    if (this.out == null) {
+                        this.out = Files.newBufferedWriter(target, StandardCharsets.UTF_8);
+                    }
+                    this.out.write(chars, offset, length);
+                }
+
+                @Override
+                public void flush() throws IOException {
+                    if (this.out != null) {
+                        this.out.flush();
+                    }
+                }
+
+                @Override
+                public void close() throws IOException {
+                    if (this.out != null) {
+                        this.out.close();
+                    }
+                }
+            });
+        }
+        return new PrintWriter(new OutputStreamWriter(System.err, StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                this.flush();
+            }
+        };
+    }
+
     /**
      * Processes a single file for migration.
      *
      * <p>This method performs the complete migration workflow for one file:</p>
      * <ol>
-     *   <li>Reads the file content as a string</li>
-     *   <li>Parses the content using the format handler</li>
+     *   <li>Reads the file content as bytes</li>
+     *   <li>Parses the content using {@link FormatHandler#read(byte[])}</li>
      *   <li>Determines the source version (from {@link #fromVersion} or extracted from data)</li>
      *   <li>Skips migration if file is already at or above target version</li>
      *   <li>Wraps the data in a {@link Dynamic} and {@link TaggedDynamic}</li>
-     *   <li>Applies the data fixer to migrate the data</li>
+     *   <li>Applies the data fixer to migrate the data, unless {@code snapshot} shows that
+     *       no fix applies, in which case the data is kept as is</li>
      *   <li>Serializes the result (pretty or compact based on {@link #prettyPrint})</li>
-     *   <li>Writes the output using {@link #writeOutput(File, String)}</li>
-     *   <li>Optionally generates a migration report</li>
+     *   <li>Writes the output using {@link #writeOutput(File, byte[], boolean)}</li>
+     *   <li>Optionally generates a migration report entry, or merges the migration's
+     *       diagnostic report into {@code aggregator}</li>
      * </ol>
      *
      * @param <T>           the underlying data representation type (e.g., JsonElement, JsonNode)
      * @param inputFile     the file to migrate, must not be {@code null}
-     * @param fixer         the data fixer instance to use for migration, must not be {@code null}
+     * @param fixer         supplies the data fixer to use for migration, must not be {@code null}
+     * @param snapshot      the bootstrap snapshot, or {@code null} if none was given
      * @param handler       the format handler for parsing and serialization, must not be {@code null}
      * @param typeRef       the type reference for routing the data, must not be {@code null}
      * @param targetVersion the target version to migrate to, must not be {@code null}
+     * @param formatter     the formatter for the per-file report entry, must not be {@code null}
+     * @param aggregator    the aggregator for diagnostic reports, or {@code null} if not aggregating
      * @return a {@link MigrationResult} containing the report string and migration duration
      * @throws IOException if reading or writing the file fails
      * @see #call()
-     * @see #writeOutput(File, String)
+     * @see #writeOutput(File, byte[], boolean)
      */
     private <T> MigrationResult processFile(
             @NotNull final File inputFile,
-            @NotNull final AetherDataFixer fixer,
+            @NotNull final Supplier<AetherDataFixer> fixer,
+            @Nullable final BootstrapSnapshot snapshot,
             @NotNull final FormatHandler<T> handler,
             @NotNull final TypeReference typeRef,
-            @NotNull final DataVersion targetVersion
+            @NotNull final DataVersion targetVersion,
+            @NotNull final ReportFormatter formatter,
+            @Nullable final MigrationReportAggregator aggregator
     ) throws IOException {
         Preconditions.checkNotNull(inputFile, "inputFile must not be null");
         Preconditions.checkNotNull(fixer, "fixer must not be null");
         Preconditions.checkNotNull(handler, "handler must not be null");
         Preconditions.checkNotNull(typeRef, "typeRef must not be null");
         Preconditions.checkNotNull(targetVersion, "targetVersion must not be null");
+        Preconditions.checkNotNull(formatter, "formatter must not be null");
 
         final Instant startTime = Instant.now();
 
         // Read input
-        final String content = Files.readString(inputFile.toPath());
-        final T data = handler.parse(content);
+        final T data = handler.read(Files.readAllBytes(inputFile.toPath()));
 
         // Determine source version
         final DataVersion sourceVersion;
@@ -571,17 +820,27 @@ public class MigrateCommand implements Callable<Integer> {
         final TaggedDynamic tagged = new TaggedDynamic(typeRef, dynamic);
 
         // Perform migration
-        final TaggedDynamic migrated = fixer.update(tagged, sourceVersion, targetVersion);
+        final TaggedDynamic migrated;
+        if (snapshot != null && !snapshot.requiresFixes(typeRef, sourceVersion, targetVersion)) {
+            if (this.verbose) {
+                System.err.println("No fixes apply to " + inputFile + " according to the snapshot");
+            }
+            migrated = tagged;
+        } else if (aggregator != null) {
+            final DiagnosticContext context = DiagnosticContext.create(AGGREGATE_DIAGNOSTICS);
+            migrated = fixer.get().update(tagged, sourceVersion, targetVersion, context);
+            aggregator.add(context.getReport());
+        } else {
+            migrated = fixer.get().update(tagged, sourceVersion, targetVersion);
+        }
 
         // Extract result
         @SuppressWarnings("unchecked")
         final Dynamic<T> resultDynamic = (Dynamic<T>) migrated.value();
-        final String outputContent = this.prettyPrint
-                ? handler.serializePretty(resultDynamic.value())
-                : handler.serialize(resultDynamic.value());
+        final byte[] outputContent = handler.write(resultDynamic.value(), this.prettyPrint);
 
         // Write output
-        writeOutput(inputFile, outputContent);
+        writeOutput(inputFile, outputContent, handler.binary());
 
         final Duration duration = Duration.between(startTime, Instant.now());
 
@@ -593,8 +852,7 @@ public class MigrateCommand implements Callable<Integer> {
 
         // Generate report
         String report = "";
-        if (this.generateReport) {
-            final ReportFormatter formatter = ReportFormatter.forFormat(this.reportFormat);
+        if (this.generateReport && aggregator == null) {
             report = formatter.formatSimple(
                     inputFile.getName(),
                     typeRef.getId(),
@@ -607,6 +865,85 @@ public class MigrateCommand implements Callable<Integer> {
         return new MigrationResult(report, duration);
     }
 
+    /**
+     * Processes a single file by forwarding it to a daemon.
+     *
+     * <p>The daemon parses, version-checks, migrates and serializes the file; this method
+     * only reads the input, writes the result using {@link #writeOutput(File, byte[], boolean)} and
+     * generates the report entry, exactly like
+     * {@link #processFile(File, Supplier, BootstrapSnapshot, FormatHandler, TypeReference,
+     * DataVersion, ReportFormatter, MigrationReportAggregator)}.</p>
+     *
+     * <p>The daemon protocol carries text, so the content of a
+     * {@link FormatHandler#binary() binary} format is exchanged as Base64, which is the
+     * string form such handlers parse and serialize.</p>
+     *
+     * @param inputFile     the file to migrate, must not be {@code null}
+     * @param daemon        the connected daemon, must not be {@code null}
+     * @param handler       the format handler, used to encode binary content, must not be {@code null}
+     * @param typeRef       the type reference for routing the data, must not be {@code null}
+     * @param targetVersion the target version to migrate to, must not be {@code null}
+     * @param formatter     the formatter for the per-file report entry, must not be {@code null}
+     * @return a {@link MigrationResult} containing the report string and migration duration
+     * @throws IOException if reading or writing the file fails
+     * @throws de.splatgames.aether.datafixers.cli.daemon.DaemonException if the daemon rejects the file
+     */
+    private MigrationResult processRemote(
+            @NotNull final File inputFile,
+            @NotNull final DaemonClient daemon,
+            @NotNull final FormatHandler<?> handler,
+            @NotNull final TypeReference typeRef,
+            @NotNull final DataVersion targetVersion,
+            @NotNull final ReportFormatter formatter
+    ) throws IOException {
+        Preconditions.checkNotNull(inputFile, "inputFile must not be null");
+        Preconditions.checkNotNull(daemon, "daemon must not be null");
+        Preconditions.checkNotNull(handler, "handler must not be null");
+        Preconditions.checkNotNull(typeRef, "typeRef must not be null");
+        Preconditions.checkNotNull(targetVersion, "targetVersion must not be null");
+        Preconditions.checkNotNull(formatter, "formatter must not be null");
+
+        final Instant startTime = Instant.now();
+        final byte[] raw = Files.readAllBytes(inputFile.toPath());
+        final String content = handler.binary()
+                ? Base64.getEncoder().encodeToString(raw)
+                : new String(raw, StandardCharsets.UTF_8);
+        final DaemonClient.RemoteMigration migration = daemon.migrate(typeRef.getId(), this.format,
+                this.fromVersion, targetVersion.getVersion(), this.versionField, this.prettyPrint, content);
+
+        if (!migration.migrated()) {
+            if (this.verbose) {
+                System.err.println("Skipping " + inputFile + " (already at v" + migration.fromVersion() + ")");
+            }
+            return new MigrationResult("", Duration.ZERO);
+        }
+
+        writeOutput(inputFile, handler.binary()
+                ? Base64.getMimeDecoder().decode(migration.content())
+                : migration.content().getBytes(StandardCharsets.UTF_8), handler.binary());
+
+        final Duration duration = Duration.between(startTime, Instant.now());
+
+        if (this.verbose) {
+            System.err.println("Migrated: " + inputFile
+                    + " (v" + migration.fromVersion() + " -> v" + targetVersion.getVersion()
+                    + " in " + duration.toMillis() + "ms via daemon)");
+        }
+
+        String report = "";
+        if (this.generateReport) {
+            report = formatter.formatSimple(
+                    inputFile.getName(),
+                    typeRef.getId(),
+                    migration.fromVersion(),
+                    targetVersion.getVersion(),
+                    duration
+            );
+        }
+
+        return new MigrationResult(report, duration);
+    }
+
     /**
      * Writes the migrated content to the appropriate destination.
      *
@@ -623,10 +960,12 @@ public class MigrateCommand implements Callable<Integer> {
      * </ol>
      *
      * <p>Backup files are created with a ".bak" extension in the same directory
-     * as the original file.</p>
+     * as the original file. Text written to stdout is terminated with a line
+     * separator; binary content is written as is.</p>
      *
      * @param inputFile the original input file (used for naming and backup), must not be {@code null}
      * @param content   the migrated content to write, must not be {@code null}
+     * @param binary    whether {@code content} is binary rather than UTF-8 text
      * @throws IOException              if writing the file fails
      * @throws IllegalArgumentException if {@link #output} is a file but multiple input files
      *                                  were specified
@@ -634,23 +973,32 @@ public class MigrateCommand implements Callable<Integer> {
      * @see #backup
      * @see #inputFiles
      */
-    private void writeOutput(@NotNull final File inputFile, @NotNull final String content) throws IOException {
+    private void writeOutput(
+            @NotNull final File inputFile,
+            @NotNull final byte[] content,
+            final boolean binary
+    ) throws IOException {
         Preconditions.checkNotNull(inputFile, "inputFile must not be null");
         Preconditions.checkNotNull(content, "content must not be null");
         if (this.output != null) {
             // Write to specified output
             if (this.output.isDirectory()) {
                 final Path outPath = this.output.toPath().resolve(inputFile.getName());
-                Files.writeString(outPath, content);
+                Files.write(outPath, content);
             } else if (this.inputFiles.size() == 1) {
-                Files.writeString(this.output.toPath(), content);
+                Files.write(this.output.toPath(), content);
             } else {
                 throw new IllegalArgumentException(
                         "Output must be a directory when multiple input files are specified");
             }
         } else if (this.inputFiles.size() == 1 && this.output == null) {
             // Single file with no output: stdout
-            System.out.println(content);
+            if (binary) {
+                System.out.write(content);
+                System.out.flush();
+            } else {
+                System.out.println(new String(content, StandardCharsets.UTF_8));
+            }
         } else {
             // Multiple files: in-place with backup
             if (this.backup) {
@@ -658,7 +1006,7 @@ public class MigrateCommand implements Callable<Integer> {
                         inputFile.getName() + ".bak");
                 Files.copy(inputFile.toPath(), backupPath, StandardCopyOption.REPLACE_EXISTING);
             }
-            Files.writeString(inputFile.toPath(), content);
+            Files.write(inputFile.toPath(), content);
         }
     }
 
@@ -669,10 +1017,11 @@ public class MigrateCommand implements Callable<Integer> {
      * the formatted report string (if reporting is enabled) and the time
      * taken for the migration.</p>
      *
-     * @param report   the formatted migration report string, empty if reporting is disabled
-     *                 or if the file was skipped (already at target version)
+     * @param report   the formatted migration report string, empty if reporting is disabled,
+     *                 aggregated, or if the file was skipped (already at target version)
      * @param duration the time elapsed during the migration process, including file I/O
-     * @see #processFile(File, AetherDataFixer, FormatHandler, TypeReference, DataVersion)
+     * @see #processFile(File, Supplier, BootstrapSnapshot, FormatHandler, TypeReference,
+     *      DataVersion, ReportFormatter, MigrationReportAggregator)
      * @see ReportFormatter
      */
     private record MigrationResult(String report, Duration duration) {
@@ -0,0 +1,470 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.cli.command;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.bootstrap.DataFixerBootstrap;
+import de.splatgames.aether.datafixers.api.diagnostic.DiagnosticContext;
+import de.splatgames.aether.datafixers.api.diagnostic.DiagnosticOptions;
+import de.splatgames.aether.datafixers.api.diagnostic.FixExecution;
+import de.splatgames.aether.datafixers.api.diagnostic.RuleApplication;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.dynamic.TaggedDynamic;
+import de.splatgames.aether.datafixers.cli.bootstrap.BootstrapLoader;
+import de.splatgames.aether.datafixers.cli.format.FormatHandler;
+import de.splatgames.aether.datafixers.cli.format.FormatRegistry;
+import de.splatgames.aether.datafixers.cli.profile.FixProfiler;
+import de.splatgames.aether.datafixers.cli.profile.ProfileReport;
+import de.splatgames.aether.datafixers.cli.report.ReportFormatter;
+import de.splatgames.aether.datafixers.cli.util.NodeCounter;
+import de.splatgames.aether.datafixers.cli.util.VersionExtractor;
+import de.splatgames.aether.datafixers.core.AetherDataFixer;
+import de.splatgames.aether.datafixers.core.bootstrap.DataFixerRuntimeFactory;
+import org.jetbrains.annotations.NotNull;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+import picocli.CommandLine.Parameters;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+/**
+ * CLI command that reports the per-fix and per-rule cost of a migration.
+ *
+ * <p>The profile command migrates sample files in memory, without writing any output,
+ * and prints where the time goes. It replaces ad-hoc harnesses when a migration is
+ * slow.</p>
+ *
+ * <h2>Usage Examples</h2>
+ * <pre>{@code
+ * # Profile a migration over sample files
+ * aether-cli profile --to 200 --type player --bootstrap com.example.MyBootstrap samples/*.json
+ *
+ * # More iterations, JSON output written to a file
+ * aether-cli profile --to 200 --type player --warmup 5 --iterations 50 \
+ *     --report-format json --report-file profile.json \
+ *     --bootstrap com.example.MyBootstrap samples/*.json
+ * }</pre>
+ *
+ * <h2>Procedure</h2>
+ * <ol>
+ *   <li>All files are parsed once; files already at the target version are skipped.</li>
+ *   <li>{@link #warmupIterations} passes over all documents warm up the JIT and are
+ *       discarded.</li>
+ *   <li>One instrumented pass with rule details enabled collects per-rule counts and
+ *       times, and the output node counts.</li>
+ *   <li>{@link #iterations} measured passes run without diagnostics; a {@link FixProfiler}
+ *       records per-fix wall time and allocated bytes.</li>
+ * </ol>
+ *
+ * <h2>Exit Codes</h2>
+ * <ul>
+ *   <li>{@code 0} - The profile was written</li>
+ *   <li>{@code 1} - An error occurred, or no file needed migration</li>
+ * </ul>
+ *
+ * @author Erik Pförtner
+ * @see de.splatgames.aether.datafixers.cli.AetherCli
+ * @see MigrateCommand
+ * @see ProfileReport
+ * @since 0.6.0
+ */
+@Command(
+        name = "profile",
+        description = "Report per-fix and per-rule migration cost over sample files.",
+        mixinStandardHelpOptions = true
+)
+public class ProfileCommand implements Callable<Integer> {
+
+    /**
+     * Diagnostic options for the instrumented pass: rule details, but no snapshots.
+     */
+    private static final DiagnosticOptions RULE_DIAGNOSTICS = DiagnosticOptions.builder()
+            .captureSnapshots(false)
+            .captureRuleDetails(true)
+            .build();
+
+    /**
+     * List of sample files to profile.
+     *
+     * <p>Files are only read; migrated data is discarded.</p>
+     *
+     * <p>CLI usage: positional arguments after all options</p>
+     */
+    @Parameters(
+            index = "0..*",
+            description = "Sample file(s) to migrate.",
+            arity = "1..*"
+    )
+    private List<File> inputFiles;
+
+    /**
+     * Type reference identifier for the data being profiled.
+     *
+     * <p>This is a required option.</p>
+     *
+     * <p>CLI usage: {@code -t <type>} or {@code --type <type>}</p>
+     *
+     * @see TypeReference
+     */
+    @Option(
+            names = {"-t", "--type"},
+            description = "Type reference ID (e.g., 'player', 'world').",
+            required = true
+    )
+    private String typeId;
+
+    /**
+     * Source data version, overriding the version stored in the files.
+     *
+     * <p>If {@code null}, the version is read from {@link #versionField}.</p>
+     *
+     * <p>CLI usage: {@code --from <version>}</p>
+     */
+    @Option(
+            names = {"--from"},
+            description = "Source version (auto-detected if not specified)."
+    )
+    private Integer fromVersion;
+
+    /**
+     * Target data version to migrate to.
+     *
+     * <p>This is a required option.</p>
+     *
+     * <p>CLI usage: {@code --to <version>}</p>
+     */
+    @Option(
+            names = {"--to"},
+            description = "Target version.",
+            required = true
+    )
+    private int toVersion;
+
+    /**
+     * Field path for extracting the data version from input files.
+     *
+     * <p>Default value: "dataVersion"</p>
+     *
+     * <p>CLI usage: {@code --version-field <path>}</p>
+     *
+     * @see VersionExtractor#extract(Object, de.splatgames.aether.datafixers.api.dynamic.DynamicOps, String)
+     */
+    @Option(
+            names = {"--version-field"},
+            description = "JSON field containing data version.",
+            defaultValue = "dataVersion"
+    )
+    private String versionField;
+
+    /**
+     * Serialization format identifier for parsing input files.
+     *
+     * <p>CLI usage: {@code --format <format-id>}</p>
+     *
+     * @see FormatRegistry
+     */
+    @Option(
+            names = {"--format"},
+            description = "Input format (default: json-gson).",
+            defaultValue = "json-gson"
+    )
+    private String format;
+
+    /**
+     * Fully qualified class name of the {@link DataFixerBootstrap} implementation.
+     *
+     * <p>This is a required option.</p>
+     *
+     * <p>CLI usage: {@code --bootstrap <fully.qualified.ClassName>}</p>
+     *
+     * @see BootstrapLoader#load(String)
+     */
+    @Option(
+            names = {"--bootstrap"},
+            description = "Fully qualified class name of DataFixerBootstrap implementation.",
+            required = true
+    )
+    private String bootstrapClass;
+
+    /**
+     * Number of discarded passes over all documents before measuring.
+     *
+     * <p>Default value: {@code 3}</p>
+     *
+     * <p>CLI usage: {@code --warmup <n>}</p>
+     */
+    @Option(
+            names = {"--warmup"},
+            description = "Warmup passes over all files (default: 3).",
+            defaultValue = "3"
+    )
+    private int warmupIterations;
+
+    /**
+     * Number of measured passes over all documents.
+     *
+     * <p>Default value: {@code 10}</p>
+     *
+     * <p>CLI usage: {@code --iterations <n>}</p>
+     */
+    @Option(
+            names = {"--iterations"},
+            description = "Measured passes over all files (default: 10).",
+            defaultValue = "10"
+    )
+    private int iterations;
+
+    /**
+     * Output format of the profile.
+     *
+     * <p>Supported values: {@code text} (default) and {@code json}.</p>
+     *
+     * <p>CLI usage: {@code --report-format <format>}</p>
+     *
+     * @see ReportFormatter#formatProfile(ProfileReport)
+     */
+    @Option(
+            names = {"--report-format"},
+            description = "Report format: text, json (default: text).",
+            defaultValue = "text"
+    )
+    private String reportFormat;
+
+    /**
+     * Output file for the profile.
+     *
+     * <p>If {@code null}, the profile is printed to stdout.</p>
+     *
+     * <p>CLI usage: {@code --report-file <path>}</p>
+     */
+    @Option(
+            names = {"--report-file"},
+            description = "Write profile to file instead of stdout."
+    )
+    private File reportFile;
+
+    /**
+     * Whether to print full stack traces for errors.
+     *
+     * <p>CLI usage: {@code -v} or {@code --verbose}</p>
+     */
+    @Option(
+            names = {"-v", "--verbose"},
+            description = "Enable verbose output."
+    )
+    private boolean verbose;
+
+    /**
+     * Executes the profile command.
+     *
+     * @return {@code 0} if the profile was written, {@code 1} otherwise
+     * @see #profile(FormatHandler, AetherDataFixer, FixProfiler, DataVersion)
+     */
+    @Override
+    public Integer call() {
+        try {
+            if (this.warmupIterations < 0 || this.iterations < 1) {
+                System.err.println("--warmup must be >= 0 and --iterations must be >= 1");
+                return 1;
+            }
+
+            final DataFixerBootstrap bootstrap = BootstrapLoader.load(this.bootstrapClass);
+            final DataVersion targetVersion = new DataVersion(this.toVersion);
+            final FixProfiler profiler = new FixProfiler();
+            final AetherDataFixer fixer = new DataFixerRuntimeFactory()
+                    .create(targetVersion, bootstrap, builder -> builder.withMigrationListener(profiler));
+
+            final FormatHandler<?> handler = FormatRegistry.get(this.format);
+            if (handler == null) {
+                System.err.println("Unknown format: " + this.format);
+                System.err.println("Available formats: " + FormatRegistry.availableFormats());
+                return 1;
+            }
+
+            final ProfileReport report = profile(handler, fixer, profiler, targetVersion);
+            if (report == null) {
+                System.err.println("Nothing to profile: all files are at or above v" + this.toVersion);
+                return 1;
+            }
+
+            final String output = ReportFormatter.forFormat(this.reportFormat).formatProfile(report);
+            if (this.reportFile != null) {
+                Files.writeString(this.reportFile.toPath(), output + System.lineSeparator());
+            } else {
+                System.out.println(output);
+            }
+            return 0;
+
+        } catch (final Exception e) {
+            System.err.println("Error: " + e.getMessage());
+            if (this.verbose) {
+                e.printStackTrace(System.err);
+            }
+            return 1;
+        }
+    }
+
+    /**
+     * Loads the samples and runs warmup, instrumented and measured passes.
+     *
+     * @param <T>           the underlying data representation type
+     * @param handler       the format handler for parsing, must not be {@code null}
+     * @param fixer         the data fixer reporting to {@code profiler}, must not be {@code null}
+     * @param profiler      the listener attached to {@code fixer}, must not be {@code null}
+     * @param targetVersion the target version, must not be {@code null}
+     * @return the profile, or {@code null} if no file needed migration
+     * @throws IOException if reading a file fails
+     */
+    private <T> ProfileReport profile(
+            @NotNull final FormatHandler<T> handler,
+            @NotNull final AetherDataFixer fixer,
+            @NotNull final FixProfiler profiler,
+            @NotNull final DataVersion targetVersion
+    ) throws IOException {
+        Preconditions.checkNotNull(handler, "handler must not be null");
+        Preconditions.checkNotNull(fixer, "fixer must not be null");
+        Preconditions.checkNotNull(profiler, "profiler must not be null");
+        Preconditions.checkNotNull(targetVersion, "targetVersion must not be null");
+
+        final TypeReference typeRef = new TypeReference(this.typeId);
+        final List<Sample> samples = new ArrayList<>();
+        long inputNodes = 0;
+        for (final File file : this.inputFiles) {
+            final T data = handler.read(Files.readAllBytes(file.toPath()));
+            final DataVersion source = this.fromVersion != null
+                    ? new DataVersion(this.fromVersion)
+                    : VersionExtractor.extract(data, handler.ops(), this.versionField);
+            if (source.getVersion() < targetVersion.getVersion()) {
+                samples.add(new Sample(new TaggedDynamic(typeRef, new Dynamic<>(handler.ops(), data)), source));
+                inputNodes += NodeCounter.count(handler.ops(), data);
+            }
+        }
+        if (samples.isEmpty()) {
+            return null;
+        }
+
+        for (int i = 0; i < this.warmupIterations; i++) {
+            for (final Sample sample : samples) {
+                fixer.update(sample.input, sample.version, targetVersion);
+            }
+        }
+
+        final Map<String, RuleCost> rules = new LinkedHashMap<>();
+        long outputNodes = 0;
+        for (final Sample sample : samples) {
+            final DiagnosticContext context = DiagnosticContext.create(RULE_DIAGNOSTICS);
+            final TaggedDynamic migrated = fixer.update(sample.input, sample.version, targetVersion, context);
+            @SuppressWarnings("unchecked") final Dynamic<T> result = (Dynamic<T>) migrated.value();
+            outputNodes += NodeCounter.count(handler.ops(), result.value());
+            for (final FixExecution execution : context.getReport().fixExecutions()) {
+                for (final RuleApplication application : execution.ruleApplications()) {
+                    rules.computeIfAbsent(execution.fixName() + '\u0000' + application.ruleName(),
+                                    key -> new RuleCost(execution.fixName(), application.ruleName()))
+                            .record(application);
+                }
+            }
+        }
+
+        profiler.reset();
+        final long allocatedBefore = FixProfiler.currentThreadAllocatedBytes();
+        final long start = System.nanoTime();
+        for (int i = 0; i < this.iterations; i++) {
+            for (final Sample sample : samples) {
+                fixer.update(sample.input, sample.version, targetVersion);
+            }
+        }
+        final long elapsed = System.nanoTime() - start;
+        final long allocatedAfter = FixProfiler.currentThreadAllocatedBytes();
+
+        final List<ProfileReport.RuleProfile> ruleProfiles = new ArrayList<>(rules.size());
+        rules.values().forEach(cost -> ruleProfiles.add(cost.toProfile()));
+        ruleProfiles.sort(Comparator.comparing(ProfileReport.RuleProfile::totalTime).reversed());
+
+        return new ProfileReport(
+                this.typeId,
+                samples.stream().mapToInt(sample -> sample.version.getVersion()).min().orElse(0),
+                targetVersion.getVersion(),
+                samples.size(),
+                this.warmupIterations,
+                this.iterations,
+                Duration.ofNanos(elapsed),
+                allocatedBefore < 0 ? -1L : allocatedAfter - allocatedBefore,
+                inputNodes,
+                outputNodes,
+                profiler.fixes(),
+                ruleProfiles
+        );
+    }
+
+    /**
+     * A parsed document awaiting migration.
+     *
+     * @param input   the tagged input data
+     * @param version the source version of the data
+     */
+    private record Sample(TaggedDynamic input, DataVersion version) {
+    }
+
+    /**
+     * Mutable accumulator for the applications of one rule within one fix.
+     */
+    private static final class RuleCost {
+
+        private final String fixName;
+        private final String ruleName;
+        private long applications;
+        private long matched;
+        private long nanos;
+
+        private RuleCost(@NotNull final String fixName, @NotNull final String ruleName) {
+            this.fixName = fixName;
+            this.ruleName = ruleName;
+        }
+
+        private void record(@NotNull final RuleApplication application) {
+            this.applications++;
+            if (application.matched()) {
+                this.matched++;
+            }
+            this.nanos += application.duration().toNanos();
+        }
+
+        @NotNull
+        private ProfileReport.RuleProfile toProfile() {
+            return new ProfileReport.RuleProfile(
+                    this.fixName, this.ruleName, this.applications, this.matched, Duration.ofNanos(this.nanos));
+        }
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.cli.command;
+
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.bootstrap.DataFixerBootstrap;
+import de.splatgames.aether.datafixers.cli.bootstrap.BootstrapLoader;
+import de.splatgames.aether.datafixers.cli.daemon.MigrationDaemon;
+import de.splatgames.aether.datafixers.cli.format.FormatHandler;
+import de.splatgames.aether.datafixers.cli.format.FormatRegistry;
+import de.splatgames.aether.datafixers.core.AetherDataFixer;
+import de.splatgames.aether.datafixers.core.bootstrap.DataFixerRuntimeFactory;
+import de.splatgames.aether.datafixers.core.bootstrap.SchemaInitialization;
+import de.splatgames.aether.datafixers.core.warmup.WarmUpOptions;
+import de.splatgames.aether.datafixers.core.warmup.WarmUpReport;
+import org.jetbrains.annotations.NotNull;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * CLI command that keeps a warmed data fixer resident and serves migrations.
+ *
+ * <p>Every {@code migrate} or {@code validate} invocation pays for JVM startup,
+ * bootstrap loading and a cold JIT. The serve command pays once: it loads the bootstrap,
+ * builds all schemas, optionally runs synthetic warm-up migrations, and then answers
+ * newline-delimited JSON requests (see {@link MigrationDaemon}) until it is shut down.</p>
+ *
+ * <p>Without {@code --socket} requests are read from stdin and responses written to
+ * stdout, which suits editor integrations and build tools that spawn the process. With
+ * {@code --socket} the daemon listens on a Unix-domain socket, and
+ * {@code migrate --daemon} and {@code validate --daemon} forward their files to it.</p>
+ *
+ * <h2>Usage Examples</h2>
+ * <pre>{@code
+ * # Serve on a socket after 10 seconds of warm-up
+ * aether-cli serve --to 200 --bootstrap com.example.MyBootstrap --socket /tmp/aether.sock --warm-up 10
+ *
+ * # Migrate through the daemon
+ * aether-cli migrate --to 200 --type player --bootstrap com.example.MyBootstrap --daemon /tmp/aether.sock *.json
+ *
+ * # Serve on stdin/stdout
+ * echo '{"op":"validate","content":"{\"dataVersion\":100}"}' | aether-cli serve --to 200 --bootstrap com.example.MyBootstrap
+ * }</pre>
+ *
+ * <h2>Exit Codes</h2>
+ * <ul>
+ *   <li>{@code 0} - The daemon was shut down or its input ended</li>
+ *   <li>{@code 1} - An error occurred</li>
+ * </ul>
+ *
+ * @author Erik Pförtner
+ * @see de.splatgames.aether.datafixers.cli.AetherCli
+ * @see MigrationDaemon
+ * @since 0.6.0
+ */
+@Command(
+        name = "serve",
+        description = "Keep a warmed data fixer resident and serve migrations over a socket or stdin/stdout.",
+        mixinStandardHelpOptions = true
+)
+public class ServeCommand implements Callable<Integer> {
+
+    /**
+     * Fully qualified class name of the {@link DataFixerBootstrap} implementation.
+     *
+     * <p>Clients compare their own {@code --bootstrap} against it before sending files.</p>
+     *
+     * <p>This is a required option.</p>
+     *
+     * <p>CLI usage: {@code --bootstrap <fully.qualified.ClassName>}</p>
+     *
+     * @see BootstrapLoader#load(String)
+     */
+    @Option(
+            names = {"--bootstrap"},
+            description = "Fully qualified class name of DataFixerBootstrap implementation.",
+            required = true
+    )
+    private String bootstrapClass;
+
+    /**
+     * Current data version of the served fixer; requests may target any version up to it.
+     *
+     * <p>This is a required option.</p>
+     *
+     * <p>CLI usage: {@code --to <version>}</p>
+     */
+    @Option(
+            names = {"--to"},
+            description = "Current data version of the served fixer.",
+            required = true
+    )
+    private int toVersion;
+
+    /**
+     * Unix-domain socket to listen on.
+     *
+     * <p>If not specified, requests are served on stdin/stdout.</p>
+     *
+     * <p>CLI usage: {@code --socket <path>}</p>
+     */
+    @Option(
+            names = {"--socket"},
+            description = "Unix-domain socket to listen on (default: stdin/stdout)."
+    )
+    private File socket;
+
+    /**
+     * Format used by requests that do not name one, and by warm-up documents.
+     *
+     * <p>Default value: {@code json-gson}</p>
+     *
+     * <p>CLI usage: {@code --format <format>}</p>
+     */
+    @Option(
+            names = {"--format"},
+            description = "Default request format (default: json-gson).",
+            defaultValue = "json-gson"
+    )
+    private String format;
+
+    /**
+     * Seconds of synthetic warm-up migrations before serving.
+     *
+     * <p>With {@code 0} the daemon only builds type registries and fix rules, which
+     * removes the first-request bootstrap cost but leaves the JIT cold.</p>
+     *
+     * <p>Default value: {@code 0}</p>
+     *
+     * <p>CLI usage: {@code --warm-up <seconds>}</p>
+     *
+     * @see AetherDataFixer#warmUp(WarmUpOptions)
+     */
+    @Option(
+            names = {"--warm-up"},
+            description = "Seconds of synthetic warm-up migrations before serving (default: 0).",
+            defaultValue = "0"
+    )
+    private int warmUpSeconds;
+
+    /**
+     * Executes the serve command.
+     *
+     * <p>Loads the bootstrap with eager schema initialization, warms the fixer up, and
+     * serves requests until a shutdown request, the end of stdin, or JVM shutdown.</p>
+     *
+     * @return {@code 0} after a regular shutdown, {@code 1} if an error occurred
+     */
+    @Override
+    public Integer call() {
+        final FormatHandler<?> handler = FormatRegistry.get(this.format);
+        if (handler == null) {
+            System.err.println("Unknown format: " + this.format);
+            System.err.println("Available formats: " + FormatRegistry.availableFormats());
+            return 1;
+        }
+        if (this.warmUpSeconds < 0) {
+            System.err.println("--warm-up must not be negative");
+            return 1;
+        }
+
+        try {
+            final DataFixerBootstrap bootstrap = BootstrapLoader.load(this.bootstrapClass);
+            final AetherDataFixer fixer = new DataFixerRuntimeFactory(SchemaInitialization.EAGER)
+                    .create(new DataVersion(this.toVersion), bootstrap);
+            final WarmUpReport report = fixer.warmUp(this.warmUpOptions(handler));
+            System.err.println("Warmed up " + report.schemas() + " schemas, " + report.preparedFixes()
+                    + " fixes and " + report.migrations() + " migrations in "
+                    + report.duration().toMillis() + "ms");
+
+            final MigrationDaemon daemon = new MigrationDaemon(this.bootstrapClass, fixer, this.format);
+            if (this.socket == null) {
+                final Writer out = new OutputStreamWriter(System.out, StandardCharsets.UTF_8);
+                daemon.serve(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)), out);
+                out.flush();
+            } else {
+                final Thread hook = new Thread(daemon::stop, "aether-daemon-shutdown");
+                Runtime.getRuntime().addShutdownHook(hook);
+                try {
+                    System.err.println("Listening on " + this.socket);
+                    daemon.serve(this.socket.toPath());
+                } finally {
+                    removeShutdownHook(hook);
+                }
+            }
+            System.err.println("Served " + daemon.requestCount() + " requests");
+            return 0;
+        } catch (final Exception e) {
+            System.err.println("Error: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    @NotNull
+    private WarmUpOptions warmUpOptions(@NotNull final FormatHandler<?> handler) {
+        if (this.warmUpSeconds == 0) {
+            return WarmUpOptions.prepareOnly();
+        }
+        return WarmUpOptions.builder()
+                .ops(handler.ops())
+                .duration(Duration.ofSeconds(this.warmUpSeconds))
+                .build();
+    }
+
+    private static void removeShutdownHook(@NotNull final Thread hook) {
+        try {
+            Runtime.getRuntime().removeShutdownHook(hook);
+        } catch (final IllegalStateException ignored) {
+            // the JVM is already shutting down and the hook has stopped the daemon
+        }
+    }
+}
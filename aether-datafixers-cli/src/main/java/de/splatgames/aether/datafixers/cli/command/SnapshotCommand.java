@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.cli.command;
+
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.bootstrap.DataFixerBootstrap;
+import de.splatgames.aether.datafixers.cli.bootstrap.BootstrapLoader;
+import de.splatgames.aether.datafixers.core.bootstrap.BootstrapSnapshot;
+import picocli.CommandLine.Command;
+import picocli.CommandLine.Option;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * CLI command that writes a {@link BootstrapSnapshot} of a bootstrap.
+ *
+ * <p>The snapshot records the schema versions, the types of every schema and the fix
+ * plan of every type. Passing it to {@code migrate --snapshot} lets the migrate command
+ * decide per file whether any fix applies and load the bootstrap only when one does,
+ * which removes bootstrap startup from batch jobs over mostly current data.</p>
+ *
+ * <h2>Usage Examples</h2>
+ * <pre>{@code
+ * # Capture at build time
+ * aether-cli snapshot --to 200 --bootstrap com.example.MyBootstrap -o build/bootstrap.snapshot
+ *
+ * # Use at run time
+ * aether-cli migrate --to 200 --type player --bootstrap com.example.MyBootstrap \
+ *     --snapshot build/bootstrap.snapshot data/*.json
+ * }</pre>
+ *
+ * <p>The snapshot must be regenerated whenever schemas or fixes change. It records a
+ * fingerprint of the bootstrap's archive or class directory, and
+ * {@code migrate --snapshot} rejects it once those classes change.</p>
+ *
+ * <h2>Exit Codes</h2>
+ * <ul>
+ *   <li>{@code 0} - The snapshot was written</li>
+ *   <li>{@code 1} - An error occurred</li>
+ * </ul>
+ *
+ * @author Erik Pförtner
+ * @see de.splatgames.aether.datafixers.cli.AetherCli
+ * @see MigrateCommand
+ * @see BootstrapSnapshot
+ * @since 0.6.0
+ */
+@Command(
+        name = "snapshot",
+        description = "Write a precompiled bootstrap snapshot for fast startup.",
+        mixinStandardHelpOptions = true
+)
+public class SnapshotCommand implements Callable<Integer> {
+
+    /**
+     * Fully qualified class name of the {@link DataFixerBootstrap} implementation.
+     *
+     * <p>The class name is stored in the snapshot as its bootstrap id.</p>
+     *
+     * <p>This is a required option.</p>
+     *
+     * <p>CLI usage: {@code --bootstrap <fully.qualified.ClassName>}</p>
+     *
+     * @see BootstrapLoader#load(String)
+     */
+    @Option(
+            names = {"--bootstrap"},
+            description = "Fully qualified class name of DataFixerBootstrap implementation.",
+            required = true
+    )
+    private String bootstrapClass;
+
+    /**
+     * Current data version the snapshot is captured for.
+     *
+     * <p>This is a required option.</p>
+     *
+     * <p>CLI usage: {@code --to <version>}</p>
+     */
+    @Option(
+            names = {"--to"},
+            description = "Current data version of the bootstrap.",
+            required = true
+    )
+    private int toVersion;
+
+    /**
+     * File the snapshot is written to.
+     *
+     * <p>This is a required option.</p>
+     *
+     * <p>CLI usage: {@code -o <path>} or {@code --output <path>}</p>
+     */
+    @Option(
+            names = {"-o", "--output"},
+            description = "Snapshot file to write.",
+            required = true
+    )
+    private File output;
+
+    /**
+     * Executes the snapshot command.
+     *
+     * <p>Loads the bootstrap, captures the snapshot, writes it to {@link #output} and
+     * prints a one-line summary to stderr.</p>
+     *
+     * @return {@code 0} if the snapshot was written, {@code 1} if an error occurred
+     */
+    @Override
+    public Integer call() {
+        try {
+            final DataFixerBootstrap bootstrap = BootstrapLoader.load(this.bootstrapClass);
+            final BootstrapSnapshot snapshot = BootstrapSnapshot.capture(
+                    this.bootstrapClass, new DataVersion(this.toVersion), bootstrap);
+            snapshot.write(this.output.toPath());
+
+            int fixes = 0;
+            for (final TypeReference type : snapshot.fixedTypes()) {
+                final List<BootstrapSnapshot.FixEntry> plan = snapshot.fixPlan(
+                        type, new DataVersion(0), snapshot.currentVersion());
+                fixes += plan.size();
+            }
+            System.err.println("Wrote " + this.output + ": " + snapshot.schemaVersions().size()
+                    + " schemas, " + snapshot.fixedTypes().size() + " fixed types, " + fixes + " fixes");
+            return 0;
+        } catch (final Exception e) {
+            System.err.println("Error writing snapshot: " + e.getMessage());
+            return 1;
+        }
+    }
+}
@@ -25,6 +25,7 @@ package de.splatgames.aether.datafixers.cli.command;
 import de.splatgames.aether.datafixers.api.DataVersion;
 import de.splatgames.aether.datafixers.api.bootstrap.DataFixerBootstrap;
 import de.splatgames.aether.datafixers.cli.bootstrap.BootstrapLoader;
+import de.splatgames.aether.datafixers.cli.daemon.DaemonClient;
 import de.splatgames.aether.datafixers.cli.format.FormatHandler;
 import de.splatgames.aether.datafixers.cli.format.FormatRegistry;
 import de.splatgames.aether.datafixers.cli.util.VersionExtractor;
@@ -35,7 +36,10 @@ import picocli.CommandLine.Option;
 import picocli.CommandLine.Parameters;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.util.Base64;
 import java.util.List;
 import java.util.concurrent.Callable;
 
@@ -56,6 +60,9 @@ import java.util.concurrent.Callable;
  *
  * # Validate with custom version field
  * aether-cli validate --to 200 --type player --version-field meta.version --bootstrap com.example.MyBootstrap input.json
+ *
+ * # Validate through a running "aether-cli serve" daemon
+ * aether-cli validate --to 200 --type player --daemon /tmp/aether.sock --bootstrap com.example.MyBootstrap *.json
  * }</pre>
  *
  * <h2>Exit Codes</h2>
@@ -207,12 +214,31 @@ public class ValidateCommand implements Callable<Integer> {
     )
     private int toVersion;
 
+    /**
+     * Socket of a running {@code aether-cli serve} daemon.
+     *
+     * <p>When specified, the bootstrap is not loaded locally; the daemon reads the
+     * version of each file. The daemon must serve {@link #bootstrapClass}.</p>
+     *
+     * <p>CLI usage: {@code --daemon <socket>}</p>
+     *
+     * @see ServeCommand
+     * @see DaemonClient
+     * @since 0.6.0
+     */
+    @Option(
+            names = {"--daemon"},
+            description = "Unix-domain socket of a running 'serve' daemon to validate with."
+    )
+    private File daemonSocket;
+
     /**
      * Executes the validate command.
      *
      * <p>This method performs the following steps:</p>
      * <ol>
-     *   <li>Loads the {@link DataFixerBootstrap} from {@link #bootstrapClass}</li>
+     *   <li>Loads the {@link DataFixerBootstrap} from {@link #bootstrapClass}, or connects
+     *       to the daemon at {@link #daemonSocket} if set</li>
      *   <li>Creates an {@link AetherDataFixer} instance for the target version</li>
      *   <li>Resolves the {@link FormatHandler} for the specified {@link #format}</li>
      *   <li>Iterates through all {@link #inputFiles} and validates each one</li>
@@ -232,11 +258,13 @@ public class ValidateCommand implements Callable<Integer> {
      */
     @Override
     public Integer call() {
-        try {
-            final DataFixerBootstrap bootstrap = BootstrapLoader.load(this.bootstrapClass);
+        try (DaemonClient daemon = this.daemonSocket != null ? this.connectDaemon() : null) {
             final DataVersion targetVersion = new DataVersion(this.toVersion);
-            new DataFixerRuntimeFactory()
-                    .create(targetVersion, bootstrap);
+            if (daemon == null) {
+                final DataFixerBootstrap bootstrap = BootstrapLoader.load(this.bootstrapClass);
+                new DataFixerRuntimeFactory()
+                        .create(targetVersion, bootstrap);
+            }
 
             final FormatHandler<?> handler = FormatRegistry.get(this.format);
             if (handler == null) {
@@ -250,7 +278,9 @@ public class ValidateCommand implements Callable<Integer> {
             int errors = 0;
 
             for (final File file : this.inputFiles) {
-                final ValidationResult result = validateFile(file, handler, targetVersion);
+                final ValidationResult result = daemon != null
+                        ? validateRemote(file, daemon, handler, targetVersion)
+                        : validateFile(file, handler, targetVersion);
                 switch (result.status) {
                     case UP_TO_DATE -> {
                         upToDate++;
@@ -283,6 +313,59 @@ public class ValidateCommand implements Callable<Integer> {
         }
     }
 
+    /**
+     * Connects to the daemon at {@link #daemonSocket} and checks that it serves
+     * {@link #bootstrapClass}.
+     *
+     * @return the connected client, never {@code null}
+     * @throws IOException      if closing a mismatched connection fails
+     * @throws IllegalArgumentException if the daemon serves another bootstrap
+     */
+    private DaemonClient connectDaemon() throws IOException {
+        final DaemonClient client = DaemonClient.connect(this.daemonSocket.toPath());
+        final DaemonClient.DaemonInfo info = client.hello();
+        if (!info.bootstrap().equals(this.bootstrapClass)) {
+            client.close();
+            throw new IllegalArgumentException("Daemon at " + this.daemonSocket + " serves "
+                    + info.bootstrap() + ", not " + this.bootstrapClass);
+        }
+        return client;
+    }
+
+    /**
+     * Validates a single file by letting a daemon read its version.
+     *
+     * <p>Like {@link #validateFile(File, FormatHandler, DataVersion)}, failures are
+     * returned as an error result. Content of a {@link FormatHandler#binary() binary}
+     * format is sent as Base64.</p>
+     *
+     * @param file          the file to validate, must not be {@code null}
+     * @param daemon        the connected daemon, must not be {@code null}
+     * @param handler       the format handler, used to encode binary content, must not be {@code null}
+     * @param targetVersion the target version to compare against, must not be {@code null}
+     * @return a {@link ValidationResult} indicating the file's status
+     */
+    private ValidationResult validateRemote(
+            final File file,
+            final DaemonClient daemon,
+            final FormatHandler<?> handler,
+            final DataVersion targetVersion
+    ) {
+        try {
+            final byte[] raw = Files.readAllBytes(file.toPath());
+            final String content = handler.binary()
+                    ? Base64.getEncoder().encodeToString(raw)
+                    : new String(raw, StandardCharsets.UTF_8);
+            final int fileVersion = daemon.validate(this.format, this.versionField, content);
+            final ValidationStatus status = fileVersion >= targetVersion.getVersion()
+                    ? ValidationStatus.UP_TO_DATE
+                    : ValidationStatus.NEEDS_MIGRATION;
+            return new ValidationResult(status, fileVersion, null);
+        } catch (final Exception e) {
+            return new ValidationResult(ValidationStatus.ERROR, -1, e.getMessage());
+        }
+    }
+
     /**
      * Validates a single file against the target version.
      *
@@ -312,8 +395,7 @@ public class ValidateCommand implements Callable<Integer> {
             final DataVersion targetVersion
     ) {
         try {
-            final String content = Files.readString(file.toPath());
-            final T data = handler.parse(content);
+            final T data = handler.read(Files.readAllBytes(file.toPath()));
 
             final DataVersion fileVersion = VersionExtractor.extract(
                     data, handler.ops(), this.versionField);
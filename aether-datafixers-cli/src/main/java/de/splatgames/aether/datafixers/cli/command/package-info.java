@@ -34,13 +34,22 @@
  *       - Validate data files and check if migration is needed</li>
  *   <li>{@link de.splatgames.aether.datafixers.cli.command.InfoCommand info}
  *       - Display version and configuration information</li>
+ *   <li>{@link de.splatgames.aether.datafixers.cli.command.ProfileCommand profile}
+ *       - Report per-fix and per-rule migration cost over sample files</li>
+ *   <li>{@link de.splatgames.aether.datafixers.cli.command.BenchCommand bench}
+ *       - Measure migration throughput and compare it against a baseline</li>
+ *   <li>{@link de.splatgames.aether.datafixers.cli.command.SnapshotCommand snapshot}
+ *       - Write a bootstrap snapshot that lets {@code migrate} load the bootstrap lazily</li>
+ *   <li>{@link de.splatgames.aether.datafixers.cli.command.ServeCommand serve}
+ *       - Keep a warmed fixer resident and serve migrations to {@code --daemon} clients</li>
  * </ul>
  *
  * <h2>Exit Codes Convention</h2>
  * <ul>
  *   <li>{@code 0} - Success</li>
  *   <li>{@code 1} - Error occurred</li>
- *   <li>{@code 2} - Validation found files needing migration (validate command only)</li>
+ *   <li>{@code 2} - Validation found files needing migration (validate command), or a
+ *       benchmark regressed against its baseline (bench command)</li>
  * </ul>
  *
  * @see de.splatgames.aether.datafixers.cli.AetherCli
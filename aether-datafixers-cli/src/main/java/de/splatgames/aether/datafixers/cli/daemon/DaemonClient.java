@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.cli.daemon;
+
+import com.google.common.base.Preconditions;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Client for a {@link MigrationDaemon} listening on a Unix-domain socket.
+ *
+ * <p>One client holds one connection; requests on it are answered in order. Every
+ * method throws {@link DaemonException} when the daemon reports a failure or the
+ * connection breaks.</p>
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * try (DaemonClient client = DaemonClient.connect(Path.of("/tmp/aether.sock"))) {
+ *     DaemonClient.RemoteMigration result =
+ *         client.migrate("player", "json-gson", null, 200, "dataVersion", true, content);
+ * }
+ * }</pre>
+ *
+ * @author Erik Pförtner
+ * @since 0.6.0
+ */
+public final class DaemonClient implements Closeable {
+
+    private final SocketChannel channel;
+    private final BufferedReader in;
+    private final Writer out;
+    private long nextId;
+
+    private DaemonClient(@NotNull final SocketChannel channel) {
+        this.channel = channel;
+        this.in = new BufferedReader(Channels.newReader(channel, StandardCharsets.UTF_8));
+        this.out = Channels.newWriter(channel, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Connects to a daemon.
+     *
+     * @param socket the daemon's socket file, must not be {@code null}
+     * @return the connected client, never {@code null}
+     * @throws DaemonException      if no daemon answers on {@code socket}
+     * @throws NullPointerException if {@code socket} is {@code null}
+     */
+    @NotNull
+    public static DaemonClient connect(@NotNull final Path socket) {
+        Preconditions.checkNotNull(socket, "socket must not be null");
+        try {
+            return new DaemonClient(SocketChannel.open(UnixDomainSocketAddress.of(socket)));
+        } catch (final IOException | UnsupportedOperationException e) {
+            throw new DaemonException("Cannot connect to daemon at " + socket + ": " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Asks the daemon which bootstrap it serves.
+     *
+     * @return the daemon's bootstrap and current version, never {@code null}
+     * @throws DaemonException if the request fails
+     */
+    @NotNull
+    public DaemonInfo hello() {
+        final JsonObject response = this.call(request(DaemonProtocol.OP_HELLO));
+        return new DaemonInfo(
+                response.get(DaemonProtocol.BOOTSTRAP).getAsString(),
+                response.get(DaemonProtocol.CURRENT_VERSION).getAsInt());
+    }
+
+    /**
+     * Migrates a document.
+     *
+     * @param type         the type reference id, must not be {@code null}
+     * @param format       the document format, must not be {@code null}
+     * @param fromVersion  the source version, or {@code null} to read it from {@code versionField}
+     * @param toVersion    the target version
+     * @param versionField the version field path, must not be {@code null}
+     * @param pretty       whether the result is pretty-printed
+     * @param content      the document text, must not be {@code null}
+     * @return the migration outcome, never {@code null}
+     * @throws DaemonException      if the request fails
+     * @throws NullPointerException if a required argument is {@code null}
+     */
+    @NotNull
+    public RemoteMigration migrate(
+            @NotNull final String type,
+            @NotNull final String format,
+            @Nullable final Integer fromVersion,
+            final int toVersion,
+            @NotNull final String versionField,
+            final boolean pretty,
+            @NotNull final String content
+    ) {
+        Preconditions.checkNotNull(type, "type must not be null");
+        Preconditions.checkNotNull(format, "format must not be null");
+        Preconditions.checkNotNull(versionField, "versionField must not be null");
+        Preconditions.checkNotNull(content, "content must not be null");
+
+        final JsonObject request = request(DaemonProtocol.OP_MIGRATE);
+        request.addProperty(DaemonProtocol.TYPE, type);
+        request.addProperty(DaemonProtocol.FORMAT, format);
+        if (fromVersion != null) {
+            request.addProperty(DaemonProtocol.FROM, fromVersion);
+        }
+        request.addProperty(DaemonProtocol.TO, toVersion);
+        request.addProperty(DaemonProtocol.VERSION_FIELD, versionField);
+        request.addProperty(DaemonProtocol.PRETTY, pretty);
+        request.addProperty(DaemonProtocol.CONTENT, content);
+
+        final JsonObject response = this.call(request);
+        final JsonElement migrated = response.get(DaemonProtocol.CONTENT);
+        return new RemoteMigration(
+                response.get(DaemonProtocol.FROM).getAsInt(),
+                response.get(DaemonProtocol.TO).getAsInt(),
+                response.get(DaemonProtocol.MIGRATED).getAsBoolean(),
+                migrated == null ? null : migrated.getAsString());
+    }
+
+    /**
+     * Reads the version of a document.
+     *
+     * @param format       the document format, must not be {@code null}
+     * @param versionField the version field path, must not be {@code null}
+     * @param content      the document text, must not be {@code null}
+     * @return the document's version
+     * @throws DaemonException      if the request fails
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public int validate(
+            @NotNull final String format,
+            @NotNull final String versionField,
+            @NotNull final String content
+    ) {
+        Preconditions.checkNotNull(format, "format must not be null");
+        Preconditions.checkNotNull(versionField, "versionField must not be null");
+        Preconditions.checkNotNull(content, "content must not be null");
+
+        final JsonObject request = request(DaemonProtocol.OP_VALIDATE);
+        request.addProperty(DaemonProtocol.FORMAT, format);
+        request.addProperty(DaemonProtocol.VERSION_FIELD, versionField);
+        request.addProperty(DaemonProtocol.CONTENT, content);
+        return this.call(request).get(DaemonProtocol.VERSION).getAsInt();
+    }
+
+    /**
+     * Asks the daemon to stop.
+     *
+     * @throws DaemonException if the request fails
+     */
+    public void shutdown() {
+        this.call(request(DaemonProtocol.OP_SHUTDOWN));
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    @NotNull
+    private synchronized JsonObject call(@NotNull final JsonObject request) {
+        final long id = ++this.nextId;
+        request.addProperty(DaemonProtocol.ID, id);
+
+        final String line;
+        try {
+            this.out.write(DaemonProtocol.GSON.toJson(request));
+            this.out.write('\n');
+            this.out.flush();
+            line = this.in.readLine();
+        } catch (final IOException e) {
+            throw new DaemonException("Daemon connection failed: " + e.getMessage(), e);
+        }
+        if (line == null) {
+            throw new DaemonException("Daemon closed the connection");
+        }
+
+        final JsonObject response;
+        try {
+            response = JsonParser.parseString(line).getAsJsonObject();
+        } catch (final JsonParseException | IllegalStateException e) {
+            throw new DaemonException("Malformed daemon response: " + line, e);
+        }
+        if (!response.get(DaemonProtocol.OK).getAsBoolean()) {
+            throw new DaemonException(response.get(DaemonProtocol.ERROR).getAsString());
+        }
+        final JsonElement echoed = response.get(DaemonProtocol.ID);
+        if (echoed == null || echoed.getAsLong() != id) {
+            throw new DaemonException("Daemon answered out of order: expected id " + id + ", got " + echoed);
+        }
+        return response;
+    }
+
+    @NotNull
+    private static JsonObject request(@NotNull final String op) {
+        final JsonObject request = new JsonObject();
+        request.addProperty(DaemonProtocol.OP, op);
+        return request;
+    }
+
+    /**
+     * What a daemon serves.
+     *
+     * @param bootstrap      the bootstrap class name
+     * @param currentVersion the newest version the daemon migrates to
+     */
+    public record DaemonInfo(@NotNull String bootstrap, int currentVersion) {
+    }
+
+    /**
+     * Outcome of a remote migration.
+     *
+     * @param fromVersion the document's source version
+     * @param toVersion   the target version
+     * @param migrated    {@code false} if the document was already at or past the target
+     * @param content     the migrated document, or {@code null} if not migrated
+     */
+    public record RemoteMigration(int fromVersion, int toVersion, boolean migrated, @Nullable String content) {
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.cli.daemon;
+
+/**
+ * Exception thrown when a daemon request fails or the daemon cannot be reached.
+ *
+ * <p>On the client side this covers connection failures, protocol errors and
+ * requests the daemon answered with an error. The message is the daemon's error
+ * message where one was sent.</p>
+ *
+ * @author Erik Pförtner
+ * @see DaemonClient
+ * @since 0.6.0
+ */
+public class DaemonException extends RuntimeException {
+
+    /**
+     * Constructs a new daemon exception with the specified message.
+     *
+     * @param message the detail message
+     */
+    public DaemonException(final String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new daemon exception with the specified message and cause.
+     *
+     * @param message the detail message
+     * @param cause   the cause of this exception
+     */
+    public DaemonException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
+}
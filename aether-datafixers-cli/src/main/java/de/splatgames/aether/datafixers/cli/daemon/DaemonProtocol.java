@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.cli.daemon;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * Operation and field names of the daemon's NDJSON protocol.
+ *
+ * <p>Every request and response is one JSON object on a single line. Requests carry an
+ * {@value #OP} field and an optional {@value #ID} that is echoed in the response.
+ * Responses carry {@value #OK}; failed ones add {@value #ERROR}.</p>
+ *
+ * @author Erik Pförtner
+ * @since 0.6.0
+ */
+final class DaemonProtocol {
+
+    /**
+     * Returns the daemon's bootstrap and current version.
+     */
+    static final String OP_HELLO = "hello";
+
+    /**
+     * Migrates the document in {@value #CONTENT}.
+     */
+    static final String OP_MIGRATE = "migrate";
+
+    /**
+     * Reports the version of the document in {@value #CONTENT}.
+     */
+    static final String OP_VALIDATE = "validate";
+
+    /**
+     * Stops the daemon after responding.
+     */
+    static final String OP_SHUTDOWN = "shutdown";
+
+    static final String OP = "op";
+    static final String ID = "id";
+    static final String OK = "ok";
+    static final String ERROR = "error";
+    static final String BOOTSTRAP = "bootstrap";
+    static final String CURRENT_VERSION = "currentVersion";
+    static final String TYPE = "type";
+    static final String FORMAT = "format";
+    static final String FROM = "from";
+    static final String TO = "to";
+    static final String VERSION_FIELD = "versionField";
+    static final String PRETTY = "pretty";
+    static final String CONTENT = "content";
+    static final String MIGRATED = "migrated";
+    static final String VERSION = "version";
+
+    /**
+     * Compact Gson instance for encoding protocol lines; never emits line breaks.
+     */
+    static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+
+    private DaemonProtocol() {
+        // constants only
+    }
+}
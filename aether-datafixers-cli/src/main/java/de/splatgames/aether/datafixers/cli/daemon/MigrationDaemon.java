@@ -0,0 +1,462 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.cli.daemon;
+
+import com.google.common.base.Preconditions;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.dynamic.TaggedDynamic;
+import de.splatgames.aether.datafixers.cli.format.FormatHandler;
+import de.splatgames.aether.datafixers.cli.format.FormatRegistry;
+import de.splatgames.aether.datafixers.cli.util.VersionExtractor;
+import de.splatgames.aether.datafixers.core.AetherDataFixer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.net.StandardProtocolFamily;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.Channels;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Long-running server that keeps a warmed {@link AetherDataFixer} resident and answers
+ * migrate and validate requests.
+ *
+ * <p>Requests and responses are newline-delimited JSON (see {@link DaemonProtocol}).
+ * The daemon serves either a single stream pair, typically stdin/stdout, or a
+ * Unix-domain socket that accepts any number of concurrent connections. Documents are
+ * sent as their raw text in any format known to {@link FormatRegistry}, so the client
+ * needs no parsing of its own.</p>
+ *
+ * <h2>Requests</h2>
+ * <pre>{@code
+ * {"op":"hello"}
+ * {"op":"migrate","id":1,"type":"player","to":200,"content":"{\"dataVersion\":100,...}"}
+ * {"op":"validate","id":2,"content":"{\"dataVersion\":100,...}"}
+ * {"op":"shutdown"}
+ * }</pre>
+ *
+ * <p>{@code migrate} accepts the optional fields {@code format}, {@code from},
+ * {@code versionField} and {@code pretty} with the same meaning and defaults as the
+ * {@code migrate} command; {@code to} defaults to the daemon's current version. The
+ * response contains the detected {@code from} version, {@code migrated}, and for
+ * migrated documents the serialized {@code content}.</p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>Requests are handled concurrently, one thread per connection; the fixer and the
+ * format handlers are thread-safe.</p>
+ *
+ * @author Erik Pförtner
+ * @see DaemonClient
+ * @since 0.6.0
+ */
+public final class MigrationDaemon {
+
+    /**
+     * Permissions of the socket file: only the owner may connect.
+     */
+    private static final Set<PosixFilePermission> SOCKET_PERMISSIONS = PosixFilePermissions.fromString("rw-------");
+
+    private final String bootstrapId;
+    private final AetherDataFixer fixer;
+    private final String defaultFormat;
+    private final AtomicLong requests = new AtomicLong();
+    private final CountDownLatch listening = new CountDownLatch(1);
+
+    private volatile boolean running = true;
+    @Nullable
+    private volatile ServerSocketChannel server;
+
+    /**
+     * Creates a daemon for a fixer.
+     *
+     * @param bootstrapId   the bootstrap class name reported to clients, must not be {@code null}
+     * @param fixer         the fixer to migrate with, must not be {@code null}
+     * @param defaultFormat the format used when a request names none, must not be {@code null}
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public MigrationDaemon(
+            @NotNull final String bootstrapId,
+            @NotNull final AetherDataFixer fixer,
+            @NotNull final String defaultFormat
+    ) {
+        Preconditions.checkNotNull(bootstrapId, "bootstrapId must not be null");
+        Preconditions.checkNotNull(fixer, "fixer must not be null");
+        Preconditions.checkNotNull(defaultFormat, "defaultFormat must not be null");
+        this.bootstrapId = bootstrapId;
+        this.fixer = fixer;
+        this.defaultFormat = defaultFormat;
+    }
+
+    /**
+     * Returns the number of requests handled so far.
+     *
+     * @return the request count
+     */
+    public long requestCount() {
+        return this.requests.get();
+    }
+
+    /**
+     * Returns whether the daemon has not been stopped.
+     *
+     * @return {@code true} until {@link #stop()} is called or a shutdown request arrives
+     */
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    /**
+     * Waits until {@link #serve(Path)} accepts connections.
+     *
+     * @param timeout the maximum time to wait, must not be {@code null}
+     * @return {@code true} if the daemon is listening, {@code false} if the timeout elapsed
+     * @throws InterruptedException if the current thread is interrupted while waiting
+     * @throws NullPointerException if {@code timeout} is {@code null}
+     */
+    public boolean awaitListening(@NotNull final Duration timeout) throws InterruptedException {
+        Preconditions.checkNotNull(timeout, "timeout must not be null");
+        return this.listening.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Serves requests from a single stream pair until end of input or a shutdown request.
+     *
+     * @param in  the request lines, must not be {@code null}
+     * @param out the response lines, must not be {@code null}
+     * @throws IOException          if reading or writing fails
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public void serve(@NotNull final BufferedReader in, @NotNull final Writer out) throws IOException {
+        Preconditions.checkNotNull(in, "in must not be null");
+        Preconditions.checkNotNull(out, "out must not be null");
+
+        String line;
+        while (this.running && (line = in.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            out.write(DaemonProtocol.GSON.toJson(this.handle(line)));
+            out.write('\n');
+            out.flush();
+        }
+        if (!this.running) {
+            // a shutdown request only ends the loops; close the listener once it is answered
+            this.stop();
+        }
+    }
+
+    /**
+     * Listens on a Unix-domain socket until {@link #stop()} is called or a client sends a
+     * shutdown request.
+     *
+     * <p>A stale socket file left by a crashed daemon is replaced; if another daemon still
+     * answers on it, this method fails instead. The socket file is deleted on return.</p>
+     *
+     * <p>On POSIX file systems the socket file is created with permissions
+     * {@code rw-------}, so only the daemon's user can connect.</p>
+     *
+     * @param socket the socket file, must not be {@code null}
+     * @throws IOException          if the socket cannot be bound or accepting fails
+     * @throws DaemonException      if another daemon is already listening on {@code socket}
+     * @throws NullPointerException if {@code socket} is {@code null}
+     */
+    public void serve(@NotNull final Path socket) throws IOException {
+        Preconditions.checkNotNull(socket, "socket must not be null");
+
+        if (Files.exists(socket)) {
+            try (SocketChannel probe = SocketChannel.open(UnixDomainSocketAddress.of(socket))) {
+                throw new DaemonException("A daemon is already listening on " + socket);
+            } catch (final IOException stale) {
+                Files.delete(socket);
+            }
+        }
+
+        final AtomicInteger threads = new AtomicInteger();
+        final ExecutorService connections = Executors.newCachedThreadPool(task -> {
+            final Thread thread = new Thread(task, "aether-daemon-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (ServerSocketChannel channel = ServerSocketChannel.open(StandardProtocolFamily.UNIX)) {
+            bindOwnerOnly(channel, socket);
+            this.server = channel;
+            this.listening.countDown();
+            while (this.running) {
+                final SocketChannel connection = channel.accept();
+                connections.execute(() -> this.serveConnection(connection));
+            }
+        } catch (final AsynchronousCloseException e) {
+            if (this.running) {
+                throw e;
+            }
+        } finally {
+            this.server = null;
+            connections.shutdownNow();
+            Files.deleteIfExists(socket);
+        }
+    }
+
+    /**
+     * Binds {@code channel} to {@code socket} with the socket file restricted to its owner.
+     *
+     * <p>The socket is bound inside a fresh owner-only directory next to {@code socket},
+     * restricted and then renamed into place, so no other user can connect before the
+     * permissions are set.</p>
+     */
+    private static void bindOwnerOnly(
+            @NotNull final ServerSocketChannel channel,
+            @NotNull final Path socket
+    ) throws IOException {
+        if (!FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            channel.bind(UnixDomainSocketAddress.of(socket));
+            return;
+        }
+        final Path staging = Files.createTempDirectory(socket.toAbsolutePath().getParent(), ".aether",
+                PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+        final Path staged = staging.resolve("s");
+        try {
+            channel.bind(UnixDomainSocketAddress.of(staged));
+            Files.setPosixFilePermissions(staged, SOCKET_PERMISSIONS);
+            Files.move(staged, socket, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(staged);
+            Files.deleteIfExists(staging);
+        }
+    }
+
+    /**
+     * Stops serving; a socket listener returns, and stream serving ends after the current
+     * request.
+     */
+    public void stop() {
+        this.running = false;
+        final ServerSocketChannel channel = this.server;
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (final IOException ignored) {
+                // closing wakes up accept(); nothing else to do
+            }
+        }
+    }
+
+    /**
+     * Handles one request line and returns the response.
+     *
+     * <p>Never throws for bad requests; failures are reported as {@code "ok": false}.</p>
+     *
+     * @param line the request line, must not be {@code null}
+     * @return the response, never {@code null}
+     */
+    @NotNull
+    JsonObject handle(@NotNull final String line) {
+        final JsonObject request;
+        try {
+            request = JsonParser.parseString(line).getAsJsonObject();
+        } catch (final JsonParseException | IllegalStateException e) {
+            return error(null, "Malformed request: " + e.getMessage());
+        }
+        return this.handle(request);
+    }
+
+    /**
+     * Handles one request and returns the response.
+     *
+     * @param request the request, must not be {@code null}
+     * @return the response, never {@code null}
+     */
+    @NotNull
+    JsonObject handle(@NotNull final JsonObject request) {
+        this.requests.incrementAndGet();
+        final JsonElement id = request.get(DaemonProtocol.ID);
+        try {
+            final JsonObject response = switch (string(request, DaemonProtocol.OP, "")) {
+                case DaemonProtocol.OP_HELLO -> this.hello();
+                case DaemonProtocol.OP_MIGRATE -> this.migrate(request, this.handler(request));
+                case DaemonProtocol.OP_VALIDATE -> this.validate(request, this.handler(request));
+                case DaemonProtocol.OP_SHUTDOWN -> {
+                    this.running = false;
+                    yield new JsonObject();
+                }
+                default -> throw new IllegalArgumentException(
+                        "Unknown op: " + string(request, DaemonProtocol.OP, "<missing>"));
+            };
+            if (id != null) {
+                response.add(DaemonProtocol.ID, id);
+            }
+            response.addProperty(DaemonProtocol.OK, true);
+            return response;
+        } catch (final Exception e) {
+            return error(id, e.getMessage() != null ? e.getMessage() : e.getClass().getName());
+        }
+    }
+
+    private void serveConnection(@NotNull final SocketChannel connection) {
+        try (connection;
+             BufferedReader in = new BufferedReader(Channels.newReader(connection, StandardCharsets.UTF_8));
+             Writer out = Channels.newWriter(connection, StandardCharsets.UTF_8)) {
+            this.serve(in, out);
+        } catch (final IOException ignored) {
+            // client went away; its requests are already answered or lost with it
+        }
+    }
+
+    @NotNull
+    private JsonObject hello() {
+        final JsonObject response = new JsonObject();
+        response.addProperty(DaemonProtocol.BOOTSTRAP, this.bootstrapId);
+        response.addProperty(DaemonProtocol.CURRENT_VERSION, this.fixer.currentVersion().getVersion());
+        return response;
+    }
+
+    @NotNull
+    private <T> JsonObject migrate(@NotNull final JsonObject request, @NotNull final FormatHandler<T> handler) {
+        final TypeReference type = new TypeReference(required(request, DaemonProtocol.TYPE));
+        final DataVersion targetVersion = this.targetVersion(request);
+        final T data = handler.parse(required(request, DaemonProtocol.CONTENT));
+        final DataVersion sourceVersion = this.sourceVersion(request, handler, data);
+
+        final JsonObject response = new JsonObject();
+        response.addProperty(DaemonProtocol.FROM, sourceVersion.getVersion());
+        response.addProperty(DaemonProtocol.TO, targetVersion.getVersion());
+        if (sourceVersion.compareTo(targetVersion) >= 0) {
+            response.addProperty(DaemonProtocol.MIGRATED, false);
+            return response;
+        }
+
+        final TaggedDynamic migrated = this.fixer.update(
+                new TaggedDynamic(type, new Dynamic<>(handler.ops(), data)), sourceVersion, targetVersion);
+        @SuppressWarnings("unchecked")
+        final T result = ((Dynamic<T>) migrated.value()).value();
+        final boolean pretty = !request.has(DaemonProtocol.PRETTY)
+                || request.get(DaemonProtocol.PRETTY).getAsBoolean();
+        response.addProperty(DaemonProtocol.MIGRATED, true);
+        response.addProperty(DaemonProtocol.CONTENT,
+                pretty ? handler.serializePretty(result) : handler.serialize(result));
+        return response;
+    }
+
+    @NotNull
+    private <T> JsonObject validate(@NotNull final JsonObject request, @NotNull final FormatHandler<T> handler) {
+        final DataVersion targetVersion = this.targetVersion(request);
+        final T data = handler.parse(required(request, DaemonProtocol.CONTENT));
+        final DataVersion version = this.sourceVersion(request, handler, data);
+
+        final JsonObject response = new JsonObject();
+        response.addProperty(DaemonProtocol.VERSION, version.getVersion());
+        response.addProperty(DaemonProtocol.MIGRATED, version.compareTo(targetVersion) < 0);
+        return response;
+    }
+
+    @NotNull
+    private FormatHandler<?> handler(@NotNull final JsonObject request) {
+        final String format = string(request, DaemonProtocol.FORMAT, this.defaultFormat);
+        final FormatHandler<?> handler = FormatRegistry.get(format);
+        if (handler == null) {
+            throw new IllegalArgumentException("Unknown format: " + format);
+        }
+        return handler;
+    }
+
+    @NotNull
+    private DataVersion targetVersion(@NotNull final JsonObject request) {
+        if (!request.has(DaemonProtocol.TO)) {
+            return this.fixer.currentVersion();
+        }
+        final DataVersion target = new DataVersion(request.get(DaemonProtocol.TO).getAsInt());
+        if (target.compareTo(this.fixer.currentVersion()) > 0) {
+            throw new IllegalArgumentException("Target version " + target.getVersion()
+                    + " is newer than the daemon's current version " + this.fixer.currentVersion().getVersion());
+        }
+        return target;
+    }
+
+    @NotNull
+    private <T> DataVersion sourceVersion(
+            @NotNull final JsonObject request,
+            @NotNull final FormatHandler<T> handler,
+            @NotNull final T data
+    ) {
+        if (request.has(DaemonProtocol.FROM)) {
+            return new DataVersion(request.get(DaemonProtocol.FROM).getAsInt());
+        }
+        return VersionExtractor.extract(data, handler.ops(),
+                string(request, DaemonProtocol.VERSION_FIELD, "dataVersion"));
+    }
+
+    @NotNull
+    private static String required(@NotNull final JsonObject request, @NotNull final String field) {
+        final JsonElement value = request.get(field);
+        if (value == null || value.isJsonNull()) {
+            throw new IllegalArgumentException("Missing field: " + field);
+        }
+        return value.getAsString();
+    }
+
+    @NotNull
+    private static String string(
+            @NotNull final JsonObject request,
+            @NotNull final String field,
+            @NotNull final String defaultValue
+    ) {
+        final JsonElement value = request.get(field);
+        return value == null || value.isJsonNull() ? defaultValue : value.getAsString();
+    }
+
+    @NotNull
+    private static JsonObject error(@Nullable final JsonElement id, @NotNull final String message) {
+        final JsonObject response = new JsonObject();
+        if (id != null) {
+            response.add(DaemonProtocol.ID, id);
+        }
+        response.addProperty(DaemonProtocol.OK, false);
+        response.addProperty(DaemonProtocol.ERROR, message);
+        return response;
+    }
+}
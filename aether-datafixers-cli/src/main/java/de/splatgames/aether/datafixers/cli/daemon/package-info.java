@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * Long-running server mode for the CLI.
+ *
+ * <p>Starting the JVM, loading a bootstrap and warming the fixer dominate the cost of
+ * migrating a single small file. The {@code serve} command keeps one warmed fixer
+ * resident and answers newline-delimited JSON requests on stdin/stdout or a
+ * Unix-domain socket; {@code migrate --daemon} and {@code validate --daemon} forward
+ * their files to it instead of bootstrapping locally.</p>
+ *
+ * <h2>Key Classes</h2>
+ * <ul>
+ *   <li>{@link de.splatgames.aether.datafixers.cli.daemon.MigrationDaemon}
+ *       - Serves migrate and validate requests</li>
+ *   <li>{@link de.splatgames.aether.datafixers.cli.daemon.DaemonClient}
+ *       - Sends requests to a daemon over its socket</li>
+ * </ul>
+ *
+ * @see de.splatgames.aether.datafixers.cli.command.ServeCommand
+ * @since 0.6.0
+ */
+package de.splatgames.aether.datafixers.cli.daemon;
@@ -25,6 +25,10 @@ package de.splatgames.aether.datafixers.cli.format;
 import de.splatgames.aether.datafixers.api.dynamic.DynamicOps;
 import org.jetbrains.annotations.NotNull;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+
 /**
  * Service Provider Interface for format handlers.
  *
@@ -39,8 +43,17 @@ import org.jetbrains.annotations.NotNull;
  *   <li>{@code yaml-jackson} — YAML format using Jackson YAML</li>
  *   <li>{@code toml-jackson} — TOML format using Jackson TOML</li>
  *   <li>{@code xml-jackson} — XML format using Jackson XML</li>
+ *   <li>{@code nbt} — binary NBT using the codec module's {@code NbtOps}</li>
  * </ul>
  *
+ * <h2>Binary Formats</h2>
+ * <p>Commands read and write files through {@link #read(byte[])} and
+ * {@link #write(Object, boolean)}. Text formats inherit defaults that decode and
+ * encode UTF-8; binary formats override both and report {@link #binary()} as
+ * {@code true}. The string methods of a binary handler operate on a textual
+ * encoding of the bytes (for example Base64) so that data can still travel over
+ * text-only channels such as the daemon protocol.</p>
+ *
  * <h2>Implementing a Custom Format Handler</h2>
  * <pre>{@code
  * public class YamlFormatHandler implements FormatHandler<YamlNode> {
@@ -141,4 +154,58 @@ public interface FormatHandler<T> {
     default String serializePretty(@NotNull T data) {
         return serialize(data);
     }
+
+    /**
+     * Returns whether this format stores data as raw bytes rather than text.
+     *
+     * <p>Binary output is never terminated with a newline when written to
+     * standard output, and its string form is a transport encoding rather than
+     * a human-readable document.</p>
+     *
+     * @return {@code true} for binary formats; {@code false} by default
+     * @since 0.6.0
+     */
+    default boolean binary() {
+        return false;
+    }
+
+    /**
+     * Parses raw file content into the format's data representation.
+     *
+     * <p>Default implementation decodes the bytes as UTF-8 and delegates to
+     * {@link #parse(String)}. Malformed UTF-8 is rejected rather than replaced,
+     * matching {@link java.nio.file.Files#readString(java.nio.file.Path)}.</p>
+     *
+     * @param content the raw content to parse
+     * @return the parsed data
+     * @throws FormatParseException if the content is not valid UTF-8 or parsing fails
+     * @since 0.6.0
+     */
+    @NotNull
+    default T read(@NotNull final byte[] content) {
+        final String text;
+        try {
+            text = StandardCharsets.UTF_8.newDecoder().decode(ByteBuffer.wrap(content)).toString();
+        } catch (final CharacterCodingException e) {
+            throw new FormatParseException("Content is not valid UTF-8", e);
+        }
+        return parse(text);
+    }
+
+    /**
+     * Serializes data to raw file content.
+     *
+     * <p>Default implementation encodes the result of {@link #serialize(Object)}
+     * or {@link #serializePretty(Object)} as UTF-8.</p>
+     *
+     * @param data   the data to serialize
+     * @param pretty whether pretty printing was requested; binary formats may ignore it
+     * @return the serialized bytes
+     * @since 0.6.0
+     */
+    @NotNull
+    default byte[] write(@NotNull final T data, final boolean pretty) {
+        final String text = pretty ? serializePretty(data) : serialize(data);
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
 }
@@ -48,6 +48,7 @@ import java.util.ServiceLoader;
  *   <li>{@link YamlJacksonFormatHandler} - YAML using Jackson ({@code yaml-jackson})</li>
  *   <li>{@link TomlJacksonFormatHandler} - TOML using Jackson ({@code toml-jackson})</li>
  *   <li>{@link XmlJacksonFormatHandler} - XML using Jackson ({@code xml-jackson})</li>
+ *   <li>{@link NbtFormatHandler} - binary NBT ({@code nbt})</li>
  * </ol>
  *
  * <h2>Custom Handler Registration</h2>
@@ -101,7 +102,8 @@ public final class FormatRegistry {
             "yaml-snakeyaml",
             "yaml-jackson",
             "toml-jackson",
-            "xml-jackson"
+            "xml-jackson",
+            "nbt"
     );
 
     /*
@@ -115,7 +117,8 @@ public final class FormatRegistry {
      * 4. YamlJacksonFormatHandler (yaml-jackson)
      * 5. TomlJacksonFormatHandler (toml-jackson)
      * 6. XmlJacksonFormatHandler (xml-jackson)
-     * 7. ServiceLoader-discovered handlers (excluding duplicates of built-in IDs)
+     * 7. NbtFormatHandler (nbt)
+     * 8. ServiceLoader-discovered handlers (excluding duplicates of built-in IDs)
      */
     static {
         // Load built-in handlers first
@@ -125,6 +128,7 @@ public final class FormatRegistry {
         register(new YamlJacksonFormatHandler());
         register(new TomlJacksonFormatHandler());
         register(new XmlJacksonFormatHandler());
+        register(new NbtFormatHandler());
 
         // Load SPI handlers (may override built-in handlers)
         final ServiceLoader<FormatHandler> loader = ServiceLoader.load(FormatHandler.class);
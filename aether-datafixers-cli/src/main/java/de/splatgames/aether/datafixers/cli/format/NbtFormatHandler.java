@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.cli.format;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.dynamic.DynamicOps;
+import de.splatgames.aether.datafixers.codec.nbt.NbtCompression;
+import de.splatgames.aether.datafixers.codec.nbt.NbtOps;
+import de.splatgames.aether.datafixers.codec.nbt.NbtReader;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtWriter;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+
+/**
+ * Format handler for binary NBT (Named Binary Tag) files.
+ *
+ * <p>This handler reads and writes NBT through the streaming
+ * {@link NbtReader} and {@link NbtWriter} and integrates with Aether Datafixers
+ * via {@link NbtOps}. Files are decoded straight from bytes; no intermediate
+ * text representation is built.</p>
+ *
+ * <h2>Format Details</h2>
+ * <ul>
+ *   <li><b>Format ID:</b> {@code nbt}</li>
+ *   <li><b>File Extensions:</b> {@code .nbt}, {@code .dat}</li>
+ *   <li><b>Data Type:</b> {@link NbtTag}</li>
+ * </ul>
+ *
+ * <h2>Compression</h2>
+ * <p>Input compression (none, GZIP or zlib) is detected automatically. Output is
+ * always GZIP-compressed, which is what most NBT consumers expect for
+ * {@code .dat} files.</p>
+ *
+ * <h2>String Form</h2>
+ * <p>NBT has no textual syntax, so {@link #parse(String)} and
+ * {@link #serialize(NbtTag)} use the Base64 encoding of the file bytes. This is
+ * what travels over text-only channels such as the daemon protocol.</p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This handler is stateless and thread-safe.</p>
+ *
+ * @author Erik Pförtner
+ * @see FormatHandler
+ * @see NbtOps
+ * @since 0.6.0
+ */
+public class NbtFormatHandler implements FormatHandler<NbtTag> {
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code "nbt"}
+     */
+    @Override
+    @NotNull
+    public String formatId() {
+        return "nbt";
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code "Binary NBT format (GZIP output)"}
+     */
+    @Override
+    @NotNull
+    public String description() {
+        return "Binary NBT format (GZIP output)";
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return an array containing {@code "nbt"} and {@code "dat"}
+     */
+    @Override
+    @NotNull
+    public String[] fileExtensions() {
+        return new String[]{"nbt", "dat"};
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link NbtOps#INSTANCE}
+     */
+    @Override
+    @NotNull
+    public DynamicOps<NbtTag> ops() {
+        return NbtOps.INSTANCE;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return always {@code true}
+     */
+    @Override
+    public boolean binary() {
+        return true;
+    }
+
+    /**
+     * Decodes NBT bytes, detecting the compression automatically.
+     *
+     * @param content the raw file content, must not be {@code null}
+     * @return the root tag, never {@code null}
+     * @throws FormatParseException if the content is empty or is not valid NBT
+     */
+    @Override
+    @NotNull
+    public NbtTag read(@NotNull final byte[] content) {
+        Preconditions.checkNotNull(content, "content must not be null");
+
+        if (content.length == 0) {
+            throw new FormatParseException("Cannot parse empty content");
+        }
+        try (NbtReader reader = NbtReader.open(new ByteArrayInputStream(content))) {
+            return reader.read();
+        } catch (final IOException e) {
+            throw new FormatParseException("Failed to parse NBT: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Encodes a tag as GZIP-compressed NBT with an empty root name.
+     *
+     * @param data   the root tag, must not be {@code null}
+     * @param pretty ignored; NBT has no pretty form
+     * @return the encoded bytes
+     */
+    @Override
+    @NotNull
+    public byte[] write(@NotNull final NbtTag data, final boolean pretty) {
+        Preconditions.checkNotNull(data, "data must not be null");
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (NbtWriter writer = NbtWriter.open(out, NbtCompression.GZIP)) {
+            writer.write(data);
+        } catch (final IOException e) {
+            // Only the in-memory sink is involved, so this indicates an invalid tag tree
+            throw new UncheckedIOException("Failed to encode NBT", e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decodes the Base64 form of an NBT file.
+     *
+     * @param content the Base64 text, must not be {@code null}
+     * @return the root tag, never {@code null}
+     * @throws FormatParseException if the content is blank, not Base64, or not valid NBT
+     */
+    @Override
+    @NotNull
+    public NbtTag parse(@NotNull final String content) {
+        Preconditions.checkNotNull(content, "content must not be null");
+
+        if (content.isBlank()) {
+            throw new FormatParseException("Cannot parse empty or whitespace-only content");
+        }
+        final byte[] bytes;
+        try {
+            bytes = Base64.getMimeDecoder().decode(content.strip());
+        } catch (final IllegalArgumentException e) {
+            throw new FormatParseException("NBT text content must be Base64: " + e.getMessage(), e);
+        }
+        return read(bytes);
+    }
+
+    /**
+     * Encodes a tag as the Base64 form of a GZIP-compressed NBT file.
+     *
+     * @param data the root tag, must not be {@code null}
+     * @return the Base64 text
+     */
+    @Override
+    @NotNull
+    public String serialize(@NotNull final NbtTag data) {
+        return Base64.getEncoder().encodeToString(write(data, false));
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.cli.profile;
+
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.fix.DataFix;
+import de.splatgames.aether.datafixers.core.fix.MigrationListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link MigrationListener} that records wall time and allocated bytes per fix.
+ *
+ * <p>Wall time is taken from the durations reported by the data fixer. Allocated bytes are
+ * read from {@link com.sun.management.ThreadMXBean#getCurrentThreadAllocatedBytes()} before
+ * and after each fix; on JVMs without that extension, or with allocation measurement
+ * disabled, allocations are reported as {@code -1}.</p>
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * FixProfiler profiler = new FixProfiler();
+ * AetherDataFixer fixer = new DataFixerRuntimeFactory()
+ *     .create(version, bootstrap, builder -> builder.withMigrationListener(profiler));
+ *
+ * // ... warm up, then profiler.reset() and run the measured migrations
+ * List<ProfileReport.FixProfile> fixes = profiler.fixes();
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is not thread-safe. Migrations being profiled must run on a single
+ * thread.</p>
+ *
+ * @author Erik Pförtner
+ * @see ProfileReport
+ * @since 0.6.0
+ */
+public final class FixProfiler implements MigrationListener {
+
+    @Nullable
+    private static final com.sun.management.ThreadMXBean ALLOCATIONS = allocationBean();
+
+    private final Map<String, FixCost> costs = new LinkedHashMap<>();
+    private long fixStartAllocated;
+
+    /**
+     * Returns the bytes allocated by the current thread so far.
+     *
+     * @return the allocated bytes, or {@code -1} if allocation measurement is unsupported
+     */
+    public static long currentThreadAllocatedBytes() {
+        return ALLOCATIONS != null ? ALLOCATIONS.getCurrentThreadAllocatedBytes() : -1L;
+    }
+
+    @Override
+    public void onFixStarted(@NotNull final TypeReference type, @NotNull final DataFix<?> fix) {
+        this.fixStartAllocated = currentThreadAllocatedBytes();
+    }
+
+    @Override
+    public void onFixApplied(@NotNull final TypeReference type,
+                             @NotNull final DataFix<?> fix,
+                             final long durationNanos) {
+        this.record(fix, durationNanos);
+    }
+
+    @Override
+    public void onFixFailed(@NotNull final TypeReference type,
+                            @NotNull final DataFix<?> fix,
+                            final long durationNanos,
+                            @NotNull final Throwable error) {
+        this.record(fix, durationNanos);
+    }
+
+    private void record(@NotNull final DataFix<?> fix, final long durationNanos) {
+        final FixCost cost = this.costs.computeIfAbsent(fix.name(), name -> new FixCost());
+        cost.invocations++;
+        cost.nanos += durationNanos;
+        if (this.fixStartAllocated >= 0) {
+            cost.allocatedBytes += currentThreadAllocatedBytes() - this.fixStartAllocated;
+        }
+    }
+
+    /**
+     * Returns the recorded per-fix costs, most expensive first.
+     *
+     * @return a new list of fix profiles, never {@code null}
+     */
+    @NotNull
+    public List<ProfileReport.FixProfile> fixes() {
+        final List<ProfileReport.FixProfile> result = new ArrayList<>(this.costs.size());
+        this.costs.forEach((name, cost) -> result.add(new ProfileReport.FixProfile(
+                name,
+                cost.invocations,
+                Duration.ofNanos(cost.nanos),
+                ALLOCATIONS != null ? cost.allocatedBytes : -1L
+        )));
+        result.sort(Comparator.comparing(ProfileReport.FixProfile::totalTime).reversed());
+        return result;
+    }
+
+    /**
+     * Discards all recorded costs, e.g. after warmup iterations.
+     */
+    public void reset() {
+        this.costs.clear();
+    }
+
+    @Nullable
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean allocations
+                && allocations.isThreadAllocatedMemorySupported()) {
+            if (!allocations.isThreadAllocatedMemoryEnabled()) {
+                allocations.setThreadAllocatedMemoryEnabled(true);
+            }
+            return allocations;
+        }
+        return null;
+    }
+
+    /**
+     * Mutable accumulator for one fix.
+     */
+    private static final class FixCost {
+
+        private long invocations;
+        private long nanos;
+        private long allocatedBytes;
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.cli.profile;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Result of profiling a migration over a set of sample documents.
+ *
+ * <p>Produced by the {@code profile} command and rendered by
+ * {@link de.splatgames.aether.datafixers.cli.report.ReportFormatter#formatProfile(ProfileReport)}.
+ * Timings and allocations cover only the measured iterations; warmup iterations are
+ * excluded.</p>
+ *
+ * @param type             the type reference ID
+ * @param fromVersion      the lowest source version among the documents
+ * @param toVersion        the target version
+ * @param documents        the number of profiled documents per iteration
+ * @param warmupIterations the number of discarded warmup iterations
+ * @param iterations       the number of measured iterations
+ * @param totalDuration    the wall time of all measured iterations
+ * @param allocatedBytes   the bytes allocated during the measured iterations, or {@code -1}
+ *                         if the JVM does not support allocation measurement
+ * @param inputNodes       the summed node count of all documents before migration
+ * @param outputNodes      the summed node count of all documents after migration
+ * @param fixes            per-fix statistics, most expensive first
+ * @param rules            per-rule statistics from one instrumented pass, most expensive first
+ * @author Erik Pförtner
+ * @see FixProfiler
+ * @since 0.6.0
+ */
+public record ProfileReport(
+        @NotNull String type,
+        int fromVersion,
+        int toVersion,
+        int documents,
+        int warmupIterations,
+        int iterations,
+        @NotNull Duration totalDuration,
+        long allocatedBytes,
+        long inputNodes,
+        long outputNodes,
+        @NotNull List<FixProfile> fixes,
+        @NotNull List<RuleProfile> rules
+) {
+
+    /**
+     * Compact constructor that validates and copies the components.
+     */
+    public ProfileReport {
+        Preconditions.checkNotNull(type, "type must not be null");
+        Preconditions.checkNotNull(totalDuration, "totalDuration must not be null");
+        fixes = List.copyOf(Preconditions.checkNotNull(fixes, "fixes must not be null"));
+        rules = List.copyOf(Preconditions.checkNotNull(rules, "rules must not be null"));
+    }
+
+    /**
+     * Returns the number of measured migrations.
+     *
+     * @return documents times iterations
+     */
+    public long migrations() {
+        return (long) this.documents * this.iterations;
+    }
+
+    /**
+     * Returns the measured throughput.
+     *
+     * @return migrated documents per second, or {@code 0} if nothing was measured
+     */
+    public double documentsPerSecond() {
+        final long nanos = this.totalDuration.toNanos();
+        return nanos == 0 ? 0.0 : this.migrations() * 1_000_000_000.0 / nanos;
+    }
+
+    /**
+     * Cost of one fix across all measured migrations.
+     *
+     * @param fixName        the fix name
+     * @param invocations    the number of applications
+     * @param totalTime      the summed wall time of all applications
+     * @param allocatedBytes the bytes allocated while the fix ran, or {@code -1} if unsupported
+     * @author Erik Pförtner
+     * @since 0.6.0
+     */
+    public record FixProfile(
+            @NotNull String fixName,
+            long invocations,
+            @NotNull Duration totalTime,
+            long allocatedBytes
+    ) {
+
+        /**
+         * Returns the mean wall time of one application.
+         *
+         * @return the mean duration, or {@link Duration#ZERO} if the fix never ran
+         */
+        @NotNull
+        public Duration meanTime() {
+            return this.invocations == 0 ? Duration.ZERO : this.totalTime.dividedBy(this.invocations);
+        }
+    }
+
+    /**
+     * Cost of one rewrite rule inside a fix.
+     *
+     * @param fixName      the name of the fix that applied the rule
+     * @param ruleName     the rule name
+     * @param applications the number of applications
+     * @param matched      the number of applications that matched and transformed data
+     * @param totalTime    the summed wall time of all applications
+     * @author Erik Pförtner
+     * @since 0.6.0
+     */
+    public record RuleProfile(
+            @NotNull String fixName,
+            @NotNull String ruleName,
+            long applications,
+            long matched,
+            @NotNull Duration totalTime
+    ) {
+    }
+}
@@ -25,10 +25,18 @@ package de.splatgames.aether.datafixers.cli.report;
 import com.google.common.base.Preconditions;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import de.splatgames.aether.datafixers.cli.bench.BaselineComparison;
+import de.splatgames.aether.datafixers.cli.bench.BenchmarkReport;
+import de.splatgames.aether.datafixers.cli.bench.BenchmarkRunner;
+import de.splatgames.aether.datafixers.cli.profile.ProfileReport;
+import de.splatgames.aether.datafixers.core.diagnostic.AggregatedMigrationReport;
+import de.splatgames.aether.datafixers.core.diagnostic.FixStatistics;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Duration;
+import java.util.Map;
 
 /**
  * JSON report formatter for machine-readable output.
@@ -56,6 +64,30 @@ import java.time.Duration;
  *   <li>{@code durationMs} (integer) - Migration duration in milliseconds</li>
  * </ul>
  *
+ * <h2>Aggregated Output Format</h2>
+ * <p>{@link #formatAggregate(AggregatedMigrationReport)} produces a single object with
+ * {@code migrations}, {@code fromVersion}, {@code toVersion}, a {@code duration} object
+ * ({@code totalMs}, {@code meanMs}, {@code p50Ms}, {@code p99Ms}, {@code maxMs}), a
+ * {@code fixes} object keyed by fix name, a {@code touchedTypes} object of counts,
+ * {@code ruleApplications} and a {@code warnings} object ({@code count},
+ * {@code messages}, {@code omitted}). Fix durations are in fractional milliseconds.</p>
+ *
+ * <h2>Profile Output Format</h2>
+ * <p>{@link #formatProfile(ProfileReport)} produces a single object with the run summary
+ * ({@code type}, {@code fromVersion}, {@code toVersion}, {@code documents},
+ * {@code warmupIterations}, {@code iterations}, {@code totalMs}, {@code documentsPerSecond},
+ * {@code allocatedBytes}, {@code inputNodes}, {@code outputNodes}) and {@code fixes} and
+ * {@code rules} arrays sorted by total time. Unknown allocations are {@code -1}.</p>
+ *
+ * <h2>Benchmark Output Format</h2>
+ * <p>{@link #formatBenchmark(BenchmarkReport)} produces a single object with the run summary
+ * ({@code type}, {@code fromVersion}, {@code toVersion}, {@code source}, {@code documents},
+ * {@code threads}, {@code warmupIterations}, {@code iterations}, {@code migrations},
+ * {@code wallMs}, {@code throughput}), a {@code latency} object ({@code meanMs}, {@code p50Ms},
+ * {@code p90Ms}, {@code p99Ms}, {@code maxMs}) and, if a baseline was given, a {@code baseline}
+ * object with the changes and {@code regressed}. This output is also the baseline format
+ * read by {@link de.splatgames.aether.datafixers.cli.bench.BenchmarkBaseline#parse(String)}.</p>
+ *
  * <h2>Use Cases</h2>
  * <ul>
  *   <li>Parsing migration results in shell scripts with {@code jq}</li>
@@ -122,4 +154,174 @@ public class JsonReportFormatter implements ReportFormatter {
 
         return GSON.toJson(json);
     }
+
+    /**
+     * Formats an aggregated report as a JSON object.
+     *
+     * @param report the aggregated report, must not be {@code null}
+     * @return a pretty-printed JSON string representing the aggregated report
+     * @throws NullPointerException if report is {@code null}
+     * @since 0.6.0
+     */
+    @Override
+    @NotNull
+    public String formatAggregate(@NotNull final AggregatedMigrationReport report) {
+        Preconditions.checkNotNull(report, "report must not be null");
+
+        final JsonObject json = new JsonObject();
+        json.addProperty("migrations", report.migrations());
+        json.addProperty("fromVersion", report.lowestFromVersion());
+        json.addProperty("toVersion", report.highestToVersion());
+
+        final JsonObject duration = new JsonObject();
+        duration.addProperty("totalMs", report.totalDuration().toMillis());
+        duration.addProperty("meanMs", millis(report.meanDuration()));
+        duration.addProperty("p50Ms", millis(report.p50Duration()));
+        duration.addProperty("p99Ms", millis(report.p99Duration()));
+        duration.addProperty("maxMs", millis(report.maxDuration()));
+        json.add("duration", duration);
+
+        final JsonObject fixes = new JsonObject();
+        for (final FixStatistics fix : report.fixes().values()) {
+            final JsonObject entry = new JsonObject();
+            entry.addProperty("count", fix.samples());
+            entry.addProperty("totalMs", millis(fix.total()));
+            entry.addProperty("meanMs", millis(fix.mean()));
+            entry.addProperty("p50Ms", millis(fix.p50()));
+            entry.addProperty("p99Ms", millis(fix.p99()));
+            entry.addProperty("maxMs", millis(fix.max()));
+            fixes.add(fix.fixName(), entry);
+        }
+        json.add("fixes", fixes);
+
+        final JsonObject types = new JsonObject();
+        report.touchedTypes().forEach(types::addProperty);
+        json.add("touchedTypes", types);
+        json.addProperty("ruleApplications", report.ruleApplications());
+
+        final JsonObject warnings = new JsonObject();
+        warnings.addProperty("count", report.warningCount());
+        final JsonObject messages = new JsonObject();
+        for (final Map.Entry<String, Long> warning : report.warnings().entrySet()) {
+            messages.addProperty(warning.getKey(), warning.getValue());
+        }
+        warnings.add("messages", messages);
+        warnings.addProperty("omitted", report.omittedWarnings());
+        json.add("warnings", warnings);
+
+        return GSON.toJson(json);
+    }
+
+    /**
+     * Formats a profile report as a JSON object.
+     *
+     * @param report the profile report, must not be {@code null}
+     * @return a pretty-printed JSON string representing the profile
+     * @throws NullPointerException if report is {@code null}
+     * @since 0.6.0
+     */
+    @Override
+    @NotNull
+    public String formatProfile(@NotNull final ProfileReport report) {
+        Preconditions.checkNotNull(report, "report must not be null");
+
+        final JsonObject json = new JsonObject();
+        json.addProperty("type", report.type());
+        json.addProperty("fromVersion", report.fromVersion());
+        json.addProperty("toVersion", report.toVersion());
+        json.addProperty("documents", report.documents());
+        json.addProperty("warmupIterations", report.warmupIterations());
+        json.addProperty("iterations", report.iterations());
+        json.addProperty("totalMs", millis(report.totalDuration()));
+        json.addProperty("documentsPerSecond", report.documentsPerSecond());
+        json.addProperty("allocatedBytes", report.allocatedBytes());
+        json.addProperty("inputNodes", report.inputNodes());
+        json.addProperty("outputNodes", report.outputNodes());
+
+        final JsonArray fixes = new JsonArray();
+        for (final ProfileReport.FixProfile fix : report.fixes()) {
+            final JsonObject entry = new JsonObject();
+            entry.addProperty("fix", fix.fixName());
+            entry.addProperty("calls", fix.invocations());
+            entry.addProperty("totalMs", millis(fix.totalTime()));
+            entry.addProperty("meanMs", millis(fix.meanTime()));
+            entry.addProperty("allocatedBytes", fix.allocatedBytes());
+            fixes.add(entry);
+        }
+        json.add("fixes", fixes);
+
+        final JsonArray rules = new JsonArray();
+        for (final ProfileReport.RuleProfile rule : report.rules()) {
+            final JsonObject entry = new JsonObject();
+            entry.addProperty("fix", rule.fixName());
+            entry.addProperty("rule", rule.ruleName());
+            entry.addProperty("applications", rule.applications());
+            entry.addProperty("matched", rule.matched());
+            entry.addProperty("totalMs", millis(rule.totalTime()));
+            rules.add(entry);
+        }
+        json.add("rules", rules);
+
+        return GSON.toJson(json);
+    }
+
+    /**
+     * Formats a benchmark report as a JSON object.
+     *
+     * @param report the benchmark report, must not be {@code null}
+     * @return a pretty-printed JSON string representing the benchmark
+     * @throws NullPointerException if report is {@code null}
+     * @since 0.6.0
+     */
+    @Override
+    @NotNull
+    public String formatBenchmark(@NotNull final BenchmarkReport report) {
+        Preconditions.checkNotNull(report, "report must not be null");
+
+        final BenchmarkRunner.Measurement measurement = report.measurement();
+        final JsonObject json = new JsonObject();
+        json.addProperty("type", report.type());
+        json.addProperty("fromVersion", report.fromVersion());
+        json.addProperty("toVersion", report.toVersion());
+        json.addProperty("source", report.source());
+        json.addProperty("documents", report.documents());
+        json.addProperty("threads", report.threads());
+        json.addProperty("warmupIterations", report.warmupIterations());
+        json.addProperty("iterations", report.iterations());
+        json.addProperty("migrations", measurement.migrations());
+        json.addProperty("wallMs", millis(measurement.wallTime()));
+        json.addProperty("throughput", report.throughput());
+
+        final JsonObject latency = new JsonObject();
+        latency.addProperty("meanMs", millis(measurement.mean()));
+        latency.addProperty("p50Ms", millis(measurement.p50()));
+        latency.addProperty("p90Ms", millis(measurement.p90()));
+        latency.addProperty("p99Ms", millis(measurement.p99()));
+        latency.addProperty("maxMs", millis(measurement.max()));
+        json.add("latency", latency);
+
+        final BaselineComparison comparison = report.comparison();
+        if (comparison != null) {
+            final JsonObject baseline = new JsonObject();
+            baseline.addProperty("throughput", comparison.baseline().throughput());
+            baseline.addProperty("p99Ms", millis(comparison.baseline().p99Latency()));
+            baseline.addProperty("throughputChangePercent", comparison.throughputChangePercent());
+            baseline.addProperty("p99ChangePercent", comparison.p99ChangePercent());
+            baseline.addProperty("thresholdPercent", comparison.thresholdPercent());
+            baseline.addProperty("regressed", comparison.regressed());
+            json.add("baseline", baseline);
+        }
+
+        return GSON.toJson(json);
+    }
+
+    /**
+     * Converts a duration to fractional milliseconds.
+     *
+     * @param duration the duration to convert
+     * @return the duration in milliseconds
+     */
+    private static double millis(@NotNull final Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
 }
@@ -23,6 +23,9 @@
 package de.splatgames.aether.datafixers.cli.report;
 
 import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.cli.bench.BenchmarkReport;
+import de.splatgames.aether.datafixers.cli.profile.ProfileReport;
+import de.splatgames.aether.datafixers.core.diagnostic.AggregatedMigrationReport;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Duration;
@@ -44,6 +47,9 @@ import java.time.Duration;
  * <pre>{@code
  * ReportFormatter formatter = ReportFormatter.forFormat("json");
  * String report = formatter.formatSimple("player.json", "player", 100, 200, duration);
+ *
+ * // or, for many migrations at once
+ * String summary = formatter.formatAggregate(aggregator.snapshot());
  * }</pre>
  *
  * @author Erik Pförtner
@@ -72,6 +78,54 @@ public interface ReportFormatter {
             @NotNull Duration duration
     );
 
+    /**
+     * Formats an aggregated report covering many migrations.
+     *
+     * <p>The default implementation returns {@link AggregatedMigrationReport#toSummary()}.</p>
+     *
+     * @param report the aggregated report, must not be {@code null}
+     * @return the formatted report string
+     * @throws NullPointerException if report is {@code null}
+     * @since 0.6.0
+     */
+    @NotNull
+    default String formatAggregate(@NotNull final AggregatedMigrationReport report) {
+        Preconditions.checkNotNull(report, "report must not be null");
+        return report.toSummary();
+    }
+
+    /**
+     * Formats the result of the {@code profile} command.
+     *
+     * <p>The default implementation renders the plain text table of
+     * {@link TextReportFormatter#formatProfile(ProfileReport)}.</p>
+     *
+     * @param report the profile report, must not be {@code null}
+     * @return the formatted report string
+     * @throws NullPointerException if report is {@code null}
+     * @since 0.6.0
+     */
+    @NotNull
+    default String formatProfile(@NotNull final ProfileReport report) {
+        return new TextReportFormatter().formatProfile(report);
+    }
+
+    /**
+     * Formats the result of the {@code bench} command.
+     *
+     * <p>The default implementation renders the plain text summary of
+     * {@link TextReportFormatter#formatBenchmark(BenchmarkReport)}.</p>
+     *
+     * @param report the benchmark report, must not be {@code null}
+     * @return the formatted report string
+     * @throws NullPointerException if report is {@code null}
+     * @since 0.6.0
+     */
+    @NotNull
+    default String formatBenchmark(@NotNull final BenchmarkReport report) {
+        return new TextReportFormatter().formatBenchmark(report);
+    }
+
     /**
      * Gets a formatter by format name.
      *
@@ -23,9 +23,17 @@
 package de.splatgames.aether.datafixers.cli.report;
 
 import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.cli.bench.BaselineComparison;
+import de.splatgames.aether.datafixers.cli.bench.BenchmarkReport;
+import de.splatgames.aether.datafixers.cli.bench.BenchmarkRunner;
+import de.splatgames.aether.datafixers.cli.profile.ProfileReport;
+import de.splatgames.aether.datafixers.core.diagnostic.AggregatedMigrationReport;
+import de.splatgames.aether.datafixers.core.diagnostic.FixStatistics;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Plain text report formatter for human-readable output.
@@ -47,6 +55,35 @@ import java.time.Duration;
  *   <li>{@code (42ms)} - Migration duration in milliseconds</li>
  * </ul>
  *
+ * <h2>Aggregated Output Format</h2>
+ * <pre>
+ * Migrations: 12000 [v100 -> v200] total 5400ms, mean 0ms, p50 0ms, p99 2ms, max 31ms
+ *   Fix rename_player_name: 12000x, mean 0.120ms, p99 0.450ms, max 9.100ms
+ *   Type player: 12000
+ *   Warnings: 3
+ *     3x Missing field 'score'
+ * </pre>
+ *
+ * <h2>Profile Output Format</h2>
+ * <pre>
+ * Profile: 12 documents [player] v100 -> v200, 3 warmup + 10 measured iterations
+ * Total: 184.220ms, 651.4 docs/s, 9.8 MiB allocated, 3480 -> 3720 nodes
+ *
+ * Fix                                 Calls      Total      Mean    Alloc  Share
+ * rename_player_name                    120   92.110ms   0.768ms  4.1 MiB  50.0%
+ *
+ * Rule                                Applied  Matched      Total
+ * rename_player_name/rename(name)          12       12    1.204ms
+ * </pre>
+ *
+ * <h2>Benchmark Output Format</h2>
+ * <pre>
+ * Benchmark: 1000 documents (synthetic) [player] v100 -> v200, 4 threads, 3 warmup + 10 measured iterations
+ * Throughput: 48210.7 migrations/s (10000 migrations in 207.423ms)
+ * Latency: mean 0.079ms, p50 0.071ms, p90 0.102ms, p99 0.231ms, max 2.904ms
+ * Baseline: 50110.2 migrations/s, p99 0.220ms; throughput -3.8%, p99 +5.0% (threshold 10.0%): OK
+ * </pre>
+ *
  * @author Erik Pförtner
  * @see ReportFormatter
  * @see JsonReportFormatter
@@ -91,4 +128,176 @@ public class TextReportFormatter implements ReportFormatter {
                 duration.toMillis()
         );
     }
+
+    /**
+     * Formats an aggregated report as indented plain text.
+     *
+     * <p>The first line summarizes all migrations, followed by one line per fix,
+     * one line per touched type and the most frequent warnings.</p>
+     *
+     * @param report the aggregated report, must not be {@code null}
+     * @return a multi-line formatted report string
+     * @throws NullPointerException if report is {@code null}
+     * @since 0.6.0
+     */
+    @Override
+    @NotNull
+    public String formatAggregate(@NotNull final AggregatedMigrationReport report) {
+        Preconditions.checkNotNull(report, "report must not be null");
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append(String.format(
+                "Migrations: %d [v%d -> v%d] total %dms, mean %dms, p50 %dms, p99 %dms, max %dms",
+                report.migrations(),
+                report.lowestFromVersion(),
+                report.highestToVersion(),
+                report.totalDuration().toMillis(),
+                report.meanDuration().toMillis(),
+                report.p50Duration().toMillis(),
+                report.p99Duration().toMillis(),
+                report.maxDuration().toMillis()
+        ));
+        for (final FixStatistics fix : report.fixes().values()) {
+            sb.append(String.format(
+                    "%n  Fix %s: %dx, mean %s, p99 %s, max %s",
+                    fix.fixName(),
+                    fix.samples(),
+                    millis(fix.mean()),
+                    millis(fix.p99()),
+                    millis(fix.max())
+            ));
+        }
+        for (final Map.Entry<String, Long> type : report.touchedTypes().entrySet()) {
+            sb.append(String.format("%n  Type %s: %d", type.getKey(), type.getValue()));
+        }
+        if (report.hasWarnings()) {
+            sb.append(String.format("%n  Warnings: %d", report.warningCount()));
+            report.warnings().entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                    .forEach(warning -> sb.append(String.format(
+                            "%n    %dx %s", warning.getValue(), warning.getKey())));
+            if (report.omittedWarnings() > 0) {
+                sb.append(String.format("%n    (%d more not listed)", report.omittedWarnings()));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Formats a profile report as plain text tables.
+     *
+     * <p>The header summarizes the run, followed by a table of fixes and a table of
+     * rules, each sorted by total time. Allocations are shown as {@code n/a} when the
+     * JVM cannot measure them.</p>
+     *
+     * @param report the profile report, must not be {@code null}
+     * @return a multi-line formatted report string
+     * @throws NullPointerException if report is {@code null}
+     * @since 0.6.0
+     */
+    @Override
+    @NotNull
+    public String formatProfile(@NotNull final ProfileReport report) {
+        Preconditions.checkNotNull(report, "report must not be null");
+
+        final StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT,
+                "Profile: %d documents [%s] v%d -> v%d, %d warmup + %d measured iterations%n",
+                report.documents(), report.type(), report.fromVersion(), report.toVersion(),
+                report.warmupIterations(), report.iterations()));
+        sb.append(String.format(Locale.ROOT, "Total: %s, %.1f docs/s, %s allocated, %d -> %d nodes%n",
+                millis(report.totalDuration()), report.documentsPerSecond(), bytes(report.allocatedBytes()),
+                report.inputNodes(), report.outputNodes()));
+
+        final long totalNanos = report.fixes().stream().mapToLong(fix -> fix.totalTime().toNanos()).sum();
+        sb.append(String.format(Locale.ROOT, "%n%-34s %7s %11s %10s %10s %6s",
+                "Fix", "Calls", "Total", "Mean", "Alloc", "Share"));
+        for (final ProfileReport.FixProfile fix : report.fixes()) {
+            sb.append(String.format(Locale.ROOT, "%n%-34s %7d %11s %10s %10s %5.1f%%",
+                    fix.fixName(), fix.invocations(), millis(fix.totalTime()), millis(fix.meanTime()),
+                    bytes(fix.allocatedBytes()),
+                    totalNanos == 0 ? 0.0 : fix.totalTime().toNanos() * 100.0 / totalNanos));
+        }
+
+        if (!report.rules().isEmpty()) {
+            sb.append(String.format(Locale.ROOT, "%n%n%-34s %7s %8s %11s", "Rule", "Applied", "Matched", "Total"));
+            for (final ProfileReport.RuleProfile rule : report.rules()) {
+                sb.append(String.format(Locale.ROOT, "%n%-34s %7d %8d %11s",
+                        rule.fixName() + "/" + rule.ruleName(), rule.applications(), rule.matched(),
+                        millis(rule.totalTime())));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Formats a benchmark report as plain text.
+     *
+     * <p>The first lines summarize the run, its throughput and its latency percentiles.
+     * If a baseline was given, a last line shows the relative changes and whether they
+     * exceed the threshold.</p>
+     *
+     * @param report the benchmark report, must not be {@code null}
+     * @return a multi-line formatted report string
+     * @throws NullPointerException if report is {@code null}
+     * @since 0.6.0
+     */
+    @Override
+    @NotNull
+    public String formatBenchmark(@NotNull final BenchmarkReport report) {
+        Preconditions.checkNotNull(report, "report must not be null");
+
+        final BenchmarkRunner.Measurement measurement = report.measurement();
+        final StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT,
+                "Benchmark: %d documents (%s) [%s] v%d -> v%d, %d threads, %d warmup + %d measured iterations%n",
+                report.documents(), report.source(), report.type(), report.fromVersion(), report.toVersion(),
+                report.threads(), report.warmupIterations(), report.iterations()));
+        sb.append(String.format(Locale.ROOT, "Throughput: %.1f migrations/s (%d migrations in %s)%n",
+                report.throughput(), measurement.migrations(), millis(measurement.wallTime())));
+        sb.append(String.format(Locale.ROOT, "Latency: mean %s, p50 %s, p90 %s, p99 %s, max %s",
+                millis(measurement.mean()), millis(measurement.p50()), millis(measurement.p90()),
+                millis(measurement.p99()), millis(measurement.max())));
+
+        final BaselineComparison comparison = report.comparison();
+        if (comparison != null) {
+            sb.append(String.format(Locale.ROOT,
+                    "%nBaseline: %.1f migrations/s, p99 %s; throughput %+.1f%%, p99 %+.1f%% (threshold %.1f%%): %s",
+                    comparison.baseline().throughput(), millis(comparison.baseline().p99Latency()),
+                    comparison.throughputChangePercent(), comparison.p99ChangePercent(),
+                    comparison.thresholdPercent(), comparison.regressed() ? "REGRESSION" : "OK"));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Formats a byte count with a binary unit.
+     *
+     * @param bytes the byte count, negative if unknown
+     * @return the formatted size, e.g. {@code 4.1 MiB}, or {@code n/a}
+     */
+    @NotNull
+    private static String bytes(final long bytes) {
+        if (bytes < 0) {
+            return "n/a";
+        }
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        if (bytes < 1024 * 1024) {
+            return String.format(Locale.ROOT, "%.1f KiB", bytes / 1024.0);
+        }
+        return String.format(Locale.ROOT, "%.1f MiB", bytes / (1024.0 * 1024.0));
+    }
+
+    /**
+     * Formats a duration as milliseconds with microsecond precision.
+     *
+     * @param duration the duration to format
+     * @return the formatted duration, e.g. {@code 0.120ms}
+     */
+    @NotNull
+    private static String millis(@NotNull final Duration duration) {
+        return String.format(Locale.ROOT, "%.3fms", duration.toNanos() / 1_000_000.0);
+    }
 }
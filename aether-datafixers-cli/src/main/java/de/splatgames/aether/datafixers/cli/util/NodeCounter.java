@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.cli.util;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.dynamic.DynamicOps;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Utility class for counting the nodes of a data tree.
+ *
+ * <p>Every map, list and primitive value counts as one node; map keys are not counted.
+ * The CLI uses node counts to relate migration cost to document size.</p>
+ *
+ * <h2>Example Usage</h2>
+ * <pre>{@code
+ * // JSON: {"name": "Steve", "pos": [1, 2, 3]}
+ * long nodes = NodeCounter.count(GsonOps.INSTANCE, jsonElement);
+ * // nodes == 6
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is stateless and thread-safe.</p>
+ *
+ * @author Erik Pförtner
+ * @see DynamicOps
+ * @since 0.6.0
+ */
+public final class NodeCounter {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private NodeCounter() {
+        // utility class
+    }
+
+    /**
+     * Counts the nodes of a value.
+     *
+     * @param <T>   the underlying data representation type
+     * @param ops   the dynamic operations for the value, must not be {@code null}
+     * @param value the root value, must not be {@code null}
+     * @return the number of nodes, at least {@code 1}
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public static <T> long count(@NotNull final DynamicOps<T> ops, @NotNull final T value) {
+        Preconditions.checkNotNull(ops, "ops must not be null");
+        Preconditions.checkNotNull(value, "value must not be null");
+
+        if (ops.isMap(value)) {
+            return 1L + ops.getMapEntries(value).result()
+                    .map(entries -> entries.mapToLong(entry -> count(ops, entry.second())).sum())
+                    .orElse(0L);
+        }
+        if (ops.isList(value)) {
+            return 1L + ops.getList(value).result()
+                    .map(elements -> elements.mapToLong(element -> count(ops, element)).sum())
+                    .orElse(0L);
+        }
+        return 1L;
+    }
+}
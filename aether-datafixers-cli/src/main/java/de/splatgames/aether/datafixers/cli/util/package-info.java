@@ -30,6 +30,8 @@
  * <ul>
  *   <li>{@link de.splatgames.aether.datafixers.cli.util.VersionExtractor}
  *       - Extracts data version from Dynamic values using field paths</li>
+ *   <li>{@link de.splatgames.aether.datafixers.cli.util.NodeCounter}
+ *       - Counts the nodes of a data tree</li>
  * </ul>
  *
  * @see de.splatgames.aether.datafixers.cli.util.VersionExtractor
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.cli.bench;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+@DisplayName("BenchmarkBaseline")
+class BenchmarkBaselineTest {
+
+    @Nested
+    @DisplayName("parse()")
+    class Parse {
+
+        @Test
+        @DisplayName("reads throughput and p99 from a benchmark report")
+        void readsReport() {
+            final BenchmarkBaseline baseline = BenchmarkBaseline.parse(
+                    "{\"type\": \"player\", \"throughput\": 1500.5, \"latency\": {\"p50Ms\": 0.5, \"p99Ms\": 2.25}}");
+
+            assertThat(baseline.throughput()).isEqualTo(1500.5);
+            assertThat(baseline.p99Latency()).isEqualTo(Duration.ofNanos(2_250_000));
+        }
+
+        @Test
+        @DisplayName("rejects JSON that is not a benchmark report")
+        void rejectsOtherJson() {
+            assertThatThrownBy(() -> BenchmarkBaseline.parse("{\"migrations\": 3}"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> BenchmarkBaseline.parse("[1, 2]"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> BenchmarkBaseline.parse("{\"throughput\": 1, \"latency\": {}}"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> BenchmarkBaseline.parse("{not json"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("compare()")
+    class Compare {
+
+        private final BenchmarkBaseline baseline = new BenchmarkBaseline(1000.0, Duration.ofMillis(2));
+
+        @Test
+        @DisplayName("computes relative changes")
+        void computesChanges() {
+            final BaselineComparison comparison = baseline.compare(report(900.0, Duration.ofMillis(3)), 10.0);
+
+            assertThat(comparison.throughputChangePercent()).isCloseTo(-10.0, offset(0.01));
+            assertThat(comparison.p99ChangePercent()).isCloseTo(50.0, offset(0.01));
+        }
+
+        @Test
+        @DisplayName("flags a throughput drop beyond the threshold")
+        void flagsThroughputDrop() {
+            assertThat(baseline.compare(report(850.0, Duration.ofMillis(2)), 10.0).regressed()).isTrue();
+            assertThat(baseline.compare(report(950.0, Duration.ofMillis(2)), 10.0).regressed()).isFalse();
+        }
+
+        @Test
+        @DisplayName("flags a p99 increase beyond the threshold")
+        void flagsLatencyIncrease() {
+            assertThat(baseline.compare(report(1000.0, Duration.ofMillis(3)), 10.0).regressed()).isTrue();
+        }
+
+        @Test
+        @DisplayName("never flags improvements")
+        void ignoresImprovements() {
+            assertThat(baseline.compare(report(5000.0, Duration.ofMillis(1)), 0.0).regressed()).isFalse();
+        }
+
+        @Test
+        @DisplayName("rejects negative thresholds")
+        void rejectsNegativeThreshold() {
+            assertThatThrownBy(() -> baseline.compare(report(1000.0, Duration.ofMillis(2)), -1.0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    /**
+     * Creates a report whose throughput is exactly {@code throughput} migrations per second.
+     */
+    private static BenchmarkReport report(final double throughput, final Duration p99) {
+        final long migrations = (long) throughput;
+        final BenchmarkRunner.Measurement measurement = new BenchmarkRunner.Measurement(
+                migrations, Duration.ofSeconds(1), p99, p99, p99, p99, p99);
+        return new BenchmarkReport("player", 1, 2, "synthetic", (int) migrations, 1, 0, 1, measurement, null);
+    }
+}
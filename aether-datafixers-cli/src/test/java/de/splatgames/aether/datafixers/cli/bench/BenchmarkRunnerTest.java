@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.cli.bench;
+
+import com.google.gson.JsonParser;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.bootstrap.DataFixerBootstrap;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.dynamic.TaggedDynamic;
+import de.splatgames.aether.datafixers.api.fix.FixRegistrar;
+import de.splatgames.aether.datafixers.api.schema.SchemaRegistry;
+import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
+import de.splatgames.aether.datafixers.core.AetherDataFixer;
+import de.splatgames.aether.datafixers.core.bootstrap.DataFixerRuntimeFactory;
+import de.splatgames.aether.datafixers.testkit.factory.MockSchemas;
+import de.splatgames.aether.datafixers.testkit.factory.QuickFix;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BenchmarkRunner")
+class BenchmarkRunnerTest {
+
+    private static final DataVersion TARGET = new DataVersion(2);
+    private static final TypeReference PLAYER = new TypeReference("player");
+
+    @Nested
+    @DisplayName("run()")
+    class Run {
+
+        @Test
+        @DisplayName("records one latency per measured migration across threads")
+        void recordsEveryMigration() throws InterruptedException {
+            final BenchmarkRunner.Measurement measurement = new BenchmarkRunner(fixer(), TARGET, 3)
+                    .run(samples(7), 1, 4);
+
+            assertThat(measurement.migrations()).isEqualTo(28);
+            assertThat(measurement.wallTime()).isPositive();
+            assertThat(measurement.p50()).isLessThanOrEqualTo(measurement.p99());
+            assertThat(measurement.p99()).isLessThanOrEqualTo(measurement.max());
+        }
+
+        @Test
+        @DisplayName("rejects empty samples and invalid iteration counts")
+        void rejectsInvalidArguments() {
+            final BenchmarkRunner runner = new BenchmarkRunner(fixer(), TARGET, 1);
+
+            assertThatThrownBy(() -> runner.run(List.of(), 0, 1)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> runner.run(samples(1), -1, 1)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> runner.run(samples(1), 0, 0)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new BenchmarkRunner(fixer(), TARGET, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Measurement")
+    class MeasurementStatistics {
+
+        @Test
+        @DisplayName("computes nearest-rank percentiles over all threads")
+        void computesPercentiles() {
+            final long[] first = LongStream.rangeClosed(1, 50).toArray();
+            final long[] second = LongStream.rangeClosed(51, 100).toArray();
+
+            final BenchmarkRunner.Measurement measurement =
+                    BenchmarkRunner.Measurement.of(Duration.ofMillis(1), List.of(second, first));
+
+            assertThat(measurement.migrations()).isEqualTo(100);
+            assertThat(measurement.p50()).isEqualTo(Duration.ofNanos(50));
+            assertThat(measurement.p90()).isEqualTo(Duration.ofNanos(90));
+            assertThat(measurement.p99()).isEqualTo(Duration.ofNanos(99));
+            assertThat(measurement.max()).isEqualTo(Duration.ofNanos(100));
+            assertThat(measurement.mean()).isEqualTo(Duration.ofNanos(50));
+        }
+
+        @Test
+        @DisplayName("is zero without latencies")
+        void isZeroWhenEmpty() {
+            final BenchmarkRunner.Measurement measurement =
+                    BenchmarkRunner.Measurement.of(Duration.ZERO, List.of());
+
+            assertThat(measurement.migrations()).isZero();
+            assertThat(measurement.p99()).isEqualTo(Duration.ZERO);
+        }
+    }
+
+    private static AetherDataFixer fixer() {
+        return new DataFixerRuntimeFactory().create(TARGET, new DataFixerBootstrap() {
+            @Override
+            public void registerSchemas(@NotNull final SchemaRegistry schemas) {
+                schemas.register(MockSchemas.minimal(1));
+                schemas.register(MockSchemas.minimal(2));
+            }
+
+            @Override
+            public void registerFixes(@NotNull final FixRegistrar fixes) {
+                fixes.register(PLAYER, QuickFix.renameField(GsonOps.INSTANCE, "rename_name", 1, 2, "name", "displayName"));
+            }
+        });
+    }
+
+    private static List<BenchmarkRunner.Sample> samples(final int count) {
+        final List<BenchmarkRunner.Sample> samples = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            final var data = JsonParser.parseString("{\"name\": \"player-" + i + "\"}");
+            samples.add(new BenchmarkRunner.Sample(
+                    new TaggedDynamic(PLAYER, new Dynamic<>(GsonOps.INSTANCE, data)),
+                    new DataVersion(1)));
+        }
+        return samples;
+    }
+}
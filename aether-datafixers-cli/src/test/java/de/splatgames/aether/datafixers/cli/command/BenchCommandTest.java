@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.cli.command;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.bootstrap.DataFixerBootstrap;
+import de.splatgames.aether.datafixers.api.dsl.DSL;
+import de.splatgames.aether.datafixers.api.fix.FixRegistrar;
+import de.splatgames.aether.datafixers.api.schema.Schema;
+import de.splatgames.aether.datafixers.api.schema.SchemaRegistry;
+import de.splatgames.aether.datafixers.api.type.TypeRegistry;
+import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
+import de.splatgames.aether.datafixers.core.type.SimpleTypeRegistry;
+import de.splatgames.aether.datafixers.testkit.factory.QuickFix;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("BenchCommand")
+class BenchCommandTest {
+
+    private static final String BOOTSTRAP = BenchTestBootstrap.class.getName();
+
+    @TempDir
+    Path tempDir;
+
+    private PrintStream originalOut;
+    private PrintStream originalErr;
+    private ByteArrayOutputStream outContent;
+    private ByteArrayOutputStream errContent;
+
+    @BeforeEach
+    void setUp() {
+        originalOut = System.out;
+        originalErr = System.err;
+        outContent = new ByteArrayOutputStream();
+        errContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        System.setErr(new PrintStream(errContent));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+        System.setErr(originalErr);
+    }
+
+    @Nested
+    @DisplayName("Document sources")
+    class DocumentSources {
+
+        @Test
+        @DisplayName("benchmarks sample files")
+        void benchmarksFiles() throws IOException {
+            final Path first = createTestFile("{\"dataVersion\": 1, \"name\": \"Alice\"}", "a.json");
+            final Path second = createTestFile("{\"dataVersion\": 1, \"name\": \"Bob\"}", "b.json");
+
+            final int exitCode = new CommandLine(new BenchCommand()).execute(
+                    first.toString(), second.toString(),
+                    "--type", "player",
+                    "--to", "2",
+                    "--warmup", "1",
+                    "--iterations", "2",
+                    "--bootstrap", BOOTSTRAP);
+
+            assertThat(exitCode).isEqualTo(0);
+            assertThat(outContent.toString())
+                    .contains("Benchmark: 2 documents (files) [player] v1 -> v2, 1 threads, 1 warmup + 2 measured")
+                    .contains("(4 migrations in")
+                    .contains("p99");
+        }
+
+        @Test
+        @DisplayName("benchmarks synthetic documents on several threads")
+        void benchmarksSyntheticDocuments() throws IOException {
+            final Path report = tempDir.resolve("bench.json");
+
+            final int exitCode = new CommandLine(new BenchCommand()).execute(
+                    "--type", "player",
+                    "--from", "1",
+                    "--to", "2",
+                    "--synthetic", "20",
+                    "--threads", "2",
+                    "--warmup", "0",
+                    "--iterations", "3",
+                    "--report-format", "json",
+                    "--report-file", report.toString(),
+                    "--bootstrap", BOOTSTRAP);
+
+            assertThat(exitCode).isEqualTo(0);
+            final JsonObject json = JsonParser.parseString(Files.readString(report)).getAsJsonObject();
+            assertThat(json.get("source").getAsString()).isEqualTo("synthetic");
+            assertThat(json.get("documents").getAsInt()).isEqualTo(20);
+            assertThat(json.get("threads").getAsInt()).isEqualTo(2);
+            assertThat(json.get("migrations").getAsLong()).isEqualTo(60);
+            assertThat(json.get("throughput").getAsDouble()).isPositive();
+        }
+
+        @Test
+        @DisplayName("requires --from for synthetic documents")
+        void requiresFromForSynthetic() {
+            final int exitCode = new CommandLine(new BenchCommand()).execute(
+                    "--type", "player",
+                    "--to", "2",
+                    "--synthetic", "10",
+                    "--bootstrap", BOOTSTRAP);
+
+            assertThat(exitCode).isEqualTo(1);
+            assertThat(errContent.toString()).contains("--from");
+        }
+
+        @Test
+        @DisplayName("rejects files combined with --synthetic")
+        void rejectsBothSources() throws IOException {
+            final Path file = createTestFile("{\"dataVersion\": 1, \"name\": \"Alice\"}", "a.json");
+
+            final int exitCode = new CommandLine(new BenchCommand()).execute(
+                    file.toString(),
+                    "--type", "player",
+                    "--from", "1",
+                    "--to", "2",
+                    "--synthetic", "10",
+                    "--bootstrap", BOOTSTRAP);
+
+            assertThat(exitCode).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Baseline comparison")
+    class BaselineComparison {
+
+        @Test
+        @DisplayName("passes against a much slower baseline")
+        void passesAgainstSlowBaseline() throws IOException {
+            final Path baseline = createTestFile("{\"throughput\": 0.001, \"latency\": {\"p99Ms\": 100000.0}}",
+                    "baseline.json");
+
+            final int exitCode = runAgainst(baseline);
+
+            assertThat(exitCode).isEqualTo(0);
+            assertThat(outContent.toString()).contains("Baseline:").contains(": OK");
+        }
+
+        @Test
+        @DisplayName("exits with 2 against a much faster baseline")
+        void failsAgainstFastBaseline() throws IOException {
+            final Path baseline = createTestFile("{\"throughput\": 1.0E12, \"latency\": {\"p99Ms\": 0.000001}}",
+                    "baseline.json");
+
+            final int exitCode = runAgainst(baseline);
+
+            assertThat(exitCode).isEqualTo(2);
+            assertThat(outContent.toString()).contains("REGRESSION");
+        }
+
+        @Test
+        @DisplayName("fails on a baseline that is not a benchmark report")
+        void rejectsInvalidBaseline() throws IOException {
+            final Path baseline = createTestFile("{\"migrations\": 3}", "baseline.json");
+
+            final int exitCode = runAgainst(baseline);
+
+            assertThat(exitCode).isEqualTo(1);
+            assertThat(errContent.toString()).contains("not a benchmark report");
+        }
+
+        private int runAgainst(final Path baseline) {
+            return new CommandLine(new BenchCommand()).execute(
+                    "--type", "player",
+                    "--from", "1",
+                    "--to", "2",
+                    "--synthetic", "5",
+                    "--warmup", "0",
+                    "--iterations", "1",
+                    "--baseline", baseline.toString(),
+                    "--bootstrap", BOOTSTRAP);
+        }
+    }
+
+    private Path createTestFile(final String content, final String name) throws IOException {
+        final Path file = tempDir.resolve(name);
+        Files.writeString(file, content);
+        return file;
+    }
+
+    /**
+     * Bootstrap whose v1 schema exposes the player structure for synthetic documents.
+     */
+    public static class BenchTestBootstrap implements DataFixerBootstrap {
+        public static final TypeReference PLAYER = new TypeReference("player");
+
+        public BenchTestBootstrap() {
+            // Public no-arg constructor required
+        }
+
+        @Override
+        public void registerSchemas(@NotNull final SchemaRegistry schemas) {
+            final Schema v1 = new PlayerSchema(1, null);
+            schemas.register(v1);
+            schemas.register(new PlayerSchema(2, v1));
+        }
+
+        @Override
+        public void registerFixes(@NotNull final FixRegistrar fixes) {
+            fixes.register(PLAYER, QuickFix.renameField(
+                    GsonOps.INSTANCE,
+                    "rename_name_to_displayName",
+                    1, 2,
+                    "name", "displayName"
+            ));
+        }
+    }
+
+    private static final class PlayerSchema extends Schema {
+
+        PlayerSchema(final int version, @Nullable final Schema parent) {
+            super(version, parent);
+        }
+
+        @NotNull
+        @Override
+        protected TypeRegistry createTypeRegistry() {
+            return new SimpleTypeRegistry();
+        }
+
+        @Override
+        protected void registerTypes() {
+            registerType(BenchTestBootstrap.PLAYER, DSL.and(
+                    DSL.field("name", DSL.string()),
+                    DSL.field("score", DSL.intType()),
+                    DSL.remainder()));
+        }
+    }
+}
@@ -26,7 +26,13 @@ import de.splatgames.aether.datafixers.api.TypeReference;
 import de.splatgames.aether.datafixers.api.bootstrap.DataFixerBootstrap;
 import de.splatgames.aether.datafixers.api.fix.FixRegistrar;
 import de.splatgames.aether.datafixers.api.schema.SchemaRegistry;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.cli.daemon.MigrationDaemon;
+import de.splatgames.aether.datafixers.cli.format.NbtFormatHandler;
 import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag;
+import de.splatgames.aether.datafixers.core.bootstrap.BootstrapSnapshot;
+import de.splatgames.aether.datafixers.core.bootstrap.DataFixerRuntimeFactory;
 import de.splatgames.aether.datafixers.testkit.factory.MockSchemas;
 import de.splatgames.aether.datafixers.testkit.factory.QuickFix;
 import org.jetbrains.annotations.NotNull;
@@ -40,9 +46,15 @@ import picocli.CommandLine;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintStream;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -374,6 +386,32 @@ class MigrateCommandTest {
             assertThat(exitCode).isEqualTo(0);
         }
 
+        @Test
+        @DisplayName("migrates binary nbt files byte for byte")
+        void migratesBinaryNbt() throws IOException {
+            final Path file = tempDir.resolve("player.dat");
+            final Path out = tempDir.resolve("migrated.dat");
+            final NbtFormatHandler nbt = new NbtFormatHandler();
+            Files.write(file, nbt.write(NbtTag.CompoundTag.of(Map.of(
+                    "dataVersion", new NbtTag.IntTag(1),
+                    "name", new NbtTag.StringTag("Steve"))), false));
+            final CommandLine cmd = new CommandLine(new MigrateCommand());
+
+            final int exitCode = cmd.execute(
+                    file.toString(),
+                    "--type", "player",
+                    "--bootstrap", MigrateTestBootstrap.class.getName(),
+                    "--to", "2",
+                    "--format", "nbt",
+                    "-o", out.toString());
+
+            assertThat(exitCode).isEqualTo(0);
+            final NbtTag.CompoundTag migrated = (NbtTag.CompoundTag) nbt.read(Files.readAllBytes(out));
+            assertThat(migrated.get("displayName")).isEqualTo(new NbtTag.StringTag("Steve"));
+            assertThat(migrated.get("name")).isNull();
+            assertThat(migrated.get("dataVersion")).isEqualTo(new NbtTag.IntTag(1));
+        }
+
         @Test
         @DisplayName("returns error for unknown format")
         void returnsErrorForUnknownFormat() throws IOException {
@@ -454,6 +492,51 @@ class MigrateCommandTest {
             assertThat(Files.exists(reportFile)).isTrue();
             assertThat(Files.readString(reportFile)).contains("Migration:");
         }
+
+        @Test
+        @DisplayName("does not create the report file when nothing was migrated")
+        void doesNotCreateEmptyReportFile() throws IOException {
+            final Path file = createTestFile("not json", "broken.json");
+            final Path reportFile = tempDir.resolve("report.txt");
+            final CommandLine cmd = new CommandLine(new MigrateCommand());
+
+            final int exitCode = cmd.execute(
+                    file.toString(),
+                    "--type", "player",
+                    "--bootstrap", MigrateTestBootstrap.class.getName(),
+                    "--to", "2",
+                    "--from", "1",
+                    "--report",
+                    "--report-file", reportFile.toString());
+
+            assertThat(exitCode).isEqualTo(1);
+            assertThat(reportFile).doesNotExist();
+        }
+
+        @Test
+        @DisplayName("writes one aggregated report when --report-aggregate specified")
+        void writesAggregatedReport() throws IOException {
+            final Path first = createTestFile("{\"dataVersion\": 1, \"name\": \"a\"}", "a.json");
+            final Path second = createTestFile("{\"dataVersion\": 1, \"name\": \"b\"}", "b.json");
+            final Path reportFile = tempDir.resolve("aggregate.txt");
+            final CommandLine cmd = new CommandLine(new MigrateCommand());
+
+            final int exitCode = cmd.execute(
+                    first.toString(),
+                    second.toString(),
+                    "--type", "player",
+                    "--bootstrap", MigrateTestBootstrap.class.getName(),
+                    "--to", "2",
+                    "--from", "1",
+                    "--report",
+                    "--report-aggregate",
+                    "--report-file", reportFile.toString());
+
+            assertThat(exitCode).isEqualTo(0);
+            final String report = Files.readString(reportFile);
+            assertThat(report).startsWith("Migrations: 2 [v1 -> v2]");
+            assertThat(report).doesNotContain("Migration: a.json");
+        }
     }
 
     @Nested
@@ -675,6 +758,275 @@ class MigrateCommandTest {
         }
     }
 
+    @Nested
+    @DisplayName("Bootstrap snapshot")
+    class BootstrapSnapshotOption {
+
+        @BeforeEach
+        void resetCounter() {
+            CountingBootstrap.INSTANCES.set(0);
+        }
+
+        private Path writeSnapshot(final String bootstrapId, final int version) throws IOException {
+            final Path snapshot = writeSnapshot(bootstrapId, version, new CountingBootstrap());
+            CountingBootstrap.INSTANCES.set(0);
+            return snapshot;
+        }
+
+        private Path writeSnapshot(final String bootstrapId, final int version,
+                                   final DataFixerBootstrap bootstrap) throws IOException {
+            final Path snapshot = tempDir.resolve("bootstrap.snapshot");
+            BootstrapSnapshot.capture(bootstrapId, new DataVersion(version), bootstrap).write(snapshot);
+            return snapshot;
+        }
+
+        /**
+         * Loads a copy of a bootstrap class from its own class directory, standing in for a
+         * different build of it.
+         */
+        private DataFixerBootstrap otherBuildOf(final Class<? extends DataFixerBootstrap> type) throws Exception {
+            final Path classes = tempDir.resolve("other-build");
+            final String classFile = type.getName().replace('.', '/') + ".class";
+            Files.createDirectories(classes.resolve(classFile).getParent());
+            try (InputStream in = type.getResourceAsStream("/" + classFile)) {
+                Files.copy(in, classes.resolve(classFile));
+            }
+            final ClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, type.getClassLoader()) {
+                @Override
+                protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+                    if (!name.equals(type.getName())) {
+                        return super.loadClass(name, resolve);
+                    }
+                    synchronized (this.getClassLoadingLock(name)) {
+                        final Class<?> loaded = this.findLoadedClass(name);
+                        return loaded != null ? loaded : this.findClass(name);
+                    }
+                }
+            };
+            return (DataFixerBootstrap) loader.loadClass(type.getName()).getConstructor().newInstance();
+        }
+
+        @Test
+        @DisplayName("does not load the bootstrap when no fix applies")
+        void doesNotLoadBootstrapWithoutFixes() throws IOException {
+            final Path file = createTestFile("{\"dataVersion\": 1, \"name\": \"test\"}", "test.json");
+            final Path snapshot = writeSnapshot(CountingBootstrap.class.getName(), 2);
+            final CommandLine cmd = new CommandLine(new MigrateCommand());
+
+            final int exitCode = cmd.execute(
+                    file.toString(),
+                    "--type", "world",
+                    "--bootstrap", CountingBootstrap.class.getName(),
+                    "--snapshot", snapshot.toString(),
+                    "--to", "2");
+
+            assertThat(exitCode).isEqualTo(0);
+            assertThat(CountingBootstrap.INSTANCES).hasValue(0);
+            assertThat(outContent.toString()).contains("\"name\"");
+        }
+
+        @Test
+        @DisplayName("loads the bootstrap once when fixes apply")
+        void loadsBootstrapWhenFixesApply() throws IOException {
+            final Path first = createTestFile("{\"dataVersion\": 1, \"name\": \"a\"}", "a.json");
+            final Path second = createTestFile("{\"dataVersion\": 1, \"name\": \"b\"}", "b.json");
+            final Path snapshot = writeSnapshot(CountingBootstrap.class.getName(), 2);
+            final CommandLine cmd = new CommandLine(new MigrateCommand());
+
+            final int exitCode = cmd.execute(
+                    first.toString(), second.toString(),
+                    "--type", "player",
+                    "--bootstrap", CountingBootstrap.class.getName(),
+                    "--snapshot", snapshot.toString(),
+                    "--to", "2",
+                    "--backup=false");
+
+            assertThat(exitCode).isEqualTo(0);
+            assertThat(CountingBootstrap.INSTANCES).hasValue(1);
+            assertThat(Files.readString(first)).contains("\"displayName\"");
+            assertThat(Files.readString(second)).contains("\"displayName\"");
+        }
+
+        @Test
+        @DisplayName("rejects a snapshot of another bootstrap")
+        void rejectsSnapshotOfAnotherBootstrap() throws IOException {
+            final Path file = createTestFile("{\"dataVersion\": 1, \"name\": \"test\"}", "test.json");
+            final Path snapshot = writeSnapshot("com.example.Other", 2);
+            final CommandLine cmd = new CommandLine(new MigrateCommand());
+
+            final int exitCode = cmd.execute(
+                    file.toString(),
+                    "--type", "player",
+                    "--bootstrap", MigrateTestBootstrap.class.getName(),
+                    "--snapshot", snapshot.toString(),
+                    "--to", "2");
+
+            assertThat(exitCode).isEqualTo(1);
+            assertThat(errContent.toString()).contains("com.example.Other");
+        }
+
+        @Test
+        @DisplayName("rejects a snapshot older than the target version")
+        void rejectsOutdatedSnapshot() throws IOException {
+            final Path file = createTestFile("{\"dataVersion\": 1, \"name\": \"test\"}", "test.json");
+            final Path snapshot = writeSnapshot(MigrateTestBootstrap.class.getName(), 1);
+            final CommandLine cmd = new CommandLine(new MigrateCommand());
+
+            final int exitCode = cmd.execute(
+                    file.toString(),
+                    "--type", "player",
+                    "--bootstrap", MigrateTestBootstrap.class.getName(),
+                    "--snapshot", snapshot.toString(),
+                    "--to", "2");
+
+            assertThat(exitCode).isEqualTo(1);
+            assertThat(errContent.toString()).contains("only covers versions up to 1");
+        }
+
+        @Test
+        @DisplayName("rejects a snapshot captured from a different build of the bootstrap")
+        void rejectsSnapshotWithOtherFingerprint() throws Exception {
+            final Path file = createTestFile("{\"dataVersion\": 1, \"name\": \"test\"}", "test.json");
+            final Path snapshot = writeSnapshot(CountingBootstrap.class.getName(), 2, otherBuildOf(MigrateTestBootstrap.class));
+            final CommandLine cmd = new CommandLine(new MigrateCommand());
+
+            final int exitCode = cmd.execute(
+                    file.toString(),
+                    "--type", "world",
+                    "--bootstrap", CountingBootstrap.class.getName(),
+                    "--snapshot", snapshot.toString(),
+                    "--to", "2");
+
+            assertThat(exitCode).isEqualTo(1);
+            assertThat(errContent.toString()).contains("does not match");
+            assertThat(CountingBootstrap.INSTANCES).hasValue(0);
+        }
+    }
+
+    @Nested
+    @DisplayName("--daemon option")
+    class DaemonOption {
+
+        private MigrationDaemon daemon;
+        private Thread server;
+        private Path socket;
+
+        @BeforeEach
+        void startDaemon() throws InterruptedException {
+            CountingBootstrap.INSTANCES.set(0);
+            socket = tempDir.resolve("daemon.sock");
+            daemon = new MigrationDaemon(CountingBootstrap.class.getName(),
+                    new DataFixerRuntimeFactory().create(new DataVersion(2), new MigrateTestBootstrap()),
+                    "json-gson");
+            server = new Thread(() -> {
+                try {
+                    daemon.serve(socket);
+                } catch (final IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            server.start();
+            assertThat(daemon.awaitListening(Duration.ofSeconds(5))).isTrue();
+        }
+
+        @AfterEach
+        void stopDaemon() throws InterruptedException {
+            daemon.stop();
+            server.join(5000);
+        }
+
+        @Test
+        @DisplayName("migrates through the daemon without loading the bootstrap")
+        void migratesThroughDaemon() throws IOException {
+            final Path first = createTestFile("{\"dataVersion\": 1, \"name\": \"a\"}", "a.json");
+            final Path second = createTestFile("{\"dataVersion\": 2, \"name\": \"b\"}", "b.json");
+            final CommandLine cmd = new CommandLine(new MigrateCommand());
+
+            final int exitCode = cmd.execute(
+                    first.toString(), second.toString(),
+                    "--type", "player",
+                    "--bootstrap", CountingBootstrap.class.getName(),
+                    "--daemon", socket.toString(),
+                    "--to", "2",
+                    "--backup=false");
+
+            assertThat(exitCode).isEqualTo(0);
+            assertThat(CountingBootstrap.INSTANCES).hasValue(0);
+            assertThat(Files.readString(first)).contains("\"displayName\"");
+            assertThat(Files.readString(second)).contains("\"name\"");
+            assertThat(daemon.requestCount()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("reports files the daemon rejects as errors")
+        void reportsRejectedFiles() throws IOException {
+            final Path file = createTestFile("{\"name\": \"test\"}", "test.json");
+            final CommandLine cmd = new CommandLine(new MigrateCommand());
+
+            final int exitCode = cmd.execute(
+                    file.toString(),
+                    "--type", "player",
+                    "--bootstrap", CountingBootstrap.class.getName(),
+                    "--daemon", socket.toString(),
+                    "--to", "2");
+
+            assertThat(exitCode).isEqualTo(1);
+            assertThat(errContent.toString()).contains("Error processing").contains("dataVersion");
+        }
+
+        @Test
+        @DisplayName("rejects a daemon serving another bootstrap")
+        void rejectsDaemonOfAnotherBootstrap() throws IOException {
+            final Path file = createTestFile("{\"dataVersion\": 1, \"name\": \"test\"}", "test.json");
+            final CommandLine cmd = new CommandLine(new MigrateCommand());
+
+            final int exitCode = cmd.execute(
+                    file.toString(),
+                    "--type", "player",
+                    "--bootstrap", MigrateTestBootstrap.class.getName(),
+                    "--daemon", socket.toString(),
+                    "--to", "2");
+
+            assertThat(exitCode).isEqualTo(1);
+            assertThat(errContent.toString()).contains("serves " + CountingBootstrap.class.getName());
+        }
+
+        @Test
+        @DisplayName("rejects a daemon older than the target version")
+        void rejectsOutdatedDaemon() throws IOException {
+            final Path file = createTestFile("{\"dataVersion\": 1, \"name\": \"test\"}", "test.json");
+            final CommandLine cmd = new CommandLine(new MigrateCommand());
+
+            final int exitCode = cmd.execute(
+                    file.toString(),
+                    "--type", "player",
+                    "--bootstrap", CountingBootstrap.class.getName(),
+                    "--daemon", socket.toString(),
+                    "--to", "3");
+
+            assertThat(exitCode).isEqualTo(1);
+            assertThat(errContent.toString()).contains("only migrates up to version 2");
+        }
+
+        @Test
+        @DisplayName("cannot be combined with --snapshot")
+        void cannotBeCombinedWithSnapshot() throws IOException {
+            final Path file = createTestFile("{\"dataVersion\": 1, \"name\": \"test\"}", "test.json");
+            final CommandLine cmd = new CommandLine(new MigrateCommand());
+
+            final int exitCode = cmd.execute(
+                    file.toString(),
+                    "--type", "player",
+                    "--bootstrap", CountingBootstrap.class.getName(),
+                    "--daemon", socket.toString(),
+                    "--snapshot", tempDir.resolve("bootstrap.snapshot").toString(),
+                    "--to", "2");
+
+            assertThat(exitCode).isEqualTo(1);
+            assertThat(errContent.toString()).contains("cannot be combined");
+        }
+    }
+
     @Nested
     @DisplayName("Help option")
     class HelpOption {
@@ -728,4 +1080,15 @@ class MigrateCommandTest {
             ));
         }
     }
+
+    /**
+     * {@link MigrateTestBootstrap} that counts how often it is instantiated.
+     */
+    public static class CountingBootstrap extends MigrateTestBootstrap {
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        public CountingBootstrap() {
+            INSTANCES.incrementAndGet();
+        }
+    }
 }
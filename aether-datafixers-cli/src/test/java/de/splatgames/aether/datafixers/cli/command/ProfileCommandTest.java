@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.cli.command;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ProfileCommand")
+class ProfileCommandTest {
+
+    private static final String BOOTSTRAP = MigrateCommandTest.MigrateTestBootstrap.class.getName();
+
+    @TempDir
+    Path tempDir;
+
+    private PrintStream originalOut;
+    private PrintStream originalErr;
+    private ByteArrayOutputStream outContent;
+    private ByteArrayOutputStream errContent;
+
+    @BeforeEach
+    void setUp() {
+        originalOut = System.out;
+        originalErr = System.err;
+        outContent = new ByteArrayOutputStream();
+        errContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        System.setErr(new PrintStream(errContent));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setOut(originalOut);
+        System.setErr(originalErr);
+    }
+
+    @Nested
+    @DisplayName("Text output")
+    class TextOutput {
+
+        @Test
+        @DisplayName("reports documents, fixes and rules")
+        void reportsProfile() throws IOException {
+            final Path first = createTestFile("{\"dataVersion\": 1, \"name\": \"Alice\"}", "a.json");
+            final Path second = createTestFile("{\"dataVersion\": 1, \"name\": \"Bob\"}", "b.json");
+
+            final int exitCode = new CommandLine(new ProfileCommand()).execute(
+                    first.toString(), second.toString(),
+                    "--type", "player",
+                    "--to", "2",
+                    "--warmup", "1",
+                    "--iterations", "2",
+                    "--bootstrap", BOOTSTRAP);
+
+            assertThat(exitCode).isEqualTo(0);
+            final String output = outContent.toString();
+            assertThat(output)
+                    .contains("Profile: 2 documents [player] v1 -> v2, 1 warmup + 2 measured iterations")
+                    .contains("rename_name_to_displayName");
+        }
+
+        @Test
+        @DisplayName("does not modify the sample files")
+        void leavesFilesUntouched() throws IOException {
+            final String content = "{\"dataVersion\": 1, \"name\": \"Alice\"}";
+            final Path file = createTestFile(content, "a.json");
+
+            new CommandLine(new ProfileCommand()).execute(
+                    file.toString(),
+                    "--type", "player",
+                    "--to", "2",
+                    "--bootstrap", BOOTSTRAP);
+
+            assertThat(Files.readString(file)).isEqualTo(content);
+        }
+    }
+
+    @Nested
+    @DisplayName("JSON output")
+    class JsonOutput {
+
+        @Test
+        @DisplayName("writes a JSON profile to the report file")
+        void writesReportFile() throws IOException {
+            final Path file = createTestFile("{\"dataVersion\": 1, \"name\": \"Alice\"}", "a.json");
+            final Path report = tempDir.resolve("profile.json");
+
+            final int exitCode = new CommandLine(new ProfileCommand()).execute(
+                    file.toString(),
+                    "--type", "player",
+                    "--to", "2",
+                    "--iterations", "3",
+                    "--report-format", "json",
+                    "--report-file", report.toString(),
+                    "--bootstrap", BOOTSTRAP);
+
+            assertThat(exitCode).isEqualTo(0);
+            final JsonObject json = JsonParser.parseString(Files.readString(report)).getAsJsonObject();
+            assertThat(json.get("documents").getAsInt()).isEqualTo(1);
+            assertThat(json.get("iterations").getAsInt()).isEqualTo(3);
+            assertThat(json.get("inputNodes").getAsLong()).isEqualTo(3);
+            final JsonObject fix = json.getAsJsonArray("fixes").get(0).getAsJsonObject();
+            assertThat(fix.get("fix").getAsString()).isEqualTo("rename_name_to_displayName");
+            assertThat(fix.get("calls").getAsLong()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("Error handling")
+    class ErrorHandling {
+
+        @Test
+        @DisplayName("fails when every file is already at the target version")
+        void failsWhenNothingToProfile() throws IOException {
+            final Path file = createTestFile("{\"dataVersion\": 2, \"displayName\": \"Alice\"}", "a.json");
+
+            final int exitCode = new CommandLine(new ProfileCommand()).execute(
+                    file.toString(),
+                    "--type", "player",
+                    "--to", "2",
+                    "--bootstrap", BOOTSTRAP);
+
+            assertThat(exitCode).isEqualTo(1);
+            assertThat(errContent.toString()).contains("Nothing to profile");
+        }
+
+        @Test
+        @DisplayName("rejects zero measured iterations")
+        void rejectsZeroIterations() throws IOException {
+            final Path file = createTestFile("{\"dataVersion\": 1, \"name\": \"Alice\"}", "a.json");
+
+            final int exitCode = new CommandLine(new ProfileCommand()).execute(
+                    file.toString(),
+                    "--type", "player",
+                    "--to", "2",
+                    "--iterations", "0",
+                    "--bootstrap", BOOTSTRAP);
+
+            assertThat(exitCode).isEqualTo(1);
+        }
+    }
+
+    private Path createTestFile(final String content, final String name) throws IOException {
+        final Path file = tempDir.resolve(name);
+        Files.writeString(file, content);
+        return file;
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.cli.command;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import de.splatgames.aether.datafixers.cli.command.MigrateCommandTest.MigrateTestBootstrap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import picocli.CommandLine;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ServeCommand")
+class ServeCommandTest {
+
+    private InputStream originalIn;
+    private PrintStream originalOut;
+    private PrintStream originalErr;
+    private ByteArrayOutputStream outContent;
+    private ByteArrayOutputStream errContent;
+
+    @BeforeEach
+    void setUp() {
+        originalIn = System.in;
+        originalOut = System.out;
+        originalErr = System.err;
+        outContent = new ByteArrayOutputStream();
+        errContent = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(outContent));
+        System.setErr(new PrintStream(errContent));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setIn(originalIn);
+        System.setOut(originalOut);
+        System.setErr(originalErr);
+    }
+
+    private void input(final String lines) {
+        System.setIn(new ByteArrayInputStream(lines.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("serves stdin requests until shutdown")
+    void servesStdinUntilShutdown() {
+        input("{\"op\":\"hello\",\"id\":1}\n"
+                + "{\"op\":\"migrate\",\"id\":2,\"type\":\"player\","
+                + "\"content\":\"{\\\"dataVersion\\\":1,\\\"name\\\":\\\"Steve\\\"}\"}\n"
+                + "{\"op\":\"shutdown\",\"id\":3}\n");
+        final CommandLine cmd = new CommandLine(new ServeCommand());
+
+        final int exitCode = cmd.execute(
+                "--bootstrap", MigrateTestBootstrap.class.getName(),
+                "--to", "2");
+
+        assertThat(exitCode).isEqualTo(0);
+        final List<JsonObject> responses = outContent.toString(StandardCharsets.UTF_8).lines()
+                .map(line -> JsonParser.parseString(line).getAsJsonObject())
+                .toList();
+        assertThat(responses).hasSize(3);
+        assertThat(responses.get(0).get("bootstrap").getAsString()).isEqualTo(MigrateTestBootstrap.class.getName());
+        assertThat(responses.get(1).get("content").getAsString()).contains("displayName");
+        assertThat(responses.get(2).get("ok").getAsBoolean()).isTrue();
+        assertThat(errContent.toString()).contains("Warmed up 2 schemas").contains("Served 3 requests");
+    }
+
+    @Test
+    @DisplayName("ends when stdin ends")
+    void endsWithStdin() {
+        input("");
+        final CommandLine cmd = new CommandLine(new ServeCommand());
+
+        final int exitCode = cmd.execute(
+                "--bootstrap", MigrateTestBootstrap.class.getName(),
+                "--to", "2");
+
+        assertThat(exitCode).isEqualTo(0);
+        assertThat(outContent.toString()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("fails for an unknown format")
+    void failsForUnknownFormat() {
+        final CommandLine cmd = new CommandLine(new ServeCommand());
+
+        final int exitCode = cmd.execute(
+                "--bootstrap", MigrateTestBootstrap.class.getName(),
+                "--to", "2",
+                "--format", "nope");
+
+        assertThat(exitCode).isEqualTo(1);
+        assertThat(errContent.toString()).contains("Unknown format: nope");
+    }
+
+    @Test
+    @DisplayName("fails for an unknown bootstrap class")
+    void failsForUnknownBootstrap() {
+        final CommandLine cmd = new CommandLine(new ServeCommand());
+
+        final int exitCode = cmd.execute(
+                "--bootstrap", "com.example.DoesNotExist",
+                "--to", "2");
+
+        assertThat(exitCode).isEqualTo(1);
+    }
+}
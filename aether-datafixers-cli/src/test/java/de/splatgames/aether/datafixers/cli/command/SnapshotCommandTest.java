@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.cli.command;
+
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.cli.command.MigrateCommandTest.MigrateTestBootstrap;
+import de.splatgames.aether.datafixers.core.bootstrap.BootstrapSnapshot;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import picocli.CommandLine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SnapshotCommand")
+class SnapshotCommandTest {
+
+    @TempDir
+    Path tempDir;
+
+    private PrintStream originalErr;
+    private ByteArrayOutputStream errContent;
+
+    @BeforeEach
+    void setUp() {
+        originalErr = System.err;
+        errContent = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(errContent));
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.setErr(originalErr);
+    }
+
+    @Test
+    @DisplayName("writes a readable snapshot of the bootstrap")
+    void writesReadableSnapshot() throws IOException {
+        final Path output = tempDir.resolve("bootstrap.snapshot");
+        final CommandLine cmd = new CommandLine(new SnapshotCommand());
+
+        final int exitCode = cmd.execute(
+                "--bootstrap", MigrateTestBootstrap.class.getName(),
+                "--to", "2",
+                "-o", output.toString());
+
+        assertThat(exitCode).isEqualTo(0);
+        final BootstrapSnapshot snapshot = BootstrapSnapshot.read(output);
+        assertThat(snapshot.bootstrapId()).isEqualTo(MigrateTestBootstrap.class.getName());
+        assertThat(snapshot.currentVersion()).isEqualTo(new DataVersion(2));
+        assertThat(snapshot.requiresFixes(MigrateTestBootstrap.PLAYER, new DataVersion(1), new DataVersion(2)))
+                .isTrue();
+        assertThat(errContent.toString()).contains("2 schemas, 1 fixed types, 1 fixes");
+    }
+
+    @Test
+    @DisplayName("fails for an unknown bootstrap class")
+    void failsForUnknownBootstrap() {
+        final Path output = tempDir.resolve("bootstrap.snapshot");
+        final CommandLine cmd = new CommandLine(new SnapshotCommand());
+
+        final int exitCode = cmd.execute(
+                "--bootstrap", "com.example.DoesNotExist",
+                "--to", "2",
+                "-o", output.toString());
+
+        assertThat(exitCode).isEqualTo(1);
+        assertThat(Files.exists(output)).isFalse();
+    }
+}
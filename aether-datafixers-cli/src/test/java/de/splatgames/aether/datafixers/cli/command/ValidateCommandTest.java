@@ -22,9 +22,13 @@
 
 package de.splatgames.aether.datafixers.cli.command;
 
+import de.splatgames.aether.datafixers.api.DataVersion;
 import de.splatgames.aether.datafixers.api.bootstrap.DataFixerBootstrap;
 import de.splatgames.aether.datafixers.api.fix.FixRegistrar;
 import de.splatgames.aether.datafixers.api.schema.SchemaRegistry;
+import de.splatgames.aether.datafixers.cli.command.MigrateCommandTest.MigrateTestBootstrap;
+import de.splatgames.aether.datafixers.cli.daemon.MigrationDaemon;
+import de.splatgames.aether.datafixers.core.bootstrap.DataFixerRuntimeFactory;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -39,6 +43,7 @@ import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -350,6 +355,50 @@ class ValidateCommandTest {
         }
     }
 
+    @Nested
+    @DisplayName("--daemon option")
+    class DaemonOption {
+
+        @Test
+        @DisplayName("validates through the daemon")
+        void validatesThroughDaemon() throws Exception {
+            final Path current = createTestFile("{\"dataVersion\": 2}", "current.json");
+            final Path outdated = createTestFile("{\"dataVersion\": 1}", "outdated.json");
+            final Path socket = tempDir.resolve("daemon.sock");
+            final MigrationDaemon daemon = new MigrationDaemon(TestBootstrapForValidate.class.getName(),
+                    new DataFixerRuntimeFactory().create(new DataVersion(2), new MigrateTestBootstrap()),
+                    "json-gson");
+            final Thread server = new Thread(() -> {
+                try {
+                    daemon.serve(socket);
+                } catch (final IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            server.start();
+            assertThat(daemon.awaitListening(Duration.ofSeconds(5))).isTrue();
+
+            try {
+                final CommandLine cmd = new CommandLine(new ValidateCommand());
+                final int exitCode = cmd.execute(
+                        current.toString(), outdated.toString(),
+                        "--type", "player",
+                        "--bootstrap", TestBootstrapForValidate.class.getName(),
+                        "--daemon", socket.toString(),
+                        "--to", "2");
+
+                assertThat(exitCode).isEqualTo(2);
+                assertThat(outContent.toString())
+                        .contains("OK: " + current + " (v2)")
+                        .contains("MIGRATE: " + outdated + " (v1 -> v2)");
+                assertThat(daemon.requestCount()).isEqualTo(3);
+            } finally {
+                daemon.stop();
+                server.join(5000);
+            }
+        }
+    }
+
     private Path createTestFile(final String content, final String name) throws IOException {
         final Path file = tempDir.resolve(name);
         Files.writeString(file, content);
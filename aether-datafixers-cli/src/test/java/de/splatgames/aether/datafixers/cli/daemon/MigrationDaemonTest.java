@@ -0,0 +1,304 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.cli.daemon;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.bootstrap.DataFixerBootstrap;
+import de.splatgames.aether.datafixers.api.fix.FixRegistrar;
+import de.splatgames.aether.datafixers.api.schema.SchemaRegistry;
+import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
+import de.splatgames.aether.datafixers.core.bootstrap.DataFixerRuntimeFactory;
+import de.splatgames.aether.datafixers.testkit.factory.MockSchemas;
+import de.splatgames.aether.datafixers.testkit.factory.QuickFix;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@DisplayName("MigrationDaemon")
+class MigrationDaemonTest {
+
+    private static final String BOOTSTRAP_ID = "com.example.TestBootstrap";
+
+    private MigrationDaemon daemon;
+
+    @BeforeEach
+    void setUp() {
+        daemon = new MigrationDaemon(BOOTSTRAP_ID,
+                new DataFixerRuntimeFactory().create(new DataVersion(2), new RenameBootstrap()), "json-gson");
+    }
+
+    private JsonObject request(final String json) {
+        return daemon.handle(json);
+    }
+
+    @Nested
+    @DisplayName("handle()")
+    class Handle {
+
+        @Test
+        @DisplayName("hello reports the bootstrap and current version")
+        void helloReportsBootstrap() {
+            final JsonObject response = request("{\"op\":\"hello\"}");
+
+            assertThat(response.get("ok").getAsBoolean()).isTrue();
+            assertThat(response.get("bootstrap").getAsString()).isEqualTo(BOOTSTRAP_ID);
+            assertThat(response.get("currentVersion").getAsInt()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("migrate applies fixes and echoes the id")
+        void migrateAppliesFixes() {
+            final JsonObject response = request("{\"op\":\"migrate\",\"id\":7,\"type\":\"player\",\"pretty\":false,"
+                    + "\"content\":\"{\\\"dataVersion\\\":1,\\\"name\\\":\\\"Steve\\\"}\"}");
+
+            assertThat(response.get("ok").getAsBoolean()).isTrue();
+            assertThat(response.get("id").getAsInt()).isEqualTo(7);
+            assertThat(response.get("from").getAsInt()).isEqualTo(1);
+            assertThat(response.get("to").getAsInt()).isEqualTo(2);
+            assertThat(response.get("migrated").getAsBoolean()).isTrue();
+            final JsonObject migrated = JsonParser.parseString(response.get("content").getAsString())
+                    .getAsJsonObject();
+            assertThat(migrated.get("displayName").getAsString()).isEqualTo("Steve");
+            assertThat(migrated.has("name")).isFalse();
+        }
+
+        @Test
+        @DisplayName("migrate uses an explicit source version")
+        void migrateUsesExplicitFrom() {
+            final JsonObject response = request("{\"op\":\"migrate\",\"type\":\"player\",\"from\":1,"
+                    + "\"content\":\"{\\\"name\\\":\\\"Steve\\\"}\"}");
+
+            assertThat(response.get("ok").getAsBoolean()).isTrue();
+            assertThat(response.get("content").getAsString()).contains("displayName");
+        }
+
+        @Test
+        @DisplayName("migrate skips current documents")
+        void migrateSkipsCurrentDocuments() {
+            final JsonObject response = request("{\"op\":\"migrate\",\"type\":\"player\","
+                    + "\"content\":\"{\\\"dataVersion\\\":2,\\\"name\\\":\\\"Steve\\\"}\"}");
+
+            assertThat(response.get("ok").getAsBoolean()).isTrue();
+            assertThat(response.get("migrated").getAsBoolean()).isFalse();
+            assertThat(response.has("content")).isFalse();
+        }
+
+        @Test
+        @DisplayName("migrate rejects targets beyond the current version")
+        void migrateRejectsNewerTarget() {
+            final JsonObject response = request("{\"op\":\"migrate\",\"id\":1,\"type\":\"player\",\"to\":3,"
+                    + "\"content\":\"{\\\"dataVersion\\\":1}\"}");
+
+            assertThat(response.get("ok").getAsBoolean()).isFalse();
+            assertThat(response.get("id").getAsInt()).isEqualTo(1);
+            assertThat(response.get("error").getAsString()).contains("newer than the daemon's current version 2");
+        }
+
+        @Test
+        @DisplayName("validate reports the document version")
+        void validateReportsVersion() {
+            final JsonObject response = request("{\"op\":\"validate\",\"versionField\":\"meta.version\","
+                    + "\"content\":\"{\\\"meta\\\":{\\\"version\\\":1}}\"}");
+
+            assertThat(response.get("ok").getAsBoolean()).isTrue();
+            assertThat(response.get("version").getAsInt()).isEqualTo(1);
+            assertThat(response.get("migrated").getAsBoolean()).isTrue();
+        }
+
+        @Test
+        @DisplayName("reports missing fields, unknown formats and unknown ops as errors")
+        void reportsInvalidRequests() {
+            assertThat(request("{\"op\":\"migrate\",\"content\":\"{}\"}").get("error").getAsString())
+                    .isEqualTo("Missing field: type");
+            assertThat(request("{\"op\":\"validate\",\"format\":\"nope\",\"content\":\"{}\"}")
+                    .get("error").getAsString())
+                    .isEqualTo("Unknown format: nope");
+            assertThat(request("{\"op\":\"explode\"}").get("error").getAsString())
+                    .isEqualTo("Unknown op: explode");
+            assertThat(request("not json").get("error").getAsString()).startsWith("Malformed request");
+        }
+    }
+
+    @Nested
+    @DisplayName("serve(BufferedReader, Writer)")
+    class StreamServing {
+
+        @Test
+        @DisplayName("answers one line per request and stops at shutdown")
+        void answersUntilShutdown() throws IOException {
+            final String input = "{\"op\":\"hello\",\"id\":1}\n"
+                    + "\n"
+                    + "{\"op\":\"validate\",\"id\":2,\"content\":\"{\\\"dataVersion\\\":2}\"}\n"
+                    + "{\"op\":\"shutdown\",\"id\":3}\n"
+                    + "{\"op\":\"hello\",\"id\":4}\n";
+            final StringWriter output = new StringWriter();
+
+            daemon.serve(new BufferedReader(new StringReader(input)), output);
+
+            final List<String> lines = output.toString().lines().toList();
+            assertThat(lines).hasSize(3);
+            assertThat(lines).allSatisfy(line -> assertThat(line).contains("\"ok\":true"));
+            assertThat(lines.get(2)).contains("\"id\":3");
+            assertThat(daemon.isRunning()).isFalse();
+            assertThat(daemon.requestCount()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("serve(Path)")
+    class SocketServing {
+
+        @TempDir
+        Path tempDir;
+
+        private Thread start(final MigrationDaemon server, final Path socket) throws InterruptedException {
+            final Thread thread = new Thread(() -> {
+                try {
+                    server.serve(socket);
+                } catch (final IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            thread.start();
+            assertThat(server.awaitListening(Duration.ofSeconds(5))).isTrue();
+            return thread;
+        }
+
+        @Test
+        @DisplayName("round-trips requests through DaemonClient")
+        void roundTripsThroughClient() throws Exception {
+            final Path socket = tempDir.resolve("daemon.sock");
+            final Thread server = start(daemon, socket);
+
+            try (DaemonClient client = DaemonClient.connect(socket)) {
+                assertThat(client.hello()).isEqualTo(new DaemonClient.DaemonInfo(BOOTSTRAP_ID, 2));
+
+                final DaemonClient.RemoteMigration migration = client.migrate("player", "json-gson", null, 2,
+                        "dataVersion", false, "{\"dataVersion\":1,\"name\":\"Alex\"}");
+                assertThat(migration.migrated()).isTrue();
+                assertThat(migration.fromVersion()).isEqualTo(1);
+                assertThat(migration.content()).contains("\"displayName\":\"Alex\"");
+
+                assertThat(client.validate("json-gson", "dataVersion", "{\"dataVersion\":2}")).isEqualTo(2);
+                assertThatThrownBy(() -> client.validate("json-gson", "dataVersion", "{}"))
+                        .isInstanceOf(DaemonException.class)
+                        .hasMessageContaining("dataVersion");
+
+                client.shutdown();
+            }
+
+            server.join(5000);
+            assertThat(server.isAlive()).isFalse();
+            assertThat(socket).doesNotExist();
+        }
+
+        @Test
+        @DisplayName("restricts the socket file to its owner")
+        void restrictsSocketToOwner() throws Exception {
+            assumeTrue(FileSystems.getDefault().supportedFileAttributeViews().contains("posix"));
+            final Path socket = tempDir.resolve("daemon.sock");
+            final Thread server = start(daemon, socket);
+
+            try {
+                assertThat(PosixFilePermissions.toString(Files.getPosixFilePermissions(socket)))
+                        .isEqualTo("rw-------");
+                assertThat(tempDir).isDirectoryNotContaining(path -> !path.equals(socket));
+                try (DaemonClient client = DaemonClient.connect(socket)) {
+                    assertThat(client.hello().bootstrap()).isEqualTo(BOOTSTRAP_ID);
+                }
+            } finally {
+                daemon.stop();
+                server.join(5000);
+            }
+            assertThat(socket).doesNotExist();
+        }
+
+        @Test
+        @DisplayName("refuses a socket another daemon is listening on")
+        void refusesSocketInUse() throws Exception {
+            final Path socket = tempDir.resolve("daemon.sock");
+            final Thread server = start(daemon, socket);
+
+            try {
+                final MigrationDaemon second = new MigrationDaemon(BOOTSTRAP_ID,
+                        new DataFixerRuntimeFactory().create(new DataVersion(2), new RenameBootstrap()),
+                        "json-gson");
+                assertThatThrownBy(() -> second.serve(socket))
+                        .isInstanceOf(DaemonException.class)
+                        .hasMessageContaining("already listening");
+            } finally {
+                daemon.stop();
+                server.join(5000);
+            }
+            assertThat(socket).doesNotExist();
+        }
+
+        @Test
+        @DisplayName("connecting without a daemon fails")
+        void connectWithoutDaemonFails() {
+            assertThatThrownBy(() -> DaemonClient.connect(tempDir.resolve("missing.sock")))
+                    .isInstanceOf(DaemonException.class)
+                    .hasMessageContaining("Cannot connect");
+        }
+    }
+
+    /**
+     * Renames {@code name} to {@code displayName} for players between versions 1 and 2.
+     */
+    public static class RenameBootstrap implements DataFixerBootstrap {
+        static final TypeReference PLAYER = new TypeReference("player");
+
+        @Override
+        public void registerSchemas(@NotNull final SchemaRegistry schemas) {
+            schemas.register(MockSchemas.minimal(1));
+            schemas.register(MockSchemas.minimal(2));
+        }
+
+        @Override
+        public void registerFixes(@NotNull final FixRegistrar fixes) {
+            fixes.register(PLAYER, QuickFix.renameField(
+                    GsonOps.INSTANCE, "rename_name_to_displayName", 1, 2, "name", "displayName"));
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.cli.format;
+
+import de.splatgames.aether.datafixers.codec.nbt.NbtCompression;
+import de.splatgames.aether.datafixers.codec.nbt.NbtOps;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link NbtFormatHandler}.
+ *
+ * @author Erik Pförtner
+ * @since 0.6.0
+ */
+@DisplayName("NbtFormatHandler")
+class NbtFormatHandlerTest {
+
+    private NbtFormatHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        this.handler = new NbtFormatHandler();
+    }
+
+    private static NbtTag.CompoundTag sample() {
+        final Map<String, NbtTag> entries = new LinkedHashMap<>();
+        entries.put("dataVersion", new NbtTag.IntTag(3));
+        entries.put("name", new NbtTag.StringTag("Alex"));
+        entries.put("pos", NbtTag.LongArrayTag.of(new long[]{1L, -2L, 3L}));
+        return NbtTag.CompoundTag.of(entries);
+    }
+
+    @Nested
+    @DisplayName("metadata")
+    class Metadata {
+
+        @Test
+        @DisplayName("is a binary format with id 'nbt' and NbtOps")
+        void describesFormat() {
+            assertThat(handler.formatId()).isEqualTo("nbt");
+            assertThat(handler.binary()).isTrue();
+            assertThat(handler.fileExtensions()).contains("nbt", "dat");
+            assertThat(handler.ops()).isSameAs(NbtOps.INSTANCE);
+        }
+
+        @Test
+        @DisplayName("is registered by default")
+        void isRegistered() {
+            assertThat(FormatRegistry.get("nbt")).isInstanceOf(NbtFormatHandler.class);
+            assertThat(FormatRegistry.getByExtension("dat")).isInstanceOf(NbtFormatHandler.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("read() / write()")
+    class Bytes {
+
+        @Test
+        @DisplayName("round-trips through GZIP output")
+        void roundTrips() {
+            final byte[] bytes = handler.write(sample(), true);
+
+            assertThat(bytes[0] & 0xFF).isEqualTo(0x1F);
+            assertThat(bytes[1] & 0xFF).isEqualTo(0x8B);
+            assertThat(handler.read(bytes)).isEqualTo(sample());
+        }
+
+        @Test
+        @DisplayName("reads uncompressed input")
+        void readsUncompressed() throws IOException {
+            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (NbtWriter writer = NbtWriter.open(out, NbtCompression.NONE)) {
+                writer.write(sample());
+            }
+
+            assertThat(handler.read(out.toByteArray())).isEqualTo(sample());
+        }
+
+        @Test
+        @DisplayName("rejects empty and malformed input")
+        void rejectsMalformed() {
+            assertThatThrownBy(() -> handler.read(new byte[0]))
+                    .isInstanceOf(FormatParseException.class);
+            assertThatThrownBy(() -> handler.read("{}".getBytes(StandardCharsets.UTF_8)))
+                    .isInstanceOf(FormatParseException.class)
+                    .hasMessageContaining("NBT");
+        }
+    }
+
+    @Nested
+    @DisplayName("parse() / serialize()")
+    class Text {
+
+        @Test
+        @DisplayName("uses Base64 as the string form")
+        void usesBase64() {
+            final String text = handler.serialize(sample());
+
+            assertThat(text).matches("[A-Za-z0-9+/=]+");
+            assertThat(handler.parse(text)).isEqualTo(sample());
+            assertThat(handler.serializePretty(sample())).isEqualTo(text);
+        }
+
+        @Test
+        @DisplayName("rejects blank and non-Base64 content")
+        void rejectsInvalid() {
+            assertThatThrownBy(() -> handler.parse("  "))
+                    .isInstanceOf(FormatParseException.class);
+            assertThatThrownBy(() -> handler.parse("not base64!"))
+                    .isInstanceOf(FormatParseException.class)
+                    .hasMessageContaining("Base64");
+        }
+    }
+}
@@ -24,12 +24,21 @@ package de.splatgames.aether.datafixers.cli.report;
 
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import de.splatgames.aether.datafixers.cli.bench.BaselineComparison;
+import de.splatgames.aether.datafixers.cli.bench.BenchmarkBaseline;
+import de.splatgames.aether.datafixers.cli.bench.BenchmarkReport;
+import de.splatgames.aether.datafixers.cli.bench.BenchmarkRunner;
+import de.splatgames.aether.datafixers.cli.profile.ProfileReport;
+import de.splatgames.aether.datafixers.core.diagnostic.AggregatedMigrationReport;
+import de.splatgames.aether.datafixers.core.diagnostic.FixStatistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -127,4 +136,129 @@ class JsonReportFormatterTest {
             assertThat(json.get("file").getAsString()).isEqualTo("path/to/file with spaces.json");
         }
     }
+
+    @Nested
+    @DisplayName("formatAggregate()")
+    class FormatAggregate {
+
+        @Test
+        @DisplayName("produces valid JSON with totals")
+        void producesTotals() {
+            final JsonObject json = JsonParser.parseString(formatter.formatAggregate(aggregate())).getAsJsonObject();
+
+            assertThat(json.get("migrations").getAsLong()).isEqualTo(3);
+            assertThat(json.get("fromVersion").getAsInt()).isEqualTo(100);
+            assertThat(json.get("toVersion").getAsInt()).isEqualTo(200);
+            assertThat(json.getAsJsonObject("duration").get("p99Ms").getAsDouble()).isEqualTo(15.0);
+            assertThat(json.get("ruleApplications").getAsLong()).isEqualTo(9);
+        }
+
+        @Test
+        @DisplayName("includes fixes, types and warnings")
+        void includesDetails() {
+            final JsonObject json = JsonParser.parseString(formatter.formatAggregate(aggregate())).getAsJsonObject();
+
+            final JsonObject fix = json.getAsJsonObject("fixes").getAsJsonObject("rename_name");
+            assertThat(fix.get("count").getAsLong()).isEqualTo(3);
+            assertThat(fix.get("meanMs").getAsDouble()).isEqualTo(2.0);
+            assertThat(json.getAsJsonObject("touchedTypes").get("player").getAsLong()).isEqualTo(3);
+            assertThat(json.getAsJsonObject("warnings").get("count").getAsLong()).isEqualTo(4);
+            assertThat(json.getAsJsonObject("warnings").getAsJsonObject("messages").get("missing score").getAsLong())
+                    .isEqualTo(4);
+        }
+    }
+
+    @Nested
+    @DisplayName("formatProfile()")
+    class FormatProfile {
+
+        @Test
+        @DisplayName("produces valid JSON with the summary")
+        void producesSummary() {
+            final JsonObject json = JsonParser.parseString(formatter.formatProfile(profile())).getAsJsonObject();
+
+            assertThat(json.get("type").getAsString()).isEqualTo("player");
+            assertThat(json.get("documents").getAsInt()).isEqualTo(4);
+            assertThat(json.get("iterations").getAsInt()).isEqualTo(10);
+            assertThat(json.get("totalMs").getAsDouble()).isEqualTo(20.0);
+            assertThat(json.get("documentsPerSecond").getAsDouble()).isEqualTo(2000.0);
+            assertThat(json.get("allocatedBytes").getAsLong()).isEqualTo(2048);
+        }
+
+        @Test
+        @DisplayName("includes fix and rule arrays")
+        void includesFixesAndRules() {
+            final JsonObject json = JsonParser.parseString(formatter.formatProfile(profile())).getAsJsonObject();
+
+            final JsonObject fix = json.getAsJsonArray("fixes").get(0).getAsJsonObject();
+            assertThat(fix.get("fix").getAsString()).isEqualTo("rename_name");
+            assertThat(fix.get("calls").getAsLong()).isEqualTo(40);
+            assertThat(fix.get("meanMs").getAsDouble()).isEqualTo(0.2);
+            final JsonObject rule = json.getAsJsonArray("rules").get(0).getAsJsonObject();
+            assertThat(rule.get("rule").getAsString()).isEqualTo("renameField");
+            assertThat(rule.get("matched").getAsLong()).isEqualTo(4);
+        }
+    }
+
+    @Nested
+    @DisplayName("formatBenchmark()")
+    class FormatBenchmark {
+
+        @Test
+        @DisplayName("produces valid JSON with throughput and latency")
+        void producesSummary() {
+            final JsonObject json = JsonParser.parseString(formatter.formatBenchmark(benchmark(null))).getAsJsonObject();
+
+            assertThat(json.get("source").getAsString()).isEqualTo("synthetic");
+            assertThat(json.get("threads").getAsInt()).isEqualTo(2);
+            assertThat(json.get("migrations").getAsLong()).isEqualTo(400);
+            assertThat(json.get("throughput").getAsDouble()).isEqualTo(2000.0);
+            assertThat(json.getAsJsonObject("latency").get("p99Ms").getAsDouble()).isEqualTo(4.0);
+            assertThat(json.has("baseline")).isFalse();
+        }
+
+        @Test
+        @DisplayName("round-trips as a baseline")
+        void roundTripsAsBaseline() {
+            final BenchmarkBaseline baseline = BenchmarkBaseline.parse(formatter.formatBenchmark(benchmark(null)));
+
+            assertThat(baseline.throughput()).isEqualTo(2000.0);
+            assertThat(baseline.p99Latency()).isEqualTo(Duration.ofMillis(4));
+        }
+
+        @Test
+        @DisplayName("includes the baseline comparison")
+        void includesComparison() {
+            final BaselineComparison comparison = new BenchmarkBaseline(2500.0, Duration.ofMillis(4))
+                    .compare(benchmark(null), 10.0);
+
+            final JsonObject json = JsonParser.parseString(formatter.formatBenchmark(benchmark(comparison)))
+                    .getAsJsonObject()
+                    .getAsJsonObject("baseline");
+
+            assertThat(json.get("throughputChangePercent").getAsDouble()).isEqualTo(-20.0);
+            assertThat(json.get("regressed").getAsBoolean()).isTrue();
+        }
+    }
+
+    private static AggregatedMigrationReport aggregate() {
+        final FixStatistics fix = new FixStatistics("rename_name", 3, 0, Duration.ofMillis(6),
+                Duration.ofMillis(1), Duration.ofMillis(3), Duration.ofMillis(2), Duration.ofMillis(3));
+        return new AggregatedMigrationReport(3, Duration.ofMillis(30), Duration.ofMillis(5), Duration.ofMillis(15),
+                Duration.ofMillis(10), Duration.ofMillis(15), 100, 200, Map.of("rename_name", fix),
+                Map.of("player", 3L), 9, 4, Map.of("missing score", 4L), 0);
+    }
+
+    private static ProfileReport profile() {
+        return new ProfileReport("player", 1, 2, 4, 3, 10, Duration.ofMillis(20), 2048, 40, 40,
+                List.of(new ProfileReport.FixProfile("rename_name", 40, Duration.ofMillis(8), 1024)),
+                List.of(new ProfileReport.RuleProfile("rename_name", "renameField", 4, 4, Duration.ofMillis(1))));
+    }
+
+    private static BenchmarkReport benchmark(final BaselineComparison comparison) {
+        final BenchmarkRunner.Measurement measurement = new BenchmarkRunner.Measurement(400, Duration.ofMillis(200),
+                Duration.ofMillis(1), Duration.ofMillis(1), Duration.ofMillis(2), Duration.ofMillis(4),
+                Duration.ofMillis(9));
+        return new BenchmarkReport("player", 1, 2, "synthetic", 100, 2, 3, 4, measurement, comparison);
+    }
 }
@@ -22,12 +22,21 @@
 
 package de.splatgames.aether.datafixers.cli.report;
 
+import de.splatgames.aether.datafixers.cli.bench.BaselineComparison;
+import de.splatgames.aether.datafixers.cli.bench.BenchmarkBaseline;
+import de.splatgames.aether.datafixers.cli.bench.BenchmarkReport;
+import de.splatgames.aether.datafixers.cli.bench.BenchmarkRunner;
+import de.splatgames.aether.datafixers.cli.profile.ProfileReport;
+import de.splatgames.aether.datafixers.core.diagnostic.AggregatedMigrationReport;
+import de.splatgames.aether.datafixers.core.diagnostic.FixStatistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -113,4 +122,112 @@ class TextReportFormatterTest {
             assertThat(result).contains("0ms");
         }
     }
+
+    @Nested
+    @DisplayName("formatAggregate()")
+    class FormatAggregate {
+
+        @Test
+        @DisplayName("summarizes migrations on the first line")
+        void summarizesMigrations() {
+            final String result = formatter.formatAggregate(aggregate());
+
+            assertThat(result.lines().findFirst()).hasValue(
+                    "Migrations: 3 [v100 -> v200] total 30ms, mean 10ms, p50 10ms, p99 15ms, max 15ms");
+        }
+
+        @Test
+        @DisplayName("lists fixes, types and warnings")
+        void listsDetails() {
+            final String result = formatter.formatAggregate(aggregate());
+
+            assertThat(result)
+                    .contains("Fix rename_name: 3x, mean 2.000ms, p99 3.000ms, max 3.000ms")
+                    .contains("Type player: 3")
+                    .contains("Warnings: 4")
+                    .contains("4x missing score");
+        }
+    }
+
+    @Nested
+    @DisplayName("formatProfile()")
+    class FormatProfile {
+
+        @Test
+        @DisplayName("summarizes the run on the first two lines")
+        void summarizesRun() {
+            final List<String> lines = formatter.formatProfile(profile()).lines().toList();
+
+            assertThat(lines.get(0)).isEqualTo(
+                    "Profile: 4 documents [player] v1 -> v2, 3 warmup + 10 measured iterations");
+            assertThat(lines.get(1)).isEqualTo(
+                    "Total: 20.000ms, 2000.0 docs/s, 2.0 KiB allocated, 40 -> 40 nodes");
+        }
+
+        @Test
+        @DisplayName("lists fixes and rules")
+        void listsFixesAndRules() {
+            final String result = formatter.formatProfile(profile());
+
+            assertThat(result)
+                    .containsPattern("rename_name\\s+40\\s+8\\.000ms\\s+0\\.200ms\\s+1\\.0 KiB\\s+100\\.0%")
+                    .containsPattern("rename_name/renameField\\s+4\\s+4\\s+1\\.000ms");
+        }
+
+        @Test
+        @DisplayName("reports unsupported allocation tracking as n/a")
+        void reportsUnsupportedAllocation() {
+            final ProfileReport report = new ProfileReport("player", 1, 2, 1, 0, 1, Duration.ofMillis(1), -1, 1, 1,
+                    List.of(), List.of());
+
+            assertThat(formatter.formatProfile(report)).contains("n/a allocated");
+        }
+    }
+
+    @Nested
+    @DisplayName("formatBenchmark()")
+    class FormatBenchmark {
+
+        @Test
+        @DisplayName("summarizes throughput and latency")
+        void summarizesRun() {
+            final List<String> lines = formatter.formatBenchmark(benchmark(null)).lines().toList();
+
+            assertThat(lines).containsExactly(
+                    "Benchmark: 100 documents (synthetic) [player] v1 -> v2, 2 threads, 3 warmup + 4 measured iterations",
+                    "Throughput: 2000.0 migrations/s (400 migrations in 200.000ms)",
+                    "Latency: mean 1.000ms, p50 1.000ms, p90 2.000ms, p99 4.000ms, max 9.000ms");
+        }
+
+        @Test
+        @DisplayName("appends the baseline comparison")
+        void appendsComparison() {
+            final BaselineComparison comparison = new BenchmarkBaseline(2500.0, Duration.ofMillis(4))
+                    .compare(benchmark(null), 10.0);
+
+            assertThat(formatter.formatBenchmark(benchmark(comparison))).endsWith(
+                    "Baseline: 2500.0 migrations/s, p99 4.000ms; throughput -20.0%, p99 +0.0% (threshold 10.0%): REGRESSION");
+        }
+    }
+
+    private static AggregatedMigrationReport aggregate() {
+        final FixStatistics fix = new FixStatistics("rename_name", 3, 0, Duration.ofMillis(6),
+                Duration.ofMillis(1), Duration.ofMillis(3), Duration.ofMillis(2), Duration.ofMillis(3));
+        return new AggregatedMigrationReport(3, Duration.ofMillis(30), Duration.ofMillis(5), Duration.ofMillis(15),
+                Duration.ofMillis(10), Duration.ofMillis(15), 100, 200, Map.of("rename_name", fix),
+                Map.of("player", 3L), 9, 4, Map.of("missing score", 4L), 0);
+    }
+
+    private static ProfileReport profile() {
+        return new ProfileReport("player", 1, 2, 4, 3, 10, Duration.ofMillis(20), 2048, 40, 40,
+                List.of(new ProfileReport.FixProfile("rename_name", 40, Duration.ofMillis(8), 1024)),
+                List.of(new ProfileReport.RuleProfile("rename_name", "renameField", 4, 4, Duration.ofMillis(1))));
+    }
+
+    private static BenchmarkReport benchmark(final BaselineComparison comparison) {
+        final BenchmarkRunner.Measurement measurement = new BenchmarkRunner.Measurement(400, Duration.ofMillis(200),
+                Duration.ofMillis(1), Duration.ofMillis(1), Duration.ofMillis(2), Duration.ofMillis(4),
+                Duration.ofMillis(9));
+        return new BenchmarkReport("player", 1, 2, "synthetic", 100, 2, 3, 4, measurement, comparison);
+    }
 }
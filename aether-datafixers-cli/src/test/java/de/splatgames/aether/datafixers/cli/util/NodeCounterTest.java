@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.cli.util;
+
+import com.google.gson.JsonNull;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("NodeCounter")
+class NodeCounterTest {
+
+    @Nested
+    @DisplayName("count()")
+    class Count {
+
+        @Test
+        @DisplayName("counts a primitive as one node")
+        void countsPrimitive() {
+            assertThat(NodeCounter.count(GsonOps.INSTANCE, new JsonPrimitive(42))).isEqualTo(1);
+            assertThat(NodeCounter.count(GsonOps.INSTANCE, JsonNull.INSTANCE)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("counts a map and its values, but not its keys")
+        void countsMapValues() {
+            final var data = JsonParser.parseString("{\"a\": 1, \"b\": \"x\"}");
+
+            assertThat(NodeCounter.count(GsonOps.INSTANCE, data)).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("counts nested lists and maps recursively")
+        void countsNested() {
+            final var data = JsonParser.parseString("{\"items\": [1, 2, {\"id\": 3}], \"empty\": {}}");
+
+            // root + items + 1 + 2 + {id} + 3 + empty
+            assertThat(NodeCounter.count(GsonOps.INSTANCE, data)).isEqualTo(7);
+        }
+
+        @Test
+        @DisplayName("rejects null ops")
+        void rejectsNullOps() {
+            assertThatThrownBy(() -> NodeCounter.count(null, new JsonPrimitive(1)))
+                    .isInstanceOf(NullPointerException.class);
+        }
+    }
+}
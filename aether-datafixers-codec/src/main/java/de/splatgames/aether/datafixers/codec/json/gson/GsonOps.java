@@ -29,6 +29,7 @@ import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonPrimitive;
 import de.splatgames.aether.datafixers.api.dynamic.DynamicOps;
+import de.splatgames.aether.datafixers.api.dynamic.FieldNames;
 import de.splatgames.aether.datafixers.api.result.DataResult;
 import de.splatgames.aether.datafixers.api.util.Pair;
 import org.jetbrains.annotations.NotNull;
@@ -132,6 +133,9 @@ import java.util.stream.StreamSupport;
  *   <li>Deep copy operations have O(n) complexity where n is the structure size</li>
  *   <li>Prefer batch modifications via {@link #createMap(Stream)} over repeated {@link #set} calls</li>
  *   <li>Stream-based operations are lazy and support short-circuiting</li>
+ *   <li>Keys of objects built by these ops are canonicalised through the shared
+ *       {@link FieldNames} table, so documents share one {@link String} instance per
+ *       field name; reads and string values skip the table</li>
  * </ul>
  *
  * @author Erik Pförtner
@@ -740,7 +744,7 @@ public final class GsonOps implements DynamicOps<JsonElement> {
             if (keyElement == null) {
                 return; // Skip entries with null keys
             }
-            final String key = keyElement.getAsString();
+            final String key = FieldNames.shared().intern(keyElement.getAsString());
             object.add(key, valueElement != null ? valueElement : JsonNull.INSTANCE);
         });
         return object;
@@ -835,7 +839,7 @@ public final class GsonOps implements DynamicOps<JsonElement> {
             return DataResult.error("Key is not a string: " + key);
         }
         final JsonObject result = map.isJsonNull() ? new JsonObject() : map.getAsJsonObject().deepCopy();
-        result.add(key.getAsString(), value);
+        result.add(FieldNames.shared().intern(key.getAsString()), value);
         return DataResult.success(result);
     }
 
@@ -959,13 +963,14 @@ public final class GsonOps implements DynamicOps<JsonElement> {
         Preconditions.checkNotNull(input, "input must not be null");
         Preconditions.checkNotNull(key, "key must not be null");
         Preconditions.checkNotNull(newValue, "newValue must not be null");
+        final String canonicalKey = FieldNames.shared().intern(key);
         if (!input.isJsonObject()) {
             final JsonObject result = new JsonObject();
-            result.add(key, newValue);
+            result.add(canonicalKey, newValue);
             return result;
         }
         final JsonObject result = input.getAsJsonObject().deepCopy();
-        result.add(key, newValue);
+        result.add(canonicalKey, newValue);
         return result;
     }
 
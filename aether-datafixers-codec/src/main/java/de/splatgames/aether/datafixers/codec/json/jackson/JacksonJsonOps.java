@@ -37,6 +37,7 @@ import com.fasterxml.jackson.databind.node.ShortNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import com.google.common.base.Preconditions;
 import de.splatgames.aether.datafixers.api.dynamic.DynamicOps;
+import de.splatgames.aether.datafixers.api.dynamic.FieldNames;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import de.splatgames.aether.datafixers.api.result.DataResult;
 import de.splatgames.aether.datafixers.api.util.Pair;
@@ -198,6 +199,9 @@ import java.util.stream.StreamSupport;
  *       time to avoid repeated lookups</li>
  *   <li>Singleton node types ({@link NullNode}, {@link BooleanNode}) are reused via their
  *       static factory methods</li>
+ *   <li>Keys of objects built by these ops are canonicalised through the shared
+ *       {@link FieldNames} table, so documents share one {@link String} instance per
+ *       field name; reads and string values skip the table</li>
  * </ul>
  *
  * <h2>Comparison with GsonOps</h2>
@@ -967,7 +971,7 @@ public final class JacksonJsonOps implements DynamicOps<JsonNode> {
             if (keyNode == null) {
                 return; // Skip entries with null keys
             }
-            final String key = keyNode.asText();
+            final String key = FieldNames.shared().intern(keyNode.asText());
             object.set(key, valueNode != null ? valueNode : NullNode.getInstance());
         });
         return object;
@@ -1059,7 +1063,7 @@ public final class JacksonJsonOps implements DynamicOps<JsonNode> {
             return DataResult.error("Key is not a string: " + key);
         }
         final ObjectNode result = map.isNull() ? this.nodeFactory.objectNode() : ((ObjectNode) map).deepCopy();
-        result.set(key.asText(), value);
+        result.set(FieldNames.shared().intern(key.asText()), value);
         return DataResult.success(result);
     }
 
@@ -1115,7 +1119,7 @@ public final class JacksonJsonOps implements DynamicOps<JsonNode> {
             final Iterator<Map.Entry<String, JsonNode>> fields = other.fields();
             while (fields.hasNext()) {
                 final Map.Entry<String, JsonNode> entry = fields.next();
-                result.set(entry.getKey(), entry.getValue());
+                result.set(FieldNames.shared().intern(entry.getKey()), entry.getValue());
             }
         }
         return DataResult.success(result);
@@ -1184,13 +1188,14 @@ public final class JacksonJsonOps implements DynamicOps<JsonNode> {
         Preconditions.checkNotNull(input, "input must not be null");
         Preconditions.checkNotNull(key, "key must not be null");
         Preconditions.checkNotNull(newValue, "newValue must not be null");
+        final String canonicalKey = FieldNames.shared().intern(key);
         if (!input.isObject()) {
             final ObjectNode result = nodeFactory.objectNode();
-            result.set(key, newValue);
+            result.set(canonicalKey, newValue);
             return result;
         }
         final ObjectNode result = input.deepCopy();
-        result.set(key, newValue);
+        result.set(canonicalKey, newValue);
         return result;
     }
 
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.codec.nbt;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * The root of an NBT stream: a tag together with its name.
+ *
+ * <p>The root name is usually empty, but some files (e.g. {@code level.dat} of older
+ * versions) use it; it is kept so files can be written back unchanged.</p>
+ *
+ * @param name the root name, never {@code null}
+ * @param tag  the root tag, never {@code null}
+ * @author Erik Pförtner
+ * @since 0.6.0
+ */
+public record NamedTag(@NotNull String name, @NotNull NbtTag tag) {
+
+    /**
+     * Validates the named tag.
+     *
+     * @throws NullPointerException if an argument is {@code null}
+     */
+    public NamedTag {
+        Preconditions.checkNotNull(name, "name must not be null");
+        Preconditions.checkNotNull(tag, "tag must not be null");
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.codec.nbt;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compression wrapping an NBT stream.
+ *
+ * <p>Standalone NBT files such as player data are usually GZIP-compressed, region file
+ * chunks zlib-compressed, and network payloads uncompressed.</p>
+ *
+ * @author Erik Pförtner
+ * @see NbtReader#open(InputStream)
+ * @see NbtWriter#open(OutputStream, NbtCompression)
+ * @since 0.6.0
+ */
+public enum NbtCompression {
+
+    /**
+     * Plain NBT.
+     */
+    NONE,
+
+    /**
+     * GZIP (RFC 1952).
+     */
+    GZIP,
+
+    /**
+     * zlib (RFC 1950).
+     */
+    ZLIB;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Detects the compression of a stream from its first two bytes without consuming them.
+     *
+     * <p>Plain NBT starts with a tag id, which never looks like a GZIP or zlib header, so the
+     * detection is unambiguous for well-formed input.</p>
+     *
+     * @param in the stream, must support {@link InputStream#mark(int)}
+     * @return the detected compression, never {@code null}
+     * @throws NullPointerException     if {@code in} is {@code null}
+     * @throws IllegalArgumentException if {@code in} does not support mark
+     * @throws IOException              if the stream cannot be read
+     */
+    @NotNull
+    public static NbtCompression detect(@NotNull final InputStream in) throws IOException {
+        Preconditions.checkNotNull(in, "in must not be null");
+        Preconditions.checkArgument(in.markSupported(), "in must support mark");
+        in.mark(2);
+        final int first = in.read();
+        final int second = in.read();
+        in.reset();
+        if (first == 0x1F && second == 0x8B) {
+            return GZIP;
+        }
+        // zlib: deflate method in the low nibble, header checksum divisible by 31
+        if (first >= 0 && second >= 0 && (first & 0x0F) == 8 && ((first << 8) | second) % 31 == 0) {
+            return ZLIB;
+        }
+        return NONE;
+    }
+
+    /**
+     * Wraps a stream to decompress it.
+     *
+     * @param in the compressed stream, must not be {@code null}
+     * @return the decompressing stream, or {@code in} itself for {@link #NONE}
+     * @throws NullPointerException if {@code in} is {@code null}
+     * @throws IOException          if the GZIP header cannot be read
+     */
+    @NotNull
+    public InputStream wrap(@NotNull final InputStream in) throws IOException {
+        Preconditions.checkNotNull(in, "in must not be null");
+        return switch (this) {
+            case NONE -> in;
+            case GZIP -> new GZIPInputStream(in, BUFFER_SIZE);
+            case ZLIB -> new InflaterInputStream(in, new Inflater(), BUFFER_SIZE);
+        };
+    }
+
+    /**
+     * Wraps a stream to compress everything written to it. Closing the returned stream
+     * finishes the compressed data and closes {@code out}.
+     *
+     * @param out the target stream, must not be {@code null}
+     * @return the compressing stream, or {@code out} itself for {@link #NONE}
+     * @throws NullPointerException if {@code out} is {@code null}
+     * @throws IOException          if the GZIP header cannot be written
+     */
+    @NotNull
+    public OutputStream wrap(@NotNull final OutputStream out) throws IOException {
+        Preconditions.checkNotNull(out, "out must not be null");
+        return switch (this) {
+            case NONE -> out;
+            case GZIP -> new GZIPOutputStream(out, BUFFER_SIZE);
+            case ZLIB -> new DeflaterOutputStream(out, new Deflater(), BUFFER_SIZE);
+        };
+    }
+}
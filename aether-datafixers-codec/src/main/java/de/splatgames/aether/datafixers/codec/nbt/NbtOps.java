@@ -0,0 +1,883 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.codec.nbt;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.dynamic.DynamicOps;
+import de.splatgames.aether.datafixers.api.dynamic.FieldNames;
+import de.splatgames.aether.datafixers.api.result.DataResult;
+import de.splatgames.aether.datafixers.api.util.Pair;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.ByteArrayTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.ByteTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.CompoundTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.DoubleTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.FloatTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.IntArrayTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.IntTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.ListTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.LongArrayTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.LongTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.NumericTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.ShortTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.StringTag;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A {@link DynamicOps} implementation for binary NBT (Named Binary Tag) data.
+ *
+ * <p>Works directly on {@link NbtTag}s as read by {@link NbtReader} and written by
+ * {@link NbtWriter}, so binary save data is migrated without a detour through JSON and
+ * without losing numeric widths.</p>
+ *
+ * <h2>Type Mapping</h2>
+ * <table class="striped">
+ *   <caption>Type Mapping between Abstract Types and NBT Tags</caption>
+ *   <tr><th>Abstract Type</th><th>NBT Tag</th></tr>
+ *   <tr><td>{@code byte}, {@code short}, {@code int}, {@code long}, {@code float},
+ *       {@code double}</td><td>The tag of the same width</td></tr>
+ *   <tr><td>{@code boolean}</td><td>{@link ByteTag} {@code 0} or {@code 1}</td></tr>
+ *   <tr><td>{@code String}</td><td>{@link StringTag}</td></tr>
+ *   <tr><td>{@code List/Stream}</td><td>{@link ListTag}, or a primitive array tag (see below)</td></tr>
+ *   <tr><td>{@code Map}</td><td>{@link CompoundTag}</td></tr>
+ *   <tr><td>{@code null/empty}</td><td>{@link NbtTag.End}</td></tr>
+ * </table>
+ *
+ * <h2>Lists</h2>
+ * <p>NBT lists are homogeneous. {@link #createList(Stream)} therefore stores a list of only
+ * bytes, ints or longs as a {@link ByteArrayTag}, {@link IntArrayTag} or
+ * {@link LongArrayTag}, and a list of mixed tags as a list of compounds in which every
+ * element that is not a compound is wrapped as {@code {"": element}}. {@link #getList(NbtTag)}
+ * reverses both, so callers always see the original elements. Empty elements are dropped.</p>
+ *
+ * <h2>Numbers</h2>
+ * <p>{@link #createNumeric(Number)} keeps the width of {@link Byte}, {@link Short},
+ * {@link Integer}, {@link Long}, {@link Float} and {@link Double}. Other numbers, such as the
+ * lazily parsed numbers of JSON parsers, become an {@code int} or {@code long} if they are
+ * integral and fit, and a {@code double} otherwise. A JSON {@code 20.0} therefore stays a
+ * double.</p>
+ *
+ * <h2>Booleans</h2>
+ * <p>NBT has no boolean tag. Bytes {@code 0} and {@code 1} are reported as booleans as well
+ * as numbers, so they convert to JSON booleans; all other values are numbers only.</p>
+ *
+ * <h2>Immutability</h2>
+ * <p>All tags are immutable, so modifications copy only the changed container and share
+ * everything else.</p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is stateless and thread-safe.</p>
+ *
+ * @author Erik Pförtner
+ * @see NbtTag
+ * @see NbtReader
+ * @see NbtWriter
+ * @see DynamicOps
+ * @since 0.6.0
+ */
+public final class NbtOps implements DynamicOps<NbtTag> {
+
+    /**
+     * The singleton instance.
+     */
+    public static final NbtOps INSTANCE = new NbtOps();
+
+    /**
+     * Key under which {@link #createList(Stream)} wraps elements of mixed lists.
+     */
+    static final String WRAPPED_ELEMENT_KEY = "";
+
+    private static final Pattern INTEGRAL = Pattern.compile("-?\\d+");
+
+    private static final ByteTag FALSE = new ByteTag((byte) 0);
+    private static final ByteTag TRUE = new ByteTag((byte) 1);
+
+    private NbtOps() {
+        // Singleton - use INSTANCE
+    }
+
+    // ==================== Array Operations ====================
+
+    /**
+     * Creates a byte array tag.
+     *
+     * @param values the bytes, copied; must not be {@code null}
+     * @return the tag; never {@code null}
+     * @throws NullPointerException if {@code values} is {@code null}
+     */
+    @NotNull
+    public NbtTag createByteArray(@NotNull final byte[] values) {
+        return ByteArrayTag.of(values);
+    }
+
+    /**
+     * Creates an int array tag.
+     *
+     * @param values the integers, copied; must not be {@code null}
+     * @return the tag; never {@code null}
+     * @throws NullPointerException if {@code values} is {@code null}
+     */
+    @NotNull
+    public NbtTag createIntArray(@NotNull final int[] values) {
+        return IntArrayTag.of(values);
+    }
+
+    /**
+     * Creates a long array tag.
+     *
+     * @param values the integers, copied; must not be {@code null}
+     * @return the tag; never {@code null}
+     * @throws NullPointerException if {@code values} is {@code null}
+     */
+    @NotNull
+    public NbtTag createLongArray(@NotNull final long[] values) {
+        return LongArrayTag.of(values);
+    }
+
+    // ==================== Empty/Null Operations ====================
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link NbtTag.End#INSTANCE}; never {@code null}
+     */
+    @NotNull
+    @Override
+    public NbtTag empty() {
+        return NbtTag.End.INSTANCE;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link CompoundTag#EMPTY}; never {@code null}
+     */
+    @NotNull
+    @Override
+    public NbtTag emptyMap() {
+        return CompoundTag.EMPTY;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@link ListTag#EMPTY}; never {@code null}
+     */
+    @NotNull
+    @Override
+    public NbtTag emptyList() {
+        return ListTag.EMPTY;
+    }
+
+    // ==================== Type Check Operations ====================
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the value to check; must not be {@code null}
+     * @return {@code true} if the value is a {@link CompoundTag}
+     */
+    @Override
+    public boolean isMap(@NotNull final NbtTag value) {
+        Preconditions.checkNotNull(value, "value must not be null");
+        return value instanceof CompoundTag;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the value to check; must not be {@code null}
+     * @return {@code true} if the value is a {@link ListTag} or a primitive array tag
+     */
+    @Override
+    public boolean isList(@NotNull final NbtTag value) {
+        Preconditions.checkNotNull(value, "value must not be null");
+        return value instanceof ListTag
+                || value instanceof ByteArrayTag
+                || value instanceof IntArrayTag
+                || value instanceof LongArrayTag;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the value to check; must not be {@code null}
+     * @return {@code true} if the value is a {@link StringTag}
+     */
+    @Override
+    public boolean isString(@NotNull final NbtTag value) {
+        Preconditions.checkNotNull(value, "value must not be null");
+        return value instanceof StringTag;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the value to check; must not be {@code null}
+     * @return {@code true} if the value is a numeric tag
+     */
+    @Override
+    public boolean isNumber(@NotNull final NbtTag value) {
+        Preconditions.checkNotNull(value, "value must not be null");
+        return value instanceof NumericTag;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the value to check; must not be {@code null}
+     * @return {@code true} if the value is a byte tag holding {@code 0} or {@code 1}
+     */
+    @Override
+    public boolean isBoolean(@NotNull final NbtTag value) {
+        Preconditions.checkNotNull(value, "value must not be null");
+        return value instanceof ByteTag tag && (tag.value() == 0 || tag.value() == 1);
+    }
+
+    // ==================== Primitive Creation Operations ====================
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the string value; must not be {@code null}
+     * @return a {@link StringTag}; never {@code null}
+     */
+    @NotNull
+    @Override
+    public NbtTag createString(@NotNull final String value) {
+        Preconditions.checkNotNull(value, "value must not be null");
+        return new StringTag(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the integer value
+     * @return an {@link IntTag}; never {@code null}
+     */
+    @NotNull
+    @Override
+    public NbtTag createInt(final int value) {
+        return new IntTag(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the long value
+     * @return a {@link LongTag}; never {@code null}
+     */
+    @NotNull
+    @Override
+    public NbtTag createLong(final long value) {
+        return new LongTag(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the float value
+     * @return a {@link FloatTag}; never {@code null}
+     */
+    @NotNull
+    @Override
+    public NbtTag createFloat(final float value) {
+        return new FloatTag(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the double value
+     * @return a {@link DoubleTag}; never {@code null}
+     */
+    @NotNull
+    @Override
+    public NbtTag createDouble(final double value) {
+        return new DoubleTag(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the byte value
+     * @return a {@link ByteTag}; never {@code null}
+     */
+    @NotNull
+    @Override
+    public NbtTag createByte(final byte value) {
+        return new ByteTag(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the short value
+     * @return a {@link ShortTag}; never {@code null}
+     */
+    @NotNull
+    @Override
+    public NbtTag createShort(final short value) {
+        return new ShortTag(value);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the boolean value
+     * @return a {@link ByteTag} holding {@code 1} or {@code 0}; never {@code null}
+     */
+    @NotNull
+    @Override
+    public NbtTag createBoolean(final boolean value) {
+        return value ? TRUE : FALSE;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Java's fixed-width number types keep their width; other numbers become an
+     * {@code int} or {@code long} if they are integral and fit, and a {@code double}
+     * otherwise.</p>
+     *
+     * @param value the number; must not be {@code null}
+     * @return a numeric tag; never {@code null}
+     */
+    @NotNull
+    @Override
+    public NbtTag createNumeric(@NotNull final Number value) {
+        Preconditions.checkNotNull(value, "value must not be null");
+        if (value instanceof Integer i) {
+            return new IntTag(i);
+        }
+        if (value instanceof Long l) {
+            return new LongTag(l);
+        }
+        if (value instanceof Double d) {
+            return new DoubleTag(d);
+        }
+        if (value instanceof Float f) {
+            return new FloatTag(f);
+        }
+        if (value instanceof Byte b) {
+            return new ByteTag(b);
+        }
+        if (value instanceof Short s) {
+            return new ShortTag(s);
+        }
+        final BigInteger integer;
+        if (value instanceof BigInteger i) {
+            integer = i;
+        } else if (value instanceof BigDecimal d) {
+            integer = d.scale() <= 0 ? d.toBigInteger() : null;
+        } else {
+            // e.g. lazily parsed JSON numbers: a fraction or exponent marks a double
+            integer = INTEGRAL.matcher(value.toString()).matches() ? new BigInteger(value.toString()) : null;
+        }
+        if (integer != null && integer.bitLength() < Integer.SIZE) {
+            return new IntTag(integer.intValue());
+        }
+        if (integer != null && integer.bitLength() < Long.SIZE) {
+            return new LongTag(integer.longValue());
+        }
+        return new DoubleTag(value.doubleValue());
+    }
+
+    // ==================== Primitive Reading Operations ====================
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param input the value to read; must not be {@code null}
+     * @return the string, or an error if the value is not a string tag; never {@code null}
+     */
+    @NotNull
+    @Override
+    public DataResult<String> getStringValue(@NotNull final NbtTag input) {
+        Preconditions.checkNotNull(input, "input must not be null");
+        if (!(input instanceof StringTag tag)) {
+            return DataResult.error("Not a string: " + input);
+        }
+        return DataResult.success(tag.value());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param input the value to read; must not be {@code null}
+     * @return the number boxed in its exact type, or an error if the value is not numeric;
+     *         never {@code null}
+     */
+    @NotNull
+    @Override
+    public DataResult<Number> getNumberValue(@NotNull final NbtTag input) {
+        Preconditions.checkNotNull(input, "input must not be null");
+        if (!(input instanceof NumericTag tag)) {
+            return DataResult.error("Not a number: " + input);
+        }
+        return DataResult.success(tag.number());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param input the value to read; must not be {@code null}
+     * @return the boolean, or an error if the value is not a byte tag holding {@code 0} or
+     *         {@code 1}; never {@code null}
+     */
+    @NotNull
+    @Override
+    public DataResult<Boolean> getBooleanValue(@NotNull final NbtTag input) {
+        Preconditions.checkNotNull(input, "input must not be null");
+        if (!this.isBoolean(input)) {
+            return DataResult.error("Not a boolean: " + input);
+        }
+        return DataResult.success(((ByteTag) input).value() != 0);
+    }
+
+    // ==================== List Operations ====================
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Lists of only bytes, ints or longs become primitive array tags; mixed lists are
+     * wrapped into compounds.</p>
+     *
+     * @param values the elements; must not be {@code null}
+     * @return the list or array tag; never {@code null}
+     */
+    @NotNull
+    @Override
+    public NbtTag createList(@NotNull final Stream<NbtTag> values) {
+        Preconditions.checkNotNull(values, "values must not be null");
+        final List<NbtTag> elements = new ArrayList<>();
+        values.forEach(value -> {
+            if (value != null && value != NbtTag.End.INSTANCE) {
+                elements.add(value);
+            }
+        });
+        return list(elements);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Primitive arrays are streamed as individual numeric tags, and wrapped elements of
+     * mixed lists are unwrapped.</p>
+     *
+     * @param input the value to read; must not be {@code null}
+     * @return the elements, or an error if the value is not a list; never {@code null}
+     */
+    @NotNull
+    @Override
+    public DataResult<Stream<NbtTag>> getList(@NotNull final NbtTag input) {
+        Preconditions.checkNotNull(input, "input must not be null");
+        if (input instanceof ListTag list) {
+            return DataResult.success(list.elementType() == NbtTag.COMPOUND
+                    ? list.elements().stream().map(NbtOps::unwrap)
+                    : list.elements().stream());
+        }
+        if (input instanceof IntArrayTag array) {
+            return DataResult.success(IntStream.of(array.array()).mapToObj(IntTag::new));
+        }
+        if (input instanceof LongArrayTag array) {
+            return DataResult.success(Arrays.stream(array.array()).mapToObj(LongTag::new));
+        }
+        if (input instanceof ByteArrayTag array) {
+            final byte[] bytes = array.array();
+            return DataResult.success(IntStream.range(0, bytes.length).mapToObj(i -> new ByteTag(bytes[i])));
+        }
+        return DataResult.error("Not a list: " + input);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param list  the list to append to; must not be {@code null}
+     * @param value the element to append; must not be {@code null}
+     * @return the new list, or an error if {@code list} is neither a list nor empty;
+     *         never {@code null}
+     */
+    @NotNull
+    @Override
+    public DataResult<NbtTag> mergeToList(@NotNull final NbtTag list,
+                                          @NotNull final NbtTag value) {
+        Preconditions.checkNotNull(list, "list must not be null");
+        Preconditions.checkNotNull(value, "value must not be null");
+        if (list == NbtTag.End.INSTANCE) {
+            return DataResult.success(this.createList(Stream.of(value)));
+        }
+        if (!this.isList(list)) {
+            return DataResult.error("Not a list: " + list);
+        }
+        return DataResult.success(this.createList(
+                Stream.concat(this.getList(list).result().orElseThrow(), Stream.of(value))));
+    }
+
+    // ==================== Map Operations ====================
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param input the compound to read; must not be {@code null}
+     * @param key   the field name; must not be {@code null}
+     * @return the value, or {@code null} if absent or {@code input} is not a compound
+     */
+    @Nullable
+    @Override
+    public NbtTag get(@NotNull final NbtTag input,
+                      @NotNull final String key) {
+        Preconditions.checkNotNull(input, "input must not be null");
+        Preconditions.checkNotNull(key, "key must not be null");
+        if (!(input instanceof CompoundTag compound)) {
+            return null;
+        }
+        return compound.get(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param input    the compound to modify; must not be {@code null}
+     * @param key      the field name; must not be {@code null}
+     * @param newValue the value to set; must not be {@code null}
+     * @return a new compound with the field set; a new single-entry compound if
+     *         {@code input} is not a compound; never {@code null}
+     */
+    @NotNull
+    @Override
+    public NbtTag set(@NotNull final NbtTag input,
+                      @NotNull final String key,
+                      @NotNull final NbtTag newValue) {
+        Preconditions.checkNotNull(input, "input must not be null");
+        Preconditions.checkNotNull(key, "key must not be null");
+        Preconditions.checkNotNull(newValue, "newValue must not be null");
+        final Map<String, NbtTag> entries = input instanceof CompoundTag compound
+                ? copyOf(compound, 1)
+                : new LinkedHashMap<>(2);
+        entries.put(FieldNames.shared().intern(key), newValue);
+        return compound(entries);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param input the compound to modify; must not be {@code null}
+     * @param key   the field name; must not be {@code null}
+     * @return a new compound without the field, or {@code input} if there was nothing to
+     *         remove; never {@code null}
+     */
+    @NotNull
+    @Override
+    public NbtTag remove(@NotNull final NbtTag input,
+                         @NotNull final String key) {
+        Preconditions.checkNotNull(input, "input must not be null");
+        Preconditions.checkNotNull(key, "key must not be null");
+        if (!(input instanceof CompoundTag compound) || compound.get(key) == null) {
+            return input;
+        }
+        final Map<String, NbtTag> entries = copyOf(compound, 0);
+        entries.remove(key);
+        return compound(entries);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param input the compound to check; must not be {@code null}
+     * @param key   the field name; must not be {@code null}
+     * @return {@code true} if {@code input} is a compound containing {@code key}
+     */
+    @Override
+    public boolean has(@NotNull final NbtTag input,
+                       @NotNull final String key) {
+        Preconditions.checkNotNull(input, "input must not be null");
+        Preconditions.checkNotNull(key, "key must not be null");
+        return input instanceof CompoundTag compound && compound.get(key) != null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>String keys are used as-is and numeric keys by their decimal form; entries with
+     * other keys are skipped.</p>
+     *
+     * @param entries the entries; must not be {@code null}
+     * @return a {@link CompoundTag}; never {@code null}
+     */
+    @NotNull
+    @Override
+    public NbtTag createMap(@NotNull final Stream<Pair<NbtTag, NbtTag>> entries) {
+        Preconditions.checkNotNull(entries, "entries must not be null");
+        final Map<String, NbtTag> map = new LinkedHashMap<>();
+        entries.forEach(pair -> {
+            final String key = keyOf(pair.first());
+            if (key == null) {
+                return; // Skip entries without a usable key
+            }
+            final NbtTag value = pair.second();
+            map.put(FieldNames.shared().intern(key), value != null ? value : NbtTag.End.INSTANCE);
+        });
+        return compound(map);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param input the compound to read; must not be {@code null}
+     * @return the entries with {@link StringTag} keys, or an error if the value is not a
+     *         compound; never {@code null}
+     */
+    @NotNull
+    @Override
+    public DataResult<Stream<Pair<NbtTag, NbtTag>>> getMapEntries(@NotNull final NbtTag input) {
+        Preconditions.checkNotNull(input, "input must not be null");
+        if (!(input instanceof CompoundTag compound)) {
+            return DataResult.error("Not a compound: " + input);
+        }
+        return DataResult.success(compound.entries().entrySet().stream()
+                .map(entry -> Pair.of((NbtTag) new StringTag(entry.getKey()), entry.getValue())));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param map   the compound to add to; must not be {@code null}
+     * @param key   the key, a {@link StringTag}; must not be {@code null}
+     * @param value the value; must not be {@code null}
+     * @return the new compound, or an error if {@code map} is neither a compound nor empty
+     *         or {@code key} is not a string; never {@code null}
+     */
+    @NotNull
+    @Override
+    public DataResult<NbtTag> mergeToMap(@NotNull final NbtTag map,
+                                         @NotNull final NbtTag key,
+                                         @NotNull final NbtTag value) {
+        Preconditions.checkNotNull(map, "map must not be null");
+        Preconditions.checkNotNull(key, "key must not be null");
+        Preconditions.checkNotNull(value, "value must not be null");
+        if (!(map instanceof CompoundTag) && map != NbtTag.End.INSTANCE) {
+            return DataResult.error("Not a compound: " + map);
+        }
+        if (!(key instanceof StringTag stringKey)) {
+            return DataResult.error("Key is not a string: " + key);
+        }
+        return DataResult.success(this.set(map, stringKey.value(), value));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param map   the compound to add to; must not be {@code null}
+     * @param other the compound whose entries are added; must not be {@code null}
+     * @return the new compound, or an error if either argument is neither a compound nor
+     *         empty; never {@code null}
+     */
+    @NotNull
+    @Override
+    public DataResult<NbtTag> mergeToMap(@NotNull final NbtTag map,
+                                         @NotNull final NbtTag other) {
+        Preconditions.checkNotNull(map, "map must not be null");
+        Preconditions.checkNotNull(other, "other must not be null");
+        if (!(map instanceof CompoundTag) && map != NbtTag.End.INSTANCE) {
+            return DataResult.error("First argument is not a compound: " + map);
+        }
+        if (!(other instanceof CompoundTag otherCompound)) {
+            if (other == NbtTag.End.INSTANCE) {
+                return DataResult.success(map);
+            }
+            return DataResult.error("Second argument is not a compound: " + other);
+        }
+        final Map<String, NbtTag> entries = map instanceof CompoundTag compound
+                ? copyOf(compound, otherCompound.size())
+                : new LinkedHashMap<>();
+        entries.putAll(otherCompound.entries());
+        return DataResult.success(compound(entries));
+    }
+
+    // ==================== Conversion Operations ====================
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>NBT input is returned as-is.</p>
+     *
+     * @param sourceOps the ops of {@code input}; must not be {@code null}
+     * @param input     the value to convert; must not be {@code null}
+     * @return the converted tag; never {@code null}
+     */
+    @NotNull
+    @Override
+    public <U> NbtTag convertTo(@NotNull final DynamicOps<U> sourceOps,
+                                @NotNull final U input) {
+        Preconditions.checkNotNull(sourceOps, "sourceOps must not be null");
+        Preconditions.checkNotNull(input, "input must not be null");
+        if (sourceOps == this) {
+            return (NbtTag) input;
+        }
+        // Boolean first to avoid integer 0/1 being interpreted as boolean
+        final DataResult<Boolean> boolResult = sourceOps.getBooleanValue(input);
+        if (boolResult.isSuccess()) {
+            return createBoolean(boolResult.result().orElseThrow());
+        }
+
+        final DataResult<Number> numberResult = sourceOps.getNumberValue(input);
+        if (numberResult.isSuccess()) {
+            return createNumeric(numberResult.result().orElseThrow());
+        }
+
+        final DataResult<String> stringResult = sourceOps.getStringValue(input);
+        if (stringResult.isSuccess()) {
+            return createString(stringResult.result().orElseThrow());
+        }
+
+        final DataResult<Stream<U>> listResult = sourceOps.getList(input);
+        if (listResult.isSuccess()) {
+            return createList(
+                    listResult.result().orElseThrow()
+                            .map(element -> convertTo(sourceOps, element))
+            );
+        }
+
+        final DataResult<Stream<Pair<U, U>>> mapResult = sourceOps.getMapEntries(input);
+        if (mapResult.isSuccess()) {
+            return createMap(
+                    mapResult.result().orElseThrow()
+                            .filter(entry -> entry.first() != null) // Skip entries with null keys
+                            .map(entry -> {
+                                final U second = entry.second();
+                                return Pair.of(
+                                        convertTo(sourceOps, entry.first()),
+                                        second != null ? convertTo(sourceOps, second) : empty()
+                                );
+                            })
+            );
+        }
+
+        // Fallback: return the end tag for unknown/empty types
+        return empty();
+    }
+
+    // ==================== Helper Methods ====================
+
+    @NotNull
+    private static NbtTag list(@NotNull final List<NbtTag> elements) {
+        if (elements.isEmpty()) {
+            return ListTag.EMPTY;
+        }
+        final byte type = elements.get(0).id();
+        boolean homogeneous = true;
+        for (final NbtTag element : elements) {
+            // a compound that looks like a wrapper must itself be wrapped to survive getList
+            if (element.id() != type || isWrapper(element)) {
+                homogeneous = false;
+                break;
+            }
+        }
+        if (!homogeneous) {
+            final List<NbtTag> wrapped = new ArrayList<>(elements.size());
+            for (final NbtTag element : elements) {
+                wrapped.add(element instanceof CompoundTag && !isWrapper(element)
+                        ? element
+                        : new CompoundTag(Map.of(WRAPPED_ELEMENT_KEY, element)));
+            }
+            return new ListTag(NbtTag.COMPOUND, Collections.unmodifiableList(wrapped));
+        }
+        switch (type) {
+            case NbtTag.BYTE: {
+                final byte[] values = new byte[elements.size()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = ((ByteTag) elements.get(i)).value();
+                }
+                return new ByteArrayTag(values);
+            }
+            case NbtTag.INT: {
+                final int[] values = new int[elements.size()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = ((IntTag) elements.get(i)).value();
+                }
+                return new IntArrayTag(values);
+            }
+            case NbtTag.LONG: {
+                final long[] values = new long[elements.size()];
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = ((LongTag) elements.get(i)).value();
+                }
+                return new LongArrayTag(values);
+            }
+            default:
+                return new ListTag(type, Collections.unmodifiableList(elements));
+        }
+    }
+
+    private static boolean isWrapper(@NotNull final NbtTag tag) {
+        return tag instanceof CompoundTag compound
+                && compound.size() == 1
+                && compound.get(WRAPPED_ELEMENT_KEY) != null;
+    }
+
+    @NotNull
+    private static NbtTag unwrap(@NotNull final NbtTag element) {
+        return isWrapper(element) ? ((CompoundTag) element).get(WRAPPED_ELEMENT_KEY) : element;
+    }
+
+    @Nullable
+    private static String keyOf(@Nullable final NbtTag key) {
+        if (key instanceof StringTag tag) {
+            return tag.value();
+        }
+        if (key instanceof NumericTag tag) {
+            return tag.number().toString();
+        }
+        return null;
+    }
+
+    @NotNull
+    private static Map<String, NbtTag> copyOf(@NotNull final CompoundTag compound, final int extra) {
+        final Map<String, NbtTag> copy = new LinkedHashMap<>((compound.size() + extra) * 2);
+        copy.putAll(compound.entries());
+        return copy;
+    }
+
+    @NotNull
+    private static CompoundTag compound(@NotNull final Map<String, NbtTag> entries) {
+        return entries.isEmpty() ? CompoundTag.EMPTY : new CompoundTag(Collections.unmodifiableMap(entries));
+    }
+
+    @Override
+    public String toString() {
+        return "NbtOps";
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.codec.nbt;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.dynamic.FieldNames;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.ByteArrayTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.ByteTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.CompoundTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.DoubleTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.FloatTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.IntArrayTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.IntTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.ListTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.LongArrayTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.LongTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.ShortTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.StringTag;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads binary NBT from a stream.
+ *
+ * <p>Values are decoded straight from the (optionally decompressed) byte stream into
+ * {@link NbtTag}s in big-endian order, without an intermediate text form. Int and long
+ * arrays are decoded in bulk into primitive arrays. Lists keep the tag type they were
+ * written with, so documents are written back in their original layout.</p>
+ *
+ * <h2>Untrusted Input</h2>
+ * <p>Nesting is limited to {@value #MAX_DEPTH} levels, and arrays and lists grow as their
+ * elements arrive instead of trusting the declared length. A corrupt length therefore ends
+ * in an {@link java.io.EOFException}, not an out-of-memory error.</p>
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * try (NbtReader reader = NbtReader.open(Files.newInputStream(path))) {
+ *     NamedTag root = reader.readNamed();
+ *     Dynamic<NbtTag> player = new Dynamic<>(NbtOps.INSTANCE, root.tag());
+ * }
+ * }</pre>
+ *
+ * <p>Instances are not thread-safe.</p>
+ *
+ * @author Erik Pförtner
+ * @see NbtWriter
+ * @see NbtOps
+ * @since 0.6.0
+ */
+public final class NbtReader implements Closeable {
+
+    /**
+     * The deepest nesting of lists and compounds that is accepted.
+     */
+    public static final int MAX_DEPTH = 512;
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final DataInputStream in;
+    private final byte[] scratch = new byte[CHUNK_SIZE];
+    private final ByteBuffer scratchBuffer = ByteBuffer.wrap(this.scratch);
+
+    /**
+     * Creates a reader for an uncompressed stream. The stream is buffered unless it already
+     * is.
+     *
+     * @param in the stream, must not be {@code null}
+     * @throws NullPointerException if {@code in} is {@code null}
+     */
+    public NbtReader(@NotNull final InputStream in) {
+        Preconditions.checkNotNull(in, "in must not be null");
+        this.in = new DataInputStream(in instanceof BufferedInputStream || in instanceof ByteArrayInputStream
+                ? in
+                : new BufferedInputStream(in, CHUNK_SIZE));
+    }
+
+    /**
+     * Creates a reader for a stream whose compression is {@linkplain NbtCompression#detect
+     * detected} from its first bytes.
+     *
+     * @param in the possibly compressed stream, must not be {@code null}
+     * @return the reader, never {@code null}
+     * @throws NullPointerException if {@code in} is {@code null}
+     * @throws IOException          if the stream header cannot be read
+     */
+    @NotNull
+    public static NbtReader open(@NotNull final InputStream in) throws IOException {
+        Preconditions.checkNotNull(in, "in must not be null");
+        final InputStream buffered = in.markSupported() ? in : new BufferedInputStream(in, CHUNK_SIZE);
+        return open(buffered, NbtCompression.detect(buffered));
+    }
+
+    /**
+     * Creates a reader for a stream with a known compression.
+     *
+     * @param in          the compressed stream, must not be {@code null}
+     * @param compression the compression, must not be {@code null}
+     * @return the reader, never {@code null}
+     * @throws NullPointerException if an argument is {@code null}
+     * @throws IOException          if the stream header cannot be read
+     */
+    @NotNull
+    public static NbtReader open(@NotNull final InputStream in,
+                                 @NotNull final NbtCompression compression) throws IOException {
+        Preconditions.checkNotNull(in, "in must not be null");
+        Preconditions.checkNotNull(compression, "compression must not be null");
+        return new NbtReader(compression == NbtCompression.NONE ? in : compression.wrap(in));
+    }
+
+    /**
+     * Reads a root tag and its name.
+     *
+     * @return the root, never {@code null}
+     * @throws IOException if the stream is malformed, truncated or nested too deeply
+     */
+    @NotNull
+    public NamedTag readNamed() throws IOException {
+        final byte id = this.in.readByte();
+        if (id == NbtTag.END) {
+            throw new IOException("Root tag must not be an end tag");
+        }
+        final String name = this.in.readUTF();
+        return new NamedTag(name, this.readPayload(id, 0));
+    }
+
+    /**
+     * Reads a root tag, discarding its name.
+     *
+     * @return the root tag, never {@code null}
+     * @throws IOException if the stream is malformed, truncated or nested too deeply
+     */
+    @NotNull
+    public NbtTag read() throws IOException {
+        return this.readNamed().tag();
+    }
+
+    /**
+     * Closes the underlying stream.
+     *
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        this.in.close();
+    }
+
+    @NotNull
+    private NbtTag readPayload(final byte id, final int depth) throws IOException {
+        return switch (id) {
+            case NbtTag.BYTE -> new ByteTag(this.in.readByte());
+            case NbtTag.SHORT -> new ShortTag(this.in.readShort());
+            case NbtTag.INT -> new IntTag(this.in.readInt());
+            case NbtTag.LONG -> new LongTag(this.in.readLong());
+            case NbtTag.FLOAT -> new FloatTag(this.in.readFloat());
+            case NbtTag.DOUBLE -> new DoubleTag(this.in.readDouble());
+            case NbtTag.BYTE_ARRAY -> new ByteArrayTag(this.readByteArray());
+            case NbtTag.STRING -> new StringTag(this.in.readUTF());
+            case NbtTag.LIST -> this.readList(depth + 1);
+            case NbtTag.COMPOUND -> this.readCompound(depth + 1);
+            case NbtTag.INT_ARRAY -> new IntArrayTag(this.readIntArray());
+            case NbtTag.LONG_ARRAY -> new LongArrayTag(this.readLongArray());
+            default -> throw new IOException("Unknown tag id: " + id);
+        };
+    }
+
+    @NotNull
+    private NbtTag readList(final int depth) throws IOException {
+        checkDepth(depth);
+        final byte elementType = this.in.readByte();
+        final int length = this.readLength();
+        if (length == 0) {
+            return ListTag.EMPTY;
+        }
+        if (elementType == NbtTag.END) {
+            throw new IOException("Non-empty list of end tags");
+        }
+        final List<NbtTag> elements = new ArrayList<>(Math.min(length, CHUNK_SIZE));
+        for (int i = 0; i < length; i++) {
+            elements.add(this.readPayload(elementType, depth));
+        }
+        return new ListTag(elementType, Collections.unmodifiableList(elements));
+    }
+
+    @NotNull
+    private NbtTag readCompound(final int depth) throws IOException {
+        checkDepth(depth);
+        final Map<String, NbtTag> entries = new LinkedHashMap<>();
+        for (byte id = this.in.readByte(); id != NbtTag.END; id = this.in.readByte()) {
+            final String key = FieldNames.shared().intern(this.in.readUTF());
+            entries.put(key, this.readPayload(id, depth));
+        }
+        return entries.isEmpty() ? CompoundTag.EMPTY : new CompoundTag(Collections.unmodifiableMap(entries));
+    }
+
+    @NotNull
+    private byte[] readByteArray() throws IOException {
+        final int length = this.readLength();
+        byte[] values = new byte[Math.min(length, CHUNK_SIZE)];
+        int filled = 0;
+        while (filled < length) {
+            if (filled == values.length) {
+                values = Arrays.copyOf(values, (int) Math.min(length, values.length * 2L));
+            }
+            final int count = values.length - filled;
+            this.in.readFully(values, filled, count);
+            filled += count;
+        }
+        return values;
+    }
+
+    @NotNull
+    private int[] readIntArray() throws IOException {
+        final int length = this.readLength();
+        int[] values = new int[Math.min(length, CHUNK_SIZE)];
+        int filled = 0;
+        while (filled < length) {
+            if (filled == values.length) {
+                values = Arrays.copyOf(values, (int) Math.min(length, values.length * 2L));
+            }
+            final int count = Math.min(values.length - filled, CHUNK_SIZE / Integer.BYTES);
+            this.in.readFully(this.scratch, 0, count * Integer.BYTES);
+            this.scratchBuffer.clear();
+            this.scratchBuffer.asIntBuffer().get(values, filled, count);
+            filled += count;
+        }
+        return values;
+    }
+
+    @NotNull
+    private long[] readLongArray() throws IOException {
+        final int length = this.readLength();
+        long[] values = new long[Math.min(length, CHUNK_SIZE)];
+        int filled = 0;
+        while (filled < length) {
+            if (filled == values.length) {
+                values = Arrays.copyOf(values, (int) Math.min(length, values.length * 2L));
+            }
+            final int count = Math.min(values.length - filled, CHUNK_SIZE / Long.BYTES);
+            this.in.readFully(this.scratch, 0, count * Long.BYTES);
+            this.scratchBuffer.clear();
+            this.scratchBuffer.asLongBuffer().get(values, filled, count);
+            filled += count;
+        }
+        return values;
+    }
+
+    private int readLength() throws IOException {
+        final int length = this.in.readInt();
+        if (length < 0) {
+            throw new IOException("Negative length: " + length);
+        }
+        return length;
+    }
+
+    private static void checkDepth(final int depth) throws IOException {
+        if (depth > MAX_DEPTH) {
+            throw new IOException("NBT is nested deeper than " + MAX_DEPTH + " levels");
+        }
+    }
+}
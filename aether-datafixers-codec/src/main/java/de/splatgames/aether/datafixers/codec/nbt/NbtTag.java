@@ -0,0 +1,674 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.codec.nbt;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable NBT (Named Binary Tag) value.
+ *
+ * <p>Every tag type of the binary format has its own implementation, so numbers keep their
+ * exact width and {@code int} and {@code long} arrays are stored as primitive arrays rather
+ * than as lists of boxed tags. Tags are immutable: array tags copy on the way in and out, and
+ * containers hold unmodifiable collections, so modified documents share unchanged subtrees.</p>
+ *
+ * <h2>Tag Types</h2>
+ * <table class="striped">
+ *   <caption>NBT tag ids and their implementations</caption>
+ *   <tr><th>Id</th><th>Tag</th><th>Implementation</th></tr>
+ *   <tr><td>0</td><td>End</td><td>{@link End}</td></tr>
+ *   <tr><td>1-6</td><td>Byte, Short, Int, Long, Float, Double</td>
+ *       <td>{@link ByteTag}, {@link ShortTag}, {@link IntTag}, {@link LongTag},
+ *       {@link FloatTag}, {@link DoubleTag}</td></tr>
+ *   <tr><td>7</td><td>Byte array</td><td>{@link ByteArrayTag}</td></tr>
+ *   <tr><td>8</td><td>String</td><td>{@link StringTag}</td></tr>
+ *   <tr><td>9</td><td>List</td><td>{@link ListTag}</td></tr>
+ *   <tr><td>10</td><td>Compound</td><td>{@link CompoundTag}</td></tr>
+ *   <tr><td>11</td><td>Int array</td><td>{@link IntArrayTag}</td></tr>
+ *   <tr><td>12</td><td>Long array</td><td>{@link LongArrayTag}</td></tr>
+ * </table>
+ *
+ * @author Erik Pförtner
+ * @see NbtOps
+ * @since 0.6.0
+ */
+public sealed interface NbtTag permits NbtTag.End, NbtTag.NumericTag, NbtTag.StringTag, NbtTag.ByteArrayTag,
+        NbtTag.IntArrayTag, NbtTag.LongArrayTag, NbtTag.ListTag, NbtTag.CompoundTag {
+
+    /** Tag id of {@link End}. */
+    byte END = 0;
+    /** Tag id of {@link ByteTag}. */
+    byte BYTE = 1;
+    /** Tag id of {@link ShortTag}. */
+    byte SHORT = 2;
+    /** Tag id of {@link IntTag}. */
+    byte INT = 3;
+    /** Tag id of {@link LongTag}. */
+    byte LONG = 4;
+    /** Tag id of {@link FloatTag}. */
+    byte FLOAT = 5;
+    /** Tag id of {@link DoubleTag}. */
+    byte DOUBLE = 6;
+    /** Tag id of {@link ByteArrayTag}. */
+    byte BYTE_ARRAY = 7;
+    /** Tag id of {@link StringTag}. */
+    byte STRING = 8;
+    /** Tag id of {@link ListTag}. */
+    byte LIST = 9;
+    /** Tag id of {@link CompoundTag}. */
+    byte COMPOUND = 10;
+    /** Tag id of {@link IntArrayTag}. */
+    byte INT_ARRAY = 11;
+    /** Tag id of {@link LongArrayTag}. */
+    byte LONG_ARRAY = 12;
+
+    /**
+     * Returns the id this tag is written with.
+     *
+     * @return the tag id
+     */
+    byte id();
+
+    /**
+     * The end tag, used as the empty value. It terminates compounds in the binary format
+     * and is never written as a value.
+     */
+    enum End implements NbtTag {
+
+        /**
+         * The only end tag.
+         */
+        INSTANCE;
+
+        @Override
+        public byte id() {
+            return END;
+        }
+
+        @Override
+        public String toString() {
+            return "END";
+        }
+    }
+
+    /**
+     * A tag holding a single number.
+     */
+    sealed interface NumericTag extends NbtTag permits ByteTag, ShortTag, IntTag, LongTag, FloatTag, DoubleTag {
+
+        /**
+         * Returns the value boxed in its exact type, e.g. a {@link Short} for a short tag.
+         *
+         * @return the value, never {@code null}
+         */
+        @NotNull
+        Number number();
+    }
+
+    /**
+     * A signed 8-bit integer. Also represents booleans as {@code 0} and {@code 1}.
+     *
+     * @param value the value
+     */
+    record ByteTag(byte value) implements NumericTag {
+
+        @Override
+        public byte id() {
+            return BYTE;
+        }
+
+        @NotNull
+        @Override
+        public Number number() {
+            return this.value;
+        }
+    }
+
+    /**
+     * A signed 16-bit integer.
+     *
+     * @param value the value
+     */
+    record ShortTag(short value) implements NumericTag {
+
+        @Override
+        public byte id() {
+            return SHORT;
+        }
+
+        @NotNull
+        @Override
+        public Number number() {
+            return this.value;
+        }
+    }
+
+    /**
+     * A signed 32-bit integer.
+     *
+     * @param value the value
+     */
+    record IntTag(int value) implements NumericTag {
+
+        @Override
+        public byte id() {
+            return INT;
+        }
+
+        @NotNull
+        @Override
+        public Number number() {
+            return this.value;
+        }
+    }
+
+    /**
+     * A signed 64-bit integer.
+     *
+     * @param value the value
+     */
+    record LongTag(long value) implements NumericTag {
+
+        @Override
+        public byte id() {
+            return LONG;
+        }
+
+        @NotNull
+        @Override
+        public Number number() {
+            return this.value;
+        }
+    }
+
+    /**
+     * A 32-bit IEEE 754 floating point number.
+     *
+     * @param value the value
+     */
+    record FloatTag(float value) implements NumericTag {
+
+        @Override
+        public byte id() {
+            return FLOAT;
+        }
+
+        @NotNull
+        @Override
+        public Number number() {
+            return this.value;
+        }
+    }
+
+    /**
+     * A 64-bit IEEE 754 floating point number.
+     *
+     * @param value the value
+     */
+    record DoubleTag(double value) implements NumericTag {
+
+        @Override
+        public byte id() {
+            return DOUBLE;
+        }
+
+        @NotNull
+        @Override
+        public Number number() {
+            return this.value;
+        }
+    }
+
+    /**
+     * A string, written as modified UTF-8 of at most 65535 bytes.
+     *
+     * @param value the value, never {@code null}
+     */
+    record StringTag(@NotNull String value) implements NbtTag {
+
+        /**
+         * Validates the tag.
+         *
+         * @throws NullPointerException if {@code value} is {@code null}
+         */
+        public StringTag {
+            Preconditions.checkNotNull(value, "value must not be null");
+        }
+
+        @Override
+        public byte id() {
+            return STRING;
+        }
+    }
+
+    /**
+     * An array of bytes.
+     */
+    final class ByteArrayTag implements NbtTag {
+
+        private final byte[] values;
+
+        ByteArrayTag(final byte[] values) {
+            this.values = values;
+        }
+
+        /**
+         * Creates a tag holding a copy of the given bytes.
+         *
+         * @param values the bytes, must not be {@code null}
+         * @return the tag, never {@code null}
+         * @throws NullPointerException if {@code values} is {@code null}
+         */
+        @NotNull
+        public static ByteArrayTag of(@NotNull final byte[] values) {
+            Preconditions.checkNotNull(values, "values must not be null");
+            return new ByteArrayTag(values.clone());
+        }
+
+        @Override
+        public byte id() {
+            return BYTE_ARRAY;
+        }
+
+        /**
+         * Returns the number of elements.
+         *
+         * @return the length
+         */
+        public int length() {
+            return this.values.length;
+        }
+
+        /**
+         * Returns the element at an index.
+         *
+         * @param index the index
+         * @return the element
+         * @throws ArrayIndexOutOfBoundsException if {@code index} is out of range
+         */
+        public byte get(final int index) {
+            return this.values[index];
+        }
+
+        /**
+         * Returns a copy of the elements.
+         *
+         * @return a new array, never {@code null}
+         */
+        @NotNull
+        public byte[] toArray() {
+            return this.values.clone();
+        }
+
+        byte[] array() {
+            return this.values;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof ByteArrayTag tag && Arrays.equals(this.values, tag.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(this.values);
+        }
+
+        @Override
+        public String toString() {
+            return "ByteArrayTag" + Arrays.toString(this.values);
+        }
+    }
+
+    /**
+     * An array of 32-bit integers, stored as an {@code int[]}.
+     */
+    final class IntArrayTag implements NbtTag {
+
+        private final int[] values;
+
+        IntArrayTag(final int[] values) {
+            this.values = values;
+        }
+
+        /**
+         * Creates a tag holding a copy of the given integers.
+         *
+         * @param values the integers, must not be {@code null}
+         * @return the tag, never {@code null}
+         * @throws NullPointerException if {@code values} is {@code null}
+         */
+        @NotNull
+        public static IntArrayTag of(@NotNull final int[] values) {
+            Preconditions.checkNotNull(values, "values must not be null");
+            return new IntArrayTag(values.clone());
+        }
+
+        @Override
+        public byte id() {
+            return INT_ARRAY;
+        }
+
+        /**
+         * Returns the number of elements.
+         *
+         * @return the length
+         */
+        public int length() {
+            return this.values.length;
+        }
+
+        /**
+         * Returns the element at an index.
+         *
+         * @param index the index
+         * @return the element
+         * @throws ArrayIndexOutOfBoundsException if {@code index} is out of range
+         */
+        public int get(final int index) {
+            return this.values[index];
+        }
+
+        /**
+         * Returns a copy of the elements.
+         *
+         * @return a new array, never {@code null}
+         */
+        @NotNull
+        public int[] toArray() {
+            return this.values.clone();
+        }
+
+        int[] array() {
+            return this.values;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof IntArrayTag tag && Arrays.equals(this.values, tag.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(this.values);
+        }
+
+        @Override
+        public String toString() {
+            return "IntArrayTag" + Arrays.toString(this.values);
+        }
+    }
+
+    /**
+     * An array of 64-bit integers, stored as a {@code long[]}.
+     */
+    final class LongArrayTag implements NbtTag {
+
+        private final long[] values;
+
+        LongArrayTag(final long[] values) {
+            this.values = values;
+        }
+
+        /**
+         * Creates a tag holding a copy of the given integers.
+         *
+         * @param values the integers, must not be {@code null}
+         * @return the tag, never {@code null}
+         * @throws NullPointerException if {@code values} is {@code null}
+         */
+        @NotNull
+        public static LongArrayTag of(@NotNull final long[] values) {
+            Preconditions.checkNotNull(values, "values must not be null");
+            return new LongArrayTag(values.clone());
+        }
+
+        @Override
+        public byte id() {
+            return LONG_ARRAY;
+        }
+
+        /**
+         * Returns the number of elements.
+         *
+         * @return the length
+         */
+        public int length() {
+            return this.values.length;
+        }
+
+        /**
+         * Returns the element at an index.
+         *
+         * @param index the index
+         * @return the element
+         * @throws ArrayIndexOutOfBoundsException if {@code index} is out of range
+         */
+        public long get(final int index) {
+            return this.values[index];
+        }
+
+        /**
+         * Returns a copy of the elements.
+         *
+         * @return a new array, never {@code null}
+         */
+        @NotNull
+        public long[] toArray() {
+            return this.values.clone();
+        }
+
+        long[] array() {
+            return this.values;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof LongArrayTag tag && Arrays.equals(this.values, tag.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return Arrays.hashCode(this.values);
+        }
+
+        @Override
+        public String toString() {
+            return "LongArrayTag" + Arrays.toString(this.values);
+        }
+    }
+
+    /**
+     * A list of tags that all have the same id.
+     */
+    final class ListTag implements NbtTag {
+
+        /**
+         * The empty list, with element type {@link #END}.
+         */
+        public static final ListTag EMPTY = new ListTag(END, List.of());
+
+        private final byte elementType;
+        private final List<NbtTag> elements;
+
+        ListTag(final byte elementType, final List<NbtTag> elements) {
+            this.elementType = elementType;
+            this.elements = elements;
+        }
+
+        /**
+         * Creates a list holding a copy of the given elements.
+         *
+         * @param elements the elements, must not be {@code null} and must all have the same id
+         * @return the list, never {@code null}
+         * @throws NullPointerException     if {@code elements} or an element is {@code null}
+         * @throws IllegalArgumentException if the elements have different ids or contain {@link End}
+         */
+        @NotNull
+        public static ListTag of(@NotNull final List<? extends NbtTag> elements) {
+            Preconditions.checkNotNull(elements, "elements must not be null");
+            if (elements.isEmpty()) {
+                return EMPTY;
+            }
+            final List<NbtTag> copy = List.copyOf(elements);
+            final byte type = copy.get(0).id();
+            Preconditions.checkArgument(type != END, "A list cannot hold end tags");
+            for (final NbtTag element : copy) {
+                Preconditions.checkArgument(element.id() == type,
+                        "List elements must share one tag id, found %s and %s", type, element.id());
+            }
+            return new ListTag(type, copy);
+        }
+
+        @Override
+        public byte id() {
+            return LIST;
+        }
+
+        /**
+         * Returns the id shared by all elements, {@link #END} for an empty list.
+         *
+         * @return the element id
+         */
+        public byte elementType() {
+            return this.elementType;
+        }
+
+        /**
+         * Returns the elements.
+         *
+         * @return an unmodifiable list, never {@code null}
+         */
+        @NotNull
+        public List<NbtTag> elements() {
+            return this.elements;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof ListTag tag && this.elements.equals(tag.elements);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.elements.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "ListTag" + this.elements;
+        }
+    }
+
+    /**
+     * A map from names to tags. Entries keep their insertion order.
+     */
+    final class CompoundTag implements NbtTag {
+
+        /**
+         * The empty compound.
+         */
+        public static final CompoundTag EMPTY = new CompoundTag(Map.of());
+
+        private final Map<String, NbtTag> entries;
+
+        CompoundTag(final Map<String, NbtTag> entries) {
+            this.entries = entries;
+        }
+
+        /**
+         * Creates a compound holding a copy of the given entries.
+         *
+         * @param entries the entries, must not be {@code null}
+         * @return the compound, never {@code null}
+         * @throws NullPointerException if {@code entries}, a key or a value is {@code null}
+         */
+        @NotNull
+        public static CompoundTag of(@NotNull final Map<String, ? extends NbtTag> entries) {
+            Preconditions.checkNotNull(entries, "entries must not be null");
+            final Map<String, NbtTag> copy = new LinkedHashMap<>(entries.size() * 2);
+            entries.forEach((key, value) -> copy.put(
+                    Preconditions.checkNotNull(key, "key must not be null"),
+                    Preconditions.checkNotNull(value, "value must not be null")));
+            return new CompoundTag(Collections.unmodifiableMap(copy));
+        }
+
+        @Override
+        public byte id() {
+            return COMPOUND;
+        }
+
+        /**
+         * Returns the tag stored under a name.
+         *
+         * @param key the name, must not be {@code null}
+         * @return the tag, or {@code null} if there is none
+         */
+        @Nullable
+        public NbtTag get(@NotNull final String key) {
+            return this.entries.get(key);
+        }
+
+        /**
+         * Returns the number of entries.
+         *
+         * @return the size
+         */
+        public int size() {
+            return this.entries.size();
+        }
+
+        /**
+         * Returns the entries.
+         *
+         * @return an unmodifiable map in insertion order, never {@code null}
+         */
+        @NotNull
+        public Map<String, NbtTag> entries() {
+            return this.entries;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            return other instanceof CompoundTag tag && this.entries.equals(tag.entries);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.entries.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return "CompoundTag" + this.entries;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.codec.nbt;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.ByteArrayTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.ByteTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.CompoundTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.DoubleTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.FloatTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.IntArrayTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.IntTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.ListTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.LongArrayTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.LongTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.ShortTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.StringTag;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+/**
+ * Writes binary NBT to a stream.
+ *
+ * <p>The counterpart of {@link NbtReader}: tags are encoded straight into the (optionally
+ * compressed) byte stream in big-endian order, with int and long arrays encoded in bulk.
+ * Compound entries holding the {@linkplain NbtTag.End empty value} are skipped, since the
+ * format cannot represent them.</p>
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * try (NbtWriter writer = NbtWriter.open(Files.newOutputStream(path), NbtCompression.GZIP)) {
+ *     writer.write(new NamedTag(root.name(), migrated.value()));
+ * }
+ * }</pre>
+ *
+ * <p>Closing the writer finishes the compressed data and closes the underlying stream.
+ * Instances are not thread-safe.</p>
+ *
+ * @author Erik Pförtner
+ * @see NbtReader
+ * @see NbtOps
+ * @since 0.6.0
+ */
+public final class NbtWriter implements Closeable, Flushable {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final DataOutputStream out;
+    private final byte[] scratch = new byte[CHUNK_SIZE];
+    private final ByteBuffer scratchBuffer = ByteBuffer.wrap(this.scratch);
+
+    /**
+     * Creates a writer for an uncompressed stream. The stream is buffered unless it already
+     * is.
+     *
+     * @param out the stream, must not be {@code null}
+     * @throws NullPointerException if {@code out} is {@code null}
+     */
+    public NbtWriter(@NotNull final OutputStream out) {
+        Preconditions.checkNotNull(out, "out must not be null");
+        this.out = new DataOutputStream(out instanceof BufferedOutputStream || out instanceof ByteArrayOutputStream
+                ? out
+                : new BufferedOutputStream(out, CHUNK_SIZE));
+    }
+
+    /**
+     * Creates a writer that compresses its output.
+     *
+     * @param out         the target stream, must not be {@code null}
+     * @param compression the compression, must not be {@code null}
+     * @return the writer, never {@code null}
+     * @throws NullPointerException if an argument is {@code null}
+     * @throws IOException          if the compression header cannot be written
+     */
+    @NotNull
+    public static NbtWriter open(@NotNull final OutputStream out,
+                                 @NotNull final NbtCompression compression) throws IOException {
+        Preconditions.checkNotNull(out, "out must not be null");
+        Preconditions.checkNotNull(compression, "compression must not be null");
+        return new NbtWriter(compression.wrap(out));
+    }
+
+    /**
+     * Writes a root tag with its name.
+     *
+     * @param root the root, must not be {@code null}
+     * @throws NullPointerException     if {@code root} is {@code null}
+     * @throws IllegalArgumentException if the root tag is the end tag
+     * @throws IOException              if writing fails, e.g. a string exceeds 65535 bytes
+     */
+    public void write(@NotNull final NamedTag root) throws IOException {
+        Preconditions.checkNotNull(root, "root must not be null");
+        Preconditions.checkArgument(root.tag() != NbtTag.End.INSTANCE, "Root tag must not be an end tag");
+        this.out.writeByte(root.tag().id());
+        this.out.writeUTF(root.name());
+        this.writePayload(root.tag());
+    }
+
+    /**
+     * Writes a root tag with an empty name.
+     *
+     * @param root the root tag, must not be {@code null}
+     * @throws NullPointerException     if {@code root} is {@code null}
+     * @throws IllegalArgumentException if {@code root} is the end tag
+     * @throws IOException              if writing fails, e.g. a string exceeds 65535 bytes
+     */
+    public void write(@NotNull final NbtTag root) throws IOException {
+        this.write(new NamedTag("", root));
+    }
+
+    /**
+     * Flushes buffered output. Compressed output is only complete after {@link #close()}.
+     *
+     * @throws IOException if flushing fails
+     */
+    @Override
+    public void flush() throws IOException {
+        this.out.flush();
+    }
+
+    /**
+     * Finishes compressed output and closes the underlying stream.
+     *
+     * @throws IOException if closing fails
+     */
+    @Override
+    public void close() throws IOException {
+        this.out.close();
+    }
+
+    private void writePayload(@NotNull final NbtTag tag) throws IOException {
+        switch (tag.id()) {
+            case NbtTag.BYTE -> this.out.writeByte(((ByteTag) tag).value());
+            case NbtTag.SHORT -> this.out.writeShort(((ShortTag) tag).value());
+            case NbtTag.INT -> this.out.writeInt(((IntTag) tag).value());
+            case NbtTag.LONG -> this.out.writeLong(((LongTag) tag).value());
+            case NbtTag.FLOAT -> this.out.writeFloat(((FloatTag) tag).value());
+            case NbtTag.DOUBLE -> this.out.writeDouble(((DoubleTag) tag).value());
+            case NbtTag.STRING -> this.out.writeUTF(((StringTag) tag).value());
+            case NbtTag.BYTE_ARRAY -> {
+                final byte[] values = ((ByteArrayTag) tag).array();
+                this.out.writeInt(values.length);
+                this.out.write(values);
+            }
+            case NbtTag.INT_ARRAY -> this.writeIntArray(((IntArrayTag) tag).array());
+            case NbtTag.LONG_ARRAY -> this.writeLongArray(((LongArrayTag) tag).array());
+            case NbtTag.LIST -> {
+                final ListTag list = (ListTag) tag;
+                this.out.writeByte(list.elementType());
+                this.out.writeInt(list.elements().size());
+                for (final NbtTag element : list.elements()) {
+                    this.writePayload(element);
+                }
+            }
+            case NbtTag.COMPOUND -> {
+                for (final Map.Entry<String, NbtTag> entry : ((CompoundTag) tag).entries().entrySet()) {
+                    final NbtTag value = entry.getValue();
+                    if (value == NbtTag.End.INSTANCE) {
+                        continue;
+                    }
+                    this.out.writeByte(value.id());
+                    this.out.writeUTF(entry.getKey());
+                    this.writePayload(value);
+                }
+                this.out.writeByte(NbtTag.END);
+            }
+            default -> throw new IllegalArgumentException("Cannot write " + tag);
+        }
+    }
+
+    private void writeIntArray(@NotNull final int[] values) throws IOException {
+        this.out.writeInt(values.length);
+        for (int written = 0; written < values.length; ) {
+            final int count = Math.min(values.length - written, CHUNK_SIZE / Integer.BYTES);
+            this.scratchBuffer.clear();
+            this.scratchBuffer.asIntBuffer().put(values, written, count);
+            this.out.write(this.scratch, 0, count * Integer.BYTES);
+            written += count;
+        }
+    }
+
+    private void writeLongArray(@NotNull final long[] values) throws IOException {
+        this.out.writeInt(values.length);
+        for (int written = 0; written < values.length; ) {
+            final int count = Math.min(values.length - written, CHUNK_SIZE / Long.BYTES);
+            this.scratchBuffer.clear();
+            this.scratchBuffer.asLongBuffer().put(values, written, count);
+            this.out.write(this.scratch, 0, count * Long.BYTES);
+            written += count;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * Binary NBT (Named Binary Tag) support, the save format of Minecraft and many
+ * games modelled on it.
+ *
+ * <p>Binary saves can be migrated in place, without converting them to JSON and back. That
+ * conversion would cost two extra encode passes and would lose the exact numeric types the
+ * game expects.</p>
+ *
+ * <h2>Key Classes</h2>
+ * <dl>
+ *   <dt>{@link de.splatgames.aether.datafixers.codec.nbt.NbtOps}</dt>
+ *   <dd>The {@code DynamicOps<NbtTag>} implementation.</dd>
+ *   <dt>{@link de.splatgames.aether.datafixers.codec.nbt.NbtTag}</dt>
+ *   <dd>The immutable tag model: typed numeric tags, strings, primitive {@code byte},
+ *       {@code int} and {@code long} arrays, lists and compounds.</dd>
+ *   <dt>{@link de.splatgames.aether.datafixers.codec.nbt.NbtReader},
+ *       {@link de.splatgames.aether.datafixers.codec.nbt.NbtWriter}</dt>
+ *   <dd>Streaming big-endian decoding and encoding.</dd>
+ *   <dt>{@link de.splatgames.aether.datafixers.codec.nbt.NbtCompression}</dt>
+ *   <dd>Optional GZIP or zlib compression, detected automatically when reading.</dd>
+ * </dl>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * NamedTag root;
+ * try (NbtReader reader = NbtReader.open(Files.newInputStream(path))) {
+ *     root = reader.readNamed();
+ * }
+ * Dynamic<NbtTag> migrated = fixer.update(TypeReferences.PLAYER,
+ *         new Dynamic<>(NbtOps.INSTANCE, root.tag()), v1, v2);
+ * try (NbtWriter writer = NbtWriter.open(Files.newOutputStream(path), NbtCompression.GZIP)) {
+ *     writer.write(new NamedTag(root.name(), migrated.value()));
+ * }
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>{@code NbtOps} and all tags are thread-safe. Readers and writers are not.</p>
+ *
+ * @see de.splatgames.aether.datafixers.api.dynamic.DynamicOps
+ * @since 0.6.0
+ */
+package de.splatgames.aether.datafixers.codec.nbt;
@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.codec.shape;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable, interned key layout shared by all {@link ShapedObject}s with the same ordered keys.
+ *
+ * <p>A shape plays the role of a hidden class in a JavaScript engine: it maps each key to a
+ * slot index in the value array of an object. Objects with the same ordered keys share a single
+ * shape instance, so per-object memory is just the value array, and key lookups are array-indexed
+ * after a scan (or hash lookup, for wide shapes) of the shared layout.</p>
+ *
+ * <h2>Transitions</h2>
+ * <p>Adding, removing and renaming a key are <em>transitions</em> from one shape to another. Each
+ * transition is resolved once and cached on the source shape, so applying the same rename to a
+ * batch of records costs one map lookup per record instead of rebuilding the layout.</p>
+ *
+ * <h2>Bounding</h2>
+ * <p>Shapes are interned in a table with a fixed capacity. Once the capacity is reached, new
+ * layouts are still created but neither interned nor cached as transition targets, so
+ * unexpected input cannot grow the table without limit.</p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is immutable and thread-safe. Transition caches are concurrent.</p>
+ *
+ * @author Erik Pförtner
+ * @see ShapedObject
+ * @see ShapeOps
+ * @since 0.6.0
+ */
+public final class Shape {
+
+    /**
+     * Layouts up to this width are searched linearly instead of through a hash index.
+     */
+    private static final int LINEAR_SCAN_LIMIT = 8;
+
+    /**
+     * The table this shape belongs to.
+     */
+    private final ShapeTable table;
+
+    /**
+     * The ordered keys of this layout.
+     */
+    private final String[] keys;
+
+    /**
+     * Slot index by key for wide layouts, {@code null} for narrow ones.
+     */
+    private final Map<String, Integer> index;
+
+    /**
+     * Whether this shape is interned in its table.
+     */
+    private final boolean interned;
+
+    /**
+     * Cached add transitions, keyed by the added key.
+     */
+    private final ConcurrentHashMap<String, Shape> addTransitions = new ConcurrentHashMap<>();
+
+    /**
+     * Cached remove transitions, keyed by the removed key.
+     */
+    private final ConcurrentHashMap<String, Shape> removeTransitions = new ConcurrentHashMap<>();
+
+    /**
+     * Cached rename transitions, keyed by old key and then new key.
+     */
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, Shape>> renameTransitions =
+            new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new shape. Only called by {@link ShapeTable}.
+     *
+     * @param table    the owning table
+     * @param keys     the ordered keys, not copied
+     * @param interned whether the shape is interned in the table
+     */
+    Shape(@NotNull final ShapeTable table, @NotNull final String[] keys, final boolean interned) {
+        this.table = table;
+        this.keys = keys;
+        this.interned = interned;
+        if (keys.length > LINEAR_SCAN_LIMIT) {
+            final Map<String, Integer> slots = new HashMap<>(keys.length * 2);
+            for (int i = 0; i < keys.length; i++) {
+                slots.put(keys[i], i);
+            }
+            this.index = slots;
+        } else {
+            this.index = null;
+        }
+    }
+
+    /**
+     * Returns the ordered keys of this layout.
+     *
+     * @return an unmodifiable view of the keys, never {@code null}
+     */
+    @NotNull
+    public List<String> keys() {
+        return List.of(this.keys);
+    }
+
+    /**
+     * Returns the number of keys in this layout.
+     *
+     * @return the number of slots
+     */
+    public int size() {
+        return this.keys.length;
+    }
+
+    /**
+     * Returns the key stored in the given slot.
+     *
+     * @param slot the slot index
+     * @return the key, never {@code null}
+     * @throws ArrayIndexOutOfBoundsException if the slot is out of range
+     */
+    @NotNull
+    public String keyAt(final int slot) {
+        return this.keys[slot];
+    }
+
+    /**
+     * Returns the slot index of a key.
+     *
+     * @param key the key to find, must not be {@code null}
+     * @return the slot index, or {@code -1} if this layout has no such key
+     */
+    public int indexOf(@NotNull final String key) {
+        if (this.index != null) {
+            final Integer slot = this.index.get(key);
+            return slot != null ? slot : -1;
+        }
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns whether this shape is interned in its table.
+     *
+     * <p>Shapes created after the table reached its capacity are not interned.</p>
+     *
+     * @return {@code true} if the shape is shared through the table
+     */
+    public boolean isInterned() {
+        return this.interned;
+    }
+
+    /**
+     * Returns the shape with {@code key} appended to this layout.
+     *
+     * @param key the key to add, must not be {@code null} and must not be part of this layout
+     * @return the resulting shape, never {@code null}
+     * @throws IllegalArgumentException if the key is already present
+     */
+    @NotNull
+    public Shape with(@NotNull final String key) {
+        Preconditions.checkNotNull(key, "key must not be null");
+        final Shape cached = this.addTransitions.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        Preconditions.checkArgument(this.indexOf(key) < 0, "key already present: %s", key);
+        final String[] next = Arrays.copyOf(this.keys, this.keys.length + 1);
+        next[this.keys.length] = key;
+        return this.cache(this.addTransitions, key, this.table.intern(next));
+    }
+
+    /**
+     * Returns the shape with {@code key} removed from this layout.
+     *
+     * @param key the key to remove, must not be {@code null}
+     * @return the resulting shape, or this shape if the key is not present
+     */
+    @NotNull
+    public Shape without(@NotNull final String key) {
+        Preconditions.checkNotNull(key, "key must not be null");
+        final Shape cached = this.removeTransitions.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        final int slot = this.indexOf(key);
+        if (slot < 0) {
+            return this;
+        }
+        final String[] next = new String[this.keys.length - 1];
+        System.arraycopy(this.keys, 0, next, 0, slot);
+        System.arraycopy(this.keys, slot + 1, next, slot, this.keys.length - slot - 1);
+        return this.cache(this.removeTransitions, key, this.table.intern(next));
+    }
+
+    /**
+     * Returns the shape with {@code oldKey} replaced by {@code newKey} in the same slot.
+     *
+     * @param oldKey the key to rename, must not be {@code null}
+     * @param newKey the new key, must not be {@code null} and must not be part of this layout
+     * @return the resulting shape, or this shape if {@code oldKey} is not present
+     * @throws IllegalArgumentException if {@code newKey} is already present
+     */
+    @NotNull
+    public Shape renamed(@NotNull final String oldKey, @NotNull final String newKey) {
+        Preconditions.checkNotNull(oldKey, "oldKey must not be null");
+        Preconditions.checkNotNull(newKey, "newKey must not be null");
+        final Map<String, Shape> byNewKey = this.renameTransitions.get(oldKey);
+        if (byNewKey != null) {
+            final Shape cached = byNewKey.get(newKey);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final int slot = this.indexOf(oldKey);
+        if (slot < 0) {
+            return this;
+        }
+        Preconditions.checkArgument(this.indexOf(newKey) < 0, "key already present: %s", newKey);
+        final String[] next = this.keys.clone();
+        next[slot] = newKey;
+        final Shape target = this.table.intern(next);
+        if (this.interned && target.interned) {
+            this.renameTransitions.computeIfAbsent(oldKey, k -> new ConcurrentHashMap<>()).putIfAbsent(newKey, target);
+        }
+        return target;
+    }
+
+    /**
+     * Caches a transition if both ends are interned.
+     *
+     * @param transitions the transition cache
+     * @param key         the transition key
+     * @param target      the resolved target shape
+     * @return the target shape
+     */
+    @NotNull
+    private Shape cache(@NotNull final Map<String, Shape> transitions,
+                        @NotNull final String key,
+                        @NotNull final Shape target) {
+        if (this.interned && target.interned) {
+            final Shape raced = transitions.putIfAbsent(key, target);
+            return raced != null ? raced : target;
+        }
+        return target;
+    }
+
+    /**
+     * Returns the owning table.
+     *
+     * @return the table, never {@code null}
+     */
+    @NotNull
+    ShapeTable table() {
+        return this.table;
+    }
+
+    /**
+     * Returns a string representation of this layout.
+     *
+     * @return the keys in slot order
+     */
+    @Override
+    public String toString() {
+        return "Shape" + Arrays.toString(this.keys);
+    }
+}
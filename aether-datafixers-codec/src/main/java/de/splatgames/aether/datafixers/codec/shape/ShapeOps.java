@@ -0,0 +1,889 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.codec.shape;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.dynamic.DynamicOps;
+import de.splatgames.aether.datafixers.api.dynamic.FieldNames;
+import de.splatgames.aether.datafixers.api.result.DataResult;
+import de.splatgames.aether.datafixers.api.schema.Schema;
+import de.splatgames.aether.datafixers.api.type.Type;
+import de.splatgames.aether.datafixers.api.util.Pair;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A {@link DynamicOps} implementation whose objects share interned key layouts.
+ *
+ * <p>Maps are represented as {@link ShapedObject}s: a value array plus a reference to a shared
+ * {@link Shape} that holds the ordered keys. Large batches of records with the same schema
+ * share a handful of shapes, so per-record overhead is a single array. Renaming and removing
+ * a field is a cached shape transition plus (at most) one array copy instead of rebuilding
+ * a hash map, and field lookups are array-indexed.</p>
+ *
+ * <h2>Type Mapping</h2>
+ * <table class="striped">
+ *   <caption>Type Mapping between Abstract Types and Shape Representation</caption>
+ *   <tr><th>Abstract Type</th><th>Representation</th></tr>
+ *   <tr><td>{@code boolean}, numbers</td><td>Java boxed types ({@link Boolean}, {@link Integer}, ...)</td></tr>
+ *   <tr><td>{@code String}</td><td>{@link String}</td></tr>
+ *   <tr><td>{@code List/Stream}</td><td>Unmodifiable {@link List}</td></tr>
+ *   <tr><td>{@code Map}</td><td>{@link ShapedObject}</td></tr>
+ *   <tr><td>{@code null/empty}</td><td>{@link #NULL} sentinel</td></tr>
+ * </table>
+ *
+ * <h2>Preloading Schema Shapes</h2>
+ * <p>{@link #preload(Schema)} walks the types of a schema and interns the layout of every
+ * record type before any data arrives, so the first batch already hits warm transitions:</p>
+ * <pre>{@code
+ * ShapeOps ops = ShapeOps.INSTANCE;
+ * ops.preload(schemaV2);
+ *
+ * Object record = ops.convertTo(GsonOps.INSTANCE, json);
+ * Dynamic<Object> dynamic = new Dynamic<>(ops, record);
+ * Dynamic<Object> renamed = dynamic.rename("playerName", "name");  // cached transition
+ * }</pre>
+ *
+ * <h2>Key Order</h2>
+ * <p>{@link #rename(Object, String, String)} keeps the renamed entry in its slot, whereas the
+ * default rename of other ops moves it to the end. Key order is otherwise the insertion order.</p>
+ *
+ * <h2>Immutability</h2>
+ * <p>All values produced by this class are immutable, so modifications never need deep copies
+ * and unchanged value arrays are shared between objects.</p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is thread-safe. Shapes are interned in a bounded, concurrent table.</p>
+ *
+ * @author Erik Pförtner
+ * @see Shape
+ * @see ShapedObject
+ * @see DynamicOps
+ * @since 0.6.0
+ */
+public final class ShapeOps implements DynamicOps<Object> {
+
+    /**
+     * The default maximum number of interned shapes.
+     */
+    public static final int DEFAULT_MAX_SHAPES = 4096;
+
+    /**
+     * The shared instance, backed by a table of {@link #DEFAULT_MAX_SHAPES} shapes.
+     */
+    public static final ShapeOps INSTANCE = new ShapeOps(DEFAULT_MAX_SHAPES);
+
+    /**
+     * Sentinel object representing the null value.
+     */
+    public static final Object NULL = ShapeNull.INSTANCE;
+
+    /**
+     * Shared empty value array.
+     */
+    private static final Object[] NO_VALUES = new Object[0];
+
+    /**
+     * The shape table used for new objects.
+     */
+    private final ShapeTable table;
+
+    /**
+     * Creates a new instance with its own shape table.
+     *
+     * <p>Most applications should use {@link #INSTANCE}. Separate instances are useful to
+     * isolate the shapes of unrelated data sets.</p>
+     *
+     * @param maxShapes the maximum number of interned shapes, must be positive
+     * @throws IllegalArgumentException if {@code maxShapes} is not positive
+     */
+    public ShapeOps(final int maxShapes) {
+        Preconditions.checkArgument(maxShapes > 0, "maxShapes must be positive");
+        this.table = new ShapeTable(maxShapes);
+    }
+
+    // ==================== Shape Operations ====================
+
+    /**
+     * Interns the layouts of all record types declared by a schema.
+     *
+     * <p>For every registered reference, the {@linkplain Schema#structure(TypeReference)
+     * structural type} is walked. Each record (a group of fields) contributes its ordered field
+     * names as a layout; nested records contribute their own layouts. Optional fields that
+     * are not exposed as {@link Type.FieldType} are not part of the preloaded layouts.</p>
+     *
+     * @param schema the schema to preload, must not be {@code null}
+     * @throws NullPointerException if {@code schema} is {@code null}
+     */
+    public void preload(@NotNull final Schema schema) {
+        Preconditions.checkNotNull(schema, "schema must not be null");
+        final Set<Type<?>> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (final TypeReference reference : schema.types().references()) {
+            this.preloadType(schema.structure(reference), visited);
+        }
+    }
+
+    /**
+     * Returns the shape for an ordered list of keys.
+     *
+     * @param keys the ordered keys, must not be {@code null} and must not contain duplicates
+     * @return the (interned, if capacity allows) shape, never {@code null}
+     * @throws NullPointerException     if {@code keys} or any key is {@code null}
+     * @throws IllegalArgumentException if {@code keys} contains duplicates
+     */
+    @NotNull
+    public Shape shapeOf(@NotNull final List<String> keys) {
+        Preconditions.checkNotNull(keys, "keys must not be null");
+        Shape shape = this.table.empty();
+        for (final String key : keys) {
+            shape = shape.with(FieldNames.shared().intern(key));
+        }
+        return shape;
+    }
+
+    /**
+     * Returns the number of shapes currently interned by this instance.
+     *
+     * @return the number of interned shapes
+     */
+    public int shapeCount() {
+        return this.table.size();
+    }
+
+    // ==================== Empty/Null Operations ====================
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return the {@link #NULL} sentinel; never {@code null}
+     */
+    @NotNull
+    @Override
+    public Object empty() {
+        return ShapeNull.INSTANCE;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return an object with the empty shape; never {@code null}
+     */
+    @NotNull
+    @Override
+    public Object emptyMap() {
+        return new ShapedObject(this.table.empty(), NO_VALUES);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return an empty unmodifiable list; never {@code null}
+     */
+    @NotNull
+    @Override
+    public Object emptyList() {
+        return List.of();
+    }
+
+    // ==================== Type Check Operations ====================
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the value to check; must not be {@code null}
+     * @return {@code true} if the value is a {@link ShapedObject}
+     */
+    @Override
+    public boolean isMap(@NotNull final Object value) {
+        Preconditions.checkNotNull(value, "value must not be null");
+        return value instanceof ShapedObject;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the value to check; must not be {@code null}
+     * @return {@code true} if the value is a {@link List}
+     */
+    @Override
+    public boolean isList(@NotNull final Object value) {
+        Preconditions.checkNotNull(value, "value must not be null");
+        return value instanceof List;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the value to check; must not be {@code null}
+     * @return {@code true} if the value is a {@link String}
+     */
+    @Override
+    public boolean isString(@NotNull final Object value) {
+        Preconditions.checkNotNull(value, "value must not be null");
+        return value instanceof String;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the value to check; must not be {@code null}
+     * @return {@code true} if the value is a {@link Number}
+     */
+    @Override
+    public boolean isNumber(@NotNull final Object value) {
+        Preconditions.checkNotNull(value, "value must not be null");
+        return value instanceof Number;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the value to check; must not be {@code null}
+     * @return {@code true} if the value is a {@link Boolean}
+     */
+    @Override
+    public boolean isBoolean(@NotNull final Object value) {
+        Preconditions.checkNotNull(value, "value must not be null");
+        return value instanceof Boolean;
+    }
+
+    // ==================== Primitive Creation Operations ====================
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the string value; must not be {@code null}
+     * @return the string; never {@code null}
+     */
+    @NotNull
+    @Override
+    public Object createString(@NotNull final String value) {
+        Preconditions.checkNotNull(value, "value must not be null");
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the integer value
+     * @return the boxed value; never {@code null}
+     */
+    @NotNull
+    @Override
+    public Object createInt(final int value) {
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the long value
+     * @return the boxed value; never {@code null}
+     */
+    @NotNull
+    @Override
+    public Object createLong(final long value) {
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the float value
+     * @return the boxed value; never {@code null}
+     */
+    @NotNull
+    @Override
+    public Object createFloat(final float value) {
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the double value
+     * @return the boxed value; never {@code null}
+     */
+    @NotNull
+    @Override
+    public Object createDouble(final double value) {
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the byte value
+     * @return the boxed value; never {@code null}
+     */
+    @NotNull
+    @Override
+    public Object createByte(final byte value) {
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the short value
+     * @return the boxed value; never {@code null}
+     */
+    @NotNull
+    @Override
+    public Object createShort(final short value) {
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the boolean value
+     * @return the boxed value; never {@code null}
+     */
+    @NotNull
+    @Override
+    public Object createBoolean(final boolean value) {
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param value the number; must not be {@code null}
+     * @return the number itself; never {@code null}
+     */
+    @NotNull
+    @Override
+    public Object createNumeric(@NotNull final Number value) {
+        Preconditions.checkNotNull(value, "value must not be null");
+        return value;
+    }
+
+    // ==================== Primitive Reading Operations ====================
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param input the value to read; must not be {@code null}
+     * @return the string, or an error if the value is not a string; never {@code null}
+     */
+    @NotNull
+    @Override
+    public DataResult<String> getStringValue(@NotNull final Object input) {
+        Preconditions.checkNotNull(input, "input must not be null");
+        if (!(input instanceof String)) {
+            return DataResult.error("Not a string: " + input);
+        }
+        return DataResult.success((String) input);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param input the value to read; must not be {@code null}
+     * @return the number, or an error if the value is not a number; never {@code null}
+     */
+    @NotNull
+    @Override
+    public DataResult<Number> getNumberValue(@NotNull final Object input) {
+        Preconditions.checkNotNull(input, "input must not be null");
+        if (!(input instanceof Number)) {
+            return DataResult.error("Not a number: " + input);
+        }
+        return DataResult.success((Number) input);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param input the value to read; must not be {@code null}
+     * @return the boolean, or an error if the value is not a boolean; never {@code null}
+     */
+    @NotNull
+    @Override
+    public DataResult<Boolean> getBooleanValue(@NotNull final Object input) {
+        Preconditions.checkNotNull(input, "input must not be null");
+        if (!(input instanceof Boolean)) {
+            return DataResult.error("Not a boolean: " + input);
+        }
+        return DataResult.success((Boolean) input);
+    }
+
+    // ==================== List Operations ====================
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param values the elements; must not be {@code null}
+     * @return an unmodifiable list; never {@code null}
+     */
+    @NotNull
+    @Override
+    public Object createList(@NotNull final Stream<Object> values) {
+        Preconditions.checkNotNull(values, "values must not be null");
+        return values.toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param input the value to read; must not be {@code null}
+     * @return the elements, or an error if the value is not a list; never {@code null}
+     */
+    @NotNull
+    @Override
+    @SuppressWarnings("unchecked")
+    public DataResult<Stream<Object>> getList(@NotNull final Object input) {
+        Preconditions.checkNotNull(input, "input must not be null");
+        if (!(input instanceof List)) {
+            return DataResult.error("Not a list: " + input);
+        }
+        return DataResult.success(((List<Object>) input).stream());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param list  the list to append to; must not be {@code null}
+     * @param value the value to append; must not be {@code null}
+     * @return a new unmodifiable list, or an error if {@code list} is not a list; never {@code null}
+     */
+    @NotNull
+    @Override
+    @SuppressWarnings("unchecked")
+    public DataResult<Object> mergeToList(@NotNull final Object list,
+                                          @NotNull final Object value) {
+        Preconditions.checkNotNull(list, "list must not be null");
+        Preconditions.checkNotNull(value, "value must not be null");
+        if (!(list instanceof List)) {
+            return DataResult.error("Not a list: " + list);
+        }
+        final List<Object> result = new ArrayList<>((List<Object>) list);
+        result.add(value);
+        return DataResult.success(Collections.unmodifiableList(result));
+    }
+
+    // ==================== Map Operations ====================
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param input the object to read; must not be {@code null}
+     * @param key   the key; must not be {@code null}
+     * @return the value, or {@code null} if missing or the input is not an object
+     */
+    @Nullable
+    @Override
+    public Object get(@NotNull final Object input,
+                      @NotNull final String key) {
+        Preconditions.checkNotNull(input, "input must not be null");
+        Preconditions.checkNotNull(key, "key must not be null");
+        if (!(input instanceof ShapedObject object)) {
+            return null;
+        }
+        return object.get(key);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Replacing an existing key copies the value array and keeps the shape. Adding a key
+     * follows the cached add transition of the shape.</p>
+     *
+     * @param input    the object to modify; must not be {@code null}
+     * @param key      the key; must not be {@code null}
+     * @param newValue the value; must not be {@code null}
+     * @return a new object with the entry set; never {@code null}
+     */
+    @NotNull
+    @Override
+    public Object set(@NotNull final Object input,
+                      @NotNull final String key,
+                      @NotNull final Object newValue) {
+        Preconditions.checkNotNull(input, "input must not be null");
+        Preconditions.checkNotNull(key, "key must not be null");
+        Preconditions.checkNotNull(newValue, "newValue must not be null");
+        final ShapedObject object = input instanceof ShapedObject shaped
+                ? shaped
+                : new ShapedObject(this.table.empty(), NO_VALUES);
+        final Object[] values = object.values();
+        final int slot = object.shape().indexOf(key);
+        if (slot >= 0) {
+            final Object[] copy = values.clone();
+            copy[slot] = newValue;
+            return new ShapedObject(object.shape(), copy);
+        }
+        final Object[] copy = Arrays.copyOf(values, values.length + 1);
+        copy[values.length] = newValue;
+        return new ShapedObject(object.shape().with(FieldNames.shared().intern(key)), copy);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Follows the cached remove transition of the shape and copies the remaining values.</p>
+     *
+     * @param input the object to modify; must not be {@code null}
+     * @param key   the key; must not be {@code null}
+     * @return a new object without the key, or the input if the key is missing; never {@code null}
+     */
+    @NotNull
+    @Override
+    public Object remove(@NotNull final Object input,
+                         @NotNull final String key) {
+        Preconditions.checkNotNull(input, "input must not be null");
+        Preconditions.checkNotNull(key, "key must not be null");
+        if (!(input instanceof ShapedObject object)) {
+            return input;
+        }
+        final int slot = object.shape().indexOf(key);
+        if (slot < 0) {
+            return input;
+        }
+        final Object[] values = object.values();
+        final Object[] copy = new Object[values.length - 1];
+        System.arraycopy(values, 0, copy, 0, slot);
+        System.arraycopy(values, slot + 1, copy, slot, values.length - slot - 1);
+        return new ShapedObject(object.shape().without(key), copy);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>If {@code newKey} is not yet present, the entry keeps its slot: the cached rename
+     * transition of the shape is followed and the value array is shared with the input.</p>
+     *
+     * @param input  the object to modify; must not be {@code null}
+     * @param oldKey the key to rename; must not be {@code null}
+     * @param newKey the new key; must not be {@code null}
+     * @return a new object with the renamed entry, or the input if {@code oldKey} is missing
+     */
+    @NotNull
+    @Override
+    public Object rename(@NotNull final Object input,
+                         @NotNull final String oldKey,
+                         @NotNull final String newKey) {
+        Preconditions.checkNotNull(input, "input must not be null");
+        Preconditions.checkNotNull(oldKey, "oldKey must not be null");
+        Preconditions.checkNotNull(newKey, "newKey must not be null");
+        if (!(input instanceof ShapedObject object)) {
+            return input;
+        }
+        final Shape shape = object.shape();
+        final int slot = shape.indexOf(oldKey);
+        if (slot < 0 || oldKey.equals(newKey)) {
+            return input;
+        }
+        if (shape.indexOf(newKey) >= 0) {
+            return this.set(this.remove(input, oldKey), newKey, object.valueAt(slot));
+        }
+        return new ShapedObject(shape.renamed(oldKey, FieldNames.shared().intern(newKey)), object.values());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param input the object to check; must not be {@code null}
+     * @param key   the key; must not be {@code null}
+     * @return {@code true} if the input is an object containing the key
+     */
+    @Override
+    public boolean has(@NotNull final Object input,
+                       @NotNull final String key) {
+        Preconditions.checkNotNull(input, "input must not be null");
+        Preconditions.checkNotNull(key, "key must not be null");
+        return input instanceof ShapedObject object && object.shape().indexOf(key) >= 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The shape is built by following add transitions from the empty shape, so objects
+     * created with the same key order share one shape. Duplicate keys keep their first slot
+     * and the last value.</p>
+     *
+     * @param entries the entries; must not be {@code null}
+     * @return a new object; never {@code null}
+     */
+    @NotNull
+    @Override
+    public Object createMap(@NotNull final Stream<Pair<Object, Object>> entries) {
+        Preconditions.checkNotNull(entries, "entries must not be null");
+        final Shape[] shape = {this.table.empty()};
+        final List<Object> values = new ArrayList<>();
+        entries.forEach(pair -> {
+            final Object keyObj = pair.first();
+            if (keyObj == null) {
+                return; // Skip entries with null keys
+            }
+            final Object valueObj = pair.second();
+            final Object value = valueObj != null ? valueObj : ShapeNull.INSTANCE;
+            final String key = FieldNames.shared().intern(keyObj.toString());
+            final int slot = shape[0].indexOf(key);
+            if (slot >= 0) {
+                values.set(slot, value);
+            } else {
+                shape[0] = shape[0].with(key);
+                values.add(value);
+            }
+        });
+        return new ShapedObject(shape[0], values.toArray());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param input the object to read; must not be {@code null}
+     * @return the entries in slot order, or an error if the input is not an object; never {@code null}
+     */
+    @NotNull
+    @Override
+    public DataResult<Stream<Pair<Object, Object>>> getMapEntries(@NotNull final Object input) {
+        Preconditions.checkNotNull(input, "input must not be null");
+        if (!(input instanceof ShapedObject object)) {
+            return DataResult.error("Not a map: " + input);
+        }
+        return DataResult.success(
+                IntStream.range(0, object.size())
+                        .mapToObj(slot -> Pair.of((Object) object.shape().keyAt(slot), object.valueAt(slot)))
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param map   the object to add to; must not be {@code null}
+     * @param key   the key; must not be {@code null} and must be a string
+     * @param value the value; must not be {@code null}
+     * @return the new object, or an error if the arguments are invalid; never {@code null}
+     */
+    @NotNull
+    @Override
+    public DataResult<Object> mergeToMap(@NotNull final Object map,
+                                         @NotNull final Object key,
+                                         @NotNull final Object value) {
+        Preconditions.checkNotNull(map, "map must not be null");
+        Preconditions.checkNotNull(key, "key must not be null");
+        Preconditions.checkNotNull(value, "value must not be null");
+        if (!(map instanceof ShapedObject) && map != ShapeNull.INSTANCE) {
+            return DataResult.error("Not a map: " + map);
+        }
+        if (!(key instanceof String)) {
+            return DataResult.error("Key is not a string: " + key);
+        }
+        return DataResult.success(this.set(map, (String) key, value));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param map   the object to merge into; must not be {@code null}
+     * @param other the object whose entries are added; must not be {@code null}
+     * @return the merged object, or an error if either argument is not an object; never {@code null}
+     */
+    @NotNull
+    @Override
+    public DataResult<Object> mergeToMap(@NotNull final Object map,
+                                         @NotNull final Object other) {
+        Preconditions.checkNotNull(map, "map must not be null");
+        Preconditions.checkNotNull(other, "other must not be null");
+        if (!(map instanceof ShapedObject) && map != ShapeNull.INSTANCE) {
+            return DataResult.error("First argument is not a map: " + map);
+        }
+        if (!(other instanceof ShapedObject otherObject)) {
+            if (other == ShapeNull.INSTANCE) {
+                return DataResult.success(map);
+            }
+            return DataResult.error("Second argument is not a map: " + other);
+        }
+        Object result = map;
+        for (int slot = 0; slot < otherObject.size(); slot++) {
+            result = this.set(result, otherObject.shape().keyAt(slot), otherObject.valueAt(slot));
+        }
+        return DataResult.success(result);
+    }
+
+    // ==================== Conversion Operations ====================
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param sourceOps the source ops; must not be {@code null}
+     * @param input     the value to convert; must not be {@code null}
+     * @param <U>       the source representation type
+     * @return the converted value; never {@code null}
+     */
+    @NotNull
+    @Override
+    public <U> Object convertTo(@NotNull final DynamicOps<U> sourceOps,
+                                @NotNull final U input) {
+        Preconditions.checkNotNull(sourceOps, "sourceOps must not be null");
+        Preconditions.checkNotNull(input, "input must not be null");
+        // Boolean first to avoid integer 0/1 being interpreted as boolean
+        final DataResult<Boolean> boolResult = sourceOps.getBooleanValue(input);
+        if (boolResult.isSuccess()) {
+            return createBoolean(boolResult.result().orElseThrow());
+        }
+
+        final DataResult<Number> numberResult = sourceOps.getNumberValue(input);
+        if (numberResult.isSuccess()) {
+            return createNumeric(numberResult.result().orElseThrow());
+        }
+
+        final DataResult<String> stringResult = sourceOps.getStringValue(input);
+        if (stringResult.isSuccess()) {
+            return createString(stringResult.result().orElseThrow());
+        }
+
+        final DataResult<Stream<U>> listResult = sourceOps.getList(input);
+        if (listResult.isSuccess()) {
+            return createList(
+                    listResult.result().orElseThrow()
+                            .map(element -> convertTo(sourceOps, element))
+            );
+        }
+
+        final DataResult<Stream<Pair<U, U>>> mapResult = sourceOps.getMapEntries(input);
+        if (mapResult.isSuccess()) {
+            return createMap(
+                    mapResult.result().orElseThrow()
+                            .filter(entry -> entry.first() != null) // Skip entries with null keys
+                            .map(entry -> {
+                                final U second = entry.second();
+                                return Pair.of(
+                                        convertTo(sourceOps, entry.first()),
+                                        second != null ? convertTo(sourceOps, second) : empty()
+                                );
+                            })
+            );
+        }
+
+        // Fallback: return the NULL sentinel for unknown/empty types
+        return empty();
+    }
+
+    // ==================== Helper Methods ====================
+
+    /**
+     * Interns the record layouts reachable from a type.
+     *
+     * @param type    the type to walk
+     * @param visited the types already walked
+     */
+    private void preloadType(@NotNull final Type<?> type, @NotNull final Set<Type<?>> visited) {
+        if (!visited.add(type)) {
+            return;
+        }
+        if (type instanceof Type.TaggedChoiceType choice) {
+            for (final Type<?> variant : choice.choices().values()) {
+                final List<String> layout = new ArrayList<>();
+                layout.add(choice.tagField());
+                final List<Type<?>> nested = new ArrayList<>();
+                collectLayout(variant, layout, nested);
+                this.shapeOf(layout);
+                nested.forEach(inner -> this.preloadType(inner, visited));
+            }
+            return;
+        }
+        final List<String> layout = new ArrayList<>();
+        final List<Type<?>> nested = new ArrayList<>();
+        collectLayout(type, layout, nested);
+        if (!layout.isEmpty()) {
+            this.shapeOf(layout);
+        }
+        nested.forEach(inner -> this.preloadType(inner, visited));
+    }
+
+    /**
+     * Collects the field names of the record formed by a type, in declaration order.
+     *
+     * @param type   the type to walk
+     * @param layout receives the field names
+     * @param nested receives the field value types, which may declare records of their own
+     */
+    private static void collectLayout(@NotNull final Type<?> type,
+                                      @NotNull final List<String> layout,
+                                      @NotNull final List<Type<?>> nested) {
+        if (type instanceof Type.FieldType<?> field) {
+            if (!layout.contains(field.name())) {
+                layout.add(field.name());
+            }
+            nested.add(field.fieldType());
+            return;
+        }
+        for (final Type<?> child : type.children()) {
+            collectLayout(child, layout, nested);
+        }
+    }
+
+    /**
+     * Returns a string representation of this ops instance.
+     *
+     * @return the string {@code "ShapeOps"}
+     */
+    @Override
+    public String toString() {
+        return "ShapeOps";
+    }
+
+    // ==================== Inner Classes ====================
+
+    /**
+     * Sentinel type for the null value.
+     */
+    static final class ShapeNull {
+
+        /**
+         * The singleton instance.
+         */
+        static final ShapeNull INSTANCE = new ShapeNull();
+
+        /**
+         * Private constructor to enforce singleton pattern.
+         */
+        private ShapeNull() {
+            // Singleton
+        }
+
+        /**
+         * Returns a string representation of this null sentinel.
+         *
+         * @return the string {@code "null"}
+         */
+        @Override
+        public String toString() {
+            return "null";
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.codec.shape;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded intern table for {@link Shape}s, keyed by their ordered key layout.
+ *
+ * <p>Every interned shape is reachable from exactly one layout, which makes shapes produced by
+ * different transition paths (for example, a rename versus building the object from scratch)
+ * the same instance.</p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is thread-safe.</p>
+ *
+ * @author Erik Pförtner
+ * @since 0.6.0
+ */
+final class ShapeTable {
+
+    /**
+     * Interned shapes by layout.
+     */
+    private final ConcurrentHashMap<List<String>, Shape> shapes = new ConcurrentHashMap<>();
+
+    /**
+     * Number of interned shapes.
+     */
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * Maximum number of interned shapes.
+     */
+    private final int maxShapes;
+
+    /**
+     * The shape without keys.
+     */
+    private final Shape empty;
+
+    /**
+     * Creates a new table.
+     *
+     * @param maxShapes the maximum number of interned shapes
+     */
+    ShapeTable(final int maxShapes) {
+        this.maxShapes = maxShapes;
+        this.empty = new Shape(this, new String[0], true);
+    }
+
+    /**
+     * Returns the shape without keys.
+     *
+     * @return the empty shape, never {@code null}
+     */
+    @NotNull
+    Shape empty() {
+        return this.empty;
+    }
+
+    /**
+     * Returns the shape for a layout, interning it if capacity allows.
+     *
+     * @param keys the ordered keys, not copied; must not be modified afterwards
+     * @return the interned shape, or a fresh non-interned shape once the table is full
+     */
+    @NotNull
+    Shape intern(@NotNull final String[] keys) {
+        if (keys.length == 0) {
+            return this.empty;
+        }
+        final List<String> layout = List.of(keys);
+        final Shape existing = this.shapes.get(layout);
+        if (existing != null) {
+            return existing;
+        }
+        if (this.count.incrementAndGet() > this.maxShapes) {
+            this.count.decrementAndGet();
+            return new Shape(this, keys, false);
+        }
+        final Shape created = new Shape(this, keys, true);
+        final Shape raced = this.shapes.putIfAbsent(layout, created);
+        if (raced != null) {
+            this.count.decrementAndGet();
+            return raced;
+        }
+        return created;
+    }
+
+    /**
+     * Returns the number of interned shapes, excluding the empty shape.
+     *
+     * @return the number of interned shapes
+     */
+    int size() {
+        return this.count.get();
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.codec.shape;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * An immutable object whose values are stored in an array laid out by a shared {@link Shape}.
+ *
+ * <p>This is the map representation used by {@link ShapeOps}. The keys live once in the shape;
+ * each object only holds its value array. Because both the shape and the value array are never
+ * mutated after construction, operations that do not change values (such as a rename) share
+ * the array with the original object.</p>
+ *
+ * <p>Equality follows {@link java.util.Map} semantics: two objects are equal if they contain
+ * the same keys mapped to equal values, regardless of key order.</p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is immutable and thread-safe.</p>
+ *
+ * @author Erik Pförtner
+ * @see Shape
+ * @see ShapeOps
+ * @since 0.6.0
+ */
+public final class ShapedObject {
+
+    /**
+     * The key layout.
+     */
+    private final Shape shape;
+
+    /**
+     * The values in slot order. Never mutated.
+     */
+    private final Object[] values;
+
+    /**
+     * Creates a new shaped object. Only called by {@link ShapeOps}.
+     *
+     * @param shape  the key layout
+     * @param values the values in slot order, not copied; must not be modified afterwards
+     */
+    ShapedObject(@NotNull final Shape shape, @NotNull final Object[] values) {
+        this.shape = shape;
+        this.values = values;
+    }
+
+    /**
+     * Returns the key layout of this object.
+     *
+     * @return the shape, never {@code null}
+     */
+    @NotNull
+    public Shape shape() {
+        return this.shape;
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        return this.values.length;
+    }
+
+    /**
+     * Returns the value stored under a key.
+     *
+     * @param key the key, must not be {@code null}
+     * @return the value, or {@code null} if the key is not present
+     */
+    @Nullable
+    public Object get(@NotNull final String key) {
+        final int slot = this.shape.indexOf(key);
+        return slot >= 0 ? this.values[slot] : null;
+    }
+
+    /**
+     * Returns the value stored in a slot.
+     *
+     * @param slot the slot index
+     * @return the value, never {@code null}
+     * @throws ArrayIndexOutOfBoundsException if the slot is out of range
+     */
+    @NotNull
+    public Object valueAt(final int slot) {
+        return this.values[slot];
+    }
+
+    /**
+     * Returns the backing value array. Callers must not modify it.
+     *
+     * @return the values in slot order
+     */
+    @NotNull
+    Object[] values() {
+        return this.values;
+    }
+
+    /**
+     * Compares this object with another for equality using {@link java.util.Map} semantics.
+     *
+     * @param obj the object to compare with
+     * @return {@code true} if both contain the same keys mapped to equal values
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ShapedObject other) || other.values.length != this.values.length) {
+            return false;
+        }
+        if (other.shape == this.shape) {
+            for (int i = 0; i < this.values.length; i++) {
+                if (!this.values[i].equals(other.values[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        for (int i = 0; i < this.values.length; i++) {
+            final Object otherValue = other.get(this.shape.keyAt(i));
+            if (otherValue == null || !this.values[i].equals(otherValue)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the sum of the key/value hash combinations, independent of key order
+     */
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (int i = 0; i < this.values.length; i++) {
+            hash += this.shape.keyAt(i).hashCode() ^ this.values[i].hashCode();
+        }
+        return hash;
+    }
+
+    /**
+     * Returns a string representation of this object.
+     *
+     * @return the entries in slot order
+     */
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("{");
+        for (int i = 0; i < this.values.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(this.shape.keyAt(i)).append('=').append(this.values[i]);
+        }
+        return builder.append('}').toString();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+/**
+ * Shape-based {@link de.splatgames.aether.datafixers.api.dynamic.DynamicOps} implementation
+ * for large in-memory batches of same-schema records.
+ *
+ * <p>This package provides {@link de.splatgames.aether.datafixers.codec.shape.ShapeOps}, whose
+ * objects store their values in an array keyed by a shared, interned
+ * {@link de.splatgames.aether.datafixers.codec.shape.Shape} (an ordered key layout, similar to
+ * hidden classes in JavaScript engines). Records with the same layout share a single shape, so
+ * renaming and removing fields become cached shape transitions instead of per-record map
+ * rebuilds.</p>
+ *
+ * <h2>Key Classes</h2>
+ * <dl>
+ *   <dt>{@link de.splatgames.aether.datafixers.codec.shape.ShapeOps}</dt>
+ *   <dd>The {@code DynamicOps<Object>} implementation. Use
+ *       {@link de.splatgames.aether.datafixers.codec.shape.ShapeOps#INSTANCE} and
+ *       {@link de.splatgames.aether.datafixers.codec.shape.ShapeOps#preload preload} the
+ *       schemas you migrate between.</dd>
+ *   <dt>{@link de.splatgames.aether.datafixers.codec.shape.Shape}</dt>
+ *   <dd>An immutable, interned key layout with cached add, remove and rename transitions.</dd>
+ *   <dt>{@link de.splatgames.aether.datafixers.codec.shape.ShapedObject}</dt>
+ *   <dd>The map representation: a shape plus an immutable value array.</dd>
+ * </dl>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * ShapeOps ops = ShapeOps.INSTANCE;
+ * ops.preload(schemaV1);
+ * ops.preload(schemaV2);
+ *
+ * // Convert parsed JSON once, migrate, convert back
+ * Object record = ops.convertTo(GsonOps.INSTANCE, json);
+ * Dynamic<Object> migrated = fixer.update(type, new Dynamic<>(ops, record), v1, v2);
+ * JsonElement out = GsonOps.INSTANCE.convertTo(ops, migrated.value());
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>All classes in this package are thread-safe.</p>
+ *
+ * @see de.splatgames.aether.datafixers.api.dynamic.DynamicOps
+ * @since 0.6.0
+ */
+package de.splatgames.aether.datafixers.codec.shape;
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.codec.nbt;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.util.Pair;
+import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.ByteArrayTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.ByteTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.CompoundTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.DoubleTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.IntArrayTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.IntTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.ListTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.LongArrayTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.LongTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.ShortTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.StringTag;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link NbtOps}.
+ */
+@DisplayName("NbtOps")
+class NbtOpsTest {
+
+    private final NbtOps ops = NbtOps.INSTANCE;
+
+    @Nested
+    @DisplayName("Numbers")
+    class Numbers {
+
+        @Test
+        @DisplayName("fixed-width creators produce tags of the same width")
+        void createsTypedTags() {
+            assertThat(ops.createByte((byte) 1)).isEqualTo(new ByteTag((byte) 1));
+            assertThat(ops.createShort((short) 2)).isEqualTo(new ShortTag((short) 2));
+            assertThat(ops.createInt(3)).isEqualTo(new IntTag(3));
+            assertThat(ops.createLong(4L)).isEqualTo(new LongTag(4L));
+            assertThat(ops.createDouble(5.5)).isEqualTo(new DoubleTag(5.5));
+        }
+
+        @Test
+        @DisplayName("getNumberValue boxes in the exact type")
+        void readsExactType() {
+            assertThat(ops.getNumberValue(new ShortTag((short) 7)).result()).contains((short) 7);
+            assertThat(ops.getNumberValue(new LongTag(7L)).result()).contains(7L);
+            assertThat(ops.getNumberValue(new StringTag("7")).isError()).isTrue();
+        }
+
+        @Test
+        @DisplayName("createNumeric narrows integral numbers and keeps fractions as doubles")
+        void createsNumericFromArbitraryNumbers() {
+            assertThat(ops.createNumeric(new BigInteger("42"))).isEqualTo(new IntTag(42));
+            assertThat(ops.createNumeric(new BigInteger("9000000000"))).isEqualTo(new LongTag(9_000_000_000L));
+            assertThat(ops.createNumeric(JsonParser.parseString("20.0").getAsNumber()))
+                    .isEqualTo(new DoubleTag(20.0));
+            assertThat(ops.createNumeric(JsonParser.parseString("20").getAsNumber())).isEqualTo(new IntTag(20));
+        }
+
+        @Test
+        @DisplayName("booleans are bytes 0 and 1")
+        void booleansAreBytes() {
+            assertThat(ops.createBoolean(true)).isEqualTo(new ByteTag((byte) 1));
+            assertThat(ops.getBooleanValue(new ByteTag((byte) 0)).result()).contains(false);
+            assertThat(ops.isBoolean(new ByteTag((byte) 5))).isFalse();
+            assertThat(ops.getBooleanValue(new IntTag(1)).isError()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Lists")
+    class Lists {
+
+        @Test
+        @DisplayName("lists of ints and longs become primitive arrays")
+        void collapsesToPrimitiveArrays() {
+            final NbtTag ints = ops.createList(Stream.of(ops.createInt(1), ops.createInt(2)));
+            final NbtTag longs = ops.createList(Stream.of(ops.createLong(1L)));
+
+            assertThat(ints).isEqualTo(IntArrayTag.of(new int[]{1, 2}));
+            assertThat(longs).isEqualTo(LongArrayTag.of(new long[]{1L}));
+            assertThat(ops.getList(ints).result().orElseThrow()).containsExactly(new IntTag(1), new IntTag(2));
+        }
+
+        @Test
+        @DisplayName("lists of one tag type stay lists")
+        void keepsHomogeneousLists() {
+            final NbtTag list = ops.createList(Stream.of(ops.createString("a"), ops.createString("b")));
+
+            assertThat(list).isInstanceOf(ListTag.class);
+            assertThat(((ListTag) list).elementType()).isEqualTo(NbtTag.STRING);
+        }
+
+        @Test
+        @DisplayName("mixed lists are wrapped into compounds and unwrapped on read")
+        void wrapsMixedLists() {
+            final NbtTag wrapper = ops.createMap(Stream.of(Pair.of(ops.createString(""), ops.createInt(9))));
+            final List<NbtTag> elements = List.of(ops.createInt(1), ops.createString("two"),
+                    ops.emptyMap(), wrapper);
+
+            final NbtTag list = ops.createList(elements.stream());
+
+            assertThat(((ListTag) list).elementType()).isEqualTo(NbtTag.COMPOUND);
+            assertThat(ops.getList(list).result().orElseThrow()).containsExactlyElementsOf(elements);
+        }
+
+        @Test
+        @DisplayName("mergeToList appends to lists and arrays")
+        void mergesToList() {
+            final NbtTag merged = ops.mergeToList(IntArrayTag.of(new int[]{1}), ops.createInt(2))
+                    .result().orElseThrow();
+
+            assertThat(merged).isEqualTo(IntArrayTag.of(new int[]{1, 2}));
+            assertThat(ops.mergeToList(ops.createInt(1), ops.createInt(2)).isError()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Compounds")
+    class Compounds {
+
+        @Test
+        @DisplayName("set, remove and rename return new compounds")
+        void modifiesImmutably() {
+            final NbtTag original = ops.set(ops.emptyMap(), "name", ops.createString("Steve"));
+
+            final NbtTag renamed = ops.rename(original, "name", "displayName");
+            final NbtTag removed = ops.remove(renamed, "displayName");
+
+            assertThat(ops.has(original, "name")).isTrue();
+            assertThat(ops.get(renamed, "displayName")).isEqualTo(new StringTag("Steve"));
+            assertThat(ops.has(removed, "displayName")).isFalse();
+        }
+
+        @Test
+        @DisplayName("mergeToMap combines compounds")
+        void mergesMaps() {
+            final NbtTag first = ops.set(ops.emptyMap(), "a", ops.createInt(1));
+            final NbtTag second = ops.set(ops.emptyMap(), "b", ops.createInt(2));
+
+            final NbtTag merged = ops.mergeToMap(first, second).result().orElseThrow();
+
+            assertThat(((CompoundTag) merged).entries()).containsOnlyKeys("a", "b");
+            assertThat(ops.mergeToMap(first, ops.createInt(1), ops.createInt(2)).isError()).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Conversion")
+    class Conversion {
+
+        @Test
+        @DisplayName("converts JSON to NBT and back")
+        void roundTripsThroughJson() {
+            final JsonElement json = JsonParser.parseString(
+                    "{\"name\":\"Steve\",\"level\":42,\"health\":19.5,\"alive\":true,"
+                            + "\"pos\":[1,2,3],\"tags\":[\"a\",\"b\"],\"stats\":{\"kills\":9000000000}}");
+
+            final NbtTag nbt = ops.convertTo(GsonOps.INSTANCE, json);
+            final JsonElement back = GsonOps.INSTANCE.convertTo(ops, nbt);
+
+            final CompoundTag compound = (CompoundTag) nbt;
+            assertThat(compound.get("level")).isEqualTo(new IntTag(42));
+            assertThat(compound.get("alive")).isEqualTo(new ByteTag((byte) 1));
+            assertThat(compound.get("pos")).isEqualTo(IntArrayTag.of(new int[]{1, 2, 3}));
+            assertThat(back).isEqualTo(json);
+        }
+
+        @Test
+        @DisplayName("works through Dynamic")
+        void worksThroughDynamic() {
+            final Dynamic<NbtTag> dynamic = new Dynamic<>(ops, CompoundTag.of(Map.of(
+                    "bytes", ByteArrayTag.of(new byte[]{1, 2}),
+                    "level", new ShortTag((short) 3))));
+
+            assertThat(dynamic.get("level").asInt().result()).contains(3);
+            assertThat(dynamic.set("level", dynamic.createInt(4)).get("level").value()).isEqualTo(new IntTag(4));
+            assertThat(dynamic.get("bytes").asListStream().result().orElseThrow().map(Dynamic::value))
+                    .containsExactly(new ByteTag((byte) 1), new ByteTag((byte) 2));
+        }
+
+        @Test
+        @DisplayName("returns NBT input unchanged")
+        void keepsNbtInput() {
+            final NbtTag tag = LongArrayTag.of(new long[]{1L});
+
+            assertThat(ops.convertTo(ops, tag)).isSameAs(tag);
+        }
+    }
+}
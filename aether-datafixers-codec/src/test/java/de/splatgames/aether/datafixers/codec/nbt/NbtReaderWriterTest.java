@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.codec.nbt;
+
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.ByteArrayTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.ByteTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.CompoundTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.DoubleTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.FloatTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.IntArrayTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.IntTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.ListTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.LongArrayTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.LongTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.ShortTag;
+import de.splatgames.aether.datafixers.codec.nbt.NbtTag.StringTag;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link NbtReader}, {@link NbtWriter} and {@link NbtCompression}.
+ */
+@DisplayName("NbtReader and NbtWriter")
+class NbtReaderWriterTest {
+
+    private static NbtTag sample() {
+        final Map<String, NbtTag> entries = new LinkedHashMap<>();
+        entries.put("byte", new ByteTag((byte) -1));
+        entries.put("short", new ShortTag((short) 300));
+        entries.put("int", new IntTag(-70000));
+        entries.put("long", new LongTag(Long.MIN_VALUE));
+        entries.put("float", new FloatTag(1.5f));
+        entries.put("double", new DoubleTag(-2.25));
+        entries.put("string", new StringTag("Grüße \u0000"));
+        entries.put("bytes", ByteArrayTag.of(new byte[]{1, -2, 3}));
+        entries.put("ints", IntArrayTag.of(IntStream.range(0, 5000).map(i -> i * 31).toArray()));
+        entries.put("longs", LongArrayTag.of(new long[]{Long.MAX_VALUE, 0L, -1L}));
+        entries.put("list", ListTag.of(List.of(new StringTag("a"), new StringTag("b"))));
+        entries.put("empty", ListTag.EMPTY);
+        entries.put("nested", CompoundTag.of(Map.of("x", new IntTag(1))));
+        return CompoundTag.of(entries);
+    }
+
+    private static byte[] write(final NamedTag root, final NbtCompression compression) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (NbtWriter writer = NbtWriter.open(bytes, compression)) {
+            writer.write(root);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static NamedTag read(final byte[] bytes) throws IOException {
+        try (NbtReader reader = NbtReader.open(new ByteArrayInputStream(bytes))) {
+            return reader.readNamed();
+        }
+    }
+
+    @Nested
+    @DisplayName("Round trip")
+    class RoundTrip {
+
+        @ParameterizedTest
+        @EnumSource(NbtCompression.class)
+        @DisplayName("every tag type survives writing and reading")
+        void roundTrips(final NbtCompression compression) throws IOException {
+            final NamedTag root = new NamedTag("Level", sample());
+
+            final byte[] bytes = write(root, compression);
+
+            assertThat(NbtCompression.detect(new ByteArrayInputStream(bytes))).isEqualTo(compression);
+            assertThat(read(bytes)).isEqualTo(root);
+        }
+
+        @Test
+        @DisplayName("lists of numbers keep their list layout")
+        void keepsNumericLists() throws IOException {
+            final NbtTag root = CompoundTag.of(Map.of("pos",
+                    ListTag.of(List.of(new DoubleTag(1), new DoubleTag(2)))));
+
+            final NbtTag read = read(write(new NamedTag("", root), NbtCompression.NONE)).tag();
+
+            assertThat(((CompoundTag) read).get("pos")).isInstanceOf(ListTag.class).isEqualTo(
+                    ((CompoundTag) root).get("pos"));
+        }
+
+        @Test
+        @DisplayName("skips empty values inside compounds")
+        void skipsEmptyValues() throws IOException {
+            final NbtTag root = NbtOps.INSTANCE.set(CompoundTag.of(Map.of("a", new IntTag(1))),
+                    "gone", NbtOps.INSTANCE.empty());
+
+            final NbtTag read = read(write(new NamedTag("", root), NbtCompression.NONE)).tag();
+
+            assertThat(((CompoundTag) read).entries()).containsOnlyKeys("a");
+        }
+    }
+
+    @Nested
+    @DisplayName("Encoding")
+    class Encoding {
+
+        @Test
+        @DisplayName("writes the big-endian layout of the format")
+        void writesBigEndian() throws IOException {
+            final byte[] bytes = write(new NamedTag("", CompoundTag.of(Map.of("a", new IntTag(0x01020304)))),
+                    NbtCompression.NONE);
+
+            assertThat(bytes).containsExactly(
+                    10, 0, 0,                // compound, empty name
+                    3, 0, 1, 'a', 1, 2, 3, 4, // int "a"
+                    0);                      // end
+        }
+    }
+
+    @Nested
+    @DisplayName("Malformed input")
+    class MalformedInput {
+
+        @Test
+        @DisplayName("rejects an unknown tag id")
+        void rejectsUnknownTag() {
+            assertThatThrownBy(() -> read(new byte[]{10, 0, 0, 42, 0, 1, 'a'}))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("Unknown tag id");
+        }
+
+        @Test
+        @DisplayName("fails with EOF instead of allocating a huge declared array")
+        void boundsDeclaredLength() {
+            assertThatThrownBy(() -> read(new byte[]{11, 0, 0, 0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0, 0}))
+                    .isInstanceOf(EOFException.class);
+        }
+
+        @Test
+        @DisplayName("rejects nesting beyond the depth limit")
+        void limitsDepth() {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            bytes.write(10);
+            bytes.write(0);
+            bytes.write(0);
+            for (int i = 0; i <= NbtReader.MAX_DEPTH; i++) {
+                bytes.writeBytes(new byte[]{10, 0, 1, 'c'});
+            }
+
+            assertThatThrownBy(() -> read(bytes.toByteArray()))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("nested deeper");
+        }
+    }
+}
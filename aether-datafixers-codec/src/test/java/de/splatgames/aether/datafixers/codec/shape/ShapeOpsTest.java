@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.codec.shape;
+
+import com.google.gson.JsonObject;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.dsl.DSL;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.schema.Schema;
+import de.splatgames.aether.datafixers.api.type.Type;
+import de.splatgames.aether.datafixers.api.type.TypeRegistry;
+import de.splatgames.aether.datafixers.api.util.Pair;
+import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link ShapeOps}.
+ */
+@DisplayName("ShapeOps")
+class ShapeOpsTest {
+
+    private final ShapeOps ops = new ShapeOps(64);
+
+    private Object record(final Object... keysAndValues) {
+        final Stream.Builder<Pair<Object, Object>> entries = Stream.builder();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            entries.add(Pair.of(this.ops.createString((String) keysAndValues[i]), keysAndValues[i + 1]));
+        }
+        return this.ops.createMap(entries.build());
+    }
+
+    @Nested
+    @DisplayName("Shapes")
+    class Shapes {
+
+        @Test
+        @DisplayName("objects with the same key order share a shape")
+        void sameKeyOrderSharesShape() {
+            final ShapedObject first = (ShapedObject) record("id", 1, "name", "a");
+            final ShapedObject second = (ShapedObject) record("id", 2, "name", "b");
+
+            assertThat(second.shape()).isSameAs(first.shape());
+        }
+
+        @Test
+        @DisplayName("rename reaches the same shape as building the layout directly")
+        void renameReachesCanonicalShape() {
+            final ShapedObject renamed = (ShapedObject) ops.rename(record("id", 1, "old", "a"), "old", "name");
+            final ShapedObject built = (ShapedObject) record("id", 2, "name", "b");
+
+            assertThat(renamed.shape()).isSameAs(built.shape());
+        }
+
+        @Test
+        @DisplayName("repeated transitions are cached")
+        void transitionsAreCached() {
+            final Shape shape = ops.shapeOf(List.of("a", "b"));
+
+            assertThat(shape.renamed("a", "c")).isSameAs(shape.renamed("a", "c"));
+            assertThat(shape.without("b")).isSameAs(shape.without("b"));
+            assertThat(shape.with("d")).isSameAs(shape.with("d"));
+        }
+
+        @Test
+        @DisplayName("stops interning once the table is full")
+        void stopsInterningWhenFull() {
+            final ShapeOps small = new ShapeOps(1);
+            final Shape first = small.shapeOf(List.of("a"));
+            final Shape overflow = small.shapeOf(List.of("a", "b"));
+
+            assertThat(first.isInterned()).isTrue();
+            assertThat(overflow.isInterned()).isFalse();
+            assertThat(overflow.keys()).containsExactly("a", "b");
+            assertThat(small.shapeCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("rejects non-positive capacity")
+        void rejectsNonPositiveCapacity() {
+            assertThatThrownBy(() -> new ShapeOps(0)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Field Operations")
+    class FieldOperations {
+
+        @Test
+        @DisplayName("get() reads by slot")
+        void getReadsValue() {
+            final Object value = record("id", 1, "name", "a");
+
+            assertThat(ops.get(value, "name")).isEqualTo("a");
+            assertThat(ops.get(value, "missing")).isNull();
+            assertThat(ops.has(value, "id")).isTrue();
+        }
+
+        @Test
+        @DisplayName("set() replaces and appends without modifying the input")
+        void setReplacesAndAppends() {
+            final Object value = record("id", 1);
+
+            final Object replaced = ops.set(value, "id", 2);
+            final Object appended = ops.set(value, "name", "a");
+
+            assertThat(ops.get(value, "id")).isEqualTo(1);
+            assertThat(ops.get(replaced, "id")).isEqualTo(2);
+            assertThat(((ShapedObject) appended).shape().keys()).containsExactly("id", "name");
+        }
+
+        @Test
+        @DisplayName("remove() drops the slot")
+        void removeDropsSlot() {
+            final Object value = record("id", 1, "name", "a", "level", 3);
+
+            final ShapedObject removed = (ShapedObject) ops.remove(value, "name");
+
+            assertThat(removed.shape().keys()).containsExactly("id", "level");
+            assertThat(removed.get("level")).isEqualTo(3);
+            assertThat(ops.remove(value, "missing")).isSameAs(value);
+        }
+
+        @Test
+        @DisplayName("rename() keeps the slot and shares the value array")
+        void renameKeepsSlot() {
+            final ShapedObject value = (ShapedObject) record("id", 1, "old", "a", "level", 3);
+
+            final ShapedObject renamed = (ShapedObject) ops.rename(value, "old", "name");
+
+            assertThat(renamed.shape().keys()).containsExactly("id", "name", "level");
+            assertThat(renamed.values()).isSameAs(value.values());
+        }
+
+        @Test
+        @DisplayName("rename() onto an existing key replaces it")
+        void renameOntoExistingKey() {
+            final Object value = record("a", 1, "b", 2);
+
+            final Object renamed = ops.rename(value, "a", "b");
+
+            assertThat(ops.has(renamed, "a")).isFalse();
+            assertThat(ops.get(renamed, "b")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Dynamic.rename() delegates to the ops")
+        void dynamicRenameDelegates() {
+            final Dynamic<Object> dynamic = new Dynamic<>(ops, record("old", 1));
+
+            assertThat(dynamic.rename("old", "new").get("new").asInt().result()).contains(1);
+            assertThat(dynamic.rename("missing", "new")).isSameAs(dynamic);
+        }
+    }
+
+    @Nested
+    @DisplayName("Equality")
+    class Equality {
+
+        @Test
+        @DisplayName("objects are equal regardless of key order")
+        void equalRegardlessOfOrder() {
+            final Object first = record("a", 1, "b", 2);
+            final Object second = record("b", 2, "a", 1);
+
+            assertThat(first).isEqualTo(second);
+            assertThat(first.hashCode()).isEqualTo(second.hashCode());
+        }
+
+        @Test
+        @DisplayName("objects with different values are not equal")
+        void differentValuesNotEqual() {
+            assertThat(record("a", 1)).isNotEqualTo(record("a", 2));
+        }
+    }
+
+    @Nested
+    @DisplayName("Conversion")
+    class Conversion {
+
+        @Test
+        @DisplayName("round-trips Gson objects")
+        void roundTripsGson() {
+            final JsonObject json = new JsonObject();
+            json.addProperty("name", "Steve");
+            json.addProperty("level", 5);
+
+            final Object shaped = ops.convertTo(GsonOps.INSTANCE, json);
+            final Object back = GsonOps.INSTANCE.convertTo(ops, shaped);
+
+            assertThat(ops.get(shaped, "name")).isEqualTo("Steve");
+            assertThat(back).isEqualTo(json);
+        }
+    }
+
+    @Nested
+    @DisplayName("preload()")
+    class Preload {
+
+        @Test
+        @DisplayName("interns record layouts declared by a schema")
+        void internsSchemaLayouts() {
+            final ShapeOps fresh = new ShapeOps(64);
+
+            fresh.preload(new PlayerSchema());
+
+            assertThat(fresh.shapeCount()).isGreaterThan(0);
+            final int before = fresh.shapeCount();
+            fresh.shapeOf(List.of("name", "position"));
+            fresh.shapeOf(List.of("x", "y"));
+            assertThat(fresh.shapeCount()).isEqualTo(before);
+        }
+    }
+
+    private static final TypeReference PLAYER = new TypeReference("player");
+
+    private static final class MapTypeRegistry implements TypeRegistry {
+        private final Map<TypeReference, Type<?>> types = new HashMap<>();
+
+        @Override
+        public void register(@NotNull final Type<?> type) {
+            this.types.put(type.reference(), type);
+        }
+
+        @Nullable
+        @Override
+        public Type<?> get(@NotNull final TypeReference ref) {
+            return this.types.get(ref);
+        }
+
+        @Override
+        public boolean has(@NotNull final TypeReference ref) {
+            return this.types.containsKey(ref);
+        }
+
+        @NotNull
+        @Override
+        public Set<TypeReference> references() {
+            return Set.copyOf(this.types.keySet());
+        }
+    }
+
+    private static final class PlayerSchema extends Schema {
+        PlayerSchema() {
+            super(100, null);
+        }
+
+        @NotNull
+        @Override
+        protected TypeRegistry createTypeRegistry() {
+            return new MapTypeRegistry();
+        }
+
+        @Override
+        protected void registerTypes() {
+            registerType(PLAYER, DSL.and(
+                    DSL.field("name", DSL.string()),
+                    DSL.field("position", DSL.and(
+                            DSL.field("x", DSL.doubleType()),
+                            DSL.field("y", DSL.doubleType())
+                    ))
+            ));
+        }
+    }
+}
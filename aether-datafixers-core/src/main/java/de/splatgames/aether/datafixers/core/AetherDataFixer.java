@@ -31,10 +31,14 @@ import de.splatgames.aether.datafixers.api.dynamic.TaggedDynamic;
 import de.splatgames.aether.datafixers.api.exception.DecodeException;
 import de.splatgames.aether.datafixers.api.exception.EncodeException;
 import de.splatgames.aether.datafixers.api.fix.DataFixer;
+import de.splatgames.aether.datafixers.api.fix.DataFixerContext;
 import de.splatgames.aether.datafixers.api.schema.Schema;
 import de.splatgames.aether.datafixers.api.schema.SchemaRegistry;
 import de.splatgames.aether.datafixers.api.type.Type;
 import de.splatgames.aether.datafixers.core.bootstrap.DataFixerRuntimeFactory;
+import de.splatgames.aether.datafixers.core.warmup.WarmUpOptions;
+import de.splatgames.aether.datafixers.core.warmup.WarmUpReport;
+import de.splatgames.aether.datafixers.core.warmup.WarmUpRunner;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -49,6 +53,7 @@ import org.jetbrains.annotations.NotNull;
  *   <li>{@link #encode} - Serialize a Java object to a tagged dynamic format</li>
  *   <li>{@link #decode} - Deserialize a tagged dynamic to a Java object</li>
  *   <li>{@link #update} - Migrate data between versions</li>
+ *   <li>{@link #warmUp} - Prepare schemas and fixes before the first migration</li>
  * </ul>
  *
  * <h2>Usage Example</h2>
@@ -190,6 +195,60 @@ public final class AetherDataFixer {
         return new TaggedDynamic(input.type(), updated);
     }
 
+    /**
+     * Updates data from one version to another, reporting to the given context.
+     *
+     * <p>Pass a {@link de.splatgames.aether.datafixers.api.diagnostic.DiagnosticContext} to
+     * collect a migration report.</p>
+     *
+     * @param input       the tagged dynamic data to update, must not be {@code null}
+     * @param fromVersion the source version of the data, must not be {@code null}
+     * @param toVersion   the target version to migrate to, must not be {@code null}
+     * @param context     the context for logging and diagnostics, must not be {@code null}
+     * @return a new tagged dynamic with the updated data
+     * @throws NullPointerException if any argument is {@code null}
+     * @since 0.6.0
+     */
+    @NotNull
+    public TaggedDynamic update(
+            @NotNull final TaggedDynamic input,
+            @NotNull final DataVersion fromVersion,
+            @NotNull final DataVersion toVersion,
+            @NotNull final DataFixerContext context
+    ) {
+        Preconditions.checkNotNull(input, "input must not be null");
+        Preconditions.checkNotNull(fromVersion, "fromVersion must not be null");
+        Preconditions.checkNotNull(toVersion, "toVersion must not be null");
+        Preconditions.checkNotNull(context, "context must not be null");
+
+        @SuppressWarnings("unchecked") final Dynamic<Object> dyn = (Dynamic<Object>) input.value();
+
+        final Dynamic<Object> updated =
+                this.dataFixer.update(input.type(), dyn, fromVersion, toVersion, context);
+
+        return new TaggedDynamic(input.type(), updated);
+    }
+
+    /**
+     * Warms up this fixer before it serves traffic.
+     *
+     * <p>Builds the type registry of every schema and the rewrite rule of every schema-based
+     * fix, then, if {@link WarmUpOptions#ops()} is set, migrates synthetic documents from every
+     * older schema version to the current version for the configured time budget. Failed
+     * synthetic migrations are counted in the report and otherwise ignored.</p>
+     *
+     * @param options the warm-up options, must not be {@code null}
+     * @return the warm-up report, never {@code null}
+     * @throws NullPointerException if options is {@code null}
+     * @see WarmUpRunner
+     * @since 0.6.0
+     */
+    @NotNull
+    public WarmUpReport warmUp(@NotNull final WarmUpOptions options) {
+        Preconditions.checkNotNull(options, "options must not be null");
+        return new WarmUpRunner(this.currentVersion, this.schemaRegistry, this.dataFixer).run(options);
+    }
+
     /**
      * Decodes a tagged dynamic to a Java object.
      *
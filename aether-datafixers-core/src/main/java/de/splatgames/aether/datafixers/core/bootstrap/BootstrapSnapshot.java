@@ -0,0 +1,666 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.core.bootstrap;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.bootstrap.DataFixerBootstrap;
+import de.splatgames.aether.datafixers.api.fix.DataFix;
+import de.splatgames.aether.datafixers.api.schema.Schema;
+import de.splatgames.aether.datafixers.core.fix.DataFixRegistry;
+import de.splatgames.aether.datafixers.core.fix.DataFixerBuilder;
+import de.splatgames.aether.datafixers.core.schema.SimpleSchemaRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.CodeSource;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.IntPredicate;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * A precompiled index of a {@link DataFixerBootstrap}: its schema versions, the types
+ * each schema declares and the ordered fix plan of every fixed type.
+ *
+ * <p>Schemas and fixes are code and cannot be stored, but everything needed to decide
+ * <em>whether</em> a document needs them can. A snapshot is captured once, typically at
+ * build time, and written to a compact binary file. Short-lived processes read it back
+ * through a memory-mapped file and consult it before loading the bootstrap, so inputs
+ * that no fix touches are handled without class-loading or registering any schema or
+ * fix.</p>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * // At build time
+ * BootstrapSnapshot.capture(MyBootstrap.class.getName(), new DataVersion(200), new MyBootstrap())
+ *     .write(Path.of("build/bootstrap.snapshot"));
+ *
+ * // At startup
+ * BootstrapSnapshot snapshot = BootstrapSnapshot.read(Path.of("bootstrap.snapshot"));
+ * if (!snapshot.requiresFixes(PLAYER, dataVersion, target)) {
+ *     return data; // no bootstrap needed
+ * }
+ * }</pre>
+ *
+ * <h2>File Format</h2>
+ * <p>Big-endian; a header of magic {@code ADFS}, format version and a CRC-32 of the
+ * payload, followed by a string table (bootstrap id, type ids and fix names are stored
+ * once and referenced by index), the current version, the bootstrap fingerprint, the
+ * schema table and the per-type fix tables. {@link #read(Path)} rejects files with a wrong magic, an unknown format
+ * version or a checksum mismatch.</p>
+ *
+ * <p>Reading only indexes the tables; a schema's types or a type's fix plan are decoded
+ * from the mapped file when queried, so startup cost does not grow with the number of
+ * types per schema.</p>
+ *
+ * <h2>Staleness</h2>
+ * <p>A snapshot describes the bootstrap it was captured from and records its
+ * {@linkplain #fingerprint() fingerprint}: a hash of the archive the bootstrap class was
+ * loaded from or, for a class directory, of every class file under that directory.
+ * Readers compare it with {@link #fingerprintOf(Class)} of the bootstrap on their
+ * classpath to reject a snapshot of a different build. Fixes packaged in other archives
+ * or directories are not covered.</p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>Instances are immutable and thread-safe.</p>
+ *
+ * @author Erik Pförtner
+ * @see DataFixerRuntimeFactory
+ * @since 0.6.0
+ */
+public final class BootstrapSnapshot {
+
+    /**
+     * File magic, {@code "ADFS"}.
+     */
+    private static final int MAGIC = 0x41444653;
+
+    /**
+     * Current file format version.
+     */
+    private static final short FORMAT_VERSION = 2;
+
+    /**
+     * Size of magic, format version and checksum.
+     */
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Integer.BYTES;
+
+    /**
+     * Size of one fix table entry: from version, to version, name index.
+     */
+    private static final int FIX_ENTRY_SIZE = 3 * Integer.BYTES;
+
+    // Whole file; only read with absolute gets, so it can be shared between threads
+    private final ByteBuffer data;
+    private final int[] stringOffsets;
+    private final String bootstrapId;
+    private final DataVersion currentVersion;
+    private final long fingerprint;
+    private final int[] schemaVersions;
+    private final int[] schemaOffsets;
+    private final Map<TypeReference, Integer> fixOffsets;
+
+    private BootstrapSnapshot(@NotNull final ByteBuffer data) {
+        this.data = data;
+        int position = HEADER_SIZE;
+
+        this.stringOffsets = new int[data.getInt(position)];
+        position += Integer.BYTES;
+        for (int i = 0; i < this.stringOffsets.length; i++) {
+            this.stringOffsets[i] = position;
+            position += Integer.BYTES + data.getInt(position);
+        }
+
+        this.bootstrapId = this.string(data.getInt(position));
+        this.currentVersion = new DataVersion(data.getInt(position + Integer.BYTES));
+        this.fingerprint = data.getLong(position + 2 * Integer.BYTES);
+        position += 2 * Integer.BYTES + Long.BYTES;
+
+        final int schemaCount = data.getInt(position);
+        position += Integer.BYTES;
+        this.schemaVersions = new int[schemaCount];
+        this.schemaOffsets = new int[schemaCount];
+        for (int i = 0; i < schemaCount; i++) {
+            this.schemaVersions[i] = data.getInt(position);
+            this.schemaOffsets[i] = position + Integer.BYTES;
+            position += 2 * Integer.BYTES + data.getInt(position + Integer.BYTES) * Integer.BYTES;
+        }
+
+        final int typeCount = data.getInt(position);
+        position += Integer.BYTES;
+        final Map<TypeReference, Integer> fixOffsets = new LinkedHashMap<>();
+        for (int i = 0; i < typeCount; i++) {
+            fixOffsets.put(new TypeReference(this.string(data.getInt(position))), position + Integer.BYTES);
+            position += 2 * Integer.BYTES + data.getInt(position + Integer.BYTES) * FIX_ENTRY_SIZE;
+        }
+        this.fixOffsets = Collections.unmodifiableMap(fixOffsets);
+
+        if (position != data.limit()) {
+            throw new IllegalArgumentException("Trailing data after fix tables");
+        }
+    }
+
+    /**
+     * Captures a snapshot by running the bootstrap against fresh registries.
+     *
+     * <p>Every schema's types are built so that the declared types can be recorded.
+     * The bootstrap instance should not be reused to create a fixer afterwards. The
+     * snapshot's fingerprint is taken from the bootstrap's class.</p>
+     *
+     * @param bootstrapId    identifies the bootstrap, usually its class name; must not be {@code null}
+     * @param currentVersion the current (latest) data version, must not be {@code null}
+     * @param bootstrap      the bootstrap to capture, must not be {@code null}
+     * @return the snapshot, never {@code null}
+     * @throws NullPointerException if any argument is {@code null}
+     * @throws UncheckedIOException if the bootstrap class cannot be read for its fingerprint
+     */
+    @NotNull
+    public static BootstrapSnapshot capture(
+            @NotNull final String bootstrapId,
+            @NotNull final DataVersion currentVersion,
+            @NotNull final DataFixerBootstrap bootstrap
+    ) {
+        Preconditions.checkNotNull(bootstrapId, "bootstrapId must not be null");
+        Preconditions.checkNotNull(currentVersion, "currentVersion must not be null");
+        Preconditions.checkNotNull(bootstrap, "bootstrap must not be null");
+
+        final long fingerprint;
+        try {
+            fingerprint = fingerprintOf(bootstrap.getClass());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final SimpleSchemaRegistry schemas = new SimpleSchemaRegistry();
+        bootstrap.registerSchemas(schemas);
+        schemas.freeze();
+        final Map<DataVersion, List<TypeReference>> schemaTypes = new TreeMap<>();
+        schemas.stream().forEach(schema -> schemaTypes.put(schema.version(), sortedTypes(schema)));
+
+        final DataFixerBuilder builder = new DataFixerBuilder(currentVersion);
+        bootstrap.registerFixes(builder);
+        final DataFixRegistry registry = builder.getFixRegistry();
+        final Map<TypeReference, List<DataFix<?>>> fixPlans = new TreeMap<>(Comparator.comparing(TypeReference::getId));
+        for (final TypeReference type : registry.getTypes()) {
+            fixPlans.put(type, registry.getFixes(type, new DataVersion(0), new DataVersion(Integer.MAX_VALUE)));
+        }
+
+        return new BootstrapSnapshot(ByteBuffer.wrap(encode(bootstrapId, currentVersion, fingerprint, schemaTypes, fixPlans)));
+    }
+
+    /**
+     * Computes the fingerprint of a bootstrap class as recorded by {@link #capture}.
+     *
+     * <p>If the class was loaded from an archive, such as a JAR, the whole archive is
+     * hashed. If it was loaded from a class directory, the relative path and contents of
+     * every class file under that directory are hashed in path order. Either way, any
+     * change to the classes built alongside the bootstrap changes the fingerprint. The
+     * class is not initialized.</p>
+     *
+     * @param bootstrapClass the bootstrap class, must not be {@code null}
+     * @return the fingerprint
+     * @throws IOException          if the class has no archive or class directory, or it
+     *                              cannot be read
+     * @throws NullPointerException if {@code bootstrapClass} is {@code null}
+     */
+    public static long fingerprintOf(@NotNull final Class<?> bootstrapClass) throws IOException {
+        Preconditions.checkNotNull(bootstrapClass, "bootstrapClass must not be null");
+
+        final MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        final Path root = codeSourceOf(bootstrapClass);
+        if (root == null) {
+            throw new IOException("Cannot fingerprint " + bootstrapClass.getName()
+                    + ": it was not loaded from a JAR or class directory");
+        }
+        if (Files.isRegularFile(root)) {
+            hashFile(root, digest);
+        } else {
+            final List<String> classFiles;
+            try (Stream<Path> files = Files.walk(root)) {
+                classFiles = files
+                        .filter(file -> file.toString().endsWith(".class") && Files.isRegularFile(file))
+                        .map(file -> root.relativize(file).toString().replace(root.getFileSystem().getSeparator(), "/"))
+                        .sorted()
+                        .toList();
+            }
+            for (final String classFile : classFiles) {
+                digest.update(classFile.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                hashFile(root.resolve(classFile), digest);
+            }
+        }
+        return ByteBuffer.wrap(digest.digest()).getLong();
+    }
+
+    private static void hashFile(@NotNull final Path file, @NotNull final MessageDigest digest) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            in.transferTo(new DigestOutputStream(OutputStream.nullOutputStream(), digest));
+        }
+    }
+
+    /**
+     * Reads a snapshot previously written with {@link #write(Path)}.
+     *
+     * <p>The file is memory-mapped and only its tables are indexed; contents are decoded
+     * from the mapping on demand.</p>
+     *
+     * @param file the snapshot file, must not be {@code null}
+     * @return the snapshot, never {@code null}
+     * @throws IOException          if the file cannot be read or is not a valid snapshot
+     * @throws NullPointerException if {@code file} is {@code null}
+     */
+    @NotNull
+    public static BootstrapSnapshot read(@NotNull final Path file) throws IOException {
+        Preconditions.checkNotNull(file, "file must not be null");
+
+        final MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IOException("Not a bootstrap snapshot: " + file);
+        }
+        final short format = buffer.getShort(Integer.BYTES);
+        if (format != FORMAT_VERSION) {
+            throw new IOException("Unsupported bootstrap snapshot format " + format + ": " + file);
+        }
+        final CRC32 crc = new CRC32();
+        crc.update(buffer.slice(HEADER_SIZE, buffer.limit() - HEADER_SIZE));
+        if ((int) crc.getValue() != buffer.getInt(Integer.BYTES + Short.BYTES)) {
+            throw new IOException("Bootstrap snapshot checksum mismatch: " + file);
+        }
+        try {
+            return new BootstrapSnapshot(buffer);
+        } catch (final IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new IOException("Corrupt bootstrap snapshot: " + file, e);
+        }
+    }
+
+    /**
+     * Writes this snapshot to a file, replacing it atomically where supported.
+     *
+     * @param file the target file, must not be {@code null}
+     * @throws IOException          if writing fails
+     * @throws NullPointerException if {@code file} is {@code null}
+     */
+    public void write(@NotNull final Path file) throws IOException {
+        Preconditions.checkNotNull(file, "file must not be null");
+
+        final Path parent = file.toAbsolutePath().getParent();
+        final Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                final ByteBuffer contents = this.data.duplicate().clear();
+                while (contents.hasRemaining()) {
+                    channel.write(contents);
+                }
+            }
+            try {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Returns the id of the bootstrap this snapshot was captured from.
+     *
+     * @return the bootstrap id, never {@code null}
+     */
+    @NotNull
+    public String bootstrapId() {
+        return this.bootstrapId;
+    }
+
+    /**
+     * Returns the fingerprint of the bootstrap this snapshot was captured from.
+     *
+     * @return the fingerprint
+     * @see #fingerprintOf(Class)
+     */
+    public long fingerprint() {
+        return this.fingerprint;
+    }
+
+    /**
+     * Returns the current version the snapshot was captured for.
+     *
+     * @return the current version, never {@code null}
+     */
+    @NotNull
+    public DataVersion currentVersion() {
+        return this.currentVersion;
+    }
+
+    /**
+     * Returns the registered schema versions in ascending order.
+     *
+     * @return the schema versions, never {@code null}
+     */
+    @NotNull
+    public List<DataVersion> schemaVersions() {
+        final List<DataVersion> versions = new ArrayList<>(this.schemaVersions.length);
+        for (final int version : this.schemaVersions) {
+            versions.add(new DataVersion(version));
+        }
+        return Collections.unmodifiableList(versions);
+    }
+
+    /**
+     * Returns the types declared by the schema registered for exactly {@code version},
+     * ordered by id.
+     *
+     * @param version the schema version, must not be {@code null}
+     * @return the declared types, empty if no schema is registered for the version
+     * @throws NullPointerException if {@code version} is {@code null}
+     */
+    @NotNull
+    public Set<TypeReference> schemaTypes(@NotNull final DataVersion version) {
+        Preconditions.checkNotNull(version, "version must not be null");
+
+        final int index = Arrays.binarySearch(this.schemaVersions, version.getVersion());
+        if (index < 0) {
+            return Set.of();
+        }
+        int position = this.schemaOffsets[index];
+        final int count = this.data.getInt(position);
+        final Set<TypeReference> types = new LinkedHashSet<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            position += Integer.BYTES;
+            types.add(new TypeReference(this.string(this.data.getInt(position))));
+        }
+        return Collections.unmodifiableSet(types);
+    }
+
+    /**
+     * Returns every type that has at least one fix, ordered by id.
+     *
+     * @return the fixed types, never {@code null}
+     */
+    @NotNull
+    public Set<TypeReference> fixedTypes() {
+        return this.fixOffsets.keySet();
+    }
+
+    /**
+     * Returns the fixes a migration of {@code type} from {@code fromVersion} to
+     * {@code toVersion} would apply, in application order.
+     *
+     * <p>Uses the same selection as the data fixer: fixes starting within
+     * {@code [fromVersion, toVersion]} that do not end past {@code toVersion}.</p>
+     *
+     * @param type        the type to migrate, must not be {@code null}
+     * @param fromVersion the source version, must not be {@code null}
+     * @param toVersion   the target version, must not be {@code null}
+     * @return the fix plan, empty if no fix applies
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    @NotNull
+    public List<FixEntry> fixPlan(
+            @NotNull final TypeReference type,
+            @NotNull final DataVersion fromVersion,
+            @NotNull final DataVersion toVersion
+    ) {
+        Preconditions.checkNotNull(type, "type must not be null");
+        Preconditions.checkNotNull(fromVersion, "fromVersion must not be null");
+        Preconditions.checkNotNull(toVersion, "toVersion must not be null");
+
+        final List<FixEntry> plan = new ArrayList<>();
+        this.scanFixes(type, fromVersion, toVersion, position -> {
+            plan.add(new FixEntry(
+                    this.string(this.data.getInt(position + 2 * Integer.BYTES)),
+                    new DataVersion(this.data.getInt(position)),
+                    new DataVersion(this.data.getInt(position + Integer.BYTES))));
+            return true;
+        });
+        return Collections.unmodifiableList(plan);
+    }
+
+    /**
+     * Checks whether migrating {@code type} between the versions applies at least one fix.
+     *
+     * <p>Unlike {@link #fixPlan}, this decodes no fix names.</p>
+     *
+     * @param type        the type to migrate, must not be {@code null}
+     * @param fromVersion the source version, must not be {@code null}
+     * @param toVersion   the target version, must not be {@code null}
+     * @return {@code true} if {@link #fixPlan} would not be empty
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public boolean requiresFixes(
+            @NotNull final TypeReference type,
+            @NotNull final DataVersion fromVersion,
+            @NotNull final DataVersion toVersion
+    ) {
+        Preconditions.checkNotNull(type, "type must not be null");
+        Preconditions.checkNotNull(fromVersion, "fromVersion must not be null");
+        Preconditions.checkNotNull(toVersion, "toVersion must not be null");
+
+        final boolean[] found = {false};
+        this.scanFixes(type, fromVersion, toVersion, position -> {
+            found[0] = true;
+            return false;
+        });
+        return found[0];
+    }
+
+    @Override
+    public String toString() {
+        return "BootstrapSnapshot{bootstrapId=" + this.bootstrapId
+                + ", currentVersion=" + this.currentVersion.getVersion()
+                + ", schemas=" + this.schemaVersions.length
+                + ", fixedTypes=" + this.fixOffsets.size() + "}";
+    }
+
+    /**
+     * Passes the position of every fix table entry of {@code type} that a migration
+     * between the versions applies to {@code visitor}, until it returns {@code false}.
+     */
+    private void scanFixes(
+            @NotNull final TypeReference type,
+            @NotNull final DataVersion fromVersion,
+            @NotNull final DataVersion toVersion,
+            @NotNull final IntPredicate visitor
+    ) {
+        final Integer offset = this.fixOffsets.get(type);
+        if (offset == null || fromVersion.compareTo(toVersion) >= 0) {
+            return;
+        }
+        final int from = fromVersion.getVersion();
+        final int to = toVersion.getVersion();
+        final int count = this.data.getInt(offset);
+        int position = offset + Integer.BYTES;
+        for (int i = 0; i < count; i++, position += FIX_ENTRY_SIZE) {
+            final int fixFrom = this.data.getInt(position);
+            if (fixFrom > to) {
+                return;
+            }
+            if (fixFrom >= from && this.data.getInt(position + Integer.BYTES) <= to && !visitor.test(position)) {
+                return;
+            }
+        }
+    }
+
+    @NotNull
+    private String string(final int index) {
+        final int offset = this.stringOffsets[index];
+        final byte[] utf8 = new byte[this.data.getInt(offset)];
+        this.data.get(offset + Integer.BYTES, utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the archive file or class directory {@code type} was loaded from, or
+     * {@code null} if its location is unknown.
+     */
+    @Nullable
+    private static Path codeSourceOf(@NotNull final Class<?> type) {
+        final CodeSource source = type.getProtectionDomain().getCodeSource();
+        if (source == null || source.getLocation() == null) {
+            return null;
+        }
+        try {
+            final Path path = Path.of(source.getLocation().toURI());
+            return Files.exists(path) ? path : null;
+        } catch (final URISyntaxException | IllegalArgumentException | FileSystemNotFoundException e) {
+            return null;
+        }
+    }
+
+    @NotNull
+    private static List<TypeReference> sortedTypes(@NotNull final Schema schema) {
+        return schema.types().references().stream()
+                .sorted(Comparator.comparing(TypeReference::getId))
+                .toList();
+    }
+
+    @NotNull
+    private static byte[] encode(
+            @NotNull final String bootstrapId,
+            @NotNull final DataVersion currentVersion,
+            final long fingerprint,
+            @NotNull final Map<DataVersion, List<TypeReference>> schemaTypes,
+            @NotNull final Map<TypeReference, List<DataFix<?>>> fixPlans
+    ) {
+        final Map<String, Integer> strings = new LinkedHashMap<>();
+        strings.put(bootstrapId, 0);
+        for (final List<TypeReference> types : schemaTypes.values()) {
+            types.forEach(type -> strings.putIfAbsent(type.getId(), strings.size()));
+        }
+        fixPlans.forEach((type, plan) -> {
+            strings.putIfAbsent(type.getId(), strings.size());
+            plan.forEach(fix -> strings.putIfAbsent(fix.name(), strings.size()));
+        });
+
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(strings.size());
+            for (final String string : strings.keySet()) {
+                final byte[] utf8 = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(utf8.length);
+                out.write(utf8);
+            }
+
+            out.writeInt(strings.get(bootstrapId));
+            out.writeInt(currentVersion.getVersion());
+            out.writeLong(fingerprint);
+
+            out.writeInt(schemaTypes.size());
+            for (final Map.Entry<DataVersion, List<TypeReference>> schema : schemaTypes.entrySet()) {
+                out.writeInt(schema.getKey().getVersion());
+                out.writeInt(schema.getValue().size());
+                for (final TypeReference type : schema.getValue()) {
+                    out.writeInt(strings.get(type.getId()));
+                }
+            }
+
+            out.writeInt(fixPlans.size());
+            for (final Map.Entry<TypeReference, List<DataFix<?>>> plan : fixPlans.entrySet()) {
+                out.writeInt(strings.get(plan.getKey().getId()));
+                out.writeInt(plan.getValue().size());
+                for (final DataFix<?> fix : plan.getValue()) {
+                    out.writeInt(fix.fromVersion().getVersion());
+                    out.writeInt(fix.toVersion().getVersion());
+                    out.writeInt(strings.get(fix.name()));
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final byte[] payload = bytes.toByteArray();
+        final CRC32 crc = new CRC32();
+        crc.update(payload);
+        return ByteBuffer.allocate(HEADER_SIZE + payload.length)
+                .putInt(MAGIC)
+                .putShort(FORMAT_VERSION)
+                .putInt((int) crc.getValue())
+                .put(payload)
+                .array();
+    }
+
+    /**
+     * One fix of a snapshot's fix plan.
+     *
+     * @param name        the fix name, never {@code null}
+     * @param fromVersion the version the fix migrates from, never {@code null}
+     * @param toVersion   the version the fix migrates to, never {@code null}
+     */
+    public record FixEntry(
+            @NotNull String name,
+            @NotNull DataVersion fromVersion,
+            @NotNull DataVersion toVersion
+    ) {
+
+        /**
+         * Creates a fix entry.
+         *
+         * @throws NullPointerException if any component is {@code null}
+         */
+        public FixEntry {
+            Preconditions.checkNotNull(name, "name must not be null");
+            Preconditions.checkNotNull(fromVersion, "fromVersion must not be null");
+            Preconditions.checkNotNull(toVersion, "toVersion must not be null");
+        }
+    }
+}
@@ -25,11 +25,19 @@ package de.splatgames.aether.datafixers.core.bootstrap;
 import com.google.common.base.Preconditions;
 import de.splatgames.aether.datafixers.api.DataVersion;
 import de.splatgames.aether.datafixers.api.bootstrap.DataFixerBootstrap;
+import de.splatgames.aether.datafixers.api.schema.Schema;
 import de.splatgames.aether.datafixers.core.AetherDataFixer;
 import de.splatgames.aether.datafixers.core.fix.DataFixerBuilder;
 import de.splatgames.aether.datafixers.core.schema.SimpleSchemaRegistry;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
 /**
  * Factory for creating fully configured {@link AetherDataFixer} instances.
  *
@@ -54,19 +62,92 @@ import org.jetbrains.annotations.NotNull;
  * <ol>
  *   <li>Creates a {@link SimpleSchemaRegistry}</li>
  *   <li>Calls {@link DataFixerBootstrap#registerSchemas} to populate schemas</li>
+ *   <li>Builds schema types according to the {@link SchemaInitialization} mode</li>
  *   <li>Creates a {@link DataFixerBuilder}</li>
  *   <li>Calls {@link DataFixerBootstrap#registerFixes} to populate fixes</li>
  *   <li>Freezes all registries for thread-safe access</li>
  *   <li>Assembles and returns the {@link AetherDataFixer}</li>
  * </ol>
  *
+ * <h2>Schema Initialization</h2>
+ * <p>By default schemas build their types lazily, so only the schemas that a migration
+ * actually touches pay the cost. Large bootstraps that prefer predictable latency can
+ * build everything up front, optionally in parallel:</p>
+ * <pre>{@code
+ * AetherDataFixer fixer = new DataFixerRuntimeFactory(SchemaInitialization.PARALLEL)
+ *     .create(new DataVersion(300), new MyDataFixerBootstrap());
+ * }</pre>
+ *
  * @author Erik Pförtner
+ * @see SchemaInitialization
  * @see AetherDataFixer
  * @see DataFixerBootstrap
  * @since 0.1.0
  */
 public final class DataFixerRuntimeFactory {
 
+    /**
+     * When schema types are built.
+     */
+    private final SchemaInitialization initialization;
+
+    /**
+     * Executor used for {@link SchemaInitialization#PARALLEL}.
+     */
+    private final Executor executor;
+
+    /**
+     * Creates a factory that initializes schemas {@linkplain SchemaInitialization#LAZY lazily}.
+     */
+    public DataFixerRuntimeFactory() {
+        this(SchemaInitialization.LAZY);
+    }
+
+    /**
+     * Creates a factory with the given schema initialization mode.
+     *
+     * <p>{@link SchemaInitialization#PARALLEL} uses the common fork-join pool.</p>
+     *
+     * @param initialization when schema types are built, must not be {@code null}
+     * @throws NullPointerException if {@code initialization} is {@code null}
+     * @since 0.6.0
+     */
+    public DataFixerRuntimeFactory(@NotNull final SchemaInitialization initialization) {
+        this(initialization, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a factory with the given schema initialization mode and executor.
+     *
+     * <p>The executor is only used for {@link SchemaInitialization#PARALLEL}; {@link #create}
+     * blocks until every schema submitted to it has been built.</p>
+     *
+     * @param initialization when schema types are built, must not be {@code null}
+     * @param executor       executor for parallel building, must not be {@code null}
+     * @throws NullPointerException if any argument is {@code null}
+     * @since 0.6.0
+     */
+    public DataFixerRuntimeFactory(
+            @NotNull final SchemaInitialization initialization,
+            @NotNull final Executor executor
+    ) {
+        Preconditions.checkNotNull(initialization, "initialization must not be null");
+        Preconditions.checkNotNull(executor, "executor must not be null");
+        this.initialization = initialization;
+        this.executor = executor;
+    }
+
+    /**
+     * Returns the schema initialization mode of this factory.
+     *
+     * @return the initialization mode, never {@code null}
+     * @since 0.6.0
+     */
+    @NotNull
+    public SchemaInitialization initialization() {
+        return this.initialization;
+    }
+
     /**
      * Creates a fully configured data fixer from a bootstrap.
      *
@@ -79,17 +160,98 @@ public final class DataFixerRuntimeFactory {
     public AetherDataFixer create(
             @NotNull final DataVersion currentVersion,
             @NotNull final DataFixerBootstrap bootstrap
+    ) {
+        return this.create(currentVersion, bootstrap, builder -> {
+        });
+    }
+
+    /**
+     * Creates a fully configured data fixer from a bootstrap, letting the caller adjust the
+     * {@link DataFixerBuilder} before the fixer is built.
+     *
+     * <p>The customizer runs after the bootstrap registered its fixes, so it can add
+     * listeners, memoization or further fixes:</p>
+     * <pre>{@code
+     * AetherDataFixer fixer = factory.create(version, bootstrap,
+     *     builder -> builder.withMigrationListener(metricsListener));
+     * }</pre>
+     *
+     * @param currentVersion the current (latest) data version, must not be {@code null}
+     * @param bootstrap      the bootstrap providing schemas and fixes, must not be {@code null}
+     * @param customizer     callback applied to the builder before building, must not be {@code null}
+     * @return a configured data fixer, never {@code null}
+     * @throws NullPointerException if any argument is {@code null}
+     * @since 0.6.0
+     */
+    @NotNull
+    public AetherDataFixer create(
+            @NotNull final DataVersion currentVersion,
+            @NotNull final DataFixerBootstrap bootstrap,
+            @NotNull final Consumer<? super DataFixerBuilder> customizer
     ) {
         Preconditions.checkNotNull(currentVersion, "currentVersion must not be null");
         Preconditions.checkNotNull(bootstrap, "bootstrap must not be null");
+        Preconditions.checkNotNull(customizer, "customizer must not be null");
 
         final SimpleSchemaRegistry schemas = new SimpleSchemaRegistry();
         bootstrap.registerSchemas(schemas);
         schemas.freeze();
+        this.initializeSchemas(schemas);
 
         final DataFixerBuilder builder = new DataFixerBuilder(currentVersion);
         bootstrap.registerFixes(builder);
+        customizer.accept(builder);
 
         return new AetherDataFixer(currentVersion, schemas, builder.build());
     }
+
+    /**
+     * Builds the schema type registries according to the configured mode.
+     *
+     * @param schemas the frozen schema registry
+     */
+    private void initializeSchemas(@NotNull final SimpleSchemaRegistry schemas) {
+        switch (this.initialization) {
+            case LAZY -> {
+                // types are built on first use
+            }
+            case EAGER -> schemas.stream().forEach(Schema::types);
+            case PARALLEL -> this.initializeInParallel(schemas.stream().toList());
+        }
+    }
+
+    /**
+     * Builds the schemas on the executor, one task per available processor, and waits for
+     * all of them. Falls back to building on the calling thread with a single processor.
+     *
+     * @param schemas the schemas to build
+     */
+    private void initializeInParallel(@NotNull final List<Schema> schemas) {
+        final int tasks = Math.min(schemas.size(), Runtime.getRuntime().availableProcessors());
+        if (tasks <= 1) {
+            schemas.forEach(Schema::types);
+            return;
+        }
+        final CompletableFuture<?>[] builds = new CompletableFuture<?>[tasks];
+        for (int task = 0; task < tasks; task++) {
+            final int offset = task;
+            builds[task] = CompletableFuture.runAsync(() -> {
+                // Strided so that every task gets a similar mix of old and new schemas
+                for (int i = offset; i < schemas.size(); i += tasks) {
+                    schemas.get(i).types();
+                }
+            }, this.executor);
+        }
+        try {
+            CompletableFuture.allOf(builds).join();
+        } catch (final CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.core.bootstrap;
+
+/**
+ * Controls when {@link DataFixerRuntimeFactory} builds the type registries of the
+ * registered schemas.
+ *
+ * <p>Building a schema's types runs its {@code registerTypes()} method and resolves
+ * every type template. For bootstraps with hundreds of schema versions this dominates
+ * startup time, so the factory lets callers choose between deferring the work and doing
+ * it up front.</p>
+ *
+ * <h2>Modes</h2>
+ * <ul>
+ *   <li>{@link #LAZY} - nothing is built at creation time; a schema builds its types the
+ *       first time a migration (or any other caller) needs them. Only the schemas in the
+ *       version window that is actually migrated are ever built.</li>
+ *   <li>{@link #EAGER} - every schema is built on the calling thread, in version order,
+ *       right after the schema registry is frozen.</li>
+ *   <li>{@link #PARALLEL} - the schemas are split across one executor task per available
+ *       processor right after the schema registry is frozen. Schema type registries are
+ *       independent of each other, including those of parent and child, so the tasks never
+ *       wait on one another. On a single processor this behaves like {@link #EAGER}.</li>
+ * </ul>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>All modes rely on {@link de.splatgames.aether.datafixers.api.schema.Schema#types()}
+ * building each schema exactly once and publishing it only when complete, so a lazily
+ * initialized fixer may be shared between threads from the start.</p>
+ *
+ * @author Erik Pförtner
+ * @see DataFixerRuntimeFactory
+ * @since 0.6.0
+ */
+public enum SchemaInitialization {
+
+    /**
+     * Builds schema types on first use.
+     */
+    LAZY,
+
+    /**
+     * Builds all schema types sequentially when the fixer is created.
+     */
+    EAGER,
+
+    /**
+     * Builds all schema types concurrently when the fixer is created.
+     */
+    PARALLEL
+}
@@ -28,11 +28,13 @@
  * from {@link de.splatgames.aether.datafixers.api.bootstrap.DataFixerBootstrap}
  * definitions.</p>
  *
- * <h2>Key Class</h2>
+ * <h2>Key Classes</h2>
  * <ul>
  *   <li>{@link de.splatgames.aether.datafixers.core.bootstrap.DataFixerRuntimeFactory} -
  *       The main factory for creating fully configured data fixers. It processes
  *       bootstrap definitions, builds registries, and wires all components together.</li>
+ *   <li>{@link de.splatgames.aether.datafixers.core.bootstrap.SchemaInitialization} -
+ *       Selects whether schema types are built lazily, eagerly or in parallel.</li>
  * </ul>
  *
  * <h2>Usage</h2>
@@ -55,6 +57,7 @@
  * <ol>
  *   <li>Creates empty schema and fix registries</li>
  *   <li>Invokes bootstrap's {@code registerSchemas()} method</li>
+ *   <li>Builds schema types unless initialization is lazy</li>
  *   <li>Invokes bootstrap's {@code registerFixes()} method</li>
  *   <li>Validates the registration (checks for gaps, conflicts)</li>
  *   <li>Builds the internal fix graph for efficient migration</li>
@@ -64,9 +67,13 @@
  * <h2>Configuration Options</h2>
  * <p>The factory supports configuration for different use cases:</p>
  * <pre>{@code
- * AetherDataFixer fixer = new DataFixerRuntimeFactory()
- *     .withContext(new Slf4jDataFixerContext())  // Use SLF4J for logging
+ * // Build all schemas up front on a dedicated pool
+ * AetherDataFixer fixer = new DataFixerRuntimeFactory(SchemaInitialization.PARALLEL, bootPool)
  *     .create(currentVersion, bootstrap);
+ *
+ * // Adjust the builder before the fixer is assembled
+ * AetherDataFixer observed = new DataFixerRuntimeFactory()
+ *     .create(currentVersion, bootstrap, builder -> builder.withMigrationListener(listener));
  * }</pre>
  *
  * @see de.splatgames.aether.datafixers.core.bootstrap.DataFixerRuntimeFactory
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.core.columnar;
+
+import de.splatgames.aether.datafixers.api.dynamic.DynamicOps;
+import de.splatgames.aether.datafixers.api.result.DataResult;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * A single field column of a {@link RecordBatch}.
+ *
+ * <p>A column stores the values of one field for every row of the batch. Rows that
+ * do not contain the field are absent. Columns are immutable; batch operations build
+ * replacement columns through {@link #of(DynamicOps, Object[])}, which picks a primitive
+ * representation when every present value is a number that fits the same primitive type
+ * exactly and round-trips losslessly through the ops.</p>
+ *
+ * @param <T> the underlying data format type
+ * @author Erik Pförtner
+ * @since 0.6.0
+ */
+abstract class Column<T> {
+
+    /**
+     * Number of rows in this column.
+     */
+    protected final int size;
+
+    /**
+     * Creates a new column.
+     *
+     * @param size the number of rows
+     */
+    protected Column(final int size) {
+        this.size = size;
+    }
+
+    /**
+     * Creates a column from per-row values, choosing the most compact representation.
+     *
+     * @param ops    the format operations, must not be {@code null}
+     * @param values the per-row values; {@code null} marks an absent row
+     * @param <T>    the underlying data format type
+     * @return the column, never {@code null}
+     */
+    @NotNull
+    static <T> Column<T> of(@NotNull final DynamicOps<T> ops,
+                            @NotNull final Object[] values) {
+        Class<?> numberType = null;
+        boolean anyPresent = false;
+        for (final Object value : values) {
+            if (value == null) {
+                continue;
+            }
+            anyPresent = true;
+            @SuppressWarnings("unchecked")
+            final Class<?> type = primitiveType(ops, (T) value);
+            if (type == null || (numberType != null && numberType != type)) {
+                return new ObjectColumn<>(values);
+            }
+            numberType = type;
+        }
+        if (!anyPresent) {
+            return new ObjectColumn<>(values);
+        }
+        if (numberType == Integer.class) {
+            return IntColumn.of(ops, values);
+        }
+        if (numberType == Long.class) {
+            return LongColumn.of(ops, values);
+        }
+        return DoubleColumn.of(ops, values);
+    }
+
+    /**
+     * Returns the boxed number type of a value if it can be stored in a primitive column.
+     *
+     * <p>The type is chosen from the numeric value, not from the runtime class of the
+     * number, so lazily parsed or arbitrary-precision numbers qualify as well: integral
+     * values that fit an {@code int} map to {@link Integer}, other integral values that fit
+     * a {@code long} map to {@link Long}, and values that survive a round trip through
+     * {@code double} map to {@link Double}. The value must additionally equal the value
+     * the ops recreate from the primitive; an {@code int}-sized value the ops only
+     * recreate as a {@code long} is stored as {@link Long}.</p>
+     */
+    @Nullable
+    private static <T> Class<?> primitiveType(@NotNull final DynamicOps<T> ops,
+                                              @NotNull final T value) {
+        final DataResult<Number> number = ops.getNumberValue(value);
+        final Optional<Number> result = number.result();
+        if (result.isEmpty()) {
+            return null;
+        }
+        final Number n = result.get();
+        final Class<?> type = exactType(n);
+        if (type == Integer.class && value.equals(ops.createInt(n.intValue()))) {
+            return Integer.class;
+        }
+        if ((type == Integer.class || type == Long.class) && value.equals(ops.createLong(n.longValue()))) {
+            return Long.class;
+        }
+        if (type == Double.class && value.equals(ops.createDouble(n.doubleValue()))) {
+            return Double.class;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the narrowest of {@link Integer}, {@link Long} and {@link Double} that holds
+     * the number without loss, or {@code null} if none does.
+     */
+    @Nullable
+    private static Class<?> exactType(@NotNull final Number n) {
+        if (n instanceof Integer || n instanceof Short || n instanceof Byte) {
+            return Integer.class;
+        }
+        if (n instanceof Long l) {
+            return l == l.intValue() ? Integer.class : Long.class;
+        }
+        if (n instanceof Double || n instanceof Float) {
+            return Double.class;
+        }
+        final BigDecimal exact;
+        try {
+            exact = new BigDecimal(n.toString());
+        } catch (final NumberFormatException e) {
+            return null;
+        }
+        final long l = n.longValue();
+        if (exact.compareTo(BigDecimal.valueOf(l)) == 0) {
+            return l == (int) l ? Integer.class : Long.class;
+        }
+        final double d = n.doubleValue();
+        if (Double.isFinite(d) && exact.compareTo(BigDecimal.valueOf(d)) == 0) {
+            return Double.class;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the number of rows in this column.
+     *
+     * @return the row count
+     */
+    final int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns whether the given row contains this field.
+     *
+     * @param row the row index
+     * @return {@code true} if the value is present
+     */
+    abstract boolean isPresent(int row);
+
+    /**
+     * Returns the value of the given row.
+     *
+     * @param row the row index
+     * @param ops the format operations used to materialise primitive values
+     * @return the value, or {@code null} if absent
+     */
+    @Nullable
+    abstract T get(int row, @NotNull DynamicOps<T> ops);
+
+    /**
+     * Copies this column into per-row values, {@code null} marking absent rows.
+     *
+     * @param ops the format operations used to materialise primitive values
+     * @return a new array of length {@link #size()}
+     */
+    @NotNull
+    final Object[] toArray(@NotNull final DynamicOps<T> ops) {
+        final Object[] values = new Object[this.size];
+        for (int row = 0; row < this.size; row++) {
+            values[row] = this.get(row, ops);
+        }
+        return values;
+    }
+}
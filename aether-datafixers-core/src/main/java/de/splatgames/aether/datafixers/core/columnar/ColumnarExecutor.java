@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.core.columnar;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.rewrite.FieldRewriteRule;
+import de.splatgames.aether.datafixers.api.rewrite.TypeRewriteRule;
+import de.splatgames.aether.datafixers.api.type.Type;
+import de.splatgames.aether.datafixers.api.type.Typed;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Runs a sequence of rewrite rules over a {@link RecordBatch}.
+ *
+ * <p>Rules created by the single-field factories in
+ * {@link de.splatgames.aether.datafixers.api.rewrite.Rules} implement {@link FieldRewriteRule}
+ * and are executed as column operations on the batch. Every other rule is executed row by
+ * row: consecutive non-field rules are grouped into a single pass that materialises each
+ * record once, applies the group, and rebuilds the columns from the results.</p>
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * RecordBatch<JsonElement> batch = RecordBatch.of(GsonOps.INSTANCE, records);
+ * new ColumnarExecutor().execute(batch,
+ *     Rules.renameField(GsonOps.INSTANCE, "playerName", "name"),
+ *     Rules.transformField(GsonOps.INSTANCE, "level", d -> d.createInt(d.asInt().result().orElse(0) + 1)),
+ *     Rules.removeField(GsonOps.INSTANCE, "legacy"));
+ * List<Dynamic<JsonElement>> migrated = batch.toDynamics();
+ * }</pre>
+ *
+ * <h2>Semantics</h2>
+ * <p>Field rules are applied directly to the data and do not encode through a type codec,
+ * matching how they behave on {@link Type#PASSTHROUGH} values. Sequences built with
+ * {@link de.splatgames.aether.datafixers.api.rewrite.Rules#seq} are not flattened and run
+ * row-wise; pass their elements individually to benefit from column execution.</p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is immutable and thread-safe. The batches it operates on are not.</p>
+ *
+ * @author Erik Pförtner
+ * @see RecordBatch
+ * @see FieldRewriteRule
+ * @since 0.6.0
+ */
+public final class ColumnarExecutor {
+
+    private final Type<?> rowType;
+
+    /**
+     * Creates an executor that wraps rows in {@link Type#PASSTHROUGH} for row-wise rules.
+     */
+    public ColumnarExecutor() {
+        this(Type.PASSTHROUGH);
+    }
+
+    /**
+     * Creates an executor that wraps rows in the given type for row-wise rules.
+     *
+     * <p>Rows are passed to row-wise rules as {@link Dynamic} values, as schema-based fixes do.
+     * A rule that returns a decoded value instead is re-encoded through the codec of its result
+     * type before the batch is rebuilt.</p>
+     *
+     * @param rowType the type passed to rules that are executed row by row, must not be {@code null}
+     * @throws NullPointerException if {@code rowType} is {@code null}
+     */
+    public ColumnarExecutor(@NotNull final Type<?> rowType) {
+        Preconditions.checkNotNull(rowType, "rowType must not be null");
+        this.rowType = rowType;
+    }
+
+    /**
+     * Applies the rules to the batch in order.
+     *
+     * @param batch the batch to migrate in place, must not be {@code null}
+     * @param rules the rules to apply, must not be {@code null}
+     * @param <T>   the underlying data format type
+     * @return the same batch, for chaining
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    @NotNull
+    public <T> RecordBatch<T> execute(@NotNull final RecordBatch<T> batch,
+                                      @NotNull final TypeRewriteRule... rules) {
+        Preconditions.checkNotNull(rules, "rules must not be null");
+        return this.execute(batch, Arrays.asList(rules));
+    }
+
+    /**
+     * Applies the rules to the batch in order.
+     *
+     * @param batch the batch to migrate in place, must not be {@code null}
+     * @param rules the rules to apply, must not be {@code null}
+     * @param <T>   the underlying data format type
+     * @return the same batch, for chaining
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    @NotNull
+    public <T> RecordBatch<T> execute(@NotNull final RecordBatch<T> batch,
+                                      @NotNull final List<? extends TypeRewriteRule> rules) {
+        Preconditions.checkNotNull(batch, "batch must not be null");
+        Preconditions.checkNotNull(rules, "rules must not be null");
+
+        RecordBatch<T> current = batch;
+        final List<TypeRewriteRule> pending = new ArrayList<>();
+        for (final TypeRewriteRule rule : rules) {
+            Preconditions.checkNotNull(rule, "rules must not contain null");
+            if (rule instanceof FieldRewriteRule field) {
+                current = this.applyRowWise(current, pending);
+                pending.clear();
+                applyColumnar(current, field);
+            } else {
+                pending.add(rule);
+            }
+        }
+        current = this.applyRowWise(current, pending);
+        if (current != batch) {
+            batch.replaceWith(current);
+        }
+        return batch;
+    }
+
+    private static <T> void applyColumnar(@NotNull final RecordBatch<T> batch,
+                                          @NotNull final FieldRewriteRule rule) {
+        switch (rule.kind()) {
+            case RENAME -> batch.renameField(rule.field(), rule.newField());
+            case REMOVE -> batch.removeField(rule.field());
+            case ADD -> batch.addField(rule.field(), valueIn(batch, rule.value()));
+            case SET -> batch.setField(rule.field(), valueIn(batch, rule.value()));
+            case TRANSFORM -> batch.transformField(rule.field(), rule.transform());
+            default -> throw new IllegalStateException("Unknown field rule kind: " + rule.kind());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    @NotNull
+    private static <T> T valueIn(@NotNull final RecordBatch<T> batch,
+                                 @NotNull final Dynamic<?> value) {
+        if (value.ops() == batch.ops()) {
+            return (T) value.value();
+        }
+        return value.convert(batch.ops()).value();
+    }
+
+    @NotNull
+    private <T> RecordBatch<T> applyRowWise(@NotNull final RecordBatch<T> batch,
+                                            @NotNull final List<TypeRewriteRule> rules) {
+        if (rules.isEmpty()) {
+            return batch;
+        }
+        final List<Dynamic<T>> rows = batch.toDynamics();
+        for (int i = 0; i < rows.size(); i++) {
+            Dynamic<?> row = rows.get(i);
+            for (final TypeRewriteRule rule : rules) {
+                row = this.applyRow(rule, row);
+            }
+            rows.set(i, this.toBatchOps(batch, row));
+        }
+        return RecordBatch.of(batch.ops(), rows);
+    }
+
+    /**
+     * Applies a rule to one row, re-encoding the result if the rule decoded it.
+     *
+     * @throws de.splatgames.aether.datafixers.api.exception.EncodeException if a decoded result
+     *                                                                        cannot be encoded
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @NotNull
+    private Dynamic<?> applyRow(@NotNull final TypeRewriteRule rule,
+                                @NotNull final Dynamic<?> row) {
+        final Typed<?> result = rule.apply(new Typed<>((Type) this.rowType, row));
+        if (result.value() instanceof Dynamic<?> dynamic) {
+            return dynamic;
+        }
+        return result.encodeOrThrow(row.ops());
+    }
+
+    @SuppressWarnings("unchecked")
+    @NotNull
+    private <T> Dynamic<T> toBatchOps(@NotNull final RecordBatch<T> batch,
+                                      @NotNull final Dynamic<?> row) {
+        if (row.ops() == batch.ops()) {
+            return (Dynamic<T>) row;
+        }
+        return row.convert(batch.ops());
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnarExecutor[rowType=" + this.rowType.describe() + "]";
+    }
+}
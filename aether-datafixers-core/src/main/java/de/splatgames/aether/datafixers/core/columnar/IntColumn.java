@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.core.columnar;
+
+import de.splatgames.aether.datafixers.api.dynamic.DynamicOps;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+
+/**
+ * A {@link Column} that stores {@code int} values in a primitive array.
+ *
+ * @param <T> the underlying data format type
+ * @author Erik Pförtner
+ * @since 0.6.0
+ */
+final class IntColumn<T> extends Column<T> {
+
+    private final int[] values;
+    private final BitSet present;
+
+    private IntColumn(@NotNull final int[] values, @NotNull final BitSet present) {
+        super(values.length);
+        this.values = values;
+        this.present = present;
+    }
+
+    /**
+     * Creates a column from per-row values that are all absent or {@link Integer} numbers.
+     */
+    @NotNull
+    static <T> IntColumn<T> of(@NotNull final DynamicOps<T> ops,
+                        @NotNull final Object[] rows) {
+        final int[] values = new int[rows.length];
+        final BitSet present = new BitSet(rows.length);
+        for (int row = 0; row < rows.length; row++) {
+            @SuppressWarnings("unchecked")
+            final T value = (T) rows[row];
+            if (value != null) {
+                values[row] = ops.getNumberValue(value).result().orElseThrow().intValue();
+                present.set(row);
+            }
+        }
+        return new IntColumn<>(values, present);
+    }
+
+    @Override
+    boolean isPresent(final int row) {
+        return this.present.get(row);
+    }
+
+    @Override
+    @Nullable
+    T get(final int row, @NotNull final DynamicOps<T> ops) {
+        return this.present.get(row) ? ops.createInt(this.values[row]) : null;
+    }
+}
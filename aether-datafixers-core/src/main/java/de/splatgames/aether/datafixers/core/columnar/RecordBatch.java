@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.core.columnar;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.dynamic.DynamicOps;
+import de.splatgames.aether.datafixers.api.util.Pair;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * A columnar (struct-of-arrays) representation of a batch of map-shaped records.
+ *
+ * <p>Instead of holding one tree per record, a {@code RecordBatch} holds one column per
+ * top-level field. Numeric columns whose values are all exact {@code int}, {@code long}
+ * or {@code double} numbers are stored in primitive arrays; all other columns hold the
+ * format values directly. Rows that do not contain a field are marked absent in that
+ * field's column.</p>
+ *
+ * <h2>Operations</h2>
+ * <p>The field operations mirror the single-field rules in
+ * {@link de.splatgames.aether.datafixers.api.rewrite.Rules} and have the same semantics,
+ * but work on whole columns:</p>
+ * <ul>
+ *   <li>{@link #renameField} and {@link #removeField} only change column metadata unless
+ *       the rename target already exists, in which case the two columns are merged</li>
+ *   <li>{@link #transformField} runs the function in one loop over the present values of
+ *       a single column</li>
+ *   <li>{@link #addField} and {@link #setField} build one new column</li>
+ * </ul>
+ *
+ * <h2>Field Order</h2>
+ * <p>Rows produced by {@link #toDynamics()} list their fields in column order, which is the
+ * order in which fields were first seen across the batch. Records whose fields appeared
+ * in a different order therefore come back with reordered (but otherwise equal) fields.
+ * {@link #renameField} moves the renamed column to the end, matching the default
+ * {@link de.splatgames.aether.datafixers.api.dynamic.DynamicOps#rename} used by the
+ * row-wise rules.</p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is mutable and not thread-safe.</p>
+ *
+ * @param <T> the underlying data format type
+ * @author Erik Pförtner
+ * @see ColumnarExecutor
+ * @since 0.6.0
+ */
+public final class RecordBatch<T> {
+
+    private final DynamicOps<T> ops;
+    private final int rowCount;
+    private final LinkedHashMap<String, Column<T>> columns;
+
+    private RecordBatch(@NotNull final DynamicOps<T> ops,
+                        final int rowCount,
+                        @NotNull final LinkedHashMap<String, Column<T>> columns) {
+        this.ops = ops;
+        this.rowCount = rowCount;
+        this.columns = columns;
+    }
+
+    /**
+     * Creates a batch from a list of map-shaped records.
+     *
+     * @param ops  the format operations, must not be {@code null}
+     * @param rows the records, must not be {@code null}
+     * @param <T>  the underlying data format type
+     * @return the batch, never {@code null}
+     * @throws NullPointerException     if any argument or row is {@code null}
+     * @throws IllegalArgumentException if a row is not a map
+     */
+    @NotNull
+    public static <T> RecordBatch<T> of(@NotNull final DynamicOps<T> ops,
+                                        @NotNull final List<? extends Dynamic<T>> rows) {
+        Preconditions.checkNotNull(ops, "ops must not be null");
+        Preconditions.checkNotNull(rows, "rows must not be null");
+
+        final int rowCount = rows.size();
+        final LinkedHashMap<String, Object[]> values = new LinkedHashMap<>();
+        for (int row = 0; row < rowCount; row++) {
+            final Dynamic<T> dynamic = rows.get(row);
+            Preconditions.checkNotNull(dynamic, "rows must not contain null");
+            final List<Pair<T, T>> entries = ops.getMapEntries(dynamic.value()).result()
+                    .orElseThrow(() -> new IllegalArgumentException(
+                            "RecordBatch rows must be maps: " + dynamic.value()))
+                    .toList();
+            for (final Pair<T, T> entry : entries) {
+                final String key = ops.getStringValue(entry.first()).result()
+                        .orElseThrow(() -> new IllegalArgumentException(
+                                "RecordBatch rows must have string keys: " + entry.first()));
+                values.computeIfAbsent(key, k -> new Object[rowCount])[row] = entry.second();
+            }
+        }
+
+        final LinkedHashMap<String, Column<T>> columns = new LinkedHashMap<>();
+        for (final Map.Entry<String, Object[]> entry : values.entrySet()) {
+            columns.put(entry.getKey(), Column.of(ops, entry.getValue()));
+        }
+        return new RecordBatch<>(ops, rowCount, columns);
+    }
+
+    // ==================== Accessors ====================
+
+    /**
+     * Returns the format operations of this batch.
+     *
+     * @return the ops, never {@code null}
+     */
+    @NotNull
+    public DynamicOps<T> ops() {
+        return this.ops;
+    }
+
+    /**
+     * Returns the number of records in this batch.
+     *
+     * @return the row count
+     */
+    public int size() {
+        return this.rowCount;
+    }
+
+    /**
+     * Returns the field names of this batch in column order.
+     *
+     * @return an unmodifiable view of the field names, never {@code null}
+     */
+    @NotNull
+    public Set<String> fields() {
+        return Collections.unmodifiableSet(this.columns.keySet());
+    }
+
+    /**
+     * Returns whether the given field is stored in a primitive column.
+     *
+     * @param field the field name, must not be {@code null}
+     * @return {@code true} if the column uses a primitive array
+     * @throws NullPointerException if {@code field} is {@code null}
+     */
+    public boolean isPrimitive(@NotNull final String field) {
+        Preconditions.checkNotNull(field, "field must not be null");
+        final Column<T> column = this.columns.get(field);
+        return column != null && !(column instanceof ObjectColumn);
+    }
+
+    /**
+     * Materialises a single record.
+     *
+     * @param row the row index
+     * @return the record as a map, never {@code null}
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    @NotNull
+    public Dynamic<T> row(final int row) {
+        Preconditions.checkElementIndex(row, this.rowCount, "row");
+        return this.materialise(row, this.keys());
+    }
+
+    /**
+     * Materialises all records in row order.
+     *
+     * @return a new list of records, never {@code null}
+     */
+    @NotNull
+    public List<Dynamic<T>> toDynamics() {
+        final List<Map.Entry<T, Column<T>>> keys = this.keys();
+        final List<Dynamic<T>> rows = new ArrayList<>(this.rowCount);
+        for (int row = 0; row < this.rowCount; row++) {
+            rows.add(this.materialise(row, keys));
+        }
+        return rows;
+    }
+
+    // ==================== Field Operations ====================
+
+    /**
+     * Renames a field in every record that contains it.
+     *
+     * <p>If no column named {@code newName} exists this relabels the column and moves it to
+     * the end of the column order, so renamed fields come last as with the row-wise
+     * {@link de.splatgames.aether.datafixers.api.dynamic.DynamicOps#rename}. Otherwise the
+     * columns are merged in the position of {@code newName}: rows containing {@code oldName}
+     * take its value, all other rows keep their existing {@code newName} value.</p>
+     *
+     * @param oldName the current field name, must not be {@code null}
+     * @param newName the new field name, must not be {@code null}
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public void renameField(@NotNull final String oldName,
+                            @NotNull final String newName) {
+        Preconditions.checkNotNull(oldName, "oldName must not be null");
+        Preconditions.checkNotNull(newName, "newName must not be null");
+        if (oldName.equals(newName)) {
+            return;
+        }
+        final Column<T> source = this.columns.remove(oldName);
+        if (source == null) {
+            return;
+        }
+        final Column<T> target = this.columns.get(newName);
+        if (target == null) {
+            this.columns.put(newName, source);
+            return;
+        }
+        final Object[] merged = new Object[this.rowCount];
+        for (int row = 0; row < this.rowCount; row++) {
+            merged[row] = source.isPresent(row) ? source.get(row, this.ops) : target.get(row, this.ops);
+        }
+        this.columns.put(newName, Column.of(this.ops, merged));
+    }
+
+    /**
+     * Removes a field from every record.
+     *
+     * @param field the field name, must not be {@code null}
+     * @throws NullPointerException if {@code field} is {@code null}
+     */
+    public void removeField(@NotNull final String field) {
+        Preconditions.checkNotNull(field, "field must not be null");
+        this.columns.remove(field);
+    }
+
+    /**
+     * Adds a field with a default value to every record that does not contain it.
+     *
+     * @param field        the field name, must not be {@code null}
+     * @param defaultValue the value for records missing the field, must not be {@code null}
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public void addField(@NotNull final String field,
+                         @NotNull final T defaultValue) {
+        Preconditions.checkNotNull(field, "field must not be null");
+        Preconditions.checkNotNull(defaultValue, "defaultValue must not be null");
+        final Column<T> existing = this.columns.get(field);
+        final Object[] values;
+        if (existing == null) {
+            values = new Object[this.rowCount];
+            Arrays.fill(values, defaultValue);
+        } else {
+            values = existing.toArray(this.ops);
+            for (int row = 0; row < this.rowCount; row++) {
+                if (values[row] == null) {
+                    values[row] = defaultValue;
+                }
+            }
+        }
+        this.columns.put(field, Column.of(this.ops, values));
+    }
+
+    /**
+     * Sets a field to the same value in every record, replacing existing values.
+     *
+     * @param field the field name, must not be {@code null}
+     * @param value the value, must not be {@code null}
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public void setField(@NotNull final String field,
+                         @NotNull final T value) {
+        Preconditions.checkNotNull(field, "field must not be null");
+        Preconditions.checkNotNull(value, "value must not be null");
+        final Object[] values = new Object[this.rowCount];
+        Arrays.fill(values, value);
+        this.columns.put(field, Column.of(this.ops, values));
+    }
+
+    /**
+     * Applies a function to the value of a field in every record that contains it.
+     *
+     * @param field     the field name, must not be {@code null}
+     * @param transform the function to apply, must not be {@code null}
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public void transformField(@NotNull final String field,
+                               @NotNull final Function<Dynamic<?>, Dynamic<?>> transform) {
+        Preconditions.checkNotNull(field, "field must not be null");
+        Preconditions.checkNotNull(transform, "transform must not be null");
+        final Column<T> column = this.columns.get(field);
+        if (column == null) {
+            return;
+        }
+        final Object[] values = new Object[this.rowCount];
+        for (int row = 0; row < this.rowCount; row++) {
+            if (column.isPresent(row)) {
+                final Dynamic<?> result = transform.apply(new Dynamic<>(this.ops, column.get(row, this.ops)));
+                values[row] = result.ops() == this.ops ? result.value() : result.convert(this.ops).value();
+            }
+        }
+        this.columns.put(field, Column.of(this.ops, values));
+    }
+
+    // ==================== Internal ====================
+
+    /**
+     * Replaces the columns of this batch with those of another batch of the same size.
+     *
+     * @param other the batch whose columns to adopt
+     */
+    void replaceWith(@NotNull final RecordBatch<T> other) {
+        Preconditions.checkArgument(other.rowCount == this.rowCount, "row count mismatch");
+        this.columns.clear();
+        this.columns.putAll(other.columns);
+    }
+
+    @NotNull
+    private List<Map.Entry<T, Column<T>>> keys() {
+        final List<Map.Entry<T, Column<T>>> keys = new ArrayList<>(this.columns.size());
+        for (final Map.Entry<String, Column<T>> entry : this.columns.entrySet()) {
+            keys.add(Map.entry(this.ops.createString(entry.getKey()), entry.getValue()));
+        }
+        return keys;
+    }
+
+    @NotNull
+    private Dynamic<T> materialise(final int row,
+                                   @NotNull final List<Map.Entry<T, Column<T>>> keys) {
+        final List<Pair<T, T>> entries = new ArrayList<>(keys.size());
+        for (final Map.Entry<T, Column<T>> key : keys) {
+            final T value = key.getValue().get(row, this.ops);
+            if (value != null) {
+                entries.add(Pair.of(key.getKey(), value));
+            }
+        }
+        return new Dynamic<>(this.ops, this.ops.createMap(entries.stream()));
+    }
+
+    @Override
+    public String toString() {
+        return "RecordBatch[rows=" + this.rowCount + ", fields=" + this.columns.keySet() + "]";
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+/**
+ * Columnar batch execution of rewrite rules.
+ *
+ * <p>This package provides a struct-of-arrays representation for large batches of
+ * records of the same type, and an executor that applies single-field rules as
+ * whole-column operations instead of once per record.</p>
+ *
+ * <h2>Key Components</h2>
+ *
+ * <dl>
+ *   <dt>{@link de.splatgames.aether.datafixers.core.columnar.RecordBatch}</dt>
+ *   <dd>One column per top-level field, with primitive arrays for numeric columns</dd>
+ *
+ *   <dt>{@link de.splatgames.aether.datafixers.core.columnar.ColumnarExecutor}</dt>
+ *   <dd>Applies {@link de.splatgames.aether.datafixers.api.rewrite.FieldRewriteRule}s as
+ *   column operations and falls back to row-wise execution for all other rules</dd>
+ * </dl>
+ *
+ * @author Erik Pförtner
+ * @since 0.6.0
+ */
+package de.splatgames.aether.datafixers.core.columnar;
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.core.diagnostic;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Fixed-size summary of many {@link de.splatgames.aether.datafixers.api.diagnostic.MigrationReport}s.
+ *
+ * <p>Produced by {@link MigrationReportAggregator#snapshot()}. Its size depends on the number
+ * of distinct fixes, types and (capped) warning messages, never on the number of merged
+ * migrations.</p>
+ *
+ * @param migrations        the number of merged reports
+ * @param totalDuration     the summed migration duration
+ * @param minDuration       the shortest migration, or {@link Duration#ZERO} if empty
+ * @param maxDuration       the longest migration
+ * @param p50Duration       the median migration duration (within 12.5%)
+ * @param p99Duration       the 99th percentile migration duration (within 12.5%)
+ * @param lowestFromVersion the lowest source version seen, or {@code 0} if empty
+ * @param highestToVersion  the highest target version seen, or {@code 0} if empty
+ * @param fixes             per-fix statistics by fix name, sorted; {@link FixStatistics#failures()}
+ *                          is always {@code 0} because reports only describe completed migrations
+ * @param touchedTypes      the number of migrations that touched each type id, sorted
+ * @param ruleApplications  the total number of recorded rule applications
+ * @param warningCount      the total number of warnings
+ * @param warnings          occurrence counts of distinct warning messages, sorted and capped
+ * @param omittedWarnings   warnings whose message was not listed because the cap was reached
+ * @author Erik Pförtner
+ * @see MigrationReportAggregator
+ * @since 0.6.0
+ */
+public record AggregatedMigrationReport(
+        long migrations,
+        @NotNull Duration totalDuration,
+        @NotNull Duration minDuration,
+        @NotNull Duration maxDuration,
+        @NotNull Duration p50Duration,
+        @NotNull Duration p99Duration,
+        int lowestFromVersion,
+        int highestToVersion,
+        @NotNull Map<String, FixStatistics> fixes,
+        @NotNull Map<String, Long> touchedTypes,
+        long ruleApplications,
+        long warningCount,
+        @NotNull Map<String, Long> warnings,
+        long omittedWarnings
+) {
+
+    /**
+     * Returns the mean migration duration.
+     *
+     * @return the mean duration, or {@link Duration#ZERO} if empty
+     */
+    @NotNull
+    public Duration meanDuration() {
+        return this.migrations == 0 ? Duration.ZERO : this.totalDuration.dividedBy(this.migrations);
+    }
+
+    /**
+     * Returns whether any merged report contained warnings.
+     *
+     * @return {@code true} if there were warnings
+     */
+    public boolean hasWarnings() {
+        return this.warningCount > 0;
+    }
+
+    /**
+     * Returns a human-readable multi-line summary.
+     *
+     * @return the summary, never {@code null}
+     */
+    @NotNull
+    public String toSummary() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Migrations: %d (v%d -> v%d), total %dms, mean %dms, p50 %dms, p99 %dms, max %dms",
+                this.migrations, this.lowestFromVersion, this.highestToVersion,
+                this.totalDuration.toMillis(), this.meanDuration().toMillis(), this.p50Duration.toMillis(),
+                this.p99Duration.toMillis(), this.maxDuration.toMillis()));
+        this.fixes.values().forEach(fix -> sb.append(String.format(
+                "%n  Fix %s: %d applications, mean %dms, p99 %dms, max %dms",
+                fix.fixName(), fix.samples(), fix.mean().toMillis(), fix.p99().toMillis(), fix.max().toMillis())));
+        this.touchedTypes.forEach((type, count) -> sb.append(String.format("%n  Type %s: %d", type, count)));
+        if (this.hasWarnings()) {
+            sb.append(String.format("%n  Warnings: %d", this.warningCount));
+            this.warnings.forEach((message, count) -> sb.append(String.format("%n    %dx %s", count, message)));
+            if (this.omittedWarnings > 0) {
+                sb.append(String.format("%n    (%d more not listed)", this.omittedWarnings));
+            }
+        }
+        return sb.toString();
+    }
+}
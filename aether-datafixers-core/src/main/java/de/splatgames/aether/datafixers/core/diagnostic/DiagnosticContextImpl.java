@@ -30,8 +30,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.ArrayDeque;
 import java.util.List;
 
 /**
@@ -40,6 +39,13 @@ import java.util.List;
  * <p>This implementation captures all diagnostic events during migration
  * and produces a {@link MigrationReport} when {@link #getReport()} is called.</p>
  *
+ * <h2>Log Retention</h2>
+ * <p>Log entries are kept in a ring buffer of {@link DiagnosticOptions#maxLogEntries()}
+ * entries. When it is full, the oldest entry is evicted and counted in
+ * {@link #droppedLogCount()}, so fixes that log per record cannot grow the context without
+ * bound. The report keeps the first {@code maxLogEntries} warnings; later ones are counted
+ * in {@link #droppedWarningCount()}.</p>
+ *
  * <h2>Thread Safety</h2>
  * <p>This implementation is designed for single-threaded use during a single
  * migration operation. It is not thread-safe for concurrent modifications.</p>
@@ -53,7 +59,10 @@ public final class DiagnosticContextImpl implements DiagnosticContext {
 
     private final DiagnosticOptions options;
     private final MigrationReportImpl.BuilderImpl reportBuilder;
-    private final List<LogEntry> logs;
+    private final ArrayDeque<LogEntry> logs;
+    private long droppedLogs;
+    private int reportedWarnings;
+    private long droppedWarnings;
     private MigrationReport cachedReport;
 
     /**
@@ -67,23 +76,38 @@ public final class DiagnosticContextImpl implements DiagnosticContext {
 
         this.options = options;
         this.reportBuilder = MigrationReportImpl.builder();
-        this.logs = new ArrayList<>();
+        this.logs = new ArrayDeque<>();
         this.cachedReport = null;
     }
 
     @Override
     public void info(@NotNull final String message, @Nullable final Object... args) {
         Preconditions.checkNotNull(message, "message must not be null");
-        this.logs.add(new LogEntry(LogLevel.INFO, message, args));
+        this.append(new LogEntry(LogLevel.INFO, message, args));
     }
 
     @Override
     public void warn(@NotNull final String message, @Nullable final Object... args) {
         Preconditions.checkNotNull(message, "message must not be null");
-        this.logs.add(new LogEntry(LogLevel.WARN, message, args));
+        this.append(new LogEntry(LogLevel.WARN, message, args));
+        final int max = this.options.maxLogEntries();
+        if (max > 0 && this.reportedWarnings >= max) {
+            this.droppedWarnings++;
+            return;
+        }
+        this.reportedWarnings++;
         this.reportBuilder.addWarning(formatMessage(message, args));
     }
 
+    private void append(@NotNull final LogEntry entry) {
+        final int max = this.options.maxLogEntries();
+        if (max > 0 && this.logs.size() >= max) {
+            this.logs.pollFirst();
+            this.droppedLogs++;
+        }
+        this.logs.addLast(entry);
+    }
+
     @Override
     public boolean isDiagnosticEnabled() {
         return true;
@@ -115,13 +139,16 @@ public final class DiagnosticContextImpl implements DiagnosticContext {
     }
 
     /**
-     * Returns all log entries recorded during migration.
+     * Returns the retained log entries, oldest first.
+     *
+     * <p>If more than {@link DiagnosticOptions#maxLogEntries()} entries were logged,
+     * only the most recent ones are returned.</p>
      *
-     * @return unmodifiable list of log entries
+     * @return unmodifiable snapshot of the retained log entries
      */
     @NotNull
     public List<LogEntry> logs() {
-        return Collections.unmodifiableList(this.logs);
+        return List.copyOf(this.logs);
     }
 
     /**
@@ -185,7 +212,7 @@ public final class DiagnosticContextImpl implements DiagnosticContext {
     }
 
     /**
-     * Returns the number of log entries.
+     * Returns the number of retained log entries.
      *
      * @return log count
      */
@@ -193,6 +220,27 @@ public final class DiagnosticContextImpl implements DiagnosticContext {
         return this.logs.size();
     }
 
+    /**
+     * Returns the number of log entries evicted because the ring buffer was full.
+     *
+     * @return the dropped entry count
+     * @since 0.6.0
+     */
+    public long droppedLogCount() {
+        return this.droppedLogs;
+    }
+
+    /**
+     * Returns the number of warnings left out of the report because it already held
+     * {@link DiagnosticOptions#maxLogEntries()} warnings.
+     *
+     * @return the dropped warning count
+     * @since 0.6.0
+     */
+    public long droppedWarningCount() {
+        return this.droppedWarnings;
+    }
+
     /**
      * Checks if no logs have been recorded.
      *
@@ -210,6 +258,7 @@ public final class DiagnosticContextImpl implements DiagnosticContext {
      */
     public void clear() {
         this.logs.clear();
+        this.droppedLogs = 0;
         this.cachedReport = null;
     }
 
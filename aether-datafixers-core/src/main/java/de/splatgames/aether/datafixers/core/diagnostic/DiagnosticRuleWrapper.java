@@ -94,8 +94,9 @@ public final class DiagnosticRuleWrapper implements TypeRewriteRule {
         }
 
         final Instant start = Instant.now();
+        final long startNanos = System.nanoTime();
         final Optional<Typed<?>> result = this.delegate.rewrite(type, input);
-        final Duration duration = Duration.between(start, Instant.now());
+        final Duration duration = Duration.ofNanos(System.nanoTime() - startNanos);
 
         final RuleApplication application = new RuleApplication(
                 this.delegate.toString(),
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.core.diagnostic;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Aggregated timing statistics for one fix, collected by a {@link SamplingDiagnosticContext}
+ * or a {@link MigrationReportAggregator}.
+ *
+ * <p>Counts and totals cover every sampled application of the fix. A sampling context
+ * estimates percentiles from the most recent durations held in the fix's ring buffer; an
+ * aggregator estimates them from a histogram of all merged applications.</p>
+ *
+ * @param fixName  the name of the fix
+ * @param samples  the number of sampled applications
+ * @param failures the number of sampled applications that threw
+ * @param total    the summed duration of all sampled applications
+ * @param min      the shortest sampled duration
+ * @param max      the longest sampled duration
+ * @param p50      the median of the recent durations
+ * @param p99      the 99th percentile of the recent durations
+ * @author Erik Pförtner
+ * @see SamplingDiagnosticContext#statistics()
+ * @see MigrationReportAggregator#snapshot()
+ * @since 0.6.0
+ */
+public record FixStatistics(
+        @NotNull String fixName,
+        long samples,
+        long failures,
+        @NotNull Duration total,
+        @NotNull Duration min,
+        @NotNull Duration max,
+        @NotNull Duration p50,
+        @NotNull Duration p99
+) {
+
+    /**
+     * Returns the mean duration of the sampled applications.
+     *
+     * @return the mean duration, or {@link Duration#ZERO} if nothing was sampled
+     */
+    @NotNull
+    public Duration mean() {
+        return this.samples == 0 ? Duration.ZERO : this.total.dividedBy(this.samples);
+    }
+}
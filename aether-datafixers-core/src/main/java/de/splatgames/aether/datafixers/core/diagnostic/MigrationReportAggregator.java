@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.core.diagnostic;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.diagnostic.FixExecution;
+import de.splatgames.aether.datafixers.api.diagnostic.MigrationReport;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Merges any number of {@link MigrationReport}s into a fixed-size {@link AggregatedMigrationReport}.
+ *
+ * <p>Collecting thousands of full reports keeps every fix execution, rule application and
+ * snapshot alive. This aggregator folds each report into counters and log-linear duration
+ * histograms as soon as it is added, so the report itself can be discarded:</p>
+ * <ul>
+ *   <li>Migration and per-fix durations are kept as count, total, min, max and a histogram
+ *       from which p50 and p99 are estimated within 12.5%.</li>
+ *   <li>Touched types are counted per type id.</li>
+ *   <li>Warnings are counted per distinct message, up to a configurable number of distinct
+ *       messages; further messages are only counted.</li>
+ * </ul>
+ *
+ * <p>Memory therefore grows with the number of distinct fixes, types and warning messages,
+ * never with the number of migrations.</p>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * MigrationReportAggregator aggregator = new MigrationReportAggregator();
+ *
+ * for (Dynamic<?> input : inputs) {
+ *     DiagnosticContext context = DiagnosticContext.create(DiagnosticOptions.minimal());
+ *     fixer.update(type, input, from, to, context);
+ *     aggregator.add(context.getReport());
+ * }
+ *
+ * System.out.println(aggregator.snapshot().toSummary());
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is thread-safe. Parallel migrations may share one aggregator.</p>
+ *
+ * @author Erik Pförtner
+ * @see AggregatedMigrationReport
+ * @since 0.6.0
+ */
+public final class MigrationReportAggregator {
+
+    /**
+     * The default maximum number of distinct warning messages that are listed.
+     */
+    public static final int DEFAULT_MAX_DISTINCT_WARNINGS = 100;
+
+    private final int maxDistinctWarnings;
+    private final DurationRecorder migrations;
+    private final ConcurrentHashMap<String, DurationRecorder> fixes;
+    private final ConcurrentHashMap<String, LongAdder> touchedTypes;
+    private final ConcurrentHashMap<String, LongAdder> warnings;
+    private final AtomicInteger distinctWarnings;
+    private final LongAdder warningCount;
+    private final LongAdder omittedWarnings;
+    private final LongAdder ruleApplications;
+    private final LongAccumulator lowestFromVersion;
+    private final LongAccumulator highestToVersion;
+
+    /**
+     * Creates an aggregator listing up to {@link #DEFAULT_MAX_DISTINCT_WARNINGS} distinct warnings.
+     */
+    public MigrationReportAggregator() {
+        this(DEFAULT_MAX_DISTINCT_WARNINGS);
+    }
+
+    /**
+     * Creates an aggregator.
+     *
+     * @param maxDistinctWarnings the maximum number of distinct warning messages to list, must not be negative
+     * @throws IllegalArgumentException if maxDistinctWarnings is negative
+     */
+    public MigrationReportAggregator(final int maxDistinctWarnings) {
+        Preconditions.checkArgument(maxDistinctWarnings >= 0, "maxDistinctWarnings must not be negative");
+        this.maxDistinctWarnings = maxDistinctWarnings;
+        this.migrations = new DurationRecorder();
+        this.fixes = new ConcurrentHashMap<>();
+        this.touchedTypes = new ConcurrentHashMap<>();
+        this.warnings = new ConcurrentHashMap<>();
+        this.distinctWarnings = new AtomicInteger();
+        this.warningCount = new LongAdder();
+        this.omittedWarnings = new LongAdder();
+        this.ruleApplications = new LongAdder();
+        this.lowestFromVersion = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        this.highestToVersion = new LongAccumulator(Math::max, Long.MIN_VALUE);
+    }
+
+    /**
+     * Merges a report into this aggregate.
+     *
+     * @param report the report to merge, must not be {@code null}
+     * @throws NullPointerException if report is {@code null}
+     */
+    public void add(@NotNull final MigrationReport report) {
+        Preconditions.checkNotNull(report, "report must not be null");
+
+        this.migrations.record(report.totalDuration().toNanos());
+        this.lowestFromVersion.accumulate(report.fromVersion().getVersion());
+        this.highestToVersion.accumulate(report.toVersion().getVersion());
+
+        for (final FixExecution execution : report.fixExecutions()) {
+            recorder(this.fixes, execution.fixName()).record(execution.duration().toNanos());
+            this.ruleApplications.add(execution.ruleCount());
+        }
+        for (final TypeReference type : report.touchedTypes()) {
+            counter(this.touchedTypes, type.getId()).increment();
+        }
+        for (final String warning : report.warnings()) {
+            this.addWarning(warning);
+        }
+    }
+
+    private void addWarning(@NotNull final String message) {
+        this.warningCount.increment();
+        final LongAdder existing = this.warnings.get(message);
+        if (existing != null) {
+            existing.increment();
+            return;
+        }
+        if (this.distinctWarnings.get() >= this.maxDistinctWarnings) {
+            this.omittedWarnings.increment();
+            return;
+        }
+        this.warnings.computeIfAbsent(message, key -> {
+            if (this.distinctWarnings.getAndIncrement() >= this.maxDistinctWarnings) {
+                this.distinctWarnings.decrementAndGet();
+                return null;
+            }
+            return new LongAdder();
+        });
+        final LongAdder adder = this.warnings.get(message);
+        if (adder != null) {
+            adder.increment();
+        } else {
+            this.omittedWarnings.increment();
+        }
+    }
+
+    @NotNull
+    private static DurationRecorder recorder(@NotNull final ConcurrentHashMap<String, DurationRecorder> map,
+                                             @NotNull final String key) {
+        final DurationRecorder existing = map.get(key);
+        return existing != null ? existing : map.computeIfAbsent(key, k -> new DurationRecorder());
+    }
+
+    @NotNull
+    private static LongAdder counter(@NotNull final ConcurrentHashMap<String, LongAdder> map,
+                                     @NotNull final String key) {
+        final LongAdder existing = map.get(key);
+        return existing != null ? existing : map.computeIfAbsent(key, k -> new LongAdder());
+    }
+
+    /**
+     * Returns the number of merged reports.
+     *
+     * @return the migration count
+     */
+    public long migrationCount() {
+        return this.migrations.count.sum();
+    }
+
+    /**
+     * Returns a snapshot of the aggregate.
+     *
+     * <p>Reports added concurrently with this call may be partially included.</p>
+     *
+     * @return the aggregated report, never {@code null}
+     */
+    @NotNull
+    public AggregatedMigrationReport snapshot() {
+        final long count = this.migrations.count.sum();
+
+        final TreeMap<String, FixStatistics> fixStatistics = new TreeMap<>();
+        this.fixes.forEach((name, recorder) -> fixStatistics.put(name, recorder.toStatistics(name)));
+
+        final TreeMap<String, Long> types = new TreeMap<>();
+        this.touchedTypes.forEach((type, adder) -> types.put(type, adder.sum()));
+
+        final TreeMap<String, Long> warningCounts = new TreeMap<>();
+        this.warnings.forEach((message, adder) -> warningCounts.put(message, adder.sum()));
+
+        return new AggregatedMigrationReport(
+                count,
+                Duration.ofNanos(this.migrations.totalNanos.sum()),
+                Duration.ofNanos(count == 0 ? 0L : this.migrations.minNanos.get()),
+                Duration.ofNanos(this.migrations.maxNanos.get()),
+                Duration.ofNanos(this.migrations.histogram.valueAt(0.50)),
+                Duration.ofNanos(this.migrations.histogram.valueAt(0.99)),
+                count == 0 ? 0 : (int) this.lowestFromVersion.get(),
+                count == 0 ? 0 : (int) this.highestToVersion.get(),
+                Collections.unmodifiableMap(fixStatistics),
+                Collections.unmodifiableMap(types),
+                this.ruleApplications.sum(),
+                this.warningCount.sum(),
+                Collections.unmodifiableMap(warningCounts),
+                this.omittedWarnings.sum()
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "MigrationReportAggregator[migrations=" + this.migrationCount()
+                + ", fixes=" + this.fixes.size() + ", warnings=" + this.warningCount.sum() + "]";
+    }
+
+    /**
+     * Lock-free duration accumulator backed by a fixed-size histogram.
+     */
+    private static final class DurationRecorder {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator minNanos = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+        private final DurationHistogram histogram = new DurationHistogram();
+
+        private void record(final long nanos) {
+            this.count.increment();
+            this.totalNanos.add(nanos);
+            this.minNanos.accumulate(nanos);
+            this.maxNanos.accumulate(nanos);
+            this.histogram.record(nanos);
+        }
+
+        @NotNull
+        private FixStatistics toStatistics(@NotNull final String name) {
+            final long samples = this.count.sum();
+            return new FixStatistics(
+                    name,
+                    samples,
+                    0L,
+                    Duration.ofNanos(this.totalNanos.sum()),
+                    Duration.ofNanos(samples == 0 ? 0L : this.minNanos.get()),
+                    Duration.ofNanos(this.maxNanos.get()),
+                    Duration.ofNanos(this.histogram.valueAt(0.50)),
+                    Duration.ofNanos(this.histogram.valueAt(0.99))
+            );
+        }
+    }
+}
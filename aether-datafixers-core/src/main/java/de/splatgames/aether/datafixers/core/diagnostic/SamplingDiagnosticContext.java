@@ -0,0 +1,472 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.core.diagnostic;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.diagnostic.DiagnosticContext;
+import de.splatgames.aether.datafixers.api.diagnostic.DiagnosticOptions;
+import de.splatgames.aether.datafixers.api.diagnostic.MigrationReport;
+import de.splatgames.aether.datafixers.api.diagnostic.RuleApplication;
+import de.splatgames.aether.datafixers.api.fix.DataFix;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link DiagnosticContext} that aggregates sampled per-fix timing statistics.
+ *
+ * <p>This context is created by {@link DiagnosticContext#create(DiagnosticOptions)} when
+ * the options carry a {@link DiagnosticOptions.Sampling} configuration. It is designed to
+ * stay enabled in production:</p>
+ * <ul>
+ *   <li>Only sampled migrations are timed; all others run on the plain fast path.</li>
+ *   <li>Timing uses {@link System#nanoTime()} and rules are not wrapped.</li>
+ *   <li>Statistics are aggregated per fix with {@link LongAdder}s and a fixed-size ring
+ *       buffer of recent durations, so memory does not grow with the number of migrations.</li>
+ * </ul>
+ *
+ * <p>Because no per-migration report is built, {@link #isDiagnosticEnabled()} returns
+ * {@code false}, {@link #reportBuilder()} returns a builder that discards everything and
+ * {@link #getReport()} returns an empty report. Use {@link #statistics()} instead. Log messages are counted, not stored, and the fixed-arity
+ * {@code info}/{@code warn} overloads do not allocate.</p>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * SamplingDiagnosticContext sampler = (SamplingDiagnosticContext) DiagnosticContext.create(
+ *     DiagnosticOptions.sampled(DiagnosticOptions.Sampling.everyNth(100)));
+ *
+ * // share the context across all production migrations
+ * fixer.update(type, input, from, to, sampler);
+ *
+ * sampler.statistics().forEach((fix, stats) -> log.info("{}: p99={}", fix, stats.p99()));
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is thread-safe and intended to be shared across concurrent migrations.</p>
+ *
+ * @author Erik Pförtner
+ * @see DiagnosticOptions#sampled(DiagnosticOptions.Sampling)
+ * @see FixStatistics
+ * @since 0.6.0
+ */
+public final class SamplingDiagnosticContext implements DiagnosticContext {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    /**
+     * The type of the empty report returned by {@link #getReport()}.
+     */
+    public static final TypeReference EMPTY_REPORT_TYPE = new TypeReference("sampled");
+
+    private static final MigrationReport EMPTY_REPORT = MigrationReportImpl.builder()
+            .startMigration(EMPTY_REPORT_TYPE, new DataVersion(0), new DataVersion(0))
+            .build();
+
+    private final DiagnosticOptions options;
+    private final DiagnosticOptions.Sampling sampling;
+    private final ConcurrentHashMap<String, FixRecorder> fixes;
+    private final AtomicLong migrations;
+    private final LongAdder sampledMigrations;
+    private final LongAdder infoCount;
+    private final LongAdder warnCount;
+    private final AtomicLong windowStart;
+    private final AtomicLong windowCount;
+
+    /**
+     * Creates a new sampling context.
+     *
+     * @param options the diagnostic options, must not be {@code null} and must carry a sampling configuration
+     * @throws NullPointerException     if options is {@code null}
+     * @throws IllegalArgumentException if options has no sampling configuration
+     */
+    public SamplingDiagnosticContext(@NotNull final DiagnosticOptions options) {
+        Preconditions.checkNotNull(options, "options must not be null");
+        Preconditions.checkArgument(options.isSampling(), "options must carry a sampling configuration");
+
+        this.options = options;
+        this.sampling = options.sampling();
+        this.fixes = new ConcurrentHashMap<>();
+        this.migrations = new AtomicLong();
+        this.sampledMigrations = new LongAdder();
+        this.infoCount = new LongAdder();
+        this.warnCount = new LongAdder();
+        this.windowStart = new AtomicLong(System.nanoTime());
+        this.windowCount = new AtomicLong();
+    }
+
+    // ==================== Sampling ====================
+
+    /**
+     * Decides whether the migration that is about to start should be sampled.
+     *
+     * <p>Called once per migration by the data fixer. Each call counts as one migration.</p>
+     *
+     * @return {@code true} if the migration should be timed
+     */
+    public boolean sample() {
+        final long n = this.migrations.getAndIncrement();
+        if (n % this.sampling.everyNth() != 0) {
+            return false;
+        }
+        if (this.sampling.maxPerSecond() > 0 && !this.acquirePermit()) {
+            return false;
+        }
+        this.sampledMigrations.increment();
+        return true;
+    }
+
+    private boolean acquirePermit() {
+        final long now = System.nanoTime();
+        final long start = this.windowStart.get();
+        if (now - start >= NANOS_PER_SECOND && this.windowStart.compareAndSet(start, now)) {
+            this.windowCount.set(0);
+        }
+        return this.windowCount.incrementAndGet() <= this.sampling.maxPerSecond();
+    }
+
+    /**
+     * Records the duration of a successful fix application in a sampled migration.
+     *
+     * @param fixName the fix name, must not be {@code null}
+     * @param nanos   the duration in nanoseconds
+     */
+    public void recordFix(@NotNull final String fixName, final long nanos) {
+        Preconditions.checkNotNull(fixName, "fixName must not be null");
+        this.recorder(fixName).record(nanos);
+    }
+
+    /**
+     * Records a failed fix application in a sampled migration.
+     *
+     * @param fixName the fix name, must not be {@code null}
+     * @param nanos   the time until the failure in nanoseconds
+     */
+    public void recordFailure(@NotNull final String fixName, final long nanos) {
+        Preconditions.checkNotNull(fixName, "fixName must not be null");
+        final FixRecorder recorder = this.recorder(fixName);
+        recorder.failures.increment();
+        recorder.record(nanos);
+    }
+
+    @NotNull
+    private FixRecorder recorder(@NotNull final String fixName) {
+        final FixRecorder existing = this.fixes.get(fixName);
+        if (existing != null) {
+            return existing;
+        }
+        return this.fixes.computeIfAbsent(fixName, name -> new FixRecorder(this.sampling.ringBufferSize()));
+    }
+
+    // ==================== Statistics ====================
+
+    /**
+     * Returns the aggregated statistics of all sampled fixes, sorted by fix name.
+     *
+     * @return an immutable snapshot of the statistics, never {@code null}
+     */
+    @NotNull
+    public Map<String, FixStatistics> statistics() {
+        final TreeMap<String, FixStatistics> result = new TreeMap<>();
+        this.fixes.forEach((name, recorder) -> result.put(name, recorder.snapshot(name)));
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Returns the number of migrations seen by this context.
+     *
+     * @return the migration count
+     */
+    public long migrationCount() {
+        return this.migrations.get();
+    }
+
+    /**
+     * Returns the number of migrations that were sampled.
+     *
+     * @return the sampled migration count
+     */
+    public long sampledCount() {
+        return this.sampledMigrations.sum();
+    }
+
+    /**
+     * Returns the number of info messages logged through this context.
+     *
+     * @return the info message count
+     */
+    public long infoCount() {
+        return this.infoCount.sum();
+    }
+
+    /**
+     * Returns the number of warnings logged through this context.
+     *
+     * @return the warning count
+     */
+    public long warnCount() {
+        return this.warnCount.sum();
+    }
+
+    /**
+     * Discards all collected statistics and counters and starts a new rate-limit window.
+     */
+    public void reset() {
+        this.fixes.clear();
+        this.migrations.set(0);
+        this.sampledMigrations.reset();
+        this.infoCount.reset();
+        this.warnCount.reset();
+        this.windowStart.set(System.nanoTime());
+        this.windowCount.set(0);
+    }
+
+    // ==================== DiagnosticContext ====================
+
+    @Override
+    public void info(@NotNull final String message, @Nullable final Object... args) {
+        Preconditions.checkNotNull(message, "message must not be null");
+        this.infoCount.increment();
+    }
+
+    @Override
+    public void warn(@NotNull final String message, @Nullable final Object... args) {
+        Preconditions.checkNotNull(message, "message must not be null");
+        this.warnCount.increment();
+    }
+
+    @Override
+    public void info(@NotNull final String message) {
+        this.info(message, (Object[]) null);
+    }
+
+    @Override
+    public void info(@NotNull final String message, @Nullable final Object arg) {
+        this.info(message, (Object[]) null);
+    }
+
+    @Override
+    public void info(@NotNull final String message, @Nullable final Object arg1, @Nullable final Object arg2) {
+        this.info(message, (Object[]) null);
+    }
+
+    @Override
+    public void warn(@NotNull final String message) {
+        this.warn(message, (Object[]) null);
+    }
+
+    @Override
+    public void warn(@NotNull final String message, @Nullable final Object arg) {
+        this.warn(message, (Object[]) null);
+    }
+
+    @Override
+    public void warn(@NotNull final String message, @Nullable final Object arg1, @Nullable final Object arg2) {
+        this.warn(message, (Object[]) null);
+    }
+
+    /**
+     * Returns {@code false}: sampling contexts do not build per-migration reports.
+     *
+     * @return {@code false}
+     */
+    @Override
+    public boolean isDiagnosticEnabled() {
+        return false;
+    }
+
+    /**
+     * Returns a builder that discards everything; sampling contexts do not build reports.
+     *
+     * @return the shared discarding builder, never {@code null}
+     */
+    @Override
+    @NotNull
+    public MigrationReport.Builder reportBuilder() {
+        return DiscardingReportBuilder.INSTANCE;
+    }
+
+    /**
+     * Returns an empty report of type {@link #EMPTY_REPORT_TYPE} from version 0 to 0, without
+     * fixes or warnings; use {@link #statistics()} for the sampled data.
+     *
+     * @return the shared empty report, never {@code null}
+     */
+    @Override
+    @NotNull
+    public MigrationReport getReport() {
+        return EMPTY_REPORT;
+    }
+
+    @Override
+    @NotNull
+    public DiagnosticOptions options() {
+        return this.options;
+    }
+
+    @Override
+    public String toString() {
+        return "SamplingDiagnosticContext[" + this.sampling + ", migrations=" + this.migrations.get()
+                + ", sampled=" + this.sampledMigrations.sum() + "]";
+    }
+
+    /**
+     * Report builder that ignores every event and builds the empty report.
+     */
+    private enum DiscardingReportBuilder implements MigrationReport.Builder {
+
+        INSTANCE;
+
+        @Override
+        @NotNull
+        public MigrationReport.Builder startMigration(@NotNull final TypeReference type,
+                                                      @NotNull final DataVersion fromVersion,
+                                                      @NotNull final DataVersion toVersion) {
+            return this;
+        }
+
+        @Override
+        @NotNull
+        public MigrationReport.Builder setInputSnapshot(@Nullable final String snapshot) {
+            return this;
+        }
+
+        @Override
+        @NotNull
+        public MigrationReport.Builder startFix(@NotNull final DataFix<?> fix) {
+            return this;
+        }
+
+        @Override
+        @NotNull
+        public MigrationReport.Builder setFixBeforeSnapshot(@Nullable final String snapshot) {
+            return this;
+        }
+
+        @Override
+        @NotNull
+        public MigrationReport.Builder recordRuleApplication(@NotNull final RuleApplication application) {
+            return this;
+        }
+
+        @Override
+        @NotNull
+        public MigrationReport.Builder endFix(@NotNull final DataFix<?> fix,
+                                              @NotNull final Duration duration,
+                                              @Nullable final String afterSnapshot) {
+            return this;
+        }
+
+        @Override
+        @NotNull
+        public MigrationReport.Builder addTouchedType(@NotNull final TypeReference type) {
+            return this;
+        }
+
+        @Override
+        @NotNull
+        public MigrationReport.Builder addWarning(@NotNull final String message) {
+            return this;
+        }
+
+        @Override
+        @NotNull
+        public MigrationReport.Builder setOutputSnapshot(@Nullable final String snapshot) {
+            return this;
+        }
+
+        @Override
+        @NotNull
+        public MigrationReport build() {
+            return EMPTY_REPORT;
+        }
+    }
+
+    /**
+     * Lock-free per-fix accumulator with a ring buffer of recent durations.
+     */
+    private static final class FixRecorder {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator minNanos = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+        private final AtomicLongArray recent;
+        private final AtomicLong cursor = new AtomicLong();
+
+        private FixRecorder(final int ringBufferSize) {
+            this.recent = new AtomicLongArray(ringBufferSize);
+        }
+
+        private void record(final long nanos) {
+            this.count.increment();
+            this.totalNanos.add(nanos);
+            this.minNanos.accumulate(nanos);
+            this.maxNanos.accumulate(nanos);
+            final long slot = this.cursor.getAndIncrement() % this.recent.length();
+            this.recent.set((int) slot, nanos);
+        }
+
+        @NotNull
+        private FixStatistics snapshot(@NotNull final String name) {
+            final long samples = this.count.sum();
+            final int filled = (int) Math.min(this.cursor.get(), this.recent.length());
+            final long[] sorted = new long[filled];
+            for (int i = 0; i < filled; i++) {
+                sorted[i] = this.recent.get(i);
+            }
+            Arrays.sort(sorted);
+            return new FixStatistics(
+                    name,
+                    samples,
+                    this.failures.sum(),
+                    Duration.ofNanos(this.totalNanos.sum()),
+                    Duration.ofNanos(samples == 0 ? 0L : this.minNanos.get()),
+                    Duration.ofNanos(this.maxNanos.get()),
+                    Duration.ofNanos(percentile(sorted, 0.50)),
+                    Duration.ofNanos(percentile(sorted, 0.99))
+            );
+        }
+
+        private static long percentile(final long[] sorted, final double quantile) {
+            if (sorted.length == 0) {
+                return 0L;
+            }
+            final int index = (int) Math.ceil(quantile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+        }
+    }
+}
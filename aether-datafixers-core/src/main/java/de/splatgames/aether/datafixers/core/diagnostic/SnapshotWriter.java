@@ -0,0 +1,356 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.core.diagnostic;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.dynamic.DynamicOps;
+import de.splatgames.aether.datafixers.api.util.Pair;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * Writes bounded, streaming snapshots of dynamic values for migration diagnostics.
+ *
+ * <p>Snapshots are rendered as compact JSON by walking the value through its
+ * {@link DynamicOps}, independent of the value's own {@code toString()}. Output goes
+ * through a length-limited {@link Appendable}: as soon as the limit is reached the walk
+ * stops, so capturing a 1 KB snapshot of a 50 MB document only visits the first
+ * kilobyte of it.</p>
+ *
+ * <h2>Diffs</h2>
+ * <p>{@link #diff(Dynamic, Dynamic, int)} renders the structural difference between two
+ * values instead of two full snapshots, one change per line:</p>
+ * <pre>{@code
+ * + health: 100
+ * - playerName
+ * ~ level: 10 -> 11
+ * }</pre>
+ * <p>Maps are compared key by key and recursively; any other differing value, including
+ * lists, is reported as a whole.</p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is stateless and thread-safe.</p>
+ *
+ * @author Erik Pförtner
+ * @since 0.6.0
+ */
+public final class SnapshotWriter {
+
+    /**
+     * Suffix appended to snapshots that were cut off at the length limit.
+     */
+    public static final String TRUNCATION_SUFFIX = "... (truncated)";
+
+    private SnapshotWriter() {
+        // utility class
+    }
+
+    // ==================== Snapshots ====================
+
+    /**
+     * Renders a bounded snapshot of a value.
+     *
+     * @param dynamic   the value to render, must not be {@code null}
+     * @param maxLength the maximum number of characters before {@link #TRUNCATION_SUFFIX}, {@code 0} for unlimited
+     * @param <T>       the underlying data format type
+     * @return the snapshot, never {@code null}
+     * @throws NullPointerException     if dynamic is {@code null}
+     * @throws IllegalArgumentException if maxLength is negative
+     */
+    @NotNull
+    public static <T> String snapshot(@NotNull final Dynamic<T> dynamic, final int maxLength) {
+        Preconditions.checkNotNull(dynamic, "dynamic must not be null");
+        Preconditions.checkArgument(maxLength >= 0, "maxLength must be non-negative");
+        final StringBuilder sb = new StringBuilder(maxLength > 0 ? Math.min(maxLength, 1024) : 256);
+        if (!write(dynamic.ops(), dynamic.value(), sb, maxLength)) {
+            sb.append(TRUNCATION_SUFFIX);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Streams a value as compact JSON to an {@link Appendable}, stopping at a length limit.
+     *
+     * @param ops       the format operations, must not be {@code null}
+     * @param value     the value to write, must not be {@code null}
+     * @param out       the destination, must not be {@code null}
+     * @param maxLength the maximum number of characters to write, {@code 0} for unlimited
+     * @param <T>       the underlying data format type
+     * @return {@code true} if the value was written completely, {@code false} if it was cut off
+     * @throws NullPointerException     if any argument is {@code null}
+     * @throws IllegalArgumentException if maxLength is negative
+     * @throws UncheckedIOException     if {@code out} throws an {@link IOException}
+     */
+    public static <T> boolean write(@NotNull final DynamicOps<T> ops,
+                                    @NotNull final T value,
+                                    @NotNull final Appendable out,
+                                    final int maxLength) {
+        Preconditions.checkNotNull(ops, "ops must not be null");
+        Preconditions.checkNotNull(value, "value must not be null");
+        Preconditions.checkNotNull(out, "out must not be null");
+        Preconditions.checkArgument(maxLength >= 0, "maxLength must be non-negative");
+        final Limited limited = new Limited(out, maxLength);
+        try {
+            writeValue(ops, value, limited);
+            return true;
+        } catch (final LimitReached e) {
+            return false;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // ==================== Diffs ====================
+
+    /**
+     * Renders the structural difference between two values.
+     *
+     * @param before    the value before the change, must not be {@code null}
+     * @param after     the value after the change, converted to the ops of {@code before} if needed,
+     *                  must not be {@code null}
+     * @param maxLength the maximum number of characters before {@link #TRUNCATION_SUFFIX}, {@code 0} for unlimited
+     * @param <T>       the underlying data format type
+     * @return the diff, empty if the values are equal, never {@code null}
+     * @throws NullPointerException     if any argument is {@code null}
+     * @throws IllegalArgumentException if maxLength is negative
+     */
+    @NotNull
+    public static <T> String diff(@NotNull final Dynamic<T> before,
+                                  @NotNull final Dynamic<?> after,
+                                  final int maxLength) {
+        Preconditions.checkNotNull(before, "before must not be null");
+        Preconditions.checkNotNull(after, "after must not be null");
+        Preconditions.checkArgument(maxLength >= 0, "maxLength must be non-negative");
+        final T afterValue = valueIn(before.ops(), after);
+        final StringBuilder sb = new StringBuilder();
+        final Limited limited = new Limited(sb, maxLength);
+        try {
+            diffValue(before.ops(), "", before.value(), afterValue, limited);
+        } catch (final LimitReached e) {
+            sb.append(TRUNCATION_SUFFIX);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return sb.toString();
+    }
+
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private static <T, U> T valueIn(@NotNull final DynamicOps<T> ops, @NotNull final Dynamic<U> dynamic) {
+        if (dynamic.ops() == ops) {
+            return (T) dynamic.value();
+        }
+        return ops.convertTo(dynamic.ops(), dynamic.value());
+    }
+
+    private static <T> void diffValue(@NotNull final DynamicOps<T> ops,
+                                      @NotNull final String path,
+                                      @NotNull final T before,
+                                      @NotNull final T after,
+                                      @NotNull final Limited out) throws IOException {
+        if (before == after || before.equals(after)) {
+            return;
+        }
+        if (ops.isMap(before) && ops.isMap(after)) {
+            final Map<String, T> left = entries(ops, before);
+            final Map<String, T> right = entries(ops, after);
+            for (final Map.Entry<String, T> entry : left.entrySet()) {
+                final String childPath = path.isEmpty() ? entry.getKey() : path + "." + entry.getKey();
+                final T other = right.get(entry.getKey());
+                if (other == null) {
+                    out.append("- ").append(childPath).append('\n');
+                } else {
+                    diffValue(ops, childPath, entry.getValue(), other, out);
+                }
+            }
+            for (final Map.Entry<String, T> entry : right.entrySet()) {
+                if (!left.containsKey(entry.getKey())) {
+                    final String childPath = path.isEmpty() ? entry.getKey() : path + "." + entry.getKey();
+                    out.append("+ ").append(childPath).append(": ");
+                    writeValue(ops, entry.getValue(), out);
+                    out.append('\n');
+                }
+            }
+            return;
+        }
+        out.append("~ ").append(path.isEmpty() ? "$" : path).append(": ");
+        writeValue(ops, before, out);
+        out.append(" -> ");
+        writeValue(ops, after, out);
+        out.append('\n');
+    }
+
+    @NotNull
+    private static <T> Map<String, T> entries(@NotNull final DynamicOps<T> ops, @NotNull final T map) {
+        final Map<String, T> entries = new LinkedHashMap<>();
+        ops.getMapEntries(map).result().ifPresent(stream -> stream.forEach(pair ->
+                entries.put(keyString(ops, pair.first()), pair.second())));
+        return entries;
+    }
+
+    // ==================== Rendering ====================
+
+    private static <T> void writeValue(@NotNull final DynamicOps<T> ops,
+                                       @Nullable final T value,
+                                       @NotNull final Limited out) throws IOException {
+        if (value == null) {
+            out.append("null");
+        } else if (ops.isMap(value)) {
+            out.append('{');
+            final Stream<Pair<T, T>> entries = ops.getMapEntries(value).result().orElseGet(Stream::empty);
+            final Iterator<Pair<T, T>> it = entries.iterator();
+            boolean first = true;
+            while (it.hasNext()) {
+                final Pair<T, T> entry = it.next();
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                writeString(keyString(ops, entry.first()), out);
+                out.append(':');
+                writeValue(ops, entry.second(), out);
+            }
+            out.append('}');
+        } else if (ops.isList(value)) {
+            out.append('[');
+            final Iterator<T> it = ops.getList(value).result().orElseGet(Stream::empty).iterator();
+            boolean first = true;
+            while (it.hasNext()) {
+                if (!first) {
+                    out.append(',');
+                }
+                first = false;
+                writeValue(ops, it.next(), out);
+            }
+            out.append(']');
+        } else if (ops.isString(value)) {
+            writeString(ops.getStringValue(value).result().orElse(""), out);
+        } else if (ops.isNumber(value)) {
+            out.append(Objects.toString(ops.getNumberValue(value).result().orElse(null)));
+        } else if (ops.isBoolean(value)) {
+            out.append(Objects.toString(ops.getBooleanValue(value).result().orElse(null)));
+        } else {
+            out.append("null");
+        }
+    }
+
+    @NotNull
+    private static <T> String keyString(@NotNull final DynamicOps<T> ops, @NotNull final T key) {
+        return ops.getStringValue(key).result().orElseGet(key::toString);
+    }
+
+    private static void writeString(@NotNull final String value, @NotNull final Limited out) throws IOException {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+
+    /**
+     * An {@link Appendable} that forwards at most {@code limit} characters and then aborts the walk.
+     */
+    private static final class Limited implements Appendable {
+
+        private final Appendable delegate;
+        private final int limit;
+        private int written;
+
+        private Limited(@NotNull final Appendable delegate, final int limit) {
+            this.delegate = delegate;
+            this.limit = limit;
+        }
+
+        @Override
+        public Limited append(final CharSequence csq) throws IOException {
+            final CharSequence s = csq == null ? "null" : csq;
+            return this.append(s, 0, s.length());
+        }
+
+        @Override
+        public Limited append(final CharSequence csq, final int start, final int end) throws IOException {
+            final CharSequence s = csq == null ? "null" : csq;
+            if (this.limit == 0) {
+                this.delegate.append(s, start, end);
+                return this;
+            }
+            final int remaining = this.limit - this.written;
+            final int length = end - start;
+            if (length <= remaining) {
+                this.delegate.append(s, start, end);
+                this.written += length;
+                return this;
+            }
+            this.delegate.append(s, start, start + remaining);
+            this.written = this.limit;
+            throw LimitReached.INSTANCE;
+        }
+
+        @Override
+        public Limited append(final char c) throws IOException {
+            if (this.limit != 0 && this.written >= this.limit) {
+                throw LimitReached.INSTANCE;
+            }
+            this.delegate.append(c);
+            this.written++;
+            return this;
+        }
+    }
+
+    /**
+     * Stackless signal used to unwind the walk once the limit is reached.
+     */
+    private static final class LimitReached extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+        private static final LimitReached INSTANCE = new LimitReached();
+
+        private LimitReached() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -39,6 +39,20 @@
  *
  *   <dt>{@link de.splatgames.aether.datafixers.core.diagnostic.DiagnosticRuleWrapper}</dt>
  *   <dd>A rule wrapper that captures diagnostic events during rule application</dd>
+ *
+ *   <dt>{@link de.splatgames.aether.datafixers.core.diagnostic.SamplingDiagnosticContext}</dt>
+ *   <dd>A low-overhead context that aggregates sampled per-fix statistics
+ *   ({@link de.splatgames.aether.datafixers.core.diagnostic.FixStatistics})</dd>
+ *
+ *   <dt>{@link de.splatgames.aether.datafixers.core.diagnostic.MigrationReportAggregator}</dt>
+ *   <dd>Merges many reports into a fixed-size
+ *   {@link de.splatgames.aether.datafixers.core.diagnostic.AggregatedMigrationReport}</dd>
+ *
+ *   <dt>{@link de.splatgames.aether.datafixers.core.diagnostic.SnapshotWriter}</dt>
+ *   <dd>Bounded streaming snapshots and structural diffs of migrated data</dd>
+ *
+ *   <dt>{@link de.splatgames.aether.datafixers.core.diagnostic.DurationHistogram}</dt>
+ *   <dd>A lock-free latency histogram with bounded relative error</dd>
  * </dl>
  *
  * @author Erik Pförtner
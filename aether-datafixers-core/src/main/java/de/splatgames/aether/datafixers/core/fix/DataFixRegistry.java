@@ -31,9 +31,11 @@ import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
+import java.util.Set;
 import java.util.TreeMap;
 
 /**
@@ -172,6 +174,42 @@ public final class DataFixRegistry {
         return Collections.unmodifiableList(result);
     }
 
+    /**
+     * Gets every registered fix, each distinct instance once.
+     *
+     * <p>Fixes are returned per type in version order; a fix registered for several types
+     * appears only at its first occurrence.</p>
+     *
+     * @return an immutable list of all fixes, never {@code null}
+     * @since 0.6.0
+     */
+    @NotNull
+    public List<DataFix<?>> getAllFixes() {
+        final Set<DataFix<?>> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        final List<DataFix<?>> fixes = new ArrayList<>();
+        for (final NavigableMap<DataVersion, List<DataFix<?>>> fixesByVersion : this.fixesByType.values()) {
+            for (final List<DataFix<?>> versionFixes : fixesByVersion.values()) {
+                for (final DataFix<?> fix : versionFixes) {
+                    if (seen.add(fix)) {
+                        fixes.add(fix);
+                    }
+                }
+            }
+        }
+        return Collections.unmodifiableList(fixes);
+    }
+
+    /**
+     * Gets every type that has at least one registered fix.
+     *
+     * @return an immutable set of type references, never {@code null}
+     * @since 0.6.0
+     */
+    @NotNull
+    public Set<TypeReference> getTypes() {
+        return Set.copyOf(this.fixesByType.keySet());
+    }
+
     /**
      * Checks if any fixes exist in a version range (exclusive start).
      *
@@ -29,7 +29,9 @@ import de.splatgames.aether.datafixers.api.fix.DataFix;
 import de.splatgames.aether.datafixers.api.fix.DataFixer;
 import de.splatgames.aether.datafixers.api.fix.DataFixerContext;
 import de.splatgames.aether.datafixers.api.fix.FixRegistrar;
+import de.splatgames.aether.datafixers.api.rewrite.RewriteMemo;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -55,6 +57,14 @@ import java.util.List;
  * which logs to {@code System.out}. Use {@link #withDefaultContext(DataFixerContext)}
  * to provide a custom logging context.</p>
  *
+ * <h2>Memoization</h2>
+ * <p>{@link #withRewriteMemo(RewriteMemo)} enables fix-level memoization: a fix applied
+ * to an input equal to one it has already migrated returns the cached result.</p>
+ *
+ * <h2>Instrumentation</h2>
+ * <p>{@link #withMigrationListener(MigrationListener)} registers callbacks for per-fix and
+ * per-migration timings; {@link #withFlightRecorderEvents(boolean)} emits JFR events.</p>
+ *
  * <h2>Fix Registration</h2>
  * <p>Fixes can be registered using:</p>
  * <ul>
@@ -75,6 +85,11 @@ public final class DataFixerBuilder implements FixRegistrar {
     private final DataVersion currentVersion;
     private final DataFixRegistry registry;
     private DataFixerContext defaultContext;
+    @Nullable
+    private RewriteMemo rewriteMemo;
+    private boolean flightRecorderEvents;
+    @Nullable
+    private MigrationListener migrationListener;
 
     /**
      * Creates a new builder for the specified current version.
@@ -104,6 +119,68 @@ public final class DataFixerBuilder implements FixRegistrar {
         return this;
     }
 
+    /**
+     * Enables fix-level memoization with the given memo.
+     *
+     * <p>When set, the built fixer looks up each fix application by (fix, type, input) and
+     * reuses the result for inputs it has already migrated. All registered fixes must be
+     * deterministic. Memoization is bypassed while diagnostics are captured, and cached
+     * applications do not repeat the log output of the fix. Pass the same memo to
+     * {@link de.splatgames.aether.datafixers.api.rewrite.TypeRewriteRule#memoized(RewriteMemo)}
+     * to also deduplicate subtrees inside a fix.</p>
+     *
+     * @param memo the memo to use, must not be {@code null}
+     * @return this builder for chaining
+     * @throws NullPointerException if memo is {@code null}
+     * @since 0.6.0
+     */
+    @NotNull
+    public DataFixerBuilder withRewriteMemo(@NotNull final RewriteMemo memo) {
+        Preconditions.checkNotNull(memo, "memo must not be null");
+        this.rewriteMemo = memo;
+        return this;
+    }
+
+    /**
+     * Enables or disables JDK Flight Recorder events.
+     *
+     * <p>When enabled, the built fixer emits a
+     * {@link de.splatgames.aether.datafixers.core.jfr.MigrationEvent} per update and a
+     * {@link de.splatgames.aether.datafixers.core.jfr.FixEvent} per applied fix, provided the
+     * events are enabled in the active recording. Without a recording only JFR's enabled
+     * check runs. Disabled by default.</p>
+     *
+     * @param enabled {@code true} to emit events
+     * @return this builder for chaining
+     * @since 0.6.0
+     */
+    @NotNull
+    public DataFixerBuilder withFlightRecorderEvents(final boolean enabled) {
+        this.flightRecorderEvents = enabled;
+        return this;
+    }
+
+    /**
+     * Adds a listener notified about skipped updates, applied fixes and completed migrations.
+     *
+     * <p>Calling this method more than once combines the listeners; they are notified in
+     * registration order. Fix durations are only measured while a listener (or diagnostics)
+     * is active.</p>
+     *
+     * @param listener the listener to add, must not be {@code null}
+     * @return this builder for chaining
+     * @throws NullPointerException if listener is {@code null}
+     * @since 0.6.0
+     */
+    @NotNull
+    public DataFixerBuilder withMigrationListener(@NotNull final MigrationListener listener) {
+        Preconditions.checkNotNull(listener, "listener must not be null");
+        this.migrationListener = this.migrationListener == null
+                ? listener
+                : this.migrationListener.andThen(listener);
+        return this;
+    }
+
     /**
      * Registers a single data fix (interface method).
      *
@@ -202,7 +279,8 @@ public final class DataFixerBuilder implements FixRegistrar {
     @NotNull
     public DataFixer build() {
         this.registry.freeze();
-        return new DataFixerImpl(this.currentVersion, this.registry, this.defaultContext);
+        return new DataFixerImpl(this.currentVersion, this.registry, this.defaultContext,
+                this.rewriteMemo, this.flightRecorderEvents, this.migrationListener);
     }
 
     /**
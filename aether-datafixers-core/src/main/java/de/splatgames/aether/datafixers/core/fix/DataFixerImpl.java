@@ -31,11 +31,16 @@ import de.splatgames.aether.datafixers.api.exception.FixException;
 import de.splatgames.aether.datafixers.api.fix.DataFix;
 import de.splatgames.aether.datafixers.api.fix.DataFixer;
 import de.splatgames.aether.datafixers.api.fix.DataFixerContext;
+import de.splatgames.aether.datafixers.api.rewrite.RewriteMemo;
+import de.splatgames.aether.datafixers.core.diagnostic.SamplingDiagnosticContext;
+import de.splatgames.aether.datafixers.core.diagnostic.SnapshotWriter;
+import de.splatgames.aether.datafixers.core.jfr.FixEvent;
+import de.splatgames.aether.datafixers.core.jfr.MigrationEvent;
+import de.splatgames.aether.datafixers.core.jfr.RuleEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.time.Duration;
-import java.time.Instant;
 import java.util.List;
 
 /**
@@ -54,6 +59,16 @@ import java.util.List;
  *   <li>Applies each fix in sequence, passing results through</li>
  * </ol>
  *
+ * <p>A {@link SamplingDiagnosticContext} is asked once per update whether to sample it;
+ * for sampled updates each fix is timed with {@link System#nanoTime()} and recorded.</p>
+ *
+ * <p>When built with JFR events enabled, each update emits a {@link MigrationEvent}, each
+ * applied fix a {@link FixEvent} and each {@link SchemaDataFix} rule application a
+ * {@link RuleEvent}, subject to the active recording's settings.</p>
+ *
+ * <p>If a {@link RewriteMemo} is configured, fix applications outside of diagnostic
+ * runs are memoized by (fix, type, input).</p>
+ *
  * <h2>Creation</h2>
  * <p>Instances are typically created via {@link DataFixerBuilder#build()}.</p>
  *
@@ -71,6 +86,11 @@ public final class DataFixerImpl implements DataFixer {
     private final DataVersion currentVersion;
     private final DataFixRegistry registry;
     private final DataFixerContext defaultContext;
+    @Nullable
+    private final RewriteMemo rewriteMemo;
+    private final boolean flightRecorderEvents;
+    @Nullable
+    private final MigrationListener listener;
 
     /**
      * Creates a new data fixer implementation.
@@ -84,6 +104,32 @@ public final class DataFixerImpl implements DataFixer {
             @NotNull final DataVersion currentVersion,
             @NotNull final DataFixRegistry registry,
             @NotNull final DataFixerContext defaultContext
+    ) {
+        this(currentVersion, registry, defaultContext, null, false, null);
+    }
+
+    /**
+     * Creates a new data fixer implementation with optional memoization, JFR events and listener.
+     *
+     * <p>Package-private so that the optional features can grow without breaking callers;
+     * use {@link DataFixerBuilder} to configure them.</p>
+     *
+     * @param currentVersion       the current (latest) data version, must not be {@code null}
+     * @param registry             the fix registry to retrieve fixes from, must not be {@code null}
+     * @param defaultContext       the default context for logging, must not be {@code null}
+     * @param rewriteMemo          the memo for fix results, or {@code null} to disable memoization
+     * @param flightRecorderEvents whether to emit {@link MigrationEvent}s and {@link FixEvent}s
+     * @param listener             the listener to notify about updates, or {@code null} for none
+     * @throws NullPointerException if any required argument is {@code null}
+     * @since 0.6.0
+     */
+    DataFixerImpl(
+            @NotNull final DataVersion currentVersion,
+            @NotNull final DataFixRegistry registry,
+            @NotNull final DataFixerContext defaultContext,
+            @Nullable final RewriteMemo rewriteMemo,
+            final boolean flightRecorderEvents,
+            @Nullable final MigrationListener listener
     ) {
         Preconditions.checkNotNull(currentVersion, "currentVersion must not be null");
         Preconditions.checkNotNull(registry, "registry must not be null");
@@ -92,6 +138,9 @@ public final class DataFixerImpl implements DataFixer {
         this.currentVersion = currentVersion;
         this.registry = registry;
         this.defaultContext = defaultContext;
+        this.rewriteMemo = rewriteMemo;
+        this.flightRecorderEvents = flightRecorderEvents;
+        this.listener = listener;
     }
 
     @Override
@@ -100,6 +149,32 @@ public final class DataFixerImpl implements DataFixer {
         return this.currentVersion;
     }
 
+    /**
+     * Builds the rewrite rules of all registered {@link SchemaDataFix}es ahead of their
+     * first application.
+     *
+     * <p>A fix whose rule cannot be built is skipped; the error surfaces again on its first
+     * application.</p>
+     *
+     * @return the number of fixes whose rule was built
+     * @see SchemaDataFix#prepare()
+     * @since 0.6.0
+     */
+    public int prepareFixes() {
+        int prepared = 0;
+        for (final DataFix<?> fix : this.registry.getAllFixes()) {
+            if (fix instanceof SchemaDataFix schemaFix) {
+                try {
+                    schemaFix.prepare();
+                    prepared++;
+                } catch (final RuntimeException e) {
+                    // Reported by apply() when the fix is first used
+                }
+            }
+        }
+        return prepared;
+    }
+
     @Override
     @NotNull
     public <T> Dynamic<T> update(
@@ -129,25 +204,96 @@ public final class DataFixerImpl implements DataFixer {
         Preconditions.checkNotNull(fromVersion, "fromVersion must not be null");
         Preconditions.checkNotNull(toVersion, "toVersion must not be null");
         Preconditions.checkNotNull(ctx, "ctx must not be null");
+        return this.update(type, input, fromVersion, toVersion, ctx, true);
+    }
+
+    /**
+     * Migrates a synthetic warm-up document without observing the migration.
+     *
+     * <p>Works like {@link #update(TypeReference, Dynamic, DataVersion, DataVersion, DataFixerContext)},
+     * but does not notify the {@link MigrationListener}, emits no JFR events and neither
+     * reads nor fills the {@link RewriteMemo}. Warm-up traffic therefore does not show up in
+     * production metrics, observations or recordings, and does not displace memoized
+     * results of real documents.</p>
+     *
+     * @param type        the type reference of the data, must not be {@code null}
+     * @param input       the synthetic input, must not be {@code null}
+     * @param fromVersion the source version, must not be {@code null}
+     * @param toVersion   the target version, must not be {@code null}
+     * @param ctx         the context for fix logging, must not be {@code null}
+     * @param <T>         the underlying data format type
+     * @return the migrated data, never {@code null}
+     * @throws NullPointerException     if any argument is {@code null}
+     * @throws IllegalArgumentException if the version range is invalid
+     * @throws FixException             if a fix fails
+     * @see de.splatgames.aether.datafixers.core.warmup.WarmUpRunner
+     * @since 0.6.0
+     */
+    @NotNull
+    public <T> Dynamic<T> warmUpUpdate(
+            @NotNull final TypeReference type,
+            @NotNull final Dynamic<T> input,
+            @NotNull final DataVersion fromVersion,
+            @NotNull final DataVersion toVersion,
+            @NotNull final DataFixerContext ctx
+    ) {
+        Preconditions.checkNotNull(type, "type must not be null");
+        Preconditions.checkNotNull(input, "input must not be null");
+        Preconditions.checkNotNull(fromVersion, "fromVersion must not be null");
+        Preconditions.checkNotNull(toVersion, "toVersion must not be null");
+        Preconditions.checkNotNull(ctx, "ctx must not be null");
+        return this.update(type, input, fromVersion, toVersion, ctx, false);
+    }
 
+    @NotNull
+    private <T> Dynamic<T> update(
+            @NotNull final TypeReference type,
+            @NotNull final Dynamic<T> input,
+            @NotNull final DataVersion fromVersion,
+            @NotNull final DataVersion toVersion,
+            @NotNull final DataFixerContext ctx,
+            final boolean observed
+    ) {
         Preconditions.checkArgument(fromVersion.compareTo(toVersion) <= 0, "fromVersion must be <= toVersion");
         Preconditions.checkArgument(toVersion.compareTo(this.currentVersion) <= 0, "toVersion must be <= currentVersion");
 
+        final MigrationListener listener = observed ? this.listener : null;
+        final RewriteMemo rewriteMemo = observed ? this.rewriteMemo : null;
+        final boolean flightRecorderEvents = observed && this.flightRecorderEvents;
         if (fromVersion.compareTo(toVersion) == 0) {
+            if (listener != null) {
+                try {
+                    listener.onMigrationSkipped(type, fromVersion);
+                } catch (final RuntimeException e) {
+                    observerFailed(ctx, "Migration listener", e);
+                }
+            }
             return input;
         }
 
         // Check if diagnostics are enabled
         final DiagnosticContext diagCtx = (ctx instanceof DiagnosticContext dc && dc.isDiagnosticEnabled())
                 ? dc : null;
+        final SamplingDiagnosticContext sampler = (ctx instanceof SamplingDiagnosticContext sc && sc.sample())
+                ? sc : null;
+
+        final boolean captureSnapshots = diagCtx != null && diagCtx.options().captureSnapshots();
+        final boolean diffSnapshots = captureSnapshots && diagCtx.options().diffSnapshots();
+        // Snapshot of 'current', reused as the next fix's before snapshot; null when stale
+        String currentSnapshot = null;
 
         if (diagCtx != null) {
             diagCtx.reportBuilder().startMigration(type, fromVersion, toVersion);
-            if (diagCtx.options().captureSnapshots()) {
-                diagCtx.reportBuilder().setInputSnapshot(serializeSnapshot(input, diagCtx));
+            if (captureSnapshots) {
+                currentSnapshot = serializeSnapshot(input, diagCtx);
+                diagCtx.reportBuilder().setInputSnapshot(currentSnapshot);
             }
         }
 
+        final MigrationEvent migrationEvent = flightRecorderEvents ? MigrationEvent.beginIfEnabled() : null;
+        final long migrationStart = listener != null ? System.nanoTime() : 0L;
+        int appliedFixes = 0;
+
         final List<DataFix<?>> fixes = this.registry.getFixes(type, fromVersion, toVersion);
 
         @SuppressWarnings("unchecked")
@@ -165,30 +311,58 @@ public final class DataFixerImpl implements DataFixer {
             final DataFix<Object> untypedFix = (DataFix<Object>) fix;
 
             // Capture diagnostic events if enabled
-            final Instant fixStart = diagCtx != null ? Instant.now() : null;
-            String beforeSnapshot = null;
+            final Dynamic<Object> fixBefore = current;
 
             if (diagCtx != null) {
                 diagCtx.reportBuilder().startFix(fix);
-                if (diagCtx.options().captureSnapshots()) {
-                    beforeSnapshot = serializeSnapshot(current, diagCtx);
-                    diagCtx.reportBuilder().setFixBeforeSnapshot(beforeSnapshot);
+                if (captureSnapshots && !diffSnapshots) {
+                    if (currentSnapshot == null) {
+                        currentSnapshot = serializeSnapshot(current, diagCtx);
+                    }
+                    diagCtx.reportBuilder().setFixBeforeSnapshot(currentSnapshot);
+                }
+            }
+
+            if (listener != null) {
+                try {
+                    listener.onFixStarted(type, fix);
+                } catch (final RuntimeException e) {
+                    observerFailed(ctx, "Migration listener", e);
                 }
             }
+            final long fixStart = diagCtx != null || sampler != null || listener != null ? System.nanoTime() : 0L;
+            final FixEvent fixEvent = migrationEvent != null ? FixEvent.beginIfEnabled() : null;
 
             try {
-                current = untypedFix.apply(type, current, ctx);
+                if (rewriteMemo != null && diagCtx == null) {
+                    final Dynamic<Object> fixInput = current;
+                    current = rewriteMemo.memoize(fix, type, fixInput,
+                            () -> applyFix(untypedFix, type, fixInput, ctx, flightRecorderEvents));
+                } else {
+                    current = applyFix(untypedFix, type, current, ctx, flightRecorderEvents);
+                }
                 Preconditions.checkNotNull(current, "Fix '%s' returned null".formatted(fix.name()));
 
                 if (diagCtx != null) {
-                    final Duration duration = Duration.between(fixStart, Instant.now());
-                    final String afterSnapshot = diagCtx.options().captureSnapshots()
-                            ? serializeSnapshot(current, diagCtx) : null;
+                    final Duration duration = Duration.ofNanos(System.nanoTime() - fixStart);
+                    String afterSnapshot = null;
+                    if (diffSnapshots) {
+                        afterSnapshot = SnapshotWriter.diff(
+                                fixBefore, current, diagCtx.options().maxSnapshotLength());
+                        currentSnapshot = null;
+                    } else if (captureSnapshots) {
+                        afterSnapshot = serializeSnapshot(current, diagCtx);
+                        currentSnapshot = afterSnapshot;
+                    }
                     diagCtx.reportBuilder().endFix(fix, duration, afterSnapshot);
                 }
             } catch (final FixException e) {
+                recordFailure(sampler, listener, fixEvent, migrationEvent, type, fix, fixStart,
+                        fromVersion, toVersion, appliedFixes, input, e);
                 throw e; // Re-throw FixException as-is
             } catch (final Exception e) {
+                recordFailure(sampler, listener, fixEvent, migrationEvent, type, fix, fixStart,
+                        fromVersion, toVersion, appliedFixes, input, e);
                 throw new FixException(
                         "Fix '" + fix.name() + "' failed: " + e.getMessage(),
                         fix.name(),
@@ -198,21 +372,146 @@ public final class DataFixerImpl implements DataFixer {
                         e
                 );
             }
+            appliedFixes++;
+
+            // Observers run outside the fix's try block: their failures must not fail the fix
+            if (fixEvent != null) {
+                try {
+                    fixEvent.complete(type, fix, current);
+                } catch (final RuntimeException e) {
+                    observerFailed(ctx, "JFR fix event", e);
+                }
+            }
+            if (sampler != null) {
+                try {
+                    sampler.recordFix(fix.name(), System.nanoTime() - fixStart);
+                } catch (final RuntimeException e) {
+                    observerFailed(ctx, "Diagnostic sampler", e);
+                }
+            }
+            if (listener != null) {
+                try {
+                    listener.onFixApplied(type, fix, System.nanoTime() - fixStart);
+                } catch (final RuntimeException e) {
+                    observerFailed(ctx, "Migration listener", e);
+                }
+            }
         }
 
         @SuppressWarnings("unchecked")
         final Dynamic<T> result = (Dynamic<T>) current;
 
-        if (diagCtx != null && diagCtx.options().captureSnapshots()) {
-            diagCtx.reportBuilder().setOutputSnapshot(serializeSnapshot(result, diagCtx));
+        if (captureSnapshots) {
+            diagCtx.reportBuilder().setOutputSnapshot(
+                    currentSnapshot != null ? currentSnapshot : serializeSnapshot(result, diagCtx));
+        }
+        if (migrationEvent != null) {
+            try {
+                migrationEvent.complete(type, fromVersion, toVersion, appliedFixes, input, result);
+            } catch (final RuntimeException e) {
+                observerFailed(ctx, "JFR migration event", e);
+            }
+        }
+        if (listener != null) {
+            try {
+                listener.onMigrationCompleted(
+                        type, fromVersion, toVersion, appliedFixes, System.nanoTime() - migrationStart);
+            } catch (final RuntimeException e) {
+                observerFailed(ctx, "Migration listener", e);
+            }
         }
 
         return result;
     }
 
+    /**
+     * Applies a fix, letting a {@link SchemaDataFix} emit rule events if the update emits JFR
+     * events.
+     */
+    @NotNull
+    private static Dynamic<Object> applyFix(
+            @NotNull final DataFix<Object> fix,
+            @NotNull final TypeReference type,
+            @NotNull final Dynamic<Object> input,
+            @NotNull final DataFixerContext ctx,
+            final boolean flightRecorderEvents
+    ) {
+        if (flightRecorderEvents && fix instanceof SchemaDataFix schemaFix) {
+            return schemaFix.apply(type, input, ctx, true);
+        }
+        return fix.apply(type, input, ctx);
+    }
+
+    /**
+     * Records a failed fix in the sampling context, listener and JFR events, if active.
+     *
+     * <p>Exceptions thrown by these observers are added to {@code error} as suppressed
+     * exceptions, so that the fix's own error is the one that propagates.</p>
+     */
+    private static void recordFailure(
+            @Nullable final SamplingDiagnosticContext sampler,
+            @Nullable final MigrationListener listener,
+            @Nullable final FixEvent fixEvent,
+            @Nullable final MigrationEvent migrationEvent,
+            @NotNull final TypeReference type,
+            @NotNull final DataFix<?> fix,
+            final long fixStart,
+            @NotNull final DataVersion fromVersion,
+            @NotNull final DataVersion toVersion,
+            final int appliedFixes,
+            @NotNull final Dynamic<?> input,
+            @NotNull final Exception error
+    ) {
+        if (sampler != null) {
+            try {
+                sampler.recordFailure(fix.name(), System.nanoTime() - fixStart);
+            } catch (final RuntimeException e) {
+                error.addSuppressed(e);
+            }
+        }
+        if (listener != null) {
+            try {
+                listener.onFixFailed(type, fix, System.nanoTime() - fixStart, error);
+            } catch (final RuntimeException e) {
+                error.addSuppressed(e);
+            }
+        }
+        if (fixEvent != null) {
+            try {
+                fixEvent.complete(type, fix, null);
+            } catch (final RuntimeException e) {
+                error.addSuppressed(e);
+            }
+        }
+        if (migrationEvent != null) {
+            try {
+                migrationEvent.complete(type, fromVersion, toVersion, appliedFixes, input, null);
+            } catch (final RuntimeException e) {
+                error.addSuppressed(e);
+            }
+        }
+    }
+
+    /**
+     * Reports an exception thrown by a listener, sampler or JFR event to the context.
+     *
+     * <p>Observers only watch a migration; an exception they throw is logged as a warning
+     * instead of failing the fix that was being observed.</p>
+     */
+    private static void observerFailed(
+            @NotNull final DataFixerContext ctx,
+            @NotNull final String observer,
+            @NotNull final RuntimeException error
+    ) {
+        ctx.warn(observer + " failed: " + error);
+    }
+
     /**
      * Serializes a Dynamic value to a snapshot string for diagnostics.
      *
+     * <p>Serialization streams through a length-limited writer and stops at
+     * {@link de.splatgames.aether.datafixers.api.diagnostic.DiagnosticOptions#maxSnapshotLength()}.</p>
+     *
      * @param dynamic the dynamic value to serialize
      * @param ctx     the diagnostic context for options
      * @param <T>     the dynamic type
@@ -225,14 +524,7 @@ public final class DataFixerImpl implements DataFixer {
     ) {
         Preconditions.checkNotNull(dynamic, "dynamic must not be null");
         Preconditions.checkNotNull(ctx, "ctx must not be null");
-        String snapshot = dynamic.value().toString();
-
-        final int maxLength = ctx.options().maxSnapshotLength();
-        if (maxLength > 0 && snapshot.length() > maxLength) {
-            snapshot = snapshot.substring(0, maxLength) + "... (truncated)";
-        }
-
-        return snapshot;
+        return SnapshotWriter.snapshot(dynamic, ctx.options().maxSnapshotLength());
     }
 
 }
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.core.fix;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.fix.DataFix;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Callback interface notified by {@link DataFixerImpl} about the progress of each update.
+ *
+ * <p>Listeners are the hook for external instrumentation such as metrics registries. They
+ * receive per-fix and per-migration durations measured inside the fixer, so consumers do not
+ * have to wrap the whole {@code update} call to time it. All methods have empty default
+ * implementations; implement only the callbacks you need.</p>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * DataFixer fixer = new DataFixerBuilder(new DataVersion(5))
+ *     .withMigrationListener(new MigrationListener() {
+ *         @Override
+ *         public void onFixApplied(TypeReference type, DataFix<?> fix, long durationNanos) {
+ *             fixTimers.get(fix.name()).record(durationNanos, TimeUnit.NANOSECONDS);
+ *         }
+ *     })
+ *     .addFix(TypeReferences.PLAYER, new RenamePlayerNameFix())
+ *     .build();
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>A fixer may be used from many threads at once, so implementations must be
+ * thread-safe. Callbacks run synchronously on the migrating thread and should be cheap.</p>
+ *
+ * <h2>Exceptions</h2>
+ * <p>A listener cannot fail a migration. An exception thrown by a callback is logged as a
+ * warning on the update's {@link de.splatgames.aether.datafixers.api.fix.DataFixerContext};
+ * one thrown from {@link #onFixFailed} is added as suppressed to the fix's error.</p>
+ *
+ * @author Erik Pförtner
+ * @see DataFixerBuilder#withMigrationListener(MigrationListener)
+ * @since 0.6.0
+ */
+public interface MigrationListener {
+
+    /**
+     * Called when an update is requested for data that is already at the target version.
+     *
+     * @param type    the type reference of the data, never {@code null}
+     * @param version the version the data is already at, never {@code null}
+     */
+    default void onMigrationSkipped(@NotNull final TypeReference type, @NotNull final DataVersion version) {
+    }
+
+    /**
+     * Called right before a fix is applied.
+     *
+     * <p>Every call is followed by exactly one {@link #onFixApplied} or {@link #onFixFailed}
+     * for the same fix on the same thread, which lets listeners open a scope (for example a
+     * tracing span) around the fix.</p>
+     *
+     * @param type the type reference of the data, never {@code null}
+     * @param fix  the fix about to be applied, never {@code null}
+     */
+    default void onFixStarted(@NotNull final TypeReference type, @NotNull final DataFix<?> fix) {
+    }
+
+    /**
+     * Called after a fix has been applied successfully.
+     *
+     * @param type          the type reference of the data, never {@code null}
+     * @param fix           the applied fix, never {@code null}
+     * @param durationNanos the time spent in the fix, in nanoseconds
+     */
+    default void onFixApplied(
+            @NotNull final TypeReference type,
+            @NotNull final DataFix<?> fix,
+            final long durationNanos
+    ) {
+    }
+
+    /**
+     * Called when a fix throws. The update is aborted afterwards.
+     *
+     * @param type          the type reference of the data, never {@code null}
+     * @param fix           the failing fix, never {@code null}
+     * @param durationNanos the time spent in the fix until it failed, in nanoseconds
+     * @param error         the exception thrown by the fix, never {@code null}
+     */
+    default void onFixFailed(
+            @NotNull final TypeReference type,
+            @NotNull final DataFix<?> fix,
+            final long durationNanos,
+            @NotNull final Throwable error
+    ) {
+    }
+
+    /**
+     * Called after all fixes of an update have been applied successfully.
+     *
+     * @param type          the type reference of the data, never {@code null}
+     * @param fromVersion   the source version, never {@code null}
+     * @param toVersion     the target version, never {@code null}
+     * @param appliedFixes  the number of fixes that were applied
+     * @param durationNanos the time spent in the update, in nanoseconds
+     */
+    default void onMigrationCompleted(
+            @NotNull final TypeReference type,
+            @NotNull final DataVersion fromVersion,
+            @NotNull final DataVersion toVersion,
+            final int appliedFixes,
+            final long durationNanos
+    ) {
+    }
+
+    /**
+     * Returns a listener that notifies this listener and then {@code next}.
+     *
+     * @param next the listener to notify second, must not be {@code null}
+     * @return the combined listener, never {@code null}
+     * @throws NullPointerException if next is {@code null}
+     */
+    @NotNull
+    default MigrationListener andThen(@NotNull final MigrationListener next) {
+        Preconditions.checkNotNull(next, "next must not be null");
+        final MigrationListener first = this;
+        return new MigrationListener() {
+            @Override
+            public void onMigrationSkipped(@NotNull final TypeReference type, @NotNull final DataVersion version) {
+                first.onMigrationSkipped(type, version);
+                next.onMigrationSkipped(type, version);
+            }
+
+            @Override
+            public void onFixStarted(@NotNull final TypeReference type, @NotNull final DataFix<?> fix) {
+                first.onFixStarted(type, fix);
+                next.onFixStarted(type, fix);
+            }
+
+            @Override
+            public void onFixApplied(
+                    @NotNull final TypeReference type,
+                    @NotNull final DataFix<?> fix,
+                    final long durationNanos
+            ) {
+                first.onFixApplied(type, fix, durationNanos);
+                next.onFixApplied(type, fix, durationNanos);
+            }
+
+            @Override
+            public void onFixFailed(
+                    @NotNull final TypeReference type,
+                    @NotNull final DataFix<?> fix,
+                    final long durationNanos,
+                    @NotNull final Throwable error
+            ) {
+                first.onFixFailed(type, fix, durationNanos, error);
+                next.onFixFailed(type, fix, durationNanos, error);
+            }
+
+            @Override
+            public void onMigrationCompleted(
+                    @NotNull final TypeReference type,
+                    @NotNull final DataVersion fromVersion,
+                    @NotNull final DataVersion toVersion,
+                    final int appliedFixes,
+                    final long durationNanos
+            ) {
+                first.onMigrationCompleted(type, fromVersion, toVersion, appliedFixes, durationNanos);
+                next.onMigrationCompleted(type, fromVersion, toVersion, appliedFixes, durationNanos);
+            }
+        };
+    }
+}
@@ -35,7 +35,9 @@ import de.splatgames.aether.datafixers.api.schema.SchemaRegistry;
 import de.splatgames.aether.datafixers.api.type.Type;
 import de.splatgames.aether.datafixers.api.type.Typed;
 import de.splatgames.aether.datafixers.core.diagnostic.DiagnosticRuleWrapper;
+import de.splatgames.aether.datafixers.core.jfr.RuleEvent;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * An abstract base class for data fixes that use schema-based type rewrite rules.
@@ -71,8 +73,14 @@ import org.jetbrains.annotations.NotNull;
  * <p>The {@link #makeRule(Schema, Schema)} method receives both the input and
  * output schemas, allowing access to type definitions for both versions.</p>
  *
+ * <h2>Rule Caching</h2>
+ * <p>The rule is built once, on the first {@link #apply} or an explicit {@link #prepare()},
+ * and reused for every later application. {@code makeRule} must therefore depend only on
+ * the two schemas, not on per-call state.</p>
+ *
  * <h2>Thread Safety</h2>
- * <p>Subclasses should be stateless and thread-safe.</p>
+ * <p>Subclasses should be stateless and thread-safe. Concurrent first applications may
+ * each build the rule; one of the equivalent rules is kept.</p>
  *
  * @author Erik Pförtner
  * @see DataFix
@@ -86,6 +94,8 @@ public abstract class SchemaDataFix implements DataFix<Object> {
     private final DataVersion from;
     private final DataVersion to;
     private final SchemaRegistry schemas;
+    @Nullable
+    private volatile TypeRewriteRule rule;
 
     /**
      * Creates a new schema-based data fix.
@@ -144,27 +154,54 @@ public abstract class SchemaDataFix implements DataFix<Object> {
             @NotNull Schema outputSchema
     );
 
+    /**
+     * Builds and caches the rewrite rule of this fix ahead of its first application.
+     *
+     * <p>Calling this method is optional; {@link #apply} builds the rule on demand. It is
+     * idempotent and used by warm-up to move rule construction out of the first migration.</p>
+     *
+     * @since 0.6.0
+     */
+    public final void prepare() {
+        this.rule();
+    }
+
     @Override
     public final @NotNull Dynamic<Object> apply(
             @NotNull final TypeReference type,
             @NotNull final Dynamic<Object> input,
             @NotNull final DataFixerContext context
+    ) {
+        return this.apply(type, input, context, false);
+    }
+
+    /**
+     * Applies this fix, optionally emitting a {@link RuleEvent} for the rule application.
+     *
+     * @param ruleEvents whether the fixer was built with JFR events
+     */
+    @NotNull
+    final Dynamic<Object> apply(
+            @NotNull final TypeReference type,
+            @NotNull final Dynamic<Object> input,
+            @NotNull final DataFixerContext context,
+            final boolean ruleEvents
     ) {
         Preconditions.checkNotNull(type, "type must not be null");
         Preconditions.checkNotNull(input, "input must not be null");
         Preconditions.checkNotNull(context, "context must not be null");
 
-        final Schema in = this.schemas.require(this.from);
-        final Schema out = this.schemas.require(this.to);
-
-        final Type<?> logical = in.require(type);
+        final Type<?> logical = this.schemas.require(this.from).require(type);
 
-        TypeRewriteRule rule = this.makeRule(in, out);
+        TypeRewriteRule rule = this.rule();
 
         // Wrap rule with diagnostics if enabled
         if (context instanceof DiagnosticContext dc && dc.isDiagnosticEnabled()) {
             rule = DiagnosticRuleWrapper.wrap(rule, dc);
         }
+        if (ruleEvents) {
+            rule = RuleEvent.wrapIfEnabled(rule);
+        }
 
         @SuppressWarnings("unchecked")
         final Typed<?> typedIn = new Typed<>((Type<Object>) logical, input);
@@ -175,4 +212,18 @@ public abstract class SchemaDataFix implements DataFix<Object> {
 
         return result;
     }
+
+    /**
+     * Returns the cached rule, building it on first use.
+     */
+    @NotNull
+    private TypeRewriteRule rule() {
+        TypeRewriteRule rule = this.rule;
+        if (rule == null) {
+            rule = this.makeRule(this.schemas.require(this.from), this.schemas.require(this.to));
+            Preconditions.checkNotNull(rule, "Fix '%s' made a null rule", this.name);
+            this.rule = rule;
+        }
+        return rule;
+    }
 }
@@ -61,6 +61,9 @@ import org.slf4j.LoggerFactory;
  *   <li>{@link #warn(String, Object...)} logs at WARN level</li>
  * </ul>
  *
+ * <p>{@link #isInfoEnabled()} and {@link #isWarnEnabled()} reflect the logger's levels, so
+ * calls with up to two arguments allocate nothing when the level is disabled.</p>
+ *
  * <h2>Dependencies</h2>
  * <p>This class requires SLF4J API to be on the classpath. SLF4J is an optional
  * dependency of the core module. If SLF4J is not available, use
@@ -125,6 +128,26 @@ public final class Slf4jDataFixerContext implements DataFixerContext {
         }
     }
 
+    /**
+     * Returns whether the underlying logger has INFO enabled.
+     *
+     * @return {@code true} if info messages are emitted
+     */
+    @Override
+    public boolean isInfoEnabled() {
+        return this.logger.isInfoEnabled();
+    }
+
+    /**
+     * Returns whether the underlying logger has WARN enabled.
+     *
+     * @return {@code true} if warnings are emitted
+     */
+    @Override
+    public boolean isWarnEnabled() {
+        return this.logger.isWarnEnabled();
+    }
+
     /**
      * Returns the underlying SLF4J logger.
      *
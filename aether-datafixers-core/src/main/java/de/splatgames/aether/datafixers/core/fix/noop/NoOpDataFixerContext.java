@@ -67,4 +67,24 @@ public final class NoOpDataFixerContext implements DataFixerContext {
     public void warn(@NotNull final String message, @Nullable final Object... args) {
 
     }
+
+    /**
+     * Returns {@code false}: info messages are discarded.
+     *
+     * @return {@code false}
+     */
+    @Override
+    public boolean isInfoEnabled() {
+        return false;
+    }
+
+    /**
+     * Returns {@code false}: warnings are discarded.
+     *
+     * @return {@code false}
+     */
+    @Override
+    public boolean isWarnEnabled() {
+        return false;
+    }
 }
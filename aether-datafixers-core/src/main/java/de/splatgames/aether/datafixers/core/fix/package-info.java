@@ -37,6 +37,8 @@
  *       that orchestrates fix execution.</li>
  *   <li>{@link de.splatgames.aether.datafixers.core.fix.DataFixerBuilder} - Builder
  *       for constructing DataFixer instances with custom configuration.</li>
+ *   <li>{@link de.splatgames.aether.datafixers.core.fix.MigrationListener} - Callback
+ *       interface for per-fix and per-migration timings, used by metrics integrations.</li>
  *   <li>{@link de.splatgames.aether.datafixers.core.fix.DataFixRegistry} - Internal
  *       registry that manages registered fixes and provides version-ordered access.</li>
  * </ul>
@@ -0,0 +1,443 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.core.generation;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.dynamic.DynamicOps;
+import de.splatgames.aether.datafixers.api.schema.Schema;
+import de.splatgames.aether.datafixers.api.type.Type;
+import de.splatgames.aether.datafixers.api.util.Pair;
+import de.splatgames.aether.datafixers.core.warmup.WarmUpDocumentFactory;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Generates synthetic documents that match the structure of a schema type.
+ *
+ * <p>The generator walks the structural type returned by
+ * {@link de.splatgames.aether.datafixers.api.schema.Schema#structure(de.splatgames.aether.datafixers.api.TypeReference)
+ * Schema.structure(ref)} and classifies every node the same way as the schema-tools
+ * {@code TypeIntrospector}. Fields become map entries, lists receive
+ * {@link #listSize(int) a fixed number} of elements, and primitives receive random
+ * values drawn from a seeded {@link Random}, so the same seed always yields the same
+ * documents.</p>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * Type<?> player = schema.structure(TypeReferences.PLAYER);
+ *
+ * List<JsonElement> documents = SampleDataGenerator.forType(player)
+ *     .seed(42)
+ *     .listSize(5)
+ *     .generate(GsonOps.INSTANCE, 1000);
+ * }</pre>
+ *
+ * <h2>Generation Rules</h2>
+ * <ul>
+ *   <li><b>Fields, products, tagged choices:</b> a map with one entry per field; a tagged
+ *       choice writes its tag field and the fields of the first choice</li>
+ *   <li><b>Lists:</b> {@link #listSize(int)} generated elements</li>
+ *   <li><b>Optionals:</b> always present</li>
+ *   <li><b>Sums:</b> the left alternative</li>
+ *   <li><b>Passthrough and unknown types:</b> an empty map</li>
+ * </ul>
+ *
+ * <p>Recursive types are cut off at {@link #maxDepth(int)} nesting levels, below which
+ * maps and lists are left empty.</p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is not thread-safe. Create a new instance per thread.</p>
+ *
+ * @author Erik Pförtner
+ * @see de.splatgames.aether.datafixers.core.warmup.WarmUpOptions
+ * @since 0.6.0
+ */
+public final class SampleDataGenerator {
+
+    /**
+     * Default number of elements generated for each list.
+     */
+    public static final int DEFAULT_LIST_SIZE = 3;
+
+    /**
+     * Default maximum nesting depth before maps and lists are left empty.
+     */
+    public static final int DEFAULT_MAX_DEPTH = 8;
+
+    /**
+     * Default seed for the value generator.
+     */
+    public static final long DEFAULT_SEED = 42L;
+
+    /**
+     * Reference ids of the primitive types.
+     */
+    private static final Set<String> PRIMITIVE_TYPE_IDS = Set.of(
+            "bool", "int", "long", "float", "double", "byte", "short", "string"
+    );
+
+    /**
+     * The factory returned by {@link #warmUpDocumentFactory()}; stateless, since every call
+     * creates its own generator.
+     */
+    private static final WarmUpDocumentFactory WARM_UP_DOCUMENTS = new WarmUpDocumentFactory() {
+        @Override
+        @NotNull
+        public <T> Dynamic<T> create(
+                @NotNull final Schema schema,
+                @NotNull final TypeReference type,
+                @NotNull final DynamicOps<T> ops
+        ) {
+            final Type<?> structure = schema.structure(type);
+            if (!hasStructure(structure)) {
+                return WarmUpDocumentFactory.EMPTY_MAP.create(schema, type, ops);
+            }
+            return new Dynamic<>(ops, forType(structure).generate(ops));
+        }
+    };
+
+    /**
+     * The structural type to generate documents for.
+     */
+    private final Type<?> type;
+
+    /**
+     * Source of primitive values; re-seeded by {@link #seed(long)}.
+     */
+    private Random random = new Random(DEFAULT_SEED);
+
+    /**
+     * Number of elements per generated list.
+     */
+    private int listSize = DEFAULT_LIST_SIZE;
+
+    /**
+     * Nesting depth below which maps and lists are left empty.
+     */
+    private int maxDepth = DEFAULT_MAX_DEPTH;
+
+    /**
+     * Creates a new generator for the given type.
+     *
+     * <p>This constructor is private; use {@link #forType(Type)} to create instances.</p>
+     *
+     * @param type the structural type, must not be {@code null}
+     */
+    private SampleDataGenerator(@NotNull final Type<?> type) {
+        this.type = Preconditions.checkNotNull(type, "type must not be null");
+    }
+
+    /**
+     * Creates a generator for documents of the given type.
+     *
+     * <p>Pass the result of {@code Schema.structure(ref)} rather than {@code Schema.require(ref)};
+     * template-based types only expose their fields through the former.</p>
+     *
+     * @param type the structural type, must not be {@code null}
+     * @return a new generator, never {@code null}
+     * @throws NullPointerException if {@code type} is {@code null}
+     */
+    @NotNull
+    public static SampleDataGenerator forType(@NotNull final Type<?> type) {
+        Preconditions.checkNotNull(type, "type must not be null");
+        return new SampleDataGenerator(type);
+    }
+
+    /**
+     * Sets the seed for primitive values.
+     *
+     * @param seed the seed
+     * @return this generator for chaining
+     */
+    @NotNull
+    public SampleDataGenerator seed(final long seed) {
+        this.random = new Random(seed);
+        return this;
+    }
+
+    /**
+     * Sets the number of elements generated for each list.
+     *
+     * @param listSize the list size, must not be negative
+     * @return this generator for chaining
+     * @throws IllegalArgumentException if {@code listSize} is negative
+     */
+    @NotNull
+    public SampleDataGenerator listSize(final int listSize) {
+        Preconditions.checkArgument(listSize >= 0, "listSize must not be negative");
+        this.listSize = listSize;
+        return this;
+    }
+
+    /**
+     * Sets the nesting depth below which maps and lists are left empty.
+     *
+     * @param maxDepth the maximum depth, must be positive
+     * @return this generator for chaining
+     * @throws IllegalArgumentException if {@code maxDepth} is not positive
+     */
+    @NotNull
+    public SampleDataGenerator maxDepth(final int maxDepth) {
+        Preconditions.checkArgument(maxDepth > 0, "maxDepth must be positive");
+        this.maxDepth = maxDepth;
+        return this;
+    }
+
+    /**
+     * Generates a single document.
+     *
+     * @param ops the dynamic operations to build the document with, must not be {@code null}
+     * @param <T> the underlying data representation type
+     * @return the generated document, never {@code null}
+     * @throws NullPointerException     if {@code ops} is {@code null}
+     * @throws IllegalArgumentException if the type exposes no structure to generate from
+     */
+    @NotNull
+    public <T> T generate(@NotNull final DynamicOps<T> ops) {
+        Preconditions.checkNotNull(ops, "ops must not be null");
+        Preconditions.checkArgument(hasStructure(this.type),
+                "Type %s exposes no structure to generate from", this.type.reference().getId());
+        return this.value(ops, this.type, "value", 0);
+    }
+
+    /**
+     * Generates the given number of documents.
+     *
+     * @param ops   the dynamic operations to build the documents with, must not be {@code null}
+     * @param count the number of documents, must not be negative
+     * @param <T>   the underlying data representation type
+     * @return the generated documents, never {@code null}
+     * @throws NullPointerException     if {@code ops} is {@code null}
+     * @throws IllegalArgumentException if {@code count} is negative or the type exposes no
+     *                                  structure to generate from
+     */
+    @NotNull
+    public <T> List<T> generate(@NotNull final DynamicOps<T> ops, final int count) {
+        Preconditions.checkNotNull(ops, "ops must not be null");
+        Preconditions.checkArgument(count >= 0, "count must not be negative");
+        final List<T> documents = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            documents.add(this.generate(ops));
+        }
+        return documents;
+    }
+
+    /**
+     * Returns a warm-up document factory that generates one document per schema type.
+     *
+     * <p>Each document is generated with the default settings from
+     * {@code Schema.structure(ref)}. Types that expose no structure fall back to
+     * {@link WarmUpDocumentFactory#EMPTY_MAP an empty map}. This is the default factory
+     * of {@link de.splatgames.aether.datafixers.core.warmup.WarmUpOptions}.</p>
+     *
+     * @return the factory, never {@code null}
+     * @since 0.6.0
+     */
+    @NotNull
+    public static WarmUpDocumentFactory warmUpDocumentFactory() {
+        return WARM_UP_DOCUMENTS;
+    }
+
+    // ==================== Internal Methods ====================
+
+    /**
+     * Generates a value for a type.
+     *
+     * @param ops   the dynamic operations
+     * @param type  the type to generate a value for
+     * @param name  the enclosing field name, used for string values
+     * @param depth the current nesting depth
+     * @param <T>   the underlying data representation type
+     * @return the generated value
+     */
+    @NotNull
+    private <T> T value(
+            @NotNull final DynamicOps<T> ops,
+            @NotNull final Type<?> type,
+            @NotNull final String name,
+            final int depth
+    ) {
+        return switch (kind(type)) {
+            case PRIMITIVE -> this.primitive(ops, type.reference().getId(), name);
+            case LIST -> {
+                if (depth >= this.maxDepth) {
+                    yield ops.emptyList();
+                }
+                final Type<?> element = type.children().get(0);
+                final List<T> elements = new ArrayList<>(this.listSize);
+                for (int i = 0; i < this.listSize; i++) {
+                    elements.add(this.value(ops, element, name, depth + 1));
+                }
+                yield ops.createList(elements.stream());
+            }
+            case OPTIONAL, SUM, NAMED -> type.children().isEmpty()
+                    ? ops.emptyMap()
+                    : this.value(ops, type.children().get(0), name, depth);
+            case FIELD, PRODUCT, TAGGED_CHOICE -> {
+                final Map<String, T> entries = new LinkedHashMap<>();
+                if (depth < this.maxDepth) {
+                    this.collectFields(ops, type, entries, depth);
+                }
+                yield ops.createMap(entries.entrySet().stream()
+                        .map(entry -> Pair.of(ops.createString(entry.getKey()), entry.getValue())));
+            }
+            case PASSTHROUGH, UNKNOWN -> ops.emptyMap();
+        };
+    }
+
+    /**
+     * Collects the map entries contributed by a field, product or tagged choice.
+     *
+     * @param ops     the dynamic operations
+     * @param type    the type contributing entries
+     * @param entries the entries collected so far
+     * @param depth   the nesting depth of the enclosing map
+     * @param <T>     the underlying data representation type
+     */
+    private <T> void collectFields(
+            @NotNull final DynamicOps<T> ops,
+            @NotNull final Type<?> type,
+            @NotNull final Map<String, T> entries,
+            final int depth
+    ) {
+        if (type instanceof Type.FieldType<?> field) {
+            entries.put(field.name(), this.value(ops, field.fieldType(), field.name(), depth + 1));
+            return;
+        }
+        if (type instanceof Type.TaggedChoiceType choice) {
+            final Map.Entry<String, Type<?>> first = choice.choices().entrySet().stream()
+                    .findFirst()
+                    .orElse(null);
+            if (first != null) {
+                entries.put(choice.tagField(), ops.createString(first.getKey()));
+                this.collectFields(ops, first.getValue(), entries, depth);
+            }
+            return;
+        }
+        final Kind kind = kind(type);
+        if (kind == Kind.FIELD && !type.children().isEmpty()) {
+            // Optional fields are not FieldType instances; their reference is "?name:inner"
+            final String id = type.reference().getId();
+            final String name = id.substring(id.startsWith("?") ? 1 : 0, id.indexOf(':'));
+            entries.put(name, this.value(ops, type.children().get(0), name, depth + 1));
+            return;
+        }
+        if (kind == Kind.PRODUCT || kind == Kind.NAMED) {
+            for (final Type<?> child : type.children()) {
+                this.collectFields(ops, child, entries, depth);
+            }
+        }
+    }
+
+    /**
+     * Generates a random primitive value.
+     *
+     * @param ops  the dynamic operations
+     * @param id   the primitive type id
+     * @param name the enclosing field name
+     * @param <T>  the underlying data representation type
+     * @return the generated value
+     */
+    @NotNull
+    private <T> T primitive(@NotNull final DynamicOps<T> ops, @NotNull final String id, @NotNull final String name) {
+        return switch (id) {
+            case "bool" -> ops.createBoolean(this.random.nextBoolean());
+            case "int" -> ops.createInt(this.random.nextInt(10_000));
+            case "long" -> ops.createLong(this.random.nextLong());
+            case "float" -> ops.createFloat(this.random.nextFloat() * 1000.0f);
+            case "double" -> ops.createDouble(this.random.nextDouble() * 1000.0);
+            case "byte" -> ops.createByte((byte) this.random.nextInt(Byte.MAX_VALUE + 1));
+            case "short" -> ops.createShort((short) this.random.nextInt(Short.MAX_VALUE + 1));
+            default -> ops.createString(name + "-" + this.random.nextInt(10_000));
+        };
+    }
+
+    /**
+     * Checks whether a type has a structure to generate a document from.
+     *
+     * @param type the type
+     * @return {@code false} for passthrough and unknown types
+     */
+    private static boolean hasStructure(@NotNull final Type<?> type) {
+        final Kind kind = kind(type);
+        return kind != Kind.PASSTHROUGH && kind != Kind.UNKNOWN;
+    }
+
+    /**
+     * Classifies a type; mirrors {@code TypeIntrospector.determineKind} in schema-tools.
+     *
+     * @param type the type
+     * @return the kind of the type
+     */
+    @NotNull
+    private static Kind kind(@NotNull final Type<?> type) {
+        if (type instanceof Type.FieldType<?>) {
+            return Kind.FIELD;
+        }
+        if (type instanceof Type.TaggedChoiceType) {
+            return Kind.TAGGED_CHOICE;
+        }
+        final String id = type.reference().getId();
+        if (PRIMITIVE_TYPE_IDS.contains(id)) {
+            return Kind.PRIMITIVE;
+        }
+        if ("passthrough".equals(id) || "...".equals(type.describe())) {
+            return Kind.PASSTHROUGH;
+        }
+        if (id.startsWith("list[")) {
+            return Kind.LIST;
+        }
+        if (id.startsWith("optional[")) {
+            return Kind.OPTIONAL;
+        }
+        if (id.contains(" × ")) {
+            return Kind.PRODUCT;
+        }
+        if (id.contains(" + ")) {
+            return Kind.SUM;
+        }
+        if (type.describe().contains("=")) {
+            return Kind.NAMED;
+        }
+        if (id.startsWith("?") || id.contains(":")) {
+            return Kind.FIELD;
+        }
+        return Kind.UNKNOWN;
+    }
+
+    /**
+     * The structural kinds the generator distinguishes.
+     */
+    private enum Kind {
+        PRIMITIVE, LIST, OPTIONAL, PRODUCT, SUM, FIELD, TAGGED_CHOICE, NAMED, PASSTHROUGH, UNKNOWN
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+/**
+ * Synthetic data generation from schema types.
+ *
+ * <p>This package generates documents that match the structure of a schema type, for
+ * warm-ups, benchmarks and load tests that need representative input without real
+ * data.</p>
+ *
+ * <h2>Key Classes</h2>
+ * <ul>
+ *   <li>{@link de.splatgames.aether.datafixers.core.generation.SampleDataGenerator} -
+ *       Seeded generator for documents of a structural type</li>
+ * </ul>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * Type<?> player = schema.structure(TypeReferences.PLAYER);
+ * List<JsonElement> documents = SampleDataGenerator.forType(player)
+ *     .seed(7)
+ *     .generate(GsonOps.INSTANCE, 500);
+ * }</pre>
+ *
+ * @see de.splatgames.aether.datafixers.core.generation.SampleDataGenerator
+ * @since 0.6.0
+ */
+package de.splatgames.aether.datafixers.core.generation;
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.core.jfr;
+
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.dynamic.DynamicOps;
+import de.splatgames.aether.datafixers.api.util.Pair;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Measures the node count and approximate encoded size of a dynamic value.
+ *
+ * <p>Only used when an event is about to be committed, so recordings pay for the walk
+ * and disabled events do not. The size is the length of the value's compact JSON form.</p>
+ *
+ * @author Erik Pförtner
+ * @since 0.6.0
+ */
+final class DataSize {
+
+    private long nodes;
+    private long bytes;
+
+    private DataSize() {
+    }
+
+    /**
+     * Measures a value.
+     *
+     * @param dynamic the value to measure
+     * @return the measurement
+     */
+    @NotNull
+    static DataSize of(@NotNull final Dynamic<?> dynamic) {
+        final DataSize size = new DataSize();
+        size.walk(dynamic);
+        return size;
+    }
+
+    private <T> void walk(@NotNull final Dynamic<T> dynamic) {
+        this.visit(dynamic.ops(), dynamic.value());
+    }
+
+    /**
+     * Returns the number of nodes, counting every map, list and primitive value.
+     *
+     * @return the node count
+     */
+    long nodes() {
+        return this.nodes;
+    }
+
+    /**
+     * Returns the approximate encoded size in bytes.
+     *
+     * @return the size in bytes
+     */
+    long bytes() {
+        return this.bytes;
+    }
+
+    private <T> void visit(@NotNull final DynamicOps<T> ops, @NotNull final T value) {
+        this.nodes++;
+        if (ops.isMap(value)) {
+            this.bytes += 2;
+            final Iterator<Pair<T, T>> it = ops.getMapEntries(value).result().orElseGet(Stream::empty).iterator();
+            boolean first = true;
+            while (it.hasNext()) {
+                final Pair<T, T> entry = it.next();
+                final int keyLength = ops.getStringValue(entry.first()).result().map(String::length).orElse(0);
+                this.bytes += (first ? 0 : 1) + 3 + keyLength;
+                first = false;
+                this.visit(ops, entry.second());
+            }
+        } else if (ops.isList(value)) {
+            this.bytes += 2;
+            final Iterator<T> it = ops.getList(value).result().orElseGet(Stream::empty).iterator();
+            boolean first = true;
+            while (it.hasNext()) {
+                this.bytes += first ? 0 : 1;
+                first = false;
+                this.visit(ops, it.next());
+            }
+        } else if (ops.isString(value)) {
+            this.bytes += 2 + ops.getStringValue(value).result().map(String::length).orElse(0);
+        } else if (ops.isNumber(value)) {
+            this.bytes += ops.getNumberValue(value).result().map(n -> n.toString().length()).orElse(1);
+        } else if (ops.isBoolean(value)) {
+            this.bytes += ops.getBooleanValue(value).result().orElse(false) ? 4 : 5;
+        } else {
+            this.bytes += 4;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.core.jfr;
+
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.fix.DataFix;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * JFR event covering the application of one {@link DataFix}.
+ *
+ * <p>Emitted under the same conditions as {@link MigrationEvent}, once per applied fix.</p>
+ *
+ * @author Erik Pförtner
+ * @see MigrationEvent
+ * @since 0.6.0
+ */
+@Name(FixEvent.NAME)
+@Label("Data Fix")
+@Category({"Aether Datafixers"})
+@Description("Application of one data fix during a migration")
+public final class FixEvent extends Event {
+
+    /**
+     * The JFR event name.
+     */
+    public static final String NAME = "de.splatgames.aether.datafixers.Fix";
+
+    @Label("Type")
+    private String type;
+
+    @Label("Fix")
+    private String fixName;
+
+    @Label("From Version")
+    private int fromVersion;
+
+    @Label("To Version")
+    private int toVersion;
+
+    @Label("Output Nodes")
+    private long outputNodes;
+
+    @Label("Output Size")
+    @DataAmount(DataAmount.BYTES)
+    private long outputBytes;
+
+    @Label("Failed")
+    private boolean failed;
+
+    /**
+     * Begins a fix event if it is enabled in the active recording.
+     *
+     * @return the started event, or {@code null} if the event is disabled
+     */
+    @Nullable
+    public static FixEvent beginIfEnabled() {
+        final FixEvent event = new FixEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends and, if it passes the recording's threshold, commits this event.
+     *
+     * @param type   the migrated type
+     * @param fix    the applied fix
+     * @param output the fix result, or {@code null} if the fix failed
+     */
+    public void complete(@NotNull final TypeReference type,
+                         @NotNull final DataFix<?> fix,
+                         @Nullable final Dynamic<?> output) {
+        this.end();
+        if (!this.shouldCommit()) {
+            return;
+        }
+        this.type = type.getId();
+        this.fixName = fix.name();
+        this.fromVersion = fix.fromVersion().getVersion();
+        this.toVersion = fix.toVersion().getVersion();
+        if (output != null) {
+            final DataSize out = DataSize.of(output);
+            this.outputNodes = out.nodes();
+            this.outputBytes = out.bytes();
+        }
+        this.failed = output == null;
+        this.commit();
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.core.jfr;
+
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * JFR event covering one {@code DataFixer.update} call.
+ *
+ * <p>Emitted by {@link de.splatgames.aether.datafixers.core.fix.DataFixerImpl} when the
+ * fixer was built with
+ * {@link de.splatgames.aether.datafixers.core.fix.DataFixerBuilder#withFlightRecorderEvents(boolean)}
+ * and the event is enabled in the active recording. Node counts and sizes are only
+ * computed for events that pass the recording's threshold.</p>
+ *
+ * @author Erik Pförtner
+ * @see FixEvent
+ * @see RuleEvent
+ * @since 0.6.0
+ */
+@Name(MigrationEvent.NAME)
+@Label("Data Migration")
+@Category({"Aether Datafixers"})
+@Description("Migration of one value from one data version to another")
+public final class MigrationEvent extends Event {
+
+    /**
+     * The JFR event name.
+     */
+    public static final String NAME = "de.splatgames.aether.datafixers.Migration";
+
+    @Label("Type")
+    private String type;
+
+    @Label("From Version")
+    private int fromVersion;
+
+    @Label("To Version")
+    private int toVersion;
+
+    @Label("Fix Count")
+    @Description("Number of fixes applied")
+    private int fixCount;
+
+    @Label("Input Nodes")
+    private long inputNodes;
+
+    @Label("Input Size")
+    @DataAmount(DataAmount.BYTES)
+    private long inputBytes;
+
+    @Label("Output Nodes")
+    private long outputNodes;
+
+    @Label("Output Size")
+    @DataAmount(DataAmount.BYTES)
+    private long outputBytes;
+
+    @Label("Failed")
+    private boolean failed;
+
+    /**
+     * Begins a migration event if it is enabled in the active recording.
+     *
+     * @return the started event, or {@code null} if the event is disabled
+     */
+    @Nullable
+    public static MigrationEvent beginIfEnabled() {
+        final MigrationEvent event = new MigrationEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends and, if it passes the recording's threshold, commits this event.
+     *
+     * @param type        the migrated type
+     * @param fromVersion the source version
+     * @param toVersion   the target version
+     * @param fixCount    the number of fixes applied
+     * @param input       the input value
+     * @param output      the output value, or {@code null} if the migration failed
+     */
+    public void complete(@NotNull final TypeReference type,
+                         @NotNull final DataVersion fromVersion,
+                         @NotNull final DataVersion toVersion,
+                         final int fixCount,
+                         @NotNull final Dynamic<?> input,
+                         @Nullable final Dynamic<?> output) {
+        this.end();
+        if (!this.shouldCommit()) {
+            return;
+        }
+        this.type = type.getId();
+        this.fromVersion = fromVersion.getVersion();
+        this.toVersion = toVersion.getVersion();
+        this.fixCount = fixCount;
+        final DataSize in = DataSize.of(input);
+        this.inputNodes = in.nodes();
+        this.inputBytes = in.bytes();
+        if (output != null) {
+            final DataSize out = DataSize.of(output);
+            this.outputNodes = out.nodes();
+            this.outputBytes = out.bytes();
+        }
+        this.failed = output == null;
+        this.commit();
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.core.jfr;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.rewrite.TypeRewriteRule;
+import de.splatgames.aether.datafixers.api.type.Type;
+import de.splatgames.aether.datafixers.api.type.Typed;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Optional;
+
+/**
+ * JFR event covering the application of the rewrite rule of a schema-based fix.
+ *
+ * <p>This event is disabled by default because it can fire very frequently. Enable it in
+ * a recording's settings to see which rule inside a
+ * {@link de.splatgames.aether.datafixers.core.fix.SchemaDataFix} is slow. Like the other
+ * events it is only emitted by fixers built with
+ * {@link de.splatgames.aether.datafixers.core.fix.DataFixerBuilder#withFlightRecorderEvents(boolean)}.
+ * When it is not enabled, {@link #wrapIfEnabled(TypeRewriteRule)} returns the rule unchanged
+ * and no event is created.</p>
+ *
+ * @author Erik Pförtner
+ * @see FixEvent
+ * @since 0.6.0
+ */
+@Name(RuleEvent.NAME)
+@Label("Rewrite Rule")
+@Category({"Aether Datafixers"})
+@Description("Application of a type rewrite rule")
+@Enabled(false)
+public final class RuleEvent extends Event {
+
+    /**
+     * The JFR event name.
+     */
+    public static final String NAME = "de.splatgames.aether.datafixers.Rule";
+
+    private static final EventType EVENT_TYPE = EventType.getEventType(RuleEvent.class);
+
+    @Label("Rule")
+    private String rule;
+
+    @Label("Type")
+    private String type;
+
+    @Label("Matched")
+    private boolean matched;
+
+    /**
+     * Wraps a rule so that each application emits a {@code RuleEvent}, if the event is enabled.
+     *
+     * @param rule the rule to wrap, must not be {@code null}
+     * @return the wrapping rule, or {@code rule} itself if the event is disabled
+     * @throws NullPointerException if rule is {@code null}
+     */
+    @NotNull
+    public static TypeRewriteRule wrapIfEnabled(@NotNull final TypeRewriteRule rule) {
+        Preconditions.checkNotNull(rule, "rule must not be null");
+        if (!EVENT_TYPE.isEnabled()) {
+            return rule;
+        }
+        return new TypeRewriteRule() {
+            @NotNull
+            @Override
+            public Optional<Typed<?>> rewrite(@NotNull final Type<?> type,
+                                              @NotNull final Typed<?> input) {
+                final RuleEvent event = new RuleEvent();
+                event.begin();
+                final Optional<Typed<?>> result = rule.rewrite(type, input);
+                event.end();
+                if (event.shouldCommit()) {
+                    event.rule = rule.toString();
+                    event.type = type.describe();
+                    event.matched = result.isPresent();
+                    event.commit();
+                }
+                return result;
+            }
+
+            @Override
+            public String toString() {
+                return rule.toString();
+            }
+        };
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+/**
+ * JDK Flight Recorder events emitted by the data fixer.
+ *
+ * <p>Enable migration and fix events with
+ * {@link de.splatgames.aether.datafixers.core.fix.DataFixerBuilder#withFlightRecorderEvents(boolean)}.
+ * Whether an event is recorded is then decided by the active recording's settings; when no
+ * recording enables an event, only JFR's enabled check runs.</p>
+ *
+ * <h2>Key Components</h2>
+ *
+ * <dl>
+ *   <dt>{@link de.splatgames.aether.datafixers.core.jfr.MigrationEvent}</dt>
+ *   <dd>One {@code update} call: type, versions, fix count, node counts and sizes</dd>
+ *
+ *   <dt>{@link de.splatgames.aether.datafixers.core.jfr.FixEvent}</dt>
+ *   <dd>One applied fix: type, fix name, versions, output node count and size</dd>
+ *
+ *   <dt>{@link de.splatgames.aether.datafixers.core.jfr.RuleEvent}</dt>
+ *   <dd>One rule application inside a schema-based fix; disabled by default</dd>
+ * </dl>
+ *
+ * <h2>Recording</h2>
+ * <pre>{@code
+ * java -XX:StartFlightRecording=filename=migration.jfr,settings=profile ...
+ * jfr print --events de.splatgames.aether.datafixers.Fix migration.jfr
+ * }</pre>
+ *
+ * @author Erik Pförtner
+ * @since 0.6.0
+ */
+package de.splatgames.aether.datafixers.core.jfr;
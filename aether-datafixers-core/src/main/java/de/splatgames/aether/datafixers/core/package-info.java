@@ -47,6 +47,8 @@
  *       implementations</li>
  *   <li>{@link de.splatgames.aether.datafixers.core.type} - Type registry
  *       implementations</li>
+ *   <li>{@link de.splatgames.aether.datafixers.core.warmup} - Warm-up of schemas
+ *       and fixes before the first migration</li>
  * </ul>
  *
  * <h2>Creating a DataFixer</h2>
@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.core.warmup;
+
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.dynamic.DynamicOps;
+import de.splatgames.aether.datafixers.api.schema.Schema;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Creates the synthetic documents migrated during a warm-up.
+ *
+ * <p>The factory is called once per schema version and type reference before the first
+ * round; its documents are then reused by every round. The default,
+ * {@link de.splatgames.aether.datafixers.core.generation.SampleDataGenerator#warmUpDocumentFactory()},
+ * derives populated documents from the schema structure, so fixes exercise their renames,
+ * transforms and field paths. {@link #EMPTY_MAP} creates empty maps instead, which pass
+ * through every fix but skip most of its work.</p>
+ *
+ * @author Erik Pförtner
+ * @see WarmUpOptions#documentFactory()
+ * @since 0.6.0
+ */
+public interface WarmUpDocumentFactory {
+
+    /**
+     * A factory creating an empty map for every type.
+     */
+    WarmUpDocumentFactory EMPTY_MAP = new WarmUpDocumentFactory() {
+        @Override
+        @NotNull
+        public <T> Dynamic<T> create(
+                @NotNull final Schema schema,
+                @NotNull final TypeReference type,
+                @NotNull final DynamicOps<T> ops
+        ) {
+            return new Dynamic<>(ops, ops.emptyMap());
+        }
+    };
+
+    /**
+     * Creates a synthetic document of the given type as it looks in the given schema.
+     *
+     * @param schema the schema the document belongs to, never {@code null}
+     * @param type   the type of the document, never {@code null}
+     * @param ops    the format of the document, never {@code null}
+     * @param <T>    the underlying value type
+     * @return the document, or {@code null} to skip this type in this schema
+     */
+    @Nullable
+    <T> Dynamic<T> create(@NotNull Schema schema, @NotNull TypeReference type, @NotNull DynamicOps<T> ops);
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.core.warmup;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Receives progress notifications from a warm-up.
+ *
+ * <p>All methods are called on the thread running the warm-up and have empty default
+ * implementations.</p>
+ *
+ * @author Erik Pförtner
+ * @see WarmUpOptions#listener()
+ * @since 0.6.0
+ */
+public interface WarmUpListener {
+
+    /**
+     * A listener that ignores all notifications.
+     */
+    WarmUpListener NOOP = new WarmUpListener() {
+    };
+
+    /**
+     * Called once the type registries and rules are built, before the first synthetic round.
+     *
+     * @param schemas       the number of schemas whose type registry was built
+     * @param types         the number of types across those registries
+     * @param preparedFixes the number of fixes whose rewrite rule was built
+     */
+    default void onPrepared(final int schemas, final int types, final int preparedFixes) {
+    }
+
+    /**
+     * Called after every synthetic round.
+     *
+     * @param rounds     the number of rounds completed so far
+     * @param migrations the number of successful migrations so far
+     * @param failures   the number of failed migrations so far
+     * @param elapsed    the time spent in synthetic rounds so far, never {@code null}
+     */
+    default void onRoundCompleted(
+            final int rounds,
+            final long migrations,
+            final long failures,
+            @NotNull final Duration elapsed
+    ) {
+    }
+}
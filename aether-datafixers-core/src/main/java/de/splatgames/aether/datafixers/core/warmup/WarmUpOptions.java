@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.core.warmup;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.dynamic.DynamicOps;
+import de.splatgames.aether.datafixers.core.generation.SampleDataGenerator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * Configuration of a warm-up run started by
+ * {@link de.splatgames.aether.datafixers.core.AetherDataFixer#warmUp(WarmUpOptions)}.
+ *
+ * <p>A warm-up always builds every schema's type registry and every schema-based fix's
+ * rewrite rule. When {@link #ops()} is set, it then migrates synthetic documents from every
+ * schema version to the current version in rounds, until {@link #duration()} has passed or
+ * {@link #maxRounds()} rounds are done. At least one round runs, so every fix is applied at
+ * least once.</p>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * WarmUpReport report = fixer.warmUp(WarmUpOptions.builder()
+ *     .ops(GsonOps.INSTANCE)
+ *     .duration(Duration.ofSeconds(10))
+ *     .build());
+ * }</pre>
+ *
+ * @param ops             the format of the synthetic documents, or {@code null} to only
+ *                        build type registries and rules
+ * @param duration        the time budget for the synthetic rounds, must not be negative
+ * @param maxRounds       the maximum number of synthetic rounds, must be at least 1
+ * @param documentFactory the factory creating the synthetic documents, must not be {@code null}
+ * @param listener        the listener notified about progress, must not be {@code null}
+ * @author Erik Pförtner
+ * @see WarmUpReport
+ * @since 0.6.0
+ */
+public record WarmUpOptions(
+        @Nullable DynamicOps<?> ops,
+        @NotNull Duration duration,
+        int maxRounds,
+        @NotNull WarmUpDocumentFactory documentFactory,
+        @NotNull WarmUpListener listener
+) {
+
+    /**
+     * Default time budget for the synthetic rounds.
+     */
+    public static final Duration DEFAULT_DURATION = Duration.ofSeconds(5);
+
+    /**
+     * Validates the options.
+     *
+     * @throws NullPointerException     if duration, documentFactory or listener is {@code null}
+     * @throws IllegalArgumentException if duration is negative or maxRounds is less than 1
+     */
+    public WarmUpOptions {
+        Preconditions.checkNotNull(duration, "duration must not be null");
+        Preconditions.checkNotNull(documentFactory, "documentFactory must not be null");
+        Preconditions.checkNotNull(listener, "listener must not be null");
+        Preconditions.checkArgument(!duration.isNegative(), "duration must not be negative");
+        Preconditions.checkArgument(maxRounds >= 1, "maxRounds must be at least 1");
+    }
+
+    /**
+     * Creates options that only build type registries and rules, without synthetic documents.
+     *
+     * @return the options, never {@code null}
+     */
+    @NotNull
+    public static WarmUpOptions prepareOnly() {
+        return builder().build();
+    }
+
+    /**
+     * Creates options that migrate empty documents in the given format for the
+     * {@link #DEFAULT_DURATION default duration}.
+     *
+     * @param ops the format of the synthetic documents, must not be {@code null}
+     * @return the options, never {@code null}
+     * @throws NullPointerException if ops is {@code null}
+     */
+    @NotNull
+    public static WarmUpOptions defaults(@NotNull final DynamicOps<?> ops) {
+        Preconditions.checkNotNull(ops, "ops must not be null");
+        return builder().ops(ops).build();
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return a new builder, never {@code null}
+     */
+    @NotNull
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for {@link WarmUpOptions}.
+     *
+     * @author Erik Pförtner
+     * @since 0.6.0
+     */
+    public static final class Builder {
+
+        private DynamicOps<?> ops;
+        private Duration duration = DEFAULT_DURATION;
+        private int maxRounds = Integer.MAX_VALUE;
+        private WarmUpDocumentFactory documentFactory = SampleDataGenerator.warmUpDocumentFactory();
+        private WarmUpListener listener = WarmUpListener.NOOP;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets the format of the synthetic documents.
+         *
+         * @param ops the ops, or {@code null} to skip the synthetic rounds
+         * @return this builder
+         */
+        @NotNull
+        public Builder ops(@Nullable final DynamicOps<?> ops) {
+            this.ops = ops;
+            return this;
+        }
+
+        /**
+         * Sets the time budget for the synthetic rounds.
+         *
+         * @param duration the duration, must not be {@code null}
+         * @return this builder
+         * @throws NullPointerException if duration is {@code null}
+         */
+        @NotNull
+        public Builder duration(@NotNull final Duration duration) {
+            this.duration = Preconditions.checkNotNull(duration, "duration must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of synthetic rounds.
+         *
+         * @param maxRounds the maximum number of rounds, at least 1
+         * @return this builder
+         */
+        @NotNull
+        public Builder maxRounds(final int maxRounds) {
+            this.maxRounds = maxRounds;
+            return this;
+        }
+
+        /**
+         * Sets the factory creating the synthetic documents.
+         *
+         * <p>Defaults to {@link SampleDataGenerator#warmUpDocumentFactory()}, which derives
+         * the documents from the schema structure.</p>
+         *
+         * @param documentFactory the factory, must not be {@code null}
+         * @return this builder
+         * @throws NullPointerException if documentFactory is {@code null}
+         */
+        @NotNull
+        public Builder documentFactory(@NotNull final WarmUpDocumentFactory documentFactory) {
+            this.documentFactory = Preconditions.checkNotNull(documentFactory, "documentFactory must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the listener notified about progress.
+         *
+         * @param listener the listener, must not be {@code null}
+         * @return this builder
+         * @throws NullPointerException if listener is {@code null}
+         */
+        @NotNull
+        public Builder listener(@NotNull final WarmUpListener listener) {
+            this.listener = Preconditions.checkNotNull(listener, "listener must not be null");
+            return this;
+        }
+
+        /**
+         * Builds the options.
+         *
+         * @return the options, never {@code null}
+         * @throws IllegalArgumentException if maxRounds is less than 1
+         */
+        @NotNull
+        public WarmUpOptions build() {
+            return new WarmUpOptions(this.ops, this.duration, this.maxRounds, this.documentFactory, this.listener);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.core.warmup;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+
+/**
+ * Outcome of a warm-up run.
+ *
+ * <p>Failed migrations are expected when fixes need content the synthetic documents lack;
+ * they are counted and otherwise ignored.</p>
+ *
+ * @param schemas       the number of schemas whose type registry was built
+ * @param types         the number of types across those registries
+ * @param preparedFixes the number of fixes whose rewrite rule was built
+ * @param rounds        the number of synthetic rounds run
+ * @param migrations    the number of successful synthetic migrations
+ * @param failures      the number of failed synthetic migrations and document creations
+ * @param duration      the total time spent, never {@code null}
+ * @author Erik Pförtner
+ * @see WarmUpOptions
+ * @since 0.6.0
+ */
+public record WarmUpReport(
+        int schemas,
+        int types,
+        int preparedFixes,
+        int rounds,
+        long migrations,
+        long failures,
+        @NotNull Duration duration
+) {
+
+    /**
+     * Validates the report.
+     *
+     * @throws NullPointerException if duration is {@code null}
+     */
+    public WarmUpReport {
+        Preconditions.checkNotNull(duration, "duration must not be null");
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.core.warmup;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.dynamic.DynamicOps;
+import de.splatgames.aether.datafixers.api.fix.DataFixer;
+import de.splatgames.aether.datafixers.api.schema.Schema;
+import de.splatgames.aether.datafixers.api.schema.SchemaRegistry;
+import de.splatgames.aether.datafixers.api.type.TypeRegistry;
+import de.splatgames.aether.datafixers.core.fix.DataFixerImpl;
+import de.splatgames.aether.datafixers.core.fix.noop.NoOpDataFixerContext;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Runs a warm-up against a schema registry and data fixer.
+ *
+ * <p>Usually reached through
+ * {@link de.splatgames.aether.datafixers.core.AetherDataFixer#warmUp(WarmUpOptions)}.</p>
+ *
+ * <h2>Phases</h2>
+ * <ol>
+ *   <li><b>Prepare:</b> builds every schema's {@link TypeRegistry} and, for a
+ *       {@link DataFixerImpl}, every schema-based fix's rewrite rule</li>
+ *   <li><b>Synthetic rounds:</b> if {@link WarmUpOptions#ops()} is set, creates one document
+ *       per older schema version and type, then migrates all of them to the current version
+ *       per round until the time budget or round limit is reached</li>
+ * </ol>
+ *
+ * <p>Synthetic migrations use a {@link NoOpDataFixerContext}, so fixes do not log. On a
+ * {@link DataFixerImpl} they run through {@link DataFixerImpl#warmUpUpdate}, so the fixer's
+ * {@link de.splatgames.aether.datafixers.core.fix.MigrationListener}, JFR events and rewrite
+ * memo never see them. The synthetic phase stops early when the running thread is
+ * interrupted.</p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is thread-safe if the schema registry and fixer are.</p>
+ *
+ * @author Erik Pförtner
+ * @see WarmUpOptions
+ * @see WarmUpReport
+ * @since 0.6.0
+ */
+public final class WarmUpRunner {
+
+    private final DataVersion currentVersion;
+    private final SchemaRegistry schemaRegistry;
+    private final DataFixer dataFixer;
+
+    /**
+     * Creates a new warm-up runner.
+     *
+     * @param currentVersion the version synthetic documents are migrated to, must not be {@code null}
+     * @param schemaRegistry the schemas to prepare, must not be {@code null}
+     * @param dataFixer      the fixer to warm up, must not be {@code null}
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public WarmUpRunner(
+            @NotNull final DataVersion currentVersion,
+            @NotNull final SchemaRegistry schemaRegistry,
+            @NotNull final DataFixer dataFixer
+    ) {
+        this.currentVersion = Preconditions.checkNotNull(currentVersion, "currentVersion must not be null");
+        this.schemaRegistry = Preconditions.checkNotNull(schemaRegistry, "schemaRegistry must not be null");
+        this.dataFixer = Preconditions.checkNotNull(dataFixer, "dataFixer must not be null");
+    }
+
+    /**
+     * Runs the warm-up.
+     *
+     * @param options the warm-up options, must not be {@code null}
+     * @return the report, never {@code null}
+     * @throws NullPointerException if options is {@code null}
+     */
+    @NotNull
+    public WarmUpReport run(@NotNull final WarmUpOptions options) {
+        Preconditions.checkNotNull(options, "options must not be null");
+        final long start = System.nanoTime();
+
+        final List<Schema> schemas = this.schemaRegistry.stream()
+                .sorted(Comparator.comparing(Schema::version))
+                .toList();
+        int types = 0;
+        for (final Schema schema : schemas) {
+            types += schema.types().references().size();
+        }
+        final int preparedFixes = this.dataFixer instanceof DataFixerImpl impl ? impl.prepareFixes() : 0;
+        options.listener().onPrepared(schemas.size(), types, preparedFixes);
+
+        final DynamicOps<?> ops = options.ops();
+        if (ops == null) {
+            return new WarmUpReport(schemas.size(), types, preparedFixes, 0, 0L, 0L,
+                    Duration.ofNanos(System.nanoTime() - start));
+        }
+
+        long failures = 0L;
+        final List<Sample> samples = new ArrayList<>();
+        for (final Schema schema : schemas) {
+            if (schema.version().compareTo(this.currentVersion) >= 0) {
+                continue;
+            }
+            for (final TypeReference type : schema.types().references()) {
+                try {
+                    final Dynamic<?> document = options.documentFactory().create(schema, type, ops);
+                    if (document != null) {
+                        samples.add(new Sample(type, schema.version(), document));
+                    }
+                } catch (final RuntimeException e) {
+                    failures++;
+                }
+            }
+        }
+
+        final long roundsStart = System.nanoTime();
+        final long budget = options.duration().toNanos();
+        long migrations = 0L;
+        int rounds = 0;
+        if (!samples.isEmpty()) {
+            do {
+                for (final Sample sample : samples) {
+                    try {
+                        this.migrate(sample);
+                        migrations++;
+                    } catch (final RuntimeException e) {
+                        failures++;
+                    }
+                }
+                rounds++;
+                options.listener().onRoundCompleted(rounds, migrations, failures,
+                        Duration.ofNanos(System.nanoTime() - roundsStart));
+            } while (rounds < options.maxRounds()
+                    && System.nanoTime() - roundsStart < budget
+                    && !Thread.currentThread().isInterrupted());
+        }
+
+        return new WarmUpReport(schemas.size(), types, preparedFixes, rounds, migrations, failures,
+                Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Migrates a sample, bypassing listeners, JFR events and memoization when the fixer
+     * supports it.
+     */
+    private void migrate(@NotNull final Sample sample) {
+        if (this.dataFixer instanceof DataFixerImpl impl) {
+            impl.warmUpUpdate(sample.type(), sample.document(), sample.version(),
+                    this.currentVersion, NoOpDataFixerContext.INSTANCE);
+        } else {
+            this.dataFixer.update(sample.type(), sample.document(), sample.version(),
+                    this.currentVersion, NoOpDataFixerContext.INSTANCE);
+        }
+    }
+
+    /**
+     * A synthetic document with the type and version it is migrated from.
+     */
+    private record Sample(TypeReference type, DataVersion version, Dynamic<?> document) {
+    }
+}
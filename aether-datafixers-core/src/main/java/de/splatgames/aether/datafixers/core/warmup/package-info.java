@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * Warm-up of a data fixer before it serves traffic.
+ *
+ * <p>The first migrations after startup are slow: schema type registries and fix rules are
+ * built on first use and the fix code still runs interpreted. A warm-up moves this cost out
+ * of the first requests by building everything eagerly and migrating synthetic documents
+ * through every fix for a time budget.</p>
+ *
+ * <h2>Key Components</h2>
+ *
+ * <dl>
+ *   <dt>{@link de.splatgames.aether.datafixers.core.warmup.WarmUpOptions}</dt>
+ *   <dd>Format, time budget, round limit, document factory and listener</dd>
+ *
+ *   <dt>{@link de.splatgames.aether.datafixers.core.warmup.WarmUpRunner}</dt>
+ *   <dd>Prepares schemas and fixes, then runs the synthetic rounds</dd>
+ *
+ *   <dt>{@link de.splatgames.aether.datafixers.core.warmup.WarmUpReport}</dt>
+ *   <dd>Counts of prepared schemas, types and fixes and of synthetic migrations</dd>
+ * </dl>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * WarmUpReport report = fixer.warmUp(WarmUpOptions.defaults(GsonOps.INSTANCE));
+ * }</pre>
+ *
+ * @author Erik Pförtner
+ * @since 0.6.0
+ */
+package de.splatgames.aether.datafixers.core.warmup;
@@ -0,0 +1,288 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.core.bootstrap;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.bootstrap.DataFixerBootstrap;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.fix.DataFix;
+import de.splatgames.aether.datafixers.api.fix.DataFixerContext;
+import de.splatgames.aether.datafixers.api.fix.FixRegistrar;
+import de.splatgames.aether.datafixers.api.schema.Schema;
+import de.splatgames.aether.datafixers.api.schema.SchemaRegistry;
+import de.splatgames.aether.datafixers.api.type.Type;
+import de.splatgames.aether.datafixers.core.bootstrap.BootstrapSnapshot.FixEntry;
+import de.splatgames.aether.datafixers.core.type.SimpleTypeRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link BootstrapSnapshot}.
+ */
+@DisplayName("BootstrapSnapshot")
+class BootstrapSnapshotTest {
+
+    private static final TypeReference PLAYER = new TypeReference("player");
+    private static final TypeReference WORLD = new TypeReference("world");
+    private static final DataVersion V1 = new DataVersion(1);
+    private static final DataVersion V2 = new DataVersion(2);
+    private static final DataVersion V3 = new DataVersion(3);
+
+    @TempDir
+    Path tempDir;
+
+    private static BootstrapSnapshot capture() {
+        return BootstrapSnapshot.capture("test.Bootstrap", V3, new SnapshotBootstrap());
+    }
+
+    @Nested
+    @DisplayName("capture()")
+    class Capture {
+
+        @Test
+        @DisplayName("records bootstrap id and current version")
+        void recordsIdAndVersion() {
+            final BootstrapSnapshot snapshot = capture();
+
+            assertThat(snapshot.bootstrapId()).isEqualTo("test.Bootstrap");
+            assertThat(snapshot.currentVersion()).isEqualTo(V3);
+        }
+
+        @Test
+        @DisplayName("records schema versions and their types")
+        void recordsSchemas() {
+            final BootstrapSnapshot snapshot = capture();
+
+            assertThat(snapshot.schemaVersions()).containsExactly(V1, V2, V3);
+            assertThat(snapshot.schemaTypes(V1)).containsExactly(PLAYER);
+            assertThat(snapshot.schemaTypes(V3)).containsExactly(PLAYER, WORLD);
+            assertThat(snapshot.schemaTypes(new DataVersion(99))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("records fix plans per type in version order")
+        void recordsFixPlans() {
+            final BootstrapSnapshot snapshot = capture();
+
+            assertThat(snapshot.fixedTypes()).containsExactly(PLAYER, WORLD);
+            assertThat(snapshot.fixPlan(PLAYER, V1, V3)).containsExactly(
+                    new FixEntry("player_v1", V1, V2),
+                    new FixEntry("player_v2", V2, V3));
+        }
+
+        @Test
+        @DisplayName("records the fingerprint of the bootstrap class")
+        void recordsFingerprint() throws IOException {
+            final BootstrapSnapshot snapshot = capture();
+
+            assertThat(snapshot.fingerprint()).isEqualTo(BootstrapSnapshot.fingerprintOf(SnapshotBootstrap.class));
+            assertThat(snapshot.fingerprint()).isNotEqualTo(BootstrapSnapshot.fingerprintOf(Preconditions.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("fingerprintOf()")
+    class FingerprintOf {
+
+        @Test
+        @DisplayName("is stable for the same class")
+        void isStable() throws IOException {
+            assertThat(BootstrapSnapshot.fingerprintOf(SnapshotBootstrap.class))
+                    .isEqualTo(BootstrapSnapshot.fingerprintOf(SnapshotBootstrap.class));
+        }
+
+        @Test
+        @DisplayName("hashes the whole archive of classes loaded from a JAR")
+        void hashesArchive() throws IOException {
+            assertThat(BootstrapSnapshot.fingerprintOf(Preconditions.class))
+                    .isEqualTo(BootstrapSnapshot.fingerprintOf(ImmutableList.class));
+        }
+
+        @Test
+        @DisplayName("hashes every class file of a class directory")
+        void hashesClassDirectory() throws Exception {
+            final Path classes = tempDir.resolve("classes");
+            final String classFile = Marker.class.getName().replace('.', '/') + ".class";
+            Files.createDirectories(classes.resolve(classFile).getParent());
+            try (InputStream in = Marker.class.getResourceAsStream("/" + classFile)) {
+                Files.copy(in, classes.resolve(classFile));
+            }
+
+            try (URLClassLoader loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, null)) {
+                final Class<?> marker = Class.forName(Marker.class.getName(), false, loader);
+                final long before = BootstrapSnapshot.fingerprintOf(marker);
+
+                Files.writeString(classes.resolve("notes.txt"), "ignored");
+                assertThat(BootstrapSnapshot.fingerprintOf(marker)).isEqualTo(before);
+
+                Files.write(classes.resolve("Other.class"), new byte[]{1, 2, 3});
+                assertThat(BootstrapSnapshot.fingerprintOf(marker)).isNotEqualTo(before);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("fixPlan()")
+    class FixPlan {
+
+        @Test
+        @DisplayName("only includes fixes inside the window")
+        void onlyIncludesFixesInsideWindow() {
+            final BootstrapSnapshot snapshot = capture();
+
+            assertThat(snapshot.fixPlan(PLAYER, V2, V3)).extracting(FixEntry::name).containsExactly("player_v2");
+            assertThat(snapshot.fixPlan(PLAYER, V1, V2)).extracting(FixEntry::name).containsExactly("player_v1");
+            assertThat(snapshot.fixPlan(WORLD, V1, V2)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("is empty for equal versions and unknown types")
+        void emptyForEqualVersionsAndUnknownTypes() {
+            final BootstrapSnapshot snapshot = capture();
+
+            assertThat(snapshot.fixPlan(PLAYER, V2, V2)).isEmpty();
+            assertThat(snapshot.requiresFixes(new TypeReference("entity"), V1, V3)).isFalse();
+            assertThat(snapshot.requiresFixes(WORLD, V2, V3)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("write() and read()")
+    class Persistence {
+
+        @Test
+        @DisplayName("round-trips all data")
+        void roundTrips() throws IOException {
+            final BootstrapSnapshot original = capture();
+            final Path file = tempDir.resolve("bootstrap.snapshot");
+
+            original.write(file);
+            final BootstrapSnapshot read = BootstrapSnapshot.read(file);
+
+            assertThat(read.bootstrapId()).isEqualTo(original.bootstrapId());
+            assertThat(read.currentVersion()).isEqualTo(original.currentVersion());
+            assertThat(read.fingerprint()).isEqualTo(original.fingerprint());
+            assertThat(read.schemaVersions()).isEqualTo(original.schemaVersions());
+            for (final DataVersion version : original.schemaVersions()) {
+                assertThat(read.schemaTypes(version)).containsExactlyElementsOf(original.schemaTypes(version));
+            }
+            assertThat(read.fixedTypes()).containsExactlyElementsOf(original.fixedTypes());
+            assertThat(read.fixPlan(PLAYER, V1, V3)).isEqualTo(original.fixPlan(PLAYER, V1, V3));
+            assertThat(read.fixPlan(WORLD, V1, V3)).isEqualTo(original.fixPlan(WORLD, V1, V3));
+        }
+
+        @Test
+        @DisplayName("overwrites an existing file")
+        void overwritesExistingFile() throws IOException {
+            final Path file = tempDir.resolve("bootstrap.snapshot");
+            Files.writeString(file, "old");
+
+            capture().write(file);
+
+            assertThat(BootstrapSnapshot.read(file).bootstrapId()).isEqualTo("test.Bootstrap");
+        }
+
+        @Test
+        @DisplayName("rejects files that are not snapshots")
+        void rejectsForeignFiles() throws IOException {
+            final Path file = tempDir.resolve("data.json");
+            Files.writeString(file, "{\"dataVersion\": 1}");
+
+            assertThatThrownBy(() -> BootstrapSnapshot.read(file))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("Not a bootstrap snapshot");
+        }
+
+        @Test
+        @DisplayName("rejects corrupted snapshots")
+        void rejectsCorruptedSnapshots() throws IOException {
+            final Path file = tempDir.resolve("bootstrap.snapshot");
+            capture().write(file);
+            final byte[] bytes = Files.readAllBytes(file);
+            bytes[bytes.length - 1] ^= 0x7F;
+            Files.write(file, bytes);
+
+            assertThatThrownBy(() -> BootstrapSnapshot.read(file))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("checksum");
+        }
+    }
+
+    private static final class Marker {
+    }
+
+    private static final class SnapshotBootstrap implements DataFixerBootstrap {
+
+        @Override
+        public void registerSchemas(@NotNull final SchemaRegistry schemas) {
+            schemas.register(schema(V1, PLAYER));
+            schemas.register(schema(V2, PLAYER));
+            schemas.register(schema(V3, WORLD, PLAYER));
+        }
+
+        @Override
+        public void registerFixes(@NotNull final FixRegistrar fixes) {
+            fixes.register(PLAYER, new NamedFix("player_v2", V2, V3));
+            fixes.register(PLAYER, new NamedFix("player_v1", V1, V2));
+            fixes.register(WORLD, new NamedFix("world_v2", V2, V3));
+        }
+
+        private static Schema schema(final DataVersion version, final TypeReference... types) {
+            final SimpleTypeRegistry registry = new SimpleTypeRegistry();
+            for (final TypeReference type : types) {
+                registry.register(Type.named(type.getId(), Type.PASSTHROUGH));
+            }
+            return new Schema(version, registry);
+        }
+    }
+
+    private record NamedFix(String name, DataVersion fromVersion, DataVersion toVersion) implements DataFix<Object> {
+
+        @NotNull
+        @Override
+        public Dynamic<Object> apply(
+                @NotNull final TypeReference type,
+                @NotNull final Dynamic<Object> input,
+                @NotNull final DataFixerContext context
+        ) {
+            return input;
+        }
+    }
+}
@@ -35,6 +35,7 @@ import de.splatgames.aether.datafixers.api.fix.FixRegistrar;
 import de.splatgames.aether.datafixers.api.schema.Schema;
 import de.splatgames.aether.datafixers.api.schema.SchemaRegistry;
 import de.splatgames.aether.datafixers.api.type.Type;
+import de.splatgames.aether.datafixers.api.type.TypeRegistry;
 import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
 import de.splatgames.aether.datafixers.core.AetherDataFixer;
 import de.splatgames.aether.datafixers.core.type.SimpleTypeRegistry;
@@ -44,6 +45,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
@@ -159,6 +165,133 @@ class DataFixerRuntimeFactoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Schema initialization")
+    class SchemaInitializationModes {
+
+        @Test
+        @DisplayName("defaults to lazy initialization")
+        void defaultsToLazy() {
+            assertThat(factory.initialization()).isEqualTo(SchemaInitialization.LAZY);
+        }
+
+        @Test
+        @DisplayName("lazy mode builds no schema types at creation")
+        void lazyBuildsNothingAtCreation() {
+            final CountingBootstrap bootstrap = new CountingBootstrap(10);
+
+            new DataFixerRuntimeFactory(SchemaInitialization.LAZY).create(new DataVersion(10), bootstrap);
+
+            assertThat(bootstrap.built).isEmpty();
+            bootstrap.schemas.require(new DataVersion(3)).types();
+            assertThat(bootstrap.built).containsExactly(3);
+        }
+
+        @Test
+        @DisplayName("eager mode builds all schema types at creation")
+        void eagerBuildsAllSchemas() {
+            final CountingBootstrap bootstrap = new CountingBootstrap(10);
+
+            new DataFixerRuntimeFactory(SchemaInitialization.EAGER).create(new DataVersion(10), bootstrap);
+
+            assertThat(bootstrap.built).hasSize(10);
+        }
+
+        @Test
+        @DisplayName("parallel mode builds all schema types on the executor")
+        void parallelBuildsAllSchemas() {
+            final CountingBootstrap bootstrap = new CountingBootstrap(50);
+            final ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                new DataFixerRuntimeFactory(SchemaInitialization.PARALLEL, executor)
+                        .create(new DataVersion(50), bootstrap);
+
+                assertThat(bootstrap.built).hasSize(50);
+                assertThat(bootstrap.schemas.require(new DataVersion(50)).types().has(PLAYER)).isTrue();
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("parallel mode rethrows schema build failures")
+        void parallelRethrowsFailures() {
+            final CountingBootstrap bootstrap = new CountingBootstrap(5, 3);
+            final DataFixerRuntimeFactory parallel = new DataFixerRuntimeFactory(SchemaInitialization.PARALLEL);
+
+            assertThatThrownBy(() -> parallel.create(new DataVersion(5), bootstrap))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("schema 3");
+        }
+
+        @Test
+        @DisplayName("rejects null arguments")
+        void rejectsNullArguments() {
+            assertThatThrownBy(() -> new DataFixerRuntimeFactory(null))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("initialization");
+            assertThatThrownBy(() -> new DataFixerRuntimeFactory(SchemaInitialization.PARALLEL, null))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("executor");
+        }
+    }
+
+    private static final class CountingBootstrap implements DataFixerBootstrap {
+        private final Set<Integer> built = ConcurrentHashMap.newKeySet();
+        private final int count;
+        private final int failing;
+        private SchemaRegistry schemas;
+
+        CountingBootstrap(int count) {
+            this(count, -1);
+        }
+
+        CountingBootstrap(int count, int failing) {
+            this.count = count;
+            this.failing = failing;
+        }
+
+        @Override
+        public void registerSchemas(@NotNull SchemaRegistry schemas) {
+            this.schemas = schemas;
+            Schema parent = null;
+            for (int version = 1; version <= count; version++) {
+                parent = new CountingSchema(version, parent, this);
+                schemas.register(parent);
+            }
+        }
+
+        @Override
+        public void registerFixes(@NotNull FixRegistrar fixes) {
+            // No fixes needed
+        }
+    }
+
+    private static final class CountingSchema extends Schema {
+        private final CountingBootstrap bootstrap;
+
+        CountingSchema(int versionId, Schema parent, CountingBootstrap bootstrap) {
+            super(versionId, parent);
+            this.bootstrap = bootstrap;
+        }
+
+        @NotNull
+        @Override
+        protected TypeRegistry createTypeRegistry() {
+            return new SimpleTypeRegistry();
+        }
+
+        @Override
+        protected void registerTypes() {
+            final int version = version().getVersion();
+            if (version == bootstrap.failing) {
+                throw new IllegalStateException("schema " + version + " is broken");
+            }
+            registerType(Type.named(PLAYER.getId(), Type.PASSTHROUGH));
+            bootstrap.built.add(version);
+        }
+    }
+
     private static class TestBootstrap implements DataFixerBootstrap {
         @Override
         public void registerSchemas(@NotNull SchemaRegistry schemas) {
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.core.columnar;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.rewrite.Rules;
+import de.splatgames.aether.datafixers.api.rewrite.TypeRewriteRule;
+import de.splatgames.aether.datafixers.api.type.Type;
+import de.splatgames.aether.datafixers.api.type.Typed;
+import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for {@link RecordBatch} and {@link ColumnarExecutor}.
+ */
+@DisplayName("Columnar Execution")
+class ColumnarExecutorTest {
+
+    private static final GsonOps OPS = GsonOps.INSTANCE;
+
+    private static Dynamic<JsonElement> player(final String name, final int level, final boolean legacy) {
+        final JsonObject obj = new JsonObject();
+        obj.addProperty("playerName", name);
+        obj.add("level", OPS.createInt(level));
+        if (legacy) {
+            obj.addProperty("legacy", true);
+        }
+        return new Dynamic<>(OPS, obj);
+    }
+
+    private static List<Dynamic<JsonElement>> players(final int count) {
+        final List<Dynamic<JsonElement>> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            rows.add(player("p" + i, i, i % 2 == 0));
+        }
+        return rows;
+    }
+
+    private static List<Dynamic<JsonElement>> rowWise(final List<Dynamic<JsonElement>> rows,
+                                                      final TypeRewriteRule... rules) {
+        final List<Dynamic<JsonElement>> result = new ArrayList<>();
+        for (final Dynamic<JsonElement> row : rows) {
+            Typed<?> typed = new Typed<>(Type.PASSTHROUGH, row);
+            for (final TypeRewriteRule rule : rules) {
+                typed = rule.apply(typed);
+            }
+            @SuppressWarnings("unchecked")
+            final Dynamic<JsonElement> value = (Dynamic<JsonElement>) typed.value();
+            result.add(value);
+        }
+        return result;
+    }
+
+    private static <T> Dynamic<T> tag(final Dynamic<T> dynamic) {
+        final String name = dynamic.get("playerName").asString().result().orElse("");
+        return dynamic.set("tag", dynamic.createString(name.toUpperCase()));
+    }
+
+    @Nested
+    @DisplayName("RecordBatch")
+    class RecordBatchTests {
+
+        @Test
+        @DisplayName("round-trips records")
+        void roundTripsRecords() {
+            final List<Dynamic<JsonElement>> rows = players(5);
+
+            final RecordBatch<JsonElement> batch = RecordBatch.of(OPS, rows);
+
+            assertThat(batch.size()).isEqualTo(5);
+            assertThat(batch.fields()).containsExactly("playerName", "level", "legacy");
+            assertThat(batch.toDynamics()).isEqualTo(rows);
+            assertThat(batch.row(3)).isEqualTo(rows.get(3));
+        }
+
+        @Test
+        @DisplayName("stores exact integers in primitive columns")
+        void storesIntegersInPrimitiveColumns() {
+            final RecordBatch<JsonElement> batch = RecordBatch.of(OPS, players(3));
+
+            assertThat(batch.isPrimitive("level")).isTrue();
+            assertThat(batch.isPrimitive("playerName")).isFalse();
+        }
+
+        @Test
+        @DisplayName("stores parsed JSON numbers in primitive columns")
+        void storesParsedNumbersInPrimitiveColumns() {
+            final List<Dynamic<JsonElement>> rows = new ArrayList<>();
+            for (final String json : List.of(
+                    "{\"level\":1,\"xp\":9007199254740993,\"ratio\":0.5,\"mixed\":1}",
+                    "{\"level\":2,\"xp\":3000000000,\"ratio\":2.25,\"mixed\":0.1000000000000000000001}")) {
+                rows.add(new Dynamic<>(OPS, JsonParser.parseString(json)));
+            }
+
+            final RecordBatch<JsonElement> batch = RecordBatch.of(OPS, rows);
+
+            assertThat(batch.isPrimitive("level")).isTrue();
+            assertThat(batch.isPrimitive("xp")).isTrue();
+            assertThat(batch.isPrimitive("ratio")).isTrue();
+            assertThat(batch.isPrimitive("mixed")).isFalse();
+            assertThat(batch.toDynamics()).isEqualTo(rows);
+            assertThat(batch.row(0).get("xp").asLong().result()).contains(9007199254740993L);
+        }
+
+        @Test
+        @DisplayName("rejects non-map rows")
+        void rejectsNonMapRows() {
+            assertThatThrownBy(() -> RecordBatch.of(OPS, List.of(new Dynamic<>(OPS, OPS.createInt(1)))))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("rename merges into an existing column")
+        void renameMergesIntoExistingColumn() {
+            final JsonObject both = new JsonObject();
+            both.addProperty("a", 1);
+            both.addProperty("b", 2);
+            final JsonObject onlyB = new JsonObject();
+            onlyB.addProperty("b", 3);
+            final RecordBatch<JsonElement> batch = RecordBatch.of(OPS,
+                    List.of(new Dynamic<>(OPS, both), new Dynamic<>(OPS, onlyB)));
+
+            batch.renameField("a", "b");
+
+            assertThat(batch.fields()).containsExactly("b");
+            assertThat(batch.row(0).get("b").asInt().result()).contains(1);
+            assertThat(batch.row(1).get("b").asInt().result()).contains(3);
+        }
+
+        @Test
+        @DisplayName("rename moves the field to the end like the row-wise rename")
+        void renameMovesFieldToEnd() {
+            final List<Dynamic<JsonElement>> rows = players(2);
+            final RecordBatch<JsonElement> batch = RecordBatch.of(OPS, rows);
+
+            batch.renameField("playerName", "name");
+
+            assertThat(batch.fields()).containsExactly("level", "legacy", "name");
+            final List<Dynamic<JsonElement>> expected = rowWise(rows, Rules.renameField(OPS, "playerName", "name"));
+            for (int row = 0; row < rows.size(); row++) {
+                assertThat(batch.row(row).value().getAsJsonObject().keySet())
+                        .containsExactlyElementsOf(expected.get(row).value().getAsJsonObject().keySet());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("ColumnarExecutor")
+    class ExecutorTests {
+
+        @Test
+        @DisplayName("field rules match row-wise execution")
+        void fieldRulesMatchRowWise() {
+            final TypeRewriteRule[] rules = {
+                    Rules.renameField(OPS, "playerName", "name"),
+                    Rules.transformField(OPS, "level", d -> d.createInt(d.asInt().result().orElse(0) * 2)),
+                    Rules.removeField(OPS, "legacy"),
+                    Rules.addField(OPS, "score", new Dynamic<>(OPS, OPS.createInt(0))),
+                    Rules.setField(OPS, "version", new Dynamic<>(OPS, OPS.createString("2")))
+            };
+            final List<Dynamic<JsonElement>> rows = players(20);
+            final List<Dynamic<JsonElement>> expected = rowWise(rows, rules);
+
+            final RecordBatch<JsonElement> batch = new ColumnarExecutor()
+                    .execute(RecordBatch.of(OPS, rows), rules);
+
+            assertThat(batch.toDynamics()).isEqualTo(expected);
+            assertThat(batch.isPrimitive("level")).isTrue();
+        }
+
+        @Test
+        @DisplayName("falls back to row-wise execution for other rules")
+        void fallsBackForOtherRules() {
+            final TypeRewriteRule custom = Rules.dynamicTransform("upper", OPS, ColumnarExecutorTest::tag);
+            final TypeRewriteRule[] rules = {
+                    custom,
+                    Rules.renameField(OPS, "playerName", "name")
+            };
+            final List<Dynamic<JsonElement>> rows = players(4);
+            final List<Dynamic<JsonElement>> expected = rowWise(rows, rules);
+
+            final RecordBatch<JsonElement> batch = RecordBatch.of(OPS, rows);
+            new ColumnarExecutor().execute(batch, rules);
+
+            assertThat(batch.toDynamics()).isEqualTo(expected);
+            assertThat(batch.row(1).get("tag").asString().result()).contains("P1");
+        }
+
+        @Test
+        @DisplayName("re-encodes decoded results of row-wise rules")
+        void reEncodesDecodedResults() {
+            final Type<String> nameType = Type.field("name", Type.STRING);
+            final TypeRewriteRule toName = TypeRewriteRule.simple("toName", typed -> new Typed<>(nameType,
+                    ((Dynamic<?>) typed.value()).get("playerName").asString().result().orElse("")));
+            final RecordBatch<JsonElement> batch = RecordBatch.of(OPS, players(3));
+
+            new ColumnarExecutor(nameType).execute(batch, toName, Rules.renameField(OPS, "name", "n"));
+
+            assertThat(batch.row(2).get("n").asString().result()).contains("p2");
+            assertThat(batch.row(2).value().getAsJsonObject().has("level")).isFalse();
+        }
+    }
+}
@@ -178,6 +178,71 @@ class DiagnosticContextImplTest {
         }
     }
 
+    @Nested
+    @DisplayName("Log Retention")
+    class LogRetention {
+
+        @Test
+        @DisplayName("keeps only the most recent maxLogEntries entries")
+        void keepsMostRecentEntries() {
+            final DiagnosticContextImpl bounded = new DiagnosticContextImpl(
+                    DiagnosticOptions.builder().maxLogEntries(3).build());
+
+            for (int i = 0; i < 5; i++) {
+                bounded.info("Log {}", i);
+            }
+
+            assertThat(bounded.logCount()).isEqualTo(3);
+            assertThat(bounded.droppedLogCount()).isEqualTo(2);
+            assertThat(bounded.logs()).extracting(DiagnosticContextImpl.LogEntry::formattedMessage)
+                    .containsExactly("Log 2", "Log 3", "Log 4");
+        }
+
+        @Test
+        @DisplayName("caps report warnings at maxLogEntries and counts the rest")
+        void capsReportWarnings() {
+            final DiagnosticContextImpl bounded = new DiagnosticContextImpl(
+                    DiagnosticOptions.builder().maxLogEntries(2).build());
+            bounded.reportBuilder().startMigration(PLAYER, new DataVersion(1), new DataVersion(2));
+
+            for (int i = 0; i < 5; i++) {
+                bounded.warn("warning {}", i);
+            }
+
+            assertThat(bounded.warnLogs()).extracting(DiagnosticContextImpl.LogEntry::formattedMessage)
+                    .containsExactly("warning 3", "warning 4");
+            assertThat(bounded.getReport().warnings()).containsExactly("warning 0", "warning 1");
+            assertThat(bounded.droppedWarningCount()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("zero maxLogEntries retains every entry")
+        void zeroRetainsEverything() {
+            final DiagnosticContextImpl unbounded = new DiagnosticContextImpl(
+                    DiagnosticOptions.builder().maxLogEntries(0).build());
+
+            for (int i = 0; i < 2000; i++) {
+                unbounded.info("Log");
+            }
+
+            assertThat(unbounded.logCount()).isEqualTo(2000);
+            assertThat(unbounded.droppedLogCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("clear() resets the dropped count")
+        void clearResetsDroppedCount() {
+            final DiagnosticContextImpl bounded = new DiagnosticContextImpl(
+                    DiagnosticOptions.builder().maxLogEntries(1).build());
+            bounded.info("a");
+            bounded.info("b");
+
+            bounded.clear();
+
+            assertThat(bounded.droppedLogCount()).isZero();
+        }
+    }
+
     @Nested
     @DisplayName("Message Formatting")
     class MessageFormatting {
@@ -110,5 +110,60 @@ class DiagnosticOptionsTest {
 
             assertThat(options.maxSnapshotLength()).isEqualTo(0);
         }
+
+        @Test
+        @DisplayName("builder defaults maxLogEntries and rejects negative values")
+        void builderMaxLogEntries() {
+            assertThat(DiagnosticOptions.builder().build().maxLogEntries())
+                    .isEqualTo(DiagnosticOptions.DEFAULT_MAX_LOG_ENTRIES);
+            assertThat(DiagnosticOptions.builder().maxLogEntries(10).build().maxLogEntries()).isEqualTo(10);
+            assertThatThrownBy(() -> DiagnosticOptions.builder().maxLogEntries(-1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Sampling")
+    class Sampling {
+
+        @Test
+        @DisplayName("sampled() disables snapshots and rule details")
+        void sampledDisablesDetails() {
+            DiagnosticOptions options = DiagnosticOptions.sampled(DiagnosticOptions.Sampling.everyNth(10));
+
+            assertThat(options.isSampling()).isTrue();
+            assertThat(options.captureSnapshots()).isFalse();
+            assertThat(options.captureRuleDetails()).isFalse();
+            assertThat(options.sampling().everyNth()).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("presets do not sample")
+        void presetsDoNotSample() {
+            assertThat(DiagnosticOptions.defaults().isSampling()).isFalse();
+            assertThat(DiagnosticOptions.minimal().sampling()).isNull();
+        }
+
+        @Test
+        @DisplayName("builder sets sampling")
+        void builderSetsSampling() {
+            DiagnosticOptions options = DiagnosticOptions.builder()
+                    .sampling(DiagnosticOptions.Sampling.rateLimited(50))
+                    .build();
+
+            assertThat(options.sampling().maxPerSecond()).isEqualTo(50);
+            assertThat(options.sampling().everyNth()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("rejects invalid sampling values")
+        void rejectsInvalidValues() {
+            assertThatThrownBy(() -> DiagnosticOptions.Sampling.everyNth(0))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new DiagnosticOptions.Sampling(1, -1, 16))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new DiagnosticOptions.Sampling(1, 0, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
     }
 }
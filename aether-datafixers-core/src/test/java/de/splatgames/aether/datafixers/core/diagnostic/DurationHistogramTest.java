@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.core.diagnostic;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link DurationHistogram}.
+ */
+@DisplayName("DurationHistogram")
+class DurationHistogramTest {
+
+    @Test
+    @DisplayName("is empty initially")
+    void emptyInitially() {
+        final DurationHistogram histogram = new DurationHistogram();
+
+        assertThat(histogram.count()).isZero();
+        assertThat(histogram.valueAt(0.99)).isZero();
+    }
+
+    @Test
+    @DisplayName("reports percentiles within 12.5%")
+    void reportsPercentilesWithinBound() {
+        final DurationHistogram histogram = new DurationHistogram();
+        for (long nanos = 1; nanos <= 1000; nanos++) {
+            histogram.record(nanos * 1_000L);
+        }
+
+        assertThat(histogram.count()).isEqualTo(1000);
+        assertThat(histogram.valueAt(0.5)).isBetween(500_000L, 562_500L);
+        assertThat(histogram.valueAt(0.99)).isBetween(990_000L, 1_113_750L);
+        assertThat(histogram.valueAt(1.0)).isGreaterThanOrEqualTo(1_000_000L);
+    }
+
+    @Test
+    @DisplayName("clamps negative and oversized durations")
+    void clampsOutOfRangeDurations() {
+        final DurationHistogram histogram = new DurationHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+
+        assertThat(histogram.valueAt(0.5)).isZero();
+        assertThat(histogram.valueAt(1.0)).isGreaterThan(1L << 39);
+    }
+
+    @Test
+    @DisplayName("bucket bounds stay within 12.5% of the value")
+    void bucketBoundsAreTight() {
+        for (long value : new long[]{0, 1, 7, 8, 9, 15, 16, 1_000, 123_456, 987_654_321L, 1L << 39}) {
+            final long upper = DurationHistogram.upperBoundOf(DurationHistogram.indexOf(value));
+            assertThat(upper).isGreaterThanOrEqualTo(value);
+            assertThat(upper - value).isLessThanOrEqualTo(value / 8);
+        }
+    }
+
+    @Test
+    @DisplayName("addAll() merges the counts of another histogram")
+    void addAllMergesCounts() {
+        final DurationHistogram first = new DurationHistogram();
+        final DurationHistogram second = new DurationHistogram();
+        first.record(1_000L);
+        second.record(1_000_000L);
+        second.record(2_000_000L);
+
+        final DurationHistogram merged = new DurationHistogram();
+        merged.addAll(first);
+        merged.addAll(second);
+
+        assertThat(merged.count()).isEqualTo(3);
+        assertThat(merged.valueAt(0.1)).isBetween(1_000L, 1_125L);
+        assertThat(merged.valueAt(1.0)).isBetween(2_000_000L, 2_250_000L);
+        assertThat(second.count()).isEqualTo(2);
+    }
+}
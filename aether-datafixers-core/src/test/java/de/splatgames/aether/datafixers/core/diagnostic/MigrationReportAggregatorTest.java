@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.core.diagnostic;
+
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.diagnostic.FixExecution;
+import de.splatgames.aether.datafixers.api.diagnostic.MigrationReport;
+import de.splatgames.aether.datafixers.api.diagnostic.RuleApplication;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link MigrationReportAggregator}.
+ */
+@DisplayName("MigrationReportAggregator")
+class MigrationReportAggregatorTest {
+
+    private static final TypeReference PLAYER = new TypeReference("player");
+    private static final TypeReference WORLD = new TypeReference("world");
+
+    @NotNull
+    private static MigrationReport report(final int from,
+                                          final int to,
+                                          final long millis,
+                                          @NotNull final List<FixExecution> fixes,
+                                          @NotNull final Set<TypeReference> types,
+                                          @NotNull final List<String> warnings) {
+        return new TestReport(new DataVersion(from), new DataVersion(to), Duration.ofMillis(millis),
+                fixes, types, warnings);
+    }
+
+    @NotNull
+    private static FixExecution fix(@NotNull final String name, final long millis, final int rules) {
+        final List<RuleApplication> applications = new ArrayList<>();
+        for (int i = 0; i < rules; i++) {
+            applications.add(RuleApplication.of("rule" + i, "player", Instant.EPOCH, Duration.ZERO, true));
+        }
+        return new FixExecution(name, new DataVersion(1), new DataVersion(2), Instant.EPOCH,
+                Duration.ofMillis(millis), applications, null, null);
+    }
+
+    @Nested
+    @DisplayName("Merging")
+    class Merging {
+
+        @Test
+        @DisplayName("empty aggregator has zero values")
+        void emptyAggregator() {
+            final AggregatedMigrationReport snapshot = new MigrationReportAggregator().snapshot();
+
+            assertThat(snapshot.migrations()).isZero();
+            assertThat(snapshot.minDuration()).isEqualTo(Duration.ZERO);
+            assertThat(snapshot.meanDuration()).isEqualTo(Duration.ZERO);
+            assertThat(snapshot.p99Duration()).isEqualTo(Duration.ZERO);
+            assertThat(snapshot.lowestFromVersion()).isZero();
+            assertThat(snapshot.highestToVersion()).isZero();
+            assertThat(snapshot.fixes()).isEmpty();
+            assertThat(snapshot.hasWarnings()).isFalse();
+        }
+
+        @Test
+        @DisplayName("merges durations, versions, fixes and types")
+        void mergesReports() {
+            final MigrationReportAggregator aggregator = new MigrationReportAggregator();
+            aggregator.add(report(1, 3, 10, List.of(fix("a", 4, 2), fix("b", 6, 1)), Set.of(PLAYER), List.of()));
+            aggregator.add(report(2, 5, 30, List.of(fix("a", 8, 3)), Set.of(PLAYER, WORLD), List.of()));
+
+            final AggregatedMigrationReport snapshot = aggregator.snapshot();
+
+            assertThat(snapshot.migrations()).isEqualTo(2);
+            assertThat(snapshot.totalDuration()).isEqualTo(Duration.ofMillis(40));
+            assertThat(snapshot.minDuration()).isEqualTo(Duration.ofMillis(10));
+            assertThat(snapshot.maxDuration()).isEqualTo(Duration.ofMillis(30));
+            assertThat(snapshot.meanDuration()).isEqualTo(Duration.ofMillis(20));
+            assertThat(snapshot.lowestFromVersion()).isEqualTo(1);
+            assertThat(snapshot.highestToVersion()).isEqualTo(5);
+            assertThat(snapshot.ruleApplications()).isEqualTo(6);
+            assertThat(snapshot.touchedTypes()).containsEntry("player", 2L).containsEntry("world", 1L);
+            assertThat(snapshot.fixes()).containsOnlyKeys("a", "b");
+
+            final FixStatistics a = snapshot.fixes().get("a");
+            assertThat(a.samples()).isEqualTo(2);
+            assertThat(a.failures()).isZero();
+            assertThat(a.total()).isEqualTo(Duration.ofMillis(12));
+            assertThat(a.min()).isEqualTo(Duration.ofMillis(4));
+            assertThat(a.max()).isEqualTo(Duration.ofMillis(8));
+        }
+
+        @Test
+        @DisplayName("percentiles are within one histogram bucket")
+        void percentilesAreApproximate() {
+            final MigrationReportAggregator aggregator = new MigrationReportAggregator();
+            for (int i = 1; i <= 100; i++) {
+                aggregator.add(report(1, 2, i, List.of(), Set.of(), List.of()));
+            }
+
+            final AggregatedMigrationReport snapshot = aggregator.snapshot();
+
+            assertThat(snapshot.p50Duration().toNanos())
+                    .isBetween(Duration.ofMillis(50).toNanos(), Duration.ofMillis(50).toNanos() * 9 / 8);
+            assertThat(snapshot.p99Duration().toNanos())
+                    .isBetween(Duration.ofMillis(99).toNanos(), Duration.ofMillis(99).toNanos() * 9 / 8);
+        }
+
+        @Test
+        @DisplayName("add() rejects null")
+        void addRejectsNull() {
+            assertThatThrownBy(() -> new MigrationReportAggregator().add(null))
+                    .isInstanceOf(NullPointerException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Warnings")
+    class Warnings {
+
+        @Test
+        @DisplayName("counts warnings per distinct message")
+        void countsDistinctMessages() {
+            final MigrationReportAggregator aggregator = new MigrationReportAggregator();
+            aggregator.add(report(1, 2, 1, List.of(), Set.of(), List.of("missing score", "missing score")));
+            aggregator.add(report(1, 2, 1, List.of(), Set.of(), List.of("missing score", "bad name")));
+
+            final AggregatedMigrationReport snapshot = aggregator.snapshot();
+
+            assertThat(snapshot.warningCount()).isEqualTo(4);
+            assertThat(snapshot.warnings()).containsEntry("missing score", 3L).containsEntry("bad name", 1L);
+            assertThat(snapshot.omittedWarnings()).isZero();
+        }
+
+        @Test
+        @DisplayName("caps the number of distinct messages")
+        void capsDistinctMessages() {
+            final MigrationReportAggregator aggregator = new MigrationReportAggregator(2);
+            aggregator.add(report(1, 2, 1, List.of(), Set.of(), List.of("a", "b", "c", "a", "d")));
+
+            final AggregatedMigrationReport snapshot = aggregator.snapshot();
+
+            assertThat(snapshot.warningCount()).isEqualTo(5);
+            assertThat(snapshot.warnings()).containsOnlyKeys("a", "b");
+            assertThat(snapshot.warnings().get("a")).isEqualTo(2L);
+            assertThat(snapshot.omittedWarnings()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("rejects a negative cap")
+        void rejectsNegativeCap() {
+            assertThatThrownBy(() -> new MigrationReportAggregator(-1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency")
+    class Concurrency {
+
+        @Test
+        @DisplayName("parallel adds are all counted")
+        void parallelAdds() throws InterruptedException {
+            final MigrationReportAggregator aggregator = new MigrationReportAggregator();
+            final MigrationReport report = report(1, 2, 3, List.of(fix("a", 1, 1)), Set.of(PLAYER), List.of("w"));
+            final ExecutorService executor = Executors.newFixedThreadPool(4);
+            for (int i = 0; i < 4000; i++) {
+                executor.execute(() -> aggregator.add(report));
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+            final AggregatedMigrationReport snapshot = aggregator.snapshot();
+
+            assertThat(snapshot.migrations()).isEqualTo(4000);
+            assertThat(snapshot.fixes().get("a").samples()).isEqualTo(4000);
+            assertThat(snapshot.touchedTypes()).containsEntry("player", 4000L);
+            assertThat(snapshot.warnings()).containsEntry("w", 4000L);
+        }
+    }
+
+    @Nested
+    @DisplayName("AggregatedMigrationReport")
+    class Summary {
+
+        @Test
+        @DisplayName("toSummary() lists fixes, types and warnings")
+        void toSummaryListsEverything() {
+            final MigrationReportAggregator aggregator = new MigrationReportAggregator();
+            aggregator.add(report(1, 2, 5, List.of(fix("rename", 2, 1)), Set.of(PLAYER), List.of("odd value")));
+
+            assertThat(aggregator.snapshot().toSummary())
+                    .contains("Migrations: 1 (v1 -> v2)")
+                    .contains("Fix rename: 1 applications")
+                    .contains("Type player: 1")
+                    .contains("1x odd value");
+        }
+    }
+
+    /**
+     * Fixed-duration report for deterministic aggregation.
+     */
+    private record TestReport(DataVersion fromVersion,
+                              DataVersion toVersion,
+                              Duration totalDuration,
+                              List<FixExecution> fixExecutions,
+                              Set<TypeReference> touchedTypes,
+                              List<String> warnings) implements MigrationReport {
+
+        @Override
+        public @NotNull TypeReference type() {
+            return PLAYER;
+        }
+
+        @Override
+        public @NotNull Instant startTime() {
+            return Instant.EPOCH;
+        }
+
+        @Override
+        public @NotNull Instant endTime() {
+            return Instant.EPOCH.plus(this.totalDuration);
+        }
+
+        @Override
+        public @NotNull Optional<String> inputSnapshot() {
+            return Optional.empty();
+        }
+
+        @Override
+        public @NotNull Optional<String> outputSnapshot() {
+            return Optional.empty();
+        }
+    }
+}
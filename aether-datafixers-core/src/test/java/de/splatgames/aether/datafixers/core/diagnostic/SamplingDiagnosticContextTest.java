@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.core.diagnostic;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.diagnostic.DiagnosticContext;
+import de.splatgames.aether.datafixers.api.diagnostic.DiagnosticOptions;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.exception.FixException;
+import de.splatgames.aether.datafixers.api.fix.DataFix;
+import de.splatgames.aether.datafixers.api.fix.DataFixer;
+import de.splatgames.aether.datafixers.api.fix.DataFixerContext;
+import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
+import de.splatgames.aether.datafixers.core.fix.DataFixerBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link SamplingDiagnosticContext}.
+ */
+@DisplayName("SamplingDiagnosticContext")
+class SamplingDiagnosticContextTest {
+
+    private static final TypeReference PLAYER = new TypeReference("player");
+
+    private static DataFix<JsonElement> fix(final String name, final int from, final int to,
+                                            final UnaryOperator<Dynamic<JsonElement>> body) {
+        return new DataFix<>() {
+            @Override
+            public @NotNull String name() {
+                return name;
+            }
+
+            @Override
+            public @NotNull DataVersion fromVersion() {
+                return new DataVersion(from);
+            }
+
+            @Override
+            public @NotNull DataVersion toVersion() {
+                return new DataVersion(to);
+            }
+
+            @Override
+            public @NotNull Dynamic<JsonElement> apply(@NotNull final TypeReference type,
+                                                       @NotNull final Dynamic<JsonElement> input,
+                                                       @NotNull final DataFixerContext context) {
+                return body.apply(input);
+            }
+        };
+    }
+
+    private static Dynamic<JsonElement> input() {
+        return new Dynamic<>(GsonOps.INSTANCE, new JsonObject());
+    }
+
+    private static SamplingDiagnosticContext sampler(final DiagnosticOptions.Sampling sampling) {
+        return (SamplingDiagnosticContext) DiagnosticContext.create(DiagnosticOptions.sampled(sampling));
+    }
+
+    @Nested
+    @DisplayName("Creation")
+    class Creation {
+
+        @Test
+        @DisplayName("DiagnosticContext.create() returns a sampling context for sampled options")
+        void createReturnsSamplingContext() {
+            DiagnosticContext context = DiagnosticContext.create(
+                    DiagnosticOptions.sampled(DiagnosticOptions.Sampling.everyNth(2)));
+
+            assertThat(context).isInstanceOf(SamplingDiagnosticContext.class);
+            assertThat(context.isDiagnosticEnabled()).isFalse();
+        }
+
+        @Test
+        @DisplayName("returns an empty report and a discarding report builder")
+        void returnsEmptyReport() {
+            SamplingDiagnosticContext context = sampler(DiagnosticOptions.Sampling.everyNth(1));
+
+            context.reportBuilder().addWarning("ignored");
+
+            assertThat(context.getReport().type()).isEqualTo(SamplingDiagnosticContext.EMPTY_REPORT_TYPE);
+            assertThat(context.getReport().fixExecutions()).isEmpty();
+            assertThat(context.getReport().warnings()).isEmpty();
+            assertThat(context.reportBuilder().build()).isSameAs(context.getReport());
+        }
+
+        @Test
+        @DisplayName("rejects options without sampling")
+        void rejectsOptionsWithoutSampling() {
+            assertThatThrownBy(() -> new SamplingDiagnosticContext(DiagnosticOptions.minimal()))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Sampling")
+    class Sampling {
+
+        @Test
+        @DisplayName("samples one in N migrations")
+        void samplesEveryNth() {
+            SamplingDiagnosticContext context = sampler(DiagnosticOptions.Sampling.everyNth(4));
+
+            int sampled = 0;
+            for (int i = 0; i < 20; i++) {
+                if (context.sample()) {
+                    sampled++;
+                }
+            }
+
+            assertThat(sampled).isEqualTo(5);
+            assertThat(context.migrationCount()).isEqualTo(20);
+            assertThat(context.sampledCount()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("limits samples per second")
+        void limitsSamplesPerSecond() {
+            SamplingDiagnosticContext context = sampler(DiagnosticOptions.Sampling.rateLimited(3));
+
+            int sampled = 0;
+            for (int i = 0; i < 100; i++) {
+                if (context.sample()) {
+                    sampled++;
+                }
+            }
+
+            assertThat(sampled).isBetween(3, 6);
+        }
+
+        @Test
+        @DisplayName("reset() starts a new rate-limit window")
+        void resetStartsNewWindow() {
+            SamplingDiagnosticContext context = sampler(DiagnosticOptions.Sampling.rateLimited(3));
+            for (int i = 0; i < 10; i++) {
+                context.sample();
+            }
+
+            context.reset();
+
+            assertThat(context.sample()).isTrue();
+            assertThat(context.sampledCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Statistics")
+    class Statistics {
+
+        @Test
+        @DisplayName("aggregates per-fix statistics of sampled migrations")
+        void aggregatesPerFixStatistics() {
+            DataFixer fixer = new DataFixerBuilder(new DataVersion(3))
+                    .addFix(PLAYER, fix("first", 1, 2, d -> d.set("a", d.createInt(1))))
+                    .addFix(PLAYER, fix("second", 2, 3, d -> d.set("b", d.createInt(2))))
+                    .build();
+            SamplingDiagnosticContext context = sampler(DiagnosticOptions.Sampling.everyNth(2));
+
+            for (int i = 0; i < 10; i++) {
+                Dynamic<JsonElement> result = fixer.update(PLAYER, input(), new DataVersion(1), new DataVersion(3), context);
+                assertThat(result.get("b").asInt().result()).contains(2);
+            }
+
+            Map<String, FixStatistics> statistics = context.statistics();
+            assertThat(statistics).containsOnlyKeys("first", "second");
+            FixStatistics first = statistics.get("first");
+            assertThat(first.samples()).isEqualTo(5);
+            assertThat(first.failures()).isZero();
+            assertThat(first.min()).isLessThanOrEqualTo(first.p50());
+            assertThat(first.p50()).isLessThanOrEqualTo(first.p99());
+            assertThat(first.p99()).isLessThanOrEqualTo(first.max());
+            assertThat(first.mean()).isLessThanOrEqualTo(first.max());
+        }
+
+        @Test
+        @DisplayName("records failures")
+        void recordsFailures() {
+            DataFixer fixer = new DataFixerBuilder(new DataVersion(2))
+                    .addFix(PLAYER, fix("broken", 1, 2, d -> {
+                        throw new IllegalStateException("boom");
+                    }))
+                    .build();
+            SamplingDiagnosticContext context = sampler(DiagnosticOptions.Sampling.everyNth(1));
+
+            assertThatThrownBy(() -> fixer.update(PLAYER, input(), new DataVersion(1), new DataVersion(2), context))
+                    .isInstanceOf(FixException.class);
+
+            assertThat(context.statistics().get("broken").failures()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("ring buffer bounds percentile memory")
+        void ringBufferBoundsMemory() {
+            SamplingDiagnosticContext context = sampler(new DiagnosticOptions.Sampling(1, 0, 4));
+
+            for (int i = 1; i <= 100; i++) {
+                context.recordFix("fix", i);
+            }
+
+            FixStatistics statistics = context.statistics().get("fix");
+            assertThat(statistics.samples()).isEqualTo(100);
+            assertThat(statistics.min().toNanos()).isEqualTo(1);
+            assertThat(statistics.max().toNanos()).isEqualTo(100);
+            assertThat(statistics.p50().toNanos()).isGreaterThanOrEqualTo(97);
+        }
+
+        @Test
+        @DisplayName("counts log messages without storing them")
+        void countsLogMessages() {
+            SamplingDiagnosticContext context = sampler(DiagnosticOptions.Sampling.everyNth(1));
+
+            context.info("a {}", 1);
+            context.info("a {} {} {}", 1, 2, 3);
+            context.warn("b");
+            context.warn("c {} {}", 1, 2);
+
+            assertThat(context.infoCount()).isEqualTo(2);
+            assertThat(context.warnCount()).isEqualTo(2);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.core.diagnostic;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.diagnostic.DiagnosticContext;
+import de.splatgames.aether.datafixers.api.diagnostic.DiagnosticOptions;
+import de.splatgames.aether.datafixers.api.diagnostic.FixExecution;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.fix.DataFix;
+import de.splatgames.aether.datafixers.api.fix.DataFixer;
+import de.splatgames.aether.datafixers.api.fix.DataFixerContext;
+import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
+import de.splatgames.aether.datafixers.core.fix.DataFixerBuilder;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link SnapshotWriter}.
+ */
+@DisplayName("SnapshotWriter")
+class SnapshotWriterTest {
+
+    private static final TypeReference PLAYER = new TypeReference("player");
+
+    private static Dynamic<JsonElement> player() {
+        JsonObject obj = new JsonObject();
+        obj.addProperty("playerName", "Al\"ice");
+        obj.addProperty("level", 10);
+        JsonArray items = new JsonArray();
+        items.add("sword");
+        items.add(true);
+        obj.add("items", items);
+        return new Dynamic<>(GsonOps.INSTANCE, obj);
+    }
+
+    @Nested
+    @DisplayName("snapshot()")
+    class Snapshot {
+
+        @Test
+        @DisplayName("renders compact JSON")
+        void rendersCompactJson() {
+            assertThat(SnapshotWriter.snapshot(player(), 0))
+                    .isEqualTo("{\"playerName\":\"Al\\\"ice\",\"level\":10,\"items\":[\"sword\",true]}");
+        }
+
+        @Test
+        @DisplayName("stops at the length limit")
+        void stopsAtLimit() {
+            String snapshot = SnapshotWriter.snapshot(player(), 10);
+
+            assertThat(snapshot).isEqualTo("{\"playerNa" + SnapshotWriter.TRUNCATION_SUFFIX);
+        }
+
+        @Test
+        @DisplayName("does not truncate output of exactly the limit")
+        void exactLimitIsNotTruncated() {
+            String full = SnapshotWriter.snapshot(player(), 0);
+
+            assertThat(SnapshotWriter.snapshot(player(), full.length())).isEqualTo(full);
+        }
+
+        @Test
+        @DisplayName("write() reports truncation")
+        void writeReportsTruncation() {
+            StringBuilder out = new StringBuilder();
+
+            boolean complete = SnapshotWriter.write(GsonOps.INSTANCE, player().value(), out, 5);
+
+            assertThat(complete).isFalse();
+            assertThat(out).hasSize(5);
+        }
+    }
+
+    @Nested
+    @DisplayName("diff()")
+    class Diff {
+
+        @Test
+        @DisplayName("lists added, removed and changed fields")
+        void listsChanges() {
+            Dynamic<JsonElement> before = player();
+            Dynamic<JsonElement> after = before
+                    .remove("playerName")
+                    .set("name", before.createString("Alice"))
+                    .set("level", before.createInt(11));
+
+            String diff = SnapshotWriter.diff(before, after, 0);
+
+            assertThat(diff).contains("- playerName\n");
+            assertThat(diff).contains("+ name: \"Alice\"\n");
+            assertThat(diff).contains("~ level: 10 -> 11\n");
+            assertThat(diff).doesNotContain("items");
+        }
+
+        @Test
+        @DisplayName("uses dotted paths for nested maps")
+        void usesDottedPaths() {
+            JsonObject inner = new JsonObject();
+            inner.addProperty("x", 1);
+            JsonObject root = new JsonObject();
+            root.add("pos", inner);
+            Dynamic<JsonElement> before = new Dynamic<>(GsonOps.INSTANCE, root);
+            Dynamic<JsonElement> after = before.set("pos", before.get("pos").set("x", before.createInt(2)));
+
+            assertThat(SnapshotWriter.diff(before, after, 0)).isEqualTo("~ pos.x: 1 -> 2\n");
+        }
+
+        @Test
+        @DisplayName("is empty for equal values")
+        void emptyForEqualValues() {
+            assertThat(SnapshotWriter.diff(player(), player(), 0)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Diff snapshots in migrations")
+    class DiffSnapshots {
+
+        @Test
+        @DisplayName("records a diff per fix instead of two snapshots")
+        void recordsDiffPerFix() {
+            DataFix<JsonElement> fix = new DataFix<>() {
+                @Override
+                public @NotNull String name() {
+                    return "rename";
+                }
+
+                @Override
+                public @NotNull DataVersion fromVersion() {
+                    return new DataVersion(1);
+                }
+
+                @Override
+                public @NotNull DataVersion toVersion() {
+                    return new DataVersion(2);
+                }
+
+                @Override
+                public @NotNull Dynamic<JsonElement> apply(@NotNull TypeReference type,
+                                                           @NotNull Dynamic<JsonElement> input,
+                                                           @NotNull DataFixerContext context) {
+                    return input.rename("playerName", "name");
+                }
+            };
+            DataFixer fixer = new DataFixerBuilder(new DataVersion(2)).addFix(PLAYER, fix).build();
+            DiagnosticContext context = DiagnosticContext.create(DiagnosticOptions.builder()
+                    .captureSnapshots(true)
+                    .diffSnapshots(true)
+                    .build());
+
+            fixer.update(PLAYER, player(), new DataVersion(1), new DataVersion(2), context);
+
+            FixExecution execution = context.getReport().fixExecutions().get(0);
+            assertThat(execution.beforeSnapshotOpt()).isEmpty();
+            assertThat(execution.afterSnapshotOpt()).hasValueSatisfying(diff -> assertThat(diff)
+                    .contains("- playerName")
+                    .contains("+ name: \"Al\\\"ice\""));
+            assertThat(context.getReport().inputSnapshot()).hasValueSatisfying(s -> assertThat(s).contains("playerName"));
+            assertThat(context.getReport().outputSnapshot()).hasValueSatisfying(s -> assertThat(s).contains("\"name\""));
+        }
+    }
+}
@@ -182,6 +182,50 @@ class DataFixRegistryTest {
         }
     }
 
+    @Nested
+    @DisplayName("getTypes")
+    class GetTypes {
+
+        @Test
+        @DisplayName("returns every type with fixes")
+        void returnsEveryTypeWithFixes() {
+            registry.register(new TypeReference("player"), createFix("A", 1, 2));
+            registry.register(new TypeReference("world"), createFix("B", 1, 2));
+
+            assertThat(registry.getTypes())
+                    .containsExactlyInAnyOrder(new TypeReference("player"), new TypeReference("world"));
+        }
+
+        @Test
+        @DisplayName("returns empty set for empty registry")
+        void returnsEmptySetForEmptyRegistry() {
+            assertThat(registry.getTypes()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("getAllFixes")
+    class GetAllFixes {
+
+        @Test
+        @DisplayName("returns every fix once across types")
+        void returnsEveryFixOnce() {
+            DataFix<?> shared = createFix("Shared", 1, 2);
+            DataFix<?> playerOnly = createFix("PlayerOnly", 2, 3);
+            registry.register(new TypeReference("player"), shared);
+            registry.register(new TypeReference("player"), playerOnly);
+            registry.register(new TypeReference("world"), shared);
+
+            assertThat(registry.getAllFixes()).containsExactlyInAnyOrder(shared, playerOnly);
+        }
+
+        @Test
+        @DisplayName("returns empty list for empty registry")
+        void returnsEmptyListForEmptyRegistry() {
+            assertThat(registry.getAllFixes()).isEmpty();
+        }
+    }
+
     @Nested
     @DisplayName("getFixes (range)")
     class GetFixesRange {
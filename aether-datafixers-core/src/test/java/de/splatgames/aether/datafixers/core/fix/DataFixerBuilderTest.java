@@ -23,19 +23,24 @@
 package de.splatgames.aether.datafixers.core.fix;
 
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import de.splatgames.aether.datafixers.api.DataVersion;
 import de.splatgames.aether.datafixers.api.TypeReference;
 import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
 import de.splatgames.aether.datafixers.api.fix.DataFix;
 import de.splatgames.aether.datafixers.api.fix.DataFixer;
 import de.splatgames.aether.datafixers.api.fix.DataFixerContext;
+import de.splatgames.aether.datafixers.api.rewrite.RewriteMemo;
+import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -212,6 +217,268 @@ class DataFixerBuilderTest {
         }
     }
 
+    @Nested
+    @DisplayName("withRewriteMemo()")
+    class WithRewriteMemo {
+
+        @Test
+        @DisplayName("reuses fix results for equal inputs")
+        void reusesFixResults() {
+            final AtomicInteger calls = new AtomicInteger();
+            final DataFix<JsonElement> fix = new DataFix<>() {
+                @Override
+                public @NotNull String name() {
+                    return "count";
+                }
+
+                @Override
+                public @NotNull DataVersion fromVersion() {
+                    return new DataVersion(1);
+                }
+
+                @Override
+                public @NotNull DataVersion toVersion() {
+                    return new DataVersion(2);
+                }
+
+                @Override
+                public @NotNull Dynamic<JsonElement> apply(
+                        @NotNull TypeReference type,
+                        @NotNull Dynamic<JsonElement> input,
+                        @NotNull DataFixerContext context
+                ) {
+                    calls.incrementAndGet();
+                    return input.set("migrated", input.createBoolean(true));
+                }
+            };
+            final RewriteMemo memo = new RewriteMemo();
+            final DataFixer fixer = builder
+                    .withDefaultContext(SimpleSystemDataFixerContext.INSTANCE)
+                    .withRewriteMemo(memo)
+                    .addFix(PLAYER, fix)
+                    .build();
+
+            for (int i = 0; i < 3; i++) {
+                final Dynamic<JsonElement> input = new Dynamic<>(GsonOps.INSTANCE, new JsonObject());
+                final Dynamic<JsonElement> result = fixer.update(PLAYER, input, new DataVersion(1), new DataVersion(2));
+                assertThat(result.get("migrated").asBoolean().result()).contains(true);
+            }
+
+            assertThat(calls).hasValue(1);
+            assertThat(memo.stats().hits()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("is not affected by callers mutating inputs or results")
+        void isolatesMutableTrees() {
+            final DataFix<JsonElement> fix = createFix("copy", 1, 2);
+            final RewriteMemo memo = new RewriteMemo();
+            final DataFixer fixer = builder
+                    .withRewriteMemo(memo)
+                    .addFix(PLAYER, fix)
+                    .build();
+            final JsonObject input = new JsonObject();
+            input.addProperty("name", "Alice");
+
+            final Dynamic<JsonElement> first = fixer.update(PLAYER, new Dynamic<>(GsonOps.INSTANCE, input),
+                    new DataVersion(1), new DataVersion(2));
+            input.addProperty("name", "Bob");
+            first.value().getAsJsonObject().addProperty("name", "Mallory");
+            final JsonObject again = new JsonObject();
+            again.addProperty("name", "Alice");
+            final Dynamic<JsonElement> second = fixer.update(PLAYER, new Dynamic<>(GsonOps.INSTANCE, again),
+                    new DataVersion(1), new DataVersion(2));
+            second.value().getAsJsonObject().addProperty("name", "Eve");
+            final Dynamic<JsonElement> third = fixer.update(PLAYER, new Dynamic<>(GsonOps.INSTANCE, again.deepCopy()),
+                    new DataVersion(1), new DataVersion(2));
+
+            assertThat(memo.stats().hits()).isEqualTo(2);
+            assertThat(second.get("name").asString().result()).contains("Eve");
+            assertThat(third.get("name").asString().result()).contains("Alice");
+        }
+
+        @Test
+        @DisplayName("rejects null memo")
+        void rejectsNullMemo() {
+            assertThatThrownBy(() -> builder.withRewriteMemo(null))
+                    .isInstanceOf(NullPointerException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("withMigrationListener()")
+    class WithMigrationListener {
+
+        @Test
+        @DisplayName("notifies started and applied fixes, completed and skipped migrations")
+        void notifiesListener() {
+            final List<String> events = new ArrayList<>();
+            final DataFixer fixer = builder
+                    .withDefaultContext(SimpleSystemDataFixerContext.INSTANCE)
+                    .withMigrationListener(new MigrationListener() {
+                        @Override
+                        public void onMigrationSkipped(@NotNull TypeReference type, @NotNull DataVersion version) {
+                            events.add("skipped:" + version.getVersion());
+                        }
+
+                        @Override
+                        public void onFixStarted(@NotNull TypeReference type, @NotNull DataFix<?> fix) {
+                            events.add("start:" + fix.name());
+                        }
+
+                        @Override
+                        public void onFixApplied(@NotNull TypeReference type, @NotNull DataFix<?> fix, long nanos) {
+                            assertThat(nanos).isNotNegative();
+                            events.add("fix:" + fix.name());
+                        }
+
+                        @Override
+                        public void onMigrationCompleted(
+                                @NotNull TypeReference type,
+                                @NotNull DataVersion fromVersion,
+                                @NotNull DataVersion toVersion,
+                                int appliedFixes,
+                                long nanos
+                        ) {
+                            events.add("completed:" + appliedFixes);
+                        }
+                    })
+                    .addFix(PLAYER, createFix("fix1", 1, 2))
+                    .addFix(PLAYER, createFix("fix2", 2, 3))
+                    .build();
+            final Dynamic<JsonElement> input = new Dynamic<>(GsonOps.INSTANCE, new JsonObject());
+
+            fixer.update(PLAYER, input, new DataVersion(1), new DataVersion(3));
+            fixer.update(PLAYER, input, new DataVersion(3), new DataVersion(3));
+
+            assertThat(events).containsExactly(
+                    "start:fix1", "fix:fix1", "start:fix2", "fix:fix2", "completed:2", "skipped:3");
+        }
+
+        @Test
+        @DisplayName("notifies failed fixes")
+        void notifiesFailedFix() {
+            final List<Throwable> failures = new ArrayList<>();
+            final DataFix<JsonElement> failing = new DataFix<>() {
+                @Override
+                public @NotNull String name() {
+                    return "failing";
+                }
+
+                @Override
+                public @NotNull DataVersion fromVersion() {
+                    return new DataVersion(1);
+                }
+
+                @Override
+                public @NotNull DataVersion toVersion() {
+                    return new DataVersion(2);
+                }
+
+                @Override
+                public @NotNull Dynamic<JsonElement> apply(
+                        @NotNull TypeReference type,
+                        @NotNull Dynamic<JsonElement> input,
+                        @NotNull DataFixerContext context
+                ) {
+                    throw new IllegalStateException("boom");
+                }
+            };
+            final DataFixer fixer = builder
+                    .withDefaultContext(SimpleSystemDataFixerContext.INSTANCE)
+                    .withMigrationListener(new MigrationListener() {
+                        @Override
+                        public void onFixFailed(
+                                @NotNull TypeReference type,
+                                @NotNull DataFix<?> fix,
+                                long nanos,
+                                @NotNull Throwable error
+                        ) {
+                            failures.add(error);
+                        }
+                    })
+                    .addFix(PLAYER, failing)
+                    .build();
+            final Dynamic<JsonElement> input = new Dynamic<>(GsonOps.INSTANCE, new JsonObject());
+
+            assertThatThrownBy(() -> fixer.update(PLAYER, input, new DataVersion(1), new DataVersion(2)))
+                    .isInstanceOf(RuntimeException.class);
+            assertThat(failures).singleElement().isInstanceOf(IllegalStateException.class);
+        }
+
+        @Test
+        @DisplayName("does not fail the migration when a listener throws")
+        void isolatesListenerExceptions() {
+            final List<String> warnings = new ArrayList<>();
+            final DataFixer fixer = builder
+                    .withDefaultContext(new DataFixerContext() {
+                        @Override
+                        public void info(@NotNull String message, Object... args) {
+                        }
+
+                        @Override
+                        public void warn(@NotNull String message, Object... args) {
+                            warnings.add(message);
+                        }
+                    })
+                    .withMigrationListener(new MigrationListener() {
+                        @Override
+                        public void onFixApplied(@NotNull TypeReference type, @NotNull DataFix<?> fix, long nanos) {
+                            throw new IllegalStateException("listener broken");
+                        }
+
+                        @Override
+                        public void onMigrationCompleted(
+                                @NotNull TypeReference type,
+                                @NotNull DataVersion fromVersion,
+                                @NotNull DataVersion toVersion,
+                                int appliedFixes,
+                                long nanos
+                        ) {
+                            throw new IllegalStateException("listener broken");
+                        }
+                    })
+                    .addFix(PLAYER, createFix("noop", 1, 2))
+                    .build();
+            final Dynamic<JsonElement> input = new Dynamic<>(GsonOps.INSTANCE, new JsonObject());
+
+            assertThat(fixer.update(PLAYER, input, new DataVersion(1), new DataVersion(2))).isSameAs(input);
+            assertThat(warnings).hasSize(2).allSatisfy(warning -> assertThat(warning).contains("listener broken"));
+        }
+
+        @Test
+        @DisplayName("combines multiple listeners in registration order")
+        void combinesListeners() {
+            final List<String> events = new ArrayList<>();
+            final DataFixer fixer = builder
+                    .withMigrationListener(new MigrationListener() {
+                        @Override
+                        public void onMigrationSkipped(@NotNull TypeReference type, @NotNull DataVersion version) {
+                            events.add("first");
+                        }
+                    })
+                    .withMigrationListener(new MigrationListener() {
+                        @Override
+                        public void onMigrationSkipped(@NotNull TypeReference type, @NotNull DataVersion version) {
+                            events.add("second");
+                        }
+                    })
+                    .build();
+
+            fixer.update(PLAYER, new Dynamic<>(GsonOps.INSTANCE, new JsonObject()),
+                    new DataVersion(1), new DataVersion(1));
+
+            assertThat(events).containsExactly("first", "second");
+        }
+
+        @Test
+        @DisplayName("rejects null listener")
+        void rejectsNullListener() {
+            assertThatThrownBy(() -> builder.withMigrationListener(null))
+                    .isInstanceOf(NullPointerException.class);
+        }
+    }
+
     @Nested
     @DisplayName("FixRegistrar Interface")
     class FixRegistrarInterface {
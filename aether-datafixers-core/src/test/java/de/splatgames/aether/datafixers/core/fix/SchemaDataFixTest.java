@@ -205,8 +205,39 @@ class SchemaDataFixTest {
         }
     }
 
+    @Nested
+    @DisplayName("Rule caching")
+    class RuleCaching {
+
+        @Test
+        @DisplayName("builds the rule once across applications")
+        void buildsRuleOnce() {
+            TestSchemaDataFix fix = new TestSchemaDataFix("test_fix", VERSION_1, VERSION_2, schemaRegistry);
+
+            @SuppressWarnings("unchecked")
+            Dynamic<Object> input = (Dynamic<Object>) (Dynamic<?>) new Dynamic<>(GsonOps.INSTANCE, new JsonObject());
+            fix.apply(PLAYER, input, SimpleSystemDataFixerContext.INSTANCE);
+            fix.apply(PLAYER, input, SimpleSystemDataFixerContext.INSTANCE);
+
+            assertThat(fix.rulesMade).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("prepare() builds the rule ahead of the first application")
+        void prepareBuildsRule() {
+            TestSchemaDataFix fix = new TestSchemaDataFix("test_fix", VERSION_1, VERSION_2, schemaRegistry);
+
+            fix.prepare();
+            fix.prepare();
+
+            assertThat(fix.rulesMade).isEqualTo(1);
+        }
+    }
+
     private static class TestSchemaDataFix extends SchemaDataFix {
 
+        private int rulesMade;
+
         protected TestSchemaDataFix(
                 String name,
                 DataVersion from,
@@ -221,6 +252,7 @@ class SchemaDataFixTest {
                 @NotNull Schema inputSchema,
                 @NotNull Schema outputSchema
         ) {
+            rulesMade++;
             return Rules.noop();
         }
     }
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.helpers.NOPLogger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -182,6 +183,32 @@ class Slf4jDataFixerContextTest {
         }
     }
 
+    @Nested
+    @DisplayName("Level checks")
+    class LevelChecks {
+
+        @Test
+        @DisplayName("reflect the logger's levels")
+        void reflectLoggerLevels() {
+            Slf4jDataFixerContext context = new Slf4jDataFixerContext(NOPLogger.NOP_LOGGER);
+
+            assertThat(context.isInfoEnabled()).isFalse();
+            assertThat(context.isWarnEnabled()).isFalse();
+        }
+
+        @Test
+        @DisplayName("fixed-arity overloads do not throw when disabled")
+        void overloadsDoNotThrowWhenDisabled() {
+            Slf4jDataFixerContext context = new Slf4jDataFixerContext(NOPLogger.NOP_LOGGER);
+
+            context.info("message");
+            context.info("message %s", 1);
+            context.warn("message %s %s", 1, 2);
+
+            assertThat(context.getLogger()).isSameAs(NOPLogger.NOP_LOGGER);
+        }
+    }
+
     @Nested
     @DisplayName("getLogger()")
     class GetLoggerMethod {
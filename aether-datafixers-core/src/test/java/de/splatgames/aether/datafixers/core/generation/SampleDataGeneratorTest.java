@@ -0,0 +1,188 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.core.generation;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.dsl.DSL;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.schema.Schema;
+import de.splatgames.aether.datafixers.api.type.Type;
+import de.splatgames.aether.datafixers.api.type.template.TypeFamily;
+import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
+import de.splatgames.aether.datafixers.core.type.SimpleTypeRegistry;
+import de.splatgames.aether.datafixers.core.warmup.WarmUpDocumentFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link SampleDataGenerator}.
+ */
+@DisplayName("SampleDataGenerator")
+class SampleDataGeneratorTest {
+
+    private static final Type<?> PLAYER = DSL.and(
+            DSL.field("name", DSL.string()),
+            DSL.field("level", DSL.intType()),
+            DSL.optionalField("online", DSL.bool()),
+            DSL.field("position", DSL.and(
+                    DSL.field("x", DSL.doubleType()),
+                    DSL.field("y", DSL.doubleType()))),
+            DSL.field("tags", DSL.list(DSL.string())),
+            DSL.remainder()
+    ).apply(TypeFamily.empty());
+
+    @Nested
+    @DisplayName("generate()")
+    class Generate {
+
+        @Test
+        @DisplayName("creates a map entry per field with matching primitive kinds")
+        void createsFields() {
+            final JsonObject document = SampleDataGenerator.forType(PLAYER)
+                    .generate(GsonOps.INSTANCE)
+                    .getAsJsonObject();
+
+            assertThat(document.keySet()).containsExactly("name", "level", "online", "position", "tags");
+            assertThat(document.get("name").getAsString()).startsWith("name-");
+            assertThat(document.get("level").getAsJsonPrimitive().isNumber()).isTrue();
+            assertThat(document.get("online").getAsJsonPrimitive().isBoolean()).isTrue();
+            assertThat(document.getAsJsonObject("position").keySet()).containsExactly("x", "y");
+        }
+
+        @Test
+        @DisplayName("fills lists with the configured number of elements")
+        void fillsLists() {
+            final JsonArray tags = SampleDataGenerator.forType(PLAYER)
+                    .listSize(5)
+                    .generate(GsonOps.INSTANCE)
+                    .getAsJsonObject()
+                    .getAsJsonArray("tags");
+
+            assertThat(tags).hasSize(5);
+        }
+
+        @Test
+        @DisplayName("is deterministic for a seed")
+        void isDeterministic() {
+            final List<JsonElement> first = SampleDataGenerator.forType(PLAYER).seed(7).generate(GsonOps.INSTANCE, 3);
+            final List<JsonElement> second = SampleDataGenerator.forType(PLAYER).seed(7).generate(GsonOps.INSTANCE, 3);
+
+            assertThat(first).hasSize(3).isEqualTo(second);
+            assertThat(first.get(0)).isNotEqualTo(first.get(1));
+        }
+
+        @Test
+        @DisplayName("writes the tag field and the first choice of a tagged choice")
+        void generatesTaggedChoice() {
+            final Type<?> entity = DSL.taggedChoice("kind", Map.of(
+                    "zombie", DSL.field("health", DSL.intType()))).apply(TypeFamily.empty());
+
+            final JsonObject document = SampleDataGenerator.forType(entity)
+                    .generate(GsonOps.INSTANCE)
+                    .getAsJsonObject();
+
+            assertThat(document.get("kind").getAsString()).isEqualTo("zombie");
+            assertThat(document.has("health")).isTrue();
+        }
+
+        @Test
+        @DisplayName("leaves lists empty below the maximum depth")
+        void stopsAtMaxDepth() {
+            final Type<?> grid = DSL.field("rows", DSL.list(DSL.list(DSL.list(DSL.intType()))))
+                    .apply(TypeFamily.empty());
+
+            final JsonArray rows = SampleDataGenerator.forType(grid)
+                    .maxDepth(3)
+                    .listSize(1)
+                    .generate(GsonOps.INSTANCE)
+                    .getAsJsonObject()
+                    .getAsJsonArray("rows");
+
+            assertThat(rows.get(0).getAsJsonArray().get(0).getAsJsonArray()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("rejects types without structure")
+        void rejectsOpaqueTypes() {
+            assertThatThrownBy(() -> SampleDataGenerator.forType(Type.PASSTHROUGH).generate(GsonOps.INSTANCE))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("exposes no structure");
+        }
+    }
+
+    @Nested
+    @DisplayName("warmUpDocumentFactory()")
+    class WarmUpDocuments {
+
+        @Test
+        @DisplayName("generates structured documents and empty maps for passthrough types")
+        void generatesFromSchema() {
+            final SimpleTypeRegistry types = new SimpleTypeRegistry();
+            types.register(Type.named("player", PLAYER));
+            types.register(Type.named("blob", Type.PASSTHROUGH));
+            final Schema schema = new Schema(new DataVersion(1), types);
+            final WarmUpDocumentFactory factory = SampleDataGenerator.warmUpDocumentFactory();
+
+            final Dynamic<JsonElement> player = factory.create(schema, new TypeReference("player"), GsonOps.INSTANCE);
+            final Dynamic<JsonElement> blob = factory.create(schema, new TypeReference("blob"), GsonOps.INSTANCE);
+
+            assertThat(player.value().getAsJsonObject().keySet()).contains("name", "level");
+            assertThat(blob.value().getAsJsonObject().keySet()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("configuration")
+    class Configuration {
+
+        @Test
+        @DisplayName("rejects null type")
+        void rejectsNullType() {
+            assertThatThrownBy(() -> SampleDataGenerator.forType(null))
+                    .isInstanceOf(NullPointerException.class);
+        }
+
+        @Test
+        @DisplayName("rejects negative list size and non-positive depth")
+        void rejectsInvalidBounds() {
+            final SampleDataGenerator generator = SampleDataGenerator.forType(PLAYER);
+
+            assertThatThrownBy(() -> generator.listSize(-1)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> generator.maxDepth(0)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> generator.generate(GsonOps.INSTANCE, -1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
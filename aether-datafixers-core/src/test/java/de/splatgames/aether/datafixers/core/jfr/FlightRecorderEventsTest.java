@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.core.jfr;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.fix.DataFix;
+import de.splatgames.aether.datafixers.api.fix.DataFixer;
+import de.splatgames.aether.datafixers.api.fix.DataFixerContext;
+import de.splatgames.aether.datafixers.api.rewrite.Rules;
+import de.splatgames.aether.datafixers.api.rewrite.TypeRewriteRule;
+import de.splatgames.aether.datafixers.api.schema.Schema;
+import de.splatgames.aether.datafixers.api.type.Type;
+import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
+import de.splatgames.aether.datafixers.core.fix.DataFixerBuilder;
+import de.splatgames.aether.datafixers.core.fix.SchemaDataFix;
+import de.splatgames.aether.datafixers.core.schema.SimpleSchemaRegistry;
+import de.splatgames.aether.datafixers.core.type.SimpleTypeRegistry;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the JFR events emitted by the data fixer.
+ */
+@DisplayName("Flight Recorder Events")
+class FlightRecorderEventsTest {
+
+    private static final TypeReference PLAYER = new TypeReference("player");
+
+    @TempDir
+    Path tempDir;
+
+    private static DataFix<JsonElement> addField(final String name, final int from, final int to) {
+        return new DataFix<>() {
+            @Override
+            public @NotNull String name() {
+                return name;
+            }
+
+            @Override
+            public @NotNull DataVersion fromVersion() {
+                return new DataVersion(from);
+            }
+
+            @Override
+            public @NotNull DataVersion toVersion() {
+                return new DataVersion(to);
+            }
+
+            @Override
+            public @NotNull Dynamic<JsonElement> apply(@NotNull final TypeReference type,
+                                                       @NotNull final Dynamic<JsonElement> input,
+                                                       @NotNull final DataFixerContext context) {
+                return input.set(name, input.createInt(to));
+            }
+        };
+    }
+
+    private static SchemaDataFix noopSchemaFix(final int from, final int to) {
+        final SimpleSchemaRegistry schemas = new SimpleSchemaRegistry();
+        for (final int version : new int[]{from, to}) {
+            final SimpleTypeRegistry types = new SimpleTypeRegistry();
+            types.register(Type.named(PLAYER.getId(), Type.PASSTHROUGH));
+            schemas.register(new Schema(new DataVersion(version), types));
+        }
+        schemas.freeze();
+        return new SchemaDataFix("noop", new DataVersion(from), new DataVersion(to), schemas) {
+            @Override
+            protected @NotNull TypeRewriteRule makeRule(@NotNull final Schema inputSchema,
+                                                        @NotNull final Schema outputSchema) {
+                return Rules.noop();
+            }
+        };
+    }
+
+    private List<RecordedEvent> record(final DataFixer fixer) throws Exception {
+        final Path file = this.tempDir.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(MigrationEvent.NAME).withoutThreshold();
+            recording.enable(FixEvent.NAME).withoutThreshold();
+            recording.enable(RuleEvent.NAME).withoutThreshold();
+            recording.start();
+            final JsonObject obj = new JsonObject();
+            obj.addProperty("name", "Alice");
+            fixer.update(PLAYER, new Dynamic<>(GsonOps.INSTANCE, obj), new DataVersion(1), new DataVersion(3));
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    @Test
+    @DisplayName("emits migration and fix events when enabled")
+    void emitsEventsWhenEnabled() throws Exception {
+        final DataFixer fixer = new DataFixerBuilder(new DataVersion(3))
+                .withFlightRecorderEvents(true)
+                .addFix(PLAYER, addField("a", 1, 2))
+                .addFix(PLAYER, addField("b", 2, 3))
+                .build();
+
+        final List<RecordedEvent> events = this.record(fixer);
+
+        final List<RecordedEvent> migrations = events.stream()
+                .filter(e -> e.getEventType().getName().equals(MigrationEvent.NAME))
+                .toList();
+        final List<RecordedEvent> fixes = events.stream()
+                .filter(e -> e.getEventType().getName().equals(FixEvent.NAME))
+                .toList();
+        assertThat(migrations).hasSize(1);
+        final RecordedEvent migration = migrations.get(0);
+        assertThat(migration.getString("type")).isEqualTo("player");
+        assertThat(migration.getInt("fromVersion")).isEqualTo(1);
+        assertThat(migration.getInt("toVersion")).isEqualTo(3);
+        assertThat(migration.getInt("fixCount")).isEqualTo(2);
+        assertThat(migration.getLong("inputNodes")).isEqualTo(2);
+        assertThat(migration.getLong("inputBytes")).isEqualTo("{\"name\":\"Alice\"}".length());
+        assertThat(migration.getLong("outputNodes")).isEqualTo(4);
+        assertThat(migration.getBoolean("failed")).isFalse();
+        assertThat(fixes).extracting(e -> e.getString("fixName")).containsExactly("a", "b");
+    }
+
+    @Test
+    @DisplayName("emits rule events for schema fixes when enabled")
+    void emitsRuleEventsWhenEnabled() throws Exception {
+        final DataFixer fixer = new DataFixerBuilder(new DataVersion(3))
+                .withFlightRecorderEvents(true)
+                .addFix(PLAYER, noopSchemaFix(1, 2))
+                .addFix(PLAYER, addField("b", 2, 3))
+                .build();
+
+        final List<RecordedEvent> events = this.record(fixer);
+
+        assertThat(events).filteredOn(e -> e.getEventType().getName().equals(RuleEvent.NAME))
+                .singleElement()
+                .satisfies(e -> assertThat(e.getBoolean("matched")).isTrue());
+    }
+
+    @Test
+    @DisplayName("emits nothing when the builder flag is off")
+    void emitsNothingWhenDisabled() throws Exception {
+        final DataFixer fixer = new DataFixerBuilder(new DataVersion(3))
+                .addFix(PLAYER, noopSchemaFix(1, 2))
+                .addFix(PLAYER, addField("b", 2, 3))
+                .build();
+
+        final List<RecordedEvent> events = this.record(fixer);
+
+        assertThat(events).noneMatch(e -> e.getEventType().getName().startsWith("de.splatgames"));
+    }
+}
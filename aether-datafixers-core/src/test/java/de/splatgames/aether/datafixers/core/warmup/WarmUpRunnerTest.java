@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.core.warmup;
+
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.dynamic.DynamicOps;
+import de.splatgames.aether.datafixers.api.fix.DataFix;
+import de.splatgames.aether.datafixers.api.fix.DataFixerContext;
+import de.splatgames.aether.datafixers.api.rewrite.RewriteMemo;
+import de.splatgames.aether.datafixers.api.rewrite.Rules;
+import de.splatgames.aether.datafixers.api.rewrite.TypeRewriteRule;
+import de.splatgames.aether.datafixers.api.schema.Schema;
+import de.splatgames.aether.datafixers.api.type.Type;
+import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
+import de.splatgames.aether.datafixers.core.AetherDataFixer;
+import de.splatgames.aether.datafixers.core.fix.DataFixerBuilder;
+import de.splatgames.aether.datafixers.core.fix.MigrationListener;
+import de.splatgames.aether.datafixers.core.fix.SchemaDataFix;
+import de.splatgames.aether.datafixers.core.generation.SampleDataGenerator;
+import de.splatgames.aether.datafixers.core.schema.SimpleSchemaRegistry;
+import de.splatgames.aether.datafixers.core.type.SimpleTypeRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link WarmUpRunner} via {@link AetherDataFixer#warmUp(WarmUpOptions)}.
+ */
+@DisplayName("WarmUpRunner")
+class WarmUpRunnerTest {
+
+    private static final TypeReference PLAYER = new TypeReference("player");
+    private static final TypeReference WORLD = new TypeReference("world");
+    private static final DataVersion VERSION_1 = new DataVersion(1);
+    private static final DataVersion VERSION_2 = new DataVersion(2);
+    private static final DataVersion VERSION_3 = new DataVersion(3);
+
+    private SimpleSchemaRegistry schemaRegistry;
+    private CountingSchemaFix schemaFix;
+    private CountingFix playerFix;
+
+    @BeforeEach
+    void setUp() {
+        schemaRegistry = new SimpleSchemaRegistry();
+        schemaRegistry.register(schema(VERSION_1, PLAYER, WORLD));
+        schemaRegistry.register(schema(VERSION_2, PLAYER, WORLD));
+        schemaRegistry.register(schema(VERSION_3, PLAYER));
+        schemaRegistry.freeze();
+
+        schemaFix = new CountingSchemaFix(schemaRegistry);
+        playerFix = new CountingFix("player_v2_v3", VERSION_2, VERSION_3, false);
+    }
+
+    private AetherDataFixer fixer(final DataFix<?>... worldFixes) {
+        final DataFixerBuilder builder = new DataFixerBuilder(VERSION_3)
+                .addFix(PLAYER, schemaFix)
+                .addFix(PLAYER, playerFix);
+        for (final DataFix<?> fix : worldFixes) {
+            builder.addFix(WORLD, fix);
+        }
+        return new AetherDataFixer(VERSION_3, schemaRegistry, builder.build());
+    }
+
+    private static Schema schema(final DataVersion version, final TypeReference... refs) {
+        final SimpleTypeRegistry types = new SimpleTypeRegistry();
+        for (final TypeReference ref : refs) {
+            types.register(Type.named(ref.getId(), Type.PASSTHROUGH));
+        }
+        return new Schema(version, types);
+    }
+
+    @Nested
+    @DisplayName("Prepare")
+    class Prepare {
+
+        @Test
+        @DisplayName("builds type registries and rules without synthetic rounds")
+        void buildsTypeRegistriesAndRules() {
+            final WarmUpReport report = fixer().warmUp(WarmUpOptions.prepareOnly());
+
+            assertThat(report.schemas()).isEqualTo(3);
+            assertThat(report.types()).isEqualTo(5);
+            assertThat(report.preparedFixes()).isEqualTo(1);
+            assertThat(report.rounds()).isZero();
+            assertThat(report.migrations()).isZero();
+            assertThat(schemaFix.rulesMade.get()).isEqualTo(1);
+            assertThat(playerFix.applications.get()).isZero();
+        }
+
+        @Test
+        @DisplayName("notifies the listener once prepared")
+        void notifiesListener() {
+            final List<String> events = new ArrayList<>();
+            fixer().warmUp(WarmUpOptions.builder()
+                    .listener(new WarmUpListener() {
+                        @Override
+                        public void onPrepared(final int schemas, final int types, final int preparedFixes) {
+                            events.add(schemas + "/" + types + "/" + preparedFixes);
+                        }
+                    })
+                    .build());
+
+            assertThat(events).containsExactly("3/5/1");
+        }
+    }
+
+    @Nested
+    @DisplayName("Synthetic rounds")
+    class SyntheticRounds {
+
+        @Test
+        @DisplayName("migrates one document per older schema and type per round")
+        void migratesEveryOlderSchemaAndType() {
+            final WarmUpReport report = fixer().warmUp(WarmUpOptions.builder()
+                    .ops(GsonOps.INSTANCE)
+                    .maxRounds(2)
+                    .duration(Duration.ofMinutes(1))
+                    .build());
+
+            // v1 and v2 each contribute player and world
+            assertThat(report.rounds()).isEqualTo(2);
+            assertThat(report.migrations()).isEqualTo(8);
+            assertThat(report.failures()).isZero();
+            // player from v1 and v2 passes the v2 -> v3 fix
+            assertThat(playerFix.applications.get()).isEqualTo(4);
+            assertThat(schemaFix.rulesMade.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("bypasses the fixer's migration listener and rewrite memo")
+        void bypassesListenerAndMemo() {
+            final AtomicInteger notifications = new AtomicInteger();
+            final RewriteMemo memo = new RewriteMemo();
+            final AetherDataFixer fixer = new AetherDataFixer(VERSION_3, schemaRegistry, new DataFixerBuilder(VERSION_3)
+                    .withRewriteMemo(memo)
+                    .withMigrationListener(new MigrationListener() {
+                        @Override
+                        public void onFixStarted(@NotNull final TypeReference type, @NotNull final DataFix<?> fix) {
+                            notifications.incrementAndGet();
+                        }
+                    })
+                    .addFix(PLAYER, schemaFix)
+                    .addFix(PLAYER, playerFix)
+                    .build());
+
+            final WarmUpReport report = fixer.warmUp(WarmUpOptions.builder()
+                    .ops(GsonOps.INSTANCE)
+                    .maxRounds(1)
+                    .build());
+
+            assertThat(report.migrations()).isEqualTo(4);
+            assertThat(playerFix.applications.get()).isEqualTo(2);
+            assertThat(notifications.get()).isZero();
+            assertThat(memo.stats().size()).isZero();
+        }
+
+        @Test
+        @DisplayName("runs at least one round with a zero duration")
+        void runsAtLeastOneRound() {
+            final WarmUpReport report = fixer().warmUp(WarmUpOptions.builder()
+                    .ops(GsonOps.INSTANCE)
+                    .duration(Duration.ZERO)
+                    .build());
+
+            assertThat(report.rounds()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("counts failing migrations without aborting")
+        void countsFailures() {
+            final CountingFix failing = new CountingFix("world_v1_v2", VERSION_1, VERSION_2, true);
+
+            final WarmUpReport report = fixer(failing).warmUp(WarmUpOptions.builder()
+                    .ops(GsonOps.INSTANCE)
+                    .maxRounds(1)
+                    .build());
+
+            assertThat(report.failures()).isEqualTo(1);
+            assertThat(report.migrations()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("derives populated documents from the schemas by default")
+        void derivesDocumentsFromSchemas() {
+            final SimpleSchemaRegistry schemas = new SimpleSchemaRegistry();
+            for (final DataVersion version : List.of(VERSION_1, VERSION_2)) {
+                final SimpleTypeRegistry types = new SimpleTypeRegistry();
+                types.register(Type.named(PLAYER.getId(), Type.field("name", Type.STRING)));
+                schemas.register(new Schema(version, types));
+            }
+            schemas.freeze();
+            final CountingFix fix = new CountingFix("player_v1_v2", VERSION_1, VERSION_2, false);
+            final AetherDataFixer fixer = new AetherDataFixer(VERSION_2, schemas,
+                    new DataFixerBuilder(VERSION_2).addFix(PLAYER, fix).build());
+
+            fixer.warmUp(WarmUpOptions.builder()
+                    .ops(GsonOps.INSTANCE)
+                    .maxRounds(1)
+                    .build());
+
+            assertThat(fix.applications.get()).isEqualTo(1);
+            assertThat(fix.lastInput.get("name").asString().result()).isPresent();
+        }
+
+        @Test
+        @DisplayName("uses the document factory and skips null documents")
+        void usesDocumentFactory() {
+            final List<String> requested = new ArrayList<>();
+            final WarmUpDocumentFactory factory = new WarmUpDocumentFactory() {
+                @Override
+                public <T> Dynamic<T> create(
+                        @NotNull final Schema schema,
+                        @NotNull final TypeReference type,
+                        @NotNull final DynamicOps<T> ops
+                ) {
+                    requested.add(type.getId() + "@" + schema.version().getVersion());
+                    return type.equals(PLAYER) ? new Dynamic<>(ops, ops.emptyMap()) : null;
+                }
+            };
+
+            final WarmUpReport report = fixer().warmUp(WarmUpOptions.builder()
+                    .ops(GsonOps.INSTANCE)
+                    .documentFactory(factory)
+                    .maxRounds(3)
+                    .build());
+
+            assertThat(requested).containsExactlyInAnyOrder("player@1", "world@1", "player@2", "world@2");
+            assertThat(report.migrations()).isEqualTo(6);
+        }
+
+        @Test
+        @DisplayName("reports every completed round")
+        void reportsRounds() {
+            final List<Integer> rounds = new ArrayList<>();
+            fixer().warmUp(WarmUpOptions.builder()
+                    .ops(GsonOps.INSTANCE)
+                    .maxRounds(3)
+                    .listener(new WarmUpListener() {
+                        @Override
+                        public void onRoundCompleted(
+                                final int completed,
+                                final long migrations,
+                                final long failures,
+                                @NotNull final Duration elapsed
+                        ) {
+                            rounds.add(completed);
+                        }
+                    })
+                    .build());
+
+            assertThat(rounds).containsExactly(1, 2, 3);
+        }
+    }
+
+    @Nested
+    @DisplayName("WarmUpOptions")
+    class Options {
+
+        @Test
+        @DisplayName("rejects a negative duration")
+        void rejectsNegativeDuration() {
+            assertThatThrownBy(() -> WarmUpOptions.builder().duration(Duration.ofSeconds(-1)).build())
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("duration");
+        }
+
+        @Test
+        @DisplayName("rejects fewer than one round")
+        void rejectsZeroRounds() {
+            assertThatThrownBy(() -> WarmUpOptions.builder().maxRounds(0).build())
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("maxRounds");
+        }
+
+        @Test
+        @DisplayName("defaults() sets the ops and default duration")
+        void defaults() {
+            final WarmUpOptions options = WarmUpOptions.defaults(GsonOps.INSTANCE);
+
+            assertThat(options.ops()).isSameAs(GsonOps.INSTANCE);
+            assertThat(options.duration()).isEqualTo(WarmUpOptions.DEFAULT_DURATION);
+            assertThat(options.documentFactory()).isSameAs(SampleDataGenerator.warmUpDocumentFactory());
+        }
+    }
+
+    private static final class CountingSchemaFix extends SchemaDataFix {
+
+        private final AtomicInteger rulesMade = new AtomicInteger();
+
+        CountingSchemaFix(final SimpleSchemaRegistry schemas) {
+            super("player_v1_v2", VERSION_1, VERSION_2, schemas);
+        }
+
+        @Override
+        protected @NotNull TypeRewriteRule makeRule(
+                @NotNull final Schema inputSchema,
+                @NotNull final Schema outputSchema
+        ) {
+            rulesMade.incrementAndGet();
+            return Rules.noop();
+        }
+    }
+
+    private static final class CountingFix implements DataFix<Object> {
+
+        private final String name;
+        private final DataVersion from;
+        private final DataVersion to;
+        private final boolean fail;
+        private final AtomicInteger applications = new AtomicInteger();
+        private volatile Dynamic<Object> lastInput;
+
+        CountingFix(final String name, final DataVersion from, final DataVersion to, final boolean fail) {
+            this.name = name;
+            this.from = from;
+            this.to = to;
+            this.fail = fail;
+        }
+
+        @Override
+        public @NotNull String name() {
+            return name;
+        }
+
+        @Override
+        public @NotNull DataVersion fromVersion() {
+            return from;
+        }
+
+        @Override
+        public @NotNull DataVersion toVersion() {
+            return to;
+        }
+
+        @Override
+        public @NotNull Dynamic<Object> apply(
+                @NotNull final TypeReference type,
+                @NotNull final Dynamic<Object> input,
+                @NotNull final DataFixerContext context
+        ) {
+            applications.incrementAndGet();
+            lastInput = input;
+            if (fail) {
+                throw new IllegalStateException("missing field");
+            }
+            return input;
+        }
+    }
+}
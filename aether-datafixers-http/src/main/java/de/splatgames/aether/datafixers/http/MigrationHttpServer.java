@@ -0,0 +1,752 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.http;
+
+import com.google.common.base.Preconditions;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.core.AetherDataFixer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedWriter;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Embedded HTTP server that migrates JSON documents with an {@link AetherDataFixer}.
+ *
+ * <p>Built on the JDK's {@code com.sun.net.httpserver}, so it adds no dependency beyond
+ * Gson. Requests are handled on virtual threads when the runtime provides them (Java
+ * 21+), otherwise on a cached thread pool. Migrations themselves run on a fixed set of
+ * worker threads fed by a bounded queue.</p>
+ *
+ * <h2>Endpoints</h2>
+ * <ul>
+ *   <li>{@code POST /migrate?type=player[&from=100][&to=200][&versionField=meta.version]}
+ *       - the body is one JSON document, the response is the migrated document. Headers
+ *       {@code Aether-Source-Version} and {@code Aether-Target-Version} report the
+ *       versions used.</li>
+ *   <li>{@code POST /migrate/batch?type=player[&from=100][&to=200][&versionField=...]}
+ *       - the body is a JSON array of documents. It is read and answered incrementally,
+ *       so arrays of any size use bounded memory. Each response element is
+ *       {@code {"data": ...}} or {@code {"error": "..."}}, in request order.</li>
+ *   <li>{@code GET /metrics} - {@link MigrationServerMetrics} as JSON</li>
+ * </ul>
+ *
+ * <p>{@code from} defaults to the value of the version field (default
+ * {@code dataVersion}) of each document, {@code to} to the fixer's current version.
+ * Documents already at or past {@code to} are returned unchanged.</p>
+ *
+ * <h2>Limits</h2>
+ * <p>A request body larger than {@link Builder#maxBodySize(long)} is answered with
+ * {@code 413}. When the migration queue holds {@link Builder#queueCapacity(int)} documents,
+ * {@code /migrate} answers {@code 503} with a {@code Retry-After} header and
+ * {@code /migrate/batch} reports the rejected elements as errors.</p>
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * try (MigrationHttpServer server = MigrationHttpServer.builder(fixer).port(8080).build().start()) {
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @author Erik Pförtner
+ * @see MigrationServerMetrics
+ * @since 0.6.0
+ */
+public final class MigrationHttpServer implements AutoCloseable {
+
+    /**
+     * Path of the single-document endpoint.
+     */
+    public static final String MIGRATE_PATH = "/migrate";
+
+    /**
+     * Path of the streaming array endpoint.
+     */
+    public static final String BATCH_PATH = "/migrate/batch";
+
+    /**
+     * Path of the metrics endpoint.
+     */
+    public static final String METRICS_PATH = "/metrics";
+
+    private static final String JSON_CONTENT_TYPE = "application/json; charset=utf-8";
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+
+    /**
+     * Documents of one {@code /migrate/batch} request that may be in flight per worker.
+     */
+    private static final int IN_FLIGHT_PER_WORKER = 64;
+
+    private final AetherDataFixer fixer;
+    private final String versionField;
+    private final long maxBodySize;
+    private final int streamWindow;
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+    private final boolean ownsExecutor;
+    private final MigrationServerMetrics metrics = new MigrationServerMetrics();
+    private final MigrationWorkers workers;
+
+    private MigrationHttpServer(@NotNull final Builder builder) throws IOException {
+        this.fixer = builder.fixer;
+        this.versionField = builder.versionField;
+        this.maxBodySize = builder.maxBodySize;
+        this.streamWindow = Math.min(builder.workers * IN_FLIGHT_PER_WORKER, builder.queueCapacity);
+        this.workers = new MigrationWorkers(this.fixer, this.metrics, builder.workers, builder.queueCapacity);
+        this.ownsExecutor = builder.executor == null;
+        this.requestExecutor = this.ownsExecutor ? newRequestExecutor() : builder.executor;
+
+        this.server = HttpServer.create(builder.address, 0);
+        this.server.setExecutor(this.requestExecutor);
+        this.server.createContext(MIGRATE_PATH, exchange -> this.handle(exchange, this::migrate));
+        this.server.createContext(BATCH_PATH, exchange -> this.handle(exchange, this::migrateBatch));
+        this.server.createContext(METRICS_PATH, exchange -> this.handle(exchange, this::writeMetrics));
+    }
+
+    /**
+     * Creates a builder for a server around the given fixer.
+     *
+     * @param fixer the fixer to migrate with, must not be {@code null}
+     * @return a new builder, never {@code null}
+     * @throws NullPointerException if {@code fixer} is {@code null}
+     */
+    @NotNull
+    public static Builder builder(@NotNull final AetherDataFixer fixer) {
+        Preconditions.checkNotNull(fixer, "fixer must not be null");
+        return new Builder(fixer);
+    }
+
+    /**
+     * Starts accepting requests.
+     *
+     * @return this server
+     */
+    @NotNull
+    public MigrationHttpServer start() {
+        this.workers.start();
+        this.server.start();
+        return this;
+    }
+
+    /**
+     * Returns the bound address; with port {@code 0} this holds the chosen port.
+     *
+     * @return the address, never {@code null}
+     */
+    @NotNull
+    public InetSocketAddress address() {
+        return this.server.getAddress();
+    }
+
+    /**
+     * Returns the base URI of the server, e.g. {@code http://127.0.0.1:8080}.
+     *
+     * @return the URI, never {@code null}
+     */
+    @NotNull
+    public URI uri() {
+        final InetSocketAddress address = this.address();
+        return URI.create("http://" + address.getAddress().getHostAddress() + ":" + address.getPort());
+    }
+
+    /**
+     * Returns the live metrics of this server.
+     *
+     * @return the metrics, never {@code null}
+     */
+    @NotNull
+    public MigrationServerMetrics metrics() {
+        return this.metrics;
+    }
+
+    /**
+     * Stops the server.
+     *
+     * <p>New connections are refused immediately; open exchanges get up to {@code grace}
+     * (rounded down to whole seconds, as the JDK server requires) to finish. Queued
+     * documents are migrated before the workers exit.</p>
+     *
+     * @param grace the time open exchanges may take to finish, must not be {@code null}
+     * @throws NullPointerException if {@code grace} is {@code null}
+     */
+    public void stop(@NotNull final Duration grace) {
+        Preconditions.checkNotNull(grace, "grace must not be null");
+        this.server.stop((int) Math.min(Integer.MAX_VALUE, grace.toSeconds()));
+        this.workers.close();
+        if (this.ownsExecutor) {
+            this.requestExecutor.shutdown();
+        }
+    }
+
+    /**
+     * Stops the server without a grace period.
+     */
+    @Override
+    public void close() {
+        this.stop(Duration.ZERO);
+    }
+
+    private void handle(@NotNull final HttpExchange exchange, @NotNull final ExchangeHandler handler) {
+        final long start = System.nanoTime();
+        boolean success = false;
+        try (exchange) {
+            try {
+                success = handler.handle(exchange);
+            } catch (final HttpStatusException e) {
+                sendError(exchange, e.status(), e.getMessage());
+            } catch (final RuntimeException e) {
+                sendError(exchange, 500, message(e));
+            }
+        } catch (final IOException ignored) {
+            // the client went away; nothing left to answer
+        } finally {
+            this.metrics.recordRequest(System.nanoTime() - start, success);
+        }
+    }
+
+    private boolean migrate(@NotNull final HttpExchange exchange) throws IOException {
+        requireMethod(exchange, "POST", MIGRATE_PATH);
+        final MigrationParameters parameters = this.parameters(exchange);
+
+        final JsonElement document;
+        try (JsonReader reader = new JsonReader(new InputStreamReader(this.requestBody(exchange), StandardCharsets.UTF_8))) {
+            document = JsonParser.parseReader(reader);
+        } catch (final JsonParseException e) {
+            throw new HttpStatusException(400, "Malformed request body: " + message(e));
+        }
+
+        final DataVersion fromVersion;
+        try {
+            fromVersion = parameters.sourceVersion(document);
+        } catch (final IllegalArgumentException e) {
+            this.metrics.recordDocument(false);
+            throw new HttpStatusException(400, e.getMessage());
+        }
+
+        final JsonElement result;
+        if (fromVersion.compareTo(parameters.toVersion) >= 0) {
+            result = document;
+        } else {
+            try {
+                result = this.workers.submit(parameters.type, document, fromVersion, parameters.toVersion).join();
+            } catch (final RejectedExecutionException e) {
+                this.metrics.recordDocument(false);
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                throw new HttpStatusException(503, e.getMessage());
+            } catch (final CompletionException e) {
+                this.metrics.recordDocument(false);
+                throw new HttpStatusException(500, "Migration failed: " + message(e.getCause()));
+            }
+        }
+        this.metrics.recordDocument(true);
+
+        exchange.getResponseHeaders().set("Aether-Source-Version", String.valueOf(fromVersion.getVersion()));
+        exchange.getResponseHeaders().set("Aether-Target-Version", String.valueOf(parameters.toVersion.getVersion()));
+        sendJson(exchange, 200, result);
+        return true;
+    }
+
+    private boolean migrateBatch(@NotNull final HttpExchange exchange) throws IOException {
+        requireMethod(exchange, "POST", BATCH_PATH);
+        final MigrationParameters parameters = this.parameters(exchange);
+
+        final JsonReader reader = new JsonReader(new InputStreamReader(this.requestBody(exchange), StandardCharsets.UTF_8));
+        try {
+            reader.beginArray();
+        } catch (final IOException | IllegalStateException e) {
+            throw new HttpStatusException(400, "Request body must be a JSON array");
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(200, 0);
+
+        boolean wellFormed = true;
+        try (JsonWriter writer = new JsonWriter(new BufferedWriter(
+                new OutputStreamWriter(exchange.getResponseBody(), StandardCharsets.UTF_8)))) {
+            writer.beginArray();
+            // bounded look-ahead: enough to keep every worker busy, never the whole array
+            final ArrayDeque<CompletableFuture<JsonObject>> pending = new ArrayDeque<>();
+            try {
+                while (reader.hasNext()) {
+                    pending.add(this.migrateElement(parameters, JsonParser.parseReader(reader)));
+                    if (pending.size() >= this.streamWindow) {
+                        GSON.toJson(pending.remove().join(), writer);
+                    }
+                }
+                reader.endArray();
+            } catch (final IOException | JsonParseException | IllegalStateException e) {
+                wellFormed = false;
+                pending.add(CompletableFuture.completedFuture(error("Malformed request body: " + message(e))));
+            } catch (final HttpStatusException e) {
+                // the body grew past the limit after the response started
+                wellFormed = false;
+                pending.add(CompletableFuture.completedFuture(error(e.getMessage())));
+            }
+            while (!pending.isEmpty()) {
+                GSON.toJson(pending.remove().join(), writer);
+            }
+            writer.endArray();
+        }
+        return wellFormed;
+    }
+
+    @NotNull
+    private CompletableFuture<JsonObject> migrateElement(
+            @NotNull final MigrationParameters parameters,
+            @NotNull final JsonElement document
+    ) {
+        final DataVersion fromVersion;
+        try {
+            fromVersion = parameters.sourceVersion(document);
+        } catch (final IllegalArgumentException e) {
+            this.metrics.recordDocument(false);
+            return CompletableFuture.completedFuture(error(e.getMessage()));
+        }
+        if (fromVersion.compareTo(parameters.toVersion) >= 0) {
+            this.metrics.recordDocument(true);
+            return CompletableFuture.completedFuture(data(document));
+        }
+        final CompletableFuture<JsonElement> migration;
+        try {
+            migration = this.workers.submit(parameters.type, document, fromVersion, parameters.toVersion);
+        } catch (final RejectedExecutionException e) {
+            this.metrics.recordDocument(false);
+            return CompletableFuture.completedFuture(error(e.getMessage()));
+        }
+        return migration
+                .handle((migrated, failure) -> {
+                    this.metrics.recordDocument(failure == null);
+                    return failure == null ? data(migrated) : error("Migration failed: " + message(failure));
+                });
+    }
+
+    private boolean writeMetrics(@NotNull final HttpExchange exchange) throws IOException {
+        requireMethod(exchange, "GET", METRICS_PATH);
+        final MigrationServerMetrics.Snapshot snapshot = this.metrics.snapshot();
+        final JsonObject body = new JsonObject();
+        body.addProperty("requests", snapshot.requests());
+        body.addProperty("failedRequests", snapshot.failedRequests());
+        body.addProperty("documents", snapshot.documents());
+        body.addProperty("failedDocuments", snapshot.failedDocuments());
+        body.addProperty("requestP50Millis", millis(snapshot.requestP50()));
+        body.addProperty("requestP99Millis", millis(snapshot.requestP99()));
+        body.addProperty("migrationP50Millis", millis(snapshot.migrationP50()));
+        body.addProperty("migrationP99Millis", millis(snapshot.migrationP99()));
+        sendJson(exchange, 200, body);
+        return true;
+    }
+
+    /**
+     * Returns the request body, answering {@code 413} once it exceeds the size limit.
+     */
+    @NotNull
+    private InputStream requestBody(@NotNull final HttpExchange exchange) {
+        final String contentLength = exchange.getRequestHeaders().getFirst("Content-Length");
+        if (contentLength != null) {
+            try {
+                if (Long.parseLong(contentLength) > this.maxBodySize) {
+                    throw bodyTooLarge(this.maxBodySize);
+                }
+            } catch (final NumberFormatException e) {
+                throw new HttpStatusException(400, "Invalid Content-Length: " + contentLength);
+            }
+        }
+        return new BoundedInputStream(exchange.getRequestBody(), this.maxBodySize);
+    }
+
+    @NotNull
+    private static HttpStatusException bodyTooLarge(final long maxBodySize) {
+        return new HttpStatusException(413, "Request body exceeds " + maxBodySize + " bytes");
+    }
+
+    @NotNull
+    private MigrationParameters parameters(@NotNull final HttpExchange exchange) {
+        final Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        final String type = query.get("type");
+        if (type == null || type.isEmpty()) {
+            throw new HttpStatusException(400, "Missing query parameter: type");
+        }
+        final DataVersion toVersion = query.containsKey("to")
+                ? new DataVersion(intParameter(query, "to"))
+                : this.fixer.currentVersion();
+        if (toVersion.compareTo(this.fixer.currentVersion()) > 0) {
+            throw new HttpStatusException(400, "Target version " + toVersion.getVersion()
+                    + " is newer than the current version " + this.fixer.currentVersion().getVersion());
+        }
+        final DataVersion fromVersion = query.containsKey("from")
+                ? new DataVersion(intParameter(query, "from"))
+                : null;
+        return new MigrationParameters(new TypeReference(type), fromVersion, toVersion,
+                query.getOrDefault("versionField", this.versionField));
+    }
+
+    private static void requireMethod(
+            @NotNull final HttpExchange exchange,
+            @NotNull final String method,
+            @NotNull final String path
+    ) {
+        if (!exchange.getRequestURI().getPath().equals(path)) {
+            throw new HttpStatusException(404, "Not found: " + exchange.getRequestURI().getPath());
+        }
+        if (!exchange.getRequestMethod().equalsIgnoreCase(method)) {
+            exchange.getResponseHeaders().set("Allow", method);
+            throw new HttpStatusException(405, "Method not allowed: " + exchange.getRequestMethod());
+        }
+    }
+
+    @NotNull
+    private static Map<String, String> parseQuery(@Nullable final String rawQuery) {
+        final Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (final String pair : rawQuery.split("&")) {
+            final int separator = pair.indexOf('=');
+            final String key = separator < 0 ? pair : pair.substring(0, separator);
+            final String value = separator < 0 ? "" : pair.substring(separator + 1);
+            query.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static int intParameter(@NotNull final Map<String, String> query, @NotNull final String name) {
+        try {
+            return Integer.parseInt(query.get(name));
+        } catch (final NumberFormatException e) {
+            throw new HttpStatusException(400, "Query parameter " + name + " is not an integer: " + query.get(name));
+        }
+    }
+
+    private static void sendJson(
+            @NotNull final HttpExchange exchange,
+            final int status,
+            @NotNull final JsonElement body
+    ) throws IOException {
+        final byte[] bytes = GSON.toJson(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", JSON_CONTENT_TYPE);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sendError(
+            @NotNull final HttpExchange exchange,
+            final int status,
+            @NotNull final String message
+    ) throws IOException {
+        if (exchange.getResponseCode() != -1) {
+            // headers are already out, e.g. mid-stream; the connection is closed instead
+            return;
+        }
+        sendJson(exchange, status, error(message));
+    }
+
+    @NotNull
+    private static JsonObject data(@NotNull final JsonElement document) {
+        final JsonObject element = new JsonObject();
+        element.add("data", document);
+        return element;
+    }
+
+    @NotNull
+    private static JsonObject error(@NotNull final String message) {
+        final JsonObject element = new JsonObject();
+        element.addProperty("error", message);
+        return element;
+    }
+
+    @NotNull
+    private static String message(@NotNull final Throwable failure) {
+        final Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                ? failure.getCause()
+                : failure;
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getName();
+    }
+
+    private static double millis(@NotNull final Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+
+    /**
+     * Creates a virtual-thread-per-task executor on runtimes that have one, otherwise a
+     * cached pool of daemon threads.
+     *
+     * <p>Looked up reflectively because the project compiles against Java 17.</p>
+     */
+    @NotNull
+    static ExecutorService newRequestExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException e) {
+            final AtomicInteger threads = new AtomicInteger();
+            return Executors.newCachedThreadPool(task -> {
+                final Thread thread = new Thread(task, "aether-http-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    /**
+     * Counts the bytes read and fails with {@code 413} past the limit, which also covers
+     * chunked bodies that announce no length.
+     */
+    private static final class BoundedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private long read;
+
+        BoundedInputStream(@NotNull final InputStream in, final long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b != -1) {
+                this.count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] buffer, final int offset, final int length) throws IOException {
+            final int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                this.count(n);
+            }
+            return n;
+        }
+
+        private void count(final long n) {
+            this.read += n;
+            if (this.read > this.limit) {
+                throw bodyTooLarge(this.limit);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ExchangeHandler {
+        boolean handle(@NotNull HttpExchange exchange) throws IOException;
+    }
+
+    /**
+     * Query parameters shared by both migrate endpoints.
+     */
+    private record MigrationParameters(
+            @NotNull TypeReference type,
+            @Nullable DataVersion fromVersion,
+            @NotNull DataVersion toVersion,
+            @NotNull String versionField
+    ) {
+
+        @NotNull
+        DataVersion sourceVersion(@NotNull final JsonElement document) {
+            if (this.fromVersion != null) {
+                return this.fromVersion;
+            }
+            JsonElement current = document;
+            for (final String part : this.versionField.split("\\.")) {
+                current = current.isJsonObject() ? current.getAsJsonObject().get(part) : null;
+                if (current == null) {
+                    throw new IllegalArgumentException("Version field not found: " + this.versionField);
+                }
+            }
+            if (!current.isJsonPrimitive() || !current.getAsJsonPrimitive().isNumber()) {
+                throw new IllegalArgumentException("Version field is not a number: " + this.versionField);
+            }
+            return new DataVersion(current.getAsInt());
+        }
+    }
+
+    /**
+     * Builder for {@link MigrationHttpServer}.
+     *
+     * @author Erik Pförtner
+     * @since 0.6.0
+     */
+    public static final class Builder {
+
+        private final AetherDataFixer fixer;
+        private InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), 0);
+        @Nullable
+        private ExecutorService executor;
+        private int workers = Runtime.getRuntime().availableProcessors();
+        private int queueCapacity = 10_000;
+        private long maxBodySize = 16L * 1024 * 1024;
+        private String versionField = "dataVersion";
+
+        private Builder(@NotNull final AetherDataFixer fixer) {
+            this.fixer = fixer;
+        }
+
+        /**
+         * Sets the address to bind. Defaults to the loopback address on a free port.
+         *
+         * @param address the address, must not be {@code null}
+         * @return this builder
+         * @throws NullPointerException if {@code address} is {@code null}
+         */
+        @NotNull
+        public Builder address(@NotNull final InetSocketAddress address) {
+            this.address = Preconditions.checkNotNull(address, "address must not be null");
+            return this;
+        }
+
+        /**
+         * Binds the loopback address on the given port.
+         *
+         * @param port the port, {@code 0} for a free one
+         * @return this builder
+         * @throws IllegalArgumentException if {@code port} is out of range
+         */
+        @NotNull
+        public Builder port(final int port) {
+            Preconditions.checkArgument(port >= 0 && port <= 0xFFFF, "port out of range: %s", port);
+            this.address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+            return this;
+        }
+
+        /**
+         * Sets the executor for request handling. The server does not shut it down.
+         * Defaults to virtual threads where available.
+         *
+         * @param executor the executor, must not be {@code null}
+         * @return this builder
+         * @throws NullPointerException if {@code executor} is {@code null}
+         */
+        @NotNull
+        public Builder executor(@NotNull final ExecutorService executor) {
+            this.executor = Preconditions.checkNotNull(executor, "executor must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the number of migration worker threads. Defaults to the number of processors.
+         *
+         * @param workers the worker count, at least {@code 1}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code workers} is less than {@code 1}
+         */
+        @NotNull
+        public Builder workers(final int workers) {
+            Preconditions.checkArgument(workers >= 1, "workers must be at least 1");
+            this.workers = workers;
+            return this;
+        }
+
+        /**
+         * Sets how many documents may wait for a migration worker. Defaults to {@code 10000}.
+         *
+         * <p>When the queue is full, {@code /migrate} answers {@code 503} and
+         * {@code /migrate/batch} reports the rejected elements as errors.</p>
+         *
+         * @param queueCapacity the queue capacity, at least {@code 1}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code queueCapacity} is less than {@code 1}
+         */
+        @NotNull
+        public Builder queueCapacity(final int queueCapacity) {
+            Preconditions.checkArgument(queueCapacity >= 1, "queueCapacity must be at least 1");
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Sets the largest accepted request body in bytes. Defaults to 16 MiB.
+         *
+         * <p>Larger bodies are answered with {@code 413}. The limit also bounds the arrays
+         * accepted by {@code /migrate/batch}; raise it for larger streamed batches.</p>
+         *
+         * @param maxBodySize the limit in bytes, at least {@code 1}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code maxBodySize} is less than {@code 1}
+         */
+        @NotNull
+        public Builder maxBodySize(final long maxBodySize) {
+            Preconditions.checkArgument(maxBodySize >= 1, "maxBodySize must be at least 1");
+            this.maxBodySize = maxBodySize;
+            return this;
+        }
+
+        /**
+         * Sets the default dotted path of the version field. Defaults to {@code dataVersion}.
+         *
+         * @param versionField the field path, must not be {@code null}
+         * @return this builder
+         * @throws NullPointerException if {@code versionField} is {@code null}
+         */
+        @NotNull
+        public Builder versionField(@NotNull final String versionField) {
+            this.versionField = Preconditions.checkNotNull(versionField, "versionField must not be null");
+            return this;
+        }
+
+        /**
+         * Creates the server and binds its address; call {@link MigrationHttpServer#start()}
+         * to accept requests.
+         *
+         * @return the server, never {@code null}
+         * @throws IOException if the address cannot be bound
+         */
+        @NotNull
+        public MigrationHttpServer build() throws IOException {
+            return new MigrationHttpServer(this);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.http;
+
+import de.splatgames.aether.datafixers.core.diagnostic.DurationHistogram;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Request, document and latency counters of a {@link MigrationHttpServer}.
+ *
+ * <p>Request latency is measured from reading the request to writing the last response
+ * byte, so it includes waiting for a migration worker. Migration latency covers only the
+ * fixer call for one document. Both are kept in {@link DurationHistogram}s, so
+ * recording never allocates and memory stays constant.</p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>All methods are thread-safe.</p>
+ *
+ * @author Erik Pförtner
+ * @see MigrationHttpServer#metrics()
+ * @since 0.6.0
+ */
+public final class MigrationServerMetrics {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failedRequests = new LongAdder();
+    private final LongAdder documents = new LongAdder();
+    private final LongAdder failedDocuments = new LongAdder();
+    private final DurationHistogram requestLatency = new DurationHistogram();
+    private final DurationHistogram migrationLatency = new DurationHistogram();
+
+    MigrationServerMetrics() {
+    }
+
+    void recordRequest(final long nanos, final boolean success) {
+        this.requests.increment();
+        if (!success) {
+            this.failedRequests.increment();
+        }
+        this.requestLatency.record(nanos);
+    }
+
+    void recordDocument(final boolean success) {
+        this.documents.increment();
+        if (!success) {
+            this.failedDocuments.increment();
+        }
+    }
+
+    void recordMigration(final long nanos) {
+        this.migrationLatency.record(nanos);
+    }
+
+    /**
+     * Returns a point-in-time copy of the counters.
+     *
+     * @return the snapshot, never {@code null}
+     */
+    @NotNull
+    public Snapshot snapshot() {
+        return new Snapshot(
+                this.requests.sum(),
+                this.failedRequests.sum(),
+                this.documents.sum(),
+                this.failedDocuments.sum(),
+                Duration.ofNanos(this.requestLatency.valueAt(0.5)),
+                Duration.ofNanos(this.requestLatency.valueAt(0.99)),
+                Duration.ofNanos(this.migrationLatency.valueAt(0.5)),
+                Duration.ofNanos(this.migrationLatency.valueAt(0.99))
+        );
+    }
+
+    /**
+     * Point-in-time copy of {@link MigrationServerMetrics}.
+     *
+     * @param requests         handled HTTP requests
+     * @param failedRequests   requests answered with a 4xx or 5xx status
+     * @param documents        documents received, including those already current
+     * @param failedDocuments  documents whose migration failed
+     * @param requestP50       median request latency
+     * @param requestP99       99th percentile request latency
+     * @param migrationP50     median fixer time per document
+     * @param migrationP99     99th percentile fixer time per document
+     * @author Erik Pförtner
+     * @since 0.6.0
+     */
+    public record Snapshot(
+            long requests,
+            long failedRequests,
+            long documents,
+            long failedDocuments,
+            @NotNull Duration requestP50,
+            @NotNull Duration requestP99,
+            @NotNull Duration migrationP50,
+            @NotNull Duration migrationP99
+    ) {
+    }
+}
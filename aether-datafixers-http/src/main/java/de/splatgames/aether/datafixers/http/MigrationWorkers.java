@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.http;
+
+import com.google.gson.JsonElement;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.dynamic.TaggedDynamic;
+import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
+import de.splatgames.aether.datafixers.core.AetherDataFixer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs submitted documents on a fixed set of worker threads.
+ *
+ * <p>HTTP requests are handled on cheap, potentially unbounded request threads, while
+ * migrations are CPU-bound. The workers decouple the two: request threads only enqueue
+ * and wait, and a fixed number of platform workers take documents off the queue and
+ * migrate them, so the number of threads competing for the CPU does not grow with the
+ * number of open connections.</p>
+ *
+ * <p>The queue holds at most {@code queueCapacity} documents. A full queue rejects further
+ * submissions instead of buffering without limit, so overload surfaces as an error the
+ * client can retry rather than as growing memory and latency.</p>
+ *
+ * @author Erik Pförtner
+ * @since 0.6.0
+ */
+final class MigrationWorkers implements AutoCloseable {
+
+    private static final long IDLE_POLL_MILLIS = 100L;
+
+    private final AetherDataFixer fixer;
+    private final MigrationServerMetrics metrics;
+    private final BlockingQueue<Job> queue;
+    private final List<Thread> workers;
+
+    private volatile boolean running = true;
+
+    MigrationWorkers(
+            @NotNull final AetherDataFixer fixer,
+            @NotNull final MigrationServerMetrics metrics,
+            final int workers,
+            final int queueCapacity
+    ) {
+        this.fixer = fixer;
+        this.metrics = metrics;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.workers = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            final Thread worker = new Thread(this::work, "aether-http-worker-" + (i + 1));
+            worker.setDaemon(true);
+            this.workers.add(worker);
+        }
+    }
+
+    void start() {
+        this.workers.forEach(Thread::start);
+    }
+
+    /**
+     * Queues a document for migration.
+     *
+     * @return a future completed with the migrated document, or exceptionally with the
+     *         migration failure
+     * @throws IllegalStateException      if the workers were closed
+     * @throws RejectedExecutionException if the queue is full
+     */
+    @NotNull
+    CompletableFuture<JsonElement> submit(
+            @NotNull final TypeReference type,
+            @NotNull final JsonElement document,
+            @NotNull final DataVersion fromVersion,
+            @NotNull final DataVersion toVersion
+    ) {
+        if (!this.running) {
+            throw new IllegalStateException("Server is stopping");
+        }
+        final Job job = new Job(type, document, fromVersion, toVersion, new CompletableFuture<>());
+        if (!this.queue.offer(job)) {
+            throw new RejectedExecutionException("Migration queue is full");
+        }
+        return job.result;
+    }
+
+    /**
+     * Stops accepting documents, finishes the queued ones and waits for the workers.
+     */
+    @Override
+    public void close() {
+        this.running = false;
+        for (final Thread worker : this.workers) {
+            try {
+                worker.join();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        // a submit racing with close may have queued after the workers left
+        Job orphan;
+        while ((orphan = this.queue.poll()) != null) {
+            orphan.result.completeExceptionally(new IllegalStateException("Server is stopping"));
+        }
+    }
+
+    private void work() {
+        while (this.running || !this.queue.isEmpty()) {
+            final Job job;
+            try {
+                job = this.queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (job != null) {
+                this.migrate(job);
+            }
+        }
+    }
+
+    private void migrate(@NotNull final Job job) {
+        final long start = System.nanoTime();
+        try {
+            final TaggedDynamic migrated = this.fixer.update(
+                    new TaggedDynamic(job.type, new Dynamic<>(GsonOps.INSTANCE, job.document)),
+                    job.fromVersion, job.toVersion);
+            this.metrics.recordMigration(System.nanoTime() - start);
+            job.result.complete((JsonElement) migrated.value().value());
+        } catch (final RuntimeException e) {
+            job.result.completeExceptionally(e);
+        }
+    }
+
+    private record Job(
+            TypeReference type,
+            JsonElement document,
+            DataVersion fromVersion,
+            DataVersion toVersion,
+            CompletableFuture<JsonElement> result
+    ) {
+    }
+}
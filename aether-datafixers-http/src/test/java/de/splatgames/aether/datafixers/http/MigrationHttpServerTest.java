@@ -0,0 +1,372 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.http;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.bootstrap.DataFixerBootstrap;
+import de.splatgames.aether.datafixers.api.fix.FixRegistrar;
+import de.splatgames.aether.datafixers.api.schema.SchemaRegistry;
+import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
+import de.splatgames.aether.datafixers.core.AetherDataFixer;
+import de.splatgames.aether.datafixers.core.bootstrap.DataFixerRuntimeFactory;
+import de.splatgames.aether.datafixers.testkit.factory.MockSchemas;
+import de.splatgames.aether.datafixers.testkit.factory.QuickFix;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("MigrationHttpServer")
+class MigrationHttpServerTest {
+
+    private static final AetherDataFixer FIXER =
+            new DataFixerRuntimeFactory().create(new DataVersion(2), new RenameBootstrap());
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private MigrationHttpServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = MigrationHttpServer.builder(FIXER)
+                .workers(2)
+                .build()
+                .start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private HttpResponse<String> post(final String pathAndQuery, final String body)
+            throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(server.uri().resolve(pathAndQuery))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> get(final String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(server.uri().resolve(path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static JsonObject json(final HttpResponse<String> response) {
+        return JsonParser.parseString(response.body()).getAsJsonObject();
+    }
+
+    @Nested
+    @DisplayName("POST /migrate")
+    class Migrate {
+
+        @Test
+        @DisplayName("migrates a document using its version field")
+        void migratesDocument() throws Exception {
+            final HttpResponse<String> response = post("/migrate?type=player",
+                    "{\"dataVersion\":1,\"name\":\"Steve\"}");
+
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(response.headers().firstValue("Content-Type")).hasValue("application/json; charset=utf-8");
+            assertThat(response.headers().firstValue("Aether-Source-Version")).hasValue("1");
+            assertThat(response.headers().firstValue("Aether-Target-Version")).hasValue("2");
+            assertThat(json(response).get("displayName").getAsString()).isEqualTo("Steve");
+        }
+
+        @Test
+        @DisplayName("uses explicit from and a nested version field")
+        void usesParameters() throws Exception {
+            assertThat(json(post("/migrate?type=player&from=1", "{\"name\":\"Alex\"}")).has("displayName"))
+                    .isTrue();
+            assertThat(json(post("/migrate?type=player&versionField=meta.v", "{\"meta\":{\"v\":1},\"name\":\"A\"}"))
+                    .has("displayName"))
+                    .isTrue();
+        }
+
+        @Test
+        @DisplayName("returns current documents unchanged")
+        void returnsCurrentDocumentsUnchanged() throws Exception {
+            final HttpResponse<String> response = post("/migrate?type=player",
+                    "{\"dataVersion\":2,\"name\":\"Steve\"}");
+
+            assertThat(response.statusCode()).isEqualTo(200);
+            assertThat(json(response).get("name").getAsString()).isEqualTo("Steve");
+            assertThat(server.metrics().snapshot().migrationP50()).isZero();
+        }
+
+        @Test
+        @DisplayName("answers bad requests with 400")
+        void rejectsBadRequests() throws Exception {
+            assertThat(post("/migrate", "{}").statusCode()).isEqualTo(400);
+            assertThat(post("/migrate?type=player", "{\"name\":\"x\"}").body())
+                    .contains("Version field not found: dataVersion");
+            assertThat(post("/migrate?type=player&to=3", "{\"dataVersion\":1}").body())
+                    .contains("newer than the current version 2");
+            assertThat(post("/migrate?type=player&from=x", "{}").statusCode()).isEqualTo(400);
+            assertThat(post("/migrate?type=player", "{\"dataVersion\":").statusCode()).isEqualTo(400);
+        }
+
+        @Test
+        @DisplayName("answers wrong methods with 405 and unknown paths with 404")
+        void rejectsWrongMethodAndPath() throws Exception {
+            final HttpResponse<String> wrongMethod = get("/migrate?type=player");
+            assertThat(wrongMethod.statusCode()).isEqualTo(405);
+            assertThat(wrongMethod.headers().firstValue("Allow")).hasValue("POST");
+            assertThat(post("/migrate/other?type=player", "{}").statusCode()).isEqualTo(404);
+        }
+
+        @Test
+        @DisplayName("migrates concurrent requests on a single worker")
+        void migratesConcurrentRequests() throws Exception {
+            server.close();
+            server = MigrationHttpServer.builder(FIXER)
+                    .workers(1)
+                    .build()
+                    .start();
+
+            final List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                responses.add(client.sendAsync(HttpRequest.newBuilder(server.uri().resolve("/migrate?type=player"))
+                        .POST(HttpRequest.BodyPublishers.ofString("{\"dataVersion\":1,\"name\":\"p" + i + "\"}"))
+                        .build(), HttpResponse.BodyHandlers.ofString()));
+            }
+            for (int i = 0; i < responses.size(); i++) {
+                final HttpResponse<String> response = responses.get(i).get();
+                assertThat(response.statusCode()).isEqualTo(200);
+                assertThat(json(response).get("displayName").getAsString()).isEqualTo("p" + i);
+            }
+
+            assertThat(server.metrics().snapshot().documents()).isEqualTo(16);
+        }
+
+        @Test
+        @DisplayName("answers bodies over the size limit with 413")
+        void rejectsOversizedBodies() throws Exception {
+            server.close();
+            server = MigrationHttpServer.builder(FIXER).maxBodySize(32).build().start();
+            final String body = "{\"dataVersion\":1,\"name\":\"a rather long player name\"}";
+
+            assertThat(post("/migrate?type=player", body).statusCode()).isEqualTo(413);
+            final HttpResponse<String> chunked = client.send(
+                    HttpRequest.newBuilder(server.uri().resolve("/migrate?type=player"))
+                            .POST(HttpRequest.BodyPublishers.ofInputStream(
+                                    () -> new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8))))
+                            .build(), HttpResponse.BodyHandlers.ofString());
+            assertThat(chunked.statusCode()).isEqualTo(413);
+            assertThat(json(chunked).get("error").getAsString()).isEqualTo("Request body exceeds 32 bytes");
+            assertThat(post("/migrate?type=player", "{\"dataVersion\":2}").statusCode()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("answers 503 while the migration queue is full")
+        void rejectsWhenQueueIsFull() throws Exception {
+            final BlockingBootstrap bootstrap = new BlockingBootstrap();
+            server.close();
+            server = MigrationHttpServer.builder(new DataFixerRuntimeFactory().create(new DataVersion(2), bootstrap))
+                    .workers(1)
+                    .queueCapacity(1)
+                    .build()
+                    .start();
+
+            final CompletableFuture<HttpResponse<String>> running = postAsync("{\"dataVersion\":1}");
+            assertThat(bootstrap.started.await(10, TimeUnit.SECONDS)).isTrue();
+            final CompletableFuture<HttpResponse<String>> second = postAsync("{\"dataVersion\":1}");
+            final CompletableFuture<HttpResponse<String>> third = postAsync("{\"dataVersion\":1}");
+
+            // the worker is blocked, so only one of the two requests fits the queue
+            @SuppressWarnings("unchecked")
+            final HttpResponse<String> rejected =
+                    (HttpResponse<String>) CompletableFuture.anyOf(second, third).get(10, TimeUnit.SECONDS);
+            assertThat(rejected.statusCode()).isEqualTo(503);
+            assertThat(rejected.headers().firstValue("Retry-After")).hasValue("1");
+
+            bootstrap.release.countDown();
+            assertThat(running.get(10, TimeUnit.SECONDS).statusCode()).isEqualTo(200);
+            assertThat(List.of(second.get(10, TimeUnit.SECONDS).statusCode(), third.get(10, TimeUnit.SECONDS).statusCode()))
+                    .containsExactlyInAnyOrder(200, 503);
+        }
+
+        private CompletableFuture<HttpResponse<String>> postAsync(final String body) {
+            return client.sendAsync(HttpRequest.newBuilder(server.uri().resolve("/migrate?type=player"))
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+        }
+    }
+
+    @Nested
+    @DisplayName("POST /migrate/batch")
+    class MigrateBatch {
+
+        @Test
+        @DisplayName("migrates an array in order with per-element errors")
+        void migratesArray() throws Exception {
+            final HttpResponse<String> response = post("/migrate/batch?type=player",
+                    "[{\"dataVersion\":1,\"name\":\"a\"},{\"name\":\"b\"},{\"dataVersion\":2,\"name\":\"c\"}]");
+
+            assertThat(response.statusCode()).isEqualTo(200);
+            final JsonArray results = JsonParser.parseString(response.body()).getAsJsonArray();
+            assertThat(results).hasSize(3);
+            assertThat(results.get(0).getAsJsonObject().getAsJsonObject("data").get("displayName").getAsString())
+                    .isEqualTo("a");
+            assertThat(results.get(1).getAsJsonObject().get("error").getAsString())
+                    .isEqualTo("Version field not found: dataVersion");
+            assertThat(results.get(2).getAsJsonObject().getAsJsonObject("data").get("name").getAsString())
+                    .isEqualTo("c");
+            assertThat(server.metrics().snapshot().failedDocuments()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("streams arrays larger than the look-ahead window")
+        void streamsLargeArrays() throws Exception {
+            final StringBuilder body = new StringBuilder("[");
+            for (int i = 0; i < 1000; i++) {
+                body.append(i == 0 ? "" : ",").append("{\"dataVersion\":1,\"name\":\"p").append(i).append("\"}");
+            }
+            final HttpResponse<String> response = post("/migrate/batch?type=player", body.append(']').toString());
+
+            final JsonArray results = JsonParser.parseString(response.body()).getAsJsonArray();
+            assertThat(results).hasSize(1000);
+            for (int i = 0; i < 1000; i++) {
+                final JsonElement data = results.get(i).getAsJsonObject().get("data");
+                assertThat(data.getAsJsonObject().get("displayName").getAsString()).isEqualTo("p" + i);
+            }
+        }
+
+        @Test
+        @DisplayName("rejects bodies that are not arrays")
+        void rejectsNonArrays() throws Exception {
+            final HttpResponse<String> response = post("/migrate/batch?type=player", "{\"dataVersion\":1}");
+
+            assertThat(response.statusCode()).isEqualTo(400);
+            assertThat(json(response).get("error").getAsString()).isEqualTo("Request body must be a JSON array");
+        }
+
+        @Test
+        @DisplayName("ends a truncated array with an error element")
+        void endsTruncatedArrayWithError() throws Exception {
+            final HttpResponse<String> response = post("/migrate/batch?type=player",
+                    "[{\"dataVersion\":1,\"name\":\"a\"},{\"dataVersion\":");
+
+            final JsonArray results = JsonParser.parseString(response.body()).getAsJsonArray();
+            assertThat(results).hasSize(2);
+            assertThat(results.get(0).getAsJsonObject().has("data")).isTrue();
+            assertThat(results.get(1).getAsJsonObject().get("error").getAsString())
+                    .startsWith("Malformed request body");
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /metrics")
+    class Metrics {
+
+        @Test
+        @DisplayName("reports requests, documents and latencies")
+        void reportsMetrics() throws Exception {
+            post("/migrate?type=player", "{\"dataVersion\":1,\"name\":\"a\"}");
+            post("/migrate", "{}");
+
+            final JsonObject metrics = json(get("/metrics"));
+
+            assertThat(metrics.get("requests").getAsLong()).isEqualTo(2);
+            assertThat(metrics.get("failedRequests").getAsLong()).isEqualTo(1);
+            assertThat(metrics.get("documents").getAsLong()).isEqualTo(1);
+            assertThat(metrics.get("requestP99Millis").getAsDouble()).isPositive();
+            assertThat(metrics.get("migrationP50Millis").getAsDouble()).isPositive();
+        }
+    }
+
+    @Test
+    @DisplayName("binds the loopback address on a free port by default")
+    void bindsLoopbackByDefault() {
+        assertThat(server.address().getAddress().isLoopbackAddress()).isTrue();
+        assertThat(server.address().getPort()).isPositive();
+        assertThat(server.uri()).isEqualTo(URI.create("http://" + server.address().getAddress().getHostAddress()
+                + ":" + server.address().getPort()));
+    }
+
+    /**
+     * Migrates players from version 1 to 2 with a fix that blocks until released.
+     */
+    static final class BlockingBootstrap implements DataFixerBootstrap {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void registerSchemas(@NotNull final SchemaRegistry schemas) {
+            schemas.register(MockSchemas.minimal(1));
+            schemas.register(MockSchemas.minimal(2));
+        }
+
+        @Override
+        public void registerFixes(@NotNull final FixRegistrar fixes) {
+            fixes.register(RenameBootstrap.PLAYER, QuickFix.simple("block", 1, 2, dynamic -> {
+                this.started.countDown();
+                try {
+                    this.release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return dynamic;
+            }));
+        }
+    }
+
+    /**
+     * Renames {@code name} to {@code displayName} for players between versions 1 and 2.
+     */
+    static final class RenameBootstrap implements DataFixerBootstrap {
+        static final TypeReference PLAYER = new TypeReference("player");
+
+        @Override
+        public void registerSchemas(@NotNull final SchemaRegistry schemas) {
+            schemas.register(MockSchemas.minimal(1));
+            schemas.register(MockSchemas.minimal(2));
+        }
+
+        @Override
+        public void registerFixes(@NotNull final FixRegistrar fixes) {
+            fixes.register(PLAYER, QuickFix.renameField(
+                    GsonOps.INSTANCE, "rename_name_to_displayName", 1, 2, "name", "displayName"));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.http;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.core.AetherDataFixer;
+import de.splatgames.aether.datafixers.core.bootstrap.DataFixerRuntimeFactory;
+import de.splatgames.aether.datafixers.http.MigrationHttpServerTest.RenameBootstrap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("MigrationWorkers")
+class MigrationWorkersTest {
+
+    private static final AetherDataFixer FIXER =
+            new DataFixerRuntimeFactory().create(new DataVersion(2), new RenameBootstrap());
+
+    private static JsonElement player(final String name) {
+        return JsonParser.parseString("{\"name\":\"" + name + "\"}");
+    }
+
+    @Test
+    @DisplayName("migrates queued documents")
+    void migratesQueuedDocuments() {
+        final MigrationServerMetrics metrics = new MigrationServerMetrics();
+        final List<CompletableFuture<JsonElement>> results = new ArrayList<>();
+        try (MigrationWorkers workers = new MigrationWorkers(FIXER, metrics, 1, 100)) {
+            for (int i = 0; i < 10; i++) {
+                results.add(workers.submit(RenameBootstrap.PLAYER, player("p" + i),
+                        new DataVersion(1), new DataVersion(2)));
+            }
+            workers.start();
+            for (int i = 0; i < 10; i++) {
+                assertThat(results.get(i).join().getAsJsonObject().get("displayName").getAsString())
+                        .isEqualTo("p" + i);
+            }
+        }
+
+        assertThat(metrics.snapshot().migrationP50()).isPositive();
+    }
+
+    @Test
+    @DisplayName("completes failed migrations exceptionally")
+    void completesFailuresExceptionally() {
+        final MigrationServerMetrics metrics = new MigrationServerMetrics();
+        try (MigrationWorkers workers = new MigrationWorkers(FIXER, metrics, 1, 100)) {
+            workers.start();
+            final CompletableFuture<JsonElement> result = workers.submit(RenameBootstrap.PLAYER, player("p"),
+                    new DataVersion(1), new DataVersion(7));
+
+            assertThatThrownBy(result::join).isInstanceOf(CompletionException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("rejects documents while the queue is full")
+    void rejectsWhenFull() {
+        try (MigrationWorkers workers = new MigrationWorkers(FIXER, new MigrationServerMetrics(), 1, 2)) {
+            workers.submit(RenameBootstrap.PLAYER, player("a"), new DataVersion(1), new DataVersion(2));
+            workers.submit(RenameBootstrap.PLAYER, player("b"), new DataVersion(1), new DataVersion(2));
+
+            assertThatThrownBy(() -> workers.submit(RenameBootstrap.PLAYER, player("c"),
+                    new DataVersion(1), new DataVersion(2)))
+                    .isInstanceOf(RejectedExecutionException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("finishes queued documents on close and rejects new ones")
+    void finishesQueuedOnClose() {
+        final MigrationWorkers workers = new MigrationWorkers(FIXER, new MigrationServerMetrics(), 1, 100);
+        final CompletableFuture<JsonElement> queued = workers.submit(RenameBootstrap.PLAYER, player("p"),
+                new DataVersion(1), new DataVersion(2));
+        workers.start();
+        workers.close();
+
+        assertThat(queued).isCompleted();
+        assertThatThrownBy(() -> workers.submit(RenameBootstrap.PLAYER, player("q"),
+                new DataVersion(1), new DataVersion(2)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
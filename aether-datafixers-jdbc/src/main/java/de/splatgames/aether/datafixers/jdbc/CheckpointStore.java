@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.jdbc;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * Persists how far a {@link JdbcMigrationRunner} job has progressed.
+ *
+ * <p>The runner calls every method on its own connection and inside its own transaction.
+ * {@link #save} therefore commits together with the rows it covers, so a crashed run
+ * resumes exactly after the last committed transaction.</p>
+ *
+ * <p>Keys are stored in their string form; the runner converts them back using the type of
+ * the key column.</p>
+ *
+ * @author Erik Pförtner
+ * @see JdbcMigrationRunner.Builder#checkpoints(CheckpointStore)
+ * @since 0.6.0
+ */
+public interface CheckpointStore {
+
+    /**
+     * Returns a store that keeps no checkpoints, so every run starts from the first row.
+     *
+     * @return the no-op store, never {@code null}
+     */
+    @NotNull
+    static CheckpointStore none() {
+        return NoCheckpointStore.INSTANCE;
+    }
+
+    /**
+     * Returns a store that keeps checkpoints in a table of the migrated database.
+     *
+     * <p>The table is created on first use with
+     * {@code CREATE TABLE IF NOT EXISTS <table> (job_id VARCHAR(255) PRIMARY KEY,
+     * last_key VARCHAR(1024) NOT NULL)}. Create it up front on databases that do not
+     * support {@code IF NOT EXISTS}.</p>
+     *
+     * @param table the checkpoint table name, must not be {@code null}
+     * @return the store, never {@code null}
+     * @throws NullPointerException     if {@code table} is {@code null}
+     * @throws IllegalArgumentException if {@code table} is not a plain SQL identifier
+     */
+    @NotNull
+    static CheckpointStore table(@NotNull final String table) {
+        Preconditions.checkNotNull(table, "table must not be null");
+        return new TableCheckpointStore(SqlIdentifiers.check(table, "table"));
+    }
+
+    /**
+     * Loads the last committed key of a job.
+     *
+     * @param connection the runner's connection, must not be {@code null}
+     * @param jobId      the job id, must not be {@code null}
+     * @return the key, or {@code null} if the job has no checkpoint
+     * @throws SQLException if the checkpoint cannot be read
+     */
+    @Nullable
+    String load(@NotNull Connection connection, @NotNull String jobId) throws SQLException;
+
+    /**
+     * Records the last key covered by the transaction in progress.
+     *
+     * @param connection the runner's connection, must not be {@code null}
+     * @param jobId      the job id, must not be {@code null}
+     * @param lastKey    the last processed key, must not be {@code null}
+     * @throws SQLException if the checkpoint cannot be written
+     */
+    void save(@NotNull Connection connection, @NotNull String jobId, @NotNull String lastKey)
+            throws SQLException;
+
+    /**
+     * Removes the checkpoint of a completed job, so its next run starts over.
+     *
+     * @param connection the runner's connection, must not be {@code null}
+     * @param jobId      the job id, must not be {@code null}
+     * @throws SQLException if the checkpoint cannot be removed
+     */
+    void clear(@NotNull Connection connection, @NotNull String jobId) throws SQLException;
+}
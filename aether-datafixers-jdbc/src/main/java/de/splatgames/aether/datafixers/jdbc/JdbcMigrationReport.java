@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.jdbc;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a {@link JdbcMigrationRunner} run.
+ *
+ * <p>Rows that fail to migrate are left untouched and counted; only the first
+ * {@value JdbcMigrationRunner#MAX_REPORTED_FAILURES} are listed in {@link #failures()}.
+ * Conflicts are rows whose version changed between reading and writing them; they are
+ * left as the concurrent writer left them. Skipped rows have a {@code NULL} version and
+ * are left untouched, since their source version is unknown.</p>
+ *
+ * @param jobId        the job id, never {@code null}
+ * @param resumedFrom  the checkpointed key the run started after, or {@code null} if it
+ *                     started from the first row
+ * @param scanned      the number of rows read
+ * @param migrated     the number of rows migrated and written back
+ * @param failed       the number of rows that could not be migrated
+ * @param skipped      the number of rows left untouched because their version is {@code NULL}
+ * @param conflicts    the number of rows not written because of a concurrent update
+ * @param transactions the number of committed transactions
+ * @param failures     the first failed rows, never {@code null}
+ * @param duration     the total time spent, never {@code null}
+ * @author Erik Pförtner
+ * @since 0.6.0
+ */
+public record JdbcMigrationReport(
+        @NotNull String jobId,
+        @Nullable String resumedFrom,
+        long scanned,
+        long migrated,
+        long failed,
+        long skipped,
+        long conflicts,
+        long transactions,
+        @NotNull List<RowFailure> failures,
+        @NotNull Duration duration
+) {
+
+    /**
+     * Validates and copies the report.
+     *
+     * @throws NullPointerException if a non-nullable component is {@code null}
+     */
+    public JdbcMigrationReport {
+        Preconditions.checkNotNull(jobId, "jobId must not be null");
+        Preconditions.checkNotNull(failures, "failures must not be null");
+        Preconditions.checkNotNull(duration, "duration must not be null");
+        failures = List.copyOf(failures);
+    }
+
+    /**
+     * A row that could not be migrated.
+     *
+     * @param key     the row key in string form, never {@code null}
+     * @param message why the row failed, never {@code null}
+     * @author Erik Pförtner
+     * @since 0.6.0
+     */
+    public record RowFailure(@NotNull String key, @NotNull String message) {
+
+        /**
+         * Validates the failure.
+         *
+         * @throws NullPointerException if an argument is {@code null}
+         */
+        public RowFailure {
+            Preconditions.checkNotNull(key, "key must not be null");
+            Preconditions.checkNotNull(message, "message must not be null");
+        }
+    }
+}
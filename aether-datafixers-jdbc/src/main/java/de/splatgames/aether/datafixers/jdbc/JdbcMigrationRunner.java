@@ -0,0 +1,680 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.jdbc;
+
+import com.google.common.base.Preconditions;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.dynamic.TaggedDynamic;
+import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
+import de.splatgames.aether.datafixers.core.AetherDataFixer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Migrates the JSON documents stored in one column of a relational table.
+ *
+ * <p>The runner walks the table in key order with keyset pagination
+ * ({@code WHERE key > ? ORDER BY key FETCH FIRST n ROWS ONLY}, or the database's
+ * {@link PageLimit} equivalent), so each page costs an index range scan no matter how far
+ * into the table it is. Only rows whose version column is below
+ * the target version or {@code NULL} are read. While the rows of one page are migrated in parallel, the next
+ * page is already being read. Results are written back in key order with JDBC batch updates,
+ * and every {@code transactionSize} rows the transaction is committed together with a
+ * checkpoint.</p>
+ *
+ * <h2>Resuming</h2>
+ * <p>With a {@link CheckpointStore} other than {@link CheckpointStore#none()}, an interrupted
+ * run resumes after the last committed key. A run that completes clears its checkpoint.</p>
+ *
+ * <h2>Concurrent Writers</h2>
+ * <p>Each update is guarded by the version that was read
+ * ({@code UPDATE ... WHERE key = ? AND version = ?}). A row changed by someone else in the
+ * meantime is not overwritten but counted as a conflict.</p>
+ *
+ * <h2>Failures</h2>
+ * <p>Rows whose payload cannot be parsed or migrated are left unchanged and reported in
+ * {@link JdbcMigrationReport}. Rows with a {@code NULL} version have no known source
+ * version; they are left unchanged and counted as skipped. SQL errors abort the run after
+ * rolling back the current transaction.</p>
+ *
+ * <h2>Usage</h2>
+ * <pre>{@code
+ * JdbcMigrationReport report = JdbcMigrationRunner.builder(dataSource, fixer)
+ *     .type(TypeReferences.PLAYER)
+ *     .table("players")
+ *     .keyColumn("id")
+ *     .payloadColumn("data")
+ *     .versionColumn("data_version")
+ *     .checkpoints(CheckpointStore.table("aether_checkpoints"))
+ *     .build()
+ *     .run();
+ * }</pre>
+ *
+ * @author Erik Pförtner
+ * @see JdbcMigrationReport
+ * @since 0.6.0
+ */
+public final class JdbcMigrationRunner {
+
+    /**
+     * The most failed rows listed in a {@link JdbcMigrationReport}.
+     */
+    public static final int MAX_REPORTED_FAILURES = 100;
+
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().create();
+
+    private final DataSource dataSource;
+    private final AetherDataFixer fixer;
+    private final TypeReference type;
+    private final String table;
+    private final String keyColumn;
+    @Nullable
+    private final DataVersion targetVersion;
+    private final int pageSize;
+    private final int transactionSize;
+    private final int parallelism;
+    private final CheckpointStore checkpoints;
+    private final String jobId;
+    @Nullable
+    private final PageLimit pageLimit;
+    private final String select;
+    private final String pageCondition;
+    private final String updateSql;
+
+    private JdbcMigrationRunner(@NotNull final Builder builder) {
+        this.dataSource = builder.dataSource;
+        this.fixer = builder.fixer;
+        this.type = builder.type;
+        this.table = builder.table;
+        this.keyColumn = builder.keyColumn;
+        this.targetVersion = builder.targetVersion;
+        this.pageSize = builder.pageSize;
+        this.transactionSize = builder.transactionSize;
+        this.parallelism = builder.parallelism;
+        this.checkpoints = builder.checkpoints;
+        this.jobId = builder.jobId != null ? builder.jobId : builder.table + "." + builder.payloadColumn;
+
+        this.pageLimit = builder.pageLimit;
+
+        this.select = "SELECT " + builder.keyColumn + ", " + builder.payloadColumn + ", "
+                + builder.versionColumn + " FROM " + builder.table + " WHERE ";
+        this.pageCondition = "(" + builder.versionColumn + " < ? OR " + builder.versionColumn + " IS NULL) ORDER BY "
+                + builder.keyColumn;
+        this.updateSql = "UPDATE " + builder.table + " SET " + builder.payloadColumn + " = "
+                + builder.payloadBinding + ", " + builder.versionColumn + " = ? WHERE "
+                + builder.keyColumn + " = ? AND " + builder.versionColumn + " = ?";
+    }
+
+    /**
+     * Creates a builder for a runner that migrates rows of the given data source.
+     *
+     * @param dataSource the database to migrate, must not be {@code null}
+     * @param fixer      the fixer to migrate with, must not be {@code null}
+     * @return a new builder, never {@code null}
+     * @throws NullPointerException if an argument is {@code null}
+     */
+    @NotNull
+    public static Builder builder(@NotNull final DataSource dataSource, @NotNull final AetherDataFixer fixer) {
+        Preconditions.checkNotNull(dataSource, "dataSource must not be null");
+        Preconditions.checkNotNull(fixer, "fixer must not be null");
+        return new Builder(dataSource, fixer);
+    }
+
+    /**
+     * Returns the id under which this runner checkpoints its progress.
+     *
+     * @return the job id, never {@code null}
+     */
+    @NotNull
+    public String jobId() {
+        return this.jobId;
+    }
+
+    /**
+     * Migrates every row below the target version, resuming from the checkpoint if there is
+     * one. Rows with a {@code NULL} version are counted as skipped.
+     *
+     * <p>The runner uses one connection for reading, writing and checkpointing, and restores
+     * its auto-commit mode afterwards.</p>
+     *
+     * @return the run's report, never {@code null}
+     * @throws SQLException if reading, writing or checkpointing fails; the transaction in
+     *                      progress is rolled back
+     */
+    @NotNull
+    public JdbcMigrationReport run() throws SQLException {
+        final long start = System.nanoTime();
+        final DataVersion target = this.targetVersion != null ? this.targetVersion : this.fixer.currentVersion();
+        final ExecutorService pool = this.parallelism > 1 ? newPool(this.parallelism) : null;
+        try (Connection connection = this.dataSource.getConnection()) {
+            final boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                return this.run(connection, target, pool, start);
+            } catch (final SQLException | RuntimeException e) {
+                try {
+                    connection.rollback();
+                } catch (final SQLException rollback) {
+                    e.addSuppressed(rollback);
+                }
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } finally {
+            if (pool != null) {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    @NotNull
+    private JdbcMigrationReport run(@NotNull final Connection connection,
+                                    @NotNull final DataVersion target,
+                                    @Nullable final ExecutorService pool,
+                                    final long start) throws SQLException {
+        final String resumedFrom = this.checkpoints.load(connection, this.jobId);
+        connection.commit();
+        final Object resumeKey = resumedFrom != null ? this.parseKey(connection, resumedFrom) : null;
+
+        final PageLimit limit = this.pageLimit != null ? this.pageLimit : PageLimit.detect(connection.getMetaData());
+        final String page = this.pageCondition + limit.clause(this.pageSize);
+        try (PreparedStatement firstPage = connection.prepareStatement(this.select + page);
+             PreparedStatement nextPage = connection.prepareStatement(
+                     this.select + this.keyColumn + " > ? AND " + page);
+             PreparedStatement update = connection.prepareStatement(this.updateSql)) {
+            final Writer writer = new Writer(connection, update, target);
+
+            List<Row> rows = resumeKey == null
+                    ? this.readPage(firstPage, null, target)
+                    : this.readPage(nextPage, resumeKey, target);
+            List<CompletableFuture<Outcome>> outcomes = this.migrate(rows, target, pool);
+            while (!rows.isEmpty()) {
+                final List<Row> current = rows;
+                final List<CompletableFuture<Outcome>> currentOutcomes = outcomes;
+                // read the next page while the current one is being migrated
+                rows = current.size() < this.pageSize
+                        ? List.of()
+                        : this.readPage(nextPage, current.get(current.size() - 1).key(), target);
+                outcomes = this.migrate(rows, target, pool);
+                for (int i = 0; i < current.size(); i++) {
+                    writer.write(current.get(i), currentOutcomes.get(i).join());
+                }
+            }
+            writer.commit();
+            this.checkpoints.clear(connection, this.jobId);
+            connection.commit();
+
+            return new JdbcMigrationReport(this.jobId, resumedFrom, writer.scanned, writer.migrated,
+                    writer.failed, writer.skipped, writer.conflicts, writer.transactions, writer.failures,
+                    Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    @NotNull
+    private List<Row> readPage(@NotNull final PreparedStatement statement,
+                               @Nullable final Object afterKey,
+                               @NotNull final DataVersion target) throws SQLException {
+        int index = 1;
+        if (afterKey != null) {
+            statement.setObject(index++, afterKey);
+        }
+        statement.setInt(index, target.getVersion());
+        statement.setFetchSize(this.pageSize);
+        final List<Row> rows = new ArrayList<>(this.pageSize);
+        try (ResultSet result = statement.executeQuery()) {
+            while (result.next()) {
+                final Object key = result.getObject(1);
+                final String payload = result.getString(2);
+                final int version = result.getInt(3);
+                rows.add(new Row(key, payload, result.wasNull() ? null : version));
+            }
+        }
+        return rows;
+    }
+
+    @NotNull
+    private List<CompletableFuture<Outcome>> migrate(@NotNull final List<Row> rows,
+                                                     @NotNull final DataVersion target,
+                                                     @Nullable final ExecutorService pool) {
+        final List<CompletableFuture<Outcome>> outcomes = new ArrayList<>(rows.size());
+        for (final Row row : rows) {
+            outcomes.add(pool != null
+                    ? CompletableFuture.supplyAsync(() -> this.migrate(row, target), pool)
+                    : CompletableFuture.completedFuture(this.migrate(row, target)));
+        }
+        return outcomes;
+    }
+
+    @NotNull
+    private Outcome migrate(@NotNull final Row row, @NotNull final DataVersion target) {
+        if (row.version() == null) {
+            return Outcome.SKIPPED;
+        }
+        if (row.payload() == null) {
+            return new Outcome(null, "Payload is null");
+        }
+        try {
+            final TaggedDynamic migrated = this.fixer.update(
+                    new TaggedDynamic(this.type, new Dynamic<>(GsonOps.INSTANCE, JsonParser.parseString(row.payload()))),
+                    new DataVersion(row.version()), target);
+            return new Outcome(GSON.toJson((JsonElement) migrated.value().value()), null);
+        } catch (final RuntimeException e) {
+            return new Outcome(null, e.getMessage() != null ? e.getMessage() : e.getClass().getName());
+        }
+    }
+
+    @NotNull
+    private Object parseKey(@NotNull final Connection connection, @NotNull final String key) throws SQLException {
+        final int sqlType;
+        final String className;
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(
+                     "SELECT " + this.keyColumn + " FROM " + this.table + " WHERE 1 = 0")) {
+            sqlType = result.getMetaData().getColumnType(1);
+            className = result.getMetaData().getColumnClassName(1);
+        }
+        switch (sqlType) {
+            case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT:
+                return Long.valueOf(key);
+            case Types.NUMERIC, Types.DECIMAL:
+                return new BigDecimal(key);
+            case Types.CHAR, Types.VARCHAR, Types.LONGVARCHAR, Types.NCHAR, Types.NVARCHAR, Types.LONGNVARCHAR:
+                return key;
+            default:
+                if (UUID.class.getName().equals(className)) {
+                    return UUID.fromString(key);
+                }
+                throw new IllegalStateException("Cannot resume on key column " + this.keyColumn
+                        + " of type " + className + "; use an integer, decimal, character or UUID key");
+        }
+    }
+
+    @NotNull
+    private static String keyString(@NotNull final Object key) {
+        return key instanceof BigDecimal decimal ? decimal.toPlainString() : key.toString();
+    }
+
+    @NotNull
+    private static ExecutorService newPool(final int threads) {
+        final AtomicInteger ids = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, task -> {
+            final Thread thread = new Thread(task, "aether-jdbc-migrator-" + ids.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private record Row(@NotNull Object key, @Nullable String payload, @Nullable Integer version) {
+    }
+
+    private record Outcome(@Nullable String document, @Nullable String error) {
+
+        /**
+         * Outcome of a row without a version, which is neither migrated nor a failure.
+         */
+        static final Outcome SKIPPED = new Outcome(null, null);
+    }
+
+    /**
+     * Batches the updates of one transaction and commits it with its checkpoint.
+     */
+    private final class Writer {
+
+        private final Connection connection;
+        private final PreparedStatement update;
+        private final DataVersion target;
+        private final List<JdbcMigrationReport.RowFailure> failures = new ArrayList<>();
+        private Object lastKey;
+        private int pendingRows;
+        private int pendingUpdates;
+        private long scanned;
+        private long migrated;
+        private long failed;
+        private long skipped;
+        private long conflicts;
+        private long transactions;
+
+        Writer(@NotNull final Connection connection,
+               @NotNull final PreparedStatement update,
+               @NotNull final DataVersion target) {
+            this.connection = connection;
+            this.update = update;
+            this.target = target;
+        }
+
+        void write(@NotNull final Row row, @NotNull final Outcome outcome) throws SQLException {
+            this.scanned++;
+            if (outcome.document() != null) {
+                this.update.setString(1, outcome.document());
+                this.update.setInt(2, this.target.getVersion());
+                this.update.setObject(3, row.key());
+                this.update.setInt(4, row.version());
+                this.update.addBatch();
+                this.pendingUpdates++;
+            } else if (outcome == Outcome.SKIPPED) {
+                this.skipped++;
+            } else {
+                this.failed++;
+                if (this.failures.size() < MAX_REPORTED_FAILURES) {
+                    this.failures.add(new JdbcMigrationReport.RowFailure(keyString(row.key()), outcome.error()));
+                }
+            }
+            this.lastKey = row.key();
+            if (++this.pendingRows >= JdbcMigrationRunner.this.transactionSize) {
+                this.commit();
+            }
+        }
+
+        void commit() throws SQLException {
+            if (this.pendingRows == 0) {
+                return;
+            }
+            if (this.pendingUpdates > 0) {
+                for (final int count : this.update.executeBatch()) {
+                    if (count == 0) {
+                        this.conflicts++;
+                    } else {
+                        this.migrated++;
+                    }
+                }
+            }
+            JdbcMigrationRunner.this.checkpoints.save(this.connection, JdbcMigrationRunner.this.jobId,
+                    keyString(this.lastKey));
+            this.connection.commit();
+            this.transactions++;
+            this.pendingRows = 0;
+            this.pendingUpdates = 0;
+        }
+    }
+
+    /**
+     * Builder for {@link JdbcMigrationRunner}.
+     *
+     * <p>{@link #type}, {@link #table}, {@link #keyColumn}, {@link #payloadColumn} and
+     * {@link #versionColumn} are required. The key column must be unique and should be
+     * indexed; rows are visited in its order.</p>
+     *
+     * @author Erik Pförtner
+     * @since 0.6.0
+     */
+    public static final class Builder {
+
+        private final DataSource dataSource;
+        private final AetherDataFixer fixer;
+        private TypeReference type;
+        private String table;
+        private String keyColumn;
+        private String payloadColumn;
+        private String versionColumn;
+        private String payloadBinding = "?";
+        @Nullable
+        private PageLimit pageLimit;
+        @Nullable
+        private DataVersion targetVersion;
+        private int pageSize = 500;
+        private int transactionSize = 1000;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private CheckpointStore checkpoints = CheckpointStore.none();
+        @Nullable
+        private String jobId;
+
+        private Builder(@NotNull final DataSource dataSource, @NotNull final AetherDataFixer fixer) {
+            this.dataSource = dataSource;
+            this.fixer = fixer;
+        }
+
+        /**
+         * Sets the type of the stored documents.
+         *
+         * @param type the type reference, must not be {@code null}
+         * @return this builder
+         * @throws NullPointerException if {@code type} is {@code null}
+         */
+        @NotNull
+        public Builder type(@NotNull final TypeReference type) {
+            this.type = Preconditions.checkNotNull(type, "type must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the table to migrate, optionally schema-qualified.
+         *
+         * @param table the table name, must not be {@code null}
+         * @return this builder
+         * @throws NullPointerException     if {@code table} is {@code null}
+         * @throws IllegalArgumentException if {@code table} is not a plain SQL identifier
+         */
+        @NotNull
+        public Builder table(@NotNull final String table) {
+            Preconditions.checkNotNull(table, "table must not be null");
+            this.table = SqlIdentifiers.check(table, "table");
+            return this;
+        }
+
+        /**
+         * Sets the unique column rows are paged by.
+         *
+         * @param keyColumn the column name, must not be {@code null}
+         * @return this builder
+         * @throws NullPointerException     if {@code keyColumn} is {@code null}
+         * @throws IllegalArgumentException if {@code keyColumn} is not a plain SQL identifier
+         */
+        @NotNull
+        public Builder keyColumn(@NotNull final String keyColumn) {
+            Preconditions.checkNotNull(keyColumn, "keyColumn must not be null");
+            this.keyColumn = SqlIdentifiers.check(keyColumn, "keyColumn");
+            return this;
+        }
+
+        /**
+         * Sets the column holding the JSON document, as text.
+         *
+         * @param payloadColumn the column name, must not be {@code null}
+         * @return this builder
+         * @throws NullPointerException     if {@code payloadColumn} is {@code null}
+         * @throws IllegalArgumentException if {@code payloadColumn} is not a plain SQL identifier
+         */
+        @NotNull
+        public Builder payloadColumn(@NotNull final String payloadColumn) {
+            Preconditions.checkNotNull(payloadColumn, "payloadColumn must not be null");
+            this.payloadColumn = SqlIdentifiers.check(payloadColumn, "payloadColumn");
+            return this;
+        }
+
+        /**
+         * Sets the integer column holding each document's data version. Rows where it is
+         * {@code NULL} are not migrated and are counted in
+         * {@link JdbcMigrationReport#skipped()}.
+         *
+         * @param versionColumn the column name, must not be {@code null}
+         * @return this builder
+         * @throws NullPointerException     if {@code versionColumn} is {@code null}
+         * @throws IllegalArgumentException if {@code versionColumn} is not a plain SQL identifier
+         */
+        @NotNull
+        public Builder versionColumn(@NotNull final String versionColumn) {
+            Preconditions.checkNotNull(versionColumn, "versionColumn must not be null");
+            this.versionColumn = SqlIdentifiers.check(versionColumn, "versionColumn");
+            return this;
+        }
+
+        /**
+         * Sets the SQL expression the migrated payload is bound through. Defaults to
+         * {@code ?}, which suits text columns. Native JSON columns usually need a conversion,
+         * for example {@code CAST(? AS JSONB)} on PostgreSQL or {@code ? FORMAT JSON} on H2.
+         *
+         * @param payloadBinding the expression, must contain exactly one {@code ?}
+         * @return this builder
+         * @throws NullPointerException     if {@code payloadBinding} is {@code null}
+         * @throws IllegalArgumentException if {@code payloadBinding} does not contain exactly one {@code ?}
+         */
+        @NotNull
+        public Builder payloadBinding(@NotNull final String payloadBinding) {
+            Preconditions.checkNotNull(payloadBinding, "payloadBinding must not be null");
+            Preconditions.checkArgument(payloadBinding.indexOf('?') >= 0
+                            && payloadBinding.indexOf('?') == payloadBinding.lastIndexOf('?'),
+                    "payloadBinding must contain exactly one '?': %s", payloadBinding);
+            this.payloadBinding = payloadBinding;
+            return this;
+        }
+
+        /**
+         * Sets how page queries limit their row count. By default the limit is detected from
+         * the connection's {@link java.sql.DatabaseMetaData} with
+         * {@link PageLimit#detect(java.sql.DatabaseMetaData)}.
+         *
+         * @param pageLimit the page limit, must not be {@code null}
+         * @return this builder
+         * @throws NullPointerException if {@code pageLimit} is {@code null}
+         */
+        @NotNull
+        public Builder pageLimit(@NotNull final PageLimit pageLimit) {
+            this.pageLimit = Preconditions.checkNotNull(pageLimit, "pageLimit must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the version to migrate to. Defaults to the fixer's current version.
+         *
+         * @param targetVersion the target version, must not be {@code null}
+         * @return this builder
+         * @throws NullPointerException if {@code targetVersion} is {@code null}
+         */
+        @NotNull
+        public Builder targetVersion(@NotNull final DataVersion targetVersion) {
+            this.targetVersion = Preconditions.checkNotNull(targetVersion, "targetVersion must not be null");
+            return this;
+        }
+
+        /**
+         * Sets how many rows are read per query. Defaults to 500.
+         *
+         * @param pageSize the page size, at least 1
+         * @return this builder
+         * @throws IllegalArgumentException if {@code pageSize} is less than 1
+         */
+        @NotNull
+        public Builder pageSize(final int pageSize) {
+            Preconditions.checkArgument(pageSize >= 1, "pageSize must be at least 1: %s", pageSize);
+            this.pageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Sets how many rows are covered by one transaction and checkpoint. Defaults to 1000.
+         *
+         * @param transactionSize the transaction size, at least 1
+         * @return this builder
+         * @throws IllegalArgumentException if {@code transactionSize} is less than 1
+         */
+        @NotNull
+        public Builder transactionSize(final int transactionSize) {
+            Preconditions.checkArgument(transactionSize >= 1,
+                    "transactionSize must be at least 1: %s", transactionSize);
+            this.transactionSize = transactionSize;
+            return this;
+        }
+
+        /**
+         * Sets how many threads migrate documents. Defaults to the number of available
+         * processors; {@code 1} migrates on the calling thread.
+         *
+         * @param parallelism the thread count, at least 1
+         * @return this builder
+         * @throws IllegalArgumentException if {@code parallelism} is less than 1
+         */
+        @NotNull
+        public Builder parallelism(final int parallelism) {
+            Preconditions.checkArgument(parallelism >= 1, "parallelism must be at least 1: %s", parallelism);
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Sets where progress is checkpointed. Defaults to {@link CheckpointStore#none()}.
+         *
+         * @param checkpoints the checkpoint store, must not be {@code null}
+         * @return this builder
+         * @throws NullPointerException if {@code checkpoints} is {@code null}
+         */
+        @NotNull
+        public Builder checkpoints(@NotNull final CheckpointStore checkpoints) {
+            this.checkpoints = Preconditions.checkNotNull(checkpoints, "checkpoints must not be null");
+            return this;
+        }
+
+        /**
+         * Sets the id progress is checkpointed under. Defaults to
+         * {@code <table>.<payloadColumn>}.
+         *
+         * @param jobId the job id, must not be {@code null}
+         * @return this builder
+         * @throws NullPointerException if {@code jobId} is {@code null}
+         */
+        @NotNull
+        public Builder jobId(@NotNull final String jobId) {
+            this.jobId = Preconditions.checkNotNull(jobId, "jobId must not be null");
+            return this;
+        }
+
+        /**
+         * Creates the runner.
+         *
+         * @return the runner, never {@code null}
+         * @throws IllegalStateException if a required setting is missing
+         */
+        @NotNull
+        public JdbcMigrationRunner build() {
+            Preconditions.checkState(this.type != null, "type must be set");
+            Preconditions.checkState(this.table != null, "table must be set");
+            Preconditions.checkState(this.keyColumn != null, "keyColumn must be set");
+            Preconditions.checkState(this.payloadColumn != null, "payloadColumn must be set");
+            Preconditions.checkState(this.versionColumn != null, "versionColumn must be set");
+            return new JdbcMigrationRunner(this);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.jdbc;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+
+/**
+ * {@link CheckpointStore} that keeps nothing.
+ *
+ * @author Erik Pförtner
+ * @since 0.6.0
+ */
+enum NoCheckpointStore implements CheckpointStore {
+
+    INSTANCE;
+
+    @Override
+    @Nullable
+    public String load(@NotNull final Connection connection, @NotNull final String jobId) {
+        return null;
+    }
+
+    @Override
+    public void save(@NotNull final Connection connection,
+                     @NotNull final String jobId,
+                     @NotNull final String lastKey) {
+        // nothing to keep
+    }
+
+    @Override
+    public void clear(@NotNull final Connection connection, @NotNull final String jobId) {
+        // nothing to remove
+    }
+}
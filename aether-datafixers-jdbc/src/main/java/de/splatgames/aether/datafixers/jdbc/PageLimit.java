@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.jdbc;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * How a page query limits its row count.
+ *
+ * <p>SQL:2008 specifies {@code FETCH FIRST n ROWS ONLY}, but not every database accepts it:
+ * MySQL and SQLite only know {@code LIMIT n}, and SQL Server requires an {@code OFFSET}
+ * clause in front of {@code FETCH}. Unless a limit is set with
+ * {@link JdbcMigrationRunner.Builder#pageLimit(PageLimit)}, the runner picks one with
+ * {@link #detect(DatabaseMetaData)}.</p>
+ *
+ * @author Erik Pförtner
+ * @since 0.6.0
+ */
+public enum PageLimit {
+
+    /**
+     * {@code FETCH FIRST n ROWS ONLY}; PostgreSQL, H2, HSQLDB, Derby, Oracle 12c and later,
+     * Db2.
+     */
+    FETCH_FIRST {
+        @Override
+        @NotNull
+        String clause(final int rows) {
+            return " FETCH FIRST " + rows + " ROWS ONLY";
+        }
+    },
+
+    /**
+     * {@code LIMIT n}; MySQL, MariaDB, SQLite, PostgreSQL, H2.
+     */
+    LIMIT {
+        @Override
+        @NotNull
+        String clause(final int rows) {
+            return " LIMIT " + rows;
+        }
+    },
+
+    /**
+     * {@code OFFSET 0 ROWS FETCH NEXT n ROWS ONLY}; SQL Server 2012 and later.
+     */
+    OFFSET_FETCH {
+        @Override
+        @NotNull
+        String clause(final int rows) {
+            return " OFFSET 0 ROWS FETCH NEXT " + rows + " ROWS ONLY";
+        }
+    };
+
+    /**
+     * Returns the clause appended to an {@code ORDER BY} to read at most {@code rows} rows.
+     *
+     * @param rows the row limit, at least 1
+     * @return the clause with a leading space, never {@code null}
+     */
+    @NotNull
+    abstract String clause(int rows);
+
+    /**
+     * Picks the limit for a database by its product name: {@link #LIMIT} for MySQL, MariaDB
+     * and SQLite, {@link #OFFSET_FETCH} for SQL Server and {@link #FETCH_FIRST} for every
+     * other database.
+     *
+     * @param metaData the connection's metadata, must not be {@code null}
+     * @return the page limit, never {@code null}
+     * @throws SQLException if the product name cannot be read
+     */
+    @NotNull
+    public static PageLimit detect(@NotNull final DatabaseMetaData metaData) throws SQLException {
+        final String product = metaData.getDatabaseProductName();
+        if (product == null) {
+            return FETCH_FIRST;
+        }
+        final String name = product.toLowerCase(Locale.ROOT);
+        if (name.contains("mysql") || name.contains("mariadb") || name.contains("sqlite")) {
+            return LIMIT;
+        }
+        if (name.contains("microsoft sql server")) {
+            return OFFSET_FETCH;
+        }
+        return FETCH_FIRST;
+    }
+}
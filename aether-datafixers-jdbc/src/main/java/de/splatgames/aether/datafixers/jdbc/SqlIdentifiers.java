@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.jdbc;
+
+import com.google.common.base.Preconditions;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.regex.Pattern;
+
+/**
+ * Validation of table and column names that are spliced into SQL.
+ *
+ * @author Erik Pförtner
+ * @since 0.6.0
+ */
+final class SqlIdentifiers {
+
+    // optionally schema-qualified, unquoted identifiers only
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_$]*(\\.[A-Za-z_][A-Za-z0-9_$]*)?");
+
+    private SqlIdentifiers() {
+        // utility class
+    }
+
+    /**
+     * Checks that a name is a plain SQL identifier.
+     *
+     * @param name the name to check
+     * @param what what the name denotes, for the error message
+     * @return {@code name}
+     * @throws IllegalArgumentException if {@code name} is not a plain identifier
+     */
+    @NotNull
+    static String check(@NotNull final String name, @NotNull final String what) {
+        Preconditions.checkArgument(IDENTIFIER.matcher(name).matches(),
+                "%s must be a plain SQL identifier: %s", what, name);
+        return name;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.jdbc;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * {@link CheckpointStore} backed by a table with one row per job.
+ *
+ * @author Erik Pförtner
+ * @since 0.6.0
+ */
+final class TableCheckpointStore implements CheckpointStore {
+
+    private final String table;
+
+    TableCheckpointStore(@NotNull final String table) {
+        this.table = table;
+    }
+
+    @Override
+    @Nullable
+    public String load(@NotNull final Connection connection, @NotNull final String jobId) throws SQLException {
+        try (Statement create = connection.createStatement()) {
+            create.execute("CREATE TABLE IF NOT EXISTS " + this.table
+                    + " (job_id VARCHAR(255) PRIMARY KEY, last_key VARCHAR(1024) NOT NULL)");
+        }
+        try (PreparedStatement select = connection.prepareStatement(
+                "SELECT last_key FROM " + this.table + " WHERE job_id = ?")) {
+            select.setString(1, jobId);
+            try (ResultSet rows = select.executeQuery()) {
+                return rows.next() ? rows.getString(1) : null;
+            }
+        }
+    }
+
+    @Override
+    public void save(@NotNull final Connection connection,
+                     @NotNull final String jobId,
+                     @NotNull final String lastKey) throws SQLException {
+        // UPDATE-then-INSERT instead of MERGE, which every database spells differently
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE " + this.table + " SET last_key = ? WHERE job_id = ?")) {
+            update.setString(1, lastKey);
+            update.setString(2, jobId);
+            if (update.executeUpdate() > 0) {
+                return;
+            }
+        }
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + this.table + " (job_id, last_key) VALUES (?, ?)")) {
+            insert.setString(1, jobId);
+            insert.setString(2, lastKey);
+            insert.executeUpdate();
+        }
+    }
+
+    @Override
+    public void clear(@NotNull final Connection connection, @NotNull final String jobId) throws SQLException {
+        try (PreparedStatement delete = connection.prepareStatement(
+                "DELETE FROM " + this.table + " WHERE job_id = ?")) {
+            delete.setString(1, jobId);
+            delete.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * Bulk migration of JSON documents stored in relational tables.
+ *
+ * <p>Replaces the per-table migration scripts legacy databases tend to accumulate: point a
+ * {@link de.splatgames.aether.datafixers.jdbc.JdbcMigrationRunner} at a table, its key,
+ * payload and version columns, and it migrates every outdated row through an
+ * {@link de.splatgames.aether.datafixers.core.AetherDataFixer}. Only plain JDBC is used,
+ * so any driver and connection pool works.</p>
+ *
+ * <h2>Key Classes</h2>
+ * <ul>
+ *   <li>{@link de.splatgames.aether.datafixers.jdbc.JdbcMigrationRunner}
+ *       - Keyset-paginated, parallel, batched migration of one table</li>
+ *   <li>{@link de.splatgames.aether.datafixers.jdbc.CheckpointStore}
+ *       - Where a run records its progress so it can resume</li>
+ *   <li>{@link de.splatgames.aether.datafixers.jdbc.JdbcMigrationReport}
+ *       - Row counts and failures of a run</li>
+ * </ul>
+ *
+ * @see de.splatgames.aether.datafixers.core.AetherDataFixer
+ * @since 0.6.0
+ */
+package de.splatgames.aether.datafixers.jdbc;
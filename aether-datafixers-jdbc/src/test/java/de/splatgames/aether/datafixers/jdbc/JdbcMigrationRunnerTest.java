@@ -0,0 +1,426 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.jdbc;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.bootstrap.DataFixerBootstrap;
+import de.splatgames.aether.datafixers.api.fix.FixRegistrar;
+import de.splatgames.aether.datafixers.api.schema.SchemaRegistry;
+import de.splatgames.aether.datafixers.core.AetherDataFixer;
+import de.splatgames.aether.datafixers.core.bootstrap.DataFixerRuntimeFactory;
+import de.splatgames.aether.datafixers.testkit.factory.MockSchemas;
+import de.splatgames.aether.datafixers.testkit.factory.QuickFix;
+import org.h2.jdbcx.JdbcDataSource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JdbcMigrationRunner")
+class JdbcMigrationRunnerTest {
+
+    private static final AetherDataFixer FIXER =
+            new DataFixerRuntimeFactory().create(new DataVersion(2), new RenameBootstrap(document -> { }));
+
+    private JdbcDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        this.dataSource = new JdbcDataSource();
+        this.dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        execute("CREATE TABLE players (id BIGINT PRIMARY KEY, data CLOB, data_version INT)");
+    }
+
+    private void execute(final String sql) throws SQLException {
+        try (Connection connection = this.dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private void insertPlayers(final int count, final int version) throws SQLException {
+        try (Connection connection = this.dataSource.getConnection();
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO players (id, data, data_version) VALUES (?, ?, ?)")) {
+            for (int id = 1; id <= count; id++) {
+                insert.setLong(1, id);
+                insert.setString(2, "{\"name\":\"Player " + id + "\"}");
+                insert.setInt(3, version);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private Map<Long, Row> readPlayers() throws SQLException {
+        final Map<Long, Row> rows = new HashMap<>();
+        try (Connection connection = this.dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT id, data, data_version FROM players")) {
+            while (result.next()) {
+                rows.put(result.getLong(1), new Row(result.getString(2), result.getInt(3)));
+            }
+        }
+        return rows;
+    }
+
+    private JdbcMigrationRunner.Builder runner(final AetherDataFixer fixer) {
+        return JdbcMigrationRunner.builder(this.dataSource, fixer)
+                .type(RenameBootstrap.PLAYER)
+                .table("players")
+                .keyColumn("id")
+                .payloadColumn("data")
+                .versionColumn("data_version");
+    }
+
+    @Nested
+    @DisplayName("run()")
+    class Run {
+
+        @Test
+        @DisplayName("migrates every outdated row across pages and transactions")
+        void migratesAllRows() throws SQLException {
+            insertPlayers(25, 1);
+
+            final JdbcMigrationReport report = runner(FIXER)
+                    .pageSize(7)
+                    .transactionSize(10)
+                    .parallelism(3)
+                    .build()
+                    .run();
+
+            assertThat(report.scanned()).isEqualTo(25);
+            assertThat(report.migrated()).isEqualTo(25);
+            assertThat(report.failed()).isZero();
+            assertThat(report.skipped()).isZero();
+            assertThat(report.conflicts()).isZero();
+            assertThat(report.transactions()).isEqualTo(3);
+            assertThat(report.resumedFrom()).isNull();
+            assertThat(readPlayers().values()).allSatisfy(row -> {
+                assertThat(row.version()).isEqualTo(2);
+                assertThat(row.document().get("displayName").getAsString()).startsWith("Player ");
+                assertThat(row.document().has("name")).isFalse();
+            });
+        }
+
+        @Test
+        @DisplayName("migrates on the calling thread with parallelism 1")
+        void migratesSequentially() throws SQLException {
+            insertPlayers(5, 1);
+
+            final JdbcMigrationReport report = runner(FIXER).parallelism(1).build().run();
+
+            assertThat(report.migrated()).isEqualTo(5);
+            assertThat(readPlayers().get(3L).document().get("displayName").getAsString()).isEqualTo("Player 3");
+        }
+
+        @Test
+        @DisplayName("pages with every page-limit syntax")
+        void pagesWithEveryLimit() throws SQLException {
+            insertPlayers(12, 1);
+
+            for (final PageLimit limit : PageLimit.values()) {
+                execute("UPDATE players SET data_version = 1");
+
+                final JdbcMigrationReport report = runner(FIXER).pageLimit(limit).pageSize(5).build().run();
+
+                assertThat(report.migrated()).as(limit.name()).isEqualTo(12);
+            }
+        }
+
+        @Test
+        @DisplayName("does not read rows that are already at the target version")
+        void skipsCurrentRows() throws SQLException {
+            insertPlayers(4, 2);
+            execute("UPDATE players SET data_version = 1 WHERE id = 3");
+
+            final JdbcMigrationReport report = runner(FIXER).build().run();
+
+            assertThat(report.scanned()).isEqualTo(1);
+            assertThat(report.migrated()).isEqualTo(1);
+            assertThat(readPlayers().get(1L).document().has("name")).isTrue();
+            assertThat(readPlayers().get(3L).document().has("displayName")).isTrue();
+        }
+
+        @Test
+        @DisplayName("reports rows without a version as skipped")
+        void reportsNullVersionsAsSkipped() throws SQLException {
+            insertPlayers(3, 1);
+            execute("UPDATE players SET data_version = NULL WHERE id = 2");
+
+            final JdbcMigrationReport report = runner(FIXER).build().run();
+
+            assertThat(report.scanned()).isEqualTo(3);
+            assertThat(report.migrated()).isEqualTo(2);
+            assertThat(report.skipped()).isEqualTo(1);
+            assertThat(report.failed()).isZero();
+            assertThat(report.failures()).isEmpty();
+            assertThat(readPlayers().get(2L).document().has("name")).isTrue();
+        }
+
+        @Test
+        @DisplayName("leaves unparseable rows untouched and reports them")
+        void reportsFailedRows() throws SQLException {
+            insertPlayers(3, 1);
+            execute("UPDATE players SET data = '{not json' WHERE id = 2");
+
+            final JdbcMigrationReport report = runner(FIXER).build().run();
+
+            assertThat(report.migrated()).isEqualTo(2);
+            assertThat(report.failed()).isEqualTo(1);
+            assertThat(report.failures()).singleElement()
+                    .satisfies(failure -> assertThat(failure.key()).isEqualTo("2"));
+            assertThat(readPlayers().get(2L).version()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("does not overwrite rows changed concurrently")
+        void countsConflicts() throws SQLException {
+            insertPlayers(3, 1);
+            final AetherDataFixer fixer = new DataFixerRuntimeFactory().create(new DataVersion(2),
+                    new RenameBootstrap(document -> {
+                        if ("Player 2".equals(document.get("name").getAsString())) {
+                            try {
+                                execute("UPDATE players SET data = '{}', data_version = 5 WHERE id = 2");
+                            } catch (final SQLException e) {
+                                throw new IllegalStateException(e);
+                            }
+                        }
+                    }));
+
+            final JdbcMigrationReport report = runner(fixer).parallelism(1).build().run();
+
+            assertThat(report.migrated()).isEqualTo(2);
+            assertThat(report.conflicts()).isEqualTo(1);
+            assertThat(readPlayers().get(2L).version()).isEqualTo(5);
+        }
+
+        @Test
+        @DisplayName("writes native JSON columns through a custom payload binding")
+        void writesJsonColumns() throws SQLException {
+            execute("CREATE TABLE profiles (id VARCHAR(16) PRIMARY KEY, doc JSON, v INT)");
+            execute("INSERT INTO profiles VALUES ('a', '{\"name\":\"Alex\"}' FORMAT JSON, 1)");
+
+            final JdbcMigrationReport report = JdbcMigrationRunner.builder(dataSource, FIXER)
+                    .type(RenameBootstrap.PLAYER)
+                    .table("profiles")
+                    .keyColumn("id")
+                    .payloadColumn("doc")
+                    .versionColumn("v")
+                    .payloadBinding("? FORMAT JSON")
+                    .build()
+                    .run();
+
+            assertThat(report.migrated()).isEqualTo(1);
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet result = statement.executeQuery("SELECT doc FROM profiles")) {
+                assertThat(result.next()).isTrue();
+                assertThat(JsonParser.parseString(result.getString(1)).getAsJsonObject()
+                        .get("displayName").getAsString()).isEqualTo("Alex");
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("checkpoints")
+    class Checkpoints {
+
+        @Test
+        @DisplayName("resumes after the last committed transaction")
+        void resumesAfterFailure() throws SQLException {
+            insertPlayers(25, 1);
+            final CheckpointStore store = CheckpointStore.table("aether_checkpoints");
+            final CheckpointStore failing = new FailingStore(store, 2);
+
+            assertThatThrownBy(() -> runner(FIXER).pageSize(4).transactionSize(10)
+                    .checkpoints(failing).build().run())
+                    .isInstanceOf(SQLException.class);
+            assertThat(readPlayers().values().stream().filter(row -> row.version() == 2)).hasSize(10);
+
+            final JdbcMigrationReport report = runner(FIXER).pageSize(4).transactionSize(10)
+                    .checkpoints(store).build().run();
+
+            assertThat(report.resumedFrom()).isEqualTo("10");
+            assertThat(report.scanned()).isEqualTo(15);
+            assertThat(report.migrated()).isEqualTo(15);
+            assertThat(readPlayers().values()).allSatisfy(row -> assertThat(row.version()).isEqualTo(2));
+        }
+
+        @Test
+        @DisplayName("clears the checkpoint of a completed run")
+        void clearsOnCompletion() throws SQLException {
+            insertPlayers(3, 1);
+            final CheckpointStore store = CheckpointStore.table("aether_checkpoints");
+            final JdbcMigrationRunner runner = runner(FIXER).transactionSize(1).checkpoints(store).build();
+
+            runner.run();
+
+            try (Connection connection = dataSource.getConnection()) {
+                assertThat(store.load(connection, runner.jobId())).isNull();
+            }
+        }
+
+        @Test
+        @DisplayName("resumes on character keys")
+        void resumesOnCharacterKeys() throws SQLException {
+            execute("CREATE TABLE profiles (id VARCHAR(16) PRIMARY KEY, doc CLOB, v INT)");
+            execute("INSERT INTO profiles VALUES ('a', '{\"name\":\"A\"}', 1), ('b', '{\"name\":\"B\"}', 1),"
+                    + " ('c', '{\"name\":\"C\"}', 1)");
+            final CheckpointStore store = CheckpointStore.table("aether_checkpoints");
+            try (Connection connection = dataSource.getConnection()) {
+                store.load(connection, "profiles");
+                store.save(connection, "profiles", "a");
+            }
+
+            final JdbcMigrationReport report = JdbcMigrationRunner.builder(dataSource, FIXER)
+                    .type(RenameBootstrap.PLAYER)
+                    .table("profiles")
+                    .keyColumn("id")
+                    .payloadColumn("doc")
+                    .versionColumn("v")
+                    .checkpoints(store)
+                    .jobId("profiles")
+                    .build()
+                    .run();
+
+            assertThat(report.resumedFrom()).isEqualTo("a");
+            assertThat(report.migrated()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("Builder")
+    class BuilderValidation {
+
+        @Test
+        @DisplayName("rejects identifiers that are not plain SQL names")
+        void rejectsInjectedIdentifiers() {
+            assertThatThrownBy(() -> runner(FIXER).table("players; DROP TABLE players"))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> CheckpointStore.table("checkpoints--"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("requires all columns")
+        void requiresColumns() {
+            assertThatThrownBy(() -> JdbcMigrationRunner.builder(dataSource, FIXER)
+                    .type(RenameBootstrap.PLAYER).table("players").build())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("keyColumn");
+        }
+
+        @Test
+        @DisplayName("requires exactly one placeholder in the payload binding")
+        void validatesPayloadBinding() {
+            assertThatThrownBy(() -> runner(FIXER).payloadBinding("CAST(x AS JSON)"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private record Row(String data, int version) {
+
+        JsonObject document() {
+            return JsonParser.parseString(this.data).getAsJsonObject();
+        }
+    }
+
+    /**
+     * Delegates to another store but fails its n-th save.
+     */
+    private static final class FailingStore implements CheckpointStore {
+
+        private final CheckpointStore delegate;
+        private int savesUntilFailure;
+
+        FailingStore(final CheckpointStore delegate, final int failingSave) {
+            this.delegate = delegate;
+            this.savesUntilFailure = failingSave;
+        }
+
+        @Override
+        @Nullable
+        public String load(@NotNull final Connection connection, @NotNull final String jobId) throws SQLException {
+            return this.delegate.load(connection, jobId);
+        }
+
+        @Override
+        public void save(@NotNull final Connection connection,
+                         @NotNull final String jobId,
+                         @NotNull final String lastKey) throws SQLException {
+            if (--this.savesUntilFailure == 0) {
+                throw new SQLException("simulated crash");
+            }
+            this.delegate.save(connection, jobId, lastKey);
+        }
+
+        @Override
+        public void clear(@NotNull final Connection connection, @NotNull final String jobId) throws SQLException {
+            this.delegate.clear(connection, jobId);
+        }
+    }
+
+    static final class RenameBootstrap implements DataFixerBootstrap {
+        static final TypeReference PLAYER = new TypeReference("player");
+
+        private final Consumer<JsonObject> beforeRename;
+
+        RenameBootstrap(final Consumer<JsonObject> beforeRename) {
+            this.beforeRename = beforeRename;
+        }
+
+        @Override
+        public void registerSchemas(@NotNull final SchemaRegistry schemas) {
+            schemas.register(MockSchemas.minimal(1));
+            schemas.register(MockSchemas.minimal(2));
+        }
+
+        @Override
+        public void registerFixes(@NotNull final FixRegistrar fixes) {
+            fixes.register(PLAYER, QuickFix.<JsonElement>simple("rename_name_to_displayName", 1, 2, document -> {
+                this.beforeRename.accept(document.value().getAsJsonObject());
+                return document.rename("name", "displayName");
+            }));
+        }
+    }
+}
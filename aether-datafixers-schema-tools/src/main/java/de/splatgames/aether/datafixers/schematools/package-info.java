@@ -32,6 +32,7 @@
  *   <li>{@code analysis} - Migration path and fix coverage analysis</li>
  *   <li>{@code validation} - Schema structure and convention validation</li>
  *   <li>{@code introspection} - Type structure introspection</li>
+ *   <li>{@code generation} - Synthetic document generation from schema types</li>
  * </ul>
  *
  * <h2>Usage Example</h2>
@@ -26,6 +26,7 @@ import de.splatgames.aether.datafixers.spring.autoconfigure.ActuatorAutoConfigur
 import de.splatgames.aether.datafixers.spring.autoconfigure.DataFixerAutoConfiguration;
 import de.splatgames.aether.datafixers.spring.autoconfigure.DynamicOpsAutoConfiguration;
 import de.splatgames.aether.datafixers.spring.autoconfigure.MigrationServiceAutoConfiguration;
+import de.splatgames.aether.datafixers.spring.autoconfigure.ObservationAutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
@@ -44,6 +45,7 @@ import org.springframework.context.annotation.Import;
  *   <li>{@link DataFixerAutoConfiguration} - AetherDataFixer beans</li>
  *   <li>{@link MigrationServiceAutoConfiguration} - MigrationService with fluent API</li>
  *   <li>{@link ActuatorAutoConfiguration} - Health, Info, Endpoint, and Metrics</li>
+ *   <li>{@link ObservationAutoConfiguration} - Micrometer observations (tracing spans) per migration</li>
  * </ul>
  *
  * <h2>Quick Start</h2>
@@ -76,7 +78,7 @@ import org.springframework.context.annotation.Import;
  * @see ActuatorAutoConfiguration
  * @since 0.4.0
  */
-@AutoConfiguration
+@AutoConfiguration(afterName = "org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration")
 @ConditionalOnProperty(
         prefix = "aether.datafixers",
         name = "enabled",
@@ -88,7 +90,8 @@ import org.springframework.context.annotation.Import;
         DynamicOpsAutoConfiguration.class,
         DataFixerAutoConfiguration.class,
         MigrationServiceAutoConfiguration.class,
-        ActuatorAutoConfiguration.class
+        ActuatorAutoConfiguration.class,
+        ObservationAutoConfiguration.class
 })
 public class AetherDataFixersAutoConfiguration {
     // Marker class - all configuration is in imported classes
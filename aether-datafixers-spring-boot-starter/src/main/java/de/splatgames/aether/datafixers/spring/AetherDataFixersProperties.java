@@ -25,12 +25,17 @@ package de.splatgames.aether.datafixers.spring;
 import com.google.common.base.Preconditions;
 import de.splatgames.aether.datafixers.spring.config.DataFixerDomainProperties;
 import de.splatgames.aether.datafixers.spring.config.DynamicOpsFormat;
+import de.splatgames.aether.datafixers.spring.config.MigrationExecutorType;
+import de.splatgames.aether.datafixers.spring.config.RejectionPolicy;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -66,6 +71,11 @@ import java.util.Map;
  *       timing: true
  *       counting: true
  *       domain-tag: domain
+ *     async:
+ *       type: bounded
+ *       max-size: 8
+ *       queue-capacity: 500
+ *       per-domain: true
  * }</pre>
  *
  * <h2>Configuration Example (application.properties)</h2>
@@ -89,6 +99,10 @@ import java.util.Map;
  *   <tr><td>domains</td><td>Map</td><td>empty</td><td>Per-domain configuration</td></tr>
  *   <tr><td>actuator.*</td><td>ActuatorProperties</td><td>-</td><td>Actuator settings</td></tr>
  *   <tr><td>metrics.*</td><td>MetricsProperties</td><td>-</td><td>Metrics settings</td></tr>
+ *   <tr><td>observation.*</td><td>ObservationProperties</td><td>-</td><td>Tracing settings</td></tr>
+ *   <tr><td>async.*</td><td>AsyncProperties</td><td>-</td><td>Migration executor settings</td></tr>
+ *   <tr><td>cache.*</td><td>CacheProperties</td><td>-</td><td>Migration result cache settings</td></tr>
+ *   <tr><td>warm-up.*</td><td>WarmUpProperties</td><td>-</td><td>Startup warm-up settings</td></tr>
  * </table>
  *
  * <h2>Thread Safety</h2>
@@ -101,6 +115,10 @@ import java.util.Map;
  * @see DynamicOpsFormat
  * @see ActuatorProperties
  * @see MetricsProperties
+ * @see ObservationProperties
+ * @see AsyncProperties
+ * @see CacheProperties
+ * @see WarmUpProperties
  * @since 0.4.0
  */
 @ConfigurationProperties(prefix = "aether.datafixers")
@@ -158,6 +176,27 @@ public class AetherDataFixersProperties {
     @NotNull
     private MetricsProperties metrics = new MetricsProperties();
 
+    /**
+     * Configuration properties for Micrometer Observation (tracing) support.
+     */
+    @NotNull
+    private ObservationProperties observation = new ObservationProperties();
+
+    /**
+     * Executor configuration for asynchronous and streaming migrations.
+     */
+    private AsyncProperties async = new AsyncProperties();
+
+    /**
+     * Configuration of the migration result cache.
+     */
+    private CacheProperties cache = new CacheProperties();
+
+    /**
+     * Configuration of the startup warm-up.
+     */
+    private WarmUpProperties warmUp = new WarmUpProperties();
+
     /**
      * Returns whether the Aether Datafixers auto-configuration is enabled.
      *
@@ -309,6 +348,110 @@ public class AetherDataFixersProperties {
         this.metrics = Preconditions.checkNotNull(metrics, "metrics must not be null");
     }
 
+    /**
+     * Returns the observation configuration properties.
+     *
+     * @return the observation properties, never {@code null}
+     * @since 0.6.0
+     */
+    @SuppressFBWarnings(
+            value = "EI_EXPOSE_REP",
+            justification = "Spring @ConfigurationProperties requires mutable getters for property binding."
+    )
+    @NotNull
+    public ObservationProperties getObservation() {
+        return this.observation;
+    }
+
+    /**
+     * Sets the observation configuration properties.
+     *
+     * @param observation the observation properties, must not be {@code null}
+     * @throws NullPointerException if observation is {@code null}
+     * @since 0.6.0
+     */
+    public void setObservation(@NotNull final ObservationProperties observation) {
+        this.observation = Preconditions.checkNotNull(observation, "observation must not be null");
+    }
+
+    /**
+     * Returns the migration executor configuration properties.
+     *
+     * @return the async properties, never {@code null}
+     * @since 0.6.0
+     */
+    @SuppressFBWarnings(
+            value = "EI_EXPOSE_REP",
+            justification = "Spring @ConfigurationProperties requires mutable getters for property binding."
+    )
+    @NotNull
+    public AsyncProperties getAsync() {
+        return this.async;
+    }
+
+    /**
+     * Sets the migration executor configuration properties.
+     *
+     * @param async the async properties, must not be {@code null}
+     * @throws NullPointerException if async is {@code null}
+     * @since 0.6.0
+     */
+    public void setAsync(@NotNull final AsyncProperties async) {
+        this.async = Preconditions.checkNotNull(async, "async must not be null");
+    }
+
+    /**
+     * Returns the migration result cache configuration properties.
+     *
+     * @return the cache properties, never {@code null}
+     * @since 0.6.0
+     */
+    @SuppressFBWarnings(
+            value = "EI_EXPOSE_REP",
+            justification = "Spring @ConfigurationProperties requires mutable getters for property binding."
+    )
+    @NotNull
+    public CacheProperties getCache() {
+        return this.cache;
+    }
+
+    /**
+     * Sets the migration result cache configuration properties.
+     *
+     * @param cache the cache properties, must not be {@code null}
+     * @throws NullPointerException if cache is {@code null}
+     * @since 0.6.0
+     */
+    public void setCache(@NotNull final CacheProperties cache) {
+        this.cache = Preconditions.checkNotNull(cache, "cache must not be null");
+    }
+
+    /**
+     * Returns the startup warm-up configuration properties.
+     *
+     * @return the warm-up properties, never {@code null}
+     * @since 0.6.0
+     */
+    @SuppressFBWarnings(
+            value = "EI_EXPOSE_REP",
+            justification = "Spring @ConfigurationProperties requires mutable getters for property binding."
+    )
+    @NotNull
+    public WarmUpProperties getWarmUp() {
+        return this.warmUp;
+    }
+
+    /**
+     * Sets the startup warm-up configuration properties.
+     *
+     * @param warmUp the warm-up properties, must not be {@code null}
+     * @throws NullPointerException if warmUp is {@code null}
+     * @since 0.6.0
+     */
+    public void setWarmUp(@NotNull final WarmUpProperties warmUp) {
+        this.warmUp = Preconditions.checkNotNull(warmUp, "warmUp must not be null");
+    }
+
     /**
      * Configuration properties for Spring Boot Actuator integration.
      *
@@ -323,6 +466,8 @@ public class AetherDataFixersProperties {
      *     actuator:
      *       include-schema-details: true
      *       include-fix-details: false
+     *       statistics: true
+     *       statistics-window: 60s
      * }</pre>
      *
      * <h2>Security Considerations</h2>
@@ -352,6 +497,17 @@ public class AetherDataFixersProperties {
          */
         private boolean includeFixDetails = true;
 
+        /**
+         * Flag to record live migration statistics for the actuator endpoint.
+         */
+        private boolean statistics = true;
+
+        /**
+         * Rolling window over which live statistics are reported.
+         */
+        @NotNull
+        private Duration statisticsWindow = Duration.ofSeconds(60);
+
         /**
          * Returns whether schema details are included in actuator responses.
          *
@@ -395,6 +551,52 @@ public class AetherDataFixersProperties {
         public void setIncludeFixDetails(final boolean includeFixDetails) {
             this.includeFixDetails = includeFixDetails;
         }
+
+        /**
+         * Returns whether live migration statistics are recorded.
+         *
+         * <p>Live statistics add rolling-window throughput, latency percentiles, queue depth
+         * and the slowest fixes to the {@code datafixers} endpoint.</p>
+         *
+         * @return {@code true} if live statistics are recorded, {@code false} otherwise
+         * @since 0.6.0
+         */
+        public boolean isStatistics() {
+            return this.statistics;
+        }
+
+        /**
+         * Sets whether live migration statistics are recorded.
+         *
+         * @param statistics {@code true} to record live statistics, {@code false} to disable
+         * @since 0.6.0
+         */
+        public void setStatistics(final boolean statistics) {
+            this.statistics = statistics;
+        }
+
+        /**
+         * Returns the rolling window over which live statistics are reported.
+         *
+         * @return the statistics window, never {@code null}
+         * @since 0.6.0
+         */
+        @NotNull
+        public Duration getStatisticsWindow() {
+            return this.statisticsWindow;
+        }
+
+        /**
+         * Sets the rolling window over which live statistics are reported.
+         *
+         * @param statisticsWindow the statistics window, at least one second
+         * @throws NullPointerException if statisticsWindow is {@code null}
+         * @since 0.6.0
+         */
+        public void setStatisticsWindow(@NotNull final Duration statisticsWindow) {
+            this.statisticsWindow = Preconditions.checkNotNull(statisticsWindow,
+                    "statisticsWindow must not be null");
+        }
     }
 
     /**
@@ -412,6 +614,10 @@ public class AetherDataFixersProperties {
      *       timing: true
      *       counting: true
      *       domain-tag: domain
+     *       per-fix: true
+     *       per-type: true
+     *       percentiles: 0.5, 0.95, 0.99
+     *       percentile-histogram: true
      * }</pre>
      *
      * <h2>Available Metrics</h2>
@@ -421,6 +627,9 @@ public class AetherDataFixersProperties {
      *   <li>{@code aether.datafixers.migrations.failure} - Counter for failed migrations</li>
      *   <li>{@code aether.datafixers.migrations.duration} - Timer for migration duration</li>
      *   <li>{@code aether.datafixers.migrations.version.span} - Distribution of version spans</li>
+     *   <li>{@code aether.datafixers.migrations.skipped} - Counter for data already at the target version</li>
+     *   <li>{@code aether.datafixers.migrations.fix.duration} - Timer per fix (opt-in via {@code per-fix})</li>
+     *   <li>{@code aether.datafixers.migrations.type.duration} - Timer per type (opt-in via {@code per-type})</li>
      * </ul>
      *
      * <h2>Metric Tags</h2>
@@ -459,6 +668,36 @@ public class AetherDataFixersProperties {
         @NotNull
         private String domainTag = "domain";
 
+        /**
+         * Flag to enable a timer per data fix.
+         *
+         * <p>When enabled, the time spent in each fix is recorded as
+         * {@code aether.datafixers.migrations.fix.duration}, tagged with the fix name.</p>
+         */
+        private boolean perFix = false;
+
+        /**
+         * Flag to enable a timer per type reference.
+         *
+         * <p>When enabled, the time spent migrating each type is recorded as
+         * {@code aether.datafixers.migrations.type.duration}, tagged with the type id.</p>
+         */
+        private boolean perType = false;
+
+        /**
+         * Percentiles to publish for migration timers, e.g. {@code 0.5, 0.95, 0.99}.
+         */
+        @NotNull
+        private List<Double> percentiles = new ArrayList<>();
+
+        /**
+         * Flag to publish percentile histogram buckets for migration timers.
+         *
+         * <p>Histogram buckets allow aggregable percentiles in backends such as
+         * Prometheus ({@code histogram_quantile}).</p>
+         */
+        private boolean percentileHistogram = false;
+
         /**
          * Returns whether timing metrics are enabled for migrations.
          *
@@ -524,5 +763,628 @@ public class AetherDataFixersProperties {
         public void setDomainTag(@NotNull final String domainTag) {
             this.domainTag = domainTag;
         }
+
+        /**
+         * Returns whether a timer is recorded per data fix.
+         *
+         * @return {@code true} if per-fix timers are enabled, {@code false} otherwise
+         * @since 0.6.0
+         */
+        public boolean isPerFix() {
+            return this.perFix;
+        }
+
+        /**
+         * Sets whether a timer is recorded per data fix.
+         *
+         * @param perFix {@code true} to enable per-fix timers, {@code false} to disable
+         * @since 0.6.0
+         */
+        public void setPerFix(final boolean perFix) {
+            this.perFix = perFix;
+        }
+
+        /**
+         * Returns whether a timer is recorded per type reference.
+         *
+         * @return {@code true} if per-type timers are enabled, {@code false} otherwise
+         * @since 0.6.0
+         */
+        public boolean isPerType() {
+            return this.perType;
+        }
+
+        /**
+         * Sets whether a timer is recorded per type reference.
+         *
+         * @param perType {@code true} to enable per-type timers, {@code false} to disable
+         * @since 0.6.0
+         */
+        public void setPerType(final boolean perType) {
+            this.perType = perType;
+        }
+
+        /**
+         * Returns the percentiles published for migration timers.
+         *
+         * @return the percentiles in the range {@code [0, 1]}, never {@code null}
+         * @since 0.6.0
+         */
+        @SuppressFBWarnings(
+                value = "EI_EXPOSE_REP",
+                justification = "Spring @ConfigurationProperties requires mutable getters for property binding."
+        )
+        @NotNull
+        public List<Double> getPercentiles() {
+            return this.percentiles;
+        }
+
+        /**
+         * Sets the percentiles published for migration timers.
+         *
+         * @param percentiles the percentiles in the range {@code [0, 1]}, must not be {@code null}
+         * @throws NullPointerException if percentiles is {@code null}
+         * @since 0.6.0
+         */
+        public void setPercentiles(@NotNull final List<Double> percentiles) {
+            this.percentiles = Preconditions.checkNotNull(percentiles, "percentiles must not be null");
+        }
+
+        /**
+         * Returns whether percentile histogram buckets are published for migration timers.
+         *
+         * @return {@code true} if histogram buckets are published, {@code false} otherwise
+         * @since 0.6.0
+         */
+        public boolean isPercentileHistogram() {
+            return this.percentileHistogram;
+        }
+
+        /**
+         * Sets whether percentile histogram buckets are published for migration timers.
+         *
+         * @param percentileHistogram {@code true} to publish histogram buckets
+         * @since 0.6.0
+         */
+        public void setPercentileHistogram(final boolean percentileHistogram) {
+            this.percentileHistogram = percentileHistogram;
+        }
+    }
+
+    /**
+     * Configuration properties for Micrometer Observation support.
+     *
+     * <p>When an {@code ObservationRegistry} bean exists, every migration executed through
+     * the migration service runs inside an observation, which becomes a tracing span when a
+     * tracing bridge is configured.</p>
+     *
+     * <h2>Configuration Example</h2>
+     * <pre>{@code
+     * aether:
+     *   datafixers:
+     *     observation:
+     *       enabled: true
+     *       fix-observations: true
+     * }</pre>
+     *
+     * @author Erik Pförtner
+     * @see de.splatgames.aether.datafixers.spring.observation.MigrationObservations
+     * @since 0.6.0
+     */
+    public static class ObservationProperties {
+
+        /**
+         * Flag to observe migrations when an observation registry is available.
+         */
+        private boolean enabled = true;
+
+        /**
+         * Flag to create a child observation per applied fix.
+         *
+         * <p>Disabled by default, since long fix chains produce many spans.</p>
+         */
+        private boolean fixObservations = false;
+
+        /**
+         * Returns whether migrations are observed.
+         *
+         * @return {@code true} if observations are enabled, {@code false} otherwise
+         */
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        /**
+         * Sets whether migrations are observed.
+         *
+         * @param enabled {@code true} to observe migrations, {@code false} to disable
+         */
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Returns whether a child observation is created per applied fix.
+         *
+         * @return {@code true} if fix observations are enabled, {@code false} otherwise
+         */
+        public boolean isFixObservations() {
+            return this.fixObservations;
+        }
+
+        /**
+         * Sets whether a child observation is created per applied fix.
+         *
+         * @param fixObservations {@code true} to observe each fix, {@code false} to disable
+         */
+        public void setFixObservations(final boolean fixObservations) {
+            this.fixObservations = fixObservations;
+        }
+    }
+
+    /**
+     * Configuration properties for the migration executor.
+     *
+     * <p>These settings configure the dedicated executor used by
+     * {@code MigrationService.executeAsync()} and {@code MigrationService.migrateFlow()},
+     * so migrations no longer compete with parallel streams and other users of the
+     * common {@link java.util.concurrent.ForkJoinPool}. With {@code per-domain} enabled,
+     * every domain gets its own executor built from the same settings, so a backlog in
+     * one domain cannot starve the others.</p>
+     *
+     * <h2>Configuration Example</h2>
+     * <pre>{@code
+     * aether:
+     *   datafixers:
+     *     async:
+     *       type: bounded          # auto, virtual, bounded or common-pool
+     *       core-size: 4
+     *       max-size: 8
+     *       queue-capacity: 500
+     *       keep-alive: 60s
+     *       rejection-policy: caller-runs
+     *       max-concurrency: 64    # virtual threads only
+     *       per-domain: true
+     * }</pre>
+     *
+     * @author Erik Pförtner
+     * @see de.splatgames.aether.datafixers.spring.async.MigrationExecutors
+     * @since 0.6.0
+     */
+    public static class AsyncProperties {
+
+        /**
+         * The executor type; virtual threads on Java 21+ and a bounded pool otherwise.
+         */
+        private MigrationExecutorType type = MigrationExecutorType.AUTO;
+
+        /**
+         * Number of threads kept alive in a bounded pool.
+         */
+        private int coreSize = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * Maximum number of threads of a bounded pool.
+         */
+        private int maxSize = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * Capacity of a bounded pool's queue; {@code 0} hands tasks directly to threads.
+         */
+        private int queueCapacity = 1000;
+
+        /**
+         * Idle time after which threads above the core size are released.
+         */
+        private Duration keepAlive = Duration.ofSeconds(60);
+
+        /**
+         * Policy for migrations submitted to a saturated bounded pool; running on the caller
+         * by default, so a burst never fails migrations that used to queue on the common pool.
+         */
+        private RejectionPolicy rejectionPolicy = RejectionPolicy.CALLER_RUNS;
+
+        /**
+         * Prefix of the executor's thread names.
+         */
+        private String threadNamePrefix = "aether-migration-";
+
+        /**
+         * Maximum number of migrations running at once on a virtual-thread executor;
+         * {@code 0} for no limit.
+         */
+        private int maxConcurrency = 0;
+
+        /**
+         * Flag to give every domain its own executor (bulkhead).
+         */
+        private boolean perDomain = false;
+
+        /**
+         * Time to wait for running migrations when the application shuts down.
+         */
+        private Duration shutdownTimeout = Duration.ofSeconds(30);
+
+        /**
+         * Returns the executor type.
+         *
+         * @return the executor type, never {@code null}
+         */
+        @NotNull
+        public MigrationExecutorType getType() {
+            return this.type;
+        }
+
+        /**
+         * Sets the executor type.
+         *
+         * @param type the executor type, must not be {@code null}
+         * @throws NullPointerException if type is {@code null}
+         */
+        public void setType(@NotNull final MigrationExecutorType type) {
+            this.type = Preconditions.checkNotNull(type, "type must not be null");
+        }
+
+        /**
+         * Returns the number of threads kept alive in a bounded pool.
+         *
+         * @return the core size
+         */
+        public int getCoreSize() {
+            return this.coreSize;
+        }
+
+        /**
+         * Sets the number of threads kept alive in a bounded pool.
+         *
+         * @param coreSize the core size, must not be negative
+         * @throws IllegalArgumentException if coreSize is negative
+         */
+        public void setCoreSize(final int coreSize) {
+            Preconditions.checkArgument(coreSize >= 0, "coreSize must not be negative");
+            this.coreSize = coreSize;
+        }
+
+        /**
+         * Returns the maximum number of threads of a bounded pool.
+         *
+         * @return the maximum size
+         */
+        public int getMaxSize() {
+            return this.maxSize;
+        }
+
+        /**
+         * Sets the maximum number of threads of a bounded pool.
+         *
+         * @param maxSize the maximum size, must be positive
+         * @throws IllegalArgumentException if maxSize is not positive
+         */
+        public void setMaxSize(final int maxSize) {
+            Preconditions.checkArgument(maxSize > 0, "maxSize must be positive");
+            this.maxSize = maxSize;
+        }
+
+        /**
+         * Returns the capacity of a bounded pool's queue.
+         *
+         * @return the queue capacity
+         */
+        public int getQueueCapacity() {
+            return this.queueCapacity;
+        }
+
+        /**
+         * Sets the capacity of a bounded pool's queue.
+         *
+         * @param queueCapacity the queue capacity, must not be negative
+         * @throws IllegalArgumentException if queueCapacity is negative
+         */
+        public void setQueueCapacity(final int queueCapacity) {
+            Preconditions.checkArgument(queueCapacity >= 0, "queueCapacity must not be negative");
+            this.queueCapacity = queueCapacity;
+        }
+
+        /**
+         * Returns the idle time after which threads above the core size are released.
+         *
+         * @return the keep-alive time, never {@code null}
+         */
+        @NotNull
+        public Duration getKeepAlive() {
+            return this.keepAlive;
+        }
+
+        /**
+         * Sets the idle time after which threads above the core size are released.
+         *
+         * @param keepAlive the keep-alive time, must not be {@code null}
+         * @throws NullPointerException if keepAlive is {@code null}
+         */
+        public void setKeepAlive(@NotNull final Duration keepAlive) {
+            this.keepAlive = Preconditions.checkNotNull(keepAlive, "keepAlive must not be null");
+        }
+
+        /**
+         * Returns the policy for migrations submitted to a saturated bounded pool.
+         *
+         * @return the rejection policy, never {@code null}
+         */
+        @NotNull
+        public RejectionPolicy getRejectionPolicy() {
+            return this.rejectionPolicy;
+        }
+
+        /**
+         * Sets the policy for migrations submitted to a saturated bounded pool.
+         *
+         * @param rejectionPolicy the rejection policy, must not be {@code null}
+         * @throws NullPointerException if rejectionPolicy is {@code null}
+         */
+        public void setRejectionPolicy(@NotNull final RejectionPolicy rejectionPolicy) {
+            this.rejectionPolicy = Preconditions.checkNotNull(rejectionPolicy, "rejectionPolicy must not be null");
+        }
+
+        /**
+         * Returns the prefix of the executor's thread names.
+         *
+         * @return the thread name prefix, never {@code null}
+         */
+        @NotNull
+        public String getThreadNamePrefix() {
+            return this.threadNamePrefix;
+        }
+
+        /**
+         * Sets the prefix of the executor's thread names.
+         *
+         * @param threadNamePrefix the thread name prefix, must not be {@code null}
+         * @throws NullPointerException if threadNamePrefix is {@code null}
+         */
+        public void setThreadNamePrefix(@NotNull final String threadNamePrefix) {
+            this.threadNamePrefix = Preconditions.checkNotNull(threadNamePrefix, "threadNamePrefix must not be null");
+        }
+
+        /**
+         * Returns the maximum number of migrations running at once on a virtual-thread
+         * executor.
+         *
+         * @return the concurrency limit, {@code 0} for no limit
+         */
+        public int getMaxConcurrency() {
+            return this.maxConcurrency;
+        }
+
+        /**
+         * Sets the maximum number of migrations running at once on a virtual-thread
+         * executor.
+         *
+         * <p>With {@code per-domain} enabled the limit applies to each domain separately.
+         * Migrations above the limit wait on their virtual thread until a running one
+         * finishes.</p>
+         *
+         * @param maxConcurrency the concurrency limit, {@code 0} for no limit; must not be negative
+         * @throws IllegalArgumentException if maxConcurrency is negative
+         */
+        public void setMaxConcurrency(final int maxConcurrency) {
+            Preconditions.checkArgument(maxConcurrency >= 0, "maxConcurrency must not be negative");
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        /**
+         * Returns whether every domain gets its own executor.
+         *
+         * @return {@code true} if executors are isolated per domain, {@code false} if shared
+         */
+        public boolean isPerDomain() {
+            return this.perDomain;
+        }
+
+        /**
+         * Sets whether every domain gets its own executor.
+         *
+         * @param perDomain {@code true} to isolate executors per domain
+         */
+        public void setPerDomain(final boolean perDomain) {
+            this.perDomain = perDomain;
+        }
+
+        /**
+         * Returns the time to wait for running migrations on shutdown.
+         *
+         * @return the shutdown timeout, never {@code null}
+         */
+        @NotNull
+        public Duration getShutdownTimeout() {
+            return this.shutdownTimeout;
+        }
+
+        /**
+         * Sets the time to wait for running migrations on shutdown.
+         *
+         * @param shutdownTimeout the shutdown timeout, must not be {@code null}
+         * @throws NullPointerException if shutdownTimeout is {@code null}
+         */
+        public void setShutdownTimeout(@NotNull final Duration shutdownTimeout) {
+            this.shutdownTimeout = Preconditions.checkNotNull(shutdownTimeout, "shutdownTimeout must not be null");
+        }
+    }
+
+    /**
+     * Configuration properties for the migration result cache.
+     *
+     * <p>When enabled, the migration service caches the result of every successful
+     * migration, keyed by domain, type, versions and the content of the input, and serves
+     * repeated migrations of identical payloads from the cache instead of running the fix
+     * chain again. The auto-configured cache is a
+     * {@link de.splatgames.aether.datafixers.spring.cache.LocalMigrationResultCache}; define a
+     * {@link de.splatgames.aether.datafixers.spring.cache.MigrationResultCache} bean to use
+     * another implementation.</p>
+     *
+     * <h2>Configuration Example</h2>
+     * <pre>{@code
+     * aether:
+     *   datafixers:
+     *     cache:
+     *       enabled: true
+     *       maximum-size: 50000
+     *       time-to-live: 30m
+     * }</pre>
+     *
+     * @author Erik Pförtner
+     * @see de.splatgames.aether.datafixers.spring.cache.MigrationResultCache
+     * @since 0.6.0
+     */
+    public static class CacheProperties {
+
+        /**
+         * Flag to cache migration results.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Maximum number of cached results before the least recently used are evicted.
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * Time after which a cached result expires; zero or negative for no expiry.
+         */
+        private Duration timeToLive = Duration.ofMinutes(10);
+
+        /**
+         * Returns whether migration results are cached.
+         *
+         * @return {@code true} if the cache is enabled, {@code false} otherwise
+         */
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        /**
+         * Sets whether migration results are cached.
+         *
+         * @param enabled {@code true} to cache migration results
+         */
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Returns the maximum number of cached results.
+         *
+         * @return the maximum size
+         */
+        public long getMaximumSize() {
+            return this.maximumSize;
+        }
+
+        /**
+         * Sets the maximum number of cached results.
+         *
+         * @param maximumSize the maximum size, must be positive
+         * @throws IllegalArgumentException if maximumSize is not positive
+         */
+        public void setMaximumSize(final long maximumSize) {
+            Preconditions.checkArgument(maximumSize > 0, "maximumSize must be positive: %s", maximumSize);
+            this.maximumSize = maximumSize;
+        }
+
+        /**
+         * Returns the time after which a cached result expires.
+         *
+         * @return the time to live, never {@code null}
+         */
+        @NotNull
+        public Duration getTimeToLive() {
+            return this.timeToLive;
+        }
+
+        /**
+         * Sets the time after which a cached result expires.
+         *
+         * @param timeToLive the time to live, zero or negative for no expiry, must not be {@code null}
+         * @throws NullPointerException if timeToLive is {@code null}
+         */
+        public void setTimeToLive(@NotNull final Duration timeToLive) {
+            this.timeToLive = Preconditions.checkNotNull(timeToLive, "timeToLive must not be null");
+        }
+    }
+
+    /**
+     * Configuration properties for the startup warm-up.
+     *
+     * <p>When enabled, every registered DataFixer is warmed up by an
+     * {@link org.springframework.boot.ApplicationRunner} before the application reports
+     * itself ready: schema type registries and fix rules are built, then synthetic documents
+     * in the primary {@code DynamicOps} format are migrated through every fix for
+     * {@link #getDuration() the configured duration}. Progress is shown by the DataFixer
+     * health indicator.</p>
+     *
+     * <h2>Configuration Example</h2>
+     * <pre>{@code
+     * aether:
+     *   datafixers:
+     *     warm-up:
+     *       enabled: true
+     *       duration: 10s
+     * }</pre>
+     *
+     * @author Erik Pförtner
+     * @see de.splatgames.aether.datafixers.spring.warmup.DataFixerWarmUp
+     * @since 0.6.0
+     */
+    public static class WarmUpProperties {
+
+        /**
+         * Flag to warm up all DataFixers on startup.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Time budget per domain for migrating synthetic documents.
+         */
+        private Duration duration = Duration.ofSeconds(5);
+
+        /**
+         * Returns whether the DataFixers are warmed up on startup.
+         *
+         * @return {@code true} if the warm-up is enabled, {@code false} otherwise
+         */
+        public boolean isEnabled() {
+            return this.enabled;
+        }
+
+        /**
+         * Sets whether the DataFixers are warmed up on startup.
+         *
+         * @param enabled {@code true} to warm up on startup
+         */
+        public void setEnabled(final boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Returns the time budget per domain for migrating synthetic documents.
+         *
+         * @return the duration, never {@code null}
+         */
+        @NotNull
+        public Duration getDuration() {
+            return this.duration;
+        }
+
+        /**
+         * Sets the time budget per domain for migrating synthetic documents.
+         *
+         * @param duration the duration, must not be {@code null} or negative
+         * @throws NullPointerException     if duration is {@code null}
+         * @throws IllegalArgumentException if duration is negative
+         */
+        public void setDuration(@NotNull final Duration duration) {
+            Preconditions.checkNotNull(duration, "duration must not be null");
+            Preconditions.checkArgument(!duration.isNegative(), "duration must not be negative: %s", duration);
+            this.duration = duration;
+        }
     }
 }
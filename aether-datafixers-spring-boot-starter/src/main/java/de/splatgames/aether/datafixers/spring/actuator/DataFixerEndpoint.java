@@ -25,6 +25,8 @@ package de.splatgames.aether.datafixers.spring.actuator;
 import com.google.common.base.Preconditions;
 import de.splatgames.aether.datafixers.core.AetherDataFixer;
 import de.splatgames.aether.datafixers.spring.autoconfigure.DataFixerRegistry;
+import de.splatgames.aether.datafixers.spring.statistics.MigrationStatistics;
+import de.splatgames.aether.datafixers.spring.statistics.MigrationStatistics.DomainStatistics;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
@@ -88,6 +90,34 @@ import java.util.Map;
  * }
  * }</pre>
  *
+ * <h3>Live Statistics</h3>
+ * <p>When a {@link MigrationStatistics} recorder is configured, both operations add a
+ * {@code statistics} object per domain with rolling-window throughput, latency percentiles,
+ * queue depth and the slowest fixes. It is {@code null} for domains without recorded
+ * migrations:</p>
+ * <pre>{@code
+ * {
+ *   "domain": "game",
+ *   "currentVersion": 150,
+ *   "status": "UP",
+ *   "statistics": {
+ *     "windowSeconds": 60,
+ *     "migrations": 5400,
+ *     "failures": 2,
+ *     "throughputPerSecond": 90.0,
+ *     "meanMillis": 1.8,
+ *     "p50Millis": 1.4,
+ *     "p99Millis": 7.9,
+ *     "maxMillis": 31.2,
+ *     "queued": 12,
+ *     "active": 4,
+ *     "slowestFixes": [
+ *       { "fix": "PlayerInventoryFix", "count": 5400, "meanMillis": 0.9, "maxMillis": 12.5 }
+ *     ]
+ *   }
+ * }
+ * }</pre>
+ *
  * <h3>Error Response (Domain Failure)</h3>
  * <pre>{@code
  * {
@@ -159,6 +189,12 @@ public class DataFixerEndpoint {
      */
     private final DataFixerRegistry registry;
 
+    /**
+     * Optional live statistics recorder.
+     */
+    @Nullable
+    private final MigrationStatistics statistics;
+
     /**
      * Creates a new DataFixerEndpoint with the specified registry.
      *
@@ -170,7 +206,24 @@ public class DataFixerEndpoint {
      * @throws NullPointerException if registry is {@code null}
      */
     public DataFixerEndpoint(@NotNull final DataFixerRegistry registry) {
+        this(registry, null);
+    }
+
+    /**
+     * Creates a new DataFixerEndpoint that also reports live migration statistics.
+     *
+     * @param registry   the DataFixer registry containing all domain fixers,
+     *                   must not be {@code null}
+     * @param statistics the live statistics recorder, may be {@code null}
+     * @throws NullPointerException if registry is {@code null}
+     * @since 0.6.0
+     */
+    public DataFixerEndpoint(
+            @NotNull final DataFixerRegistry registry,
+            @Nullable final MigrationStatistics statistics
+    ) {
         this.registry = Preconditions.checkNotNull(registry, "registry must not be null");
+        this.statistics = statistics;
     }
 
     /**
@@ -186,6 +239,7 @@ public class DataFixerEndpoint {
      * <ul>
      *   <li>{@code currentVersion} - The current schema version (or -1 on error)</li>
      *   <li>{@code status} - "UP" if operational, or "DOWN: {error}" on failure</li>
+     *   <li>{@code statistics} - Live statistics, if a recorder is configured</li>
      * </ul>
      *
      * @return the summary response containing all domain information
@@ -201,12 +255,14 @@ public class DataFixerEndpoint {
             try {
                 domains.put(domain, new DomainSummary(
                         fixer.currentVersion().getVersion(),
-                        "UP"
+                        "UP",
+                        statisticsOf(domain)
                 ));
             } catch (final Exception e) {
                 domains.put(domain, new DomainSummary(
                         -1,
-                        "DOWN: " + e.getMessage()
+                        "DOWN: " + e.getMessage(),
+                        statisticsOf(domain)
                 ));
             }
         }
@@ -231,6 +287,7 @@ public class DataFixerEndpoint {
      *   <li>{@code domain} - The domain name (echoed back for clarity)</li>
      *   <li>{@code currentVersion} - The current schema version (or -1 on error)</li>
      *   <li>{@code status} - "UP" if operational, or "DOWN: {error}" on failure</li>
+     *   <li>{@code statistics} - Live statistics, if a recorder is configured</li>
      * </ul>
      *
      * @param domain the domain name to retrieve details for
@@ -249,17 +306,31 @@ public class DataFixerEndpoint {
             return new DomainDetails(
                     domain,
                     fixer.currentVersion().getVersion(),
-                    "UP"
+                    "UP",
+                    statisticsOf(domain)
             );
         } catch (final Exception e) {
             return new DomainDetails(
                     domain,
                     -1,
-                    "DOWN: " + e.getMessage()
+                    "DOWN: " + e.getMessage(),
+                    statisticsOf(domain)
             );
         }
     }
 
+    /**
+     * Returns the live statistics of a domain.
+     *
+     * @param domain the domain name
+     * @return the statistics, or {@code null} if no recorder is configured or nothing
+     *         was recorded for the domain
+     */
+    @Nullable
+    private DomainStatistics statisticsOf(@NotNull final String domain) {
+        return this.statistics != null ? this.statistics.snapshot(domain) : null;
+    }
+
     /**
      * Response object containing summary information for all registered DataFixer domains.
      *
@@ -314,10 +385,21 @@ public class DataFixerEndpoint {
      *
      * @param currentVersion the current schema version of the domain, or -1 on error
      * @param status         the operational status ("UP" or "DOWN: {error}")
+     * @param statistics     the live statistics, or {@code null} if not available
      * @author Erik Pförtner
      * @since 0.4.0
      */
-    public record DomainSummary(int currentVersion, String status) {
+    public record DomainSummary(int currentVersion, String status, @Nullable DomainStatistics statistics) {
+
+        /**
+         * Creates a summary without live statistics.
+         *
+         * @param currentVersion the current schema version of the domain, or -1 on error
+         * @param status         the operational status ("UP" or "DOWN: {error}")
+         */
+        public DomainSummary(final int currentVersion, final String status) {
+            this(currentVersion, status, null);
+        }
     }
 
     /**
@@ -340,13 +422,26 @@ public class DataFixerEndpoint {
      * @param domain         the domain name (echoed from the request path)
      * @param currentVersion the current schema version of the domain, or -1 on error
      * @param status         the operational status ("UP" or "DOWN: {error}")
+     * @param statistics     the live statistics, or {@code null} if not available
      * @author Erik Pförtner
      * @since 0.4.0
      */
     public record DomainDetails(
             String domain,
             int currentVersion,
-            String status
+            String status,
+            @Nullable DomainStatistics statistics
     ) {
+
+        /**
+         * Creates domain details without live statistics.
+         *
+         * @param domain         the domain name (echoed from the request path)
+         * @param currentVersion the current schema version of the domain, or -1 on error
+         * @param status         the operational status ("UP" or "DOWN: {error}")
+         */
+        public DomainDetails(final String domain, final int currentVersion, final String status) {
+            this(domain, currentVersion, status, null);
+        }
     }
 }
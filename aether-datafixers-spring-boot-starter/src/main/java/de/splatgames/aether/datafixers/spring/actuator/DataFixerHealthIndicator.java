@@ -25,7 +25,9 @@ package de.splatgames.aether.datafixers.spring.actuator;
 import com.google.common.base.Preconditions;
 import de.splatgames.aether.datafixers.core.AetherDataFixer;
 import de.splatgames.aether.datafixers.spring.autoconfigure.DataFixerRegistry;
+import de.splatgames.aether.datafixers.spring.warmup.DataFixerWarmUp;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
 
@@ -72,6 +74,26 @@ import java.util.Map;
  * }
  * }</pre>
  *
+ * <h3>Warm-Up Running</h3>
+ * <p>When the {@link DataFixerWarmUp startup warm-up} is enabled, its overall and per-domain
+ * progress is added to the details, and the status is {@code OUT_OF_SERVICE} while it runs:</p>
+ * <pre>{@code
+ * {
+ *   "status": "OUT_OF_SERVICE",
+ *   "details": {
+ *     "totalDomains": 1,
+ *     "default.status": "UP",
+ *     "default.currentVersion": 200,
+ *     "warmUp.state": "RUNNING",
+ *     "default.warmUp.state": "RUNNING",
+ *     "default.warmUp.rounds": 412,
+ *     "default.warmUp.migrations": 8240,
+ *     "default.warmUp.failures": 0,
+ *     "default.warmUp.elapsedMs": 2310
+ *   }
+ * }
+ * }</pre>
+ *
  * <h3>Unhealthy State (Domain Failure)</h3>
  * <pre>{@code
  * {
@@ -118,6 +140,10 @@ import java.util.Map;
  *   <li>Container orchestration systems</li>
  * </ul>
  *
+ * <p>To hold the readiness probe back until the warm-up has finished, include this
+ * indicator in the readiness group:
+ * {@code management.endpoint.health.group.readiness.include=readinessState,dataFixer}.</p>
+ *
  * <h2>Thread Safety</h2>
  * <p>This class is thread-safe. The underlying {@link DataFixerRegistry} uses
  * thread-safe data structures, and the health check method is stateless.</p>
@@ -135,6 +161,12 @@ public class DataFixerHealthIndicator implements HealthIndicator {
      */
     private final DataFixerRegistry registry;
 
+    /**
+     * Startup warm-up whose progress is reported, or {@code null} if disabled.
+     */
+    @Nullable
+    private final DataFixerWarmUp warmUp;
+
     /**
      * Creates a new DataFixerHealthIndicator with the specified registry.
      *
@@ -146,7 +178,24 @@ public class DataFixerHealthIndicator implements HealthIndicator {
      * @throws NullPointerException if registry is {@code null}
      */
     public DataFixerHealthIndicator(@NotNull final DataFixerRegistry registry) {
+        this(registry, null);
+    }
+
+    /**
+     * Creates a new DataFixerHealthIndicator that also reports the startup warm-up.
+     *
+     * @param registry the DataFixer registry containing all domain fixers,
+     *                 must not be {@code null}
+     * @param warmUp   the startup warm-up to report, or {@code null} if disabled
+     * @throws NullPointerException if registry is {@code null}
+     * @since 0.6.0
+     */
+    public DataFixerHealthIndicator(
+            @NotNull final DataFixerRegistry registry,
+            @Nullable final DataFixerWarmUp warmUp
+    ) {
         this.registry = Preconditions.checkNotNull(registry, "registry must not be null");
+        this.warmUp = warmUp;
     }
 
     /**
@@ -160,6 +209,7 @@ public class DataFixerHealthIndicator implements HealthIndicator {
      * <ul>
      *   <li>Returns {@code UNKNOWN} if no DataFixers are registered</li>
      *   <li>Returns {@code UP} with domain details if all DataFixers are healthy</li>
+     *   <li>Returns {@code OUT_OF_SERVICE} with progress details while the warm-up runs</li>
      *   <li>Returns {@code DOWN} immediately upon first failure, including error details</li>
      * </ul>
      *
@@ -196,6 +246,27 @@ public class DataFixerHealthIndicator implements HealthIndicator {
             }
         }
 
+        final DataFixerWarmUp warmUp = this.warmUp;
+        if (warmUp != null) {
+            final DataFixerWarmUp.State state = warmUp.getState();
+            builder.withDetail("warmUp.state", state.name());
+            for (final Map.Entry<String, DataFixerWarmUp.DomainProgress> entry : warmUp.getProgress().entrySet()) {
+                final String prefix = entry.getKey() + ".warmUp.";
+                final DataFixerWarmUp.DomainProgress progress = entry.getValue();
+                builder.withDetail(prefix + "state", progress.state().name());
+                builder.withDetail(prefix + "rounds", progress.rounds());
+                builder.withDetail(prefix + "migrations", progress.migrations());
+                builder.withDetail(prefix + "failures", progress.failures());
+                builder.withDetail(prefix + "elapsedMs", progress.elapsed().toMillis());
+                if (progress.error() != null) {
+                    builder.withDetail(prefix + "error", progress.error());
+                }
+            }
+            if (state == DataFixerWarmUp.State.RUNNING) {
+                builder.outOfService();
+            }
+        }
+
         return builder.build();
     }
 }
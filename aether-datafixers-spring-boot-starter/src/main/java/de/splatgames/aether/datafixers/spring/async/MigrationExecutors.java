@@ -0,0 +1,439 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.spring.async;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.spring.AetherDataFixersProperties;
+import de.splatgames.aether.datafixers.spring.config.MigrationExecutorType;
+import de.splatgames.aether.datafixers.spring.config.RejectionPolicy;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * The executors running asynchronous and streaming migrations.
+ *
+ * <p>Instances are created from {@link AetherDataFixersProperties.AsyncProperties} and hold
+ * either one executor shared by all domains or, with {@code per-domain} enabled, one
+ * executor per domain. Isolating domains acts as a bulkhead: a burst of migrations in one
+ * domain fills only that domain's pool and queue, while the others keep their threads.
+ * Virtual threads are unbounded, so for them the bulkhead takes effect through
+ * {@code max-concurrency}, which limits each executor separately.</p>
+ *
+ * <h2>Executor Types</h2>
+ * <ul>
+ *   <li>{@link MigrationExecutorType#VIRTUAL} - one virtual thread per migration
+ *       (Java 21+), with at most {@code max-concurrency} of them running at once</li>
+ *   <li>{@link MigrationExecutorType#BOUNDED} - a {@link ThreadPoolExecutor} with a bounded
+ *       queue and the configured {@link RejectionPolicy}</li>
+ *   <li>{@link MigrationExecutorType#AUTO} - virtual threads when available, otherwise
+ *       bounded</li>
+ *   <li>{@link MigrationExecutorType#COMMON_POOL} - the common {@link ForkJoinPool}; no
+ *       executor is owned</li>
+ * </ul>
+ *
+ * <h2>Lifecycle</h2>
+ * <p>The owned executors are shut down by {@link #close()}, which waits up to the
+ * configured shutdown timeout for running migrations before interrupting them. Spring
+ * calls it when the application context closes.</p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is thread-safe.</p>
+ *
+ * @author Erik Pförtner
+ * @see de.splatgames.aether.datafixers.spring.service.DefaultMigrationService
+ * @see de.splatgames.aether.datafixers.spring.metrics.MigrationExecutorMetrics
+ * @since 0.6.0
+ */
+public final class MigrationExecutors implements AutoCloseable {
+
+    /**
+     * Key of the executor shared by all domains in {@link #executors()}.
+     */
+    public static final String SHARED = "shared";
+
+    /**
+     * Logger for executor lifecycle events.
+     */
+    private static final Logger LOG = LoggerFactory.getLogger(MigrationExecutors.class);
+
+    /**
+     * The Java feature release that introduced virtual threads.
+     */
+    private static final int VIRTUAL_THREADS_RELEASE = 21;
+
+    /**
+     * The resolved executor type; never {@link MigrationExecutorType#AUTO}.
+     */
+    private final MigrationExecutorType type;
+
+    /**
+     * Whether every domain has its own executor.
+     */
+    private final boolean perDomain;
+
+    /**
+     * Creates the executor for a key, or {@code null} for the common pool.
+     */
+    @Nullable
+    private final Function<String, ExecutorService> factory;
+
+    /**
+     * The owned executors by domain, or under {@link #SHARED}.
+     */
+    private final Map<String, ExecutorService> executors = new ConcurrentHashMap<>();
+
+    /**
+     * Time to wait for running migrations on {@link #close()}.
+     */
+    private final Duration shutdownTimeout;
+
+    /**
+     * Whether {@link #close()} has been called.
+     */
+    private volatile boolean closed;
+
+    /**
+     * Creates the executors.
+     *
+     * @param type            the resolved executor type
+     * @param perDomain       whether every domain has its own executor
+     * @param factory         the executor factory, {@code null} for the common pool
+     * @param shutdownTimeout the shutdown timeout
+     */
+    private MigrationExecutors(
+            @NotNull final MigrationExecutorType type,
+            final boolean perDomain,
+            @Nullable final Function<String, ExecutorService> factory,
+            @NotNull final Duration shutdownTimeout
+    ) {
+        this.type = type;
+        this.perDomain = perDomain;
+        this.factory = factory;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    /**
+     * Creates the executors described by the given properties.
+     *
+     * <p>With {@code per-domain} enabled an executor is created eagerly for each of the
+     * given domains, so they are visible to metrics right away; executors for further
+     * domains are created on first use.</p>
+     *
+     * @param properties the executor properties, must not be {@code null}
+     * @param domains    the known domains, must not be {@code null}
+     * @return the executors, never {@code null}
+     * @throws NullPointerException  if any argument is {@code null}
+     * @throws IllegalStateException if virtual threads are requested on Java before 21
+     */
+    @NotNull
+    public static MigrationExecutors create(
+            @NotNull final AetherDataFixersProperties.AsyncProperties properties,
+            @NotNull final Collection<String> domains
+    ) {
+        Preconditions.checkNotNull(properties, "properties must not be null");
+        Preconditions.checkNotNull(domains, "domains must not be null");
+
+        final MigrationExecutorType type = resolve(properties.getType());
+        final Function<String, ExecutorService> factory = switch (type) {
+            case VIRTUAL -> key -> limited(
+                    virtualThreads(threadNamePrefix(properties, key)), properties.getMaxConcurrency());
+            case BOUNDED -> key -> boundedPool(properties, threadNamePrefix(properties, key));
+            default -> null;
+        };
+
+        final MigrationExecutors executors = new MigrationExecutors(
+                type, properties.isPerDomain(), factory, properties.getShutdownTimeout());
+        if (factory != null) {
+            if (properties.isPerDomain()) {
+                domains.forEach(executors::executorFor);
+            } else {
+                executors.executorFor(SHARED);
+            }
+        }
+        LOG.debug("Created {} migration executors ({})", type,
+                properties.isPerDomain() ? "per domain" : "shared");
+        return executors;
+    }
+
+    /**
+     * Returns the executor for migrations in the given domain.
+     *
+     * @param domain the domain, must not be {@code null}
+     * @return the executor, never {@code null}
+     * @throws NullPointerException  if domain is {@code null}
+     * @throws IllegalStateException if the executors are closed
+     */
+    @NotNull
+    public Executor executorFor(@NotNull final String domain) {
+        Preconditions.checkNotNull(domain, "domain must not be null");
+        final Function<String, ExecutorService> executorFactory = this.factory;
+        if (executorFactory == null) {
+            return ForkJoinPool.commonPool();
+        }
+        if (this.closed) {
+            throw new IllegalStateException("Migration executors are closed");
+        }
+        return this.executors.computeIfAbsent(this.perDomain ? domain : SHARED, executorFactory);
+    }
+
+    /**
+     * Returns the owned executors, keyed by domain or by {@link #SHARED}.
+     *
+     * <p>The map is empty for {@link MigrationExecutorType#COMMON_POOL}.</p>
+     *
+     * @return an immutable snapshot of the owned executors, never {@code null}
+     */
+    @NotNull
+    public Map<String, ExecutorService> executors() {
+        return Map.copyOf(this.executors);
+    }
+
+    /**
+     * Returns the resolved executor type.
+     *
+     * @return the executor type, never {@link MigrationExecutorType#AUTO}
+     */
+    @NotNull
+    public MigrationExecutorType type() {
+        return this.type;
+    }
+
+    /**
+     * Returns whether every domain has its own executor.
+     *
+     * @return {@code true} if executors are isolated per domain
+     */
+    public boolean isPerDomain() {
+        return this.perDomain;
+    }
+
+    /**
+     * Shuts down the owned executors.
+     *
+     * <p>Queued and running migrations get up to the shutdown timeout to finish, after
+     * which remaining ones are interrupted.</p>
+     */
+    @Override
+    public void close() {
+        this.closed = true;
+        this.executors.values().forEach(ExecutorService::shutdown);
+        final long deadline = System.nanoTime() + this.shutdownTimeout.toNanos();
+        for (final Map.Entry<String, ExecutorService> entry : this.executors.entrySet()) {
+            final ExecutorService executor = entry.getValue();
+            try {
+                final long remaining = Math.max(0, deadline - System.nanoTime());
+                if (!executor.awaitTermination(remaining, TimeUnit.NANOSECONDS)) {
+                    LOG.warn("Migration executor '{}' did not terminate within {}, interrupting",
+                            entry.getKey(), this.shutdownTimeout);
+                    executor.shutdownNow();
+                }
+            } catch (final InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Resolves {@link MigrationExecutorType#AUTO} against the running Java version.
+     *
+     * @param type the configured type
+     * @return the effective type
+     */
+    @NotNull
+    static MigrationExecutorType resolve(@NotNull final MigrationExecutorType type) {
+        if (type != MigrationExecutorType.AUTO) {
+            return type;
+        }
+        return Runtime.version().feature() >= VIRTUAL_THREADS_RELEASE
+                ? MigrationExecutorType.VIRTUAL
+                : MigrationExecutorType.BOUNDED;
+    }
+
+    /**
+     * Returns the thread name prefix for the executor of a key.
+     *
+     * @param properties the executor properties
+     * @param key        the domain or {@link #SHARED}
+     * @return the thread name prefix
+     */
+    @NotNull
+    private static String threadNamePrefix(
+            @NotNull final AetherDataFixersProperties.AsyncProperties properties,
+            @NotNull final String key
+    ) {
+        return SHARED.equals(key)
+                ? properties.getThreadNamePrefix()
+                : properties.getThreadNamePrefix() + key + "-";
+    }
+
+    /**
+     * Creates a bounded thread pool.
+     *
+     * @param properties the executor properties
+     * @param namePrefix the thread name prefix
+     * @return the thread pool
+     */
+    @NotNull
+    private static ExecutorService boundedPool(
+            @NotNull final AetherDataFixersProperties.AsyncProperties properties,
+            @NotNull final String namePrefix
+    ) {
+        final int maxSize = properties.getMaxSize();
+        final int coreSize = Math.min(properties.getCoreSize(), maxSize);
+        final BlockingQueue<Runnable> queue = properties.getQueueCapacity() == 0
+                ? new SynchronousQueue<>()
+                : new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        final RejectedExecutionHandler handler = properties.getRejectionPolicy() == RejectionPolicy.CALLER_RUNS
+                ? new ThreadPoolExecutor.CallerRunsPolicy()
+                : new ThreadPoolExecutor.AbortPolicy();
+        final AtomicInteger counter = new AtomicInteger();
+        final ThreadFactory threadFactory = runnable -> {
+            final Thread thread = new Thread(runnable, namePrefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(coreSize, maxSize,
+                properties.getKeepAlive().toMillis(), TimeUnit.MILLISECONDS,
+                queue, threadFactory, handler);
+    }
+
+    /**
+     * Limits the number of tasks running at once on an executor.
+     *
+     * @param executor       the executor
+     * @param maxConcurrency the concurrency limit, {@code 0} for no limit
+     * @return the limited executor, or {@code executor} itself without a limit
+     */
+    @NotNull
+    static ExecutorService limited(@NotNull final ExecutorService executor, final int maxConcurrency) {
+        return maxConcurrency == 0 ? executor : new ConcurrencyLimitedExecutor(executor, maxConcurrency);
+    }
+
+    /**
+     * Creates a virtual-thread-per-task executor.
+     *
+     * <p>The module targets Java 17, so the Java 21 API is looked up reflectively.</p>
+     *
+     * @param namePrefix the thread name prefix
+     * @return the executor
+     * @throws IllegalStateException if virtual threads are not available
+     */
+    @NotNull
+    private static ExecutorService virtualThreads(@NotNull final String namePrefix) {
+        try {
+            final Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 1L);
+            final ThreadFactory threadFactory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class
+                    .getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, threadFactory);
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    "Virtual thread migration executors require Java " + VIRTUAL_THREADS_RELEASE
+                            + " or later; configure aether.datafixers.async.type=bounded instead", e);
+        }
+    }
+
+    /**
+     * An executor that runs at most a fixed number of tasks at once on its delegate.
+     *
+     * <p>Meant for thread-per-task delegates: a task above the limit still gets its thread,
+     * which waits for a permit before running the task. Waiting ignores interrupts so that
+     * no accepted task, and thus no future completed by it, is dropped.</p>
+     */
+    private static final class ConcurrencyLimitedExecutor extends AbstractExecutorService {
+
+        private final ExecutorService delegate;
+        private final Semaphore permits;
+
+        ConcurrencyLimitedExecutor(@NotNull final ExecutorService delegate, final int maxConcurrency) {
+            this.delegate = delegate;
+            this.permits = new Semaphore(maxConcurrency);
+        }
+
+        @Override
+        public void execute(@NotNull final Runnable command) {
+            Preconditions.checkNotNull(command, "command must not be null");
+            this.delegate.execute(() -> {
+                this.permits.acquireUninterruptibly();
+                try {
+                    command.run();
+                } finally {
+                    this.permits.release();
+                }
+            });
+        }
+
+        @Override
+        public void shutdown() {
+            this.delegate.shutdown();
+        }
+
+        @NotNull
+        @Override
+        public List<Runnable> shutdownNow() {
+            return this.delegate.shutdownNow();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return this.delegate.isShutdown();
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return this.delegate.isTerminated();
+        }
+
+        @Override
+        public boolean awaitTermination(final long timeout, @NotNull final TimeUnit unit) throws InterruptedException {
+            return this.delegate.awaitTermination(timeout, unit);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+/**
+ * Executors for asynchronous and streaming migrations.
+ *
+ * <p>This package provides {@link de.splatgames.aether.datafixers.spring.async.MigrationExecutors},
+ * the dedicated executors configured by the {@code aether.datafixers.async.*} properties.
+ * They replace the common {@link java.util.concurrent.ForkJoinPool} as the default
+ * executor of the auto-configured
+ * {@link de.splatgames.aether.datafixers.spring.service.MigrationService}, optionally with
+ * one isolated executor per domain.</p>
+ *
+ * <h2>Package Contents</h2>
+ * <ul>
+ *   <li>{@link de.splatgames.aether.datafixers.spring.async.MigrationExecutors}
+ *       - Shared or per-domain virtual-thread or bounded executors</li>
+ * </ul>
+ *
+ * @author Erik Pförtner
+ * @see de.splatgames.aether.datafixers.spring.AetherDataFixersProperties.AsyncProperties
+ * @since 0.6.0
+ */
+package de.splatgames.aether.datafixers.spring.async;
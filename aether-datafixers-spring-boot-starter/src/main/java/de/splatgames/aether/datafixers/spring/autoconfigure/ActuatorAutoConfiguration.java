@@ -23,11 +23,15 @@
 package de.splatgames.aether.datafixers.spring.autoconfigure;
 
 import de.splatgames.aether.datafixers.core.AetherDataFixer;
+import de.splatgames.aether.datafixers.spring.AetherDataFixersProperties;
 import de.splatgames.aether.datafixers.spring.actuator.DataFixerEndpoint;
 import de.splatgames.aether.datafixers.spring.actuator.DataFixerHealthIndicator;
 import de.splatgames.aether.datafixers.spring.actuator.DataFixerInfoContributor;
 import de.splatgames.aether.datafixers.spring.metrics.MigrationMetrics;
+import de.splatgames.aether.datafixers.spring.statistics.MigrationStatistics;
+import de.splatgames.aether.datafixers.spring.warmup.DataFixerWarmUp;
 import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
 import org.springframework.boot.actuate.autoconfigure.health.ConditionalOnEnabledHealthIndicator;
 import org.springframework.boot.actuate.autoconfigure.info.ConditionalOnEnabledInfoContributor;
@@ -81,6 +85,12 @@ import org.springframework.context.annotation.Configuration;
  *     <td>{@code management.endpoint.datafixers.enabled}</td>
  *   </tr>
  *   <tr>
+ *     <td>{@link MigrationStatistics}</td>
+ *     <td>Live throughput and latency</td>
+ *     <td>/actuator/datafixers</td>
+ *     <td>{@code aether.datafixers.actuator.statistics}</td>
+ *   </tr>
+ *   <tr>
  *     <td>{@link MigrationMetrics}</td>
  *     <td>Micrometer metrics recording</td>
  *     <td>/actuator/metrics</td>
@@ -129,6 +139,9 @@ import org.springframework.context.annotation.Configuration;
  *   <li>{@code aether.datafixers.migrations.failure} - Counter per domain/error type</li>
  *   <li>{@code aether.datafixers.migrations.duration} - Timer per domain</li>
  *   <li>{@code aether.datafixers.migrations.version.span} - Distribution per domain</li>
+ *   <li>{@code aether.datafixers.migrations.skipped} - Counter per domain</li>
+ *   <li>{@code aether.datafixers.migrations.fix.duration} - Timer per domain/fix (opt-in)</li>
+ *   <li>{@code aether.datafixers.migrations.type.duration} - Timer per domain/type (opt-in)</li>
  * </ul>
  *
  * <h2>Security Considerations</h2>
@@ -180,14 +193,16 @@ public class ActuatorAutoConfiguration {
          * their operational status as part of the application health.</p>
          *
          * @param registry the DataFixer registry for iterating domains
+         * @param warmUp   the startup warm-up whose progress to report, if enabled
          * @return a new DataFixerHealthIndicator instance
          */
         @Bean
         @ConditionalOnMissingBean(name = "dataFixerHealthIndicator")
         public DataFixerHealthIndicator dataFixerHealthIndicator(
-                final DataFixerRegistry registry
+                final DataFixerRegistry registry,
+                final ObjectProvider<DataFixerWarmUp> warmUp
         ) {
-            return new DataFixerHealthIndicator(registry);
+            return new DataFixerHealthIndicator(registry, warmUp.getIfAvailable());
         }
     }
 
@@ -244,15 +259,70 @@ public class ActuatorAutoConfiguration {
          *   <li>GET /actuator/datafixers/{domain} - Details for specific domain</li>
          * </ul>
          *
-         * @param registry the DataFixer registry for querying domain information
+         * @param registry   the DataFixer registry for querying domain information
+         * @param statistics the live statistics recorder, if enabled
          * @return a new DataFixerEndpoint instance
          */
         @Bean
         @ConditionalOnMissingBean
         public DataFixerEndpoint dataFixerEndpoint(
-                final DataFixerRegistry registry
+                final DataFixerRegistry registry,
+                final ObjectProvider<MigrationStatistics> statistics
+        ) {
+            return new DataFixerEndpoint(registry, statistics.getIfAvailable());
+        }
+    }
+
+    /**
+     * Nested configuration for the live {@link MigrationStatistics} shown by the
+     * {@link DataFixerEndpoint}.
+     *
+     * <p>Activated when the endpoint is available and
+     * {@code aether.datafixers.actuator.statistics=true} (enabled by default). The recorder is
+     * fed by the {@link de.splatgames.aether.datafixers.spring.service.MigrationService} and by a
+     * listener attached to every auto-configured DataFixer.</p>
+     *
+     * @author Erik Pförtner
+     * @since 0.6.0
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnAvailableEndpoint(endpoint = DataFixerEndpoint.class)
+    @ConditionalOnProperty(
+            prefix = "aether.datafixers.actuator",
+            name = "statistics",
+            havingValue = "true",
+            matchIfMissing = true
+    )
+    static class StatisticsConfiguration {
+
+        /**
+         * Creates the live statistics recorder.
+         *
+         * @param properties the configuration properties, if bound
+         * @return a new MigrationStatistics instance
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public MigrationStatistics migrationStatistics(
+                final ObjectProvider<AetherDataFixersProperties> properties
         ) {
-            return new DataFixerEndpoint(registry);
+            final AetherDataFixersProperties props = properties.getIfAvailable();
+            return props != null
+                    ? new MigrationStatistics(props.getActuator().getStatisticsWindow())
+                    : new MigrationStatistics();
+        }
+
+        /**
+         * Attaches the {@link MigrationStatistics#listener(String) statistics listener} to every
+         * auto-configured DataFixer, which feeds the slowest-fix ranking.
+         *
+         * @param statistics the live statistics recorder
+         * @return the builder customizer
+         */
+        @Bean
+        @ConditionalOnMissingBean(name = "migrationStatisticsCustomizer")
+        public DataFixerBuilderCustomizer migrationStatisticsCustomizer(final MigrationStatistics statistics) {
+            return (domain, builder) -> builder.withMigrationListener(statistics.listener(domain));
         }
     }
 
@@ -283,12 +353,36 @@ public class ActuatorAutoConfiguration {
          * <p>All metrics are tagged with the domain name for filtering.</p>
          *
          * @param meterRegistry the Micrometer registry for creating meters
+         * @param properties    the configuration properties, if bound
          * @return a new MigrationMetrics instance
          */
         @Bean
         @ConditionalOnMissingBean
-        public MigrationMetrics migrationMetrics(final MeterRegistry meterRegistry) {
-            return new MigrationMetrics(meterRegistry);
+        public MigrationMetrics migrationMetrics(
+                final MeterRegistry meterRegistry,
+                final ObjectProvider<AetherDataFixersProperties> properties
+        ) {
+            final AetherDataFixersProperties props = properties.getIfAvailable();
+            return props != null
+                    ? new MigrationMetrics(meterRegistry, props.getMetrics())
+                    : new MigrationMetrics(meterRegistry);
+        }
+
+        /**
+         * Attaches the {@link MigrationMetrics#listener(String) metrics listener} to every
+         * auto-configured DataFixer.
+         *
+         * <p>This feeds the skipped counter and the opt-in per-fix and per-type timers from
+         * inside the fixer.</p>
+         *
+         * @param metrics the migration metrics recorder
+         * @return the builder customizer
+         * @since 0.6.0
+         */
+        @Bean
+        @ConditionalOnMissingBean(name = "migrationMetricsCustomizer")
+        public DataFixerBuilderCustomizer migrationMetricsCustomizer(final MigrationMetrics metrics) {
+            return (domain, builder) -> builder.withMigrationListener(metrics.listener(domain));
         }
     }
 }
@@ -24,14 +24,21 @@ package de.splatgames.aether.datafixers.spring.autoconfigure;
 
 import de.splatgames.aether.datafixers.api.DataVersion;
 import de.splatgames.aether.datafixers.api.bootstrap.DataFixerBootstrap;
+import de.splatgames.aether.datafixers.api.dynamic.DynamicOps;
 import de.splatgames.aether.datafixers.core.AetherDataFixer;
 import de.splatgames.aether.datafixers.core.bootstrap.DataFixerRuntimeFactory;
+import de.splatgames.aether.datafixers.core.generation.SampleDataGenerator;
+import de.splatgames.aether.datafixers.core.warmup.WarmUpDocumentFactory;
+import de.splatgames.aether.datafixers.core.warmup.WarmUpOptions;
 import de.splatgames.aether.datafixers.spring.AetherDataFixersProperties;
 import de.splatgames.aether.datafixers.spring.config.DataFixerDomainProperties;
+import de.splatgames.aether.datafixers.spring.warmup.DataFixerWarmUp;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -171,10 +178,14 @@ import java.util.Map;
  * following order:</p>
  * <ol>
  *   <li>Create {@link DataFixerRegistry} bean</li>
- *   <li>Create {@link AetherDataFixer} beans from bootstraps</li>
+ *   <li>Create {@link AetherDataFixer} beans from bootstraps, applying all
+ *       {@link DataFixerBuilderCustomizer} beans</li>
  *   <li>Register each fixer in the registry</li>
  * </ol>
  *
+ * <p>With {@code aether.datafixers.warm-up.enabled=true}, a {@link DataFixerWarmUp} runner
+ * warms up every registered fixer before the application reports itself ready.</p>
+ *
  * @author Erik Pförtner
  * @see DataFixerBootstrap
  * @see AetherDataFixer
@@ -229,9 +240,10 @@ public class DataFixerAutoConfiguration {
      *   <li>No AetherDataFixer bean already defined</li>
      * </ul>
      *
-     * @param bootstrap  the single DataFixerBootstrap bean from the context
-     * @param properties the configuration properties for version resolution
-     * @param registry   the DataFixer registry for domain registration
+     * @param bootstrap   the single DataFixerBootstrap bean from the context
+     * @param properties  the configuration properties for version resolution
+     * @param registry    the DataFixer registry for domain registration
+     * @param customizers the builder customizers to apply, such as the metrics listener
      * @return the configured and registered AetherDataFixer instance
      */
     @Bean
@@ -241,13 +253,14 @@ public class DataFixerAutoConfiguration {
     public AetherDataFixer aetherDataFixer(
             final DataFixerBootstrap bootstrap,
             final AetherDataFixersProperties properties,
-            final DataFixerRegistry registry
+            final DataFixerRegistry registry,
+            final ObjectProvider<DataFixerBuilderCustomizer> customizers
     ) {
         LOG.info("Creating primary AetherDataFixer from bootstrap: {}",
                 bootstrap.getClass().getName());
 
         final DataVersion version = resolveVersion(bootstrap, properties, DataFixerRegistry.DEFAULT_DOMAIN);
-        final AetherDataFixer fixer = createFixer(version, bootstrap);
+        final AetherDataFixer fixer = createFixer(version, bootstrap, DataFixerRegistry.DEFAULT_DOMAIN, customizers);
 
         registry.register(DataFixerRegistry.DEFAULT_DOMAIN, fixer);
 
@@ -255,6 +268,38 @@ public class DataFixerAutoConfiguration {
         return fixer;
     }
 
+    /**
+     * Creates the startup warm-up for all registered DataFixers.
+     *
+     * <p>Only active with {@code aether.datafixers.warm-up.enabled=true}. Synthetic documents
+     * use the unique {@link DynamicOps} bean; without one, the warm-up only builds schema type
+     * registries and fix rules. They are created by the unique {@link WarmUpDocumentFactory}
+     * bean, or by default derived from the schema structure with
+     * {@link SampleDataGenerator#warmUpDocumentFactory()}.</p>
+     *
+     * @param registry   the DataFixer registry holding the fixers to warm up
+     * @param properties the configuration properties
+     * @param ops        the format for synthetic documents, if unique
+     * @param documents  the factory for synthetic documents, if unique
+     * @return the warm-up application runner
+     * @since 0.6.0
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "aether.datafixers.warm-up", name = "enabled", havingValue = "true")
+    public DataFixerWarmUp dataFixerWarmUp(
+            final DataFixerRegistry registry,
+            final AetherDataFixersProperties properties,
+            final ObjectProvider<DynamicOps<?>> ops,
+            final ObjectProvider<WarmUpDocumentFactory> documents
+    ) {
+        return new DataFixerWarmUp(registry, WarmUpOptions.builder()
+                .ops(ops.getIfUnique())
+                .duration(properties.getWarmUp().getDuration())
+                .documentFactory(documents.getIfUnique(SampleDataGenerator::warmUpDocumentFactory))
+                .build());
+    }
+
     /**
      * Factory method for creating {@link AetherDataFixer} instances from qualified bootstrap beans.
      *
@@ -292,12 +337,51 @@ public class DataFixerAutoConfiguration {
             @NotNull final String qualifier,
             @NotNull final AetherDataFixersProperties properties,
             @NotNull final DataFixerRegistry registry
+    ) {
+        return createQualifiedFixer(bootstrap, qualifier, properties, registry, null);
+    }
+
+    /**
+     * Factory method for creating {@link AetherDataFixer} instances from qualified bootstrap
+     * beans, applying the given {@link DataFixerBuilderCustomizer}s.
+     *
+     * <p>Pass the customizers to let qualified fixers take part in starter features that hook
+     * into the builder, such as per-fix and per-type metrics:</p>
+     * <pre>{@code
+     * @Bean
+     * @Qualifier("game")
+     * public AetherDataFixer gameDataFixer(
+     *         @Qualifier("game") DataFixerBootstrap bootstrap,
+     *         AetherDataFixersProperties properties,
+     *         DataFixerRegistry registry,
+     *         ObjectProvider<DataFixerBuilderCustomizer> customizers) {
+     *     return DataFixerAutoConfiguration.createQualifiedFixer(
+     *         bootstrap, "game", properties, registry, customizers);
+     * }
+     * }</pre>
+     *
+     * @param bootstrap   the qualified bootstrap bean to create the fixer from
+     * @param qualifier   the domain qualifier name (used for registry and logging)
+     * @param properties  the configuration properties for version resolution
+     * @param registry    the DataFixer registry for domain registration
+     * @param customizers the builder customizers to apply, may be {@code null}
+     * @return the configured and registered AetherDataFixer instance
+     * @throws IllegalStateException if the version cannot be determined for the domain
+     * @since 0.6.0
+     */
+    @NotNull
+    public static AetherDataFixer createQualifiedFixer(
+            @NotNull final DataFixerBootstrap bootstrap,
+            @NotNull final String qualifier,
+            @NotNull final AetherDataFixersProperties properties,
+            @NotNull final DataFixerRegistry registry,
+            @Nullable final ObjectProvider<DataFixerBuilderCustomizer> customizers
     ) {
         LOG.info("Creating AetherDataFixer for domain '{}' from bootstrap: {}",
                 qualifier, bootstrap.getClass().getName());
 
         final DataVersion version = resolveVersion(bootstrap, properties, qualifier);
-        final AetherDataFixer fixer = createFixer(version, bootstrap);
+        final AetherDataFixer fixer = createFixer(version, bootstrap, qualifier, customizers);
 
         registry.register(qualifier, fixer);
 
@@ -312,16 +396,24 @@ public class DataFixerAutoConfiguration {
      * <p>This method encapsulates the factory invocation for consistent fixer creation
      * across all code paths.</p>
      *
-     * @param version   the current version to initialize the fixer with
-     * @param bootstrap the bootstrap containing schema and fix definitions
+     * @param version     the current version to initialize the fixer with
+     * @param bootstrap   the bootstrap containing schema and fix definitions
+     * @param domain      the domain the fixer is created for
+     * @param customizers the builder customizers to apply in order, may be {@code null}
      * @return a fully initialized AetherDataFixer instance
      */
     @NotNull
     private static AetherDataFixer createFixer(
             @NotNull final DataVersion version,
-            @NotNull final DataFixerBootstrap bootstrap
+            @NotNull final DataFixerBootstrap bootstrap,
+            @NotNull final String domain,
+            @Nullable final ObjectProvider<DataFixerBuilderCustomizer> customizers
     ) {
-        return new DataFixerRuntimeFactory().create(version, bootstrap);
+        if (customizers == null) {
+            return new DataFixerRuntimeFactory().create(version, bootstrap);
+        }
+        return new DataFixerRuntimeFactory().create(version, bootstrap,
+                builder -> customizers.orderedStream().forEach(c -> c.customize(domain, builder)));
     }
 
     /**
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.spring.autoconfigure;
+
+import de.splatgames.aether.datafixers.core.fix.DataFixerBuilder;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Callback for customizing the {@link DataFixerBuilder} of an auto-configured DataFixer.
+ *
+ * <p>All beans of this type are applied, in {@link org.springframework.core.Ordered order},
+ * to every fixer created by {@link DataFixerAutoConfiguration} after the bootstrap has
+ * registered its fixes. The starter uses this to attach the metrics
+ * {@link de.splatgames.aether.datafixers.core.fix.MigrationListener}; applications can use
+ * it to enable memoization or Flight Recorder events.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * @Bean
+ * public DataFixerBuilderCustomizer flightRecorderCustomizer() {
+ *     return (domain, builder) -> builder.withFlightRecorderEvents(true);
+ * }
+ * }</pre>
+ *
+ * @author Erik Pförtner
+ * @see DataFixerAutoConfiguration#createQualifiedFixer(
+ *      de.splatgames.aether.datafixers.api.bootstrap.DataFixerBootstrap, String,
+ *      de.splatgames.aether.datafixers.spring.AetherDataFixersProperties, DataFixerRegistry,
+ *      org.springframework.beans.factory.ObjectProvider)
+ * @since 0.6.0
+ */
+@FunctionalInterface
+public interface DataFixerBuilderCustomizer {
+
+    /**
+     * Customizes the builder of the fixer for the given domain.
+     *
+     * @param domain  the domain the fixer is created for, never {@code null}
+     * @param builder the builder to customize, never {@code null}
+     */
+    void customize(@NotNull String domain, @NotNull DataFixerBuilder builder);
+}
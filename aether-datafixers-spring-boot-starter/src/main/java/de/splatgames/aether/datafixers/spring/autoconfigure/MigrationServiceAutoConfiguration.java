@@ -23,11 +23,20 @@
 package de.splatgames.aether.datafixers.spring.autoconfigure;
 
 import de.splatgames.aether.datafixers.core.AetherDataFixer;
+import de.splatgames.aether.datafixers.spring.AetherDataFixersProperties;
+import de.splatgames.aether.datafixers.spring.async.MigrationExecutors;
+import de.splatgames.aether.datafixers.spring.cache.LocalMigrationResultCache;
+import de.splatgames.aether.datafixers.spring.cache.MigrationResultCache;
+import de.splatgames.aether.datafixers.spring.metrics.MigrationExecutorMetrics;
 import de.splatgames.aether.datafixers.spring.metrics.MigrationMetrics;
+import de.splatgames.aether.datafixers.spring.observation.MigrationObservations;
 import de.splatgames.aether.datafixers.spring.service.DefaultMigrationService;
 import de.splatgames.aether.datafixers.spring.service.MigrationService;
+import de.splatgames.aether.datafixers.spring.statistics.MigrationStatistics;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -53,8 +62,10 @@ import org.springframework.context.annotation.Configuration;
  * <ul>
  *   <li>Fluent builder API for configuring migrations</li>
  *   <li>Multi-domain support via {@code usingDomain()}</li>
- *   <li>Both synchronous and asynchronous execution</li>
+ *   <li>Synchronous, asynchronous and streaming execution</li>
+ *   <li>A dedicated migration executor configured by {@code aether.datafixers.async.*}</li>
  *   <li>Automatic metrics recording when {@link MigrationMetrics} is available</li>
+ *   <li>An optional result cache enabled by {@code aether.datafixers.cache.enabled}</li>
  *   <li>Comprehensive result objects with success/failure status</li>
  * </ul>
  *
@@ -94,6 +105,21 @@ import org.springframework.context.annotation.Configuration;
  *   <li>Version span distribution</li>
  * </ul>
  *
+ * <h2>Migration Executor</h2>
+ * <p>Asynchronous and streaming migrations run on {@link MigrationExecutors} instead of
+ * the common {@code ForkJoinPool}: virtual threads on Java 21+, otherwise a bounded pool,
+ * optionally one per domain. When Micrometer is present, the executors are bound to
+ * {@code ExecutorServiceMetrics} through a {@link MigrationExecutorMetrics} binder.</p>
+ * <pre>{@code
+ * aether:
+ *   datafixers:
+ *     async:
+ *       type: bounded
+ *       max-size: 8
+ *       queue-capacity: 500
+ *       per-domain: true
+ * }</pre>
+ *
  * <h2>Custom MigrationService</h2>
  * <p>To customize the MigrationService, define your own bean:</p>
  * <pre>{@code
@@ -132,6 +158,54 @@ import org.springframework.context.annotation.Configuration;
 @ConditionalOnBean(AetherDataFixer.class)
 public class MigrationServiceAutoConfiguration {
 
+    /**
+     * Creates the executors for asynchronous and streaming migrations.
+     *
+     * <p>The executors are configured by {@code aether.datafixers.async.*}; with
+     * {@code per-domain} enabled one executor is created for each registered domain. They
+     * are shut down when the application context closes.</p>
+     *
+     * @param registry   the DataFixer registry providing the domains
+     * @param properties the configuration properties, if bound
+     * @return the migration executors
+     * @since 0.6.0
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public MigrationExecutors migrationExecutors(
+            final DataFixerRegistry registry,
+            final ObjectProvider<AetherDataFixersProperties> properties
+    ) {
+        final AetherDataFixersProperties props = properties.getIfAvailable();
+        return MigrationExecutors.create(
+                props != null ? props.getAsync() : new AetherDataFixersProperties.AsyncProperties(),
+                registry.getDomains());
+    }
+
+    /**
+     * Creates the in-heap migration result cache.
+     *
+     * <p>Only created with {@code aether.datafixers.cache.enabled=true} and when no other
+     * {@link MigrationResultCache} bean is defined, so a distributed implementation can
+     * replace it.</p>
+     *
+     * @param properties the configuration properties, if bound
+     * @return the result cache
+     * @since 0.6.0
+     */
+    @Bean
+    @ConditionalOnMissingBean(MigrationResultCache.class)
+    @ConditionalOnProperty(prefix = "aether.datafixers.cache", name = "enabled", havingValue = "true")
+    public LocalMigrationResultCache migrationResultCache(
+            final ObjectProvider<AetherDataFixersProperties> properties
+    ) {
+        final AetherDataFixersProperties props = properties.getIfAvailable();
+        final AetherDataFixersProperties.CacheProperties cache = props != null
+                ? props.getCache()
+                : new AetherDataFixersProperties.CacheProperties();
+        return new LocalMigrationResultCache(cache.getMaximumSize(), cache.getTimeToLive());
+    }
+
     /**
      * Creates the {@link MigrationService} bean with optional metrics integration.
      *
@@ -139,23 +213,68 @@ public class MigrationServiceAutoConfiguration {
      * <ul>
      *   <li>The {@link DataFixerRegistry} for domain lookup and multi-domain support</li>
      *   <li>Optional {@link MigrationMetrics} for observability (injected if available)</li>
-     *   <li>Default executor (ForkJoinPool.commonPool) for async operations</li>
+     *   <li>Optional {@link MigrationObservations} for tracing (injected if available)</li>
+     *   <li>Optional {@link MigrationStatistics} for the actuator endpoint (injected if available)</li>
+     *   <li>Optional {@link MigrationResultCache} for repeated payloads (injected if available)</li>
+     *   <li>The {@link MigrationExecutors} for async and streaming operations</li>
      * </ul>
      *
      * <p>This bean is only created if no other MigrationService bean is defined,
      * allowing users to provide custom implementations.</p>
      *
-     * @param registry the DataFixer registry for domain resolution
-     * @param metrics  the migration metrics recorder, may be {@code null} if metrics
-     *                 are disabled or Micrometer is not available
+     * @param registry     the DataFixer registry for domain resolution
+     * @param executors    the migration executors
+     * @param metrics      the migration metrics recorder, may be {@code null} if metrics
+     *                     are disabled or Micrometer is not available
+     * @param observations the migration observations, may be {@code null} if no
+     *                     observation registry is available
+     * @param statistics   the live statistics recorder, may be {@code null} if the
+     *                     actuator endpoint or statistics are disabled
+     * @param cache        the result cache, may be {@code null} if caching is disabled
      * @return a new DefaultMigrationService instance
      */
     @Bean
     @ConditionalOnMissingBean
     public MigrationService migrationService(
             final DataFixerRegistry registry,
-            @Autowired(required = false) final MigrationMetrics metrics
+            final MigrationExecutors executors,
+            @Autowired(required = false) final MigrationMetrics metrics,
+            @Autowired(required = false) final MigrationObservations observations,
+            @Autowired(required = false) final MigrationStatistics statistics,
+            @Autowired(required = false) final MigrationResultCache cache
     ) {
-        return new DefaultMigrationService(registry, metrics);
+        return new DefaultMigrationService(registry, metrics, executors, observations, statistics, cache);
+    }
+
+    /**
+     * Configuration binding the migration executors to Micrometer.
+     *
+     * <p>Only active when Micrometer is on the classpath. The binder is picked up by
+     * Spring Boot's metrics auto-configuration and bound to every meter registry.</p>
+     *
+     * @author Erik Pförtner
+     * @since 0.6.0
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+    static class ExecutorMetricsConfiguration {
+
+        /**
+         * Creates the executor metrics binder.
+         *
+         * @param executors  the migration executors
+         * @param properties the configuration properties, if bound
+         * @return the meter binder
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        public MigrationExecutorMetrics migrationExecutorMetrics(
+                final MigrationExecutors executors,
+                final ObjectProvider<AetherDataFixersProperties> properties
+        ) {
+            final AetherDataFixersProperties props = properties.getIfAvailable();
+            return new MigrationExecutorMetrics(executors,
+                    props != null ? props.getMetrics().getDomainTag() : "domain");
+        }
     }
 }
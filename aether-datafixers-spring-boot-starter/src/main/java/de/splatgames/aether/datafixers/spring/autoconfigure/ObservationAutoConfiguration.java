@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.spring.autoconfigure;
+
+import de.splatgames.aether.datafixers.spring.observation.MigrationObservations;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Auto-configuration for Micrometer Observation support.
+ *
+ * <p>This configuration creates a {@link MigrationObservations} bean, which the
+ * {@link MigrationServiceAutoConfiguration auto-configured MigrationService} uses to run each
+ * migration inside an observation. With a tracing bridge such as Micrometer Tracing, every
+ * migration then appears as a span tagged with domain, type and versions.</p>
+ *
+ * <h2>Activation Conditions</h2>
+ * <ul>
+ *   <li>Micrometer Observation is on the classpath</li>
+ *   <li>An {@link ObservationRegistry} bean exists (provided by Spring Boot Actuator)</li>
+ *   <li>{@code aether.datafixers.observation.enabled} is {@code true} (default)</li>
+ * </ul>
+ *
+ * <h2>Fix Observations</h2>
+ * <p>With {@code aether.datafixers.observation.fix-observations=true}, a
+ * {@link DataFixerBuilderCustomizer} attaches {@link MigrationObservations#fixListener(String)}
+ * to every auto-configured DataFixer, producing one child observation per applied fix.</p>
+ *
+ * @author Erik Pförtner
+ * @see MigrationObservations
+ * @see de.splatgames.aether.datafixers.spring.AetherDataFixersProperties.ObservationProperties
+ * @since 0.6.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(name = "io.micrometer.observation.ObservationRegistry")
+@ConditionalOnBean(type = "io.micrometer.observation.ObservationRegistry")
+@ConditionalOnProperty(
+        prefix = "aether.datafixers.observation",
+        name = "enabled",
+        havingValue = "true",
+        matchIfMissing = true
+)
+public class ObservationAutoConfiguration {
+
+    /**
+     * Creates the migration observations bean.
+     *
+     * @param observationRegistry the Micrometer observation registry
+     * @return a new MigrationObservations instance
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public MigrationObservations migrationObservations(final ObservationRegistry observationRegistry) {
+        return new MigrationObservations(observationRegistry);
+    }
+
+    /**
+     * Attaches the {@link MigrationObservations#fixListener(String) fix listener} to every
+     * auto-configured DataFixer.
+     *
+     * @param observations the migration observations
+     * @return the builder customizer
+     */
+    @Bean
+    @ConditionalOnProperty(
+            prefix = "aether.datafixers.observation",
+            name = "fix-observations",
+            havingValue = "true"
+    )
+    @ConditionalOnMissingBean(name = "migrationObservationCustomizer")
+    public DataFixerBuilderCustomizer migrationObservationCustomizer(final MigrationObservations observations) {
+        return (domain, builder) -> builder.withMigrationListener(observations.fixListener(domain));
+    }
+}
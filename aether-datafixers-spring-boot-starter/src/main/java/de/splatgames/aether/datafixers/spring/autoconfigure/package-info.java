@@ -56,6 +56,11 @@
  *     <td>Spring Boot Actuator integration</td>
  *     <td>HealthIndicator, InfoContributor, Endpoint, Metrics</td>
  *   </tr>
+ *   <tr>
+ *     <td>{@link de.splatgames.aether.datafixers.spring.autoconfigure.ObservationAutoConfiguration}</td>
+ *     <td>Micrometer Observation (tracing) integration</td>
+ *     <td>MigrationObservations</td>
+ *   </tr>
  * </table>
  *
  * <h2>Configuration Order</h2>
@@ -65,6 +70,7 @@
  *   <li>{@code DataFixerAutoConfiguration} - Creates DataFixer beans from bootstraps</li>
  *   <li>{@code MigrationServiceAutoConfiguration} - Provides migration service</li>
  *   <li>{@code ActuatorAutoConfiguration} - Configures observability components</li>
+ *   <li>{@code ObservationAutoConfiguration} - Observes migrations when an ObservationRegistry exists</li>
  * </ol>
  *
  * <h2>Conditional Activation</h2>
@@ -79,6 +85,8 @@
  * <ul>
  *   <li>{@link de.splatgames.aether.datafixers.spring.autoconfigure.DataFixerRegistry}
  *       - Thread-safe registry for multi-domain DataFixer management</li>
+ *   <li>{@link de.splatgames.aether.datafixers.spring.autoconfigure.DataFixerBuilderCustomizer}
+ *       - Callback applied to the builder of every auto-configured DataFixer</li>
  * </ul>
  *
  * <h2>Customization</h2>
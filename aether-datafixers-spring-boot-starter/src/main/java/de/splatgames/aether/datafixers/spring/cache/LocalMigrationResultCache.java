@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.spring.cache;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.dynamic.TaggedDynamic;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * In-heap {@link MigrationResultCache} with least-recently-used eviction and a time to live.
+ *
+ * <p>Every entry has a weight, one by default, and the cache evicts the least recently
+ * used entries once the total weight exceeds the configured maximum, so by default the
+ * maximum is a number of entries. A custom {@link Weigher} turns it into a budget of, for
+ * example, estimated bytes. Entries expire a fixed time after they were stored; expired
+ * entries are dropped when they are looked up or reached by eviction.</p>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * // At most 10,000 results, each kept for 10 minutes
+ * MigrationResultCache cache = new LocalMigrationResultCache(10_000, Duration.ofMinutes(10));
+ *
+ * // At most ~64 MiB of serialized payload
+ * MigrationResultCache weighted = new LocalMigrationResultCache(
+ *     64L * 1024 * 1024,
+ *     (key, result) -> result.value().toString().length(),
+ *     Duration.ofMinutes(10));
+ * }</pre>
+ *
+ * <h2>Copies</h2>
+ * <p>Gson and Jackson trees are mutable, so the cache never shares them with callers. A
+ * stored entry holds a deep copy of the key input and of the result, and every hit returns
+ * a fresh copy of the result. Mutating an input after the migration, or a result returned
+ * by the cache, therefore leaves the cached entry intact.</p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is thread-safe. It is backed by a Guava {@link Cache} with a single
+ * segment, so eviction follows the exact least-recently-used order while lookups do not
+ * block each other.</p>
+ *
+ * @author Erik Pförtner
+ * @see MigrationResultCache
+ * @see de.splatgames.aether.datafixers.spring.AetherDataFixersProperties.CacheProperties
+ * @since 0.6.0
+ */
+public final class LocalMigrationResultCache implements MigrationResultCache {
+
+    /**
+     * The cached entries.
+     */
+    private final Cache<MigrationCacheKey, Entry> entries;
+
+    /**
+     * The maximum total weight of all entries.
+     */
+    private final long maximumWeight;
+
+    /**
+     * Computes the weight of an entry.
+     */
+    private final Weigher weigher;
+
+    /**
+     * The total weight of all entries, maintained on store and removal.
+     */
+    private final AtomicLong weight = new AtomicLong();
+
+    /**
+     * Creates a cache bounded by the number of entries.
+     *
+     * @param maximumSize the maximum number of entries, must be positive
+     * @param timeToLive  the time after which an entry expires, zero or negative for no expiry,
+     *                    must not be {@code null}
+     * @throws IllegalArgumentException if maximumSize is not positive
+     * @throws NullPointerException     if timeToLive is {@code null}
+     */
+    public LocalMigrationResultCache(final long maximumSize, @NotNull final Duration timeToLive) {
+        this(maximumSize, (key, result) -> 1L, timeToLive);
+    }
+
+    /**
+     * Creates a cache bounded by the total weight of its entries.
+     *
+     * @param maximumWeight the maximum total weight, must be positive
+     * @param weigher       computes the weight of an entry, must not be {@code null}
+     * @param timeToLive    the time after which an entry expires, zero or negative for no expiry,
+     *                      must not be {@code null}
+     * @throws IllegalArgumentException if maximumWeight is not positive
+     * @throws NullPointerException     if weigher or timeToLive is {@code null}
+     */
+    public LocalMigrationResultCache(
+            final long maximumWeight,
+            @NotNull final Weigher weigher,
+            @NotNull final Duration timeToLive
+    ) {
+        this(maximumWeight, weigher, timeToLive, System::nanoTime);
+    }
+
+    /**
+     * Creates a cache with the given time source.
+     *
+     * @param maximumWeight the maximum total weight, must be positive
+     * @param weigher       computes the weight of an entry, must not be {@code null}
+     * @param timeToLive    the time after which an entry expires, must not be {@code null}
+     * @param ticker        the nanosecond time source, must not be {@code null}
+     */
+    LocalMigrationResultCache(
+            final long maximumWeight,
+            @NotNull final Weigher weigher,
+            @NotNull final Duration timeToLive,
+            @NotNull final LongSupplier ticker
+    ) {
+        Preconditions.checkArgument(maximumWeight > 0, "maximumWeight must be positive: %s", maximumWeight);
+        Preconditions.checkNotNull(timeToLive, "timeToLive must not be null");
+        Preconditions.checkNotNull(ticker, "ticker must not be null");
+        this.maximumWeight = maximumWeight;
+        this.weigher = Preconditions.checkNotNull(weigher, "weigher must not be null");
+
+        final CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder()
+                .concurrencyLevel(1)
+                .maximumWeight(maximumWeight)
+                .ticker(new Ticker() {
+                    @Override
+                    public long read() {
+                        return ticker.getAsLong();
+                    }
+                })
+                .recordStats();
+        if (!timeToLive.isNegative() && !timeToLive.isZero()) {
+            builder.expireAfterWrite(timeToLive.toNanos(), TimeUnit.NANOSECONDS);
+        }
+        this.entries = builder
+                .weigher((MigrationCacheKey key, Entry entry) -> (int) Math.min(entry.weight(), Integer.MAX_VALUE))
+                .removalListener((RemovalNotification<MigrationCacheKey, Entry> removal) -> {
+                    final Entry removed = removal.getValue();
+                    if (removed != null) {
+                        this.weight.addAndGet(-removed.weight());
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A hit marks the entry as most recently used and returns a copy of the stored result.</p>
+     */
+    @Override
+    @Nullable
+    public TaggedDynamic get(@NotNull final MigrationCacheKey key) {
+        Preconditions.checkNotNull(key, "key must not be null");
+        final Entry entry = this.entries.getIfPresent(key);
+        return entry != null ? copy(entry.result()) : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The key input and the result are copied before they are stored. A result heavier
+     * than the maximum weight is not cached. Storing a result may evict the least recently
+     * used entries.</p>
+     *
+     * @throws IllegalArgumentException if the weigher returns a negative weight
+     */
+    @Override
+    public void put(@NotNull final MigrationCacheKey key, @NotNull final TaggedDynamic result) {
+        Preconditions.checkNotNull(key, "key must not be null");
+        Preconditions.checkNotNull(result, "result must not be null");
+        final long entryWeight = this.weigher.weigh(key, result);
+        Preconditions.checkArgument(entryWeight >= 0, "weight must not be negative: %s", entryWeight);
+
+        if (entryWeight > this.maximumWeight) {
+            this.entries.invalidate(key);
+            return;
+        }
+        final MigrationCacheKey storedKey = MigrationCacheKey.of(
+                key.domain(), new TaggedDynamic(key.type(), copy(key.input())), key.fromVersion(), key.toVersion());
+        this.weight.addAndGet(entryWeight);
+        this.entries.put(storedKey, new Entry(copy(result), entryWeight));
+    }
+
+    @Override
+    public void invalidateAll() {
+        this.entries.invalidateAll();
+    }
+
+    /**
+     * Returns the number of cached entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        this.entries.cleanUp();
+        return (int) this.entries.size();
+    }
+
+    /**
+     * Returns the total weight of the cached entries.
+     *
+     * @return the total weight
+     */
+    public long weight() {
+        this.entries.cleanUp();
+        return this.weight.get();
+    }
+
+    /**
+     * Returns the number of entries removed because of the size bound or their expiry.
+     *
+     * @return the eviction count
+     */
+    public long evictionCount() {
+        return this.entries.stats().evictionCount();
+    }
+
+    /**
+     * Returns a deep copy of a tagged value.
+     *
+     * @param tagged the value to copy
+     * @return a copy sharing no mutable tree with {@code tagged}
+     */
+    @NotNull
+    private static TaggedDynamic copy(@NotNull final TaggedDynamic tagged) {
+        return new TaggedDynamic(tagged.type(), copy(tagged.value()));
+    }
+
+    /**
+     * Returns a deep copy of a dynamic value.
+     *
+     * @param dynamic the value to copy
+     * @param <T>     the underlying data format type
+     * @return a copy sharing no mutable tree with {@code dynamic}
+     */
+    @NotNull
+    private static <T> Dynamic<T> copy(@NotNull final Dynamic<T> dynamic) {
+        return new Dynamic<>(dynamic.ops(), dynamic.ops().convertTo(dynamic.ops(), dynamic.value()));
+    }
+
+    /**
+     * Computes the weight of a cache entry.
+     *
+     * @author Erik Pförtner
+     * @since 0.6.0
+     */
+    @FunctionalInterface
+    public interface Weigher {
+
+        /**
+         * Returns the weight of an entry.
+         *
+         * @param key    the cache key
+         * @param result the cached result
+         * @return the weight, must not be negative
+         */
+        long weigh(@NotNull MigrationCacheKey key, @NotNull TaggedDynamic result);
+    }
+
+    /**
+     * A cached result with its weight.
+     *
+     * @param result the cached copy of the result
+     * @param weight the weight of the entry
+     */
+    private record Entry(TaggedDynamic result, long weight) {
+    }
+}
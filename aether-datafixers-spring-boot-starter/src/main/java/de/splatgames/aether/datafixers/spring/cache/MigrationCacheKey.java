@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.spring.cache;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.dynamic.TaggedDynamic;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Identifies a cached migration result.
+ *
+ * <p>A key consists of the domain, the type of the input, the source and target versions
+ * and the input {@link Dynamic} itself. Its hash code combines these components with the
+ * structural {@linkplain #contentHash() content hash} of the input value and is computed
+ * once. Equality compares the input by content, so two keys are equal exactly when they
+ * describe the same migration of the same payload; hash collisions never lead to a wrong
+ * result.</p>
+ *
+ * <h2>Memory</h2>
+ * <p>A key retains the input value without copying it, so lookups stay cheap. A cache that
+ * holds on to keys must store a copy of the input; {@link LocalMigrationResultCache} does.</p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is immutable and therefore thread-safe.</p>
+ *
+ * @author Erik Pförtner
+ * @see MigrationResultCache
+ * @since 0.6.0
+ */
+public final class MigrationCacheKey {
+
+    /**
+     * The domain of the migration.
+     */
+    private final String domain;
+
+    /**
+     * The type of the input.
+     */
+    private final TypeReference type;
+
+    /**
+     * The source version.
+     */
+    private final DataVersion fromVersion;
+
+    /**
+     * The target version.
+     */
+    private final DataVersion toVersion;
+
+    /**
+     * The input data.
+     */
+    private final Dynamic<?> input;
+
+    /**
+     * The structural hash of the input value.
+     */
+    private final int contentHash;
+
+    /**
+     * The precomputed hash of the whole key.
+     */
+    private final int hash;
+
+    /**
+     * Creates a new key.
+     *
+     * @param domain      the domain
+     * @param type        the input type
+     * @param fromVersion the source version
+     * @param toVersion   the target version
+     * @param input       the input data
+     */
+    private MigrationCacheKey(
+            @NotNull final String domain,
+            @NotNull final TypeReference type,
+            @NotNull final DataVersion fromVersion,
+            @NotNull final DataVersion toVersion,
+            @NotNull final Dynamic<?> input
+    ) {
+        this.domain = domain;
+        this.type = type;
+        this.fromVersion = fromVersion;
+        this.toVersion = toVersion;
+        this.input = input;
+        this.contentHash = input.value().hashCode();
+        int h = domain.hashCode();
+        h = 31 * h + type.hashCode();
+        h = 31 * h + fromVersion.hashCode();
+        h = 31 * h + toVersion.hashCode();
+        h = 31 * h + this.contentHash;
+        this.hash = h;
+    }
+
+    /**
+     * Creates the key of a migration.
+     *
+     * @param domain      the domain of the migration, must not be {@code null}
+     * @param input       the data to migrate, in the format passed to the DataFixer, must not be {@code null}
+     * @param fromVersion the source version, must not be {@code null}
+     * @param toVersion   the target version, must not be {@code null}
+     * @return the key, never {@code null}
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    @NotNull
+    public static MigrationCacheKey of(
+            @NotNull final String domain,
+            @NotNull final TaggedDynamic input,
+            @NotNull final DataVersion fromVersion,
+            @NotNull final DataVersion toVersion
+    ) {
+        Preconditions.checkNotNull(domain, "domain must not be null");
+        Preconditions.checkNotNull(input, "input must not be null");
+        Preconditions.checkNotNull(fromVersion, "fromVersion must not be null");
+        Preconditions.checkNotNull(toVersion, "toVersion must not be null");
+        return new MigrationCacheKey(domain, input.type(), fromVersion, toVersion, input.value());
+    }
+
+    /**
+     * Returns the domain of the migration.
+     *
+     * @return the domain, never {@code null}
+     */
+    @NotNull
+    public String domain() {
+        return this.domain;
+    }
+
+    /**
+     * Returns the type of the input.
+     *
+     * @return the type reference, never {@code null}
+     */
+    @NotNull
+    public TypeReference type() {
+        return this.type;
+    }
+
+    /**
+     * Returns the source version.
+     *
+     * @return the source version, never {@code null}
+     */
+    @NotNull
+    public DataVersion fromVersion() {
+        return this.fromVersion;
+    }
+
+    /**
+     * Returns the target version.
+     *
+     * @return the target version, never {@code null}
+     */
+    @NotNull
+    public DataVersion toVersion() {
+        return this.toVersion;
+    }
+
+    /**
+     * Returns the input data.
+     *
+     * @return the input, never {@code null}
+     */
+    @NotNull
+    public Dynamic<?> input() {
+        return this.input;
+    }
+
+    /**
+     * Returns the structural hash code of the input value.
+     *
+     * @return the content hash
+     */
+    public int contentHash() {
+        return this.contentHash;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof MigrationCacheKey other)) {
+            return false;
+        }
+        return this.hash == other.hash
+                && this.contentHash == other.contentHash
+                && this.domain.equals(other.domain)
+                && this.type.equals(other.type)
+                && this.fromVersion.equals(other.fromVersion)
+                && this.toVersion.equals(other.toVersion)
+                && this.input.equals(other.input);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    @Override
+    public String toString() {
+        return "MigrationCacheKey{" +
+                "domain='" + this.domain + '\'' +
+                ", type=" + this.type.getId() +
+                ", fromVersion=" + this.fromVersion.getVersion() +
+                ", toVersion=" + this.toVersion.getVersion() +
+                ", contentHash=" + this.contentHash +
+                '}';
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.spring.cache;
+
+import de.splatgames.aether.datafixers.api.dynamic.TaggedDynamic;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Service provider interface for caching the results of migrations.
+ *
+ * <p>The migration service consults the cache before running the fix chain and stores
+ * the result of every successful migration. Entries are identified by a
+ * {@link MigrationCacheKey}, which covers the domain, type, source and target versions and
+ * the content of the input. Failed migrations are never cached.</p>
+ *
+ * <h2>Implementations</h2>
+ * <p>{@link LocalMigrationResultCache} is an in-heap cache with size or weight based
+ * eviction and a time to live, auto-configured with
+ * {@code aether.datafixers.cache.enabled=true}. A distributed cache can be plugged in by
+ * declaring a bean of this type; it may derive its own storage key from
+ * {@link MigrationCacheKey#contentHash()} and the other key components, but must then
+ * compare the stored input to guard against hash collisions.</p>
+ *
+ * <h2>Error Handling</h2>
+ * <p>The migration service treats an exception thrown by {@link #get(MigrationCacheKey)}
+ * as a miss and ignores one thrown by {@link #put(MigrationCacheKey, TaggedDynamic)}, so an
+ * unavailable cache never fails a migration.</p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>Implementations must be thread-safe. Gson and Jackson trees are mutable, so an
+ * in-heap implementation must copy the key input and the result when storing an entry and
+ * return a copy on every hit; otherwise a caller mutating its data corrupts the cache.</p>
+ *
+ * @author Erik Pförtner
+ * @see LocalMigrationResultCache
+ * @see de.splatgames.aether.datafixers.spring.service.DefaultMigrationService
+ * @since 0.6.0
+ */
+public interface MigrationResultCache {
+
+    /**
+     * Returns the cached result of the migration identified by {@code key}.
+     *
+     * @param key the cache key, must not be {@code null}
+     * @return the cached migrated data, or {@code null} if absent or expired
+     */
+    @Nullable
+    TaggedDynamic get(@NotNull MigrationCacheKey key);
+
+    /**
+     * Stores the result of a successful migration.
+     *
+     * @param key    the cache key, must not be {@code null}
+     * @param result the migrated data, must not be {@code null}
+     */
+    void put(@NotNull MigrationCacheKey key, @NotNull TaggedDynamic result);
+
+    /**
+     * Removes all cached results, for example after fixes were changed.
+     */
+    void invalidateAll();
+}
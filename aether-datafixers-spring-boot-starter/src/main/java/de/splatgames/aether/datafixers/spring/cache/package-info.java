@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+/**
+ * Caching of migration results.
+ *
+ * <p>This package provides the {@link de.splatgames.aether.datafixers.spring.cache.MigrationResultCache}
+ * SPI consulted by the migration service before running the fix chain, so repeated
+ * migrations of identical payloads are served without migrating them again. The cache is
+ * disabled by default and enabled with {@code aether.datafixers.cache.enabled=true}.</p>
+ *
+ * <h2>Package Contents</h2>
+ * <ul>
+ *   <li>{@link de.splatgames.aether.datafixers.spring.cache.MigrationResultCache}
+ *       - SPI for result caches</li>
+ *   <li>{@link de.splatgames.aether.datafixers.spring.cache.MigrationCacheKey}
+ *       - Key covering domain, type, versions and input content</li>
+ *   <li>{@link de.splatgames.aether.datafixers.spring.cache.LocalMigrationResultCache}
+ *       - In-heap cache with size or weight based eviction and a time to live</li>
+ * </ul>
+ *
+ * @author Erik Pförtner
+ * @see de.splatgames.aether.datafixers.spring.AetherDataFixersProperties.CacheProperties
+ * @since 0.6.0
+ */
+package de.splatgames.aether.datafixers.spring.cache;
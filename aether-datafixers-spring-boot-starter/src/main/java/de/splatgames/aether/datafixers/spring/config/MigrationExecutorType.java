@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.spring.config;
+
+/**
+ * Enumeration of executor types for asynchronous and streaming migrations.
+ *
+ * <p>The type is configured with {@code aether.datafixers.async.type} and determines
+ * which executor the auto-configured
+ * {@link de.splatgames.aether.datafixers.spring.service.MigrationService} uses for
+ * {@code executeAsync()} and {@code migrateFlow()}.</p>
+ *
+ * <h2>Configuration Example</h2>
+ * <pre>{@code
+ * aether:
+ *   datafixers:
+ *     async:
+ *       type: bounded
+ *       max-size: 8
+ *       queue-capacity: 500
+ * }</pre>
+ *
+ * @author Erik Pförtner
+ * @see de.splatgames.aether.datafixers.spring.AetherDataFixersProperties.AsyncProperties
+ * @see de.splatgames.aether.datafixers.spring.async.MigrationExecutors
+ * @since 0.6.0
+ */
+public enum MigrationExecutorType {
+
+    /**
+     * Virtual threads when running on Java 21 or later, otherwise a bounded pool.
+     */
+    AUTO,
+
+    /**
+     * One virtual thread per migration; requires Java 21 or later.
+     *
+     * <p>Pool size and queue settings do not apply. Concurrency of streaming migrations
+     * is still bounded by their {@code parallelism}.</p>
+     */
+    VIRTUAL,
+
+    /**
+     * A dedicated thread pool with a bounded queue and a rejection policy.
+     */
+    BOUNDED,
+
+    /**
+     * The shared {@link java.util.concurrent.ForkJoinPool#commonPool() common pool},
+     * which was the only option before 0.6.0.
+     */
+    COMMON_POOL
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.spring.config;
+
+/**
+ * Enumeration of policies for migrations submitted to a saturated bounded pool.
+ *
+ * <p>The policy is configured with {@code aether.datafixers.async.rejection-policy} and
+ * applies when every thread of a {@link MigrationExecutorType#BOUNDED bounded} pool is
+ * busy and its queue is full. Policies that silently drop work are deliberately not
+ * offered, since a dropped migration would leave its future incomplete forever.</p>
+ *
+ * @author Erik Pförtner
+ * @see de.splatgames.aether.datafixers.spring.AetherDataFixersProperties.AsyncProperties
+ * @since 0.6.0
+ */
+public enum RejectionPolicy {
+
+    /**
+     * Rejects the migration with a {@link java.util.concurrent.RejectedExecutionException},
+     * which fails {@code executeAsync()} immediately and terminates a streaming migration.
+     */
+    ABORT,
+
+    /**
+     * Runs the migration on the submitting thread, slowing the producer down to the
+     * pool's pace.
+     */
+    CALLER_RUNS
+}
@@ -34,6 +34,10 @@
  *       - Enum defining supported serialization formats (GSON, JACKSON)</li>
  *   <li>{@link de.splatgames.aether.datafixers.spring.config.DataFixerDomainProperties}
  *       - Per-domain configuration for multi-domain setups</li>
+ *   <li>{@link de.splatgames.aether.datafixers.spring.config.MigrationExecutorType}
+ *       - Enum defining the executor for asynchronous migrations</li>
+ *   <li>{@link de.splatgames.aether.datafixers.spring.config.RejectionPolicy}
+ *       - Enum defining how a saturated migration pool rejects work</li>
  * </ul>
  *
  * <h2>Configuration Example</h2>
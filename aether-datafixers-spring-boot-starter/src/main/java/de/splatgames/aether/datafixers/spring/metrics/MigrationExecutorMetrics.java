@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.spring.metrics;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.spring.async.MigrationExecutors;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Binds the {@link MigrationExecutors} to Micrometer via {@link ExecutorServiceMetrics}.
+ *
+ * <p>Every owned executor is registered with the metric prefix {@code aether.datafixers},
+ * an executor name of {@code aether-datafixers-<key>} and a domain tag whose value is the
+ * domain, or {@value MigrationExecutors#SHARED} for the shared executor. For bounded pools
+ * this publishes, among others:</p>
+ * <ul>
+ *   <li>{@code aether.datafixers.executor.active} - Threads running migrations</li>
+ *   <li>{@code aether.datafixers.executor.queued} - Migrations waiting in the queue</li>
+ *   <li>{@code aether.datafixers.executor.queue.remaining} - Free queue capacity</li>
+ *   <li>{@code aether.datafixers.executor.pool.size} - Current number of threads</li>
+ *   <li>{@code aether.datafixers.executor.completed} - Completed migrations</li>
+ * </ul>
+ *
+ * <p>Virtual-thread executors expose no pool statistics and the common pool is not owned,
+ * so neither produces executor meters.</p>
+ *
+ * <p>The auto-configuration registers this binder as a bean; Spring Boot binds it to every
+ * {@link MeterRegistry}.</p>
+ *
+ * @author Erik Pförtner
+ * @see MigrationExecutors
+ * @since 0.6.0
+ */
+public final class MigrationExecutorMetrics implements MeterBinder {
+
+    /**
+     * Metric name prefix of the executor meters.
+     */
+    public static final String METRIC_PREFIX = "aether.datafixers";
+
+    /**
+     * The executors to bind.
+     */
+    private final MigrationExecutors executors;
+
+    /**
+     * Tag key carrying the domain.
+     */
+    private final String domainTag;
+
+    /**
+     * Creates a new binder.
+     *
+     * @param executors the executors to bind, must not be {@code null}
+     * @param domainTag the tag key carrying the domain, must not be {@code null}
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public MigrationExecutorMetrics(@NotNull final MigrationExecutors executors, @NotNull final String domainTag) {
+        this.executors = Preconditions.checkNotNull(executors, "executors must not be null");
+        this.domainTag = Preconditions.checkNotNull(domainTag, "domainTag must not be null");
+    }
+
+    @Override
+    public void bindTo(@NotNull final MeterRegistry registry) {
+        Preconditions.checkNotNull(registry, "registry must not be null");
+        this.executors.executors().forEach((key, executor) ->
+                new ExecutorServiceMetrics(executor, "aether-datafixers-" + key, METRIC_PREFIX,
+                        Tags.of(this.domainTag, key)).bindTo(registry));
+    }
+}
@@ -23,6 +23,11 @@
 package de.splatgames.aether.datafixers.spring.metrics;
 
 import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.fix.DataFix;
+import de.splatgames.aether.datafixers.core.fix.MigrationListener;
+import de.splatgames.aether.datafixers.spring.AetherDataFixersProperties;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
@@ -30,7 +35,9 @@ import io.micrometer.core.instrument.Timer;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Micrometer-based metrics recorder for tracking data migration operations.
@@ -83,12 +90,78 @@ import java.util.concurrent.ConcurrentHashMap;
  *     <td>domain</td>
  *     <td>Distribution of version spans (|toVersion - fromVersion|)</td>
  *   </tr>
+ *   <tr>
+ *     <td>{@code .skipped}</td>
+ *     <td>Counter</td>
+ *     <td>domain</td>
+ *     <td>Updates requested for data already at the target version</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code .batch.duration}</td>
+ *     <td>Timer</td>
+ *     <td>domain</td>
+ *     <td>Execution time of whole batch migrations per domain</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code .batch.size}</td>
+ *     <td>Distribution Summary</td>
+ *     <td>domain</td>
+ *     <td>Number of documents per batch migration</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code .cache.hit}</td>
+ *     <td>Counter</td>
+ *     <td>domain</td>
+ *     <td>Migrations served from the result cache</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code .cache.miss}</td>
+ *     <td>Counter</td>
+ *     <td>domain</td>
+ *     <td>Result cache lookups that found no entry</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code .fix.duration}</td>
+ *     <td>Timer</td>
+ *     <td>domain, fix</td>
+ *     <td>Time spent per data fix (opt-in via {@code metrics.per-fix})</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@code .type.duration}</td>
+ *     <td>Timer</td>
+ *     <td>domain, type</td>
+ *     <td>Time spent per type reference (opt-in via {@code metrics.per-type})</td>
+ *   </tr>
  * </table>
  *
+ * <h2>Fixer Instrumentation</h2>
+ * <p>The success, failure, duration and version span metrics are recorded around
+ * {@link de.splatgames.aether.datafixers.spring.service.MigrationService} calls. The skipped
+ * counter and the per-fix and per-type timers are fed by the {@link MigrationListener}
+ * returned from {@link #listener(String)}, which the auto-configuration attaches to every
+ * DataFixer it creates, so they also cover direct {@code AetherDataFixer} usage. Timers
+ * publish the percentiles and histogram buckets configured via {@code metrics.percentiles}
+ * and {@code metrics.percentile-histogram}.</p>
+ *
+ * <h2>Batch Migrations</h2>
+ * <p>Batches recorded through {@link #recordBatch(String, int, int, int, Collection, Duration)}
+ * add one sample per batch rather than per document: the success and failure counters grow
+ * by the number of documents, while the batch timer, the batch size summary and the version
+ * span summary each receive a single sample. Documents migrated in batches are therefore
+ * not part of the {@code .duration} timer.</p>
+ *
+ * <h2>Result Cache</h2>
+ * <p>When a {@link de.splatgames.aether.datafixers.spring.cache.MigrationResultCache} is
+ * configured, every lookup is counted by {@link #recordCacheHit(String)} or
+ * {@link #recordCacheMiss(String)}. A hit does not run the fix chain and is therefore not
+ * counted as a success or timed; a miss is followed by a regular migration.</p>
+ *
  * <h2>Tags Reference</h2>
  * <ul>
  *   <li><strong>{@code domain}</strong> - The DataFixer domain name (e.g., "default", "game", "user")</li>
  *   <li><strong>{@code error_type}</strong> - Simple class name of the exception that caused failure</li>
+ *   <li><strong>{@code fix}</strong> - Name of the data fix</li>
+ *   <li><strong>{@code type}</strong> - Id of the type reference</li>
  * </ul>
  *
  * <h2>Usage with Prometheus</h2>
@@ -126,8 +199,9 @@ import java.util.concurrent.ConcurrentHashMap;
  * </ul>
  *
  * <h2>Thread Safety</h2>
- * <p>This class is thread-safe. All internal caches use {@link ConcurrentHashMap} to ensure
- * safe concurrent access from multiple threads. Micrometer meters are inherently thread-safe.</p>
+ * <p>This class is thread-safe. Meters are cached per domain in a {@link ConcurrentHashMap},
+ * and per error class, fix and type inside each domain, so recording never builds composite
+ * string keys. Micrometer meters are inherently thread-safe.</p>
  *
  * <h2>Memory Considerations</h2>
  * <p>Meters are cached per domain (and per error type for failure counters). In applications
@@ -138,6 +212,11 @@ import java.util.concurrent.ConcurrentHashMap;
  *   <li>Success counters: 1 per domain</li>
  *   <li>Failure counters: 1 per (domain, error_type) combination</li>
  *   <li>Version span summaries: 1 per domain</li>
+ *   <li>Skipped counters: 1 per domain</li>
+ *   <li>Batch timers and batch size summaries: 1 per domain, once a batch was recorded</li>
+ *   <li>Cache hit and miss counters: 1 per domain, once a cache lookup was recorded</li>
+ *   <li>Fix timers: 1 per (domain, fix) combination, if enabled</li>
+ *   <li>Type timers: 1 per (domain, type) combination, if enabled</li>
  * </ul>
  *
  * @author Erik Pförtner
@@ -174,30 +253,45 @@ public class MigrationMetrics {
      */
     private static final String TAG_ERROR_TYPE = "error_type";
 
+    /**
+     * Tag name for the fix name in per-fix timers.
+     */
+    private static final String TAG_FIX = "fix";
+
+    /**
+     * Tag name for the type reference id in per-type timers.
+     */
+    private static final String TAG_TYPE = "type";
+
     /**
      * The Micrometer registry used to create and register all meters.
      */
     private final MeterRegistry registry;
 
     /**
-     * Cache of Timer instances by domain name for efficient reuse.
+     * Whether per-fix timers are recorded.
      */
-    private final ConcurrentHashMap<String, Timer> domainTimers = new ConcurrentHashMap<>();
+    private final boolean perFix;
 
     /**
-     * Cache of success Counter instances by domain name for efficient reuse.
+     * Whether per-type timers are recorded.
      */
-    private final ConcurrentHashMap<String, Counter> domainSuccessCounters = new ConcurrentHashMap<>();
+    private final boolean perType;
 
     /**
-     * Cache of failure Counter instances by composite key (domain:errorType).
+     * Percentiles published by all timers; empty for none.
      */
-    private final ConcurrentHashMap<String, Counter> domainFailureCounters = new ConcurrentHashMap<>();
+    private final double[] percentiles;
 
     /**
-     * Cache of DistributionSummary instances by domain for version span tracking.
+     * Whether timers publish percentile histogram buckets.
      */
-    private final ConcurrentHashMap<String, DistributionSummary> domainVersionSpans = new ConcurrentHashMap<>();
+    private final boolean percentileHistogram;
+
+    /**
+     * Cache of meter holders by domain name for efficient reuse.
+     */
+    private final ConcurrentHashMap<String, DomainMeters> domainMeters = new ConcurrentHashMap<>();
 
     /**
      * Creates a new MigrationMetrics instance with the specified meter registry.
@@ -222,7 +316,32 @@ public class MigrationMetrics {
      * @throws NullPointerException if registry is {@code null}
      */
     public MigrationMetrics(@NotNull final MeterRegistry registry) {
-        this.registry = Preconditions.checkNotNull(registry, "registry must not be null");
+        this(registry, new AetherDataFixersProperties.MetricsProperties());
+    }
+
+    /**
+     * Creates a new MigrationMetrics instance with the specified meter registry and settings.
+     *
+     * <p>The per-fix, per-type, percentile and histogram settings are read once at
+     * construction time.</p>
+     *
+     * @param registry   the Micrometer meter registry for creating and registering meters,
+     *                   must not be {@code null}
+     * @param properties the metrics settings, must not be {@code null}
+     * @throws NullPointerException if registry or properties is {@code null}
+     * @since 0.6.0
+     */
+    public MigrationMetrics(
+            @NotNull final MeterRegistry registry,
+            @NotNull final AetherDataFixersProperties.MetricsProperties properties
+    ) {
+        Preconditions.checkNotNull(registry, "registry must not be null");
+        Preconditions.checkNotNull(properties, "properties must not be null");
+        this.registry = registry;
+        this.perFix = properties.isPerFix();
+        this.perType = properties.isPerType();
+        this.percentiles = properties.getPercentiles().stream().mapToDouble(Double::doubleValue).toArray();
+        this.percentileHistogram = properties.isPercentileHistogram();
     }
 
     /**
@@ -260,15 +379,17 @@ public class MigrationMetrics {
         Preconditions.checkNotNull(domain, "domain must not be null");
         Preconditions.checkNotNull(duration, "duration must not be null");
 
+        final DomainMeters meters = getOrCreateDomainMeters(domain);
+
         // Record timing
-        getOrCreateTimer(domain).record(duration);
+        meters.timer.record(duration);
 
         // Record success count
-        getOrCreateSuccessCounter(domain).increment();
+        meters.success.increment();
 
         // Record version span
         final int span = Math.abs(toVersion - fromVersion);
-        getOrCreateVersionSpan(domain).record(span);
+        meters.versionSpan.record(span);
     }
 
     /**
@@ -317,96 +438,429 @@ public class MigrationMetrics {
         Preconditions.checkNotNull(duration, "duration must not be null");
         Preconditions.checkNotNull(error, "error must not be null");
 
+        final DomainMeters meters = getOrCreateDomainMeters(domain);
+
         // Record timing (even for failures)
-        getOrCreateTimer(domain).record(duration);
+        meters.timer.record(duration);
 
         // Record failure count with error type
-        getOrCreateFailureCounter(domain, error.getClass().getSimpleName()).increment();
+        meters.failureCounter(error.getClass()).increment();
     }
 
     /**
-     * Gets or creates a Timer for the specified domain.
+     * Records aggregated metrics for a batch migration.
      *
-     * <p>Timers track the distribution of migration durations, including count, total time,
-     * and percentile distributions. The timer is cached for efficient reuse across
-     * multiple migration recordings.</p>
+     * <p>This method records the following metrics:</p>
+     * <ul>
+     *   <li>Increments the success counter for the domain by {@code successes}</li>
+     *   <li>Increments the failure counter of each error's type once per error</li>
+     *   <li>Records the batch duration in the domain's batch timer</li>
+     *   <li>Records the number of documents in the domain's batch size summary</li>
+     *   <li>Records the version span, shared by all documents, once</li>
+     * </ul>
+     *
+     * <p>An empty batch records nothing.</p>
      *
-     * @param domain the domain name to get or create a timer for
-     * @return the Timer instance for the domain, never {@code null}
+     * @param domain      the domain name identifying the DataFixer used, must not be {@code null}
+     * @param fromVersion the source data version of the batch
+     * @param toVersion   the target data version of the batch
+     * @param successes   the number of successfully migrated documents, must not be negative
+     * @param failures    the errors of the failed documents, must not be {@code null}
+     * @param duration    the wall-clock duration of the whole batch, must not be {@code null}
+     * @throws NullPointerException     if domain, failures or duration is {@code null}
+     * @throws IllegalArgumentException if successes is negative
+     * @since 0.6.0
      */
-    private Timer getOrCreateTimer(@NotNull final String domain) {
-        return this.domainTimers.computeIfAbsent(domain, d ->
-                Timer.builder(METRIC_PREFIX + ".duration")
-                        .tag(TAG_DOMAIN, d)
-                        .description("Duration of data migrations")
-                        .register(this.registry)
-        );
+    public void recordBatch(
+            @NotNull final String domain,
+            final int fromVersion,
+            final int toVersion,
+            final int successes,
+            @NotNull final Collection<? extends Throwable> failures,
+            @NotNull final Duration duration
+    ) {
+        Preconditions.checkNotNull(domain, "domain must not be null");
+        Preconditions.checkNotNull(failures, "failures must not be null");
+        Preconditions.checkNotNull(duration, "duration must not be null");
+        Preconditions.checkArgument(successes >= 0, "successes must not be negative: %s", successes);
+
+        final int size = successes + failures.size();
+        if (size == 0) {
+            return;
+        }
+
+        final DomainMeters meters = getOrCreateDomainMeters(domain);
+        final BatchMeters batch = meters.batchMeters();
+
+        batch.timer.record(duration);
+        batch.size.record(size);
+        if (successes > 0) {
+            meters.success.increment(successes);
+        }
+        for (final Throwable error : failures) {
+            meters.failureCounter(error.getClass()).increment();
+        }
+        meters.versionSpan.record(Math.abs(toVersion - fromVersion));
     }
 
     /**
-     * Gets or creates a success Counter for the specified domain.
+     * Records a migration served from the result cache.
      *
-     * <p>The counter tracks the total number of successful migrations for the domain.
-     * It is monotonically increasing and can be used to calculate success rates
-     * when combined with the failure counter.</p>
+     * @param domain the domain name identifying the DataFixer, must not be {@code null}
+     * @throws NullPointerException if domain is {@code null}
+     * @since 0.6.0
+     */
+    public void recordCacheHit(@NotNull final String domain) {
+        Preconditions.checkNotNull(domain, "domain must not be null");
+        getOrCreateDomainMeters(domain).cacheMeters().hits.increment();
+    }
+
+    /**
+     * Records a result cache lookup that found no entry.
      *
-     * @param domain the domain name to get or create a counter for
-     * @return the Counter instance for the domain, never {@code null}
+     * @param domain the domain name identifying the DataFixer, must not be {@code null}
+     * @throws NullPointerException if domain is {@code null}
+     * @since 0.6.0
      */
-    private Counter getOrCreateSuccessCounter(@NotNull final String domain) {
-        return this.domainSuccessCounters.computeIfAbsent(domain, d ->
-                Counter.builder(METRIC_PREFIX + ".success")
-                        .tag(TAG_DOMAIN, d)
-                        .description("Number of successful migrations")
-                        .register(this.registry)
-        );
+    public void recordCacheMiss(@NotNull final String domain) {
+        Preconditions.checkNotNull(domain, "domain must not be null");
+        getOrCreateDomainMeters(domain).cacheMeters().misses.increment();
     }
 
     /**
-     * Gets or creates a failure Counter for the specified domain and error type combination.
+     * Returns a {@link MigrationListener} that records fixer-level metrics for the domain.
      *
-     * <p>Failure counters are keyed by both domain and error type, allowing for granular
-     * analysis of what types of errors occur in which domains. The composite key format
-     * is "domain:errorType" for internal caching.</p>
+     * <p>The listener increments the skipped counter when an update is requested for data
+     * already at the target version and, if enabled, records the per-fix and per-type
+     * timers. It holds the domain's meters directly, so recording needs no domain lookup.
+     * Attach it to the domain's fixer via
+     * {@link de.splatgames.aether.datafixers.core.fix.DataFixerBuilder#withMigrationListener(MigrationListener)};
+     * the auto-configuration does this for all fixers it creates.</p>
      *
-     * @param domain    the domain name for the counter
-     * @param errorType the simple class name of the exception type
-     * @return the Counter instance for the domain/error combination, never {@code null}
+     * @param domain the domain name identifying the DataFixer, must not be {@code null}
+     * @return the listener for the domain, never {@code null}
+     * @throws NullPointerException if domain is {@code null}
+     * @since 0.6.0
      */
-    private Counter getOrCreateFailureCounter(
-            @NotNull final String domain,
-            @NotNull final String errorType
-    ) {
-        final String key = domain + ":" + errorType;
-        return this.domainFailureCounters.computeIfAbsent(key, k ->
-                Counter.builder(METRIC_PREFIX + ".failure")
-                        .tag(TAG_DOMAIN, domain)
-                        .tag(TAG_ERROR_TYPE, errorType)
-                        .description("Number of failed migrations")
-                        .register(this.registry)
-        );
+    @NotNull
+    public MigrationListener listener(@NotNull final String domain) {
+        Preconditions.checkNotNull(domain, "domain must not be null");
+        return new DomainListener(getOrCreateDomainMeters(domain));
     }
 
     /**
-     * Gets or creates a DistributionSummary for tracking version spans in the specified domain.
+     * Gets or creates the meter holder for the specified domain.
      *
-     * <p>The distribution summary tracks the statistical distribution of version spans
-     * (absolute difference between target and source versions). This helps identify:</p>
-     * <ul>
-     *   <li>Average migration complexity across the application</li>
-     *   <li>Outliers with unusually large version spans (very outdated data)</li>
-     *   <li>Trends in data age over time</li>
-     * </ul>
+     * @param domain the domain name to get or create meters for
+     * @return the meters of the domain, never {@code null}
+     */
+    private DomainMeters getOrCreateDomainMeters(@NotNull final String domain) {
+        final DomainMeters meters = this.domainMeters.get(domain);
+        return meters != null ? meters : this.domainMeters.computeIfAbsent(domain, DomainMeters::new);
+    }
+
+    /**
+     * Builds and registers a timer with the configured percentile settings.
      *
-     * @param domain the domain name to get or create a summary for
-     * @return the DistributionSummary instance for the domain, never {@code null}
+     * @param name        the metric name
+     * @param description the metric description
+     * @param tags        the tag key/value pairs
+     * @return the registered timer, never {@code null}
      */
-    private DistributionSummary getOrCreateVersionSpan(@NotNull final String domain) {
-        return this.domainVersionSpans.computeIfAbsent(domain, d ->
-                DistributionSummary.builder(METRIC_PREFIX + ".version.span")
-                        .tag(TAG_DOMAIN, d)
-                        .description("Distribution of version spans in migrations")
-                        .register(this.registry)
-        );
+    private Timer registerTimer(
+            @NotNull final String name,
+            @NotNull final String description,
+            @NotNull final String... tags
+    ) {
+        final Timer.Builder builder = Timer.builder(name)
+                .tags(tags)
+                .description(description);
+        if (this.percentiles.length > 0) {
+            builder.publishPercentiles(this.percentiles);
+        }
+        if (this.percentileHistogram) {
+            builder.publishPercentileHistogram();
+        }
+        return builder.register(this.registry);
+    }
+
+    /**
+     * The meters of a single domain.
+     *
+     * <p>Domain-wide meters are registered on first use of the domain. Failure counters,
+     * fix timers and type timers are cached per error class, fix name and type reference,
+     * all of which are stable keys that need no string concatenation.</p>
+     */
+    private final class DomainMeters {
+
+        /**
+         * The domain name used as the domain tag.
+         */
+        private final String domain;
+
+        /**
+         * Timer of whole migrations performed through the migration service.
+         */
+        private final Timer timer;
+
+        /**
+         * Counter of successful migrations.
+         */
+        private final Counter success;
+
+        /**
+         * Distribution of version spans.
+         */
+        private final DistributionSummary versionSpan;
+
+        /**
+         * Counter of updates for data already at the target version.
+         */
+        private final Counter skipped;
+
+        /**
+         * Failure counters by exception class.
+         */
+        private final ConcurrentHashMap<Class<?>, Counter> failureCounters = new ConcurrentHashMap<>();
+
+        /**
+         * Timers by fix name.
+         */
+        private final ConcurrentHashMap<String, Timer> fixTimers = new ConcurrentHashMap<>();
+
+        /**
+         * Timers by type reference.
+         */
+        private final ConcurrentHashMap<TypeReference, Timer> typeTimers = new ConcurrentHashMap<>();
+
+        /**
+         * Batch meters, registered on the first recorded batch.
+         */
+        private volatile BatchMeters batch;
+
+        /**
+         * Cache meters, registered on the first recorded cache lookup.
+         */
+        private volatile CacheMeters cache;
+
+        /**
+         * Registers the domain-wide meters.
+         *
+         * @param domain the domain name
+         */
+        private DomainMeters(@NotNull final String domain) {
+            this.domain = domain;
+            this.timer = registerTimer(METRIC_PREFIX + ".duration",
+                    "Duration of data migrations", TAG_DOMAIN, domain);
+            this.success = Counter.builder(METRIC_PREFIX + ".success")
+                    .tag(TAG_DOMAIN, domain)
+                    .description("Number of successful migrations")
+                    .register(MigrationMetrics.this.registry);
+            this.versionSpan = DistributionSummary.builder(METRIC_PREFIX + ".version.span")
+                    .tag(TAG_DOMAIN, domain)
+                    .description("Distribution of version spans in migrations")
+                    .register(MigrationMetrics.this.registry);
+            this.skipped = Counter.builder(METRIC_PREFIX + ".skipped")
+                    .tag(TAG_DOMAIN, domain)
+                    .description("Number of updates for data already at the target version")
+                    .register(MigrationMetrics.this.registry);
+        }
+
+        /**
+         * Gets or creates the batch meters of the domain.
+         *
+         * <p>Registration is idempotent, so a concurrent first use at worst creates a
+         * second holder for the same meters.</p>
+         *
+         * @return the batch meters, never {@code null}
+         */
+        private BatchMeters batchMeters() {
+            BatchMeters meters = this.batch;
+            if (meters == null) {
+                meters = new BatchMeters(this.domain);
+                this.batch = meters;
+            }
+            return meters;
+        }
+
+        /**
+         * Gets or creates the cache meters of the domain.
+         *
+         * @return the cache meters, never {@code null}
+         */
+        private CacheMeters cacheMeters() {
+            CacheMeters meters = this.cache;
+            if (meters == null) {
+                meters = new CacheMeters(this.domain);
+                this.cache = meters;
+            }
+            return meters;
+        }
+
+        /**
+         * Gets or creates the failure counter for the given exception class.
+         *
+         * @param errorClass the class of the exception that caused the failure
+         * @return the counter, never {@code null}
+         */
+        private Counter failureCounter(@NotNull final Class<?> errorClass) {
+            final Counter counter = this.failureCounters.get(errorClass);
+            return counter != null ? counter : this.failureCounters.computeIfAbsent(errorClass, c ->
+                    Counter.builder(METRIC_PREFIX + ".failure")
+                            .tag(TAG_DOMAIN, this.domain)
+                            .tag(TAG_ERROR_TYPE, c.getSimpleName())
+                            .description("Number of failed migrations")
+                            .register(MigrationMetrics.this.registry)
+            );
+        }
+
+        /**
+         * Gets or creates the timer for the given fix.
+         *
+         * @param fixName the name of the fix
+         * @return the timer, never {@code null}
+         */
+        private Timer fixTimer(@NotNull final String fixName) {
+            final Timer timer = this.fixTimers.get(fixName);
+            return timer != null ? timer : this.fixTimers.computeIfAbsent(fixName, f ->
+                    registerTimer(METRIC_PREFIX + ".fix.duration", "Duration of individual data fixes",
+                            TAG_DOMAIN, this.domain, TAG_FIX, f));
+        }
+
+        /**
+         * Gets or creates the timer for the given type reference.
+         *
+         * @param type the type reference
+         * @return the timer, never {@code null}
+         */
+        private Timer typeTimer(@NotNull final TypeReference type) {
+            final Timer timer = this.typeTimers.get(type);
+            return timer != null ? timer : this.typeTimers.computeIfAbsent(type, t ->
+                    registerTimer(METRIC_PREFIX + ".type.duration", "Duration of migrations per type",
+                            TAG_DOMAIN, this.domain, TAG_TYPE, t.getId()));
+        }
+    }
+
+    /**
+     * The batch meters of a single domain.
+     */
+    private final class BatchMeters {
+
+        /**
+         * Timer of whole batch migrations.
+         */
+        private final Timer timer;
+
+        /**
+         * Distribution of batch sizes.
+         */
+        private final DistributionSummary size;
+
+        /**
+         * Registers the batch meters.
+         *
+         * @param domain the domain name
+         */
+        private BatchMeters(@NotNull final String domain) {
+            this.timer = registerTimer(METRIC_PREFIX + ".batch.duration",
+                    "Duration of batch migrations", TAG_DOMAIN, domain);
+            this.size = DistributionSummary.builder(METRIC_PREFIX + ".batch.size")
+                    .tag(TAG_DOMAIN, domain)
+                    .description("Number of documents per batch migration")
+                    .register(MigrationMetrics.this.registry);
+        }
+    }
+
+    /**
+     * The result cache meters of a single domain.
+     */
+    private final class CacheMeters {
+
+        /**
+         * Counter of migrations served from the cache.
+         */
+        private final Counter hits;
+
+        /**
+         * Counter of lookups that found no entry.
+         */
+        private final Counter misses;
+
+        /**
+         * Registers the cache meters.
+         *
+         * @param domain the domain name
+         */
+        private CacheMeters(@NotNull final String domain) {
+            this.hits = Counter.builder(METRIC_PREFIX + ".cache.hit")
+                    .tag(TAG_DOMAIN, domain)
+                    .description("Number of migrations served from the result cache")
+                    .register(MigrationMetrics.this.registry);
+            this.misses = Counter.builder(METRIC_PREFIX + ".cache.miss")
+                    .tag(TAG_DOMAIN, domain)
+                    .description("Number of result cache lookups that found no entry")
+                    .register(MigrationMetrics.this.registry);
+        }
+    }
+
+    /**
+     * Listener recording the fixer-level metrics of one domain.
+     */
+    private final class DomainListener implements MigrationListener {
+
+        /**
+         * The meters of the listener's domain.
+         */
+        private final DomainMeters meters;
+
+        /**
+         * Creates a listener for the given domain meters.
+         *
+         * @param meters the meters to record into
+         */
+        private DomainListener(@NotNull final DomainMeters meters) {
+            this.meters = meters;
+        }
+
+        @Override
+        public void onMigrationSkipped(@NotNull final TypeReference type, @NotNull final DataVersion version) {
+            this.meters.skipped.increment();
+        }
+
+        @Override
+        public void onFixApplied(
+                @NotNull final TypeReference type,
+                @NotNull final DataFix<?> fix,
+                final long durationNanos
+        ) {
+            if (MigrationMetrics.this.perFix) {
+                this.meters.fixTimer(fix.name()).record(durationNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        @Override
+        public void onFixFailed(
+                @NotNull final TypeReference type,
+                @NotNull final DataFix<?> fix,
+                final long durationNanos,
+                @NotNull final Throwable error
+        ) {
+            if (MigrationMetrics.this.perFix) {
+                this.meters.fixTimer(fix.name()).record(durationNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        @Override
+        public void onMigrationCompleted(
+                @NotNull final TypeReference type,
+                @NotNull final DataVersion fromVersion,
+                @NotNull final DataVersion toVersion,
+                final int appliedFixes,
+                final long durationNanos
+        ) {
+            if (MigrationMetrics.this.perType) {
+                this.meters.typeTimer(type).record(durationNanos, TimeUnit.NANOSECONDS);
+            }
+        }
     }
 }
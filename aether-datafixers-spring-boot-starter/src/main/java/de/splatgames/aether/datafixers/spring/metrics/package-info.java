@@ -32,6 +32,8 @@
  * <ul>
  *   <li>{@link de.splatgames.aether.datafixers.spring.metrics.MigrationMetrics}
  *       - Primary metrics recorder for all migration operations</li>
+ *   <li>{@link de.splatgames.aether.datafixers.spring.metrics.MigrationExecutorMetrics}
+ *       - Binds the migration executors to Micrometer's executor metrics</li>
  * </ul>
  *
  * <h2>Available Metrics</h2>
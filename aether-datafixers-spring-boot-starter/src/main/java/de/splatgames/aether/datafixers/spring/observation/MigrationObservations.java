@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.spring.observation;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.fix.DataFix;
+import de.splatgames.aether.datafixers.core.fix.MigrationListener;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.function.Supplier;
+
+/**
+ * Micrometer {@link Observation} support for data migrations.
+ *
+ * <p>This class creates one observation per migration executed through the
+ * {@link de.splatgames.aether.datafixers.spring.service.MigrationService} and, optionally, one
+ * child observation per applied fix. With a tracing bridge on the classpath each observation
+ * becomes a span, so migrations show up in distributed traces instead of leaving a gap.</p>
+ *
+ * <h2>Observations</h2>
+ * <table class="striped">
+ *   <caption>Migration Observations</caption>
+ *   <tr>
+ *     <th>Name</th>
+ *     <th>Low Cardinality Keys</th>
+ *     <th>Description</th>
+ *   </tr>
+ *   <tr>
+ *     <td>{@value #MIGRATION_OBSERVATION}</td>
+ *     <td>domain, type, from_version, to_version</td>
+ *     <td>One migration executed through the migration service</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@value #BATCH_OBSERVATION}</td>
+ *     <td>domain, from_version, to_version</td>
+ *     <td>One batch migration executed through the migration service</td>
+ *   </tr>
+ *   <tr>
+ *     <td>{@value #FIX_OBSERVATION}</td>
+ *     <td>domain, type, fix, from_version, to_version</td>
+ *     <td>One applied fix, child of the migration (opt-in)</td>
+ *   </tr>
+ * </table>
+ *
+ * <h2>Fix Observations</h2>
+ * <p>Fix observations are fed by the {@link MigrationListener} returned from
+ * {@link #fixListener(String)}, which the auto-configuration attaches to every DataFixer when
+ * {@code aether.datafixers.observation.fix-observations=true}. Each fix observation is opened
+ * in scope on the migrating thread, so it becomes a child of the surrounding migration
+ * observation.</p>
+ *
+ * <h2>Overhead</h2>
+ * <p>When the registry has no handlers, Micrometer returns a no-op observation and the
+ * remaining cost is a few method calls per migration. The benchmarks module measures this
+ * against a service without observations.</p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is thread-safe.</p>
+ *
+ * @author Erik Pförtner
+ * @see de.splatgames.aether.datafixers.spring.service.DefaultMigrationService
+ * @since 0.6.0
+ */
+public final class MigrationObservations {
+
+    /**
+     * Name of the observation around a migration.
+     */
+    public static final String MIGRATION_OBSERVATION = "aether.datafixers.migration";
+
+    /**
+     * Name of the observation around a batch migration.
+     */
+    public static final String BATCH_OBSERVATION = "aether.datafixers.migration.batch";
+
+    /**
+     * Name of the observation around a single fix.
+     */
+    public static final String FIX_OBSERVATION = "aether.datafixers.fix";
+
+    /**
+     * Key for the DataFixer domain.
+     */
+    public static final String KEY_DOMAIN = "domain";
+
+    /**
+     * Key for the type reference id.
+     */
+    public static final String KEY_TYPE = "type";
+
+    /**
+     * Key for the source version.
+     */
+    public static final String KEY_FROM_VERSION = "from_version";
+
+    /**
+     * Key for the target version.
+     */
+    public static final String KEY_TO_VERSION = "to_version";
+
+    /**
+     * Key for the fix name.
+     */
+    public static final String KEY_FIX = "fix";
+
+    /**
+     * The registry observations are created in.
+     */
+    private final ObservationRegistry registry;
+
+    /**
+     * Creates a new instance backed by the given registry.
+     *
+     * @param registry the observation registry, must not be {@code null}
+     * @throws NullPointerException if registry is {@code null}
+     */
+    public MigrationObservations(@NotNull final ObservationRegistry registry) {
+        this.registry = Preconditions.checkNotNull(registry, "registry must not be null");
+    }
+
+    /**
+     * Runs a migration inside a {@value #MIGRATION_OBSERVATION} observation.
+     *
+     * <p>The observation is in scope while {@code migration} runs, records any exception it
+     * throws and is stopped afterwards.</p>
+     *
+     * @param domain      the DataFixer domain, must not be {@code null}
+     * @param type        the type reference of the migrated data, must not be {@code null}
+     * @param fromVersion the source version, must not be {@code null}
+     * @param toVersion   the target version, must not be {@code null}
+     * @param migration   the migration to run, must not be {@code null}
+     * @param <T>         the result type
+     * @return the result of {@code migration}
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public <T> T observe(
+            @NotNull final String domain,
+            @NotNull final TypeReference type,
+            @NotNull final DataVersion fromVersion,
+            @NotNull final DataVersion toVersion,
+            @NotNull final Supplier<T> migration
+    ) {
+        Preconditions.checkNotNull(domain, "domain must not be null");
+        Preconditions.checkNotNull(type, "type must not be null");
+        Preconditions.checkNotNull(fromVersion, "fromVersion must not be null");
+        Preconditions.checkNotNull(toVersion, "toVersion must not be null");
+        Preconditions.checkNotNull(migration, "migration must not be null");
+
+        return Observation.createNotStarted(MIGRATION_OBSERVATION, this.registry)
+                .contextualName("migrate " + type.getId())
+                .lowCardinalityKeyValue(KEY_DOMAIN, domain)
+                .lowCardinalityKeyValue(KEY_TYPE, type.getId())
+                .lowCardinalityKeyValue(KEY_FROM_VERSION, Integer.toString(fromVersion.getVersion()))
+                .lowCardinalityKeyValue(KEY_TO_VERSION, Integer.toString(toVersion.getVersion()))
+                .observe(migration);
+    }
+
+    /**
+     * Runs a batch migration inside a {@value #BATCH_OBSERVATION} observation.
+     *
+     * <p>The whole batch shares one observation, so fix observations of every document
+     * become its children. The documents of a batch may differ in type, so the
+     * observation carries no type key.</p>
+     *
+     * @param domain      the DataFixer domain, must not be {@code null}
+     * @param fromVersion the source version, must not be {@code null}
+     * @param toVersion   the target version, must not be {@code null}
+     * @param migration   the batch migration to run, must not be {@code null}
+     * @param <T>         the result type
+     * @return the result of {@code migration}
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public <T> T observeBatch(
+            @NotNull final String domain,
+            @NotNull final DataVersion fromVersion,
+            @NotNull final DataVersion toVersion,
+            @NotNull final Supplier<T> migration
+    ) {
+        Preconditions.checkNotNull(domain, "domain must not be null");
+        Preconditions.checkNotNull(fromVersion, "fromVersion must not be null");
+        Preconditions.checkNotNull(toVersion, "toVersion must not be null");
+        Preconditions.checkNotNull(migration, "migration must not be null");
+
+        return Observation.createNotStarted(BATCH_OBSERVATION, this.registry)
+                .contextualName("migrate batch")
+                .lowCardinalityKeyValue(KEY_DOMAIN, domain)
+                .lowCardinalityKeyValue(KEY_FROM_VERSION, Integer.toString(fromVersion.getVersion()))
+                .lowCardinalityKeyValue(KEY_TO_VERSION, Integer.toString(toVersion.getVersion()))
+                .observe(migration);
+    }
+
+    /**
+     * Returns a {@link MigrationListener} that opens a {@value #FIX_OBSERVATION} observation
+     * around every fix applied by a DataFixer of the given domain.
+     *
+     * @param domain the DataFixer domain, must not be {@code null}
+     * @return the listener, never {@code null}
+     * @throws NullPointerException if domain is {@code null}
+     */
+    @NotNull
+    public MigrationListener fixListener(@NotNull final String domain) {
+        Preconditions.checkNotNull(domain, "domain must not be null");
+        return new FixObservationListener(domain);
+    }
+
+    /**
+     * Context of fix observations, used to recognize their scopes.
+     */
+    private static final class FixContext extends Observation.Context {
+    }
+
+    /**
+     * Listener opening an observation in scope for the duration of each fix.
+     */
+    private final class FixObservationListener implements MigrationListener {
+
+        /**
+         * The DataFixer domain added to every fix observation.
+         */
+        private final String domain;
+
+        /**
+         * Creates a listener for the given domain.
+         *
+         * @param domain the DataFixer domain
+         */
+        private FixObservationListener(@NotNull final String domain) {
+            this.domain = domain;
+        }
+
+        @Override
+        public void onFixStarted(@NotNull final TypeReference type, @NotNull final DataFix<?> fix) {
+            Observation.createNotStarted(FIX_OBSERVATION, FixContext::new, MigrationObservations.this.registry)
+                    .contextualName(fix.name())
+                    .lowCardinalityKeyValue(KEY_DOMAIN, this.domain)
+                    .lowCardinalityKeyValue(KEY_TYPE, type.getId())
+                    .lowCardinalityKeyValue(KEY_FIX, fix.name())
+                    .lowCardinalityKeyValue(KEY_FROM_VERSION, Integer.toString(fix.fromVersion().getVersion()))
+                    .lowCardinalityKeyValue(KEY_TO_VERSION, Integer.toString(fix.toVersion().getVersion()))
+                    .start()
+                    .openScope();
+        }
+
+        @Override
+        public void onFixApplied(
+                @NotNull final TypeReference type,
+                @NotNull final DataFix<?> fix,
+                final long durationNanos
+        ) {
+            this.closeFixScope(null);
+        }
+
+        @Override
+        public void onFixFailed(
+                @NotNull final TypeReference type,
+                @NotNull final DataFix<?> fix,
+                final long durationNanos,
+                @NotNull final Throwable error
+        ) {
+            this.closeFixScope(error);
+        }
+
+        /**
+         * Closes and stops the fix observation opened by {@link #onFixStarted}, if it is
+         * still the current scope. No-op observations never become current.
+         *
+         * @param error the error to record, or {@code null}
+         */
+        private void closeFixScope(@Nullable final Throwable error) {
+            final Observation.Scope scope = MigrationObservations.this.registry.getCurrentObservationScope();
+            if (scope == null) {
+                return;
+            }
+            final Observation observation = scope.getCurrentObservation();
+            if (!(observation.getContext() instanceof FixContext)) {
+                return;
+            }
+            scope.close();
+            if (error != null) {
+                observation.error(error);
+            }
+            observation.stop();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+/**
+ * Micrometer Observation integration for tracing Aether Datafixers migrations.
+ *
+ * <p>This package turns migrations executed through the
+ * {@link de.splatgames.aether.datafixers.spring.service.MigrationService} into Micrometer
+ * observations, and therefore into tracing spans when a tracing bridge is configured.
+ * It is auto-configured when an {@code ObservationRegistry} bean exists.</p>
+ *
+ * <h2>Package Contents</h2>
+ * <ul>
+ *   <li>{@link de.splatgames.aether.datafixers.spring.observation.MigrationObservations}
+ *       - Creates migration observations and optional per-fix child observations</li>
+ * </ul>
+ *
+ * <h2>Configuration</h2>
+ * <pre>{@code
+ * aether:
+ *   datafixers:
+ *     observation:
+ *       enabled: true           # Observe migrations (default: true)
+ *       fix-observations: true  # Child observation per fix (default: false)
+ * }</pre>
+ *
+ * @author Erik Pförtner
+ * @see de.splatgames.aether.datafixers.spring.observation.MigrationObservations
+ * @see de.splatgames.aether.datafixers.spring.autoconfigure.ObservationAutoConfiguration
+ * @since 0.6.0
+ */
+package de.splatgames.aether.datafixers.spring.observation;
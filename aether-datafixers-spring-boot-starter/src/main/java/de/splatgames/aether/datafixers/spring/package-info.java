@@ -34,6 +34,10 @@
  *   <li><strong>Auto-Configuration:</strong> Automatic bean creation based on classpath and configuration</li>
  *   <li><strong>Multi-Domain Support:</strong> Manage multiple independent DataFixer instances</li>
  *   <li><strong>Fluent Migration API:</strong> Intuitive builder pattern for data migrations</li>
+ *   <li><strong>Streaming Migrations:</strong> Backpressured {@code Flow.Publisher} migration with bounded parallelism</li>
+ *   <li><strong>Batch Migrations:</strong> Bulk migration with one validation and one metrics sample per batch</li>
+ *   <li><strong>Result Cache:</strong> Optional cache for repeated migrations of identical payloads</li>
+ *   <li><strong>Startup Warm-Up:</strong> Optional warm-up of schemas and fix chains before readiness</li>
  *   <li><strong>Actuator Integration:</strong> Health checks, info endpoints, and custom endpoints</li>
  *   <li><strong>Metrics Support:</strong> Micrometer-based observability for migrations</li>
  *   <li><strong>Format Flexibility:</strong> Support for both Gson and Jackson serialization</li>
@@ -66,6 +70,10 @@
  *     <td>{@link de.splatgames.aether.datafixers.spring.metrics}</td>
  *     <td>Micrometer metrics integration</td>
  *   </tr>
+ *   <tr>
+ *     <td>{@link de.splatgames.aether.datafixers.spring.warmup}</td>
+ *     <td>Startup warm-up of the registered DataFixers</td>
+ *   </tr>
  * </table>
  *
  * <h2>Quick Start Guide</h2>
@@ -0,0 +1,556 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.spring.reactive;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.dynamic.TaggedDynamic;
+import de.splatgames.aether.datafixers.spring.service.MigrationResult;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * A {@link Flow.Processor} that migrates a stream of {@link TaggedDynamic} values with
+ * bounded concurrency and backpressure.
+ *
+ * <p>The processor subscribes to an upstream publisher of input documents and publishes
+ * one {@link MigrationResult} per input to a single downstream subscriber. Each migration
+ * runs as a separate task on the configured {@link Executor}; at most {@code parallelism}
+ * tasks are in flight at any time, regardless of how many threads the executor has.</p>
+ *
+ * <h2>Backpressure</h2>
+ * <p>The processor never requests more than {@code prefetch} documents from upstream
+ * beyond what the downstream subscriber has consumed. Documents waiting for a free
+ * migration slot, migrations in flight, and results waiting for downstream demand all
+ * count against that budget, so a slow consumer stops the processor from pulling further
+ * documents. Upstream demand is replenished in batches once three quarters of the prefetch
+ * window has been emitted, which keeps a paginated source such as a database cursor
+ * fetching whole pages instead of single rows.</p>
+ *
+ * <h2>Ordering</h2>
+ * <p>In ordered mode results are emitted in the order their inputs arrived, holding back
+ * results that complete early until all preceding ones are emitted. In unordered mode
+ * results are emitted as soon as they complete, which avoids head-of-line blocking behind
+ * a slow document.</p>
+ *
+ * <h2>Errors</h2>
+ * <p>Failed migrations are ordinary {@link MigrationResult#failure failure results} and do
+ * not terminate the stream. The stream terminates with {@code onError} when the upstream
+ * signals an error (after all documents received before it have been emitted), when the
+ * migration function itself throws, or when the executor rejects a task; in the latter
+ * two cases the upstream subscription is cancelled.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * MigrationProcessor processor = new MigrationProcessor(
+ *         data -> service.migrate(data).from(100).toLatest().execute(),
+ *         migrationExecutor, 8, 128, true);
+ * cursorPublisher.subscribe(processor);
+ * processor.subscribe(resultWriter);
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is thread-safe and follows the Reactive Streams rules: signals to the
+ * downstream subscriber are serialized even though migrations complete on executor
+ * threads. A processor instance supports a single upstream and a single downstream
+ * subscription; further subscribers are rejected with {@link IllegalStateException}.</p>
+ *
+ * @author Erik Pförtner
+ * @see de.splatgames.aether.datafixers.spring.service.MigrationService#migrateFlow(Flow.Publisher)
+ * @see ReactorMigrations
+ * @since 0.6.0
+ */
+public final class MigrationProcessor implements Flow.Processor<TaggedDynamic, MigrationResult> {
+
+    /**
+     * Default maximum number of concurrent migrations: the number of available processors.
+     */
+    public static final int DEFAULT_PARALLELISM = Runtime.getRuntime().availableProcessors();
+
+    /**
+     * Default number of documents requested from upstream ahead of downstream consumption.
+     */
+    public static final int DEFAULT_PREFETCH = 128;
+
+    /**
+     * The function migrating a single document.
+     */
+    private final Function<? super TaggedDynamic, MigrationResult> migration;
+
+    /**
+     * The executor running the migration tasks.
+     */
+    private final Executor executor;
+
+    /**
+     * Maximum number of migrations in flight.
+     */
+    private final int parallelism;
+
+    /**
+     * Number of documents requested from upstream ahead of consumption.
+     */
+    private final int prefetch;
+
+    /**
+     * Number of emitted results after which upstream demand is replenished.
+     */
+    private final int replenishLimit;
+
+    /**
+     * Whether results are emitted in input order.
+     */
+    private final boolean ordered;
+
+    /**
+     * The upstream subscription, set once by {@link #onSubscribe(Flow.Subscription)}.
+     */
+    private final AtomicReference<Flow.Subscription> upstream = new AtomicReference<>();
+
+    /**
+     * The downstream subscriber, set once by {@link #subscribe(Flow.Subscriber)}.
+     */
+    private final AtomicReference<Flow.Subscriber<? super MigrationResult>> downstream =
+            new AtomicReference<>();
+
+    /**
+     * Guards the initial upstream request, issued once both sides are connected.
+     */
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    /**
+     * Documents received from upstream that are waiting for a free migration slot.
+     */
+    private final Queue<TaggedDynamic> pending = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Result slots awaiting emission, in input order (ordered) or completion order (unordered).
+     */
+    private final Queue<Slot> outbound = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Number of migration tasks submitted but not yet finished.
+     */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /**
+     * Outstanding downstream demand.
+     */
+    private final AtomicLong requested = new AtomicLong();
+
+    /**
+     * Work-in-progress counter serializing the drain loop.
+     */
+    private final AtomicInteger wip = new AtomicInteger();
+
+    /**
+     * The first error that terminates the stream immediately.
+     */
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    /**
+     * Whether the downstream {@code onSubscribe} call has returned.
+     */
+    private volatile boolean subscribed;
+
+    /**
+     * Whether the upstream has signalled {@code onComplete} or {@code onError}.
+     */
+    private volatile boolean upstreamDone;
+
+    /**
+     * The upstream error, delivered after all previously received documents are emitted.
+     */
+    @Nullable
+    private volatile Throwable upstreamError;
+
+    /**
+     * Whether the downstream subscriber has cancelled.
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * Whether a terminal signal has been delivered downstream.
+     */
+    private volatile boolean terminated;
+
+    /**
+     * Results emitted since upstream demand was last replenished; accessed by the drain loop only.
+     */
+    private int consumed;
+
+    /**
+     * Creates a new migration processor.
+     *
+     * @param migration   the function migrating a single document, must not be {@code null};
+     *                    it should report migration failures as failure results rather than throw
+     * @param executor    the executor running the migrations, must not be {@code null}
+     * @param parallelism the maximum number of concurrent migrations, must be positive
+     * @param prefetch    the number of documents requested ahead of consumption, must be positive
+     * @param ordered     {@code true} to emit results in input order, {@code false} to emit
+     *                    them as they complete
+     * @throws NullPointerException     if migration or executor is {@code null}
+     * @throws IllegalArgumentException if parallelism or prefetch is not positive
+     */
+    public MigrationProcessor(
+            @NotNull final Function<? super TaggedDynamic, MigrationResult> migration,
+            @NotNull final Executor executor,
+            final int parallelism,
+            final int prefetch,
+            final boolean ordered
+    ) {
+        Preconditions.checkNotNull(migration, "migration must not be null");
+        Preconditions.checkNotNull(executor, "executor must not be null");
+        Preconditions.checkArgument(parallelism > 0, "parallelism must be positive: %s", parallelism);
+        Preconditions.checkArgument(prefetch > 0, "prefetch must be positive: %s", prefetch);
+        this.migration = migration;
+        this.executor = executor;
+        this.parallelism = parallelism;
+        this.prefetch = prefetch;
+        this.replenishLimit = Math.max(1, prefetch - (prefetch >> 2));
+        this.ordered = ordered;
+    }
+
+    /**
+     * Subscribes the single downstream subscriber.
+     *
+     * <p>Nothing is requested from upstream before a downstream subscriber is present.
+     * A second subscriber receives {@code onError} with an {@link IllegalStateException}.</p>
+     *
+     * @param subscriber the subscriber receiving migration results, must not be {@code null}
+     * @throws NullPointerException if subscriber is {@code null}
+     */
+    @Override
+    public void subscribe(@NotNull final Flow.Subscriber<? super MigrationResult> subscriber) {
+        Preconditions.checkNotNull(subscriber, "subscriber must not be null");
+        if (!this.downstream.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(final long n) {
+                    // Rejected subscriber, nothing to deliver
+                }
+
+                @Override
+                public void cancel() {
+                    // Rejected subscriber, nothing to cancel
+                }
+            });
+            subscriber.onError(new IllegalStateException("MigrationProcessor supports a single subscriber"));
+            return;
+        }
+        subscriber.onSubscribe(new ResultSubscription());
+        this.subscribed = true;
+        start();
+        drain();
+    }
+
+    /**
+     * Receives the upstream subscription.
+     *
+     * <p>A second subscription, or one arriving after cancellation, is cancelled.</p>
+     *
+     * @param subscription the upstream subscription, must not be {@code null}
+     * @throws NullPointerException if subscription is {@code null}
+     */
+    @Override
+    public void onSubscribe(@NotNull final Flow.Subscription subscription) {
+        Preconditions.checkNotNull(subscription, "subscription must not be null");
+        if (!this.upstream.compareAndSet(null, subscription)) {
+            subscription.cancel();
+            return;
+        }
+        if (this.cancelled || this.terminated) {
+            subscription.cancel();
+            return;
+        }
+        start();
+    }
+
+    /**
+     * Receives the next document from upstream and schedules its migration.
+     *
+     * @param item the document to migrate, must not be {@code null}
+     * @throws NullPointerException if item is {@code null}
+     */
+    @Override
+    public void onNext(@NotNull final TaggedDynamic item) {
+        Preconditions.checkNotNull(item, "item must not be null");
+        if (this.upstreamDone || this.terminated || this.cancelled) {
+            return;
+        }
+        this.pending.offer(item);
+        drain();
+    }
+
+    /**
+     * Receives the upstream error.
+     *
+     * <p>The error is forwarded downstream once every document received before it has
+     * been migrated and emitted.</p>
+     *
+     * @param throwable the upstream error, must not be {@code null}
+     * @throws NullPointerException if throwable is {@code null}
+     */
+    @Override
+    public void onError(@NotNull final Throwable throwable) {
+        Preconditions.checkNotNull(throwable, "throwable must not be null");
+        if (this.upstreamDone) {
+            return;
+        }
+        this.upstreamError = throwable;
+        this.upstreamDone = true;
+        drain();
+    }
+
+    /**
+     * Receives upstream completion.
+     *
+     * <p>Completion is forwarded downstream once every received document has been
+     * migrated and emitted.</p>
+     */
+    @Override
+    public void onComplete() {
+        this.upstreamDone = true;
+        drain();
+    }
+
+    /**
+     * Requests the initial prefetch window once both upstream and downstream are connected.
+     */
+    private void start() {
+        final Flow.Subscription subscription = this.upstream.get();
+        if (subscription != null && this.subscribed && this.started.compareAndSet(false, true)) {
+            subscription.request(this.prefetch);
+        }
+    }
+
+    /**
+     * Runs the drain loop unless another thread is already running it, in which case that
+     * thread performs another pass on this caller's behalf.
+     */
+    private void drain() {
+        if (this.wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            final Flow.Subscriber<? super MigrationResult> subscriber = this.downstream.get();
+            if (subscriber != null && this.subscribed && !this.terminated) {
+                drainPass(subscriber);
+            }
+            missed = this.wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    /**
+     * Performs one pass of the drain loop: dispatches pending documents, emits completed
+     * results up to the downstream demand, replenishes upstream demand and delivers the
+     * terminal signal when everything has been emitted.
+     *
+     * @param subscriber the downstream subscriber
+     */
+    private void drainPass(@NotNull final Flow.Subscriber<? super MigrationResult> subscriber) {
+        if (this.cancelled) {
+            clear();
+            return;
+        }
+        dispatch();
+
+        final Throwable error = this.failure.get();
+        if (error != null) {
+            this.terminated = true;
+            cancelUpstream();
+            clear();
+            subscriber.onError(error);
+            return;
+        }
+
+        final long demand = this.requested.get();
+        long emitted = 0;
+        while (emitted != demand) {
+            if (this.cancelled) {
+                clear();
+                return;
+            }
+            final Slot head = this.outbound.peek();
+            if (head == null || head.result == null) {
+                break;
+            }
+            this.outbound.poll();
+            subscriber.onNext(head.result);
+            emitted++;
+        }
+        if (emitted != 0) {
+            if (demand != Long.MAX_VALUE) {
+                this.requested.addAndGet(-emitted);
+            }
+            replenish(emitted);
+        }
+
+        if (this.upstreamDone && this.pending.isEmpty() && this.inFlight.get() == 0
+                && this.outbound.isEmpty() && !this.cancelled) {
+            this.terminated = true;
+            final Throwable upstreamFailure = this.upstreamError;
+            if (upstreamFailure != null) {
+                subscriber.onError(upstreamFailure);
+            } else {
+                subscriber.onComplete();
+            }
+        }
+    }
+
+    /**
+     * Submits pending documents to the executor while migration slots are free.
+     */
+    private void dispatch() {
+        while (this.inFlight.get() < this.parallelism && this.failure.get() == null) {
+            final TaggedDynamic item = this.pending.poll();
+            if (item == null) {
+                return;
+            }
+            final Slot slot = new Slot();
+            if (this.ordered) {
+                this.outbound.offer(slot);
+            }
+            this.inFlight.incrementAndGet();
+            try {
+                this.executor.execute(() -> migrate(item, slot));
+            } catch (final RejectedExecutionException e) {
+                this.inFlight.decrementAndGet();
+                this.failure.compareAndSet(null, e);
+            }
+        }
+    }
+
+    /**
+     * Migrates a single document on an executor thread and publishes its result slot.
+     *
+     * @param item the document to migrate
+     * @param slot the slot receiving the result
+     */
+    @SuppressWarnings("checkstyle:IllegalCatch")
+    private void migrate(@NotNull final TaggedDynamic item, @NotNull final Slot slot) {
+        try {
+            if (!this.cancelled && !this.terminated) {
+                slot.result = Preconditions.checkNotNull(
+                        this.migration.apply(item), "migration returned null");
+                if (!this.ordered) {
+                    this.outbound.offer(slot);
+                }
+            }
+        } catch (final Throwable t) {
+            // Anything escaping the migration function terminates the stream
+            this.failure.compareAndSet(null, t);
+        } finally {
+            this.inFlight.decrementAndGet();
+            drain();
+        }
+    }
+
+    /**
+     * Requests more documents from upstream once enough results have been emitted.
+     *
+     * @param emitted the number of results emitted in the current pass
+     */
+    private void replenish(final long emitted) {
+        this.consumed += (int) emitted;
+        if (this.consumed >= this.replenishLimit && !this.upstreamDone) {
+            final Flow.Subscription subscription = this.upstream.get();
+            if (subscription != null) {
+                subscription.request(this.consumed);
+            }
+            this.consumed = 0;
+        }
+    }
+
+    /**
+     * Cancels the upstream subscription, if present.
+     */
+    private void cancelUpstream() {
+        final Flow.Subscription subscription = this.upstream.get();
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    /**
+     * Drops all buffered documents and results.
+     */
+    private void clear() {
+        this.pending.clear();
+        this.outbound.clear();
+    }
+
+    /**
+     * Holds the result of a single migration until it is emitted.
+     */
+    private static final class Slot {
+
+        /**
+         * The migration result; {@code null} while the migration is running.
+         */
+        @Nullable
+        private volatile MigrationResult result;
+    }
+
+    /**
+     * The subscription handed to the downstream subscriber.
+     */
+    private final class ResultSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(final long n) {
+            if (n <= 0) {
+                MigrationProcessor.this.failure.compareAndSet(null, new IllegalArgumentException(
+                        "Requested amount must be positive: " + n));
+            } else {
+                MigrationProcessor.this.requested.getAndAccumulate(n, (current, add) -> {
+                    final long sum = current + add;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            if (MigrationProcessor.this.cancelled) {
+                return;
+            }
+            MigrationProcessor.this.cancelled = true;
+            cancelUpstream();
+            drain();
+        }
+    }
+}
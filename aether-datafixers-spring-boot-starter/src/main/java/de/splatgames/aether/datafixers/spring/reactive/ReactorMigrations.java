@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.spring.reactive;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.dynamic.TaggedDynamic;
+import de.splatgames.aether.datafixers.spring.service.MigrationResult;
+import de.splatgames.aether.datafixers.spring.service.MigrationService;
+import org.jetbrains.annotations.NotNull;
+import org.reactivestreams.Publisher;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Flux;
+
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+/**
+ * Project Reactor adapters for streaming migrations.
+ *
+ * <p>This class bridges {@link MigrationService#migrateFlow(Flow.Publisher)}, which is
+ * built on {@link java.util.concurrent.Flow}, to Reactor's {@link Flux}. Demand from the
+ * {@code Flux} subscriber propagates through the migration to the source publisher, so
+ * operators such as {@code limitRate} or a slow {@code concatMap} downstream throttle
+ * the source as well.</p>
+ *
+ * <p>Reactor is an optional dependency of this starter; this class may only be used when
+ * {@code reactor-core} is on the classpath.</p>
+ *
+ * <h2>Example</h2>
+ * <pre>{@code
+ * Flux<MigrationResult> results = ReactorMigrations.migrate(
+ *         migrationService,
+ *         repository.streamDocuments(),
+ *         request -> request.from(100).toLatest().parallelism(8).prefetch(256));
+ *
+ * results
+ *     .filter(MigrationResult::isSuccess)
+ *     .concatMap(repository::save)
+ *     .subscribe();
+ * }</pre>
+ *
+ * @author Erik Pförtner
+ * @see MigrationService.FlowRequestBuilder
+ * @see MigrationProcessor
+ * @since 0.6.0
+ */
+public final class ReactorMigrations {
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ReactorMigrations() {
+        // Utility class
+    }
+
+    /**
+     * Migrates a Reactive Streams publisher of documents and returns the results as a {@link Flux}.
+     *
+     * @param service    the migration service, must not be {@code null}
+     * @param source     the publisher of documents, must not be {@code null}
+     * @param configurer configures versions, domain and concurrency of the request,
+     *                   must not be {@code null}
+     * @return the migration results, never {@code null}
+     * @throws NullPointerException     if any argument is {@code null}
+     * @throws IllegalStateException    if the configured request is incomplete
+     * @throws IllegalArgumentException if the configured domain does not exist
+     */
+    @NotNull
+    public static Flux<MigrationResult> migrate(
+            @NotNull final MigrationService service,
+            @NotNull final Publisher<? extends TaggedDynamic> source,
+            @NotNull final Consumer<MigrationService.FlowRequestBuilder> configurer
+    ) {
+        Preconditions.checkNotNull(service, "service must not be null");
+        Preconditions.checkNotNull(source, "source must not be null");
+        Preconditions.checkNotNull(configurer, "configurer must not be null");
+        final MigrationService.FlowRequestBuilder request =
+                service.migrateFlow(toFlowPublisher(source));
+        configurer.accept(request);
+        return toFlux(request.publish());
+    }
+
+    /**
+     * Adapts a Reactive Streams publisher to a {@link Flow.Publisher}.
+     *
+     * @param source the publisher to adapt, must not be {@code null}
+     * @param <T>    the element type
+     * @return the adapted publisher, never {@code null}
+     * @throws NullPointerException if source is {@code null}
+     */
+    @NotNull
+    public static <T> Flow.Publisher<T> toFlowPublisher(@NotNull final Publisher<? extends T> source) {
+        Preconditions.checkNotNull(source, "source must not be null");
+        return JdkFlowAdapter.publisherToFlowPublisher(Flux.<T>from(source));
+    }
+
+    /**
+     * Adapts a {@link Flow.Publisher} to a {@link Flux}.
+     *
+     * @param source the publisher to adapt, must not be {@code null}
+     * @param <T>    the element type
+     * @return the adapted flux, never {@code null}
+     * @throws NullPointerException if source is {@code null}
+     */
+    @NotNull
+    public static <T> Flux<T> toFlux(@NotNull final Flow.Publisher<T> source) {
+        Preconditions.checkNotNull(source, "source must not be null");
+        return JdkFlowAdapter.flowPublisherToFlux(source);
+    }
+}
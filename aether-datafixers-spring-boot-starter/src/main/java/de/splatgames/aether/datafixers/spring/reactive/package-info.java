@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+/**
+ * Streaming migrations with backpressure.
+ *
+ * <p>This package provides the {@link java.util.concurrent.Flow} machinery behind
+ * {@link de.splatgames.aether.datafixers.spring.service.MigrationService#migrateFlow(java.util.concurrent.Flow.Publisher)}:
+ * a processor that migrates a stream of documents with bounded parallelism, a bounded
+ * prefetch window and optional ordering, propagating downstream demand to the source.
+ * Optional adapters expose the same streams as Project Reactor {@code Flux}es.</p>
+ *
+ * <h2>Package Contents</h2>
+ * <ul>
+ *   <li>{@link de.splatgames.aether.datafixers.spring.reactive.MigrationProcessor}
+ *       - {@code Flow.Processor} from documents to migration results</li>
+ *   <li>{@link de.splatgames.aether.datafixers.spring.reactive.ReactorMigrations}
+ *       - Reactor {@code Flux} adapters; requires {@code reactor-core}</li>
+ * </ul>
+ *
+ * @author Erik Pförtner
+ * @see de.splatgames.aether.datafixers.spring.service.MigrationService.FlowRequestBuilder
+ * @since 0.6.0
+ */
+package de.splatgames.aether.datafixers.spring.reactive;
@@ -0,0 +1,347 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.spring.service;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.core.diagnostic.AggregatedMigrationReport;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable result of a batch migration, holding the outcome of every document.
+ *
+ * <p>A batch never fails as a whole once it has started: each document is migrated
+ * independently and its outcome is captured as a {@link MigrationResult} at the position
+ * of the document in the input. A failing document therefore does not prevent the
+ * remaining documents from being migrated.</p>
+ *
+ * <h2>Usage Example</h2>
+ * <pre>{@code
+ * BatchMigrationResult batch = migrationService
+ *     .migrateAll(records)
+ *     .from(100)
+ *     .toLatest()
+ *     .execute();
+ *
+ * if (!batch.isAllSuccessful()) {
+ *     batch.getFailures().forEach(failure ->
+ *         deadLetters.send(failure.getError().orElseThrow()));
+ * }
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is immutable and therefore thread-safe.</p>
+ *
+ * @author Erik Pförtner
+ * @see MigrationService#migrateAll(java.util.Collection)
+ * @see MigrationService.BatchRequestBuilder
+ * @since 0.6.0
+ */
+public final class BatchMigrationResult {
+
+    /**
+     * The domain used for the batch.
+     */
+    @NotNull
+    private final String domain;
+
+    /**
+     * The source version of every document.
+     */
+    @NotNull
+    private final DataVersion fromVersion;
+
+    /**
+     * The target version of every document.
+     */
+    @NotNull
+    private final DataVersion toVersion;
+
+    /**
+     * The per-document results in input order.
+     */
+    @NotNull
+    private final List<MigrationResult> results;
+
+    /**
+     * The number of successful results.
+     */
+    private final int successCount;
+
+    /**
+     * The wall-clock duration of the whole batch.
+     */
+    @NotNull
+    private final Duration duration;
+
+    /**
+     * The aggregated diagnostic report, or {@code null} if diagnostics were not requested.
+     */
+    @Nullable
+    private final AggregatedMigrationReport report;
+
+    /**
+     * Creates a new batch result.
+     *
+     * @param domain      the domain name used
+     * @param fromVersion the source version
+     * @param toVersion   the target version
+     * @param results     the per-document results in input order
+     * @param duration    the batch duration
+     * @param report      the aggregated diagnostic report, or {@code null}
+     */
+    private BatchMigrationResult(
+            @NotNull final String domain,
+            @NotNull final DataVersion fromVersion,
+            @NotNull final DataVersion toVersion,
+            @NotNull final List<MigrationResult> results,
+            @NotNull final Duration duration,
+            @Nullable final AggregatedMigrationReport report
+    ) {
+        this.domain = domain;
+        this.fromVersion = fromVersion;
+        this.toVersion = toVersion;
+        this.results = results;
+        this.duration = duration;
+        this.report = report;
+        int successes = 0;
+        for (final MigrationResult result : results) {
+            if (result.isSuccess()) {
+                successes++;
+            }
+        }
+        this.successCount = successes;
+    }
+
+    /**
+     * Creates a batch result from the per-document results.
+     *
+     * @param domain      the domain name used, must not be {@code null}
+     * @param fromVersion the source version, must not be {@code null}
+     * @param toVersion   the target version, must not be {@code null}
+     * @param results     the per-document results in input order, must not be {@code null}
+     *                    or contain {@code null}
+     * @param duration    the wall-clock duration of the whole batch, must not be {@code null}
+     * @return the batch result
+     * @throws NullPointerException if any argument or result is {@code null}
+     */
+    @NotNull
+    public static BatchMigrationResult of(
+            @NotNull final String domain,
+            @NotNull final DataVersion fromVersion,
+            @NotNull final DataVersion toVersion,
+            @NotNull final List<MigrationResult> results,
+            @NotNull final Duration duration
+    ) {
+        return of(domain, fromVersion, toVersion, results, duration, null);
+    }
+
+    /**
+     * Creates a batch result from the per-document results and their aggregated report.
+     *
+     * @param domain      the domain name used, must not be {@code null}
+     * @param fromVersion the source version, must not be {@code null}
+     * @param toVersion   the target version, must not be {@code null}
+     * @param results     the per-document results in input order, must not be {@code null}
+     *                    or contain {@code null}
+     * @param duration    the wall-clock duration of the whole batch, must not be {@code null}
+     * @param report      the aggregated diagnostic report, or {@code null} if diagnostics
+     *                    were not requested
+     * @return the batch result
+     * @throws NullPointerException if any required argument or result is {@code null}
+     */
+    @NotNull
+    public static BatchMigrationResult of(
+            @NotNull final String domain,
+            @NotNull final DataVersion fromVersion,
+            @NotNull final DataVersion toVersion,
+            @NotNull final List<MigrationResult> results,
+            @NotNull final Duration duration,
+            @Nullable final AggregatedMigrationReport report
+    ) {
+        Preconditions.checkNotNull(domain, "domain must not be null");
+        Preconditions.checkNotNull(fromVersion, "fromVersion must not be null");
+        Preconditions.checkNotNull(toVersion, "toVersion must not be null");
+        Preconditions.checkNotNull(results, "results must not be null");
+        Preconditions.checkNotNull(duration, "duration must not be null");
+        return new BatchMigrationResult(domain, fromVersion, toVersion, List.copyOf(results), duration, report);
+    }
+
+    /**
+     * Returns the per-document results in the order of the input documents.
+     *
+     * @return an unmodifiable list of results, never {@code null}
+     */
+    @NotNull
+    public List<MigrationResult> getResults() {
+        return this.results;
+    }
+
+    /**
+     * Returns the result of the document at the given input position.
+     *
+     * @param index the position of the document in the input
+     * @return the result of the document, never {@code null}
+     * @throws IndexOutOfBoundsException if index is out of range
+     */
+    @NotNull
+    public MigrationResult get(final int index) {
+        return this.results.get(index);
+    }
+
+    /**
+     * Returns the number of documents in the batch.
+     *
+     * @return the batch size
+     */
+    public int size() {
+        return this.results.size();
+    }
+
+    /**
+     * Returns the number of successfully migrated documents.
+     *
+     * @return the success count
+     */
+    public int getSuccessCount() {
+        return this.successCount;
+    }
+
+    /**
+     * Returns the number of documents whose migration failed.
+     *
+     * @return the failure count
+     */
+    public int getFailureCount() {
+        return this.results.size() - this.successCount;
+    }
+
+    /**
+     * Returns whether every document was migrated successfully.
+     *
+     * <p>An empty batch is considered successful.</p>
+     *
+     * @return {@code true} if no migration failed
+     */
+    public boolean isAllSuccessful() {
+        return this.successCount == this.results.size();
+    }
+
+    /**
+     * Returns the failed results in input order.
+     *
+     * @return an unmodifiable list of failed results, never {@code null}
+     */
+    @NotNull
+    public List<MigrationResult> getFailures() {
+        if (isAllSuccessful()) {
+            return List.of();
+        }
+        final List<MigrationResult> failures = new ArrayList<>(getFailureCount());
+        for (final MigrationResult result : this.results) {
+            if (result.isFailure()) {
+                failures.add(result);
+            }
+        }
+        return List.copyOf(failures);
+    }
+
+    /**
+     * Returns the domain used for the batch.
+     *
+     * @return the domain name, never {@code null}
+     */
+    @NotNull
+    public String getDomain() {
+        return this.domain;
+    }
+
+    /**
+     * Returns the source version of the batch.
+     *
+     * @return the source version, never {@code null}
+     */
+    @NotNull
+    public DataVersion getFromVersion() {
+        return this.fromVersion;
+    }
+
+    /**
+     * Returns the target version of the batch.
+     *
+     * @return the target version, never {@code null}
+     */
+    @NotNull
+    public DataVersion getToVersion() {
+        return this.toVersion;
+    }
+
+    /**
+     * Returns the wall-clock duration of the whole batch.
+     *
+     * @return the batch duration, never {@code null}
+     */
+    @NotNull
+    public Duration getDuration() {
+        return this.duration;
+    }
+
+    /**
+     * Returns the diagnostic report aggregated over the batch.
+     *
+     * <p>Present only if the batch was started with
+     * {@link MigrationService.BatchRequestBuilder#withDiagnostics} on a service that collects
+     * reports, such as {@link DefaultMigrationService}.</p>
+     *
+     * @return the aggregated report, or empty if diagnostics were not requested
+     */
+    @NotNull
+    public Optional<AggregatedMigrationReport> getReport() {
+        return Optional.ofNullable(this.report);
+    }
+
+    /**
+     * Returns a human-readable summary of this batch result.
+     *
+     * @return a string representation of this batch result
+     */
+    @Override
+    public String toString() {
+        return "BatchMigrationResult{" +
+                "size=" + this.results.size() +
+                ", successes=" + this.successCount +
+                ", failures=" + getFailureCount() +
+                ", fromVersion=" + this.fromVersion.getVersion() +
+                ", toVersion=" + this.toVersion.getVersion() +
+                ", domain='" + this.domain + '\'' +
+                ", duration=" + this.duration.toMillis() + "ms" +
+                '}';
+    }
+}
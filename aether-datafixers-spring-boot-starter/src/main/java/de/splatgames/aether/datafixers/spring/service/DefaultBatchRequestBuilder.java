@@ -0,0 +1,322 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.spring.service;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.diagnostic.DiagnosticOptions;
+import de.splatgames.aether.datafixers.api.dynamic.DynamicOps;
+import de.splatgames.aether.datafixers.api.dynamic.TaggedDynamic;
+import de.splatgames.aether.datafixers.spring.autoconfigure.DataFixerRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Default implementation of {@link MigrationService.BatchRequestBuilder}.
+ *
+ * <p>The builder validates its configuration and resolves the target version once, then
+ * hands the documents to a {@link BatchMigrator}. {@link DefaultMigrationService} supplies
+ * a migrator that shares the resolved DataFixer across the batch; other services fall back
+ * to {@link #perDocument(MigrationService)}.</p>
+ *
+ * @author Erik Pförtner
+ * @see MigrationService#migrateAll(java.util.Collection)
+ * @see MigrationService#migrateStream(Stream)
+ * @since 0.6.0
+ */
+final class DefaultBatchRequestBuilder implements MigrationService.BatchRequestBuilder {
+
+    /**
+     * The service used for validation and version lookup.
+     */
+    private final MigrationService service;
+
+    /**
+     * The documents to migrate.
+     */
+    private final Stream<? extends TaggedDynamic> documents;
+
+    /**
+     * Resolves the default executor of a domain.
+     */
+    private final Function<String, Executor> defaultExecutors;
+
+    /**
+     * Migrates the validated batch.
+     */
+    private final BatchMigrator migrator;
+
+    /**
+     * The source version of every document.
+     */
+    @Nullable
+    private DataVersion fromVersion;
+
+    /**
+     * The explicit target version. Either this or {@link #toLatest} must be set.
+     */
+    @Nullable
+    private DataVersion toVersion;
+
+    /**
+     * Flag indicating whether to migrate to the domain's current version.
+     */
+    private boolean toLatest = false;
+
+    /**
+     * The domain to use for the migration.
+     */
+    private String domain = DataFixerRegistry.DEFAULT_DOMAIN;
+
+    /**
+     * Optional custom DynamicOps implementation for format conversion.
+     */
+    @Nullable
+    private DynamicOps<?> ops;
+
+    /**
+     * The explicitly configured executor, overriding the domain default.
+     */
+    @Nullable
+    private Executor executor;
+
+    /**
+     * The diagnostic options of every document, or {@code null} to collect no report.
+     */
+    @Nullable
+    private DiagnosticOptions diagnostics;
+
+    /**
+     * Whether the batch was already executed.
+     */
+    private boolean executed = false;
+
+    /**
+     * Creates a new builder.
+     *
+     * @param service          the service used for validation, must not be {@code null}
+     * @param documents        the documents to migrate, must not be {@code null}
+     * @param defaultExecutors resolves the default executor of a domain, must not be {@code null}
+     * @param migrator         migrates the validated batch, must not be {@code null}
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    DefaultBatchRequestBuilder(
+            @NotNull final MigrationService service,
+            @NotNull final Stream<? extends TaggedDynamic> documents,
+            @NotNull final Function<String, Executor> defaultExecutors,
+            @NotNull final BatchMigrator migrator
+    ) {
+        this.service = Preconditions.checkNotNull(service, "service must not be null");
+        this.documents = Preconditions.checkNotNull(documents, "documents must not be null");
+        this.defaultExecutors = Preconditions.checkNotNull(defaultExecutors, "defaultExecutors must not be null");
+        this.migrator = Preconditions.checkNotNull(migrator, "migrator must not be null");
+    }
+
+    /**
+     * Returns a migrator that migrates each document through
+     * {@link MigrationService#migrate(TaggedDynamic)}.
+     *
+     * <p>Single migrations produce no diagnostic report, so the batch result of this
+     * migrator never carries one.</p>
+     *
+     * @param service the service migrating each document, must not be {@code null}
+     * @return the migrator, never {@code null}
+     * @throws NullPointerException if service is {@code null}
+     */
+    @NotNull
+    static BatchMigrator perDocument(@NotNull final MigrationService service) {
+        Preconditions.checkNotNull(service, "service must not be null");
+        return (documents, domain, from, to, ops, diagnostics) -> {
+            final long start = System.nanoTime();
+            final List<MigrationResult> results = new ArrayList<>();
+            documents.forEachOrdered(data -> {
+                final MigrationService.MigrationRequestBuilder request = service.migrate(data)
+                        .usingDomain(domain)
+                        .from(from)
+                        .to(to);
+                if (ops != null) {
+                    request.withOps(ops);
+                }
+                results.add(request.execute());
+            });
+            return BatchMigrationResult.of(domain, from, to, results,
+                    Duration.ofNanos(System.nanoTime() - start));
+        };
+    }
+
+    @Override
+    @NotNull
+    public MigrationService.BatchRequestBuilder from(@NotNull final DataVersion version) {
+        this.fromVersion = Preconditions.checkNotNull(version, "version must not be null");
+        return this;
+    }
+
+    @Override
+    @NotNull
+    public MigrationService.BatchRequestBuilder to(@NotNull final DataVersion version) {
+        this.toVersion = Preconditions.checkNotNull(version, "version must not be null");
+        this.toLatest = false;
+        return this;
+    }
+
+    @Override
+    @NotNull
+    public MigrationService.BatchRequestBuilder toLatest() {
+        this.toLatest = true;
+        this.toVersion = null;
+        return this;
+    }
+
+    @Override
+    @NotNull
+    public MigrationService.BatchRequestBuilder usingDomain(@NotNull final String domain) {
+        this.domain = Preconditions.checkNotNull(domain, "domain must not be null");
+        return this;
+    }
+
+    @Override
+    @NotNull
+    public <T> MigrationService.BatchRequestBuilder withOps(@NotNull final DynamicOps<T> ops) {
+        this.ops = Preconditions.checkNotNull(ops, "ops must not be null");
+        return this;
+    }
+
+    @Override
+    @NotNull
+    public MigrationService.BatchRequestBuilder executeOn(@NotNull final Executor executor) {
+        this.executor = Preconditions.checkNotNull(executor, "executor must not be null");
+        return this;
+    }
+
+    @Override
+    @NotNull
+    public MigrationService.BatchRequestBuilder withDiagnostics(@NotNull final DiagnosticOptions options) {
+        Preconditions.checkNotNull(options, "options must not be null");
+        Preconditions.checkArgument(!options.isSampling(), "sampled diagnostics produce no per-document report");
+        this.diagnostics = options;
+        return this;
+    }
+
+    @Override
+    @NotNull
+    public BatchMigrationResult execute() {
+        validate();
+        this.executed = true;
+        return migrate();
+    }
+
+    @Override
+    @NotNull
+    public CompletableFuture<BatchMigrationResult> executeAsync() {
+        validate();
+        this.executed = true;
+        final Executor runOn = this.executor != null
+                ? this.executor
+                : this.defaultExecutors.apply(this.domain);
+        return CompletableFuture.supplyAsync(this::migrate, runOn);
+    }
+
+    /**
+     * Resolves the target version and migrates the batch.
+     *
+     * @return the batch result
+     */
+    @NotNull
+    private BatchMigrationResult migrate() {
+        final DataVersion from = this.fromVersion;
+        final DataVersion to = this.toLatest
+                ? this.service.getCurrentVersion(this.domain)
+                : this.toVersion;
+        assert from != null : "fromVersion must be set";
+        assert to != null : "toVersion must be set";
+        return this.migrator.migrate(this.documents, this.domain, from, to, this.ops, this.diagnostics);
+    }
+
+    /**
+     * Validates that all required builder configuration has been provided.
+     *
+     * @throws IllegalStateException    if a version is not specified or the batch was already executed
+     * @throws IllegalArgumentException if the specified domain does not exist
+     */
+    private void validate() {
+        if (this.executed) {
+            throw new IllegalStateException("Batch already executed. Start a new batch for further documents.");
+        }
+        if (this.fromVersion == null) {
+            throw new IllegalStateException(
+                    "Source version not specified. Call .from(version) before execute()."
+            );
+        }
+        if (this.toVersion == null && !this.toLatest) {
+            throw new IllegalStateException(
+                    "Target version not specified. Call .to(version) or .toLatest() before execute()."
+            );
+        }
+        if (!this.service.hasDomain(this.domain)) {
+            throw new IllegalArgumentException(
+                    "Unknown domain: '" + this.domain + "'. Available domains: "
+                            + this.service.getAvailableDomains()
+            );
+        }
+    }
+
+    /**
+     * Migrates a validated batch.
+     *
+     * @author Erik Pförtner
+     * @since 0.6.0
+     */
+    @FunctionalInterface
+    interface BatchMigrator {
+
+        /**
+         * Migrates every document of the batch.
+         *
+         * @param documents   the documents to migrate
+         * @param domain      the validated domain
+         * @param from        the source version
+         * @param to          the resolved target version
+         * @param ops         the DynamicOps to convert documents to, or {@code null} to keep their format
+         * @param diagnostics the diagnostic options of every document, or {@code null} to collect no report
+         * @return the batch result with one result per document
+         */
+        @NotNull
+        BatchMigrationResult migrate(
+                @NotNull Stream<? extends TaggedDynamic> documents,
+                @NotNull String domain,
+                @NotNull DataVersion from,
+                @NotNull DataVersion to,
+                @Nullable DynamicOps<?> ops,
+                @Nullable DiagnosticOptions diagnostics
+        );
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.spring.service;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.dynamic.DynamicOps;
+import de.splatgames.aether.datafixers.api.dynamic.TaggedDynamic;
+import de.splatgames.aether.datafixers.spring.autoconfigure.DataFixerRegistry;
+import de.splatgames.aether.datafixers.spring.reactive.MigrationProcessor;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.function.Function;
+
+/**
+ * Default implementation of {@link MigrationService.FlowRequestBuilder}.
+ *
+ * <p>The builder captures its configuration when {@link #publish()} is called. Every
+ * subscription to the resulting publisher creates a {@link MigrationProcessor} that
+ * migrates each document through {@link MigrationService#migrate(TaggedDynamic)}, so
+ * metrics, observations and statistics are recorded per document exactly as for
+ * single migrations.</p>
+ *
+ * @author Erik Pförtner
+ * @see MigrationService#migrateFlow(Flow.Publisher)
+ * @since 0.6.0
+ */
+final class DefaultFlowRequestBuilder implements MigrationService.FlowRequestBuilder {
+
+    /**
+     * The service migrating each document.
+     */
+    private final MigrationService service;
+
+    /**
+     * The publisher of documents to migrate.
+     */
+    private final Flow.Publisher<? extends TaggedDynamic> source;
+
+    /**
+     * The source version of every document.
+     */
+    @Nullable
+    private DataVersion fromVersion;
+
+    /**
+     * The explicit target version. Either this or {@link #toLatest} must be set.
+     */
+    @Nullable
+    private DataVersion toVersion;
+
+    /**
+     * Flag indicating whether to migrate to the domain's current version.
+     */
+    private boolean toLatest = false;
+
+    /**
+     * The domain to use for the migration.
+     */
+    private String domain = DataFixerRegistry.DEFAULT_DOMAIN;
+
+    /**
+     * Optional custom DynamicOps implementation for format conversion.
+     */
+    @Nullable
+    private DynamicOps<?> ops;
+
+    /**
+     * Maximum number of concurrent migrations.
+     */
+    private int parallelism = MigrationProcessor.DEFAULT_PARALLELISM;
+
+    /**
+     * Number of documents requested ahead of consumption.
+     */
+    private int prefetch = MigrationProcessor.DEFAULT_PREFETCH;
+
+    /**
+     * Whether results keep the input order.
+     */
+    private boolean ordered = true;
+
+    /**
+     * Resolves the default executor of a domain.
+     */
+    private final Function<String, Executor> defaultExecutors;
+
+    /**
+     * The explicitly configured executor, overriding the domain default.
+     */
+    @Nullable
+    private Executor executor;
+
+    /**
+     * Creates a new builder.
+     *
+     * @param service  the service migrating each document, must not be {@code null}
+     * @param source   the publisher of documents, must not be {@code null}
+     * @param defaultExecutors resolves the default executor of a domain, must not be {@code null}
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    DefaultFlowRequestBuilder(
+            @NotNull final MigrationService service,
+            @NotNull final Flow.Publisher<? extends TaggedDynamic> source,
+            @NotNull final Function<String, Executor> defaultExecutors
+    ) {
+        this.service = Preconditions.checkNotNull(service, "service must not be null");
+        this.source = Preconditions.checkNotNull(source, "source must not be null");
+        this.defaultExecutors = Preconditions.checkNotNull(defaultExecutors, "defaultExecutors must not be null");
+    }
+
+    @Override
+    @NotNull
+    public MigrationService.FlowRequestBuilder from(@NotNull final DataVersion version) {
+        this.fromVersion = Preconditions.checkNotNull(version, "version must not be null");
+        return this;
+    }
+
+    @Override
+    @NotNull
+    public MigrationService.FlowRequestBuilder to(@NotNull final DataVersion version) {
+        this.toVersion = Preconditions.checkNotNull(version, "version must not be null");
+        this.toLatest = false;
+        return this;
+    }
+
+    @Override
+    @NotNull
+    public MigrationService.FlowRequestBuilder toLatest() {
+        this.toLatest = true;
+        this.toVersion = null;
+        return this;
+    }
+
+    @Override
+    @NotNull
+    public MigrationService.FlowRequestBuilder usingDomain(@NotNull final String domain) {
+        this.domain = Preconditions.checkNotNull(domain, "domain must not be null");
+        return this;
+    }
+
+    @Override
+    @NotNull
+    public <T> MigrationService.FlowRequestBuilder withOps(@NotNull final DynamicOps<T> ops) {
+        this.ops = Preconditions.checkNotNull(ops, "ops must not be null");
+        return this;
+    }
+
+    @Override
+    @NotNull
+    public MigrationService.FlowRequestBuilder parallelism(final int parallelism) {
+        Preconditions.checkArgument(parallelism > 0, "parallelism must be positive: %s", parallelism);
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    @Override
+    @NotNull
+    public MigrationService.FlowRequestBuilder prefetch(final int prefetch) {
+        Preconditions.checkArgument(prefetch > 0, "prefetch must be positive: %s", prefetch);
+        this.prefetch = prefetch;
+        return this;
+    }
+
+    @Override
+    @NotNull
+    public MigrationService.FlowRequestBuilder ordered(final boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    @Override
+    @NotNull
+    public MigrationService.FlowRequestBuilder executeOn(@NotNull final Executor executor) {
+        this.executor = Preconditions.checkNotNull(executor, "executor must not be null");
+        return this;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The configuration is validated eagerly, so a misconfigured stream fails here
+     * rather than with an error signal after subscription.</p>
+     *
+     * @return the publisher of migration results, never {@code null}
+     * @throws IllegalStateException    if required configuration is missing
+     * @throws IllegalArgumentException if the specified domain does not exist
+     */
+    @Override
+    @NotNull
+    public Flow.Publisher<MigrationResult> publish() {
+        validate();
+        final Function<TaggedDynamic, MigrationResult> migration = migration();
+        final Flow.Publisher<? extends TaggedDynamic> upstream = this.source;
+        final Executor runOn = this.executor != null
+                ? this.executor
+                : this.defaultExecutors.apply(this.domain);
+        final int maxParallelism = this.parallelism;
+        final int window = this.prefetch;
+        final boolean keepOrder = this.ordered;
+        return subscriber -> {
+            final MigrationProcessor processor =
+                    new MigrationProcessor(migration, runOn, maxParallelism, window, keepOrder);
+            processor.subscribe(subscriber);
+            upstream.subscribe(processor);
+        };
+    }
+
+    /**
+     * Creates the per-document migration from the captured configuration.
+     *
+     * @return the function migrating a single document
+     */
+    @NotNull
+    private Function<TaggedDynamic, MigrationResult> migration() {
+        final DataVersion from = this.fromVersion;
+        final DataVersion to = this.toVersion;
+        final boolean latest = this.toLatest;
+        final String targetDomain = this.domain;
+        final DynamicOps<?> targetOps = this.ops;
+        return data -> {
+            final MigrationService.MigrationRequestBuilder request = this.service.migrate(data)
+                    .usingDomain(targetDomain)
+                    .from(from);
+            if (latest) {
+                request.toLatest();
+            } else {
+                request.to(to);
+            }
+            if (targetOps != null) {
+                request.withOps(targetOps);
+            }
+            return request.execute();
+        };
+    }
+
+    /**
+     * Validates that all required builder configuration has been provided.
+     *
+     * @throws IllegalStateException    if source or target version is not specified
+     * @throws IllegalArgumentException if the specified domain does not exist
+     */
+    private void validate() {
+        if (this.fromVersion == null) {
+            throw new IllegalStateException(
+                    "Source version not specified. Call .from(version) before publish()."
+            );
+        }
+        if (this.toVersion == null && !this.toLatest) {
+            throw new IllegalStateException(
+                    "Target version not specified. Call .to(version) or .toLatest() before publish()."
+            );
+        }
+        if (!this.service.hasDomain(this.domain)) {
+            throw new IllegalArgumentException(
+                    "Unknown domain: '" + this.domain + "'. Available domains: "
+                            + this.service.getAvailableDomains()
+            );
+        }
+    }
+}
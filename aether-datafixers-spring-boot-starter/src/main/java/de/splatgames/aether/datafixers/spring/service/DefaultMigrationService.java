@@ -24,11 +24,19 @@ package de.splatgames.aether.datafixers.spring.service;
 
 import com.google.common.base.Preconditions;
 import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.diagnostic.DiagnosticContext;
+import de.splatgames.aether.datafixers.api.diagnostic.DiagnosticOptions;
 import de.splatgames.aether.datafixers.api.dynamic.DynamicOps;
 import de.splatgames.aether.datafixers.api.dynamic.TaggedDynamic;
 import de.splatgames.aether.datafixers.core.AetherDataFixer;
+import de.splatgames.aether.datafixers.core.diagnostic.MigrationReportAggregator;
+import de.splatgames.aether.datafixers.spring.async.MigrationExecutors;
 import de.splatgames.aether.datafixers.spring.autoconfigure.DataFixerRegistry;
+import de.splatgames.aether.datafixers.spring.cache.MigrationCacheKey;
+import de.splatgames.aether.datafixers.spring.cache.MigrationResultCache;
 import de.splatgames.aether.datafixers.spring.metrics.MigrationMetrics;
+import de.splatgames.aether.datafixers.spring.observation.MigrationObservations;
+import de.splatgames.aether.datafixers.spring.statistics.MigrationStatistics;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -37,10 +45,15 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
 import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Default implementation of {@link MigrationService}.
@@ -54,7 +67,16 @@ import java.util.concurrent.ForkJoinPool;
  * <ul>
  *   <li><strong>Multi-Domain Support:</strong> Automatically resolves DataFixers from the registry</li>
  *   <li><strong>Metrics Integration:</strong> Records success/failure counts, timing, and version spans</li>
+ *   <li><strong>Tracing:</strong> Optionally runs each migration inside a Micrometer observation</li>
+ *   <li><strong>Live Statistics:</strong> Optionally feeds throughput, latency and queue depth
+ *       to {@link MigrationStatistics}</li>
  *   <li><strong>Async Support:</strong> Non-blocking migrations using configurable executor</li>
+ *   <li><strong>Streaming:</strong> Backpressured migration of {@link Flow.Publisher} streams
+ *       with bounded parallelism on the same executor</li>
+ *   <li><strong>Batching:</strong> Migration of many documents with a single validation,
+ *       DataFixer lookup, observation and metrics sample</li>
+ *   <li><strong>Result Cache:</strong> Optionally serves repeated migrations of identical
+ *       payloads from a {@link MigrationResultCache}</li>
  *   <li><strong>Comprehensive Logging:</strong> Debug and error logging for troubleshooting</li>
  *   <li><strong>Validation:</strong> Validates configuration before execution</li>
  * </ul>
@@ -125,9 +147,27 @@ public class DefaultMigrationService implements MigrationService {
     private final MigrationMetrics metrics;
 
     /**
-     * Executor used for asynchronous migration operations.
+     * Resolves the executor used for asynchronous migration operations in a domain.
      */
-    private final Executor asyncExecutor;
+    private final Function<String, Executor> asyncExecutors;
+
+    /**
+     * Optional observation support. May be null if no observation registry is available.
+     */
+    @Nullable
+    private final MigrationObservations observations;
+
+    /**
+     * Optional live statistics recorder. May be null if statistics are disabled.
+     */
+    @Nullable
+    private final MigrationStatistics statistics;
+
+    /**
+     * Optional result cache. May be null if caching is disabled.
+     */
+    @Nullable
+    private final MigrationResultCache cache;
 
     /**
      * Creates a new DefaultMigrationService with the common ForkJoinPool for async operations.
@@ -168,9 +208,121 @@ public class DefaultMigrationService implements MigrationService {
             @Nullable final MigrationMetrics metrics,
             @NotNull final Executor asyncExecutor
     ) {
+        this(registry, metrics, asyncExecutor, null);
+    }
+
+    /**
+     * Creates a new DefaultMigrationService that additionally observes each migration.
+     *
+     * <p>Every executed migration runs inside a Micrometer observation created by
+     * {@code observations}, which appears as a span in distributed traces when a tracing
+     * bridge is configured.</p>
+     *
+     * @param registry      the DataFixer registry for looking up domain fixers, must not be {@code null}
+     * @param metrics       the metrics recorder for tracking migration statistics, may be {@code null}
+     * @param asyncExecutor the executor for async operations, must not be {@code null}
+     * @param observations  the observation support, may be {@code null}
+     * @throws NullPointerException if registry or asyncExecutor is {@code null}
+     * @since 0.6.0
+     */
+    public DefaultMigrationService(
+            @NotNull final DataFixerRegistry registry,
+            @Nullable final MigrationMetrics metrics,
+            @NotNull final Executor asyncExecutor,
+            @Nullable final MigrationObservations observations
+    ) {
+        this(registry, metrics, asyncExecutor, observations, null);
+    }
+
+    /**
+     * Creates a new DefaultMigrationService that additionally records live statistics.
+     *
+     * <p>Every executed migration, and every asynchronous migration while it waits for the
+     * executor, is reported to {@code statistics}, which backs the live section of the
+     * {@code datafixers} actuator endpoint.</p>
+     *
+     * @param registry      the DataFixer registry for looking up domain fixers, must not be {@code null}
+     * @param metrics       the metrics recorder for tracking migration statistics, may be {@code null}
+     * @param asyncExecutor the executor for async operations, must not be {@code null}
+     * @param observations  the observation support, may be {@code null}
+     * @param statistics    the live statistics recorder, may be {@code null}
+     * @throws NullPointerException if registry or asyncExecutor is {@code null}
+     * @since 0.6.0
+     */
+    public DefaultMigrationService(
+            @NotNull final DataFixerRegistry registry,
+            @Nullable final MigrationMetrics metrics,
+            @NotNull final Executor asyncExecutor,
+            @Nullable final MigrationObservations observations,
+            @Nullable final MigrationStatistics statistics
+    ) {
+        Preconditions.checkNotNull(asyncExecutor, "asyncExecutor must not be null");
+        this.registry = Preconditions.checkNotNull(registry, "registry must not be null");
+        this.metrics = metrics;
+        this.asyncExecutors = domain -> asyncExecutor;
+        this.observations = observations;
+        this.statistics = statistics;
+        this.cache = null;
+    }
+
+    /**
+     * Creates a new DefaultMigrationService that runs asynchronous migrations on
+     * dedicated, possibly per-domain executors.
+     *
+     * <p>Each asynchronous or streaming migration runs on
+     * {@link MigrationExecutors#executorFor(String)} of its domain, so with per-domain
+     * executors a backlog in one domain does not delay the others.</p>
+     *
+     * @param registry     the DataFixer registry for looking up domain fixers, must not be {@code null}
+     * @param metrics      the metrics recorder for tracking migration statistics, may be {@code null}
+     * @param executors    the migration executors, must not be {@code null}
+     * @param observations the observation support, may be {@code null}
+     * @param statistics   the live statistics recorder, may be {@code null}
+     * @throws NullPointerException if registry or executors is {@code null}
+     * @since 0.6.0
+     */
+    public DefaultMigrationService(
+            @NotNull final DataFixerRegistry registry,
+            @Nullable final MigrationMetrics metrics,
+            @NotNull final MigrationExecutors executors,
+            @Nullable final MigrationObservations observations,
+            @Nullable final MigrationStatistics statistics
+    ) {
+        this(registry, metrics, executors, observations, statistics, null);
+    }
+
+    /**
+     * Creates a new DefaultMigrationService that additionally caches migration results.
+     *
+     * <p>Before running the fix chain, every migration looks up its
+     * {@link MigrationCacheKey} in {@code cache}; a hit is returned as a successful result
+     * without migrating, and every successful migration is stored. Failures are never
+     * cached.</p>
+     *
+     * @param registry     the DataFixer registry for looking up domain fixers, must not be {@code null}
+     * @param metrics      the metrics recorder for tracking migration statistics, may be {@code null}
+     * @param executors    the migration executors, must not be {@code null}
+     * @param observations the observation support, may be {@code null}
+     * @param statistics   the live statistics recorder, may be {@code null}
+     * @param cache        the result cache, may be {@code null}
+     * @throws NullPointerException if registry or executors is {@code null}
+     * @since 0.6.0
+     */
+    public DefaultMigrationService(
+            @NotNull final DataFixerRegistry registry,
+            @Nullable final MigrationMetrics metrics,
+            @NotNull final MigrationExecutors executors,
+            @Nullable final MigrationObservations observations,
+            @Nullable final MigrationStatistics statistics,
+            @Nullable final MigrationResultCache cache
+    ) {
+        Preconditions.checkNotNull(executors, "executors must not be null");
         this.registry = Preconditions.checkNotNull(registry, "registry must not be null");
         this.metrics = metrics;
-        this.asyncExecutor = Preconditions.checkNotNull(asyncExecutor, "asyncExecutor must not be null");
+        this.asyncExecutors = executors::executorFor;
+        this.observations = observations;
+        this.statistics = statistics;
+        this.cache = cache;
     }
 
     /**
@@ -190,6 +342,46 @@ public class DefaultMigrationService implements MigrationService {
         return new DefaultMigrationRequestBuilder(data);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Migrations run on this service's async executor for the selected domain unless
+     * another executor is configured on the returned builder.</p>
+     *
+     * @param source the publisher of documents to migrate, must not be {@code null}
+     * @return a builder for configuring the streaming migration
+     * @throws NullPointerException if source is {@code null}
+     * @since 0.6.0
+     */
+    @Override
+    @NotNull
+    public FlowRequestBuilder migrateFlow(@NotNull final Flow.Publisher<? extends TaggedDynamic> source) {
+        Preconditions.checkNotNull(source, "source must not be null");
+        return new DefaultFlowRequestBuilder(this, source, this.asyncExecutors);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The batch is validated and its DataFixer resolved once. Documents are migrated
+     * sequentially, the whole batch runs inside one observation, and metrics are recorded
+     * as one aggregated sample via
+     * {@link MigrationMetrics#recordBatch(String, int, int, int, java.util.Collection, Duration)}.
+     * Live statistics still count every document. Asynchronous batches run on this service's
+     * async executor for the selected domain.</p>
+     *
+     * @param documents the documents to migrate, must not be {@code null}
+     * @return a builder for configuring the batch migration
+     * @throws NullPointerException if documents is {@code null}
+     * @since 0.6.0
+     */
+    @Override
+    @NotNull
+    public BatchRequestBuilder migrateStream(@NotNull final Stream<? extends TaggedDynamic> documents) {
+        Preconditions.checkNotNull(documents, "documents must not be null");
+        return new DefaultBatchRequestBuilder(this, documents, this.asyncExecutors, this::migrateBatch);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -242,6 +434,183 @@ public class DefaultMigrationService implements MigrationService {
         return this.registry.getDomains();
     }
 
+    /**
+     * Migrates a validated batch with a shared DataFixer.
+     *
+     * @param documents the documents to migrate
+     * @param domain    the validated domain
+     * @param from      the source version
+     * @param to        the resolved target version
+     * @param ops         the DynamicOps to convert documents to, or {@code null}
+     * @param diagnostics the diagnostic options of every document, or {@code null}
+     * @return the batch result
+     */
+    @NotNull
+    private BatchMigrationResult migrateBatch(
+            @NotNull final Stream<? extends TaggedDynamic> documents,
+            @NotNull final String domain,
+            @NotNull final DataVersion from,
+            @NotNull final DataVersion to,
+            @Nullable final DynamicOps<?> ops,
+            @Nullable final DiagnosticOptions diagnostics
+    ) {
+        final AetherDataFixer fixer = this.registry.require(domain);
+
+        LOG.debug("Starting batch migration from v{} to v{} in domain '{}'",
+                from.getVersion(), to.getVersion(), domain);
+
+        final long start = System.nanoTime();
+        final int[] cacheHits = new int[1];
+        final DocumentReports reports = diagnostics != null
+                ? new DocumentReports(diagnostics, new MigrationReportAggregator())
+                : null;
+        final List<MigrationResult> results = this.observations != null
+                ? this.observations.observeBatch(domain, from, to,
+                        () -> migrateDocuments(fixer, documents, domain, from, to, ops, reports, cacheHits))
+                : migrateDocuments(fixer, documents, domain, from, to, ops, reports, cacheHits);
+        final Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        final BatchMigrationResult batch = BatchMigrationResult.of(domain, from, to, results, duration,
+                reports != null ? reports.aggregator().snapshot() : null);
+
+        if (this.metrics != null) {
+            final List<Throwable> errors = new ArrayList<>(batch.getFailureCount());
+            for (final MigrationResult failure : batch.getFailures()) {
+                failure.getError().ifPresent(errors::add);
+            }
+            this.metrics.recordBatch(domain, from.getVersion(), to.getVersion(),
+                    batch.getSuccessCount() - cacheHits[0], errors, duration);
+        }
+
+        if (batch.isAllSuccessful()) {
+            LOG.debug("Batch migration of {} documents completed successfully in {}ms",
+                    batch.size(), duration.toMillis());
+        } else {
+            LOG.warn("Batch migration from v{} to v{} in domain '{}': {} of {} documents failed",
+                    from.getVersion(), to.getVersion(), domain, batch.getFailureCount(), batch.size());
+        }
+        return batch;
+    }
+
+    /**
+     * Migrates each document of a batch, capturing failures per document.
+     *
+     * @param fixer     the shared DataFixer of the domain
+     * @param documents the documents to migrate
+     * @param domain    the domain name
+     * @param from      the source version
+     * @param to        the target version
+     * @param ops       the DynamicOps to convert documents to, or {@code null}
+     * @param reports   collects the diagnostic report of every migrated document, or {@code null}
+     * @param cacheHits single-element holder incremented for every document served from the cache
+     * @return the per-document results in input order
+     */
+    @NotNull
+    private List<MigrationResult> migrateDocuments(
+            @NotNull final AetherDataFixer fixer,
+            @NotNull final Stream<? extends TaggedDynamic> documents,
+            @NotNull final String domain,
+            @NotNull final DataVersion from,
+            @NotNull final DataVersion to,
+            @Nullable final DynamicOps<?> ops,
+            @Nullable final DocumentReports reports,
+            @NotNull final int[] cacheHits
+    ) {
+        @SuppressWarnings("unchecked")
+        final DynamicOps<Object> targetOps = (DynamicOps<Object>) ops;
+        final MigrationStatistics statistics = this.statistics;
+        final List<MigrationResult> results = new ArrayList<>();
+
+        documents.forEachOrdered(data -> {
+            Preconditions.checkNotNull(data, "documents must not contain null");
+            if (statistics != null) {
+                statistics.migrationStarted(domain);
+            }
+            final long start = System.nanoTime();
+            try {
+                final TaggedDynamic input = targetOps != null
+                        ? new TaggedDynamic(data.type(), data.value().convert(targetOps))
+                        : data;
+                final MigrationCacheKey cacheKey = this.cache != null
+                        ? MigrationCacheKey.of(domain, input, from, to)
+                        : null;
+                TaggedDynamic migrated = cacheKey != null ? cachedResult(cacheKey) : null;
+                if (migrated != null) {
+                    cacheHits[0]++;
+                } else if (reports != null) {
+                    final DiagnosticContext context = DiagnosticContext.create(reports.options());
+                    migrated = fixer.update(input, from, to, context);
+                    reports.aggregator().add(context.getReport());
+                    if (cacheKey != null) {
+                        cacheResult(cacheKey, migrated);
+                    }
+                } else {
+                    migrated = fixer.update(input, from, to);
+                    if (cacheKey != null) {
+                        cacheResult(cacheKey, migrated);
+                    }
+                }
+                final long nanos = System.nanoTime() - start;
+                if (statistics != null) {
+                    statistics.recordSuccess(domain, nanos);
+                }
+                results.add(MigrationResult.success(migrated, from, to, domain, Duration.ofNanos(nanos)));
+            } catch (final Exception e) {
+                final long nanos = System.nanoTime() - start;
+                LOG.debug("Batch migration of document {} failed: {}", results.size(), e.getMessage(), e);
+                if (statistics != null) {
+                    statistics.recordFailure(domain, nanos);
+                }
+                results.add(MigrationResult.failure(from, to, domain, Duration.ofNanos(nanos), e));
+            }
+        });
+        return results;
+    }
+
+    /**
+     * Looks up a migration result in the cache and records the hit or miss.
+     *
+     * <p>A failing cache is treated as a miss, so it never fails the migration.</p>
+     *
+     * @param key the cache key
+     * @return the cached result, or {@code null} on a miss
+     */
+    @Nullable
+    private TaggedDynamic cachedResult(@NotNull final MigrationCacheKey key) {
+        final MigrationResultCache resultCache = this.cache;
+        assert resultCache != null : "cache must be configured";
+        TaggedDynamic cached;
+        try {
+            cached = resultCache.get(key);
+        } catch (final RuntimeException e) {
+            LOG.warn("Migration result cache lookup failed in domain '{}': {}", key.domain(), e.getMessage(), e);
+            cached = null;
+        }
+        if (this.metrics != null) {
+            if (cached != null) {
+                this.metrics.recordCacheHit(key.domain());
+            } else {
+                this.metrics.recordCacheMiss(key.domain());
+            }
+        }
+        return cached;
+    }
+
+    /**
+     * Stores a successful migration result in the cache, ignoring cache failures.
+     *
+     * @param key    the cache key
+     * @param result the migrated data
+     */
+    private void cacheResult(@NotNull final MigrationCacheKey key, @NotNull final TaggedDynamic result) {
+        final MigrationResultCache resultCache = this.cache;
+        assert resultCache != null : "cache must be configured";
+        try {
+            resultCache.put(key, result);
+        } catch (final RuntimeException e) {
+            LOG.warn("Migration result cache update failed in domain '{}': {}", key.domain(), e.getMessage(), e);
+        }
+    }
+
     /**
      * Internal implementation of the migration request builder.
      *
@@ -392,8 +761,9 @@ public class DefaultMigrationService implements MigrationService {
          *   <li>Resolves the DataFixer from the registry</li>
          *   <li>Resolves the target version if "toLatest" was specified</li>
          *   <li>Converts the input data to the specified DynamicOps format (if configured)</li>
-         *   <li>Executes the migration with timing</li>
-         *   <li>Records metrics if available</li>
+         *   <li>Returns a cached result for identical input, if a result cache is configured</li>
+         *   <li>Executes the migration with timing, inside an observation if configured</li>
+         *   <li>Records metrics and live statistics if available</li>
          *   <li>Returns a success or failure result</li>
          * </ol>
          *
@@ -416,22 +786,52 @@ public class DefaultMigrationService implements MigrationService {
             LOG.debug("Starting migration from v{} to v{} in domain '{}'",
                     from.getVersion(), to.getVersion(), this.domain);
 
+            final MigrationStatistics statistics = DefaultMigrationService.this.statistics;
+            if (statistics != null) {
+                statistics.migrationStarted(this.domain);
+            }
             final Instant start = Instant.now();
 
             try {
                 // Convert to target format if custom ops are specified
                 final TaggedDynamic inputData = convertToTargetOps(this.data);
 
-                final TaggedDynamic result = fixer.update(inputData, from, to);
+                final MigrationCacheKey cacheKey = DefaultMigrationService.this.cache != null
+                        ? MigrationCacheKey.of(this.domain, inputData, from, to)
+                        : null;
+                if (cacheKey != null) {
+                    final TaggedDynamic cached = cachedResult(cacheKey);
+                    if (cached != null) {
+                        final Duration duration = Duration.between(start, Instant.now());
+                        LOG.debug("Migration served from cache in {}ms", duration.toMillis());
+                        if (statistics != null) {
+                            statistics.recordSuccess(this.domain, duration.toNanos());
+                        }
+                        return MigrationResult.success(cached, from, to, this.domain, duration);
+                    }
+                }
+
+                final MigrationObservations observations = DefaultMigrationService.this.observations;
+                final TaggedDynamic result = observations != null
+                        ? observations.observe(this.domain, inputData.type(), from, to,
+                                () -> fixer.update(inputData, from, to))
+                        : fixer.update(inputData, from, to);
                 final Duration duration = Duration.between(start, Instant.now());
 
                 LOG.debug("Migration completed successfully in {}ms", duration.toMillis());
 
+                if (cacheKey != null) {
+                    cacheResult(cacheKey, result);
+                }
+
                 // Record metrics
                 if (DefaultMigrationService.this.metrics != null) {
                     DefaultMigrationService.this.metrics.recordSuccess(
                             this.domain, from.getVersion(), to.getVersion(), duration);
                 }
+                if (statistics != null) {
+                    statistics.recordSuccess(this.domain, duration.toNanos());
+                }
 
                 return MigrationResult.success(result, from, to, this.domain, duration);
 
@@ -446,6 +846,9 @@ public class DefaultMigrationService implements MigrationService {
                     DefaultMigrationService.this.metrics.recordFailure(
                             this.domain, from.getVersion(), to.getVersion(), duration, e);
                 }
+                if (statistics != null) {
+                    statistics.recordFailure(this.domain, duration.toNanos());
+                }
 
                 return MigrationResult.failure(from, to, this.domain, duration, e);
             }
@@ -479,8 +882,9 @@ public class DefaultMigrationService implements MigrationService {
         /**
          * {@inheritDoc}
          *
-         * <p>Executes the migration asynchronously using the service's configured executor.
-         * The returned future will complete with the migration result.</p>
+         * <p>Executes the migration asynchronously using the service's executor for the domain.
+         * The returned future will complete with the migration result. While the migration
+         * waits for the executor it is counted as queued in the live statistics.</p>
          *
          * @return a future containing the migration result, never {@code null}
          * @throws IllegalStateException    if required configuration is missing
@@ -489,7 +893,22 @@ public class DefaultMigrationService implements MigrationService {
         @Override
         @NotNull
         public CompletableFuture<MigrationResult> executeAsync() {
-            return CompletableFuture.supplyAsync(this::execute, DefaultMigrationService.this.asyncExecutor);
+            final MigrationStatistics statistics = DefaultMigrationService.this.statistics;
+            final Executor executor = DefaultMigrationService.this.asyncExecutors.apply(this.domain);
+            if (statistics == null) {
+                return CompletableFuture.supplyAsync(this::execute, executor);
+            }
+            final String queuedDomain = this.domain;
+            statistics.migrationQueued(queuedDomain);
+            try {
+                return CompletableFuture.supplyAsync(() -> {
+                    statistics.migrationDequeued(queuedDomain);
+                    return execute();
+                }, executor);
+            } catch (final RuntimeException e) {
+                statistics.migrationDequeued(queuedDomain);
+                throw e;
+            }
         }
 
         /**
@@ -517,4 +936,16 @@ public class DefaultMigrationService implements MigrationService {
             }
         }
     }
+
+    /**
+     * Diagnostic options of a batch and the aggregator its document reports are folded into.
+     *
+     * @param options    the diagnostic options of every document
+     * @param aggregator the aggregator of the batch
+     */
+    private record DocumentReports(
+            @NotNull DiagnosticOptions options,
+            @NotNull MigrationReportAggregator aggregator
+    ) {
+    }
 }
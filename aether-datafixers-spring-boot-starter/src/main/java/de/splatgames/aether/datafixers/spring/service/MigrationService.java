@@ -23,12 +23,19 @@
 package de.splatgames.aether.datafixers.spring.service;
 
 import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.diagnostic.DiagnosticOptions;
 import de.splatgames.aether.datafixers.api.dynamic.DynamicOps;
 import de.splatgames.aether.datafixers.api.dynamic.TaggedDynamic;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 /**
  * Service interface for performing data migrations with a fluent builder API.
@@ -117,6 +124,33 @@ import java.util.concurrent.CompletableFuture;
  * MigrationResult result = future.get(30, TimeUnit.SECONDS);
  * }</pre>
  *
+ * <h2>Streaming Execution</h2>
+ * <p>A stream of documents, such as the rows of a paginated database cursor, is migrated
+ * through {@link #migrateFlow(Flow.Publisher)}. The returned publisher honours downstream
+ * demand and only pulls as many documents from the source as it can buffer:</p>
+ * <pre>{@code
+ * Flow.Publisher<MigrationResult> results = migrationService
+ *     .migrateFlow(cursorPublisher)
+ *     .from(100)
+ *     .toLatest()
+ *     .parallelism(8)
+ *     .prefetch(256)
+ *     .publish();
+ * }</pre>
+ *
+ * <h2>Batch Execution</h2>
+ * <p>Bulk handlers, such as a Kafka listener receiving a poll of records, migrate many
+ * documents of the same version at once through {@link #migrateAll(Collection)} or
+ * {@link #migrateStream(Stream)}. The request is validated and the DataFixer resolved once
+ * for the whole batch, and every document's outcome is reported individually:</p>
+ * <pre>{@code
+ * BatchMigrationResult batch = migrationService
+ *     .migrateAll(records)
+ *     .from(100)
+ *     .toLatest()
+ *     .execute();
+ * }</pre>
+ *
  * <h2>Error Handling</h2>
  * <pre>{@code
  * MigrationResult result = migrationService
@@ -143,6 +177,8 @@ import java.util.concurrent.CompletableFuture;
  * @author Erik Pförtner
  * @see MigrationResult
  * @see MigrationRequestBuilder
+ * @see FlowRequestBuilder
+ * @see BatchRequestBuilder
  * @see DefaultMigrationService
  * @see de.splatgames.aether.datafixers.spring.autoconfigure.DataFixerRegistry
  * @since 0.4.0
@@ -173,6 +209,71 @@ public interface MigrationService {
     @NotNull
     MigrationRequestBuilder migrate(@NotNull TaggedDynamic data);
 
+    /**
+     * Starts a streaming migration request builder for a publisher of tagged data.
+     *
+     * <p>The configured request publishes one {@link MigrationResult} per document
+     * emitted by {@code source}, migrating up to {@link FlowRequestBuilder#parallelism(int)}
+     * documents concurrently. Demand from the result subscriber propagates to
+     * {@code source}: documents are requested in batches of at most
+     * {@link FlowRequestBuilder#prefetch(int)} and only as results are consumed.</p>
+     *
+     * <p>The default implementation migrates each document through
+     * {@link #migrate(TaggedDynamic)} on the common {@link ForkJoinPool} unless an
+     * executor is configured via {@link FlowRequestBuilder#executeOn(Executor)};
+     * {@link DefaultMigrationService} uses its configured async executor for the
+     * selected domain instead.</p>
+     *
+     * @param source the publisher of documents to migrate, must not be {@code null}
+     * @return a builder for configuring the streaming migration
+     * @throws NullPointerException if source is {@code null}
+     * @since 0.6.0
+     */
+    @NotNull
+    default FlowRequestBuilder migrateFlow(@NotNull final Flow.Publisher<? extends TaggedDynamic> source) {
+        return new DefaultFlowRequestBuilder(this, source, domain -> ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Starts a batch migration request builder for a collection of tagged data.
+     *
+     * <p>All documents share the version and domain configuration of the builder. The
+     * collection is copied, so later modifications do not affect the batch. The result
+     * holds one {@link MigrationResult} per document in iteration order.</p>
+     *
+     * <p>The default implementation migrates each document through
+     * {@link #migrate(TaggedDynamic)}; {@link DefaultMigrationService} validates the request
+     * and resolves the DataFixer once for the whole batch and records aggregated batch
+     * metrics instead.</p>
+     *
+     * @param documents the documents to migrate, must not be {@code null} or contain {@code null}
+     * @return a builder for configuring the batch migration
+     * @throws NullPointerException if documents is {@code null} or contains {@code null}
+     * @since 0.6.0
+     */
+    @NotNull
+    default BatchRequestBuilder migrateAll(@NotNull final Collection<? extends TaggedDynamic> documents) {
+        return migrateStream(List.copyOf(documents).stream());
+    }
+
+    /**
+     * Starts a batch migration request builder for a stream of tagged data.
+     *
+     * <p>Behaves like {@link #migrateAll(Collection)}, except that the stream is consumed
+     * lazily when the batch executes, so the returned builder can be executed only once.
+     * A {@code null} element fails the execution with a {@link NullPointerException}.</p>
+     *
+     * @param documents the documents to migrate, must not be {@code null}
+     * @return a builder for configuring the batch migration
+     * @throws NullPointerException if documents is {@code null}
+     * @since 0.6.0
+     */
+    @NotNull
+    default BatchRequestBuilder migrateStream(@NotNull final Stream<? extends TaggedDynamic> documents) {
+        return new DefaultBatchRequestBuilder(this, documents, domain -> ForkJoinPool.commonPool(),
+                DefaultBatchRequestBuilder.perDocument(this));
+    }
+
     /**
      * Returns the current (latest) version for the default domain.
      *
@@ -397,7 +498,7 @@ public interface MigrationService {
          *
          * <p>This method returns immediately with a {@link CompletableFuture} that
          * will complete when the migration finishes. The migration runs on a
-         * background thread (typically from the common ForkJoinPool).</p>
+         * background thread of the service's migration executor.</p>
          *
          * <p><b>Error Handling</b></p>
          * <p>Migration errors are captured in the {@link MigrationResult}, not as
@@ -426,4 +527,335 @@ public interface MigrationService {
         @NotNull
         CompletableFuture<MigrationResult> executeAsync();
     }
+
+    /**
+     * Builder interface for configuring streaming migrations.
+     *
+     * <p>The version and domain configuration mirrors {@link MigrationRequestBuilder} and
+     * applies to every document of the stream. In addition, the builder controls how the
+     * stream is processed:</p>
+     * <ul>
+     *   <li>{@link #parallelism(int)} - Maximum number of concurrent migrations</li>
+     *   <li>{@link #prefetch(int)} - Number of documents requested ahead of consumption</li>
+     *   <li>{@link #ordered(boolean)} - Whether results keep the input order (default)</li>
+     *   <li>{@link #executeOn(Executor)} - Executor running the migrations</li>
+     * </ul>
+     *
+     * <h2>Example</h2>
+     * <pre>{@code
+     * Flow.Publisher<MigrationResult> results = service.migrateFlow(source)
+     *     .usingDomain("game")
+     *     .from(100)
+     *     .toLatest()
+     *     .parallelism(4)
+     *     .ordered(false)
+     *     .publish();
+     * results.subscribe(writer);
+     * }</pre>
+     *
+     * <h2>Thread Safety</h2>
+     * <p>Builder instances are NOT thread-safe. The publisher returned by
+     * {@link #publish()} is thread-safe and may be subscribed to several times; every
+     * subscription subscribes to the source anew.</p>
+     *
+     * @author Erik Pförtner
+     * @see MigrationService#migrateFlow(Flow.Publisher)
+     * @see de.splatgames.aether.datafixers.spring.reactive.MigrationProcessor
+     * @since 0.6.0
+     */
+    interface FlowRequestBuilder {
+
+        /**
+         * Specifies the source data version of every document in the stream.
+         *
+         * @param version the source data version, must not be {@code null}
+         * @return this builder for method chaining
+         * @throws NullPointerException if version is {@code null}
+         */
+        @NotNull
+        FlowRequestBuilder from(@NotNull DataVersion version);
+
+        /**
+         * Specifies the source data version by integer value.
+         *
+         * @param version the source version number
+         * @return this builder for method chaining
+         */
+        @NotNull
+        default FlowRequestBuilder from(final int version) {
+            return from(new DataVersion(version));
+        }
+
+        /**
+         * Specifies the target data version of the migration.
+         *
+         * @param version the target data version, must not be {@code null}
+         * @return this builder for method chaining
+         * @throws NullPointerException if version is {@code null}
+         */
+        @NotNull
+        FlowRequestBuilder to(@NotNull DataVersion version);
+
+        /**
+         * Specifies the target data version by integer value.
+         *
+         * @param version the target version number
+         * @return this builder for method chaining
+         */
+        @NotNull
+        default FlowRequestBuilder to(final int version) {
+            return to(new DataVersion(version));
+        }
+
+        /**
+         * Configures the migration to target the latest version of the selected domain.
+         *
+         * @return this builder for method chaining
+         */
+        @NotNull
+        FlowRequestBuilder toLatest();
+
+        /**
+         * Specifies which domain's DataFixer to use for the migration.
+         *
+         * @param domain the domain name, must not be {@code null}
+         * @return this builder for method chaining
+         * @throws NullPointerException if domain is {@code null}
+         */
+        @NotNull
+        FlowRequestBuilder usingDomain(@NotNull String domain);
+
+        /**
+         * Specifies custom DynamicOps to convert every document to before migration.
+         *
+         * @param ops the dynamic ops implementation, must not be {@code null}
+         * @param <T> the underlying data type of the DynamicOps
+         * @return this builder for method chaining
+         * @throws NullPointerException if ops is {@code null}
+         */
+        @NotNull
+        <T> FlowRequestBuilder withOps(@NotNull DynamicOps<T> ops);
+
+        /**
+         * Sets the maximum number of documents migrated concurrently.
+         *
+         * <p>Defaults to {@link de.splatgames.aether.datafixers.spring.reactive.MigrationProcessor#DEFAULT_PARALLELISM}.
+         * The bound holds independently of the executor's size, so a shared executor is
+         * never flooded by a single stream.</p>
+         *
+         * @param parallelism the maximum number of concurrent migrations, must be positive
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if parallelism is not positive
+         */
+        @NotNull
+        FlowRequestBuilder parallelism(int parallelism);
+
+        /**
+         * Sets how many documents are requested from the source ahead of consumption.
+         *
+         * <p>Defaults to {@link de.splatgames.aether.datafixers.spring.reactive.MigrationProcessor#DEFAULT_PREFETCH}.
+         * This bounds the number of documents held in memory by the stream, and for a
+         * paginated source it is a natural page size.</p>
+         *
+         * @param prefetch the number of documents requested ahead, must be positive
+         * @return this builder for method chaining
+         * @throws IllegalArgumentException if prefetch is not positive
+         */
+        @NotNull
+        FlowRequestBuilder prefetch(int prefetch);
+
+        /**
+         * Sets whether results are emitted in the order of their input documents.
+         *
+         * <p>Ordered emission is the default. Unordered emission publishes each result as
+         * soon as it completes, so one slow document does not hold back the others.</p>
+         *
+         * @param ordered {@code true} to preserve input order
+         * @return this builder for method chaining
+         */
+        @NotNull
+        FlowRequestBuilder ordered(boolean ordered);
+
+        /**
+         * Sets the executor running the migrations.
+         *
+         * @param executor the executor, must not be {@code null}
+         * @return this builder for method chaining
+         * @throws NullPointerException if executor is {@code null}
+         */
+        @NotNull
+        FlowRequestBuilder executeOn(@NotNull Executor executor);
+
+        /**
+         * Creates the publisher of migration results.
+         *
+         * <p>Nothing is requested from the source until a subscriber subscribes to the
+         * returned publisher. Each subscription creates a new
+         * {@link de.splatgames.aether.datafixers.spring.reactive.MigrationProcessor}
+         * and subscribes it to the source.</p>
+         *
+         * @return the publisher of migration results, never {@code null}
+         * @throws IllegalStateException    if required configuration is missing
+         * @throws IllegalArgumentException if the specified domain does not exist
+         */
+        @NotNull
+        Flow.Publisher<MigrationResult> publish();
+    }
+
+    /**
+     * Builder interface for configuring and executing batch migrations.
+     *
+     * <p>The version and domain configuration mirrors {@link MigrationRequestBuilder} and
+     * applies to every document of the batch. Documents are migrated sequentially on the
+     * calling thread, or on one executor thread for {@link #executeAsync()}; a failing
+     * document is recorded as a failed {@link MigrationResult} and does not abort the
+     * batch.</p>
+     *
+     * <h2>Example</h2>
+     * <pre>{@code
+     * CompletableFuture<BatchMigrationResult> future = service.migrateAll(records)
+     *     .usingDomain("game")
+     *     .from(100)
+     *     .toLatest()
+     *     .executeAsync();
+     * }</pre>
+     *
+     * <h2>Thread Safety</h2>
+     * <p>Builder instances are NOT thread-safe and execute their batch at most once.</p>
+     *
+     * @author Erik Pförtner
+     * @see MigrationService#migrateAll(Collection)
+     * @see MigrationService#migrateStream(Stream)
+     * @see BatchMigrationResult
+     * @since 0.6.0
+     */
+    interface BatchRequestBuilder {
+
+        /**
+         * Specifies the source data version of every document in the batch.
+         *
+         * @param version the source data version, must not be {@code null}
+         * @return this builder for method chaining
+         * @throws NullPointerException if version is {@code null}
+         */
+        @NotNull
+        BatchRequestBuilder from(@NotNull DataVersion version);
+
+        /**
+         * Specifies the source data version by integer value.
+         *
+         * @param version the source version number
+         * @return this builder for method chaining
+         */
+        @NotNull
+        default BatchRequestBuilder from(final int version) {
+            return from(new DataVersion(version));
+        }
+
+        /**
+         * Specifies the target data version of the migration.
+         *
+         * @param version the target data version, must not be {@code null}
+         * @return this builder for method chaining
+         * @throws NullPointerException if version is {@code null}
+         */
+        @NotNull
+        BatchRequestBuilder to(@NotNull DataVersion version);
+
+        /**
+         * Specifies the target data version by integer value.
+         *
+         * @param version the target version number
+         * @return this builder for method chaining
+         */
+        @NotNull
+        default BatchRequestBuilder to(final int version) {
+            return to(new DataVersion(version));
+        }
+
+        /**
+         * Configures the migration to target the latest version of the selected domain.
+         *
+         * @return this builder for method chaining
+         */
+        @NotNull
+        BatchRequestBuilder toLatest();
+
+        /**
+         * Specifies which domain's DataFixer to use for the migration.
+         *
+         * @param domain the domain name, must not be {@code null}
+         * @return this builder for method chaining
+         * @throws NullPointerException if domain is {@code null}
+         */
+        @NotNull
+        BatchRequestBuilder usingDomain(@NotNull String domain);
+
+        /**
+         * Specifies custom DynamicOps to convert every document to before migration.
+         *
+         * @param ops the dynamic ops implementation, must not be {@code null}
+         * @param <T> the underlying data type of the DynamicOps
+         * @return this builder for method chaining
+         * @throws NullPointerException if ops is {@code null}
+         */
+        @NotNull
+        <T> BatchRequestBuilder withOps(@NotNull DynamicOps<T> ops);
+
+        /**
+         * Sets the executor running the batch for {@link #executeAsync()}.
+         *
+         * <p>Defaults to the service's async executor for the selected domain.</p>
+         *
+         * @param executor the executor, must not be {@code null}
+         * @return this builder for method chaining
+         * @throws NullPointerException if executor is {@code null}
+         */
+        @NotNull
+        BatchRequestBuilder executeOn(@NotNull Executor executor);
+
+        /**
+         * Collects a diagnostic report of every document and aggregates them for the batch.
+         *
+         * <p>Each document migrated by the fix chain runs with its own
+         * {@link de.splatgames.aether.datafixers.api.diagnostic.DiagnosticContext}. Its report
+         * is folded into a constant-size
+         * {@link de.splatgames.aether.datafixers.core.diagnostic.AggregatedMigrationReport}
+         * right away and exposed through {@link BatchMigrationResult#getReport()}, so memory
+         * does not grow with the batch size. Documents served from the result cache and failed
+         * documents are not included.</p>
+         *
+         * @param options the diagnostic options of every document, must not be {@code null}
+         * @return this builder for method chaining
+         * @throws NullPointerException     if options is {@code null}
+         * @throws IllegalArgumentException if options select sampling, which produces no reports
+         */
+        @NotNull
+        BatchRequestBuilder withDiagnostics(@NotNull DiagnosticOptions options);
+
+        /**
+         * Executes the batch synchronously on the calling thread.
+         *
+         * @return the batch result with one result per document, never {@code null}
+         * @throws IllegalStateException    if required configuration is missing or the batch
+         *                                  was already executed
+         * @throws IllegalArgumentException if the specified domain does not exist
+         */
+        @NotNull
+        BatchMigrationResult execute();
+
+        /**
+         * Executes the batch asynchronously.
+         *
+         * <p>The configuration is validated before the batch is submitted, so a misconfigured
+         * request fails here rather than with an exceptionally completed future.</p>
+         *
+         * @return a future completing with the batch result, never {@code null}
+         * @throws IllegalStateException    if required configuration is missing or the batch
+         *                                  was already executed
+         * @throws IllegalArgumentException if the specified domain does not exist
+         */
+        @NotNull
+        CompletableFuture<BatchMigrationResult> executeAsync();
+    }
 }
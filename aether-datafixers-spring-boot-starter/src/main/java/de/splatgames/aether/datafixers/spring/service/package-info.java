@@ -33,6 +33,8 @@
  *       - Main service interface with fluent builder API</li>
  *   <li>{@link de.splatgames.aether.datafixers.spring.service.MigrationResult}
  *       - Immutable result object containing migration outcome</li>
+ *   <li>{@link de.splatgames.aether.datafixers.spring.service.BatchMigrationResult}
+ *       - Immutable per-document outcomes of a batch migration</li>
  *   <li>{@link de.splatgames.aether.datafixers.spring.service.DefaultMigrationService}
  *       - Default implementation with metrics and async support</li>
  * </ul>
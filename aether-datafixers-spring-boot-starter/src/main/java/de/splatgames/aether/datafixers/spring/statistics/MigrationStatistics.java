@@ -0,0 +1,581 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.spring.statistics;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.fix.DataFix;
+import de.splatgames.aether.datafixers.core.diagnostic.DurationHistogram;
+import de.splatgames.aether.datafixers.core.fix.MigrationListener;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free recorder of live migration throughput and latency per domain.
+ *
+ * <p>Unlike {@link de.splatgames.aether.datafixers.spring.metrics.MigrationMetrics}, which
+ * publishes cumulative meters to a monitoring backend, this recorder keeps a rolling window
+ * in memory so the {@code datafixers} actuator endpoint can answer "what is happening right
+ * now" during a rollout without any backend.</p>
+ *
+ * <h2>Recorded Statistics</h2>
+ * <ul>
+ *   <li>Migrations, failures and throughput (records per second) over the window</li>
+ *   <li>Mean, p50, p99 and maximum migration latency over the window</li>
+ *   <li>Queued (submitted asynchronously, not yet started) and active migrations</li>
+ *   <li>The slowest fixes by mean duration since startup, fed by {@link #listener(String)}</li>
+ * </ul>
+ *
+ * <h2>Rolling Window</h2>
+ * <p>The window is a ring of one-second slots. Each slot holds {@link LongAdder} counters and
+ * a {@link DurationHistogram} (at most 12.5% relative error). A recorder that finds
+ * a stale slot replaces it with a compare-and-set, so the hot path never blocks; a migration
+ * recorded into a slot that is being replaced in the same instant may be lost, which is
+ * acceptable for live statistics but makes this class unsuitable for accounting.</p>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is thread-safe. Snapshots are weakly consistent: they may miss migrations
+ * recorded concurrently with the snapshot.</p>
+ *
+ * @author Erik Pförtner
+ * @see de.splatgames.aether.datafixers.spring.actuator.DataFixerEndpoint
+ * @since 0.6.0
+ */
+public final class MigrationStatistics {
+
+    /**
+     * Default window length.
+     */
+    public static final Duration DEFAULT_WINDOW = Duration.ofSeconds(60);
+
+    /**
+     * Number of fixes reported by {@link DomainStatistics#slowestFixes()}.
+     */
+    public static final int SLOWEST_FIX_COUNT = 5;
+
+    /**
+     * Nanoseconds per second.
+     */
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    /**
+     * Number of one-second slots in the window.
+     */
+    private final int windowSeconds;
+
+    /**
+     * Monotonic clock in nanoseconds.
+     */
+    private final LongSupplier clock;
+
+    /**
+     * Per-domain recorders.
+     */
+    private final Map<String, DomainRecorder> domains = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a recorder with the {@linkplain #DEFAULT_WINDOW default window}.
+     */
+    public MigrationStatistics() {
+        this(DEFAULT_WINDOW);
+    }
+
+    /**
+     * Creates a recorder with the given window.
+     *
+     * @param window the rolling window, at least one second
+     * @throws NullPointerException     if window is {@code null}
+     * @throws IllegalArgumentException if window is shorter than one second
+     */
+    public MigrationStatistics(@NotNull final Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    /**
+     * Creates a recorder with the given window and clock.
+     *
+     * @param window the rolling window, at least one second
+     * @param clock  the monotonic nanosecond clock
+     */
+    MigrationStatistics(@NotNull final Duration window, @NotNull final LongSupplier clock) {
+        Preconditions.checkNotNull(window, "window must not be null");
+        Preconditions.checkNotNull(clock, "clock must not be null");
+        Preconditions.checkArgument(window.getSeconds() >= 1,
+                "window must be at least one second, got %s", window);
+        this.windowSeconds = (int) Math.min(window.getSeconds(), Integer.MAX_VALUE);
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the rolling window.
+     *
+     * @return the window length
+     */
+    @NotNull
+    public Duration window() {
+        return Duration.ofSeconds(this.windowSeconds);
+    }
+
+    /**
+     * Records that a migration was submitted for asynchronous execution.
+     *
+     * @param domain the domain name
+     */
+    public void migrationQueued(@NotNull final String domain) {
+        recorder(domain).queued.increment();
+    }
+
+    /**
+     * Records that a previously {@linkplain #migrationQueued(String) queued} migration left
+     * the queue, either because it started or because it was rejected.
+     *
+     * @param domain the domain name
+     */
+    public void migrationDequeued(@NotNull final String domain) {
+        recorder(domain).queued.decrement();
+    }
+
+    /**
+     * Records that a migration started executing.
+     *
+     * <p>Each call must be followed by {@link #recordSuccess(String, long)} or
+     * {@link #recordFailure(String, long)}.</p>
+     *
+     * @param domain the domain name
+     */
+    public void migrationStarted(@NotNull final String domain) {
+        recorder(domain).active.increment();
+    }
+
+    /**
+     * Records a successful migration.
+     *
+     * @param domain the domain name
+     * @param nanos  the migration duration in nanoseconds
+     */
+    public void recordSuccess(@NotNull final String domain, final long nanos) {
+        recorder(domain).record(nanos, false);
+    }
+
+    /**
+     * Records a failed migration.
+     *
+     * @param domain the domain name
+     * @param nanos  the migration duration in nanoseconds
+     */
+    public void recordFailure(@NotNull final String domain, final long nanos) {
+        recorder(domain).record(nanos, true);
+    }
+
+    /**
+     * Returns a listener that records the duration of every applied or failed fix of a domain.
+     *
+     * <p>Attach it to the domain's DataFixer via
+     * {@link de.splatgames.aether.datafixers.core.fix.DataFixerBuilder#withMigrationListener}.</p>
+     *
+     * @param domain the domain name, must not be {@code null}
+     * @return the fix listener
+     * @throws NullPointerException if domain is {@code null}
+     */
+    @NotNull
+    public MigrationListener listener(@NotNull final String domain) {
+        Preconditions.checkNotNull(domain, "domain must not be null");
+        final DomainRecorder recorder = recorder(domain);
+        return new MigrationListener() {
+            @Override
+            public void onFixApplied(
+                    @NotNull final TypeReference type,
+                    @NotNull final DataFix<?> fix,
+                    final long durationNanos
+            ) {
+                recorder.fix(fix.name()).record(durationNanos);
+            }
+
+            @Override
+            public void onFixFailed(
+                    @NotNull final TypeReference type,
+                    @NotNull final DataFix<?> fix,
+                    final long durationNanos,
+                    @NotNull final Throwable error
+            ) {
+                recorder.fix(fix.name()).record(durationNanos);
+            }
+        };
+    }
+
+    /**
+     * Returns the statistics of one domain.
+     *
+     * @param domain the domain name, must not be {@code null}
+     * @return the statistics, or {@code null} if nothing was recorded for the domain
+     * @throws NullPointerException if domain is {@code null}
+     */
+    @Nullable
+    public DomainStatistics snapshot(@NotNull final String domain) {
+        Preconditions.checkNotNull(domain, "domain must not be null");
+        final DomainRecorder recorder = this.domains.get(domain);
+        return recorder != null ? recorder.snapshot(currentSecond()) : null;
+    }
+
+    /**
+     * Returns the statistics of all domains with recorded activity, sorted by domain name.
+     *
+     * @return the statistics by domain, never {@code null}
+     */
+    @NotNull
+    public Map<String, DomainStatistics> snapshot() {
+        final long now = currentSecond();
+        final Map<String, DomainStatistics> result = new LinkedHashMap<>();
+        new TreeMap<>(this.domains).forEach((domain, recorder) -> result.put(domain, recorder.snapshot(now)));
+        return result;
+    }
+
+    /**
+     * Gets or creates the recorder of a domain.
+     *
+     * @param domain the domain name
+     * @return the recorder, never {@code null}
+     */
+    private DomainRecorder recorder(@NotNull final String domain) {
+        Preconditions.checkNotNull(domain, "domain must not be null");
+        final DomainRecorder recorder = this.domains.get(domain);
+        return recorder != null
+                ? recorder
+                : this.domains.computeIfAbsent(domain, d -> new DomainRecorder(currentSecond()));
+    }
+
+    /**
+     * Returns the current clock value in whole seconds.
+     *
+     * @return the current second
+     */
+    private long currentSecond() {
+        return Math.floorDiv(this.clock.getAsLong(), NANOS_PER_SECOND);
+    }
+
+    /**
+     * Converts nanoseconds to fractional milliseconds.
+     *
+     * @param nanos the nanoseconds
+     * @return the milliseconds
+     */
+    private static double toMillis(final double nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    /**
+     * Rolling statistics of one domain.
+     */
+    private final class DomainRecorder {
+
+        /**
+         * Second in which the first statistic of the domain was recorded.
+         */
+        private final long createdSecond;
+
+        /**
+         * Ring of one-second slots, indexed by second modulo the window length.
+         */
+        private final AtomicReferenceArray<Slot> slots;
+
+        /**
+         * Migrations submitted asynchronously and not yet started.
+         */
+        private final LongAdder queued = new LongAdder();
+
+        /**
+         * Migrations currently executing.
+         */
+        private final LongAdder active = new LongAdder();
+
+        /**
+         * Cumulative fix recorders by fix name.
+         */
+        private final Map<String, FixRecorder> fixes = new ConcurrentHashMap<>();
+
+        /**
+         * Creates the recorder of a domain.
+         *
+         * @param createdSecond the current second
+         */
+        DomainRecorder(final long createdSecond) {
+            this.createdSecond = createdSecond;
+            this.slots = new AtomicReferenceArray<>(MigrationStatistics.this.windowSeconds);
+        }
+
+        /**
+         * Records a finished migration into the current slot.
+         *
+         * @param nanos  the migration duration in nanoseconds
+         * @param failed whether the migration failed
+         */
+        void record(final long nanos, final boolean failed) {
+            this.active.decrement();
+            final Slot slot = slot(currentSecond());
+            slot.count.increment();
+            if (failed) {
+                slot.failures.increment();
+            }
+            slot.totalNanos.add(nanos);
+            slot.maxNanos.accumulate(nanos);
+            slot.histogram.record(nanos);
+        }
+
+        /**
+         * Gets or creates the recorder of a fix.
+         *
+         * @param name the fix name
+         * @return the fix recorder, never {@code null}
+         */
+        FixRecorder fix(final String name) {
+            final FixRecorder fix = this.fixes.get(name);
+            return fix != null ? fix : this.fixes.computeIfAbsent(name, n -> new FixRecorder());
+        }
+
+        /**
+         * Returns the slot for a second, replacing a stale slot if necessary.
+         *
+         * @param second the current second
+         * @return the slot to record into
+         */
+        private Slot slot(final long second) {
+            final int index = (int) Math.floorMod(second, (long) this.slots.length());
+            while (true) {
+                final Slot current = this.slots.get(index);
+                if (current != null && current.second >= second) {
+                    return current;
+                }
+                final Slot fresh = new Slot(second);
+                if (this.slots.compareAndSet(index, current, fresh)) {
+                    return fresh;
+                }
+            }
+        }
+
+        /**
+         * Aggregates the slots that belong to the window ending at {@code now}.
+         *
+         * @param now the current second
+         * @return the domain statistics
+         */
+        DomainStatistics snapshot(final long now) {
+            final int window = this.slots.length();
+            final DurationHistogram latencies = new DurationHistogram();
+            long count = 0;
+            long failures = 0;
+            long totalNanos = 0;
+            long maxNanos = 0;
+            for (int i = 0; i < window; i++) {
+                final Slot slot = this.slots.get(i);
+                if (slot == null || slot.second <= now - window || slot.second > now) {
+                    continue;
+                }
+                count += slot.count.sum();
+                failures += slot.failures.sum();
+                totalNanos += slot.totalNanos.sum();
+                maxNanos = Math.max(maxNanos, slot.maxNanos.get());
+                latencies.addAll(slot.histogram);
+            }
+            // Until the window has filled, divide by the time the domain has been active.
+            final long covered = Math.max(1L, Math.min(window, now - this.createdSecond + 1));
+            return new DomainStatistics(
+                    window,
+                    count,
+                    failures,
+                    (double) count / covered,
+                    count > 0 ? toMillis((double) totalNanos / count) : 0.0,
+                    toMillis(latencies.valueAt(0.5)),
+                    toMillis(latencies.valueAt(0.99)),
+                    toMillis(maxNanos),
+                    Math.max(0L, this.queued.sum()),
+                    Math.max(0L, this.active.sum()),
+                    slowestFixes()
+            );
+        }
+
+        /**
+         * Returns the fixes with the highest mean duration, slowest first.
+         *
+         * @return up to {@link #SLOWEST_FIX_COUNT} fix statistics
+         */
+        private List<FixStatistics> slowestFixes() {
+            final List<FixStatistics> all = new ArrayList<>(this.fixes.size());
+            this.fixes.forEach((name, fix) -> {
+                final long count = fix.count.sum();
+                if (count > 0) {
+                    all.add(new FixStatistics(name, count,
+                            toMillis((double) fix.totalNanos.sum() / count), toMillis(fix.maxNanos.get())));
+                }
+            });
+            all.sort(Comparator.comparingDouble(FixStatistics::meanMillis).reversed()
+                    .thenComparing(FixStatistics::fix));
+            return all.size() > SLOWEST_FIX_COUNT ? all.subList(0, SLOWEST_FIX_COUNT) : all;
+        }
+    }
+
+    /**
+     * Counters of one second of the window.
+     */
+    private static final class Slot {
+
+        /**
+         * The second this slot covers.
+         */
+        private final long second;
+
+        /**
+         * Completed migrations.
+         */
+        private final LongAdder count = new LongAdder();
+
+        /**
+         * Failed migrations.
+         */
+        private final LongAdder failures = new LongAdder();
+
+        /**
+         * Sum of migration durations in nanoseconds.
+         */
+        private final LongAdder totalNanos = new LongAdder();
+
+        /**
+         * Longest migration duration in nanoseconds.
+         */
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+        /**
+         * Latency distribution.
+         */
+        private final DurationHistogram histogram = new DurationHistogram();
+
+        /**
+         * Creates an empty slot.
+         *
+         * @param second the second this slot covers
+         */
+        Slot(final long second) {
+            this.second = second;
+        }
+    }
+
+    /**
+     * Cumulative counters of one fix.
+     */
+    private static final class FixRecorder {
+
+        /**
+         * Number of fix applications.
+         */
+        private final LongAdder count = new LongAdder();
+
+        /**
+         * Sum of fix durations in nanoseconds.
+         */
+        private final LongAdder totalNanos = new LongAdder();
+
+        /**
+         * Longest fix duration in nanoseconds.
+         */
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0L);
+
+        /**
+         * Records one fix application.
+         *
+         * @param nanos the fix duration in nanoseconds
+         */
+        void record(final long nanos) {
+            this.count.increment();
+            this.totalNanos.add(nanos);
+            this.maxNanos.accumulate(nanos);
+        }
+    }
+
+    /**
+     * Rolling-window statistics of one domain.
+     *
+     * @param windowSeconds       the window length in seconds
+     * @param migrations          migrations completed within the window
+     * @param failures            failed migrations within the window
+     * @param throughputPerSecond migrations per second over the window, or over the time
+     *                            since the first recording if the window has not filled yet
+     * @param meanMillis          mean migration latency in milliseconds
+     * @param p50Millis           median migration latency in milliseconds
+     * @param p99Millis           99th percentile migration latency in milliseconds
+     * @param maxMillis           maximum migration latency in milliseconds
+     * @param queued              migrations submitted asynchronously and not yet started
+     * @param active              migrations currently executing
+     * @param slowestFixes        up to {@value #SLOWEST_FIX_COUNT} fixes with the highest mean
+     *                            duration since startup, slowest first
+     * @author Erik Pförtner
+     * @since 0.6.0
+     */
+    public record DomainStatistics(
+            long windowSeconds,
+            long migrations,
+            long failures,
+            double throughputPerSecond,
+            double meanMillis,
+            double p50Millis,
+            double p99Millis,
+            double maxMillis,
+            long queued,
+            long active,
+            List<FixStatistics> slowestFixes
+    ) {
+
+        /**
+         * Compact constructor that creates a defensive copy of the fix list.
+         */
+        public DomainStatistics {
+            slowestFixes = slowestFixes != null ? List.copyOf(slowestFixes) : List.of();
+        }
+    }
+
+    /**
+     * Cumulative statistics of one fix.
+     *
+     * @param fix        the fix name
+     * @param count      number of times the fix ran
+     * @param meanMillis mean duration in milliseconds
+     * @param maxMillis  maximum duration in milliseconds
+     * @author Erik Pförtner
+     * @since 0.6.0
+     */
+    public record FixStatistics(String fix, long count, double meanMillis, double maxMillis) {
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+/**
+ * In-memory live statistics of migration throughput and latency.
+ *
+ * <p>This package provides {@link de.splatgames.aether.datafixers.spring.statistics.MigrationStatistics},
+ * a lock-free rolling-window recorder fed by the
+ * {@link de.splatgames.aether.datafixers.spring.service.MigrationService} and by a
+ * {@link de.splatgames.aether.datafixers.core.fix.MigrationListener} attached to each
+ * DataFixer. The {@code datafixers} actuator endpoint reports its snapshots, so live
+ * throughput, latency percentiles, queue depth and the slowest fixes are visible without
+ * a metrics backend.</p>
+ *
+ * <p>The package depends only on the JDK and the core module; it does not require
+ * Micrometer.</p>
+ *
+ * <h2>Package Contents</h2>
+ * <ul>
+ *   <li>{@link de.splatgames.aether.datafixers.spring.statistics.MigrationStatistics}
+ *       - Rolling-window recorder and snapshot records</li>
+ * </ul>
+ *
+ * @author Erik Pförtner
+ * @see de.splatgames.aether.datafixers.spring.actuator.DataFixerEndpoint
+ * @since 0.6.0
+ */
+package de.splatgames.aether.datafixers.spring.statistics;
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.spring.warmup;
+
+import com.google.common.base.Preconditions;
+import de.splatgames.aether.datafixers.core.AetherDataFixer;
+import de.splatgames.aether.datafixers.core.warmup.WarmUpListener;
+import de.splatgames.aether.datafixers.core.warmup.WarmUpOptions;
+import de.splatgames.aether.datafixers.core.warmup.WarmUpReport;
+import de.splatgames.aether.datafixers.spring.autoconfigure.DataFixerRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Warms up every registered DataFixer on application startup and tracks the progress.
+ *
+ * <p>Spring Boot calls application runners after the context is refreshed and before it
+ * publishes the {@code ACCEPTING_TRAFFIC} readiness state, so the readiness probe stays
+ * down until the warm-up has finished. Domains are warmed up one after another with
+ * {@link AetherDataFixer#warmUp(WarmUpOptions)}; a domain whose warm-up throws is marked
+ * {@link State#FAILED} and the remaining domains still run.</p>
+ *
+ * <h2>Progress</h2>
+ * <p>{@link #getState()} and {@link #getProgress()} can be read from any thread while the
+ * warm-up runs. The {@link de.splatgames.aether.datafixers.spring.actuator.DataFixerHealthIndicator}
+ * reports them and is {@code OUT_OF_SERVICE} while the warm-up is running.</p>
+ *
+ * <h2>Configuration</h2>
+ * <pre>{@code
+ * aether:
+ *   datafixers:
+ *     warm-up:
+ *       enabled: true
+ *       duration: 10s
+ * }</pre>
+ *
+ * <h2>Thread Safety</h2>
+ * <p>This class is thread-safe. Concurrent calls to {@link #warmUp()} are not prevented
+ * but produce interleaved progress.</p>
+ *
+ * @author Erik Pförtner
+ * @see WarmUpOptions
+ * @see de.splatgames.aether.datafixers.spring.AetherDataFixersProperties.WarmUpProperties
+ * @since 0.6.0
+ */
+public class DataFixerWarmUp implements ApplicationRunner {
+
+    /**
+     * Logger for this runner.
+     */
+    private static final Logger LOG = LoggerFactory.getLogger(DataFixerWarmUp.class);
+
+    /**
+     * Registry containing the DataFixers to warm up.
+     */
+    private final DataFixerRegistry registry;
+
+    /**
+     * Options for every domain; the listener is replaced per domain.
+     */
+    private final WarmUpOptions options;
+
+    /**
+     * Latest progress per domain.
+     */
+    private final Map<String, DomainProgress> progress = new ConcurrentHashMap<>();
+
+    /**
+     * Overall state of the warm-up.
+     */
+    private volatile State state = State.PENDING;
+
+    /**
+     * Creates a new warm-up runner.
+     *
+     * @param registry the DataFixer registry, must not be {@code null}
+     * @param options  the warm-up options applied to every domain, must not be {@code null}
+     * @throws NullPointerException if any argument is {@code null}
+     */
+    public DataFixerWarmUp(@NotNull final DataFixerRegistry registry, @NotNull final WarmUpOptions options) {
+        this.registry = Preconditions.checkNotNull(registry, "registry must not be null");
+        this.options = Preconditions.checkNotNull(options, "options must not be null");
+    }
+
+    /**
+     * Runs the warm-up on application startup.
+     *
+     * @param args the application arguments (ignored)
+     */
+    @Override
+    public void run(final ApplicationArguments args) {
+        this.warmUp();
+    }
+
+    /**
+     * Warms up every registered domain.
+     *
+     * @return the reports of the domains that completed, keyed by domain
+     */
+    @NotNull
+    public Map<String, WarmUpReport> warmUp() {
+        this.state = State.RUNNING;
+        final Map<String, AetherDataFixer> fixers = this.registry.getAll();
+        fixers.keySet().forEach(domain -> this.progress.put(domain, DomainProgress.pending()));
+
+        final Map<String, WarmUpReport> reports = new LinkedHashMap<>();
+        boolean failed = false;
+        for (final Map.Entry<String, AetherDataFixer> entry : fixers.entrySet()) {
+            final String domain = entry.getKey();
+            this.progress.put(domain, DomainProgress.running(0, 0L, 0L, Duration.ZERO));
+            LOG.info("Warming up DataFixer domain '{}'", domain);
+            try {
+                final WarmUpReport report = entry.getValue().warmUp(this.optionsFor(domain));
+                reports.put(domain, report);
+                this.progress.put(domain, DomainProgress.completed(report));
+                LOG.info("Warmed up DataFixer domain '{}' in {} ms: {} schemas, {} fixes prepared, "
+                                + "{} synthetic migrations in {} rounds ({} failed)",
+                        domain, report.duration().toMillis(), report.schemas(), report.preparedFixes(),
+                        report.migrations(), report.rounds(), report.failures());
+            } catch (final RuntimeException e) {
+                failed = true;
+                this.progress.put(domain, DomainProgress.failed(e));
+                LOG.warn("Warm-up of DataFixer domain '{}' failed", domain, e);
+            }
+        }
+        this.state = failed ? State.FAILED : State.COMPLETED;
+        return reports;
+    }
+
+    /**
+     * Returns the overall state of the warm-up.
+     *
+     * @return the state, never {@code null}
+     */
+    @NotNull
+    public State getState() {
+        return this.state;
+    }
+
+    /**
+     * Returns the latest progress of every domain seen by the warm-up.
+     *
+     * @return an immutable snapshot keyed by domain, never {@code null}
+     */
+    @NotNull
+    public Map<String, DomainProgress> getProgress() {
+        return Map.copyOf(this.progress);
+    }
+
+    /**
+     * Returns the options for one domain, with a listener that publishes its progress.
+     */
+    @NotNull
+    private WarmUpOptions optionsFor(@NotNull final String domain) {
+        final WarmUpListener delegate = this.options.listener();
+        final WarmUpListener listener = new WarmUpListener() {
+            @Override
+            public void onPrepared(final int schemas, final int types, final int preparedFixes) {
+                delegate.onPrepared(schemas, types, preparedFixes);
+            }
+
+            @Override
+            public void onRoundCompleted(
+                    final int rounds,
+                    final long migrations,
+                    final long failures,
+                    @NotNull final Duration elapsed
+            ) {
+                DataFixerWarmUp.this.progress.put(domain,
+                        DomainProgress.running(rounds, migrations, failures, elapsed));
+                delegate.onRoundCompleted(rounds, migrations, failures, elapsed);
+            }
+        };
+        return new WarmUpOptions(this.options.ops(), this.options.duration(), this.options.maxRounds(),
+                this.options.documentFactory(), listener);
+    }
+
+    /**
+     * State of the warm-up as a whole or of one domain.
+     *
+     * @author Erik Pförtner
+     * @since 0.6.0
+     */
+    public enum State {
+
+        /**
+         * The warm-up has not started yet.
+         */
+        PENDING,
+
+        /**
+         * The warm-up is running.
+         */
+        RUNNING,
+
+        /**
+         * The warm-up finished for every domain.
+         */
+        COMPLETED,
+
+        /**
+         * The warm-up of at least one domain threw an exception.
+         */
+        FAILED
+    }
+
+    /**
+     * Progress of the warm-up of one domain.
+     *
+     * @param state      the state of this domain
+     * @param rounds     the number of synthetic rounds completed
+     * @param migrations the number of successful synthetic migrations
+     * @param failures   the number of failed synthetic migrations
+     * @param elapsed    the time spent so far
+     * @param error      the error message if the warm-up failed, otherwise {@code null}
+     * @author Erik Pförtner
+     * @since 0.6.0
+     */
+    public record DomainProgress(
+            @NotNull State state,
+            int rounds,
+            long migrations,
+            long failures,
+            @NotNull Duration elapsed,
+            @Nullable String error
+    ) {
+
+        static DomainProgress pending() {
+            return new DomainProgress(State.PENDING, 0, 0L, 0L, Duration.ZERO, null);
+        }
+
+        static DomainProgress running(
+                final int rounds,
+                final long migrations,
+                final long failures,
+                final Duration elapsed
+        ) {
+            return new DomainProgress(State.RUNNING, rounds, migrations, failures, elapsed, null);
+        }
+
+        static DomainProgress completed(final WarmUpReport report) {
+            return new DomainProgress(State.COMPLETED, report.rounds(), report.migrations(), report.failures(),
+                    report.duration(), null);
+        }
+
+        static DomainProgress failed(final Exception error) {
+            return new DomainProgress(State.FAILED, 0, 0L, 0L, Duration.ZERO, String.valueOf(error.getMessage()));
+        }
+    }
+}
@@ -29,9 +29,11 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Unit tests for {@link AetherDataFixersProperties}.
@@ -153,6 +155,21 @@ class AetherDataFixersPropertiesTest {
             assertThat(properties.getActuator().isIncludeFixDetails()).isFalse();
         }
 
+        @Test
+        @DisplayName("statistics are enabled with a 60 second window by default")
+        void statisticsDefaults() {
+            assertThat(properties.getActuator().isStatistics()).isTrue();
+            assertThat(properties.getActuator().getStatisticsWindow()).isEqualTo(Duration.ofSeconds(60));
+        }
+
+        @Test
+        @DisplayName("setStatisticsWindow rejects null")
+        void setStatisticsWindowRejectsNull() {
+            assertThatThrownBy(() -> properties.getActuator().setStatisticsWindow(null))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("statisticsWindow");
+        }
+
         @Test
         @DisplayName("can replace entire actuator properties")
         void canReplaceEntireActuatorProperties() {
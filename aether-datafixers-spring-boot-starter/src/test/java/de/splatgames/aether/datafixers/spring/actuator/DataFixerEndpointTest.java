@@ -25,6 +25,7 @@ package de.splatgames.aether.datafixers.spring.actuator;
 import de.splatgames.aether.datafixers.api.DataVersion;
 import de.splatgames.aether.datafixers.core.AetherDataFixer;
 import de.splatgames.aether.datafixers.spring.autoconfigure.DataFixerRegistry;
+import de.splatgames.aether.datafixers.spring.statistics.MigrationStatistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -155,6 +156,13 @@ class DataFixerEndpointTest {
             assertThat(details.status()).isEqualTo("UP");
         }
 
+        @Test
+        @DisplayName("records without statistics default to null statistics")
+        void recordsWithoutStatisticsDefaultToNull() {
+            assertThat(new DataFixerEndpoint.DomainSummary(200, "UP").statistics()).isNull();
+            assertThat(new DataFixerEndpoint.DomainDetails("game", 200, "UP").statistics()).isNull();
+        }
+
         @Test
         @DisplayName("handles fixer errors gracefully")
         void handlesFixerErrorsGracefully() {
@@ -171,6 +179,47 @@ class DataFixerEndpointTest {
         }
     }
 
+    @Nested
+    @DisplayName("Live Statistics")
+    class LiveStatistics {
+
+        private MigrationStatistics statistics;
+
+        @BeforeEach
+        void setUp() {
+            statistics = new MigrationStatistics();
+            endpoint = new DataFixerEndpoint(registry, statistics);
+            AetherDataFixer fixer = mock(AetherDataFixer.class);
+            when(fixer.currentVersion()).thenReturn(new DataVersion(200));
+            registry.register("game", fixer);
+        }
+
+        @Test
+        @DisplayName("omits statistics when no recorder is configured")
+        void omitsStatisticsWithoutRecorder() {
+            DataFixerEndpoint plain = new DataFixerEndpoint(registry);
+
+            assertThat(plain.summary().domains().get("game").statistics()).isNull();
+            assertThat(plain.domainDetails("game").statistics()).isNull();
+        }
+
+        @Test
+        @DisplayName("omits statistics for domains without recorded migrations")
+        void omitsStatisticsWithoutMigrations() {
+            assertThat(endpoint.domainDetails("game").statistics()).isNull();
+        }
+
+        @Test
+        @DisplayName("includes recorded statistics in summary and details")
+        void includesRecordedStatistics() {
+            statistics.migrationStarted("game");
+            statistics.recordSuccess("game", 2_000_000L);
+
+            assertThat(endpoint.summary().domains().get("game").statistics().migrations()).isEqualTo(1);
+            assertThat(endpoint.domainDetails("game").statistics().migrations()).isEqualTo(1);
+        }
+    }
+
     @Nested
     @DisplayName("Record DTOs")
     class RecordDTOs {
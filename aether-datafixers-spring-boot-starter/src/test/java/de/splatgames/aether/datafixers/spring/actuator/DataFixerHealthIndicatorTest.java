@@ -24,7 +24,10 @@ package de.splatgames.aether.datafixers.spring.actuator;
 
 import de.splatgames.aether.datafixers.api.DataVersion;
 import de.splatgames.aether.datafixers.core.AetherDataFixer;
+import de.splatgames.aether.datafixers.core.warmup.WarmUpOptions;
+import de.splatgames.aether.datafixers.core.warmup.WarmUpReport;
 import de.splatgames.aether.datafixers.spring.autoconfigure.DataFixerRegistry;
+import de.splatgames.aether.datafixers.spring.warmup.DataFixerWarmUp;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -32,8 +35,12 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.Status;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -195,4 +202,62 @@ class DataFixerHealthIndicatorTest {
             assertThat(health.getDetails().get("totalDomains")).isEqualTo(1);
         }
     }
+
+    @Nested
+    @DisplayName("Warm-Up Progress")
+    class WarmUpProgress {
+
+        @Test
+        @DisplayName("reports OUT_OF_SERVICE with progress while the warm-up runs")
+        void outOfServiceWhileRunning() {
+            AetherDataFixer fixer = mock(AetherDataFixer.class);
+            when(fixer.currentVersion()).thenReturn(new DataVersion(200));
+            registry.register("game", fixer);
+            DataFixerWarmUp warmUp = new DataFixerWarmUp(registry, WarmUpOptions.prepareOnly());
+            DataFixerHealthIndicator warmUpIndicator = new DataFixerHealthIndicator(registry, warmUp);
+            AtomicReference<Health> during = new AtomicReference<>();
+            when(fixer.warmUp(any())).thenAnswer(invocation -> {
+                during.set(warmUpIndicator.health());
+                return new WarmUpReport(1, 1, 0, 0, 0L, 0L, Duration.ZERO);
+            });
+
+            warmUp.warmUp();
+
+            assertThat(during.get().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+            assertThat(during.get().getDetails())
+                    .containsEntry("warmUp.state", "RUNNING")
+                    .containsEntry("game.warmUp.state", "RUNNING");
+        }
+
+        @Test
+        @DisplayName("reports UP with the final progress once the warm-up completed")
+        void upWhenCompleted() {
+            AetherDataFixer fixer = mock(AetherDataFixer.class);
+            when(fixer.currentVersion()).thenReturn(new DataVersion(200));
+            when(fixer.warmUp(any())).thenReturn(new WarmUpReport(3, 5, 2, 7, 140L, 1L, Duration.ofMillis(50)));
+            registry.register("game", fixer);
+            DataFixerWarmUp warmUp = new DataFixerWarmUp(registry, WarmUpOptions.prepareOnly());
+            warmUp.warmUp();
+
+            Health health = new DataFixerHealthIndicator(registry, warmUp).health();
+
+            assertThat(health.getStatus()).isEqualTo(Status.UP);
+            assertThat(health.getDetails())
+                    .containsEntry("warmUp.state", "COMPLETED")
+                    .containsEntry("game.warmUp.rounds", 7)
+                    .containsEntry("game.warmUp.migrations", 140L)
+                    .containsEntry("game.warmUp.failures", 1L)
+                    .containsEntry("game.warmUp.elapsedMs", 50L);
+        }
+
+        @Test
+        @DisplayName("omits warm-up details when the warm-up is disabled")
+        void omitsDetailsWithoutWarmUp() {
+            AetherDataFixer fixer = mock(AetherDataFixer.class);
+            when(fixer.currentVersion()).thenReturn(new DataVersion(200));
+            registry.register("game", fixer);
+
+            assertThat(indicator.health().getDetails()).doesNotContainKey("warmUp.state");
+        }
+    }
 }
@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.spring.async;
+
+import de.splatgames.aether.datafixers.spring.AetherDataFixersProperties;
+import de.splatgames.aether.datafixers.spring.config.MigrationExecutorType;
+import de.splatgames.aether.datafixers.spring.config.RejectionPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for {@link MigrationExecutors}.
+ */
+@DisplayName("MigrationExecutors")
+class MigrationExecutorsTest {
+
+    private AetherDataFixersProperties.AsyncProperties properties;
+    private MigrationExecutors executors;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AetherDataFixersProperties.AsyncProperties();
+        properties.setType(MigrationExecutorType.BOUNDED);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (executors != null) {
+            executors.close();
+        }
+    }
+
+    private static String threadName(final Executor executor) {
+        return CompletableFuture.supplyAsync(() -> Thread.currentThread().getName(), executor).join();
+    }
+
+    @Nested
+    @DisplayName("Bounded Pool")
+    class BoundedPool {
+
+        @Test
+        @DisplayName("shares one named pool across domains by default")
+        void sharesOnePool() {
+            executors = MigrationExecutors.create(properties, List.of("game", "user"));
+
+            assertThat(executors.type()).isEqualTo(MigrationExecutorType.BOUNDED);
+            assertThat(executors.executors()).containsOnlyKeys(MigrationExecutors.SHARED);
+            assertThat(executors.executorFor("game")).isSameAs(executors.executorFor("user"));
+            assertThat(threadName(executors.executorFor("game"))).startsWith("aether-migration-");
+        }
+
+        @Test
+        @DisplayName("isolates domains when per-domain is enabled")
+        void isolatesDomains() {
+            properties.setPerDomain(true);
+            executors = MigrationExecutors.create(properties, List.of("game", "user"));
+
+            assertThat(executors.executors()).containsOnlyKeys("game", "user");
+            assertThat(executors.executorFor("game")).isNotSameAs(executors.executorFor("user"));
+            assertThat(threadName(executors.executorFor("user"))).startsWith("aether-migration-user-");
+        }
+
+        @Test
+        @DisplayName("creates executors for further domains on first use")
+        void createsFurtherDomainsLazily() {
+            properties.setPerDomain(true);
+            executors = MigrationExecutors.create(properties, List.of("game"));
+
+            executors.executorFor("late");
+
+            assertThat(executors.executors()).containsOnlyKeys("game", "late");
+        }
+
+        @Test
+        @DisplayName("applies sizes and queue capacity")
+        void appliesSizes() {
+            properties.setCoreSize(5);
+            properties.setMaxSize(3);
+            properties.setQueueCapacity(11);
+            executors = MigrationExecutors.create(properties, List.of());
+
+            ThreadPoolExecutor pool = (ThreadPoolExecutor) executors.executors().get(MigrationExecutors.SHARED);
+            // core size is capped at the maximum size
+            assertThat(pool.getCorePoolSize()).isEqualTo(3);
+            assertThat(pool.getMaximumPoolSize()).isEqualTo(3);
+            assertThat(pool.getQueue().remainingCapacity()).isEqualTo(11);
+        }
+
+        @Test
+        @DisplayName("aborts when saturated with the abort policy")
+        void abortsWhenSaturated() throws InterruptedException {
+            properties.setMaxSize(1);
+            properties.setQueueCapacity(1);
+            properties.setRejectionPolicy(RejectionPolicy.ABORT);
+            executors = MigrationExecutors.create(properties, List.of());
+            Executor executor = executors.executorFor("default");
+            CountDownLatch release = new CountDownLatch(1);
+
+            executor.execute(() -> awaitQuietly(release));
+            executor.execute(() -> awaitQuietly(release));
+
+            assertThatThrownBy(() -> executor.execute(() -> { }))
+                    .isInstanceOf(RejectedExecutionException.class);
+            release.countDown();
+        }
+
+        @Test
+        @DisplayName("runs on the caller when saturated by default")
+        void runsOnCallerWhenSaturated() {
+            properties.setMaxSize(1);
+            properties.setQueueCapacity(1);
+            assertThat(properties.getRejectionPolicy()).isEqualTo(RejectionPolicy.CALLER_RUNS);
+            executors = MigrationExecutors.create(properties, List.of());
+            Executor executor = executors.executorFor("default");
+            CountDownLatch release = new CountDownLatch(1);
+            executor.execute(() -> awaitQuietly(release));
+            executor.execute(() -> awaitQuietly(release));
+
+            String[] ranOn = new String[1];
+            executor.execute(() -> ranOn[0] = Thread.currentThread().getName());
+
+            assertThat(ranOn[0]).isEqualTo(Thread.currentThread().getName());
+            release.countDown();
+        }
+    }
+
+    @Nested
+    @DisplayName("Executor Types")
+    class ExecutorTypes {
+
+        @Test
+        @DisplayName("common pool owns no executors")
+        void commonPoolOwnsNothing() {
+            properties.setType(MigrationExecutorType.COMMON_POOL);
+            executors = MigrationExecutors.create(properties, List.of("game"));
+
+            assertThat(executors.executors()).isEmpty();
+            assertThat(executors.executorFor("game")).isSameAs(ForkJoinPool.commonPool());
+        }
+
+        @Test
+        @DisplayName("auto resolves to virtual threads only on Java 21+")
+        void autoResolvesByJavaVersion() {
+            MigrationExecutorType expected = Runtime.version().feature() >= 21
+                    ? MigrationExecutorType.VIRTUAL
+                    : MigrationExecutorType.BOUNDED;
+
+            assertThat(MigrationExecutors.resolve(MigrationExecutorType.AUTO)).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("virtual threads fail fast before Java 21")
+        void virtualFailsBeforeJava21() {
+            assumeTrue(Runtime.version().feature() < 21);
+            properties.setType(MigrationExecutorType.VIRTUAL);
+
+            assertThatThrownBy(() -> MigrationExecutors.create(properties, List.of()))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Java 21");
+        }
+
+        @Test
+        @DisplayName("virtual threads run migrations on Java 21+")
+        void virtualRunsOnJava21() {
+            assumeTrue(Runtime.version().feature() >= 21);
+            properties.setType(MigrationExecutorType.VIRTUAL);
+            executors = MigrationExecutors.create(properties, List.of());
+
+            assertThat(threadName(executors.executorFor("default"))).startsWith("aether-migration-");
+        }
+    }
+
+    @Nested
+    @DisplayName("Concurrency Limit")
+    class ConcurrencyLimit {
+
+        @Test
+        @DisplayName("runs at most max-concurrency tasks at once")
+        void limitsRunningTasks() throws InterruptedException {
+            ExecutorService executor = MigrationExecutors.limited(Executors.newCachedThreadPool(), 2);
+            AtomicInteger running = new AtomicInteger();
+            AtomicInteger peak = new AtomicInteger();
+            CountDownLatch done = new CountDownLatch(6);
+
+            try {
+                for (int i = 0; i < 6; i++) {
+                    executor.execute(() -> {
+                        peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        sleepQuietly(50);
+                        running.decrementAndGet();
+                        done.countDown();
+                    });
+                }
+
+                assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+                assertThat(peak).hasValue(2);
+            } finally {
+                executor.shutdown();
+            }
+            assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(executor.isTerminated()).isTrue();
+        }
+
+        @Test
+        @DisplayName("returns the executor itself without a limit")
+        void unlimitedReturnsExecutor() {
+            ExecutorService delegate = Executors.newSingleThreadExecutor();
+            try {
+                assertThat(MigrationExecutors.limited(delegate, 0)).isSameAs(delegate);
+            } finally {
+                delegate.shutdown();
+            }
+        }
+
+        @Test
+        @DisplayName("limits virtual threads per domain on Java 21+")
+        void limitsVirtualThreadsPerDomain() throws InterruptedException {
+            assumeTrue(Runtime.version().feature() >= 21);
+            properties.setType(MigrationExecutorType.VIRTUAL);
+            properties.setMaxConcurrency(1);
+            properties.setPerDomain(true);
+            executors = MigrationExecutors.create(properties, List.of("game", "user"));
+            CountDownLatch release = new CountDownLatch(1);
+            CountDownLatch queuedRan = new CountDownLatch(1);
+            executors.executorFor("game").execute(() -> awaitQuietly(release));
+            executors.executorFor("game").execute(queuedRan::countDown);
+
+            assertThat(threadName(executors.executorFor("user"))).startsWith("aether-migration-user-");
+            assertThat(queuedRan.await(100, TimeUnit.MILLISECONDS)).isFalse();
+
+            release.countDown();
+            assertThat(queuedRan.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("Lifecycle")
+    class Lifecycle {
+
+        @Test
+        @DisplayName("close() waits for running migrations")
+        void closeWaitsForRunningMigrations() {
+            executors = MigrationExecutors.create(properties, List.of());
+            boolean[] finished = new boolean[1];
+            executors.executorFor("default").execute(() -> {
+                sleepQuietly(100);
+                finished[0] = true;
+            });
+
+            executors.close();
+
+            assertThat(finished[0]).isTrue();
+            assertThat(executors.executors().get(MigrationExecutors.SHARED).isTerminated()).isTrue();
+        }
+
+        @Test
+        @DisplayName("close() interrupts migrations after the shutdown timeout")
+        void closeInterruptsAfterTimeout() {
+            properties.setShutdownTimeout(Duration.ofMillis(50));
+            executors = MigrationExecutors.create(properties, List.of());
+            CountDownLatch never = new CountDownLatch(1);
+            executors.executorFor("default").execute(() -> awaitQuietly(never));
+
+            executors.close();
+
+            assertThat(executors.executors().get(MigrationExecutors.SHARED).isShutdown()).isTrue();
+        }
+
+        @Test
+        @DisplayName("executorFor() rejects use after close")
+        void rejectsUseAfterClose() {
+            executors = MigrationExecutors.create(properties, List.of());
+            executors.close();
+
+            assertThatThrownBy(() -> executors.executorFor("default"))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepQuietly(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.spring.autoconfigure;
+
+import de.splatgames.aether.datafixers.spring.AetherDataFixersAutoConfiguration;
+import de.splatgames.aether.datafixers.spring.actuator.DataFixerEndpoint;
+import de.splatgames.aether.datafixers.spring.statistics.MigrationStatistics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link ActuatorAutoConfiguration}.
+ */
+@DisplayName("ActuatorAutoConfiguration")
+class ActuatorAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(AetherDataFixersAutoConfiguration.class))
+            .withUserConfiguration(
+                    DataFixerAutoConfigurationTest.SingleBootstrapConfig.class,
+                    MeterRegistryConfig.class
+            )
+            .withPropertyValues(
+                    "aether.datafixers.default-current-version=100",
+                    "management.endpoints.web.exposure.include=datafixers"
+            );
+
+    @Nested
+    @DisplayName("Live Statistics")
+    class LiveStatistics {
+
+        @Test
+        @DisplayName("creates the recorder and its fixer customizer when the endpoint is exposed")
+        void createsRecorder() {
+            contextRunner.run(context -> {
+                assertThat(context).hasSingleBean(DataFixerEndpoint.class);
+                assertThat(context).hasSingleBean(MigrationStatistics.class);
+                assertThat(context).hasBean("migrationStatisticsCustomizer");
+            });
+        }
+
+        @Test
+        @DisplayName("uses the configured window")
+        void usesConfiguredWindow() {
+            contextRunner
+                    .withPropertyValues("aether.datafixers.actuator.statistics-window=15s")
+                    .run(context -> assertThat(context.getBean(MigrationStatistics.class).window())
+                            .isEqualTo(Duration.ofSeconds(15)));
+        }
+
+        @Test
+        @DisplayName("backs off when disabled")
+        void backsOffWhenDisabled() {
+            contextRunner
+                    .withPropertyValues("aether.datafixers.actuator.statistics=false")
+                    .run(context -> {
+                        assertThat(context).hasSingleBean(DataFixerEndpoint.class);
+                        assertThat(context).doesNotHaveBean(MigrationStatistics.class);
+                    });
+        }
+
+        @Test
+        @DisplayName("backs off when the endpoint is not exposed")
+        void backsOffWithoutEndpoint() {
+            contextRunner
+                    .withPropertyValues("management.endpoints.web.exposure.include=health")
+                    .run(context -> {
+                        assertThat(context).doesNotHaveBean(DataFixerEndpoint.class);
+                        assertThat(context).doesNotHaveBean(MigrationStatistics.class);
+                    });
+        }
+    }
+
+    @Configuration
+    static class MeterRegistryConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
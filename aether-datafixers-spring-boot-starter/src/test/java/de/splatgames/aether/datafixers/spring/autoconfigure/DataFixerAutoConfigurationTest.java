@@ -36,8 +36,11 @@ import de.splatgames.aether.datafixers.api.type.SimpleType;
 import de.splatgames.aether.datafixers.api.type.TypeRegistry;
 import de.splatgames.aether.datafixers.api.util.Pair;
 import de.splatgames.aether.datafixers.core.AetherDataFixer;
+import de.splatgames.aether.datafixers.core.fix.DataFixerBuilder;
 import de.splatgames.aether.datafixers.core.type.SimpleTypeRegistry;
+import de.splatgames.aether.datafixers.core.warmup.WarmUpReport;
 import de.splatgames.aether.datafixers.spring.AetherDataFixersProperties;
+import de.splatgames.aether.datafixers.spring.warmup.DataFixerWarmUp;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -48,6 +51,10 @@ import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 /**
@@ -102,6 +109,39 @@ class DataFixerAutoConfigurationTest {
         }
     }
 
+    @Nested
+    @DisplayName("Startup Warm-Up")
+    class StartupWarmUp {
+
+        @Test
+        @DisplayName("does not create the warm-up by default")
+        void noWarmUpByDefault() {
+            contextRunner
+                    .withUserConfiguration(SingleBootstrapConfig.class)
+                    .run(context -> assertThat(context).doesNotHaveBean(DataFixerWarmUp.class));
+        }
+
+        @Test
+        @DisplayName("creates a warm-up that prepares every registered fixer when enabled")
+        void createsWarmUpWhenEnabled() {
+            contextRunner
+                    .withUserConfiguration(SingleBootstrapConfig.class)
+                    .withPropertyValues(
+                            "aether.datafixers.warm-up.enabled=true",
+                            "aether.datafixers.warm-up.duration=0s"
+                    )
+                    .run(context -> {
+                        assertThat(context).hasSingleBean(DataFixerWarmUp.class);
+                        DataFixerWarmUp warmUp = context.getBean(DataFixerWarmUp.class);
+
+                        Map<String, WarmUpReport> reports = warmUp.warmUp();
+
+                        assertThat(warmUp.getState()).isEqualTo(DataFixerWarmUp.State.COMPLETED);
+                        assertThat(reports.get(DataFixerRegistry.DEFAULT_DOMAIN).schemas()).isEqualTo(1);
+                    });
+        }
+    }
+
     @Nested
     @DisplayName("Multi-Domain Support")
     class MultiDomainSupport {
@@ -187,6 +227,23 @@ class DataFixerAutoConfigurationTest {
         }
     }
 
+    @Nested
+    @DisplayName("Builder Customizers")
+    class BuilderCustomizers {
+
+        @Test
+        @DisplayName("applies customizer beans to the default fixer")
+        void appliesCustomizersToDefaultFixer() {
+            contextRunner
+                    .withUserConfiguration(SingleBootstrapConfig.class, CustomizerConfig.class)
+                    .run(context -> {
+                        assertThat(context).hasSingleBean(AetherDataFixer.class);
+                        assertThat(context.getBean(RecordingCustomizer.class).domains)
+                                .containsExactly(DataFixerRegistry.DEFAULT_DOMAIN);
+                    });
+        }
+    }
+
     @Nested
     @DisplayName("No Bootstrap Configuration")
     class NoBootstrapConfiguration {
@@ -350,6 +407,25 @@ class DataFixerAutoConfigurationTest {
         }
     }
 
+    @Configuration
+    static class CustomizerConfig {
+
+        @Bean
+        RecordingCustomizer recordingCustomizer() {
+            return new RecordingCustomizer();
+        }
+    }
+
+    static class RecordingCustomizer implements DataFixerBuilderCustomizer {
+
+        private final List<String> domains = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void customize(@NotNull String domain, @NotNull DataFixerBuilder builder) {
+            domains.add(domain);
+        }
+    }
+
     @Configuration
     static class VersionlessBootstrapConfig {
         @Bean
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.spring.autoconfigure;
+
+import de.splatgames.aether.datafixers.spring.async.MigrationExecutors;
+import de.splatgames.aether.datafixers.spring.cache.LocalMigrationResultCache;
+import de.splatgames.aether.datafixers.spring.cache.MigrationResultCache;
+import de.splatgames.aether.datafixers.spring.config.MigrationExecutorType;
+import de.splatgames.aether.datafixers.spring.metrics.MigrationExecutorMetrics;
+import de.splatgames.aether.datafixers.spring.service.MigrationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link MigrationServiceAutoConfiguration}.
+ */
+@DisplayName("MigrationServiceAutoConfiguration")
+class MigrationServiceAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    DataFixerAutoConfiguration.class,
+                    MigrationServiceAutoConfiguration.class
+            ))
+            .withUserConfiguration(DataFixerAutoConfigurationTest.SingleBootstrapConfig.class)
+            .withPropertyValues("aether.datafixers.default-current-version=100");
+
+    @Test
+    @DisplayName("creates the migration service with dedicated executors")
+    void createsServiceWithExecutors() {
+        contextRunner.run(context -> {
+            assertThat(context).hasSingleBean(MigrationService.class);
+            assertThat(context).hasSingleBean(MigrationExecutors.class);
+            assertThat(context).hasSingleBean(MigrationExecutorMetrics.class);
+            MigrationExecutors executors = context.getBean(MigrationExecutors.class);
+            assertThat(executors.type()).isNotEqualTo(MigrationExecutorType.COMMON_POOL);
+            assertThat(executors.executorFor("default")).isNotSameAs(ForkJoinPool.commonPool());
+        });
+    }
+
+    @Test
+    @DisplayName("binds the async properties")
+    void bindsAsyncProperties() {
+        contextRunner
+                .withPropertyValues(
+                        "aether.datafixers.async.type=bounded",
+                        "aether.datafixers.async.core-size=2",
+                        "aether.datafixers.async.max-size=3",
+                        "aether.datafixers.async.queue-capacity=7",
+                        "aether.datafixers.async.per-domain=true"
+                )
+                .run(context -> {
+                    MigrationExecutors executors = context.getBean(MigrationExecutors.class);
+                    assertThat(executors.isPerDomain()).isTrue();
+                    assertThat(executors.executors()).containsOnlyKeys("default");
+                    ThreadPoolExecutor pool = (ThreadPoolExecutor) executors.executors().get("default");
+                    assertThat(pool.getCorePoolSize()).isEqualTo(2);
+                    assertThat(pool.getMaximumPoolSize()).isEqualTo(3);
+                    assertThat(pool.getQueue().remainingCapacity()).isEqualTo(7);
+                });
+    }
+
+    @Test
+    @DisplayName("uses the common pool when configured")
+    void usesCommonPoolWhenConfigured() {
+        contextRunner
+                .withPropertyValues("aether.datafixers.async.type=common-pool")
+                .run(context -> {
+                    MigrationExecutors executors = context.getBean(MigrationExecutors.class);
+                    assertThat(executors.executors()).isEmpty();
+                    assertThat(executors.executorFor("default")).isSameAs(ForkJoinPool.commonPool());
+                });
+    }
+
+    @Test
+    @DisplayName("shuts the executors down when the context closes")
+    void shutsExecutorsDownOnClose() {
+        ExecutorService[] captured = new ExecutorService[1];
+        contextRunner
+                .withPropertyValues("aether.datafixers.async.type=bounded")
+                .run(context -> captured[0] = context.getBean(MigrationExecutors.class)
+                        .executors().get(MigrationExecutors.SHARED));
+
+        assertThat(captured[0].isShutdown()).isTrue();
+    }
+
+    @Test
+    @DisplayName("does not create a result cache by default")
+    void noResultCacheByDefault() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(MigrationResultCache.class));
+    }
+
+    @Test
+    @DisplayName("creates the local result cache when enabled")
+    void createsLocalResultCacheWhenEnabled() {
+        contextRunner
+                .withPropertyValues(
+                        "aether.datafixers.cache.enabled=true",
+                        "aether.datafixers.cache.maximum-size=5",
+                        "aether.datafixers.cache.time-to-live=1m"
+                )
+                .run(context -> {
+                    assertThat(context).hasSingleBean(LocalMigrationResultCache.class);
+                    assertThat(context).hasSingleBean(MigrationService.class);
+                });
+    }
+}
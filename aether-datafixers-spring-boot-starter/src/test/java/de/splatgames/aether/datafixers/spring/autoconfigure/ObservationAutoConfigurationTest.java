@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.spring.autoconfigure;
+
+import de.splatgames.aether.datafixers.spring.observation.MigrationObservations;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link ObservationAutoConfiguration}.
+ */
+@DisplayName("ObservationAutoConfiguration")
+class ObservationAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    DataFixerAutoConfiguration.class,
+                    ObservationAutoConfiguration.class
+            ))
+            .withUserConfiguration(DataFixerAutoConfigurationTest.SingleBootstrapConfig.class)
+            .withPropertyValues("aether.datafixers.default-current-version=100");
+
+    @Test
+    @DisplayName("creates MigrationObservations when an ObservationRegistry exists")
+    void createsObservationsWithRegistry() {
+        contextRunner
+                .withUserConfiguration(ObservationRegistryConfig.class)
+                .run(context -> {
+                    assertThat(context).hasSingleBean(MigrationObservations.class);
+                    assertThat(context).doesNotHaveBean("migrationObservationCustomizer");
+                });
+    }
+
+    @Test
+    @DisplayName("backs off without an ObservationRegistry")
+    void backsOffWithoutRegistry() {
+        contextRunner.run(context -> assertThat(context).doesNotHaveBean(MigrationObservations.class));
+    }
+
+    @Test
+    @DisplayName("backs off when disabled")
+    void backsOffWhenDisabled() {
+        contextRunner
+                .withUserConfiguration(ObservationRegistryConfig.class)
+                .withPropertyValues("aether.datafixers.observation.enabled=false")
+                .run(context -> assertThat(context).doesNotHaveBean(MigrationObservations.class));
+    }
+
+    @Test
+    @DisplayName("registers the fix observation customizer when fix observations are enabled")
+    void registersFixCustomizer() {
+        contextRunner
+                .withUserConfiguration(ObservationRegistryConfig.class)
+                .withPropertyValues("aether.datafixers.observation.fix-observations=true")
+                .run(context -> assertThat(context).hasBean("migrationObservationCustomizer"));
+    }
+
+    @Configuration
+    static class ObservationRegistryConfig {
+
+        @Bean
+        ObservationRegistry observationRegistry() {
+            return ObservationRegistry.create();
+        }
+    }
+}
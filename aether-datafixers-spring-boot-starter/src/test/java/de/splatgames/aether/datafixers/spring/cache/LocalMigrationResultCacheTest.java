@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.spring.cache;
+
+import com.google.gson.JsonObject;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.dynamic.TaggedDynamic;
+import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link LocalMigrationResultCache} and {@link MigrationCacheKey}.
+ */
+@DisplayName("LocalMigrationResultCache")
+class LocalMigrationResultCacheTest {
+
+    private static final TypeReference CONFIG = new TypeReference("config");
+
+    private static TaggedDynamic payload(final String name) {
+        JsonObject json = new JsonObject();
+        json.addProperty("name", name);
+        return new TaggedDynamic(CONFIG, new Dynamic<>(GsonOps.INSTANCE, json));
+    }
+
+    private static MigrationCacheKey key(final String name) {
+        return MigrationCacheKey.of("default", payload(name), new DataVersion(1), new DataVersion(2));
+    }
+
+    @Nested
+    @DisplayName("Cache Key")
+    class CacheKey {
+
+        @Test
+        @DisplayName("keys of identical content are equal")
+        void identicalContentIsEqual() {
+            assertThat(key("a")).isEqualTo(key("a")).hasSameHashCodeAs(key("a"));
+            assertThat(key("a").contentHash()).isEqualTo(key("a").contentHash());
+        }
+
+        @Test
+        @DisplayName("keys differ by content, domain and versions")
+        void keysDiffer() {
+            TaggedDynamic input = payload("a");
+            MigrationCacheKey base = MigrationCacheKey.of("default", input, new DataVersion(1), new DataVersion(2));
+
+            assertThat(base).isNotEqualTo(key("b"));
+            assertThat(base).isNotEqualTo(MigrationCacheKey.of("game", input, new DataVersion(1), new DataVersion(2)));
+            assertThat(base).isNotEqualTo(MigrationCacheKey.of("default", input, new DataVersion(1), new DataVersion(3)));
+        }
+
+        @Test
+        @DisplayName("rejects null arguments")
+        void rejectsNullArguments() {
+            assertThatThrownBy(() -> MigrationCacheKey.of(null, payload("a"), new DataVersion(1), new DataVersion(2)))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("domain");
+        }
+    }
+
+    @Nested
+    @DisplayName("Lookup")
+    class Lookup {
+
+        @Test
+        @DisplayName("returns stored results and null for unknown keys")
+        void returnsStoredResults() {
+            LocalMigrationResultCache cache = new LocalMigrationResultCache(10, Duration.ZERO);
+            TaggedDynamic result = payload("migrated");
+
+            cache.put(key("a"), result);
+
+            assertThat(cache.get(key("a")).value()).isEqualTo(result.value()).isNotSameAs(result.value());
+            assertThat(cache.get(key("b"))).isNull();
+        }
+
+        @Test
+        @DisplayName("is not affected by mutating the key input or a returned result")
+        void copiesKeyInputAndResult() {
+            LocalMigrationResultCache cache = new LocalMigrationResultCache(10, Duration.ZERO);
+            TaggedDynamic input = payload("a");
+            TaggedDynamic result = payload("migrated");
+            cache.put(MigrationCacheKey.of("default", input, new DataVersion(1), new DataVersion(2)), result);
+
+            ((JsonObject) input.value().value()).addProperty("name", "b");
+            ((JsonObject) result.value().value()).addProperty("name", "changed");
+            TaggedDynamic first = cache.get(key("a"));
+            ((JsonObject) first.value().value()).addProperty("name", "changed");
+
+            assertThat(cache.get(key("b"))).isNull();
+            assertThat(cache.get(key("a")).value().get("name").asString().result()).contains("migrated");
+        }
+
+        @Test
+        @DisplayName("invalidateAll() removes every entry")
+        void invalidateAllClears() {
+            LocalMigrationResultCache cache = new LocalMigrationResultCache(10, Duration.ZERO);
+            cache.put(key("a"), payload("x"));
+
+            cache.invalidateAll();
+
+            assertThat(cache.size()).isZero();
+            assertThat(cache.weight()).isZero();
+            assertThat(cache.get(key("a"))).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("Eviction")
+    class Eviction {
+
+        @Test
+        @DisplayName("evicts the least recently used entry beyond the maximum size")
+        void evictsLeastRecentlyUsed() {
+            LocalMigrationResultCache cache = new LocalMigrationResultCache(2, Duration.ZERO);
+            cache.put(key("a"), payload("x"));
+            cache.put(key("b"), payload("y"));
+            cache.get(key("a"));
+
+            cache.put(key("c"), payload("z"));
+
+            assertThat(cache.get(key("a"))).isNotNull();
+            assertThat(cache.get(key("b"))).isNull();
+            assertThat(cache.get(key("c"))).isNotNull();
+            assertThat(cache.evictionCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("evicts by total weight and skips entries heavier than the maximum")
+        void evictsByWeight() {
+            LocalMigrationResultCache cache = new LocalMigrationResultCache(
+                    12, (key, result) -> result.value().value().toString().length(), Duration.ZERO);
+
+            cache.put(key("a"), payload("tiny"));
+            assertThat(cache.size()).isZero();
+
+            cache.put(key("b"), payload(""));
+            cache.put(key("c"), payload(""));
+            assertThat(cache.weight()).isEqualTo("{\"name\":\"\"}".length());
+            assertThat(cache.get(key("b"))).isNull();
+            assertThat(cache.get(key("c"))).isNotNull();
+        }
+
+        @Test
+        @DisplayName("rejects negative weights")
+        void rejectsNegativeWeights() {
+            LocalMigrationResultCache cache = new LocalMigrationResultCache(10, (key, result) -> -1L, Duration.ZERO);
+
+            assertThatThrownBy(() -> cache.put(key("a"), payload("x")))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("rejects a non-positive maximum")
+        void rejectsNonPositiveMaximum() {
+            assertThatThrownBy(() -> new LocalMigrationResultCache(0, Duration.ZERO))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Expiry")
+    class Expiry {
+
+        @Test
+        @DisplayName("drops entries after the time to live")
+        void dropsExpiredEntries() {
+            AtomicLong now = new AtomicLong();
+            LocalMigrationResultCache cache = new LocalMigrationResultCache(
+                    10, (key, result) -> 1L, Duration.ofSeconds(5), now::get);
+            cache.put(key("a"), payload("x"));
+
+            now.set(Duration.ofSeconds(4).toNanos());
+            assertThat(cache.get(key("a"))).isNotNull();
+
+            now.set(Duration.ofSeconds(5).toNanos());
+            assertThat(cache.get(key("a"))).isNull();
+            assertThat(cache.size()).isZero();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.spring.metrics;
+
+import de.splatgames.aether.datafixers.spring.AetherDataFixersProperties;
+import de.splatgames.aether.datafixers.spring.async.MigrationExecutors;
+import de.splatgames.aether.datafixers.spring.config.MigrationExecutorType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link MigrationExecutorMetrics}.
+ */
+@DisplayName("MigrationExecutorMetrics")
+class MigrationExecutorMetricsTest {
+
+    @Test
+    @DisplayName("binds executor metrics per domain")
+    void bindsExecutorMetricsPerDomain() {
+        AetherDataFixersProperties.AsyncProperties properties = new AetherDataFixersProperties.AsyncProperties();
+        properties.setType(MigrationExecutorType.BOUNDED);
+        properties.setPerDomain(true);
+        properties.setQueueCapacity(10);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        try (MigrationExecutors executors = MigrationExecutors.create(properties, List.of("game", "user"))) {
+            new MigrationExecutorMetrics(executors, "domain").bindTo(registry);
+
+            assertThat(registry.find("aether.datafixers.executor.queue.remaining").tag("domain", "game").gauge())
+                    .isNotNull()
+                    .satisfies(gauge -> assertThat(gauge.value()).isEqualTo(10.0));
+            assertThat(registry.find("aether.datafixers.executor.pool.size").tag("domain", "user").gauge())
+                    .isNotNull();
+        }
+    }
+
+    @Test
+    @DisplayName("binds nothing for the common pool")
+    void bindsNothingForCommonPool() {
+        AetherDataFixersProperties.AsyncProperties properties = new AetherDataFixersProperties.AsyncProperties();
+        properties.setType(MigrationExecutorType.COMMON_POOL);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        try (MigrationExecutors executors = MigrationExecutors.create(properties, List.of("game"))) {
+            new MigrationExecutorMetrics(executors, "domain").bindTo(registry);
+
+            assertThat(registry.getMeters()).isEmpty();
+        }
+    }
+}
@@ -22,11 +22,24 @@
 
 package de.splatgames.aether.datafixers.spring.metrics;
 
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.fix.DataFix;
+import de.splatgames.aether.datafixers.api.fix.DataFixer;
+import de.splatgames.aether.datafixers.api.fix.DataFixerContext;
+import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
+import de.splatgames.aether.datafixers.core.fix.DataFixerBuilder;
+import de.splatgames.aether.datafixers.core.fix.SimpleSystemDataFixerContext;
+import de.splatgames.aether.datafixers.spring.AetherDataFixersProperties;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -34,6 +47,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -284,6 +298,73 @@ class MigrationMetricsTest {
         }
     }
 
+    @Nested
+    @DisplayName("Batch Recording")
+    class BatchRecording {
+
+        @Test
+        @DisplayName("records one batch sample and per-document counts")
+        void recordsAggregatedBatch() {
+            metrics.recordBatch("game", 100, 200, 3,
+                    List.of(new IllegalStateException("a"), new IllegalStateException("b")), Duration.ofMillis(80));
+
+            Timer batchTimer = registry.find("aether.datafixers.migrations.batch.duration").tag("domain", "game").timer();
+            DistributionSummary batchSize = registry.find("aether.datafixers.migrations.batch.size")
+                    .tag("domain", "game").summary();
+            assertThat(batchTimer).isNotNull();
+            assertThat(batchTimer.count()).isEqualTo(1);
+            assertThat(batchSize.totalAmount()).isEqualTo(5.0);
+            assertThat(registry.find("aether.datafixers.migrations.success").tag("domain", "game").counter().count())
+                    .isEqualTo(3.0);
+            assertThat(registry.find("aether.datafixers.migrations.failure")
+                    .tag("error_type", "IllegalStateException").counter().count())
+                    .isEqualTo(2.0);
+            assertThat(registry.find("aether.datafixers.migrations.duration").tag("domain", "game").timer().count())
+                    .isZero();
+        }
+
+        @Test
+        @DisplayName("ignores empty batches")
+        void ignoresEmptyBatches() {
+            metrics.recordBatch("game", 100, 200, 0, List.of(), Duration.ofMillis(1));
+
+            assertThat(registry.find("aether.datafixers.migrations.batch.duration").timer()).isNull();
+        }
+
+        @Test
+        @DisplayName("rejects negative success count")
+        void rejectsNegativeSuccesses() {
+            assertThatThrownBy(() -> metrics.recordBatch("game", 100, 200, -1, List.of(), Duration.ZERO))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Cache Recording")
+    class CacheRecording {
+
+        @Test
+        @DisplayName("counts cache hits and misses per domain")
+        void countsHitsAndMisses() {
+            metrics.recordCacheHit("game");
+            metrics.recordCacheHit("game");
+            metrics.recordCacheMiss("game");
+
+            assertThat(registry.find("aether.datafixers.migrations.cache.hit").tag("domain", "game").counter().count())
+                    .isEqualTo(2.0);
+            assertThat(registry.find("aether.datafixers.migrations.cache.miss").tag("domain", "game").counter().count())
+                    .isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("rejects null domain")
+        void rejectsNullDomain() {
+            assertThatThrownBy(() -> metrics.recordCacheHit(null))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("domain");
+        }
+    }
+
     @Nested
     @DisplayName("Edge Cases")
     class EdgeCases {
@@ -499,6 +580,115 @@ class MigrationMetricsTest {
         }
     }
 
+    @Nested
+    @DisplayName("Fixer Listener")
+    class FixerListener {
+
+        private final TypeReference player = new TypeReference("player");
+
+        private AetherDataFixersProperties.MetricsProperties properties(boolean perFix, boolean perType) {
+            AetherDataFixersProperties.MetricsProperties properties = new AetherDataFixersProperties.MetricsProperties();
+            properties.setPerFix(perFix);
+            properties.setPerType(perType);
+            return properties;
+        }
+
+        private DataFixer fixer(MigrationMetrics metrics) {
+            return new DataFixerBuilder(new DataVersion(3))
+                    .withDefaultContext(SimpleSystemDataFixerContext.INSTANCE)
+                    .withMigrationListener(metrics.listener("game"))
+                    .addFix(player, new NamedFix("first", 1, 2))
+                    .addFix(player, new NamedFix("second", 2, 3))
+                    .build();
+        }
+
+        private Dynamic<JsonElement> input() {
+            return new Dynamic<>(GsonOps.INSTANCE, new JsonObject());
+        }
+
+        @Test
+        @DisplayName("counts updates for data already at the target version")
+        void countsSkippedUpdates() {
+            DataFixer fixer = fixer(metrics);
+
+            fixer.update(player, input(), new DataVersion(3), new DataVersion(3));
+            fixer.update(player, input(), new DataVersion(3), new DataVersion(3));
+            fixer.update(player, input(), new DataVersion(1), new DataVersion(3));
+
+            Counter skipped = registry.find("aether.datafixers.migrations.skipped")
+                    .tag("domain", "game")
+                    .counter();
+            assertThat(skipped).isNotNull();
+            assertThat(skipped.count()).isEqualTo(2.0);
+        }
+
+        @Test
+        @DisplayName("does not record fix or type timers by default")
+        void noTimersByDefault() {
+            fixer(metrics).update(player, input(), new DataVersion(1), new DataVersion(3));
+
+            assertThat(registry.find("aether.datafixers.migrations.fix.duration").timer()).isNull();
+            assertThat(registry.find("aether.datafixers.migrations.type.duration").timer()).isNull();
+        }
+
+        @Test
+        @DisplayName("records a timer per fix when enabled")
+        void recordsPerFixTimers() {
+            MigrationMetrics perFix = new MigrationMetrics(registry, properties(true, false));
+
+            fixer(perFix).update(player, input(), new DataVersion(1), new DataVersion(3));
+
+            for (String fix : new String[]{"first", "second"}) {
+                Timer timer = registry.find("aether.datafixers.migrations.fix.duration")
+                        .tags("domain", "game", "fix", fix)
+                        .timer();
+                assertThat(timer).isNotNull();
+                assertThat(timer.count()).isEqualTo(1);
+            }
+            assertThat(registry.find("aether.datafixers.migrations.type.duration").timer()).isNull();
+        }
+
+        @Test
+        @DisplayName("records a timer per type when enabled")
+        void recordsPerTypeTimers() {
+            MigrationMetrics perType = new MigrationMetrics(registry, properties(false, true));
+            DataFixer fixer = fixer(perType);
+
+            fixer.update(player, input(), new DataVersion(1), new DataVersion(3));
+            fixer.update(player, input(), new DataVersion(2), new DataVersion(3));
+
+            Timer timer = registry.find("aether.datafixers.migrations.type.duration")
+                    .tags("domain", "game", "type", "player")
+                    .timer();
+            assertThat(timer).isNotNull();
+            assertThat(timer.count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("publishes configured percentiles")
+        void publishesPercentiles() {
+            AetherDataFixersProperties.MetricsProperties properties = properties(true, false);
+            properties.setPercentiles(List.of(0.5, 0.99));
+            MigrationMetrics withPercentiles = new MigrationMetrics(registry, properties);
+
+            fixer(withPercentiles).update(player, input(), new DataVersion(1), new DataVersion(3));
+
+            Timer timer = registry.find("aether.datafixers.migrations.fix.duration")
+                    .tags("fix", "first")
+                    .timer();
+            assertThat(timer).isNotNull();
+            assertThat(timer.takeSnapshot().percentileValues()).hasSize(2);
+        }
+
+        @Test
+        @DisplayName("rejects null domain")
+        void rejectsNullDomain() {
+            assertThatThrownBy(() -> metrics.listener(null))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("domain");
+        }
+    }
+
     @Nested
     @DisplayName("Meter Registry Integration")
     class MeterRegistryIntegration {
@@ -535,4 +725,41 @@ class MigrationMetricsTest {
             assertThat(meterCount).isEqualTo(1);
         }
     }
+
+    private static final class NamedFix implements DataFix<JsonElement> {
+
+        private final String name;
+        private final int from;
+        private final int to;
+
+        private NamedFix(String name, int from, int to) {
+            this.name = name;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public @NotNull String name() {
+            return name;
+        }
+
+        @Override
+        public @NotNull DataVersion fromVersion() {
+            return new DataVersion(from);
+        }
+
+        @Override
+        public @NotNull DataVersion toVersion() {
+            return new DataVersion(to);
+        }
+
+        @Override
+        public @NotNull Dynamic<JsonElement> apply(
+                @NotNull TypeReference type,
+                @NotNull Dynamic<JsonElement> input,
+                @NotNull DataFixerContext context
+        ) {
+            return input.set(name, input.createBoolean(true));
+        }
+    }
 }
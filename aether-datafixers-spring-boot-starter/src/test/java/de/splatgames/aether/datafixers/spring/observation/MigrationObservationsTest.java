@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.spring.observation;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
+import de.splatgames.aether.datafixers.api.fix.DataFix;
+import de.splatgames.aether.datafixers.api.fix.DataFixer;
+import de.splatgames.aether.datafixers.api.fix.DataFixerContext;
+import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
+import de.splatgames.aether.datafixers.core.fix.DataFixerBuilder;
+import de.splatgames.aether.datafixers.core.fix.SimpleSystemDataFixerContext;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for {@link MigrationObservations}.
+ */
+@DisplayName("MigrationObservations")
+class MigrationObservationsTest {
+
+    private static final TypeReference PLAYER = new TypeReference("player");
+
+    private TestObservationRegistry registry;
+    private MigrationObservations observations;
+
+    @BeforeEach
+    void setUp() {
+        registry = TestObservationRegistry.create();
+        observations = new MigrationObservations(registry);
+    }
+
+    @SafeVarargs
+    private final DataFixer fixer(DataFix<JsonElement>... fixes) {
+        DataFixerBuilder builder = new DataFixerBuilder(new DataVersion(3))
+                .withDefaultContext(SimpleSystemDataFixerContext.INSTANCE)
+                .withMigrationListener(observations.fixListener("game"));
+        for (DataFix<JsonElement> fix : fixes) {
+            builder.addFix(PLAYER, fix);
+        }
+        return builder.build();
+    }
+
+    private Dynamic<JsonElement> migrate(DataFixer fixer) {
+        Dynamic<JsonElement> input = new Dynamic<>(GsonOps.INSTANCE, new JsonObject());
+        return observations.observe("game", PLAYER, new DataVersion(1), new DataVersion(3),
+                () -> fixer.update(PLAYER, input, new DataVersion(1), new DataVersion(3)));
+    }
+
+    @Nested
+    @DisplayName("Migration Observation")
+    class MigrationObservation {
+
+        @Test
+        @DisplayName("observes the migration with domain, type and version keys")
+        void observesMigration() {
+            String result = observations.observe("game", PLAYER, new DataVersion(1), new DataVersion(3),
+                    () -> "migrated");
+
+            assertThat(result).isEqualTo("migrated");
+            TestObservationRegistryAssert.assertThat(registry)
+                    .hasSingleObservationThat()
+                    .hasNameEqualTo(MigrationObservations.MIGRATION_OBSERVATION)
+                    .hasLowCardinalityKeyValue(MigrationObservations.KEY_DOMAIN, "game")
+                    .hasLowCardinalityKeyValue(MigrationObservations.KEY_TYPE, "player")
+                    .hasLowCardinalityKeyValue(MigrationObservations.KEY_FROM_VERSION, "1")
+                    .hasLowCardinalityKeyValue(MigrationObservations.KEY_TO_VERSION, "3")
+                    .hasBeenStarted()
+                    .hasBeenStopped();
+        }
+
+        @Test
+        @DisplayName("records errors and rethrows them")
+        void recordsErrors() {
+            assertThatThrownBy(() -> observations.observe("game", PLAYER, new DataVersion(1), new DataVersion(3),
+                    () -> {
+                        throw new IllegalStateException("boom");
+                    }))
+                    .isInstanceOf(IllegalStateException.class);
+
+            TestObservationRegistryAssert.assertThat(registry)
+                    .hasSingleObservationThat()
+                    .hasError()
+                    .hasBeenStopped();
+        }
+
+        @Test
+        @DisplayName("runs the migration with a no-op registry")
+        void runsWithNoopRegistry() {
+            MigrationObservations noop = new MigrationObservations(ObservationRegistry.NOOP);
+
+            assertThat(noop.observe("game", PLAYER, new DataVersion(1), new DataVersion(3), () -> 42))
+                    .isEqualTo(42);
+        }
+
+        @Test
+        @DisplayName("observes a batch with domain and version keys")
+        void observesBatch() {
+            String result = observations.observeBatch("game", new DataVersion(1), new DataVersion(3), () -> "batch");
+
+            assertThat(result).isEqualTo("batch");
+            TestObservationRegistryAssert.assertThat(registry)
+                    .hasSingleObservationThat()
+                    .hasNameEqualTo(MigrationObservations.BATCH_OBSERVATION)
+                    .hasLowCardinalityKeyValue(MigrationObservations.KEY_DOMAIN, "game")
+                    .hasLowCardinalityKeyValue(MigrationObservations.KEY_TO_VERSION, "3")
+                    .hasBeenStopped();
+        }
+
+        @Test
+        @DisplayName("rejects null registry")
+        void rejectsNullRegistry() {
+            assertThatThrownBy(() -> new MigrationObservations(null))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("registry");
+        }
+    }
+
+    @Nested
+    @DisplayName("Fix Observations")
+    class FixObservations {
+
+        @Test
+        @DisplayName("creates a child observation per applied fix")
+        void createsChildObservationPerFix() {
+            migrate(fixer(new NamedFix("first", 1, 2, false), new NamedFix("second", 2, 3, false)));
+
+            TestObservationRegistryAssert.assertThat(registry)
+                    .hasNumberOfObservationsWithNameEqualTo(MigrationObservations.FIX_OBSERVATION, 2)
+                    .hasObservationWithNameEqualTo(MigrationObservations.FIX_OBSERVATION)
+                    .that()
+                    .hasLowCardinalityKeyValue(MigrationObservations.KEY_DOMAIN, "game")
+                    .hasLowCardinalityKeyValue(MigrationObservations.KEY_FIX, "first")
+                    .hasParentObservationContextMatching(
+                            parent -> MigrationObservations.MIGRATION_OBSERVATION.equals(parent.getName()))
+                    .hasBeenStopped();
+            assertThat(registry.getCurrentObservation()).isNull();
+        }
+
+        @Test
+        @DisplayName("records the error of a failing fix")
+        void recordsFailingFix() {
+            DataFixer fixer = fixer(new NamedFix("broken", 1, 3, true));
+
+            assertThatThrownBy(() -> migrate(fixer)).isInstanceOf(RuntimeException.class);
+
+            TestObservationRegistryAssert.assertThat(registry)
+                    .hasObservationWithNameEqualTo(MigrationObservations.FIX_OBSERVATION)
+                    .that()
+                    .hasError()
+                    .hasBeenStopped();
+            assertThat(registry.getCurrentObservation()).isNull();
+        }
+
+        @Test
+        @DisplayName("rejects null domain")
+        void rejectsNullDomain() {
+            assertThatThrownBy(() -> observations.fixListener(null))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("domain");
+        }
+    }
+
+    private static final class NamedFix implements DataFix<JsonElement> {
+
+        private final String name;
+        private final int from;
+        private final int to;
+        private final boolean fail;
+
+        private NamedFix(String name, int from, int to, boolean fail) {
+            this.name = name;
+            this.from = from;
+            this.to = to;
+            this.fail = fail;
+        }
+
+        @Override
+        public @NotNull String name() {
+            return name;
+        }
+
+        @Override
+        public @NotNull DataVersion fromVersion() {
+            return new DataVersion(from);
+        }
+
+        @Override
+        public @NotNull DataVersion toVersion() {
+            return new DataVersion(to);
+        }
+
+        @Override
+        public @NotNull Dynamic<JsonElement> apply(
+                @NotNull TypeReference type,
+                @NotNull Dynamic<JsonElement> input,
+                @NotNull DataFixerContext context
+        ) {
+            if (fail) {
+                throw new IllegalStateException("fix failed");
+            }
+            return input.set(name, input.createBoolean(true));
+        }
+    }
+}
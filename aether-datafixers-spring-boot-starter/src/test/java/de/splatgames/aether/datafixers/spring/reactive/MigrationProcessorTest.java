@@ -0,0 +1,490 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.spring.reactive;
+
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.dynamic.TaggedDynamic;
+import de.splatgames.aether.datafixers.spring.service.MigrationResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link MigrationProcessor}.
+ */
+@DisplayName("MigrationProcessor")
+class MigrationProcessorTest {
+
+    private static final DataVersion FROM = new DataVersion(100);
+    private static final DataVersion TO = new DataVersion(200);
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static List<TaggedDynamic> documents(final int count) {
+        final List<TaggedDynamic> documents = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            documents.add(mock(TaggedDynamic.class));
+        }
+        return documents;
+    }
+
+    private static MigrationResult success(final TaggedDynamic data) {
+        return MigrationResult.success(data, FROM, TO, "default", Duration.ZERO);
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Nested
+    @DisplayName("Constructor")
+    class Constructor {
+
+        @Test
+        @DisplayName("rejects null migration")
+        void rejectsNullMigration() {
+            assertThatThrownBy(() -> new MigrationProcessor(null, executor, 1, 1, true))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("migration");
+        }
+
+        @Test
+        @DisplayName("rejects non-positive parallelism")
+        void rejectsNonPositiveParallelism() {
+            assertThatThrownBy(() -> new MigrationProcessor(MigrationProcessorTest::success, executor, 0, 1, true))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("parallelism");
+        }
+
+        @Test
+        @DisplayName("rejects non-positive prefetch")
+        void rejectsNonPositivePrefetch() {
+            assertThatThrownBy(() -> new MigrationProcessor(MigrationProcessorTest::success, executor, 1, 0, true))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("prefetch");
+        }
+    }
+
+    @Nested
+    @DisplayName("Streaming")
+    class Streaming {
+
+        @Test
+        @DisplayName("emits results in input order when ordered")
+        void emitsResultsInInputOrder() throws InterruptedException {
+            final List<TaggedDynamic> input = documents(50);
+            final AtomicInteger calls = new AtomicInteger();
+            final MigrationProcessor processor = new MigrationProcessor(data -> {
+                // Early documents take longest, so completion order is reversed
+                sleep(calls.getAndIncrement() % 4 == 0 ? 20 : 1);
+                return success(data);
+            }, executor, 4, 16, true);
+
+            final RecordingSubscriber subscriber = run(processor, input, Long.MAX_VALUE);
+
+            assertThat(subscriber.awaitTermination()).isTrue();
+            assertThat(subscriber.error).isNull();
+            assertThat(subscriber.results).extracting(MigrationResult::getData)
+                    .containsExactlyElementsOf(input);
+        }
+
+        @Test
+        @DisplayName("emits every result when unordered")
+        void emitsEveryResultWhenUnordered() throws InterruptedException {
+            final List<TaggedDynamic> input = documents(50);
+            final MigrationProcessor processor = new MigrationProcessor(data -> {
+                sleep(1);
+                return success(data);
+            }, executor, 4, 16, false);
+
+            final RecordingSubscriber subscriber = run(processor, input, Long.MAX_VALUE);
+
+            assertThat(subscriber.awaitTermination()).isTrue();
+            assertThat(subscriber.results).extracting(MigrationResult::getData)
+                    .containsExactlyInAnyOrderElementsOf(input);
+        }
+
+        @Test
+        @DisplayName("never runs more migrations than the parallelism")
+        void boundsParallelism() throws InterruptedException {
+            final AtomicInteger running = new AtomicInteger();
+            final AtomicInteger maxRunning = new AtomicInteger();
+            final MigrationProcessor processor = new MigrationProcessor(data -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(2);
+                running.decrementAndGet();
+                return success(data);
+            }, executor, 3, 64, false);
+
+            final RecordingSubscriber subscriber = run(processor, documents(60), Long.MAX_VALUE);
+
+            assertThat(subscriber.awaitTermination()).isTrue();
+            assertThat(subscriber.results).hasSize(60);
+            assertThat(maxRunning.get()).isBetween(1, 3);
+        }
+
+        @Test
+        @DisplayName("completes immediately for an empty source")
+        void completesForEmptySource() throws InterruptedException {
+            final MigrationProcessor processor =
+                    new MigrationProcessor(MigrationProcessorTest::success, executor, 2, 4, true);
+
+            final RecordingSubscriber subscriber = run(processor, List.of(), 1);
+
+            assertThat(subscriber.awaitTermination()).isTrue();
+            assertThat(subscriber.completed).isTrue();
+            assertThat(subscriber.results).isEmpty();
+        }
+
+        @Test
+        @DisplayName("works with a SubmissionPublisher source")
+        void worksWithSubmissionPublisher() throws InterruptedException {
+            final List<TaggedDynamic> input = documents(100);
+            final MigrationProcessor processor =
+                    new MigrationProcessor(MigrationProcessorTest::success, executor, 4, 8, true);
+            final RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+            processor.subscribe(subscriber);
+
+            try (SubmissionPublisher<TaggedDynamic> source = new SubmissionPublisher<>(executor, 8)) {
+                source.subscribe(processor);
+                // submit blocks while the processor has no demand, pacing the producer
+                input.forEach(source::submit);
+            }
+
+            assertThat(subscriber.awaitTermination()).isTrue();
+            assertThat(subscriber.results).extracting(MigrationResult::getData)
+                    .containsExactlyElementsOf(input);
+        }
+    }
+
+    @Nested
+    @DisplayName("Backpressure")
+    class Backpressure {
+
+        @Test
+        @DisplayName("requests only the prefetch window while downstream requests nothing")
+        void requestsOnlyPrefetchWithoutDemand() throws InterruptedException {
+            final DemandSource source = new DemandSource(documents(1000));
+            final MigrationProcessor processor =
+                    new MigrationProcessor(MigrationProcessorTest::success, executor, 4, 16, true);
+            final RecordingSubscriber subscriber = new RecordingSubscriber(0);
+
+            processor.subscribe(subscriber);
+            source.subscribe(processor);
+            Thread.sleep(100);
+
+            assertThat(source.requested.get()).isEqualTo(16);
+            assertThat(subscriber.results).isEmpty();
+        }
+
+        @Test
+        @DisplayName("replenishes upstream demand as results are consumed")
+        void replenishesAsResultsAreConsumed() throws InterruptedException {
+            final DemandSource source = new DemandSource(documents(1000));
+            final MigrationProcessor processor =
+                    new MigrationProcessor(MigrationProcessorTest::success, executor, 4, 16, true);
+            final RecordingSubscriber subscriber = new RecordingSubscriber(0);
+
+            processor.subscribe(subscriber);
+            source.subscribe(processor);
+            subscriber.request(40);
+            subscriber.awaitResults(40);
+            Thread.sleep(50);
+
+            assertThat(subscriber.results).hasSize(40);
+            // Never more than the prefetch window ahead of what was consumed
+            assertThat(source.requested.get()).isGreaterThanOrEqualTo(40).isLessThanOrEqualTo(40 + 16);
+        }
+
+        @Test
+        @DisplayName("migrates the whole source with small downstream requests")
+        void migratesWholeSourceWithSmallRequests() throws InterruptedException {
+            final List<TaggedDynamic> input = documents(200);
+            final DemandSource source = new DemandSource(input);
+            final MigrationProcessor processor =
+                    new MigrationProcessor(MigrationProcessorTest::success, executor, 4, 8, true);
+            final RecordingSubscriber subscriber = new RecordingSubscriber(1) {
+                @Override
+                public void onNext(final MigrationResult item) {
+                    super.onNext(item);
+                    request(1);
+                }
+            };
+
+            processor.subscribe(subscriber);
+            source.subscribe(processor);
+
+            assertThat(subscriber.awaitTermination()).isTrue();
+            assertThat(subscriber.results).extracting(MigrationResult::getData)
+                    .containsExactlyElementsOf(input);
+        }
+    }
+
+    @Nested
+    @DisplayName("Termination")
+    class Termination {
+
+        @Test
+        @DisplayName("delivers results received before an upstream error, then the error")
+        void deliversUpstreamErrorAfterResults() throws InterruptedException {
+            final List<TaggedDynamic> input = documents(5);
+            final MigrationProcessor processor =
+                    new MigrationProcessor(MigrationProcessorTest::success, executor, 2, 16, true);
+            final RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+            processor.subscribe(subscriber);
+
+            final IllegalStateException failure = new IllegalStateException("cursor closed");
+            processor.onSubscribe(new NoopSubscription());
+            input.forEach(processor::onNext);
+            processor.onError(failure);
+
+            assertThat(subscriber.awaitTermination()).isTrue();
+            assertThat(subscriber.results).hasSize(5);
+            assertThat(subscriber.error).isSameAs(failure);
+        }
+
+        @Test
+        @DisplayName("fails and cancels upstream when the migration function throws")
+        void failsWhenMigrationThrows() throws InterruptedException {
+            final DemandSource source = new DemandSource(documents(100));
+            final MigrationProcessor processor = new MigrationProcessor(data -> {
+                throw new IllegalStateException("boom");
+            }, executor, 2, 16, true);
+
+            final RecordingSubscriber subscriber = new RecordingSubscriber(Long.MAX_VALUE);
+            processor.subscribe(subscriber);
+            source.subscribe(processor);
+
+            assertThat(subscriber.awaitTermination()).isTrue();
+            assertThat(subscriber.error).isInstanceOf(IllegalStateException.class).hasMessage("boom");
+            assertThat(source.cancelled.get()).isTrue();
+        }
+
+        @Test
+        @DisplayName("cancels upstream when downstream cancels")
+        void cancelsUpstreamOnCancel() {
+            final DemandSource source = new DemandSource(documents(100));
+            final MigrationProcessor processor =
+                    new MigrationProcessor(MigrationProcessorTest::success, executor, 2, 16, true);
+            final RecordingSubscriber subscriber = new RecordingSubscriber(0);
+            processor.subscribe(subscriber);
+            source.subscribe(processor);
+
+            subscriber.subscription.cancel();
+
+            assertThat(source.cancelled.get()).isTrue();
+        }
+
+        @Test
+        @DisplayName("signals an error for a non-positive request")
+        void signalsErrorForNonPositiveRequest() throws InterruptedException {
+            final MigrationProcessor processor =
+                    new MigrationProcessor(MigrationProcessorTest::success, executor, 2, 16, true);
+            final RecordingSubscriber subscriber = new RecordingSubscriber(0);
+            processor.subscribe(subscriber);
+            processor.onSubscribe(new NoopSubscription());
+
+            subscriber.request(0);
+
+            assertThat(subscriber.awaitTermination()).isTrue();
+            assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("rejects a second subscriber")
+        void rejectsSecondSubscriber() throws InterruptedException {
+            final MigrationProcessor processor =
+                    new MigrationProcessor(MigrationProcessorTest::success, executor, 2, 16, true);
+            processor.subscribe(new RecordingSubscriber(0));
+            final RecordingSubscriber second = new RecordingSubscriber(0);
+
+            processor.subscribe(second);
+
+            assertThat(second.awaitTermination()).isTrue();
+            assertThat(second.error).isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    private static RecordingSubscriber run(final MigrationProcessor processor,
+                                           final List<TaggedDynamic> input,
+                                           final long initialRequest) {
+        final RecordingSubscriber subscriber = new RecordingSubscriber(initialRequest);
+        processor.subscribe(subscriber);
+        new DemandSource(input).subscribe(processor);
+        return subscriber;
+    }
+
+    /**
+     * Subscriber recording results and terminal signals.
+     */
+    static class RecordingSubscriber implements Flow.Subscriber<MigrationResult> {
+
+        final List<MigrationResult> results = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch terminated = new CountDownLatch(1);
+        private final long initialRequest;
+        volatile Flow.Subscription subscription;
+        volatile Throwable error;
+        volatile boolean completed;
+
+        RecordingSubscriber(final long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+
+        void request(final long n) {
+            subscription.request(n);
+        }
+
+        boolean awaitTermination() throws InterruptedException {
+            return terminated.await(10, TimeUnit.SECONDS);
+        }
+
+        void awaitResults(final int count) throws InterruptedException {
+            final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (results.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+        }
+
+        @Override
+        public void onSubscribe(final Flow.Subscription subscription) {
+            this.subscription = subscription;
+            if (initialRequest > 0) {
+                subscription.request(initialRequest);
+            }
+        }
+
+        @Override
+        public void onNext(final MigrationResult item) {
+            results.add(item);
+        }
+
+        @Override
+        public void onError(final Throwable throwable) {
+            error = throwable;
+            terminated.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+            terminated.countDown();
+        }
+    }
+
+    /**
+     * Source emitting a fixed list strictly on demand and recording the total demand.
+     */
+    static final class DemandSource implements Flow.Publisher<TaggedDynamic> {
+
+        final AtomicLong requested = new AtomicLong();
+        final AtomicBoolean cancelled = new AtomicBoolean();
+        private final List<TaggedDynamic> items;
+
+        DemandSource(final List<TaggedDynamic> items) {
+            this.items = items;
+        }
+
+        @Override
+        public void subscribe(final Flow.Subscriber<? super TaggedDynamic> subscriber) {
+            final AtomicLong demand = new AtomicLong();
+            final AtomicInteger wip = new AtomicInteger();
+            final AtomicInteger index = new AtomicInteger();
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(final long n) {
+                    requested.addAndGet(n);
+                    demand.addAndGet(n);
+                    if (wip.getAndIncrement() != 0) {
+                        return;
+                    }
+                    int missed = 1;
+                    do {
+                        while (demand.get() > 0 && index.get() < items.size() && !cancelled.get()) {
+                            demand.decrementAndGet();
+                            subscriber.onNext(items.get(index.getAndIncrement()));
+                        }
+                        if (index.get() == items.size() && !cancelled.get()) {
+                            index.incrementAndGet();
+                            subscriber.onComplete();
+                        }
+                        missed = wip.addAndGet(-missed);
+                    } while (missed != 0);
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled.set(true);
+                }
+            });
+        }
+    }
+
+    /**
+     * Subscription ignoring all signals, for tests that drive the processor directly.
+     */
+    static final class NoopSubscription implements Flow.Subscription {
+
+        @Override
+        public void request(final long n) {
+        }
+
+        @Override
+        public void cancel() {
+        }
+    }
+}
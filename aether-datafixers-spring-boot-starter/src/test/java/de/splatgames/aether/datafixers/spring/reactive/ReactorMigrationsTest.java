@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.spring.reactive;
+
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.dynamic.TaggedDynamic;
+import de.splatgames.aether.datafixers.core.AetherDataFixer;
+import de.splatgames.aether.datafixers.spring.autoconfigure.DataFixerRegistry;
+import de.splatgames.aether.datafixers.spring.service.DefaultMigrationService;
+import de.splatgames.aether.datafixers.spring.service.MigrationResult;
+import de.splatgames.aether.datafixers.spring.service.MigrationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ReactorMigrations}.
+ */
+@DisplayName("ReactorMigrations")
+class ReactorMigrationsTest {
+
+    private MigrationService service;
+
+    @BeforeEach
+    void setUp() {
+        final AetherDataFixer fixer = mock(AetherDataFixer.class);
+        when(fixer.currentVersion()).thenReturn(new DataVersion(200));
+        when(fixer.update(any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+        final DataFixerRegistry registry = new DataFixerRegistry();
+        registry.register(DataFixerRegistry.DEFAULT_DOMAIN, fixer);
+        service = new DefaultMigrationService(registry, null);
+    }
+
+    @Test
+    @DisplayName("migrates a Flux in order")
+    void migratesFluxInOrder() {
+        final List<TaggedDynamic> input = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            input.add(mock(TaggedDynamic.class));
+        }
+
+        final List<MigrationResult> results = ReactorMigrations.migrate(
+                        service, Flux.fromIterable(input),
+                        request -> request.from(100).toLatest().parallelism(4).prefetch(8))
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(results).allMatch(MigrationResult::isSuccess);
+        assertThat(results).extracting(MigrationResult::getData).containsExactlyElementsOf(input);
+    }
+
+    @Test
+    @DisplayName("propagates downstream demand to the source")
+    void propagatesDemandToSource() {
+        final AtomicLong requested = new AtomicLong();
+        final Flux<TaggedDynamic> source = Flux.range(0, 10_000)
+                .map(i -> mock(TaggedDynamic.class))
+                .doOnRequest(requested::addAndGet);
+
+        final List<MigrationResult> results = ReactorMigrations.migrate(
+                        service, source, request -> request.from(100).to(200).prefetch(16))
+                .take(10, true)
+                .collectList()
+                .block(Duration.ofSeconds(10));
+
+        assertThat(results).hasSize(10);
+        assertThat(requested.get()).isLessThanOrEqualTo(10 + 16);
+    }
+
+    @Test
+    @DisplayName("rejects incomplete configuration eagerly")
+    void rejectsIncompleteConfiguration() {
+        assertThatThrownBy(() -> ReactorMigrations.migrate(
+                service, Flux.empty(), request -> request.toLatest()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Source version");
+    }
+}
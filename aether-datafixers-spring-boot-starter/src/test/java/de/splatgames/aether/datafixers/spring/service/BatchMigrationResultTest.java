@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.spring.service;
+
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.dynamic.TaggedDynamic;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit tests for {@link BatchMigrationResult}.
+ */
+@DisplayName("BatchMigrationResult")
+class BatchMigrationResultTest {
+
+    private static final DataVersion FROM_VERSION = new DataVersion(100);
+    private static final DataVersion TO_VERSION = new DataVersion(200);
+    private static final String DOMAIN = "game";
+    private static final Duration DURATION = Duration.ofMillis(50);
+
+    private static MigrationResult success() {
+        return MigrationResult.success(mock(TaggedDynamic.class), FROM_VERSION, TO_VERSION, DOMAIN, DURATION);
+    }
+
+    private static MigrationResult failure() {
+        return MigrationResult.failure(FROM_VERSION, TO_VERSION, DOMAIN, DURATION, new IllegalStateException("boom"));
+    }
+
+    @Nested
+    @DisplayName("Counts")
+    class Counts {
+
+        @Test
+        @DisplayName("counts successes and failures")
+        void countsSuccessesAndFailures() {
+            MigrationResult failed = failure();
+            BatchMigrationResult batch = BatchMigrationResult.of(
+                    DOMAIN, FROM_VERSION, TO_VERSION, List.of(success(), failed, success()), DURATION);
+
+            assertThat(batch.size()).isEqualTo(3);
+            assertThat(batch.getSuccessCount()).isEqualTo(2);
+            assertThat(batch.getFailureCount()).isEqualTo(1);
+            assertThat(batch.isAllSuccessful()).isFalse();
+            assertThat(batch.getFailures()).containsExactly(failed);
+            assertThat(batch.get(1)).isSameAs(failed);
+        }
+
+        @Test
+        @DisplayName("treats an empty batch as successful")
+        void emptyBatchIsSuccessful() {
+            BatchMigrationResult batch = BatchMigrationResult.of(
+                    DOMAIN, FROM_VERSION, TO_VERSION, List.of(), DURATION);
+
+            assertThat(batch.size()).isZero();
+            assertThat(batch.isAllSuccessful()).isTrue();
+            assertThat(batch.getFailures()).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Immutability")
+    class Immutability {
+
+        @Test
+        @DisplayName("copies the results")
+        void copiesResults() {
+            List<MigrationResult> results = new ArrayList<>(List.of(success()));
+            BatchMigrationResult batch = BatchMigrationResult.of(
+                    DOMAIN, FROM_VERSION, TO_VERSION, results, DURATION);
+
+            results.add(failure());
+
+            assertThat(batch.size()).isEqualTo(1);
+            assertThatThrownBy(() -> batch.getResults().add(success()))
+                    .isInstanceOf(UnsupportedOperationException.class);
+        }
+
+        @Test
+        @DisplayName("exposes the batch configuration")
+        void exposesConfiguration() {
+            BatchMigrationResult batch = BatchMigrationResult.of(
+                    DOMAIN, FROM_VERSION, TO_VERSION, List.of(success()), DURATION);
+
+            assertThat(batch.getDomain()).isEqualTo(DOMAIN);
+            assertThat(batch.getFromVersion()).isEqualTo(FROM_VERSION);
+            assertThat(batch.getToVersion()).isEqualTo(TO_VERSION);
+            assertThat(batch.getDuration()).isEqualTo(DURATION);
+            assertThat(batch.toString()).contains("size=1", "successes=1", "domain='game'");
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation")
+    class Validation {
+
+        @Test
+        @DisplayName("rejects null arguments")
+        void rejectsNullArguments() {
+            assertThatThrownBy(() -> BatchMigrationResult.of(null, FROM_VERSION, TO_VERSION, List.of(), DURATION))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("domain");
+            assertThatThrownBy(() -> BatchMigrationResult.of(DOMAIN, FROM_VERSION, TO_VERSION, null, DURATION))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("results");
+        }
+    }
+}
@@ -22,11 +22,26 @@
 
 package de.splatgames.aether.datafixers.spring.service;
 
+import com.google.gson.JsonObject;
 import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.diagnostic.DiagnosticContext;
+import de.splatgames.aether.datafixers.api.diagnostic.DiagnosticOptions;
+import de.splatgames.aether.datafixers.api.dynamic.Dynamic;
 import de.splatgames.aether.datafixers.api.dynamic.TaggedDynamic;
+import de.splatgames.aether.datafixers.codec.json.gson.GsonOps;
 import de.splatgames.aether.datafixers.core.AetherDataFixer;
+import de.splatgames.aether.datafixers.spring.AetherDataFixersProperties;
+import de.splatgames.aether.datafixers.spring.async.MigrationExecutors;
 import de.splatgames.aether.datafixers.spring.autoconfigure.DataFixerRegistry;
+import de.splatgames.aether.datafixers.spring.cache.LocalMigrationResultCache;
+import de.splatgames.aether.datafixers.spring.cache.MigrationResultCache;
+import de.splatgames.aether.datafixers.spring.config.MigrationExecutorType;
 import de.splatgames.aether.datafixers.spring.metrics.MigrationMetrics;
+import de.splatgames.aether.datafixers.spring.observation.MigrationObservations;
+import de.splatgames.aether.datafixers.spring.statistics.MigrationStatistics;
+import io.micrometer.observation.tck.TestObservationRegistry;
+import io.micrometer.observation.tck.TestObservationRegistryAssert;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -35,14 +50,22 @@ import org.junit.jupiter.api.Timeout;
 import org.mockito.ArgumentCaptor;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SubmissionPublisher;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -50,6 +73,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -367,6 +391,91 @@ class DefaultMigrationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Observations")
+    class Observations {
+
+        @Test
+        @DisplayName("runs the migration inside an observation")
+        void runsMigrationInsideObservation() {
+            TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+            DefaultMigrationService observed = new DefaultMigrationService(
+                    registry, metrics, Runnable::run, new MigrationObservations(observationRegistry));
+            when(mockData.type()).thenReturn(new TypeReference("player"));
+            when(mockFixer.update(any(), any(), any())).thenReturn(mock(TaggedDynamic.class));
+
+            MigrationResult result = observed.migrate(mockData).from(100).to(200).execute();
+
+            assertThat(result.isSuccess()).isTrue();
+            TestObservationRegistryAssert.assertThat(observationRegistry)
+                    .hasSingleObservationThat()
+                    .hasNameEqualTo(MigrationObservations.MIGRATION_OBSERVATION)
+                    .hasLowCardinalityKeyValue(MigrationObservations.KEY_TYPE, "player")
+                    .hasLowCardinalityKeyValue(MigrationObservations.KEY_FROM_VERSION, "100")
+                    .hasLowCardinalityKeyValue(MigrationObservations.KEY_TO_VERSION, "200")
+                    .hasBeenStopped();
+        }
+    }
+
+    @Nested
+    @DisplayName("Live Statistics")
+    class LiveStatistics {
+
+        @Test
+        @DisplayName("records successful and failed migrations")
+        void recordsSuccessAndFailure() {
+            MigrationStatistics statistics = new MigrationStatistics();
+            DefaultMigrationService recorded = new DefaultMigrationService(
+                    registry, metrics, Runnable::run, null, statistics);
+            when(mockFixer.update(any(), any(), any()))
+                    .thenReturn(mock(TaggedDynamic.class))
+                    .thenThrow(new IllegalStateException("boom"));
+
+            recorded.migrate(mockData).from(100).to(200).execute();
+            recorded.migrate(mockData).from(100).to(200).execute();
+
+            MigrationStatistics.DomainStatistics snapshot = statistics.snapshot(DataFixerRegistry.DEFAULT_DOMAIN);
+            assertThat(snapshot).isNotNull();
+            assertThat(snapshot.migrations()).isEqualTo(2);
+            assertThat(snapshot.failures()).isEqualTo(1);
+            assertThat(snapshot.active()).isZero();
+            assertThat(snapshot.queued()).isZero();
+        }
+
+        @Test
+        @DisplayName("counts async migrations as queued until the executor runs them")
+        void countsQueuedAsyncMigrations() {
+            MigrationStatistics statistics = new MigrationStatistics();
+            List<Runnable> pending = new ArrayList<>();
+            DefaultMigrationService recorded = new DefaultMigrationService(
+                    registry, metrics, pending::add, null, statistics);
+            when(mockFixer.update(any(), any(), any())).thenReturn(mock(TaggedDynamic.class));
+
+            CompletableFuture<MigrationResult> future = recorded.migrate(mockData).from(100).to(200).executeAsync();
+
+            assertThat(statistics.snapshot(DataFixerRegistry.DEFAULT_DOMAIN).queued()).isEqualTo(1);
+
+            pending.forEach(Runnable::run);
+
+            assertThat(future).isCompleted();
+            assertThat(statistics.snapshot(DataFixerRegistry.DEFAULT_DOMAIN).queued()).isZero();
+            assertThat(statistics.snapshot(DataFixerRegistry.DEFAULT_DOMAIN).migrations()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("releases the queue slot when the executor rejects the migration")
+        void releasesQueueOnRejection() {
+            MigrationStatistics statistics = new MigrationStatistics();
+            DefaultMigrationService recorded = new DefaultMigrationService(registry, metrics, command -> {
+                throw new RejectedExecutionException("full");
+            }, null, statistics);
+
+            assertThatThrownBy(() -> recorded.migrate(mockData).from(100).to(200).executeAsync())
+                    .isInstanceOf(RejectedExecutionException.class);
+            assertThat(statistics.snapshot(DataFixerRegistry.DEFAULT_DOMAIN).queued()).isZero();
+        }
+    }
+
     @Nested
     @DisplayName("Edge Cases and Worst Case")
     class EdgeCases {
@@ -502,6 +611,31 @@ class DefaultMigrationServiceTest {
             assertThat(result.isSuccess()).isTrue();
         }
 
+        @Test
+        @Timeout(5)
+        @DisplayName("executeAsync runs on the domain's executor")
+        void executeAsyncRunsOnDomainExecutor() throws Exception {
+            when(mockFixer.update(any(), any(), any())).thenReturn(mockData);
+            AetherDataFixersProperties.AsyncProperties async = new AetherDataFixersProperties.AsyncProperties();
+            async.setType(MigrationExecutorType.BOUNDED);
+            async.setPerDomain(true);
+            AtomicReference<String> threadName = new AtomicReference<>();
+            doAnswer(invocation -> {
+                threadName.set(Thread.currentThread().getName());
+                return null;
+            }).when(metrics).recordSuccess(anyString(), anyInt(), anyInt(), any(Duration.class));
+
+            try (MigrationExecutors executors = MigrationExecutors.create(async, registry.getDomains())) {
+                DefaultMigrationService isolated = new DefaultMigrationService(
+                        registry, metrics, executors, null, null);
+
+                MigrationResult result = isolated.migrate(mockData).from(100).to(200).executeAsync().get();
+
+                assertThat(result.isSuccess()).isTrue();
+                assertThat(threadName.get()).startsWith("aether-migration-default-");
+            }
+        }
+
         @Test
         @Timeout(5)
         @DisplayName("executeAsync handles exceptions")
@@ -576,6 +710,397 @@ class DefaultMigrationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("Streaming Execution")
+    class StreamingExecution {
+
+        private List<MigrationResult> collect(final Flow.Publisher<MigrationResult> publisher,
+                                              final SubmissionPublisher<TaggedDynamic> source,
+                                              final List<TaggedDynamic> input) throws InterruptedException {
+            final List<MigrationResult> results = Collections.synchronizedList(new ArrayList<>());
+            final CountDownLatch done = new CountDownLatch(1);
+            publisher.subscribe(new Flow.Subscriber<>() {
+                @Override
+                public void onSubscribe(final Flow.Subscription subscription) {
+                    subscription.request(Long.MAX_VALUE);
+                }
+
+                @Override
+                public void onNext(final MigrationResult item) {
+                    results.add(item);
+                }
+
+                @Override
+                public void onError(final Throwable throwable) {
+                    done.countDown();
+                }
+
+                @Override
+                public void onComplete() {
+                    done.countDown();
+                }
+            });
+            // Submit only after subscribing, a SubmissionPublisher drops items without subscribers
+            input.forEach(source::submit);
+            source.close();
+            assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+            return results;
+        }
+
+        @Test
+        @DisplayName("migrates every document of the stream with metrics")
+        void migratesEveryDocument() throws InterruptedException {
+            when(mockFixer.update(any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+            final List<TaggedDynamic> input = List.of(
+                    mock(TaggedDynamic.class), mock(TaggedDynamic.class), mock(TaggedDynamic.class));
+            final SubmissionPublisher<TaggedDynamic> source = new SubmissionPublisher<>();
+
+            final Flow.Publisher<MigrationResult> publisher = service.migrateFlow(source)
+                    .from(100)
+                    .toLatest()
+                    .parallelism(2)
+                    .publish();
+            final List<MigrationResult> results = collect(publisher, source, input);
+
+            assertThat(results).extracting(MigrationResult::getData).containsExactlyElementsOf(input);
+            assertThat(results).allMatch(r -> r.getToVersion().equals(new DataVersion(200)));
+            verify(metrics, times(3)).recordSuccess(eq("default"), eq(100), eq(200), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("runs migrations on the configured executor")
+        void runsOnConfiguredExecutor() throws InterruptedException {
+            when(mockFixer.update(any(), any(), any())).thenReturn(mockData);
+            final AtomicInteger executed = new AtomicInteger();
+            final Executor counting = command -> {
+                executed.incrementAndGet();
+                command.run();
+            };
+            final SubmissionPublisher<TaggedDynamic> source = new SubmissionPublisher<>();
+
+            final Flow.Publisher<MigrationResult> publisher = service.migrateFlow(source)
+                    .from(100)
+                    .to(200)
+                    .executeOn(counting)
+                    .publish();
+            final List<MigrationResult> results = collect(publisher, source, List.of(mockData, mockData));
+
+            assertThat(results).hasSize(2);
+            assertThat(executed.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("publish() rejects missing source version")
+        void rejectsMissingSourceVersion() {
+            assertThatThrownBy(() -> service.migrateFlow(new SubmissionPublisher<>()).toLatest().publish())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Source version");
+        }
+
+        @Test
+        @DisplayName("publish() rejects unknown domain")
+        void rejectsUnknownDomain() {
+            assertThatThrownBy(() -> service.migrateFlow(new SubmissionPublisher<>())
+                    .usingDomain("missing")
+                    .from(100)
+                    .toLatest()
+                    .publish())
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("missing");
+        }
+
+        @Test
+        @DisplayName("rejects non-positive parallelism and prefetch")
+        void rejectsNonPositiveSettings() {
+            final MigrationService.FlowRequestBuilder builder = service.migrateFlow(new SubmissionPublisher<>());
+
+            assertThatThrownBy(() -> builder.parallelism(0)).isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> builder.prefetch(-1)).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch Execution")
+    class BatchExecution {
+
+        @Test
+        @DisplayName("migrates every document and records one aggregated metrics sample")
+        void migratesEveryDocument() {
+            when(mockFixer.update(any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(0));
+            final List<TaggedDynamic> input = List.of(
+                    mock(TaggedDynamic.class), mock(TaggedDynamic.class), mock(TaggedDynamic.class));
+
+            final BatchMigrationResult batch = service.migrateAll(input).from(100).toLatest().execute();
+
+            assertThat(batch.size()).isEqualTo(3);
+            assertThat(batch.isAllSuccessful()).isTrue();
+            assertThat(batch.getToVersion()).isEqualTo(new DataVersion(200));
+            assertThat(batch.getResults()).extracting(MigrationResult::getData).containsExactlyElementsOf(input);
+            verify(metrics).recordBatch(eq("default"), eq(100), eq(200), eq(3),
+                    eq(List.of()), any(Duration.class));
+            verify(metrics, never()).recordSuccess(anyString(), anyInt(), anyInt(), any());
+        }
+
+        @Test
+        @DisplayName("aggregates the diagnostic reports of the batch when requested")
+        void aggregatesDiagnosticReports() {
+            when(mockFixer.update(any(), any(), any(), any())).thenAnswer(invocation -> {
+                final DiagnosticContext context = invocation.getArgument(3);
+                context.reportBuilder().startMigration(new TypeReference("config"),
+                        invocation.getArgument(1), invocation.getArgument(2));
+                context.reportBuilder().addWarning("legacy field");
+                return invocation.getArgument(0);
+            });
+            final List<TaggedDynamic> input = List.of(mock(TaggedDynamic.class), mock(TaggedDynamic.class));
+
+            final BatchMigrationResult batch = service.migrateAll(input)
+                    .from(100)
+                    .toLatest()
+                    .withDiagnostics(DiagnosticOptions.minimal())
+                    .execute();
+
+            assertThat(batch.isAllSuccessful()).isTrue();
+            assertThat(batch.getReport()).hasValueSatisfying(report -> {
+                assertThat(report.migrations()).isEqualTo(2);
+                assertThat(report.warningCount()).isEqualTo(2);
+                assertThat(report.touchedTypes()).containsEntry("config", 2L);
+            });
+            verify(mockFixer, never()).update(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("carries no report without diagnostics and rejects sampled options")
+        void noReportWithoutDiagnostics() {
+            when(mockFixer.update(any(), any(), any())).thenReturn(mockData);
+
+            final BatchMigrationResult batch = service.migrateAll(List.of(mockData)).from(100).to(200).execute();
+
+            assertThat(batch.getReport()).isEmpty();
+            assertThatThrownBy(() -> service.migrateAll(List.of(mockData))
+                    .withDiagnostics(DiagnosticOptions.sampled(DiagnosticOptions.Sampling.everyNth(2))))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("captures failures per document without aborting the batch")
+        void capturesFailuresPerDocument() {
+            final IllegalStateException error = new IllegalStateException("boom");
+            when(mockFixer.update(any(), any(), any()))
+                    .thenReturn(mockData)
+                    .thenThrow(error)
+                    .thenReturn(mockData);
+
+            final BatchMigrationResult batch = service.migrateStream(
+                    Stream.of(mockData, mockData, mockData)).from(100).to(200).execute();
+
+            assertThat(batch.getSuccessCount()).isEqualTo(2);
+            assertThat(batch.getFailureCount()).isEqualTo(1);
+            assertThat(batch.get(1).getError()).contains(error);
+            verify(metrics).recordBatch(eq("default"), eq(100), eq(200), eq(2),
+                    eq(List.of(error)), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("runs the whole batch inside one observation")
+        void runsBatchInsideOneObservation() {
+            TestObservationRegistry observationRegistry = TestObservationRegistry.create();
+            DefaultMigrationService observed = new DefaultMigrationService(
+                    registry, metrics, Runnable::run, new MigrationObservations(observationRegistry));
+            when(mockFixer.update(any(), any(), any())).thenReturn(mockData);
+
+            observed.migrateAll(List.of(mockData, mockData)).from(100).to(200).execute();
+
+            TestObservationRegistryAssert.assertThat(observationRegistry)
+                    .hasSingleObservationThat()
+                    .hasNameEqualTo(MigrationObservations.BATCH_OBSERVATION)
+                    .hasLowCardinalityKeyValue(MigrationObservations.KEY_FROM_VERSION, "100")
+                    .hasBeenStopped();
+        }
+
+        @Test
+        @DisplayName("counts every document in the live statistics")
+        void countsDocumentsInStatistics() {
+            MigrationStatistics statistics = new MigrationStatistics();
+            DefaultMigrationService recorded = new DefaultMigrationService(
+                    registry, metrics, Runnable::run, null, statistics);
+            when(mockFixer.update(any(), any(), any()))
+                    .thenReturn(mockData)
+                    .thenThrow(new IllegalStateException("boom"));
+
+            recorded.migrateAll(List.of(mockData, mockData)).from(100).to(200).execute();
+
+            MigrationStatistics.DomainStatistics snapshot = statistics.snapshot(DataFixerRegistry.DEFAULT_DOMAIN);
+            assertThat(snapshot.migrations()).isEqualTo(2);
+            assertThat(snapshot.failures()).isEqualTo(1);
+            assertThat(snapshot.active()).isZero();
+        }
+
+        @Test
+        @DisplayName("executeAsync() runs the batch on the domain executor")
+        void executeAsyncRunsOnDomainExecutor() throws Exception {
+            when(mockFixer.update(any(), any(), any())).thenReturn(mockData);
+            List<Runnable> pending = new ArrayList<>();
+            DefaultMigrationService deferred = new DefaultMigrationService(registry, metrics, pending::add);
+
+            CompletableFuture<BatchMigrationResult> future =
+                    deferred.migrateAll(List.of(mockData)).from(100).to(200).executeAsync();
+
+            assertThat(future).isNotDone();
+            pending.forEach(Runnable::run);
+            assertThat(future.get(1, TimeUnit.SECONDS).getSuccessCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("validates the configuration before execution")
+        void validatesConfiguration() {
+            assertThatThrownBy(() -> service.migrateAll(List.of(mockData)).toLatest().execute())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("Source version");
+            assertThatThrownBy(() -> service.migrateAll(List.of(mockData))
+                    .usingDomain("missing").from(100).toLatest().executeAsync())
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("missing");
+        }
+
+        @Test
+        @DisplayName("executes a batch at most once")
+        void executesAtMostOnce() {
+            when(mockFixer.update(any(), any(), any())).thenReturn(mockData);
+            final MigrationService.BatchRequestBuilder builder =
+                    service.migrateAll(List.of(mockData)).from(100).to(200);
+            builder.execute();
+
+            assertThatThrownBy(builder::execute)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("already executed");
+        }
+
+        @Test
+        @DisplayName("migrateAll() rejects null documents")
+        void rejectsNullDocuments() {
+            assertThatThrownBy(() -> service.migrateAll(null)).isInstanceOf(NullPointerException.class);
+            assertThatThrownBy(() -> service.migrateAll(Collections.singletonList(null)))
+                    .isInstanceOf(NullPointerException.class);
+        }
+
+        @Test
+        @DisplayName("default implementation migrates each document individually")
+        void defaultImplementationMigratesIndividually() {
+            when(mockFixer.update(any(), any(), any())).thenReturn(mockData);
+            final MigrationService delegating = mock(MigrationService.class, invocation ->
+                    invocation.getMethod().isDefault()
+                            ? invocation.callRealMethod()
+                            : invocation.getMethod().invoke(service, invocation.getArguments()));
+
+            final BatchMigrationResult batch = delegating.migrateAll(List.of(mockData, mockData))
+                    .from(100)
+                    .toLatest()
+                    .execute();
+
+            assertThat(batch.getSuccessCount()).isEqualTo(2);
+            verify(metrics, times(2)).recordSuccess(eq("default"), eq(100), eq(200), any(Duration.class));
+            verify(metrics, never()).recordBatch(anyString(), anyInt(), anyInt(), anyInt(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Result Cache")
+    class ResultCache {
+
+        private LocalMigrationResultCache cache;
+        private DefaultMigrationService cached;
+        private TaggedDynamic input;
+
+        @BeforeEach
+        void setUpCache() {
+            cache = new LocalMigrationResultCache(100, Duration.ZERO);
+            cached = new DefaultMigrationService(registry, metrics,
+                    MigrationExecutors.create(commonPoolProperties(), Set.of()), null, null, cache);
+            JsonObject json = new JsonObject();
+            json.addProperty("name", "legacy");
+            input = new TaggedDynamic(new TypeReference("config"), new Dynamic<>(GsonOps.INSTANCE, json));
+        }
+
+        private TaggedDynamic migrated() {
+            JsonObject json = new JsonObject();
+            json.addProperty("name", "current");
+            return new TaggedDynamic(new TypeReference("config"), new Dynamic<>(GsonOps.INSTANCE, json));
+        }
+
+        private AetherDataFixersProperties.AsyncProperties commonPoolProperties() {
+            AetherDataFixersProperties.AsyncProperties properties = new AetherDataFixersProperties.AsyncProperties();
+            properties.setType(MigrationExecutorType.COMMON_POOL);
+            return properties;
+        }
+
+        @Test
+        @DisplayName("serves repeated migrations of the same payload from the cache")
+        void servesRepeatedMigrationsFromCache() {
+            TaggedDynamic migrated = migrated();
+            when(mockFixer.update(any(), any(), any())).thenReturn(migrated);
+
+            MigrationResult first = cached.migrate(input).from(100).to(200).execute();
+            MigrationResult second = cached.migrate(input).from(100).to(200).execute();
+
+            assertThat(first.getData()).isSameAs(migrated);
+            assertThat(second.getData().value()).isEqualTo(migrated.value()).isNotSameAs(migrated.value());
+            verify(mockFixer, times(1)).update(any(), any(), any());
+            verify(metrics).recordCacheMiss("default");
+            verify(metrics).recordCacheHit("default");
+            verify(metrics, times(1)).recordSuccess(eq("default"), eq(100), eq(200), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("does not share results between target versions")
+        void keysIncludeVersions() {
+            when(mockFixer.update(any(), any(), any())).thenReturn(migrated());
+
+            cached.migrate(input).from(100).to(200).execute();
+            cached.migrate(input).from(100).to(150).execute();
+
+            verify(mockFixer, times(2)).update(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("never caches failures")
+        void neverCachesFailures() {
+            when(mockFixer.update(any(), any(), any()))
+                    .thenThrow(new IllegalStateException("boom"))
+                    .thenReturn(migrated());
+
+            assertThat(cached.migrate(input).from(100).to(200).execute().isFailure()).isTrue();
+            assertThat(cached.migrate(input).from(100).to(200).execute().isSuccess()).isTrue();
+            assertThat(cache.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("treats a failing cache as a miss")
+        void treatsFailingCacheAsMiss() {
+            MigrationResultCache broken = mock(MigrationResultCache.class);
+            when(broken.get(any())).thenThrow(new IllegalStateException("unavailable"));
+            doThrow(new IllegalStateException("unavailable")).when(broken).put(any(), any());
+            DefaultMigrationService service = new DefaultMigrationService(registry, metrics,
+                    MigrationExecutors.create(commonPoolProperties(), Set.of()), null, null, broken);
+            when(mockFixer.update(any(), any(), any())).thenReturn(migrated());
+
+            assertThat(service.migrate(input).from(100).to(200).execute().isSuccess()).isTrue();
+            verify(metrics).recordCacheMiss("default");
+        }
+
+        @Test
+        @DisplayName("serves batch documents from the cache")
+        void servesBatchDocumentsFromCache() {
+            when(mockFixer.update(any(), any(), any())).thenReturn(migrated());
+
+            BatchMigrationResult batch = cached.migrateAll(List.of(input, input)).from(100).to(200).execute();
+
+            assertThat(batch.getSuccessCount()).isEqualTo(2);
+            verify(mockFixer, times(1)).update(any(), any(), any());
+            verify(metrics).recordBatch(eq("default"), eq(100), eq(200), eq(1),
+                    eq(List.of()), any(Duration.class));
+        }
+    }
+
     @Nested
     @DisplayName("Service Methods")
     class ServiceMethods {
@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package de.splatgames.aether.datafixers.spring.statistics;
+
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.api.TypeReference;
+import de.splatgames.aether.datafixers.api.fix.DataFix;
+import de.splatgames.aether.datafixers.core.fix.MigrationListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link MigrationStatistics}.
+ */
+@DisplayName("MigrationStatistics")
+class MigrationStatisticsTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final TypeReference PLAYER = new TypeReference("player");
+
+    private AtomicLong clock;
+    private MigrationStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        clock = new AtomicLong(1_000 * SECOND);
+        statistics = new MigrationStatistics(Duration.ofSeconds(10), clock::get);
+    }
+
+    private void migrate(String domain, long nanos, boolean failed) {
+        statistics.migrationStarted(domain);
+        if (failed) {
+            statistics.recordFailure(domain, nanos);
+        } else {
+            statistics.recordSuccess(domain, nanos);
+        }
+    }
+
+    private static DataFix<?> fix(String name) {
+        DataFix<?> fix = mock(DataFix.class);
+        when(fix.name()).thenReturn(name);
+        when(fix.fromVersion()).thenReturn(new DataVersion(1));
+        when(fix.toVersion()).thenReturn(new DataVersion(2));
+        return fix;
+    }
+
+    @Nested
+    @DisplayName("Construction")
+    class Construction {
+
+        @Test
+        @DisplayName("uses a 60 second window by default")
+        void usesDefaultWindow() {
+            assertThat(new MigrationStatistics().window()).isEqualTo(Duration.ofSeconds(60));
+        }
+
+        @Test
+        @DisplayName("rejects windows shorter than one second")
+        void rejectsShortWindow() {
+            assertThatThrownBy(() -> new MigrationStatistics(Duration.ofMillis(500)))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("window");
+        }
+
+        @Test
+        @DisplayName("rejects null window")
+        void rejectsNullWindow() {
+            assertThatThrownBy(() -> new MigrationStatistics(null))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("window");
+        }
+    }
+
+    @Nested
+    @DisplayName("Rolling Window")
+    class RollingWindow {
+
+        @Test
+        @DisplayName("returns null for domains without activity")
+        void returnsNullForUnknownDomain() {
+            assertThat(statistics.snapshot("game")).isNull();
+            assertThat(statistics.snapshot()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("counts migrations and failures")
+        void countsMigrationsAndFailures() {
+            migrate("game", MILLI, false);
+            migrate("game", MILLI, false);
+            migrate("game", MILLI, true);
+
+            MigrationStatistics.DomainStatistics snapshot = statistics.snapshot("game");
+
+            assertThat(snapshot.windowSeconds()).isEqualTo(10);
+            assertThat(snapshot.migrations()).isEqualTo(3);
+            assertThat(snapshot.failures()).isEqualTo(1);
+            assertThat(snapshot.active()).isZero();
+        }
+
+        @Test
+        @DisplayName("computes throughput over the elapsed part of the window")
+        void computesThroughput() {
+            for (int second = 0; second < 4; second++) {
+                for (int i = 0; i < 5; i++) {
+                    migrate("game", MILLI, false);
+                }
+                clock.addAndGet(SECOND);
+            }
+            clock.addAndGet(-SECOND);
+
+            assertThat(statistics.snapshot("game").throughputPerSecond()).isCloseTo(5.0, within(0.001));
+        }
+
+        @Test
+        @DisplayName("drops migrations that left the window")
+        void dropsExpiredMigrations() {
+            migrate("game", MILLI, false);
+            clock.addAndGet(5 * SECOND);
+            migrate("game", MILLI, false);
+            clock.addAndGet(6 * SECOND);
+
+            assertThat(statistics.snapshot("game").migrations()).isEqualTo(1);
+
+            clock.addAndGet(10 * SECOND);
+
+            assertThat(statistics.snapshot("game").migrations()).isZero();
+        }
+
+        @Test
+        @DisplayName("reuses slots after the window wrapped around")
+        void reusesSlots() {
+            migrate("game", MILLI, false);
+            clock.addAndGet(10 * SECOND);
+            migrate("game", MILLI, false);
+
+            assertThat(statistics.snapshot("game").migrations()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("lists all domains sorted by name")
+        void listsDomainsSorted() {
+            migrate("user", MILLI, false);
+            migrate("game", MILLI, false);
+
+            assertThat(statistics.snapshot()).containsOnlyKeys("game", "user");
+            assertThat(statistics.snapshot().keySet()).containsExactly("game", "user");
+        }
+
+        @Test
+        @DisplayName("counts every migration recorded concurrently")
+        void countsConcurrentMigrations() throws InterruptedException {
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            for (int t = 0; t < 4; t++) {
+                executor.execute(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        migrate("game", MILLI, false);
+                    }
+                });
+            }
+            executor.shutdown();
+            assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(statistics.snapshot("game").migrations()).isEqualTo(4_000);
+            assertThat(statistics.snapshot("game").active()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Latency")
+    class Latency {
+
+        @Test
+        @DisplayName("reports mean, percentiles and maximum")
+        void reportsLatency() {
+            for (int i = 1; i <= 100; i++) {
+                migrate("game", i * MILLI, false);
+            }
+
+            MigrationStatistics.DomainStatistics snapshot = statistics.snapshot("game");
+
+            assertThat(snapshot.meanMillis()).isCloseTo(50.5, within(0.001));
+            assertThat(snapshot.p50Millis()).isCloseTo(50.0, within(50.0 * 0.125));
+            assertThat(snapshot.p99Millis()).isCloseTo(99.0, within(99.0 * 0.125));
+            assertThat(snapshot.maxMillis()).isCloseTo(100.0, within(0.001));
+        }
+
+        @Test
+        @DisplayName("reports zero latency without migrations in the window")
+        void reportsZeroWithoutMigrations() {
+            statistics.migrationQueued("game");
+
+            MigrationStatistics.DomainStatistics snapshot = statistics.snapshot("game");
+
+            assertThat(snapshot.meanMillis()).isZero();
+            assertThat(snapshot.p99Millis()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Queue Depth")
+    class QueueDepth {
+
+        @Test
+        @DisplayName("tracks queued and active migrations")
+        void tracksQueuedAndActive() {
+            statistics.migrationQueued("game");
+            statistics.migrationQueued("game");
+            statistics.migrationDequeued("game");
+            statistics.migrationStarted("game");
+
+            MigrationStatistics.DomainStatistics snapshot = statistics.snapshot("game");
+
+            assertThat(snapshot.queued()).isEqualTo(1);
+            assertThat(snapshot.active()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Slowest Fixes")
+    class SlowestFixes {
+
+        @Test
+        @DisplayName("ranks fixes by mean duration")
+        void ranksFixesByMean() {
+            MigrationListener listener = statistics.listener("game");
+            DataFix<?> fast = fix("fast");
+            DataFix<?> slow = fix("slow");
+
+            listener.onFixApplied(PLAYER, fast, MILLI);
+            listener.onFixApplied(PLAYER, slow, 10 * MILLI);
+            listener.onFixFailed(PLAYER, slow, 20 * MILLI, new IllegalStateException());
+
+            assertThat(statistics.snapshot("game").slowestFixes())
+                    .extracting(MigrationStatistics.FixStatistics::fix)
+                    .containsExactly("slow", "fast");
+            MigrationStatistics.FixStatistics slowest = statistics.snapshot("game").slowestFixes().get(0);
+            assertThat(slowest.count()).isEqualTo(2);
+            assertThat(slowest.meanMillis()).isCloseTo(15.0, within(0.001));
+            assertThat(slowest.maxMillis()).isCloseTo(20.0, within(0.001));
+        }
+
+        @Test
+        @DisplayName("reports at most five fixes")
+        void limitsFixCount() {
+            MigrationListener listener = statistics.listener("game");
+            for (int i = 0; i < 8; i++) {
+                listener.onFixApplied(PLAYER, fix("fix" + i), (i + 1) * MILLI);
+            }
+
+            assertThat(statistics.snapshot("game").slowestFixes())
+                    .hasSize(MigrationStatistics.SLOWEST_FIX_COUNT)
+                    .extracting(MigrationStatistics.FixStatistics::fix)
+                    .startsWith("fix7");
+        }
+
+        @Test
+        @DisplayName("rejects null domain")
+        void rejectsNullDomain() {
+            assertThatThrownBy(() -> statistics.listener(null))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("domain");
+        }
+    }
+}
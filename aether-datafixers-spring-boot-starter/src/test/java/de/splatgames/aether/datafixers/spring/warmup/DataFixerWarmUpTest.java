@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2025 Splatgames.de Software and Contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package de.splatgames.aether.datafixers.spring.warmup;
+
+import de.splatgames.aether.datafixers.api.DataVersion;
+import de.splatgames.aether.datafixers.core.AetherDataFixer;
+import de.splatgames.aether.datafixers.core.warmup.WarmUpListener;
+import de.splatgames.aether.datafixers.core.warmup.WarmUpOptions;
+import de.splatgames.aether.datafixers.core.warmup.WarmUpReport;
+import de.splatgames.aether.datafixers.spring.autoconfigure.DataFixerRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link DataFixerWarmUp}.
+ */
+@DisplayName("DataFixerWarmUp")
+class DataFixerWarmUpTest {
+
+    private static final WarmUpReport REPORT = new WarmUpReport(2, 4, 1, 3, 12L, 0L, Duration.ofMillis(20));
+
+    private DataFixerRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new DataFixerRegistry();
+    }
+
+    @Nested
+    @DisplayName("Constructor")
+    class Constructor {
+
+        @Test
+        @DisplayName("rejects null arguments")
+        void rejectsNullArguments() {
+            assertThatThrownBy(() -> new DataFixerWarmUp(null, WarmUpOptions.prepareOnly()))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("registry");
+            assertThatThrownBy(() -> new DataFixerWarmUp(registry, null))
+                    .isInstanceOf(NullPointerException.class)
+                    .hasMessageContaining("options");
+        }
+    }
+
+    @Nested
+    @DisplayName("warmUp()")
+    class WarmUp {
+
+        @Test
+        @DisplayName("is PENDING before it runs")
+        void pendingBeforeRun() {
+            DataFixerWarmUp warmUp = new DataFixerWarmUp(registry, WarmUpOptions.prepareOnly());
+
+            assertThat(warmUp.getState()).isEqualTo(DataFixerWarmUp.State.PENDING);
+            assertThat(warmUp.getProgress()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("warms up every domain and records its report")
+        void warmsUpEveryDomain() {
+            registry.register("game", fixer(REPORT));
+            registry.register("user", fixer(REPORT));
+            DataFixerWarmUp warmUp = new DataFixerWarmUp(registry, WarmUpOptions.prepareOnly());
+
+            Map<String, WarmUpReport> reports = warmUp.warmUp();
+
+            assertThat(reports).containsOnlyKeys("game", "user");
+            assertThat(warmUp.getState()).isEqualTo(DataFixerWarmUp.State.COMPLETED);
+            assertThat(warmUp.getProgress().get("game"))
+                    .isEqualTo(new DataFixerWarmUp.DomainProgress(
+                            DataFixerWarmUp.State.COMPLETED, 3, 12L, 0L, Duration.ofMillis(20), null));
+        }
+
+        @Test
+        @DisplayName("continues after a failing domain and ends FAILED")
+        void continuesAfterFailure() {
+            AetherDataFixer broken = mock(AetherDataFixer.class);
+            when(broken.currentVersion()).thenReturn(new DataVersion(1));
+            when(broken.warmUp(any())).thenThrow(new IllegalStateException("schema broken"));
+            registry.register("broken", broken);
+            registry.register("game", fixer(REPORT));
+            DataFixerWarmUp warmUp = new DataFixerWarmUp(registry, WarmUpOptions.prepareOnly());
+
+            Map<String, WarmUpReport> reports = warmUp.warmUp();
+
+            assertThat(reports).containsOnlyKeys("game");
+            assertThat(warmUp.getState()).isEqualTo(DataFixerWarmUp.State.FAILED);
+            assertThat(warmUp.getProgress().get("broken").state()).isEqualTo(DataFixerWarmUp.State.FAILED);
+            assertThat(warmUp.getProgress().get("broken").error()).isEqualTo("schema broken");
+        }
+
+        @Test
+        @DisplayName("publishes round progress and forwards it to the configured listener")
+        void publishesRoundProgress() {
+            List<Integer> forwarded = new ArrayList<>();
+            WarmUpOptions options = WarmUpOptions.builder()
+                    .listener(new WarmUpListener() {
+                        @Override
+                        public void onRoundCompleted(
+                                final int rounds,
+                                final long migrations,
+                                final long failures,
+                                @NotNull final Duration elapsed
+                        ) {
+                            forwarded.add(rounds);
+                        }
+                    })
+                    .build();
+            AetherDataFixer fixer = mock(AetherDataFixer.class);
+            registry.register("game", fixer);
+            DataFixerWarmUp warmUp = new DataFixerWarmUp(registry, options);
+            List<DataFixerWarmUp.DomainProgress> seen = new ArrayList<>();
+            when(fixer.warmUp(any())).thenAnswer(invocation -> {
+                WarmUpOptions domainOptions = invocation.getArgument(0);
+                domainOptions.listener().onRoundCompleted(5, 50L, 2L, Duration.ofMillis(10));
+                seen.add(warmUp.getProgress().get("game"));
+                return REPORT;
+            });
+
+            warmUp.warmUp();
+
+            assertThat(forwarded).containsExactly(5);
+            assertThat(seen).containsExactly(new DataFixerWarmUp.DomainProgress(
+                    DataFixerWarmUp.State.RUNNING, 5, 50L, 2L, Duration.ofMillis(10), null));
+        }
+    }
+
+    private static AetherDataFixer fixer(final WarmUpReport report) {
+        AetherDataFixer fixer = mock(AetherDataFixer.class);
+        when(fixer.currentVersion()).thenReturn(new DataVersion(1));
+        when(fixer.warmUp(any())).thenReturn(report);
+        return fixer;
+    }
+}